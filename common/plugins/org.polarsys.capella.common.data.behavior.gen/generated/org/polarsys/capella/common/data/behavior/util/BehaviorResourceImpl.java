@@ -30,7 +30,9 @@ import org.eclipse.emf.ecore.xmi.impl.URIHandlerImpl;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
 import org.eclipse.emf.ecore.xmi.impl.XMLParserPoolImpl;
 import org.polarsys.capella.common.data.core.gen.xmi.impl.CapellaXMLSaveImpl;
+import org.polarsys.capella.common.data.core.gen.xmi.impl.CompactIdMap;
 import org.polarsys.capella.common.data.modellingcore.ModelElement;
+import org.polarsys.capella.common.lib.CompactId;
 import org.polarsys.kitalpha.emde.xmi.XMIExtensionHelperImpl;
 import org.polarsys.kitalpha.emde.xmi.XMIExtensionLoadImpl;
 
@@ -83,7 +85,11 @@ public class BehaviorResourceImpl extends XMIResourceImpl {
 	  protected void attachedHelper(EObject eObject) {
 	    // Make sure specified object has its id generated.
 	    if (eObject instanceof ModelElement) {
-	      setID(eObject, ((ModelElement) eObject).getId());
+	      if (getIDToEObjectMap() instanceof CompactIdMap) {
+	        ((CompactIdMap) idToEObjectMap).index((ModelElement) eObject);
+	      } else {
+	        setID(eObject, ((ModelElement) eObject).getId());
+	      }
 	    } else if (null != eObject && null != eObject.eClass()) {
 	      EAttribute attribute = eObject.eClass().getEIDAttribute();
 	      if (attribute != null) {
@@ -135,6 +141,9 @@ public class BehaviorResourceImpl extends XMIResourceImpl {
 	@Override
 	protected void init() {
 		super.init();
+		if (CompactId.isEnabled()) {
+			idToEObjectMap = new CompactIdMap();
+		}
 
 		setTrackingModification(true);
 		// Save Options
@@ -196,7 +205,7 @@ public class BehaviorResourceImpl extends XMIResourceImpl {
 	@Override
 	protected void doUnload() {
 		super.doUnload();
-		this.idToEObjectMap = null;
+		this.idToEObjectMap = CompactId.isEnabled() ? new CompactIdMap() : null;
 	}
 
 	/**
@@ -210,6 +219,68 @@ public class BehaviorResourceImpl extends XMIResourceImpl {
 	protected Notification setLoaded(boolean isLoaded) {
 		return super.setLoaded(isLoaded);
 	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * Model elements are indexed by the compact form of their id when {@link CompactId#isEnabled() enabled}.
+	 * <!-- end-user-doc -->
+	 * 
+	 * @see org.eclipse.emf.ecore.xmi.impl.XMLResourceImpl#getIDToEObjectMap()
+	 * @generated
+	 */
+	@Override
+	public Map<String, EObject> getIDToEObjectMap() {
+		if (idToEObjectMap == null && CompactId.isEnabled()) {
+			idToEObjectMap = new CompactIdMap();
+		}
+		return super.getIDToEObjectMap();
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * 
+	 * @see org.eclipse.emf.ecore.xmi.impl.XMLResourceImpl#setID(org.eclipse.emf.ecore.EObject, java.lang.String)
+	 * @generated
+	 */
+	@Override
+	public void setID(EObject eObject, String id) {
+		if (eObject instanceof ModelElement && getIDToEObjectMap() instanceof CompactIdMap) {
+			((CompactIdMap) idToEObjectMap).setID((ModelElement) eObject, id);
+		} else {
+			super.setID(eObject, id);
+		}
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * 
+	 * @see org.eclipse.emf.ecore.xmi.impl.XMLResourceImpl#getID(org.eclipse.emf.ecore.EObject)
+	 * @generated
+	 */
+	@Override
+	public String getID(EObject eObject) {
+		if (eObject instanceof ModelElement && idToEObjectMap instanceof CompactIdMap) {
+			return ((CompactIdMap) idToEObjectMap).getID((ModelElement) eObject);
+		}
+		return super.getID(eObject);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * 
+	 * @see org.eclipse.emf.ecore.xmi.impl.XMLResourceImpl#detachedHelper(org.eclipse.emf.ecore.EObject)
+	 * @generated
+	 */
+	@Override
+	protected void detachedHelper(EObject eObject) {
+		if (eObject instanceof ModelElement && idToEObjectMap instanceof CompactIdMap) {
+			((CompactIdMap) idToEObjectMap).setID((ModelElement) eObject, null);
+		}
+		super.detachedHelper(eObject);
+	}
 	//end-capella-code
 	
 } //BehaviorResourceImpl
\ No newline at end of file
@@ -14,15 +14,10 @@ package org.polarsys.capella.common.data.modellingcore.impl;
 
 import java.util.Collection;
 
-import org.eclipse.core.runtime.IAdaptable;
-import org.eclipse.core.runtime.IAdapterManager;
-import org.eclipse.core.runtime.Platform;
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 import org.eclipse.emf.common.util.EList;
-import org.eclipse.emf.ecore.EAnnotation;
 import org.eclipse.emf.ecore.EClass;
-import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
 import org.eclipse.emf.ecore.util.EObjectContainmentEList;
@@ -31,7 +26,8 @@ import org.eclipse.emf.ecore.util.InternalEList;
 import org.polarsys.capella.common.data.modellingcore.AbstractConstraint;
 import org.polarsys.capella.common.data.modellingcore.ModelElement;
 import org.polarsys.capella.common.data.modellingcore.ModellingcorePackage;
-import org.polarsys.capella.common.model.helpers.IHelper;
+import org.polarsys.capella.common.lib.CompactId;
+import org.polarsys.capella.common.model.helpers.DerivedFeatureDispatcher;
 import org.polarsys.kitalpha.emde.model.impl.ExtensibleElementImpl;
 
 /**
@@ -69,6 +65,14 @@ public abstract class ModelElementImpl extends ExtensibleElementImpl implements
 	 */
 	protected String id = ID_EDEFAULT;
 
+	/**
+	 * The compact form of the '{@link #getId() <em>Id</em>}' attribute, used instead of {@link #id} when
+	 * {@link CompactId#isEnabled() enabled}.
+	 * <!-- begin-user-doc --> <!-- end-user-doc -->
+	 * @generated NOT
+	 */
+	private CompactId compactId;
+
 
 
 
@@ -149,25 +153,42 @@ public abstract class ModelElementImpl extends ExtensibleElementImpl implements
 
   /**
 	 * <!-- begin-user-doc --> <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
   public String getId() {
 
+		if (compactId != null) {
+			return compactId.toString();
+		}
 		return id;
 	}
 
+	/**
+	 * <!-- begin-user-doc -->
+	 * @return the compact form of the id, null if the id is not stored in compact form
+	 * <!-- end-user-doc -->
+	 * @generated NOT
+	 */
+	public CompactId getCompactId() {
+		return compactId;
+	}
+
 	/**
 	 * <!-- begin-user-doc --> <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 
 	@Override
 	public void setId(String newId) {
 
-		String oldId = id;
-		id = newId;
+		String oldId = null;
+		if (eNotificationRequired()) {
+			oldId = getId();
+		}
+		compactId = CompactId.isEnabled() ? CompactId.parse(newId) : null;
+		id = compactId == null ? newId : null;
 		if (eNotificationRequired())
-			eNotify(new ENotificationImpl(this, Notification.SET, ModellingcorePackage.MODEL_ELEMENT__ID, oldId, id));
+			eNotify(new ENotificationImpl(this, Notification.SET, ModellingcorePackage.MODEL_ELEMENT__ID, oldId, newId));
 
 	}
 
@@ -217,28 +238,8 @@ public abstract class ModelElementImpl extends ExtensibleElementImpl implements
 	public EList<AbstractConstraint> getConstraints() {
 
 
-    Object result = null;
-    // Helper that can get value for current feature.
-    IHelper helper = null;
-    // If current object is adaptable, ask it to get its IHelper.
-    if (this instanceof IAdaptable) {
-    	helper = (IHelper) ((IAdaptable) this).getAdapter(IHelper.class);
-    }
-    if (null == helper) {
-      // No helper found yet.
-      // Ask the platform to get the adapter 'IHelper.class' for current object.
-      IAdapterManager adapterManager = Platform.getAdapterManager();
-      helper = (IHelper) adapterManager.getAdapter(this, IHelper.class);
-    }
-    if (null == helper) {
-      EPackage package_l = eClass().getEPackage();
-      // Get the root package of the owner package.
-      EPackage rootPackage = org.polarsys.capella.common.mdsofa.common.helper.EcoreHelper.getRootPackage(package_l);
-      throw new org.polarsys.capella.common.model.helpers.HelperNotFoundException("No helper retrieved for nsURI " + rootPackage.getNsURI());  //$NON-NLS-1$
-    } 
-    // A helper is found, let's use it. 
-    EAnnotation annotation = ModellingcorePackage.Literals.MODEL_ELEMENT__CONSTRAINTS.getEAnnotation(org.polarsys.capella.common.model.helpers.IModelConstants.HELPER_ANNOTATION_SOURCE);
-    result = helper.getValue(this, ModellingcorePackage.Literals.MODEL_ELEMENT__CONSTRAINTS, annotation);
+    // Dispatch to the helper computing the derived property.
+    Object result = DerivedFeatureDispatcher.getValue(this, ModellingcorePackage.Literals.MODEL_ELEMENT__CONSTRAINTS);
 		
 		try {
 		@SuppressWarnings("unchecked")
@@ -428,13 +429,13 @@ public abstract class ModelElementImpl extends ExtensibleElementImpl implements
 
 	/**
 	 * <!-- begin-user-doc --> <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	@Override
 	public boolean eIsSet(int featureID) {
 		switch (featureID) {
 			case ModellingcorePackage.MODEL_ELEMENT__ID:
-				return ID_EDEFAULT == null ? id != null : !ID_EDEFAULT.equals(id);
+				return ID_EDEFAULT == null ? getId() != null : !ID_EDEFAULT.equals(getId());
 			case ModellingcorePackage.MODEL_ELEMENT__SID:
 				return SID_EDEFAULT == null ? sid != null : !SID_EDEFAULT.equals(sid);
 			case ModellingcorePackage.MODEL_ELEMENT__CONSTRAINTS:
@@ -450,7 +451,7 @@ public abstract class ModelElementImpl extends ExtensibleElementImpl implements
 
 	/**
 	 * <!-- begin-user-doc --> <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	@Override
 	public String toString() {
@@ -458,7 +459,7 @@ public abstract class ModelElementImpl extends ExtensibleElementImpl implements
 
 		StringBuilder result = new StringBuilder(super.toString());
 		result.append(" (id: "); //$NON-NLS-1$
-		result.append(id);
+		result.append(getId());
 		result.append(", sid: "); //$NON-NLS-1$
 		result.append(sid);
 		result.append(')');
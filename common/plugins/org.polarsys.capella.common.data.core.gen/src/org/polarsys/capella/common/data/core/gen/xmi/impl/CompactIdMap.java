@@ -0,0 +1,314 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.common.data.core.gen.xmi.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EObject;
+import org.polarsys.capella.common.data.modellingcore.ModelElement;
+import org.polarsys.capella.common.data.modellingcore.impl.ModelElementImpl;
+import org.polarsys.capella.common.lib.CompactId;
+
+/**
+ * The ID to object map of a Capella resource when {@link CompactId compact IDs} are enabled.<br>
+ * IDs in UUID form are stored as two longs in an open addressing table, other IDs are stored in a regular map.
+ * Model elements are indexed by their own ID, so that the resource doesn't need an object to ID map for them, and
+ * their ID doesn't need to be materialized as a string to be indexed.
+ * <p>
+ * The entry set is read only, and materializes the IDs.
+ * </p>
+ */
+public class CompactIdMap extends AbstractMap<String, EObject> {
+
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private long[] mostSignificantBits;
+
+  private long[] leastSignificantBits;
+
+  /**
+   * Values of the table, <code>null</code> for free slots.
+   */
+  private EObject[] values;
+
+  private int compactSize;
+
+  /**
+   * Entries whose ID is not in UUID form.
+   */
+  private final Map<String, EObject> others = new HashMap<>();
+
+  public CompactIdMap() {
+    allocate(INITIAL_CAPACITY);
+  }
+
+  private void allocate(int capacity) {
+    mostSignificantBits = new long[capacity];
+    leastSignificantBits = new long[capacity];
+    values = new EObject[capacity];
+  }
+
+  private int slot(long msb, long lsb) {
+    long hash = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & (values.length - 1);
+  }
+
+  private int find(long msb, long lsb) {
+    int mask = values.length - 1;
+    for (int i = slot(msb, lsb);; i = (i + 1) & mask) {
+      if (values[i] == null || (mostSignificantBits[i] == msb && leastSignificantBits[i] == lsb)) {
+        return i;
+      }
+    }
+  }
+
+  private EObject getCompact(long msb, long lsb) {
+    return values[find(msb, lsb)];
+  }
+
+  private EObject putCompact(long msb, long lsb, EObject value) {
+    int i = find(msb, lsb);
+    EObject previous = values[i];
+    if (previous == null) {
+      mostSignificantBits[i] = msb;
+      leastSignificantBits[i] = lsb;
+      compactSize++;
+    }
+    values[i] = value;
+    if (previous == null && compactSize * 3 > values.length * 2) {
+      rehash(values.length * 2);
+    }
+    return previous;
+  }
+
+  private EObject removeCompact(long msb, long lsb) {
+    int i = find(msb, lsb);
+    EObject previous = values[i];
+    if (previous != null) {
+      removeAt(i);
+    }
+    return previous;
+  }
+
+  /**
+   * Free the given slot, and move back the following entries of the same probe sequence.
+   */
+  private void removeAt(int slot) {
+    int mask = values.length - 1;
+    int free = slot;
+    values[free] = null;
+    compactSize--;
+    for (int i = (free + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+      int home = slot(mostSignificantBits[i], leastSignificantBits[i]);
+      boolean reachable = (i > free) ? (home <= free || home > i) : (home <= free && home > i);
+      if (reachable) {
+        mostSignificantBits[free] = mostSignificantBits[i];
+        leastSignificantBits[free] = leastSignificantBits[i];
+        values[free] = values[i];
+        values[i] = null;
+        free = i;
+      }
+    }
+  }
+
+  private void rehash(int capacity) {
+    long[] oldMsbs = mostSignificantBits;
+    long[] oldLsbs = leastSignificantBits;
+    EObject[] oldValues = values;
+    allocate(capacity);
+    for (int i = 0; i < oldValues.length; i++) {
+      if (oldValues[i] != null) {
+        int j = find(oldMsbs[i], oldLsbs[i]);
+        mostSignificantBits[j] = oldMsbs[i];
+        leastSignificantBits[j] = oldLsbs[i];
+        values[j] = oldValues[i];
+      }
+    }
+  }
+
+  @Override
+  public EObject get(Object key) {
+    if (!(key instanceof String)) {
+      return null;
+    }
+    CompactId id = CompactId.parse((String) key);
+    if (id != null) {
+      return getCompact(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+    return others.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public EObject put(String key, EObject value) {
+    if (value == null) {
+      return remove(key);
+    }
+    CompactId id = CompactId.parse(key);
+    if (id != null) {
+      return putCompact(id.getMostSignificantBits(), id.getLeastSignificantBits(), value);
+    }
+    return others.put(key, value);
+  }
+
+  @Override
+  public EObject remove(Object key) {
+    if (!(key instanceof String)) {
+      return null;
+    }
+    CompactId id = CompactId.parse((String) key);
+    if (id != null) {
+      return removeCompact(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+    return others.remove(key);
+  }
+
+  @Override
+  public int size() {
+    return compactSize + others.size();
+  }
+
+  @Override
+  public void clear() {
+    allocate(INITIAL_CAPACITY);
+    compactSize = 0;
+    others.clear();
+  }
+
+  /**
+   * Index the given element by its ID, without materializing the ID when it is stored in compact form.
+   */
+  public void index(ModelElement element) {
+    CompactId id = getCompactId(element);
+    if (id != null) {
+      putCompact(id.getMostSignificantBits(), id.getLeastSignificantBits(), element);
+    } else {
+      String stringId = element.getId();
+      if (stringId != null) {
+        put(stringId, element);
+      }
+    }
+  }
+
+  /**
+   * Index the given element by the given ID, or remove it from the index if the ID is <code>null</code>.
+   * @see org.eclipse.emf.ecore.xmi.XMLResource#setID(EObject, String)
+   */
+  public void setID(ModelElement element, String id) {
+    if (id == null) {
+      unindex(element);
+    } else {
+      put(id, element);
+    }
+  }
+
+  /**
+   * @return the ID of the given element if the element is indexed by it, <code>null</code> otherwise
+   * @see org.eclipse.emf.ecore.xmi.XMLResource#getID(EObject)
+   */
+  public String getID(ModelElement element) {
+    CompactId id = getCompactId(element);
+    if (id != null) {
+      return getCompact(id.getMostSignificantBits(), id.getLeastSignificantBits()) == element ? id.toString() : null;
+    }
+    String stringId = element.getId();
+    return stringId != null && get(stringId) == element ? stringId : null;
+  }
+
+  /**
+   * Remove the given element from the index.<br>
+   * The element is looked for by its current ID: an element whose ID changed since it was indexed stays indexed by its
+   * former ID, until it is indexed again or the map is cleared.
+   */
+  protected void unindex(ModelElement element) {
+    CompactId id = getCompactId(element);
+    if (id != null) {
+      if (getCompact(id.getMostSignificantBits(), id.getLeastSignificantBits()) == element) {
+        removeCompact(id.getMostSignificantBits(), id.getLeastSignificantBits());
+      }
+    } else {
+      String stringId = element.getId();
+      if (stringId != null && get(stringId) == element) {
+        remove(stringId);
+      }
+    }
+  }
+
+  private CompactId getCompactId(ModelElement element) {
+    if (element instanceof ModelElementImpl) {
+      return ((ModelElementImpl) element).getCompactId();
+    }
+    return null;
+  }
+
+  @Override
+  public Set<Entry<String, EObject>> entrySet() {
+    return new AbstractSet<Entry<String, EObject>>() {
+
+      @Override
+      public Iterator<Entry<String, EObject>> iterator() {
+        return new EntryIterator();
+      }
+
+      @Override
+      public int size() {
+        return CompactIdMap.this.size();
+      }
+    };
+  }
+
+  private class EntryIterator implements Iterator<Entry<String, EObject>> {
+
+    private int next = advance(0);
+
+    private final Iterator<Entry<String, EObject>> othersIterator = others.entrySet().iterator();
+
+    private int advance(int from) {
+      int i = from;
+      while (i < values.length && values[i] == null) {
+        i++;
+      }
+      return i;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next < values.length || othersIterator.hasNext();
+    }
+
+    @Override
+    public Entry<String, EObject> next() {
+      if (next < values.length) {
+        int i = next;
+        next = advance(i + 1);
+        String key = new CompactId(mostSignificantBits[i], leastSignificantBits[i]).toString();
+        return new SimpleImmutableEntry<>(key, values[i]);
+      }
+      if (othersIterator.hasNext()) {
+        Entry<String, EObject> entry = othersIterator.next();
+        return new SimpleImmutableEntry<>(entry);
+      }
+      throw new NoSuchElementException();
+    }
+  }
+}
@@ -14,6 +14,7 @@
 package org.polarsys.capella.common.data.helpers.activity;
 
 import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.activity.AbstractActivity;
@@ -27,6 +28,7 @@ import org.polarsys.capella.common.data.helpers.activity.delegates.ActivityExcha
 import org.polarsys.capella.common.data.helpers.activity.delegates.ActivityNodeHelper;
 import org.polarsys.capella.common.data.helpers.activity.delegates.ActivityPartitionHelper;
 import org.polarsys.capella.common.model.helpers.HelperNotFoundException;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.common.model.helpers.IHelper;
 
 public class ActivityHelper implements IHelper {
@@ -58,4 +60,22 @@ public class ActivityHelper implements IHelper {
 		throw new HelperNotFoundException();
 	}
 
+	@Override
+	public IDerivedFeatureComputer getComputer(EClass eClass, EStructuralFeature feature) {
+		// Same dispatch as getValue, on the instance class
+		Class<?> instanceClass = eClass.getInstanceClass();
+		IDerivedFeatureComputer computer = null;
+		if (AbstractActivity.class.isAssignableFrom(instanceClass)) {
+			computer = AbstractActivityHelper.getInstance().getComputer(feature);
+		} else if (ActivityEdge.class.isAssignableFrom(instanceClass)) {
+			computer = ActivityEdgeHelper.getInstance().getComputer(feature);
+		} else if (ActivityNode.class.isAssignableFrom(instanceClass)) {
+			computer = ActivityNodeHelper.getInstance().getComputer(feature);
+		} else if (ActivityPartition.class.isAssignableFrom(instanceClass)) {
+			computer = ActivityPartitionHelper.getInstance().getComputer(feature);
+		} else if (ActivityExchange.class.isAssignableFrom(instanceClass)) {
+			computer = ActivityExchangeHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
 }
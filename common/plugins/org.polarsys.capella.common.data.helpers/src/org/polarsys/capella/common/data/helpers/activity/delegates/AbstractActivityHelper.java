@@ -14,7 +14,9 @@
 package org.polarsys.capella.common.data.helpers.activity.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
@@ -23,13 +25,20 @@ import org.polarsys.capella.common.data.activity.ActivityGroup;
 import org.polarsys.capella.common.data.activity.ActivityPackage;
 import org.polarsys.capella.common.data.activity.StructuredActivityNode;
 import org.polarsys.capella.common.data.helpers.modellingcore.delegates.TraceableElementHelper;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 
 public class AbstractActivityHelper {
 	
 	private static AbstractActivityHelper instance;
+
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
 	
 	private AbstractActivityHelper() {
-	  // do nothing
+		computers.put(ActivityPackage.Literals.ABSTRACT_ACTIVITY__OWNED_STRUCTURED_NODES,
+				element -> getOwnedStructuredNodes((AbstractActivity) element));
 	}
 	
 	public static AbstractActivityHelper getInstance(){
@@ -41,8 +50,9 @@ public class AbstractActivityHelper {
 	public Object doSwitch(AbstractActivity element, EStructuralFeature feature){
 		Object ret = null;
 		
-		if (feature.equals(ActivityPackage.Literals.ABSTRACT_ACTIVITY__OWNED_STRUCTURED_NODES)) {
-			ret = getOwnedStructuredNodes(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
     // no helper found... searching in super classes...
@@ -52,6 +62,18 @@ public class AbstractActivityHelper {
 
 		return ret;
 	}
+
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = TraceableElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
 	
 	protected List<StructuredActivityNode> getOwnedStructuredNodes (AbstractActivity element) {
 		List <ActivityGroup> groups = element.getOwnedGroups();
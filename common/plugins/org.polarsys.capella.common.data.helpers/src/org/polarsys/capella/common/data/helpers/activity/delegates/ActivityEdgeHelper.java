@@ -13,6 +13,9 @@
 
 package org.polarsys.capella.common.data.helpers.activity.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
@@ -21,12 +24,23 @@ import org.polarsys.capella.common.data.activity.ActivityPackage;
 import org.polarsys.capella.common.data.activity.ActivityPartition;
 import org.polarsys.capella.common.data.activity.InterruptibleActivityRegion;
 import org.polarsys.capella.common.data.activity.StructuredActivityNode;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 
 public class ActivityEdgeHelper {
   private static ActivityEdgeHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private ActivityEdgeHelper() {
-    // do nothing
+    computers.put(ActivityPackage.Literals.ACTIVITY_EDGE__IN_ACTIVITY_PARTITION,
+        element -> getInActivityPartition((ActivityEdge) element));
+    computers.put(ActivityPackage.Literals.ACTIVITY_EDGE__IN_INTERRUPTIBLE_REGION,
+        element -> getInInterruptibleRegion((ActivityEdge) element));
+    computers.put(ActivityPackage.Literals.ACTIVITY_EDGE__IN_STRUCTURED_NODE,
+        element -> getInStructuredNode((ActivityEdge) element));
   }
 
   public static ActivityEdgeHelper getInstance() {
@@ -38,17 +52,22 @@ public class ActivityEdgeHelper {
   public Object doSwitch(ActivityEdge element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(ActivityPackage.Literals.ACTIVITY_EDGE__IN_ACTIVITY_PARTITION)) {
-      ret = getInActivityPartition(element);
-    } else if (feature.equals(ActivityPackage.Literals.ACTIVITY_EDGE__IN_INTERRUPTIBLE_REGION)) {
-      ret = getInInterruptibleRegion(element);
-    } else if (feature.equals(ActivityPackage.Literals.ACTIVITY_EDGE__IN_STRUCTURED_NODE)) {
-      ret = getInStructuredNode(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    return computers.get(feature);
+  }
+
   protected ActivityPartition getInActivityPartition(ActivityEdge element) {
     EObject group = element.eContainer();
     if (group instanceof ActivityPartition) {
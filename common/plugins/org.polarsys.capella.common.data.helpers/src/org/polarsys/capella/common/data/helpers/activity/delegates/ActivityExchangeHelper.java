@@ -14,7 +14,9 @@
 package org.polarsys.capella.common.data.helpers.activity.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
@@ -22,12 +24,19 @@ import org.polarsys.capella.common.data.activity.ActivityEdge;
 import org.polarsys.capella.common.data.activity.ActivityExchange;
 import org.polarsys.capella.common.data.activity.ActivityPackage;
 import org.polarsys.capella.common.data.modellingcore.AbstractRelationship;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 
 public class ActivityExchangeHelper {
   private static ActivityExchangeHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private ActivityExchangeHelper() {
-    // do nothing
+    computers.put(ActivityPackage.Literals.ACTIVITY_EXCHANGE__REALIZING_ACTIVITY_FLOWS,
+        element -> getRealizingActivityFlows((ActivityExchange) element));
   }
 
   public static ActivityExchangeHelper getInstance() {
@@ -39,13 +48,22 @@ public class ActivityExchangeHelper {
   public Object doSwitch(ActivityExchange element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(ActivityPackage.Literals.ACTIVITY_EXCHANGE__REALIZING_ACTIVITY_FLOWS)) {
-      ret = getRealizingActivityFlows(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    return computers.get(feature);
+  }
+
   protected List<ActivityEdge> getRealizingActivityFlows(ActivityExchange element) {
     List<ActivityEdge> ret = new ArrayList<>();
 
@@ -12,7 +12,9 @@
  *******************************************************************************/
 package org.polarsys.capella.common.data.helpers.activity.delegates;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
@@ -23,11 +25,25 @@ import org.polarsys.capella.common.data.activity.ActivityPartition;
 import org.polarsys.capella.common.data.activity.InterruptibleActivityRegion;
 import org.polarsys.capella.common.data.activity.StructuredActivityNode;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 
 public class ActivityNodeHelper {
   private static ActivityNodeHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private ActivityNodeHelper() {
+    computers.put(ActivityPackage.Literals.ACTIVITY_NODE__IN_ACTIVITY_PARTITION,
+        element -> getInActivityPartition((ActivityNode) element));
+    computers.put(ActivityPackage.Literals.ACTIVITY_NODE__IN_INTERRUPTIBLE_REGION,
+        element -> getInInterruptibleRegion((ActivityNode) element));
+    computers.put(ActivityPackage.Literals.ACTIVITY_NODE__IN_STRUCTURED_NODE,
+        element -> getInStructuredNode((ActivityNode) element));
+    computers.put(ActivityPackage.Literals.ACTIVITY_NODE__INCOMING, element -> getIncoming((ActivityNode) element));
+    computers.put(ActivityPackage.Literals.ACTIVITY_NODE__OUTGOING, element -> getOutgoing((ActivityNode) element));
   }
 
   public static ActivityNodeHelper getInstance() {
@@ -40,21 +56,22 @@ public class ActivityNodeHelper {
   public Object doSwitch(ActivityNode element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(ActivityPackage.Literals.ACTIVITY_NODE__IN_ACTIVITY_PARTITION)) {
-      ret = getInActivityPartition(element);
-    } else if (feature.equals(ActivityPackage.Literals.ACTIVITY_NODE__IN_INTERRUPTIBLE_REGION)) {
-      ret = getInInterruptibleRegion(element);
-    } else if (feature.equals(ActivityPackage.Literals.ACTIVITY_NODE__IN_STRUCTURED_NODE)) {
-      ret = getInStructuredNode(element);
-    } else if (feature.equals(ActivityPackage.Literals.ACTIVITY_NODE__INCOMING)) {
-      ret = getIncoming(element);
-    } else if (feature.equals(ActivityPackage.Literals.ACTIVITY_NODE__OUTGOING)) {
-      ret = getOutgoing(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    return computers.get(feature);
+  }
+
   protected ActivityPartition getInActivityPartition(ActivityNode element) {
     EObject group = element.eContainer();
     if (group instanceof ActivityPartition) {
@@ -14,18 +14,33 @@
 package org.polarsys.capella.common.data.helpers.activity.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
 import org.polarsys.capella.common.data.activity.ActivityGroup;
 import org.polarsys.capella.common.data.activity.ActivityPackage;
 import org.polarsys.capella.common.data.activity.ActivityPartition;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 
 public class ActivityPartitionHelper {
 
   private static ActivityPartitionHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
+  private ActivityPartitionHelper() {
+		computers.put(ActivityPackage.Literals.ACTIVITY_PARTITION__SUPER_PARTITION,
+				element -> getSuperPartition((ActivityPartition) element));
+		computers.put(ActivityPackage.Literals.ACTIVITY_PARTITION__SUB_PARTITIONS,
+				element -> getSubPartitions((ActivityPartition) element));
+  }
+
 	public static ActivityPartitionHelper getInstance(){
 		if (instance == null)
 			instance = new ActivityPartitionHelper();
@@ -35,15 +50,21 @@ public class ActivityPartitionHelper {
 	public Object doSwitch(ActivityPartition element, EStructuralFeature feature){
 		Object ret = null;
 		
-		if (feature.equals(ActivityPackage.Literals.ACTIVITY_PARTITION__SUPER_PARTITION)) {
-			ret = getSuperPartition(element);
-		}
-		else if (feature.equals(ActivityPackage.Literals.ACTIVITY_PARTITION__SUB_PARTITIONS)) {
-			ret = getSubPartitions(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 		
 		return ret;
 	}
+
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		return computers.get(feature);
+	}
 	
 	public ActivityPartition getSuperPartition (ActivityPartition element) {
 		ActivityGroup group = element.getSuperGroup();
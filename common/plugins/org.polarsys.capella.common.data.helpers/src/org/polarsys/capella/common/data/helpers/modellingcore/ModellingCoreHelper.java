@@ -14,6 +14,7 @@
 package org.polarsys.capella.common.data.helpers.modellingcore;
 
 import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.helpers.modellingcore.delegates.AbstractTypeHelper;
@@ -29,6 +30,7 @@ import org.polarsys.capella.common.data.modellingcore.ModelElement;
 import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 import org.polarsys.capella.common.data.modellingcore.ValueSpecification;
 import org.polarsys.capella.common.model.helpers.HelperNotFoundException;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.common.model.helpers.IHelper;
 
 public class ModellingCoreHelper implements IHelper {
@@ -61,4 +63,25 @@ public class ModellingCoreHelper implements IHelper {
 		
 		throw new HelperNotFoundException();
 	}
+
+  @Override
+  public IDerivedFeatureComputer getComputer(EClass eClass, EStructuralFeature feature) {
+    // Same dispatch as getValue, on the instance class
+    Class<?> instanceClass = eClass.getInstanceClass();
+    IDerivedFeatureComputer computer = null;
+    if (ValueSpecification.class.isAssignableFrom(instanceClass)) {
+      computer = ValueSpecificationHelper.getInstance().getComputer(feature);
+    } else if (AbstractTypedElement.class.isAssignableFrom(instanceClass)) {
+      computer = AbstractTypedElementHelper.getInstance().getComputer(feature);
+    } else if (TraceableElement.class.isAssignableFrom(instanceClass)) {
+      computer = TraceableElementHelper.getInstance().getComputer(feature);
+    } else if (InformationsExchanger.class.isAssignableFrom(instanceClass)) {
+      computer = InformationsExchangerHelper.getInstance().getComputer(feature);
+    } else if (AbstractType.class.isAssignableFrom(instanceClass)) {
+      computer = AbstractTypeHelper.getInstance().getComputer(feature);
+    } else if (ModelElement.class.isAssignableFrom(instanceClass)) {
+      computer = ModelElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
 }
@@ -13,13 +13,27 @@
 
 package org.polarsys.capella.common.data.helpers.modellingcore.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.AbstractConstraint;
 import org.polarsys.capella.common.data.modellingcore.ModellingcorePackage;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 public class AbstractConstraintHelper {
   private static AbstractConstraintHelper instance;
+
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
+  private AbstractConstraintHelper() {
+    computers.put(ModellingcorePackage.Literals.ABSTRACT_CONSTRAINT__CONTEXT,
+        element -> getContext((AbstractConstraint) element));
+  }
   
   public static AbstractConstraintHelper getInstance() {
     if (instance == null)
@@ -30,14 +44,27 @@ public class AbstractConstraintHelper {
   public Object doSwitch(AbstractConstraint element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(ModellingcorePackage.Literals.ABSTRACT_CONSTRAINT__CONTEXT)) {
-      ret = getContext(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     } else {
       ret = ModelElementHelper.getInstance().doSwitch(element, feature);
     }
 
     return ret;
   }
+
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = ModelElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
   
   protected EObject getContext(AbstractConstraint element) {
     return element.eContainer();
@@ -12,18 +12,28 @@
  *******************************************************************************/
 package org.polarsys.capella.common.data.helpers.modellingcore.delegates;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.AbstractType;
 import org.polarsys.capella.common.data.modellingcore.AbstractTypedElement;
 import org.polarsys.capella.common.data.modellingcore.ModellingcorePackage;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 
 public class AbstractTypeHelper {
   private static AbstractTypeHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private AbstractTypeHelper() {
+    computers.put(ModellingcorePackage.Literals.ABSTRACT_TYPE__ABSTRACT_TYPED_ELEMENTS,
+        element -> getAbstractTypedElements((AbstractType) element));
   }
 
   public static AbstractTypeHelper getInstance() {
@@ -36,8 +46,9 @@ public class AbstractTypeHelper {
   public Object doSwitch(AbstractType element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(ModellingcorePackage.Literals.ABSTRACT_TYPE__ABSTRACT_TYPED_ELEMENTS)) {
-      ret = getAbstractTypedElements(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -48,6 +59,18 @@ public class AbstractTypeHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = ModelElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<AbstractTypedElement> getAbstractTypedElements(AbstractType element) {
     return EObjectExt.getReferencers(element, ModellingcorePackage.Literals.ABSTRACT_TYPED_ELEMENT__ABSTRACT_TYPE);
   }
@@ -16,6 +16,7 @@ package org.polarsys.capella.common.data.helpers.modellingcore.delegates;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.AbstractTypedElement;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 public class AbstractTypedElementHelper {
   private static AbstractTypedElementHelper instance;
   
@@ -30,4 +31,12 @@ public class AbstractTypedElementHelper {
     // no helper found... searching in super classes...
       return ModelElementHelper.getInstance().doSwitch(element, feature);
   }
+
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    return ModelElementHelper.getInstance().getComputer(feature);
+  }
 }
@@ -13,18 +13,32 @@
 package org.polarsys.capella.common.data.helpers.modellingcore.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.AbstractInformationFlow;
 import org.polarsys.capella.common.data.modellingcore.InformationsExchanger;
 import org.polarsys.capella.common.data.modellingcore.ModellingcorePackage;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 
 public class InformationsExchangerHelper {
   private static InformationsExchangerHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private InformationsExchangerHelper() {
+    computers.put(ModellingcorePackage.Literals.INFORMATIONS_EXCHANGER__INCOMING_INFORMATION_FLOWS,
+        element -> getIncomingInformationFlows((InformationsExchanger) element));
+    computers.put(ModellingcorePackage.Literals.INFORMATIONS_EXCHANGER__OUTGOING_INFORMATION_FLOWS,
+        element -> getOutgoingInformationFlows((InformationsExchanger) element));
+    computers.put(ModellingcorePackage.Literals.INFORMATIONS_EXCHANGER__INFORMATION_FLOWS,
+        element -> getInformationFlows((InformationsExchanger) element));
   }
 
   public static InformationsExchangerHelper getInstance() {
@@ -37,12 +51,9 @@ public class InformationsExchangerHelper {
   public Object doSwitch(InformationsExchanger element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(ModellingcorePackage.Literals.INFORMATIONS_EXCHANGER__INCOMING_INFORMATION_FLOWS)) {
-      ret = getIncomingInformationFlows(element);
-    } else if (feature.equals(ModellingcorePackage.Literals.INFORMATIONS_EXCHANGER__OUTGOING_INFORMATION_FLOWS)) {
-      ret = getOutgoingInformationFlows(element);
-    } else if (feature.equals(ModellingcorePackage.Literals.INFORMATIONS_EXCHANGER__INFORMATION_FLOWS)) {
-      ret = getInformationFlows(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -53,6 +64,18 @@ public class InformationsExchangerHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = ModelElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<AbstractInformationFlow> getIncomingInformationFlows(InformationsExchanger element) {
     return EObjectExt.getReferencers(element, ModellingcorePackage.Literals.ABSTRACT_INFORMATION_FLOW__TARGET);
   }
@@ -12,18 +12,28 @@
  *******************************************************************************/
 package org.polarsys.capella.common.data.helpers.modellingcore.delegates;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.AbstractConstraint;
 import org.polarsys.capella.common.data.modellingcore.ModelElement;
 import org.polarsys.capella.common.data.modellingcore.ModellingcorePackage;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 
 public class ModelElementHelper {
   private static ModelElementHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private ModelElementHelper() {
+    computers.put(ModellingcorePackage.Literals.MODEL_ELEMENT__CONSTRAINTS,
+        element -> getConstraints((ModelElement) element));
   }
 
   public static ModelElementHelper getInstance() {
@@ -36,13 +46,22 @@ public class ModelElementHelper {
   public Object doSwitch(ModelElement element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(ModellingcorePackage.Literals.MODEL_ELEMENT__CONSTRAINTS)) {
-      ret = getConstraints(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    return computers.get(feature);
+  }
+
   protected List<AbstractConstraint> getConstraints(ModelElement element) {
     return EObjectExt.getReferencers(element, ModellingcorePackage.Literals.ABSTRACT_CONSTRAINT__CONSTRAINED_ELEMENTS);
   }
@@ -12,18 +12,30 @@
  *******************************************************************************/
 package org.polarsys.capella.common.data.helpers.modellingcore.delegates;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 import org.polarsys.capella.common.data.modellingcore.ModellingcorePackage;
 import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 
 public class TraceableElementHelper {
   private static TraceableElementHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private TraceableElementHelper() {
+    computers.put(ModellingcorePackage.Literals.TRACEABLE_ELEMENT__INCOMING_TRACES,
+        element -> getIncomingTraces((TraceableElement) element));
+    computers.put(ModellingcorePackage.Literals.TRACEABLE_ELEMENT__OUTGOING_TRACES,
+        element -> getOutgoingTraces((TraceableElement) element));
   }
 
   public static TraceableElementHelper getInstance() {
@@ -36,10 +48,9 @@ public class TraceableElementHelper {
   public Object doSwitch(TraceableElement element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(ModellingcorePackage.Literals.TRACEABLE_ELEMENT__INCOMING_TRACES)) {
-      ret = getIncomingTraces(element);
-    } else if (feature.equals(ModellingcorePackage.Literals.TRACEABLE_ELEMENT__OUTGOING_TRACES)) {
-      ret = getOutgoingTraces(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -50,6 +61,18 @@ public class TraceableElementHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = ModelElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<AbstractTrace> getIncomingTraces(TraceableElement element) {
     return EObjectExt.getReferencers(element, ModellingcorePackage.Literals.ABSTRACT_TRACE__TARGET_ELEMENT);
   }
@@ -16,6 +16,7 @@ package org.polarsys.capella.common.data.helpers.modellingcore.delegates;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.ValueSpecification;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 public class ValueSpecificationHelper {
 	
   private static ValueSpecificationHelper instance;
@@ -31,4 +32,12 @@ public class ValueSpecificationHelper {
 	  // no helper found... searching in super classes...
       return AbstractTypedElementHelper.getInstance().doSwitch(element, feature);
   }
+
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    return AbstractTypedElementHelper.getInstance().getComputer(feature);
+  }
 }
@@ -14,21 +14,17 @@ package org.polarsys.capella.common.helpers;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
-import org.eclipse.emf.ecore.EStructuralFeature.Setting;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
 import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.emf.edit.provider.IItemLabelProvider;
-import org.eclipse.emf.transaction.TransactionalEditingDomain;
-import org.eclipse.sirius.common.tools.api.util.SiriusCrossReferenceAdapter;
 import org.polarsys.capella.common.helpers.query.MDEQueries;
 import org.polarsys.capella.common.mdsofa.common.constant.ICommonConstants;
 import org.polarsys.capella.common.platform.sirius.ted.SemanticEditingDomainFactory.SemanticEditingDomain;
@@ -61,13 +57,7 @@ public class EObjectExt extends EcoreUtil2 {
    * @return
    */
   public static List<EObject> getReferencers(EObject eObjectRef, EClass metaClass, EReference eRef) {
-    List<EObject> returnedList = new ArrayList<EObject>();
-    for (EObject anObject : getReferencers(eObjectRef, eRef)) {
-      if (anObject.eClass().equals(metaClass) || anObject.eClass().getEAllSuperTypes().contains(metaClass)) {
-        returnedList.add(anObject);
-      }
-    }
-    return returnedList;
+    return new ReferencerQuery(metaClass, eRef).getReferencers(eObjectRef);
   }
 
   /**
@@ -78,12 +68,7 @@ public class EObjectExt extends EcoreUtil2 {
    * @return The list of referencing elements
    */
   public static List<EObject> getReferencers(EObject eObjectRef) {
-    TransactionalEditingDomain domain = TransactionHelper.getEditingDomain(eObjectRef);
-    if (domain instanceof SemanticEditingDomain) {
-      SemanticEditingDomain editingDomain = (SemanticEditingDomain) domain;
-      return getReferencers(eObjectRef, null, editingDomain);
-    }
-    return Collections.emptyList();
+    return new ReferencerQuery(null).getReferencers(eObjectRef);
   }
 
   /**
@@ -96,12 +81,21 @@ public class EObjectExt extends EcoreUtil2 {
    * @return The list of referencing elements
    */
   public static <T extends EObject> List<T> getReferencers(EObject eObjectRef, EReference eRef) {
-    TransactionalEditingDomain domain = TransactionHelper.getEditingDomain(eObjectRef);
-    if (domain instanceof SemanticEditingDomain) {
-      SemanticEditingDomain editingDomain = (SemanticEditingDomain) domain;
-      return (List) getReferencers(eObjectRef, eRef, editingDomain);
-    }
-    return Collections.emptyList();
+    return new ReferencerQuery(eRef).getReferencers(eObjectRef);
+  }
+
+  /**
+   * This method counts all Object who have a EReference 'eRef' toward the EObject 'eObjectRef', without building the
+   * list of referencing elements.
+   * 
+   * @param eObjectRef
+   *          : EObject
+   * @param eRef
+   *          : EReference relation (if null, all references are considered)
+   * @return The number of referencing elements
+   */
+  public static int countReferencers(EObject eObjectRef, EReference eRef) {
+    return new ReferencerQuery(eRef).count(eObjectRef);
   }
 
   /**
@@ -119,33 +113,7 @@ public class EObjectExt extends EcoreUtil2 {
    */
   public static <T extends EObject> List<T> getReferencers(EObject eObjectRef, EReference eRef,
       SemanticEditingDomain editingDomain, boolean ignoreDerivedFeature) {
-    List<T> result = new ArrayList<T>();
-
-        SiriusCrossReferenceAdapter crossReferencer = editingDomain.getCrossReferencer();
-    if (eRef == null) {
-      Collection<Setting> inverseReferences = crossReferencer.getInverseReferences(eObjectRef,
-          editingDomain.getCrossReferencer().isResolveProxyEnabled());
-      for (Setting setting : inverseReferences) {
-        if (ignoreDerivedFeature && setting.getEStructuralFeature().isDerived())
-          continue;
-        if (!result.contains(setting.getEObject())) {
-          result.add((T) setting.getEObject());
-        }
-      }
-
-    } else {
-      if (ignoreDerivedFeature && eRef.isDerived())
-        return result;
-      Collection<Setting> inverseReferences = crossReferencer.getInverseReferences(eObjectRef, eRef,
-          editingDomain.getCrossReferencer().isResolveProxyEnabled());
-      for (Setting setting : inverseReferences) {
-        if (!result.contains(setting.getEObject())) {
-          result.add((T) setting.getEObject());
-        }
-      }
-    }
-
-    return result;
+    return new ReferencerQuery(null, eRef, ignoreDerivedFeature).getReferencers(eObjectRef, editingDomain);
   }
 
   /**
@@ -0,0 +1,251 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.common.helpers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.sirius.common.tools.api.util.SiriusCrossReferenceAdapter;
+import org.polarsys.capella.common.platform.sirius.ted.SemanticEditingDomainFactory.SemanticEditingDomain;
+
+/**
+ * A query retrieving the elements referencing a given element, through the cross referencer of its semantic editing
+ * domain.<br>
+ * A query is defined once (reference, type of referencing elements) and can then be evaluated on any number of
+ * elements. It is meant to be kept in a constant by callers evaluating it often.
+ * <p>
+ * Inverse settings are visited one by one: referencing elements are deduplicated with an identity set, and the type
+ * filter is evaluated once per concrete EClass.
+ * </p>
+ */
+public class ReferencerQuery {
+
+  /**
+   * Visitor of referencing elements.
+   */
+  public interface IReferencerVisitor {
+    /**
+     * @param referencer
+     *          an element referencing the queried one, visited only once
+     * @param setting
+     *          the first setting through which the referencer was found
+     * @return <code>false</code> to stop the visit
+     */
+    boolean visit(EObject referencer, Setting setting);
+  }
+
+  /**
+   * The reference through which elements are referenced, <code>null</code> for all references.
+   */
+  private final EReference reference;
+
+  /**
+   * The type of referencing elements, <code>null</code> for all types.
+   */
+  private final EClass referencerType;
+
+  /**
+   * Whether settings of derived features are ignored.
+   */
+  private final boolean ignoreDerivedFeatures;
+
+  /**
+   * Result of the type filter, by concrete EClass of referencing elements, <code>null</code> without type filter.
+   */
+  private final Map<EClass, Boolean> typeFilterCache;
+
+  /**
+   * @param reference
+   *          the reference through which elements are referenced, <code>null</code> for all references
+   */
+  public ReferencerQuery(EReference reference) {
+    this(null, reference, false);
+  }
+
+  /**
+   * @param referencerType
+   *          the type of referencing elements, <code>null</code> for all types
+   * @param reference
+   *          the reference through which elements are referenced, <code>null</code> for all references
+   */
+  public ReferencerQuery(EClass referencerType, EReference reference) {
+    this(referencerType, reference, false);
+  }
+
+  /**
+   * @param referencerType
+   *          the type of referencing elements, <code>null</code> for all types
+   * @param reference
+   *          the reference through which elements are referenced, <code>null</code> for all references
+   * @param ignoreDerivedFeatures
+   *          whether settings of derived features are ignored
+   */
+  public ReferencerQuery(EClass referencerType, EReference reference, boolean ignoreDerivedFeatures) {
+    this.referencerType = referencerType;
+    this.reference = reference;
+    this.ignoreDerivedFeatures = ignoreDerivedFeatures;
+    this.typeFilterCache = (null == referencerType) ? null
+        : Collections.synchronizedMap(new IdentityHashMap<EClass, Boolean>());
+  }
+
+  /**
+   * Visit the elements referencing the given one.
+   *
+   * @param referenced
+   * @param visitor
+   */
+  public void visit(EObject referenced, IReferencerVisitor visitor) {
+    TransactionalEditingDomain domain = TransactionHelper.getEditingDomain(referenced);
+    if (domain instanceof SemanticEditingDomain) {
+      visit(referenced, (SemanticEditingDomain) domain, visitor);
+    }
+  }
+
+  /**
+   * Visit the elements referencing the given one, using the cross referencer of the given editing domain.
+   *
+   * @param referenced
+   * @param editingDomain
+   * @param visitor
+   */
+  public void visit(EObject referenced, SemanticEditingDomain editingDomain, IReferencerVisitor visitor) {
+    if ((null != reference) && ignoreDerivedFeatures && reference.isDerived()) {
+      return;
+    }
+    SiriusCrossReferenceAdapter crossReferencer = editingDomain.getCrossReferencer();
+    if (null == crossReferencer) {
+      return;
+    }
+    boolean resolve = crossReferencer.isResolveProxyEnabled();
+    Collection<Setting> settings = (null == reference) ? crossReferencer.getInverseReferences(referenced, resolve)
+        : crossReferencer.getInverseReferences(referenced, reference, resolve);
+
+    EObject single = null;
+    Set<EObject> visited = null;
+    for (Setting setting : settings) {
+      if ((null == reference) && ignoreDerivedFeatures && setting.getEStructuralFeature().isDerived()) {
+        continue;
+      }
+      EObject referencer = setting.getEObject();
+      if (!matchesType(referencer)) {
+        continue;
+      }
+      // Most elements have a single referencer, do not allocate a set for them.
+      if (null == single) {
+        single = referencer;
+      } else if (single == referencer) {
+        continue;
+      } else {
+        if (null == visited) {
+          visited = Collections.newSetFromMap(new IdentityHashMap<EObject, Boolean>());
+          visited.add(single);
+        }
+        if (!visited.add(referencer)) {
+          continue;
+        }
+      }
+      if (!visitor.visit(referencer, setting)) {
+        return;
+      }
+    }
+  }
+
+  private boolean matchesType(EObject referencer) {
+    if (null == referencerType) {
+      return true;
+    }
+    EClass eClass = referencer.eClass();
+    Boolean result = typeFilterCache.get(eClass);
+    if (null == result) {
+      result = Boolean.valueOf(referencerType.isSuperTypeOf(eClass));
+      typeFilterCache.put(eClass, result);
+    }
+    return result.booleanValue();
+  }
+
+  /**
+   * @param referenced
+   * @return the elements referencing the given one
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends EObject> List<T> getReferencers(EObject referenced) {
+    List<T> result = new ArrayList<T>();
+    visit(referenced, (referencer, setting) -> result.add((T) referencer));
+    return result;
+  }
+
+  /**
+   * @param referenced
+   * @param editingDomain
+   * @return the elements referencing the given one, using the cross referencer of the given editing domain
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends EObject> List<T> getReferencers(EObject referenced, SemanticEditingDomain editingDomain) {
+    List<T> result = new ArrayList<T>();
+    visit(referenced, editingDomain, (referencer, setting) -> result.add((T) referencer));
+    return result;
+  }
+
+  /**
+   * @param referenced
+   * @return the elements referencing the given one
+   */
+  public Stream<EObject> stream(EObject referenced) {
+    return getReferencers(referenced).stream();
+  }
+
+  /**
+   * @param referenced
+   * @return the first element referencing the given one, <code>null</code> if none
+   */
+  public EObject getFirstReferencer(EObject referenced) {
+    EObject[] result = new EObject[1];
+    visit(referenced, (referencer, setting) -> {
+      result[0] = referencer;
+      return false;
+    });
+    return result[0];
+  }
+
+  /**
+   * @param referenced
+   * @return the number of elements referencing the given one
+   */
+  public int count(EObject referenced) {
+    int[] result = new int[1];
+    visit(referenced, (referencer, setting) -> {
+      result[0]++;
+      return true;
+    });
+    return result[0];
+  }
+
+  /**
+   * @param referenced
+   * @return whether the given element is referenced at least once
+   */
+  public boolean hasReferencers(EObject referenced) {
+    return null != getFirstReferencer(referenced);
+  }
+}
@@ -14,16 +14,21 @@
 package org.polarsys.capella.common.helpers;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
 import java.util.Map.Entry;
 
+import org.polarsys.capella.common.utils.graph.IndexedGraph;
+
 /**
  * a class which represents a simple oriented graph, with no specified edge
+ * <p>
+ * Algorithms are computed on an {@link IndexedGraph} built from the adjacency map, see {@link #toIndexedGraph()}.
+ * </p>
  */
 public class SimpleOrientedGraph<T> {
   
@@ -37,31 +42,21 @@ public class SimpleOrientedGraph<T> {
     this.graph = graph;
   }
   
+  /**
+   * @return an indexed copy of the graph, with forward and reverse adjacency
+   */
+  public IndexedGraph<T> toIndexedGraph(){
+    return IndexedGraph.of(graph);
+  }
+  
   public boolean isAConnectedGraph(){
-    if (!graph.isEmpty()){
-      T first = graph.keySet().iterator().next();
-      Set<T> coloredNodes = new HashSet<T>();
-      Stack<T> currentStack = new Stack<T>();
-      currentStack.push(first);
-      coloredNodes.add(first);
-      while (!currentStack.isEmpty()){
-        T currentNode = currentStack.pop();
-        for (T aNeighbour : getNotOrientedNeighbours(currentNode)){
-          if (!coloredNodes.contains(aNeighbour)){
-            coloredNodes.add(aNeighbour);
-            currentStack.push(aNeighbour);
-          }
-        }
-      }
-      for (T aNode : graph.keySet()){
-        if (!coloredNodes.contains(aNode)){
-          return false;
-        }
-      }
-    }
-    return true;
+    return toIndexedGraph().isWeaklyConnected();
   }
   
+  /**
+   * Prefer {@link IndexedGraph#getNeighbours(Object)} on {@link #toIndexedGraph()} for repeated lookups, this method
+   * scans the whole graph to find predecessors.
+   */
   public Set<T> getNotOrientedNeighbours(T node){
     Set<T> returnedList = new HashSet<T>();
     if (graph.containsKey(node)){
@@ -102,35 +97,29 @@ public class SimpleOrientedGraph<T> {
    * detect a cycle in the graph
    */
   public boolean containsACycle(T aNode, Set<T> visitedNodes) {
-    Set<T> nodes = new HashSet<T>(visitedNodes);
-    nodes.add(aNode);
-    if (graph.containsKey(aNode)){
-      for (T aNext : graph.get(aNode)){
-        if (nodes.contains(aNext)){
-          return true;
-        }
-        if (containsACycle(aNext, nodes)){
-          return true;
-        }
+    IndexedGraph<T> indexedGraph = toIndexedGraph();
+    if (indexedGraph.containsCycle(Collections.singleton(aNode))){
+      return true;
+    }
+    // a node already visited by the caller is reachable
+    for (T aReachable : indexedGraph.breadthFirst(indexedGraph.getSuccessors(aNode))){
+      if (visitedNodes.contains(aReachable)){
+        return true;
       }
     }
     return false;
   }
   
   public boolean isValid(){
-    if (!isAConnectedGraph()){
+    IndexedGraph<T> indexedGraph = toIndexedGraph();
+    if (!indexedGraph.isWeaklyConnected()){
       return false;
     }
-    Set<T> sourceNodes = getSourceNodes();
+    Set<T> sourceNodes = indexedGraph.getSourceNodes();
     if (sourceNodes.isEmpty()){
       return false;
     }
-    for (T aSourceNode : sourceNodes){
-      if (containsACycle(aSourceNode, new HashSet<T>())){
-        return false;
-      }
-    }
-    return true;
+    return !indexedGraph.containsCycle(sourceNodes);
   }
 
   /**
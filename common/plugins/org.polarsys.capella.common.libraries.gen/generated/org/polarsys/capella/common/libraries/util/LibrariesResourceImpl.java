@@ -30,7 +30,9 @@ import org.eclipse.emf.ecore.xmi.impl.URIHandlerImpl;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
 import org.eclipse.emf.ecore.xmi.impl.XMLParserPoolImpl;
 import org.polarsys.capella.common.data.core.gen.xmi.impl.CapellaXMLSaveImpl;
+import org.polarsys.capella.common.data.core.gen.xmi.impl.CompactIdMap;
 import org.polarsys.capella.common.data.modellingcore.ModelElement;
+import org.polarsys.capella.common.lib.CompactId;
 import org.eclipse.emf.ecore.xmi.impl.XMLSaveImpl;
 import org.polarsys.kitalpha.emde.xmi.XMIExtensionHelperImpl;
 import org.polarsys.kitalpha.emde.xmi.XMIExtensionLoadImpl;
@@ -132,6 +134,9 @@ public class LibrariesResourceImpl extends XMIResourceImpl {
   @Override
   protected void init() {
 		super.init();
+		if (CompactId.isEnabled()) {
+			idToEObjectMap = new CompactIdMap();
+		}
 
 		// Save Options
 		getDefaultSaveOptions().put(XMLResource.OPTION_ENCODING, "UTF-8");  //$NON-NLS-1$
@@ -192,7 +197,7 @@ public class LibrariesResourceImpl extends XMIResourceImpl {
   @Override
   protected void doUnload() {
 		super.doUnload();
-		this.idToEObjectMap = null;
+		this.idToEObjectMap = CompactId.isEnabled() ? new CompactIdMap() : null;
 	}
 
   /**
@@ -206,6 +211,68 @@ public class LibrariesResourceImpl extends XMIResourceImpl {
   protected Notification setLoaded(boolean isLoaded) {
 		return super.setLoaded(isLoaded);
 	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * Model elements are indexed by the compact form of their id when {@link CompactId#isEnabled() enabled}.
+	 * <!-- end-user-doc -->
+	 * 
+	 * @see org.eclipse.emf.ecore.xmi.impl.XMLResourceImpl#getIDToEObjectMap()
+	 * @generated
+	 */
+	@Override
+	public Map<String, EObject> getIDToEObjectMap() {
+		if (idToEObjectMap == null && CompactId.isEnabled()) {
+			idToEObjectMap = new CompactIdMap();
+		}
+		return super.getIDToEObjectMap();
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * 
+	 * @see org.eclipse.emf.ecore.xmi.impl.XMLResourceImpl#setID(org.eclipse.emf.ecore.EObject, java.lang.String)
+	 * @generated
+	 */
+	@Override
+	public void setID(EObject eObject, String id) {
+		if (eObject instanceof ModelElement && getIDToEObjectMap() instanceof CompactIdMap) {
+			((CompactIdMap) idToEObjectMap).setID((ModelElement) eObject, id);
+		} else {
+			super.setID(eObject, id);
+		}
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * 
+	 * @see org.eclipse.emf.ecore.xmi.impl.XMLResourceImpl#getID(org.eclipse.emf.ecore.EObject)
+	 * @generated
+	 */
+	@Override
+	public String getID(EObject eObject) {
+		if (eObject instanceof ModelElement && idToEObjectMap instanceof CompactIdMap) {
+			return ((CompactIdMap) idToEObjectMap).getID((ModelElement) eObject);
+		}
+		return super.getID(eObject);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * 
+	 * @see org.eclipse.emf.ecore.xmi.impl.XMLResourceImpl#detachedHelper(org.eclipse.emf.ecore.EObject)
+	 * @generated
+	 */
+	@Override
+	protected void detachedHelper(EObject eObject) {
+		if (eObject instanceof ModelElement && idToEObjectMap instanceof CompactIdMap) {
+			((CompactIdMap) idToEObjectMap).setID((ModelElement) eObject, null);
+		}
+		super.detachedHelper(eObject);
+	}
   //end-capella-code
 
 } //LibrariesResourceImpl
\ No newline at end of file
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.common.model.helpers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.polarsys.capella.common.mdsofa.common.helper.EcoreHelper;
+
+/**
+ * Entry point of the generated code of derived properties.<br>
+ * A table indexed by class and feature identifier keeps the {@link IDerivedFeatureComputer} of each derived property.
+ * It is filled at the first access to a property for a class, with the computer given by the {@link IHelper} of the
+ * object, or with a computer calling {@link IHelper#getValue(EObject, EStructuralFeature, EAnnotation)}. Following
+ * accesses don't look for the helper and the helper annotation anymore.<br>
+ * Registered {@link IDerivedFeatureComputerDecorator decorators} wrap the computers when they are created.
+ * <p>
+ * The table can be disabled with the <code>org.polarsys.capella.common.model.helpers.dispatch</code> system property,
+ * so that the helper is looked for at each access.
+ * </p>
+ */
+public class DerivedFeatureDispatcher {
+
+  public static final String DISPATCH_PROPERTY = "org.polarsys.capella.common.model.helpers.dispatch"; //$NON-NLS-1$
+
+  private static volatile boolean enabled = Boolean.valueOf(System.getProperty(DISPATCH_PROPERTY, "true")) //$NON-NLS-1$
+      .booleanValue();
+
+  /**
+   * Computers of derived properties, by class and by feature identifier in the class.
+   */
+  private static final Map<EClass, IDerivedFeatureComputer[]> computers = new ConcurrentHashMap<>();
+
+  private static final List<IDerivedFeatureComputerDecorator> decorators = new CopyOnWriteArrayList<>();
+
+  private DerivedFeatureDispatcher() {
+    // Static access only
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static void setEnabled(boolean enabled) {
+    DerivedFeatureDispatcher.enabled = enabled;
+  }
+
+  /**
+   * Register a decorator of the computers. Computers already created are discarded.
+   */
+  public static void addDecorator(IDerivedFeatureComputerDecorator decorator) {
+    if (decorators.addIfAbsent(decorator)) {
+      clear();
+    }
+  }
+
+  /**
+   * Unregister a decorator of the computers. Computers already created are discarded.
+   */
+  public static void removeDecorator(IDerivedFeatureComputerDecorator decorator) {
+    if (decorators.remove(decorator)) {
+      clear();
+    }
+  }
+
+  /**
+   * Clear the table, e.g. when helpers are contributed after properties have been accessed.
+   */
+  public static void clear() {
+    computers.clear();
+  }
+
+  /**
+   * Get the value of specified derived property of given object.
+   * @param object The object that the feature value is requested.
+   * @param feature The feature that the value is requested.
+   * @return <code>null</code> if no value is returned.
+   * @throws HelperNotFoundException if no helper is found for the object.
+   */
+  public static Object getValue(EObject object, EStructuralFeature feature) {
+    EClass eClass = object.eClass();
+    int featureID = eClass.getFeatureID(feature);
+    if (!enabled || (featureID < 0)) {
+      return getHelper(object).getValue(object, feature, getAnnotation(feature));
+    }
+    IDerivedFeatureComputer[] classComputers = computers.get(eClass);
+    if (null == classComputers) {
+      classComputers = computers.computeIfAbsent(eClass, c -> new IDerivedFeatureComputer[c.getFeatureCount()]);
+    }
+    IDerivedFeatureComputer computer = classComputers[featureID];
+    if (null == computer) {
+      // Computers are stateless, so they may be created twice by concurrent accesses.
+      computer = createComputer(object, feature);
+      classComputers[featureID] = computer;
+    }
+    return computer.getValue(object);
+  }
+
+  /**
+   * Create the computer of specified feature for all instances of the class of given object.
+   */
+  protected static IDerivedFeatureComputer createComputer(EObject object, EStructuralFeature feature) {
+    IHelper helper = getHelper(object);
+    IDerivedFeatureComputer computer = helper.getComputer(object.eClass(), feature);
+    if (null == computer) {
+      EAnnotation annotation = getAnnotation(feature);
+      computer = o -> helper.getValue(o, feature, annotation);
+    }
+    for (IDerivedFeatureComputerDecorator decorator : decorators) {
+      computer = decorator.decorate(object.eClass(), feature, computer);
+    }
+    return computer;
+  }
+
+  /**
+   * Get the helper of given object, by adapting it to {@link IHelper}.
+   * @throws HelperNotFoundException if no helper is found.
+   */
+  protected static IHelper getHelper(EObject object) {
+    IHelper helper = null;
+    // If current object is adaptable, ask it to get its IHelper.
+    if (object instanceof IAdaptable) {
+      helper = ((IAdaptable) object).getAdapter(IHelper.class);
+    }
+    if (null == helper) {
+      // Ask the platform to get the adapter 'IHelper.class' for current object.
+      helper = Platform.getAdapterManager().getAdapter(object, IHelper.class);
+    }
+    if (null == helper) {
+      // Get the root package of the owner package.
+      EPackage rootPackage = EcoreHelper.getRootPackage(object.eClass().getEPackage());
+      throw new HelperNotFoundException("No helper retrieved for nsURI " + rootPackage.getNsURI()); //$NON-NLS-1$
+    }
+    return helper;
+  }
+
+  protected static EAnnotation getAnnotation(EStructuralFeature feature) {
+    return feature.getEAnnotation(IModelConstants.HELPER_ANNOTATION_SOURCE);
+  }
+}
@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.common.model.helpers;
+
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * Computes the value of one derived property.
+ * @see DerivedFeatureDispatcher
+ */
+@FunctionalInterface
+public interface IDerivedFeatureComputer {
+  /**
+   * Get the value of the derived property for given object.
+   * @param object The object that the value is requested.
+   * @return <code>null</code> if no value is returned.
+   */
+  Object getValue(EObject object);
+}
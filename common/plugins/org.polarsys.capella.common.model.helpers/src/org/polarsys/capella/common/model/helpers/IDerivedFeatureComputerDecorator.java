@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.common.model.helpers;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+/**
+ * Wraps the computers of derived properties created by the {@link DerivedFeatureDispatcher}, e.g. to memoize their
+ * values or to evaluate them differently.
+ * @see DerivedFeatureDispatcher#addDecorator(IDerivedFeatureComputerDecorator)
+ */
+@FunctionalInterface
+public interface IDerivedFeatureComputerDecorator {
+  /**
+   * @param eClass The class of the objects that the computer is used for.
+   * @param feature The computed feature.
+   * @param computer The computer given by the helper.
+   * @return the computer to use, <code>computer</code> if it is not decorated.
+   */
+  IDerivedFeatureComputer decorate(EClass eClass, EStructuralFeature feature, IDerivedFeatureComputer computer);
+}
@@ -14,6 +14,7 @@
 package org.polarsys.capella.common.model.helpers;
 
 import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
@@ -30,4 +31,16 @@ public interface IHelper {
    * @return <code>null</code> if no value is returned.
    */
   Object getValue(EObject object, EStructuralFeature feature, EAnnotation annotation);
+
+  /**
+   * Get a computer of the specified feature for all instances of given class, calling the computation directly.<br>
+   * The computer must return the same value as {@link #getValue(EObject, EStructuralFeature, EAnnotation)}.
+   * @param eClass The class of objects that the feature value will be requested.
+   * @param feature The feature that the value will be requested.
+   * @return <code>null</code> to get values through {@link #getValue(EObject, EStructuralFeature, EAnnotation)}.
+   * @see DerivedFeatureDispatcher
+   */
+  default IDerivedFeatureComputer getComputer(EClass eClass, EStructuralFeature feature) {
+    return null;
+  }
 }
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.common.lib;
+
+import java.util.UUID;
+
+/**
+ * An ID generated by {@link IdGenerator#createId()}, stored as the two longs of its UUID.<br>
+ * Only IDs in the canonical lower case form of {@link UUID#toString()} are stored this way, so that {@link #toString()}
+ * gives back the exact same string.
+ * <p>
+ * Compact IDs are used by model elements when enabled with the <code>org.polarsys.capella.common.lib.compactIds</code>
+ * system property.
+ * </p>
+ */
+public final class CompactId {
+
+  public static final String COMPACT_IDS_PROPERTY = "org.polarsys.capella.common.lib.compactIds"; //$NON-NLS-1$
+
+  private static final int LENGTH = 36;
+
+  private static volatile boolean enabled = Boolean.valueOf(System.getProperty(COMPACT_IDS_PROPERTY, "false")) //$NON-NLS-1$
+      .booleanValue();
+
+  private final long mostSignificantBits;
+
+  private final long leastSignificantBits;
+
+  public CompactId(long mostSignificantBits, long leastSignificantBits) {
+    this.mostSignificantBits = mostSignificantBits;
+    this.leastSignificantBits = leastSignificantBits;
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static void setEnabled(boolean enabled) {
+    CompactId.enabled = enabled;
+  }
+
+  /**
+   * @param id
+   *          an ID
+   * @return the compact form of the ID, null if it is not a UUID in canonical lower case form
+   */
+  public static CompactId parse(String id) {
+    if (id == null || id.length() != LENGTH) {
+      return null;
+    }
+    long msb = 0;
+    long lsb = 0;
+    for (int i = 0; i < LENGTH; i++) {
+      char c = id.charAt(i);
+      if (i == 8 || i == 13 || i == 18 || i == 23) {
+        if (c != '-') {
+          return null;
+        }
+        continue;
+      }
+      int digit = hexDigit(c);
+      if (digit < 0) {
+        return null;
+      }
+      if (i < 19) {
+        msb = (msb << 4) | digit;
+      } else {
+        lsb = (lsb << 4) | digit;
+      }
+    }
+    return new CompactId(msb, lsb);
+  }
+
+  private static int hexDigit(char c) {
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    }
+    if (c >= 'a' && c <= 'f') {
+      return c - 'a' + 10;
+    }
+    return -1;
+  }
+
+  public long getMostSignificantBits() {
+    return mostSignificantBits;
+  }
+
+  public long getLeastSignificantBits() {
+    return leastSignificantBits;
+  }
+
+  @Override
+  public int hashCode() {
+    long hilo = mostSignificantBits ^ leastSignificantBits;
+    return ((int) (hilo >> 32)) ^ (int) hilo;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof CompactId)) {
+      return false;
+    }
+    CompactId other = (CompactId) obj;
+    return mostSignificantBits == other.mostSignificantBits && leastSignificantBits == other.leastSignificantBits;
+  }
+
+  /**
+   * @return the ID, as created by {@link IdGenerator#createId()}
+   */
+  @Override
+  public String toString() {
+    return new UUID(mostSignificantBits, leastSignificantBits).toString();
+  }
+}
@@ -15,13 +15,19 @@
 package org.polarsys.capella.common.platform.sirius.ted;
 
 import java.lang.ref.WeakReference;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Map;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -55,11 +61,48 @@ import org.eclipse.emf.edit.domain.IEditingDomainProvider;
  * It is possible to use both ways of registration for different adapters.<br>
  * </p>
  * <p>
+ * Adapters registered by class are resolved once per concrete class of model element, in a dispatch table that is
+ * reset when adapters are registered or removed. A notification that no adapter listens to is routed without any
+ * allocation.
+ * </p>
+ * <p>
+ * Between {@link #startBatch()} and {@link #endBatch()}, e.g. during the execution of a compound command, notifications
+ * for {@link IBatchAdapter}s are queued and delivered at once at the end of the batch. Other adapters are notified
+ * immediately.
+ * </p>
+ * <p>
  * An adapter registered for a given model element is always removed when this element is removed explicitly from the model.<br>
  * That does not apply to adapters registered for a class (until DataNotifier is garbage collected).
  * </p>
  */
 public class DataNotifier extends EContentAdapter implements IEditingDomainProvider {
+  /**
+   * An adapter accepting to be notified of the changes of a batch at once, at the end of the batch.
+   */
+  public interface IBatchAdapter extends Adapter {
+    /**
+     * @param notifications The notifications of the batch routed to this adapter, in order.
+     */
+    void notifyChanged(List<Notification> notifications);
+  }
+
+  private static final Adapter[] NO_ADAPTERS = new Adapter[0];
+
+  /**
+   * Adapters registered by class, by concrete class of model element.
+   */
+  private final Map<Class<?>, Adapter[]> _classDispatch = new ConcurrentHashMap<Class<?>, Adapter[]>();
+
+  /**
+   * Nesting level of batches.
+   */
+  private int _batchDepth;
+
+  /**
+   * Notifications queued during the current batch, by adapter.
+   */
+  private final Map<IBatchAdapter, List<Notification>> _batchedNotifications = new LinkedHashMap<IBatchAdapter, List<Notification>>();
+
   /**
    * Model element class to adapters.
    */
@@ -102,6 +145,7 @@ public class DataNotifier extends EContentAdapter implements IEditingDomainProvi
     }
     // Add notifier to set.
     adapters.add(adapter);
+    _classDispatch.clear();
   }
 
   /**
@@ -147,10 +191,11 @@ public class DataNotifier extends EContentAdapter implements IEditingDomainProvi
     Object feature = notification.getFeature();
     boolean isContainmentReference = ((feature instanceof EReference) && ((EReference) feature).isContainment());
     // Add adapters by class first, then by reference.
-    Set<Adapter> adapters = new HashSet<Adapter>(0);
+    // The collection is only created when an adapter is found.
+    Collection<Adapter> adapters = null;
     // Always search for notifier adapters.
     if (null != notifier) {
-      adapters.addAll(searchAdapters(notifier, false));
+      adapters = collectAdapters(adapters, notifier, false);
     }
     // Add adapters depending on notification type.
     switch (notification.getEventType()) {
@@ -158,41 +203,98 @@ public class DataNotifier extends EContentAdapter implements IEditingDomainProvi
       case Notification.SET:
         // Do not add new value adapters if new value is indeed the notifier.
         if ((null != notifier) && (null != newValue) && (newValue != notifier)) {
-          adapters.addAll(searchAdapters(newValue, false));
+          adapters = collectAdapters(adapters, newValue, false);
           // Most unlikely. ModelElement object does launch set notification having same
           // old value and new value, but...
           if ((null != oldValue) && (oldValue != newValue)) {
-            adapters.addAll(searchAdapters(oldValue, false));
+            adapters = collectAdapters(adapters, oldValue, false);
           }
         }
       break;
       case Notification.ADD:
         // New model element added.
         // Add adapter for new value.
-        adapters.addAll(searchAdapters(newValue, false));
+        adapters = collectAdapters(adapters, newValue, false);
       break;
       case Notification.ADD_MANY:
         // New list of model elements added.
         // Add adapters for new values.
-        adapters.addAll(searchAdapters((Collection<?>) newValue, false));
+        for (Object value : (Collection<?>) newValue) {
+          adapters = collectAdapters(adapters, value, false);
+        }
       break;
       case Notification.REMOVE:
         // Model element removed.
         // Add adapters for old value.
-        // Do remove those that used old value as reference key.
-        adapters.addAll(searchAdapters(oldValue, isContainmentReference));
+        // Do remove those that used old value as reference key.
+        adapters = collectAdapters(adapters, oldValue, isContainmentReference);
       break;
       case Notification.REMOVE_MANY:
         // List of model elements removed.
         // Add adapters for old values.
         // Do remove those that used old values as reference keys.
-        adapters.addAll(searchAdapters((Collection<?>) oldValue, isContainmentReference));
+        for (Object value : (Collection<?>) oldValue) {
+          adapters = collectAdapters(adapters, value, isContainmentReference);
+        }
       break;
       default:
       break;
     }
     // Do notify adapters.
-    doNotifyAdapters(adapters, notification);
+    if (null != adapters) {
+      doNotifyAdapters(adapters, notification);
+    }
+  }
+
+  /**
+   * Add the adapters of given object to given collection.
+   * @param adapters The collection of adapters found so far, <code>null</code> if none.
+   * @param object The model object being dealt within the notification.
+   * @param removeExistingAdapters Should existing adapters be removed ? <code>true</code> if so, <code>false</code> otherwise.
+   * @return <code>adapters</code>, or a new collection if it was <code>null</code> and adapters are found.
+   */
+  private Collection<Adapter> collectAdapters(Collection<Adapter> adapters, Object object, boolean removeExistingAdapters) {
+    if (!(object instanceof EObject)) {
+      return adapters;
+    }
+    Collection<Adapter> adaptersByReference = null;
+    if (!_modelElementToAdapters.isEmpty()) {
+      adaptersByReference = searchAdaptersByReference(object, removeExistingAdapters);
+    }
+    Adapter[] adaptersByClass = getClassAdapters(object.getClass());
+    boolean noAdapterByReference = (null == adaptersByReference) || adaptersByReference.isEmpty();
+    if (noAdapterByReference && (0 == adaptersByClass.length)) {
+      return adapters;
+    }
+    Collection<Adapter> result = adapters;
+    if (null == result) {
+      result = new LinkedHashSet<Adapter>();
+    }
+    if (!noAdapterByReference) {
+      result.addAll(adaptersByReference);
+    }
+    Collections.addAll(result, adaptersByClass);
+    return result;
+  }
+
+  /**
+   * Get the adapters registered for classes implemented by given concrete class, from the dispatch table.
+   * @param type The class of a model element.
+   * @return A not <code>null</code> array of {@link Adapter}. May be empty.
+   */
+  protected Adapter[] getClassAdapters(Class<?> type) {
+    Adapter[] result = _classDispatch.get(type);
+    if (null == result) {
+      Set<Adapter> adapters = new LinkedHashSet<Adapter>(0);
+      for (Map.Entry<Class<?>, Set<Adapter>> entry : _classToAdapters.entrySet()) {
+        if (entry.getKey().isAssignableFrom(type)) {
+          adapters.addAll(entry.getValue());
+        }
+      }
+      result = adapters.isEmpty() ? NO_ADAPTERS : adapters.toArray(new Adapter[adapters.size()]);
+      _classDispatch.put(type, result);
+    }
+    return result;
   }
 
   /**
@@ -207,10 +309,56 @@ public class DataNotifier extends EContentAdapter implements IEditingDomainProvi
     }
     // Notify adapters.
     for (Adapter adapter : adapters) {
-      adapter.notifyChanged(notification);
+      if ((_batchDepth > 0) && (adapter instanceof IBatchAdapter)) {
+        List<Notification> notifications = _batchedNotifications.get(adapter);
+        if (null == notifications) {
+          notifications = new ArrayList<Notification>();
+          _batchedNotifications.put((IBatchAdapter) adapter, notifications);
+        }
+        notifications.add(notification);
+      } else {
+        adapter.notifyChanged(notification);
+      }
+    }
+  }
+
+  /**
+   * Start a batch: until the matching {@link #endBatch()}, notifications for {@link IBatchAdapter}s are queued.<br>
+   * Batches can be nested, notifications being delivered at the end of the outermost one.
+   */
+  public void startBatch() {
+    _batchDepth++;
+  }
+
+  /**
+   * End a batch, and deliver the queued notifications if it is the outermost one.
+   */
+  public void endBatch() {
+    if (_batchDepth == 0) {
+      return;
+    }
+    _batchDepth--;
+    if ((_batchDepth == 0) && !_batchedNotifications.isEmpty()) {
+      List<Map.Entry<IBatchAdapter, List<Notification>>> batches = new ArrayList<Map.Entry<IBatchAdapter, List<Notification>>>(_batchedNotifications.entrySet());
+      _batchedNotifications.clear();
+      for (Map.Entry<IBatchAdapter, List<Notification>> batch : batches) {
+        try {
+          batch.getKey().notifyChanged(batch.getValue());
+        } catch (RuntimeException exception) {
+          PlatformSiriusTedActivator.getDefault().getLog().log(
+              new Status(IStatus.ERROR, PlatformSiriusTedActivator.getDefault().getPluginId(), exception.getMessage(), exception));
+        }
+      }
     }
   }
 
+  /**
+   * @return <code>true</code> if a batch is in progress.
+   */
+  public boolean isBatching() {
+    return _batchDepth > 0;
+  }
+
   /**
    * Search adapters for given object.
    * @param object The model object being dealt within the notification.<br>
@@ -219,12 +367,9 @@ public class DataNotifier extends EContentAdapter implements IEditingDomainProvi
    * @return A not <code>null</code> collection of {@link Adapter}. May be empty.
    */
   protected Collection<Adapter> searchAdapters(Object object, boolean removeExistingAdapters) {
-    Collection<Adapter> result = searchAdaptersByReference(object, removeExistingAdapters);
-    Collection<Adapter> resultByClass = searchAdaptersByClass(object);
+    Collection<Adapter> result = collectAdapters(null, object, removeExistingAdapters);
     if (null == result) {
-      result = resultByClass;
-    } else {
-      result.addAll(resultByClass);
+      result = new HashSet<Adapter>(0);
     }
     return result;
   }
@@ -253,11 +398,7 @@ public class DataNotifier extends EContentAdapter implements IEditingDomainProvi
   protected Collection<Adapter> searchAdaptersByClass(Object object) {
     Set<Adapter> result = new HashSet<Adapter>(0);
     if (object instanceof EObject) {
-      for (Class<?> modelElementClass : _classToAdapters.keySet()) {
-        if (modelElementClass.isInstance(object)) {
-          result.addAll(_classToAdapters.get(modelElementClass));
-        }
-      }
+      result.addAll(Arrays.asList(getClassAdapters(object.getClass())));
     }
     return result;
   }
@@ -267,7 +408,7 @@ public class DataNotifier extends EContentAdapter implements IEditingDomainProvi
    * @param object The model object being dealt within the notification.<br>
    *          Empty result is returned if this is not indeed a model element.
    * @param removeAdapters Should existing adapters be removed ? <code>true</code> if so, <code>false</code> otherwise.
-   * @return A not <code>null</code> collection of {@link Adapter}. May be empty.
+   * @return The registered adapters, <code>null</code> if none.
    */
   protected Collection<Adapter> searchAdaptersByReference(Object object, boolean removeAdapters) {
     Collection<Adapter> result = null;
@@ -304,6 +445,7 @@ public class DataNotifier extends EContentAdapter implements IEditingDomainProvi
         }
       }
     }
+    _classDispatch.clear();
   }
 
   /**
@@ -237,7 +237,8 @@ public class SemanticEditingDomainFactory extends WorkspaceEditingDomainFactory
         }
 
         /**
-         * If executed command is a non dirtying one, DO NOT notify command stack listeners.
+         * If executed command is a non dirtying one, DO NOT notify command stack listeners.<br>
+         * The command is executed in a batch of the {@link DataNotifier}.
          * 
          * @see org.eclipse.emf.transaction.impl.AbstractTransactionalCommandStack#basicExecute(org.eclipse.emf.common.command.Command)
          */
@@ -246,11 +247,22 @@ public class SemanticEditingDomainFactory extends WorkspaceEditingDomainFactory
             // If the command is executable, execute it.
             if (null != command) {
                 if (command.canExecute()) {
+                    DataNotifier dataNotifier = null;
+                    if (getDomain() instanceof SemanticEditingDomain) {
+                        dataNotifier = ((SemanticEditingDomain) getDomain()).getDataNotifier();
+                    }
+                    if (null != dataNotifier) {
+                        dataNotifier.startBatch();
+                    }
                     try {
                         command.execute();
                     } catch (RuntimeException exception) {
                         handleError(exception);
                         command.dispose();
+                    } finally {
+                        if (null != dataNotifier) {
+                            dataNotifier.endBatch();
+                        }
                     }
                     // If executed command is a non dirtying one, DO NOT notify command stack listeners.
                     if (!(command instanceof NonDirtying)) {
@@ -15,11 +15,14 @@ package org.polarsys.capella.common.queries.interpretor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.Hashtable;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.log4j.Logger;
 import org.eclipse.core.runtime.CoreException;
@@ -45,18 +48,44 @@ import org.polarsys.capella.common.tools.report.EmbeddedMessage;
 import org.polarsys.capella.common.tools.report.config.registry.ReportManagerRegistry;
 import org.polarsys.capella.common.tools.report.util.IReportManagerDefaultComponents;
 
+/**
+ * Executes queries declared with the <code>org.polarsys.capella.common.queries.query</code> extension point.
+ * <p>
+ * Each query identifier is resolved once into a {@link QueryPlan}, holding the queries to execute and the filters to
+ * apply. When the semantic object is a collection larger than the
+ * <code>org.polarsys.capella.common.queries.parallelThreshold</code> system property (disabled by default), the queries
+ * of a plan, which are independent, are executed concurrently. Their results are merged in the order of the plan.
+ * </p>
+ * <p>
+ * Executions can be profiled with the {@link QueryProfiler}.
+ * </p>
+ */
 public class QueryInterpretor {
 
+  public static final String PARALLEL_THRESHOLD_PROPERTY = "org.polarsys.capella.common.queries.parallelThreshold"; //$NON-NLS-1$
+
   private static final Logger logger = ReportManagerRegistry.getInstance()
       .subscribe(IReportManagerDefaultComponents.MODEL);
   private static final NoneValue NONE_VALUE = new NoneValue();
 
-  private static int queryIdCounter = 0;
-  private static Hashtable<IQuery, Integer> queryToId = new Hashtable<IQuery, Integer>();
-  private static Hashtable<String, IConfigurationElement> identifier2QueryDef = null;
-  private static Hashtable<String, Set<IQueryFilter>> identifier2QueryFilters = null;
-  private static Hashtable<String, IQuery> identifier2Query = null;
-  private static Hashtable<String, String> queryIdentifier2ExtendedQueryIdentifier = null;
+  /**
+   * Whether executions are traced, debug messages are not built otherwise.
+   */
+  private static final boolean TRACE = Log.ACTIVE_DEBUG_GROUPS.contains(Log.QUERY_INTERPRETOR);
+
+  /**
+   * Minimal size of a collection semantic object for its queries to be executed concurrently, 0 if disabled.
+   */
+  private static final int PARALLEL_THRESHOLD = Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, 0).intValue();
+
+  private static final AtomicInteger queryIdCounter = new AtomicInteger();
+  private static final Map<IQuery, Integer> queryToId = new ConcurrentHashMap<IQuery, Integer>();
+  private static final Map<String, QueryPlan> identifier2Plan = new ConcurrentHashMap<String, QueryPlan>();
+  private static volatile boolean loaded = false;
+  private static Map<String, IConfigurationElement> identifier2QueryDef = null;
+  private static Map<String, Set<IQueryFilter>> identifier2QueryFilters = null;
+  private static Map<String, IQuery> identifier2Query = null;
+  private static Map<String, String> queryIdentifier2ExtendedQueryIdentifier = null;
 
   /**
    * Execute a query whose semantics is defined by one or more extension points. The result is a set of non-redundant
@@ -72,60 +101,123 @@ public class QueryInterpretor {
       throw new IllegalArgumentException("the context shall not be null"); //$NON-NLS-1$
     }
 
+    QueryStatistics statistics = QueryProfiler.getActiveStatistics(queryIdentifier);
+    long start = (statistics != null) ? System.nanoTime() : 0;
+
     Object semanticsObj = semanticsObject;
     if (semanticsObj == null) {
       semanticsObj = NONE_VALUE;
     }
 
     IPrivateQueryContext theContext = (IPrivateQueryContext) context;
-    if (theContext.getExecutionLevel() == 0) {
-      FormatedLogger.addTextLn("QUERY CALL : " + queryIdentifier, Log.QUERY_INTERPRETOR); //$NON-NLS-1$
+    if (TRACE) {
+      if (theContext.getExecutionLevel() == 0) {
+        FormatedLogger.addTextLn("QUERY CALL : " + queryIdentifier, Log.QUERY_INTERPRETOR); //$NON-NLS-1$
+      }
+      FormatedLogger.addTextLn("QueryInterpretor.executeQuery(" + queryIdentifier + ", " + semanticsObj + ")", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+          Log.QUERY_INTERPRETOR);
+      FormatedLogger.addTextLn("{", Log.QUERY_INTERPRETOR); //$NON-NLS-1$
+      FormatedLogger.incIndent(Log.QUERY_INTERPRETOR);
     }
-    FormatedLogger.addTextLn("QueryInterpretor.executeQuery(" + queryIdentifier + ", " + semanticsObj + ")", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-        Log.QUERY_INTERPRETOR);
-    FormatedLogger.addTextLn("{", Log.QUERY_INTERPRETOR); //$NON-NLS-1$
-    FormatedLogger.incIndent(Log.QUERY_INTERPRETOR);
 
     Collection<Object> subResult = new LinkedHashSet<Object>();
 
-    Set<IQuery> queries = getQuerySetForQueryIdentifier(queryIdentifier);
-    for (IQuery query : queries) {
-      Integer queryId = queryToId.get(query);
-      List<Object> res = theContext.getResultFromCache(queryId, semanticsObj);
-      if (res == null) {
+    QueryPlan plan = getPlan(queryIdentifier);
+    int size = plan.getQueries().size();
+    if ((size > 1) && isLargeInput(semanticsObj)) {
+      List<ForkJoinTask<List<Object>>> tasks = new ArrayList<ForkJoinTask<List<Object>>>(size);
+      for (int i = 0; i < size; i++) {
+        final int index = i;
+        final Object input = semanticsObj;
+        tasks.add(ForkJoinPool.commonPool().submit(() -> executePlanQuery(plan, index, input, theContext)));
+      }
+      for (ForkJoinTask<List<Object>> task : tasks) {
+        addAll(subResult, task.join());
+      }
+    } else {
+      for (int i = 0; i < size; i++) {
+        addAll(subResult, executePlanQuery(plan, i, semanticsObj, theContext));
+      }
+    }
+
+    if (TRACE) {
+      FormatedLogger.decIndent(Log.QUERY_INTERPRETOR);
+      FormatedLogger.addTextLn("}", Log.QUERY_INTERPRETOR); //$NON-NLS-1$
+    }
+    List<Object> result = new ArrayList<Object>(subResult);
+
+    if (theContext.getExecutionLevel() == 0) {
+      // Add (or overwrite) query input element in the context to be used by filters
+      theContext.overwriteValue(QueryContextConstants.QUERY_INPUT_ELEMENT_PARAMETER, semanticsObject);
+      for (IQueryFilter filter : filters) {
+        result = executeFilter(result, filter, context);
+      }
+      if (TRACE) {
+        FormatedLogger.addTextLn("Filtering ...", Log.QUERY_INTERPRETOR); //$NON-NLS-1$
+      }
+    }
+
+    if (statistics != null) {
+      statistics.addCall(System.nanoTime() - start);
+    }
+    return (List<T>) result;
+  }
+
+  /**
+   * Execute the query of the given plan at the given index, or retrieve its result from the cache of the context.
+   */
+  private static List<Object> executePlanQuery(QueryPlan plan, int index, Object semanticsObj,
+      IPrivateQueryContext theContext) {
+    IQuery query = plan.getQueries().get(index);
+    Integer queryId = plan.getQueryIds().get(index);
+    QueryStatistics statistics = QueryProfiler.getActiveStatistics(query.getIdentifier());
+
+    List<Object> res = theContext.getResultFromCache(queryId, semanticsObj);
+    if (res == null) {
+      if (TRACE) {
         FormatedLogger.addTextLn("execute " + query.getIdentifier() + " {", Log.QUERY_INTERPRETOR); //$NON-NLS-1$ //$NON-NLS-2$
         FormatedLogger.incIndent(Log.QUERY_INTERPRETOR);
-        theContext.incCallLevel();
+      }
+      theContext.incCallLevel();
+      try {
         res = query.execute(semanticsObj, theContext);
+      } finally {
         theContext.decCallLevel();
-        theContext.addInCache(queryId, semanticsObj, res);
+      }
+      theContext.addInCache(queryId, semanticsObj, res);
+      if (TRACE) {
         FormatedLogger.decIndent(Log.QUERY_INTERPRETOR);
         FormatedLogger.addTextLn("}", Log.QUERY_INTERPRETOR); //$NON-NLS-1$
+      }
+      if (statistics != null) {
+        statistics.addCacheMiss();
+      }
 
-      } else {
+    } else {
+      if (TRACE) {
         FormatedLogger.addTextLn(
             "retrieve from cache for " + query.getIdentifier() + "[" + queryId + "]" + " " + semanticsObj, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
             Log.QUERY_INTERPRETOR);
       }
-
-      if ((res != null) && !res.isEmpty()) {
-        subResult.addAll(res);
+      if (statistics != null) {
+        statistics.addCacheHit();
       }
     }
+    return res;
+  }
 
-    FormatedLogger.decIndent(Log.QUERY_INTERPRETOR);
-    FormatedLogger.addTextLn("}", Log.QUERY_INTERPRETOR); //$NON-NLS-1$
-    List<Object> result = new ArrayList<Object>(subResult);
-
-    if (theContext.getExecutionLevel() == 0) {
-      // Add (or overwrite) query input element in the context to be used by filters
-      theContext.overwriteValue(QueryContextConstants.QUERY_INPUT_ELEMENT_PARAMETER, semanticsObject);
-      for (IQueryFilter filter : filters) {
-        result = executeFilter(result, filter, context);
-      }
-      FormatedLogger.addTextLn("Filtering ...", Log.QUERY_INTERPRETOR); //$NON-NLS-1$
+  private static void addAll(Collection<Object> subResult, List<Object> res) {
+    if ((res != null) && !res.isEmpty()) {
+      subResult.addAll(res);
     }
-    return (List<T>) result;
+  }
+
+  /**
+   * Traced executions are not concurrent, so that the trace stays readable.
+   */
+  private static boolean isLargeInput(Object semanticsObj) {
+    return !TRACE && (PARALLEL_THRESHOLD > 0) && (semanticsObj instanceof Collection)
+        && (((Collection<?>) semanticsObj).size() >= PARALLEL_THRESHOLD);
   }
 
   public static <T> List<T> executeQuery(String queryIdentifier, Object semanticsObject, IQueryContext context,
@@ -159,17 +251,7 @@ public class QueryInterpretor {
   }
 
   public static Set<IQueryFilter> getFilters(String queryIdentifier) {
-    if (identifier2QueryFilters == null) {
-      loadQueries();
-    }
-    Set<IQueryFilter> result = new HashSet<IQueryFilter>();
-    for (IQuery query : getQuerySetForQueryIdentifier(queryIdentifier)) {
-      Set<IQueryFilter> filters = identifier2QueryFilters.get(query.getIdentifier());
-      if (filters != null) {
-        result.addAll(filters);
-      }
-    }
-    return result;
+    return new HashSet<IQueryFilter>(getPlan(queryIdentifier).getFilters());
   }
 
   public static <T> List<T> executeFilter(List<T> elements, IQueryFilter filter, IQueryContext context) {
@@ -186,33 +268,63 @@ public class QueryInterpretor {
     return executeFilter(elements, filter, null);
   }
 
-  private static Set<IQuery> getQuerySetForQueryIdentifier(String queryIdentifier) {
-    Set<IQuery> res = new HashSet<IQuery>();
-    if (identifier2QueryDef == null) {
-      loadQueries();
+  /**
+   * @return the plan of the given query identifier, computed on first call
+   * @throws NonExistingQuery
+   */
+  private static QueryPlan getPlan(String queryIdentifier) {
+    QueryPlan plan = identifier2Plan.get(queryIdentifier);
+    if (plan == null) {
+      plan = createPlan(queryIdentifier);
+      QueryPlan existing = identifier2Plan.putIfAbsent(queryIdentifier, plan);
+      if (existing != null) {
+        plan = existing;
+      }
+    }
+    return plan;
+  }
+
+  private static QueryPlan createPlan(String queryIdentifier) {
+    ensureLoaded();
+    Set<IQuery> queries = getQuerySetForQueryIdentifier(queryIdentifier);
+    List<Integer> queryIds = new ArrayList<Integer>(queries.size());
+    Set<IQueryFilter> filters = new HashSet<IQueryFilter>();
+    for (IQuery query : queries) {
+      queryIds.add(queryToId.get(query));
+      Set<IQueryFilter> queryFilters = identifier2QueryFilters.get(query.getIdentifier());
+      if (queryFilters != null) {
+        filters.addAll(queryFilters);
+      }
     }
+    return new QueryPlan(queryIdentifier, new ArrayList<IQuery>(queries), queryIds, filters);
+  }
+
+  private static Set<IQuery> getQuerySetForQueryIdentifier(String queryIdentifier) {
+    Set<IQuery> res = new LinkedHashSet<IQuery>();
+    ensureLoaded();
     if (!identifier2QueryDef.containsKey(queryIdentifier)) {
       throw new NonExistingQuery(queryIdentifier);
     }
     String currentQueryIdentifier = queryIdentifier;
     while (currentQueryIdentifier != null) {
       IQuery query = getQuery(currentQueryIdentifier);
-      if (query != null && !res.contains(query)) {
-        res.add(query);
-        // FIXME the path here doesn't take into account multiple levels of extenders, shall be fixed
-        for (String extendingQueryId : query.getExtendingQueryIdentifiers()) {
-          IQuery extendingQuery = getQuery(extendingQueryId);
-          if (extendingQuery != null && !res.contains(extendingQuery)) {
-            res.add(extendingQuery);
-          }
+      if (query == null || res.contains(query)) {
+        break;
+      }
+      res.add(query);
+      // FIXME the path here doesn't take into account multiple levels of extenders, shall be fixed
+      for (String extendingQueryId : query.getExtendingQueryIdentifiers()) {
+        IQuery extendingQuery = getQuery(extendingQueryId);
+        if (extendingQuery != null && !res.contains(extendingQuery)) {
+          res.add(extendingQuery);
         }
-        currentQueryIdentifier = query.getExtendedQueryIdentifier();
       }
+      currentQueryIdentifier = query.getExtendedQueryIdentifier();
     }
     return res;
   }
 
-  private static IQuery getQuery(String queryIdentifier) {
+  private static synchronized IQuery getQuery(String queryIdentifier) {
     IQuery query = identifier2Query.get(queryIdentifier);
     if (query == null) {
       try {
@@ -222,7 +334,7 @@ public class QueryInterpretor {
           query.setIdentifier(queryIdentifier);
           query.setExtendedQueryIdentifier(queryIdentifier2ExtendedQueryIdentifier.get(queryIdentifier));
           identifier2Query.put(queryIdentifier, query);
-          queryToId.put(query, Integer.valueOf(queryIdCounter++));
+          queryToId.put(query, Integer.valueOf(queryIdCounter.getAndIncrement()));
         }
       } catch (CoreException exception) {
         exception.printStackTrace();
@@ -231,12 +343,23 @@ public class QueryInterpretor {
     return query;
   }
 
+  private static void ensureLoaded() {
+    if (!loaded) {
+      synchronized (QueryInterpretor.class) {
+        if (!loaded) {
+          loadQueries();
+          loaded = true;
+        }
+      }
+    }
+  }
+
   private static void loadQueries() {
     // initialize tables
-    identifier2QueryDef = new Hashtable<String, IConfigurationElement>();
-    identifier2QueryFilters = new Hashtable<String, Set<IQueryFilter>>();
-    identifier2Query = new Hashtable<String, IQuery>();
-    queryIdentifier2ExtendedQueryIdentifier = new Hashtable<String, String>();
+    identifier2QueryDef = new ConcurrentHashMap<String, IConfigurationElement>();
+    identifier2QueryFilters = new ConcurrentHashMap<String, Set<IQueryFilter>>();
+    identifier2Query = new ConcurrentHashMap<String, IQuery>();
+    queryIdentifier2ExtendedQueryIdentifier = new ConcurrentHashMap<String, String>();
     
     // load all the extensions
     IExtensionRegistry registry = Platform.getExtensionRegistry();
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.common.queries.interpretor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.polarsys.capella.common.queries.IQuery;
+import org.polarsys.capella.common.queries.filters.IQueryFilter;
+
+/**
+ * The resolution of a query identifier: the queries to execute (the query itself, the queries it extends and the ones
+ * extending it) with their cache identifiers, and the filters declared on these queries.
+ * <p>
+ * A plan is computed once per query identifier by the {@link QueryInterpretor}.
+ * </p>
+ */
+class QueryPlan {
+
+  private final String identifier;
+
+  private final List<IQuery> queries;
+
+  private final List<Integer> queryIds;
+
+  private final Set<IQueryFilter> filters;
+
+  QueryPlan(String identifier, List<IQuery> queries, List<Integer> queryIds, Set<IQueryFilter> filters) {
+    this.identifier = identifier;
+    this.queries = Collections.unmodifiableList(new ArrayList<IQuery>(queries));
+    this.queryIds = Collections.unmodifiableList(new ArrayList<Integer>(queryIds));
+    this.filters = Collections.unmodifiableSet(new HashSet<IQueryFilter>(filters));
+  }
+
+  String getIdentifier() {
+    return identifier;
+  }
+
+  /**
+   * @return the queries, in resolution order
+   */
+  List<IQuery> getQueries() {
+    return queries;
+  }
+
+  /**
+   * @return the identifiers used to cache results of the queries, in the order of {@link #getQueries()}
+   */
+  List<Integer> getQueryIds() {
+    return queryIds;
+  }
+
+  Set<IQueryFilter> getFilters() {
+    return filters;
+  }
+}
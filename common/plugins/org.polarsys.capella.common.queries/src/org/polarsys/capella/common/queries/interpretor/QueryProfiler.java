@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.common.queries.interpretor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects, per query identifier, the number of calls, the cache hits and the cumulative time of the queries executed
+ * by the {@link QueryInterpretor}.
+ * <p>
+ * The profiler is disabled by default. It can be enabled with {@link #setEnabled(boolean)}, or at startup with the
+ * <code>org.polarsys.capella.common.queries.profiler</code> system property.
+ * </p>
+ */
+public class QueryProfiler {
+
+  public static final String PROFILER_PROPERTY = "org.polarsys.capella.common.queries.profiler"; //$NON-NLS-1$
+
+  private static volatile boolean enabled = Boolean.valueOf(System.getProperty(PROFILER_PROPERTY, "false")) //$NON-NLS-1$
+      .booleanValue();
+
+  private static final Map<String, QueryStatistics> statistics = new ConcurrentHashMap<String, QueryStatistics>();
+
+  private QueryProfiler() {
+    // Static access only
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static void setEnabled(boolean enabled) {
+    QueryProfiler.enabled = enabled;
+  }
+
+  /**
+   * Clear the collected statistics.
+   */
+  public static void reset() {
+    statistics.clear();
+  }
+
+  /**
+   * @return the statistics of the given query identifier, null if it has not been profiled
+   */
+  public static QueryStatistics getStatistics(String queryIdentifier) {
+    return statistics.get(queryIdentifier);
+  }
+
+  /**
+   * @return the statistics of all profiled query identifiers, by decreasing cumulative time
+   */
+  public static List<QueryStatistics> getStatistics() {
+    List<QueryStatistics> result = new ArrayList<QueryStatistics>(statistics.values());
+    Collections.sort(result, Comparator.comparingLong(QueryStatistics::getCumulativeTime).reversed());
+    return result;
+  }
+
+  /**
+   * @return the statistics to update for the given query identifier, null if the profiler is disabled
+   */
+  static QueryStatistics getActiveStatistics(String queryIdentifier) {
+    if (!enabled) {
+      return null;
+    }
+    return statistics.computeIfAbsent(queryIdentifier, QueryStatistics::new);
+  }
+}
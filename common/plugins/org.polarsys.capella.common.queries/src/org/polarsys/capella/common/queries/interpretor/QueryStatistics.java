@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.common.queries.interpretor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of a query identifier, collected by the {@link QueryProfiler}.
+ */
+public class QueryStatistics {
+
+  private final String identifier;
+
+  private final LongAdder calls = new LongAdder();
+
+  private final LongAdder cacheHits = new LongAdder();
+
+  private final LongAdder cacheMisses = new LongAdder();
+
+  private final LongAdder time = new LongAdder();
+
+  QueryStatistics(String identifier) {
+    this.identifier = identifier;
+  }
+
+  void addCall(long duration) {
+    calls.increment();
+    time.add(duration);
+  }
+
+  void addCacheHit() {
+    cacheHits.increment();
+  }
+
+  void addCacheMiss() {
+    cacheMisses.increment();
+  }
+
+  public String getIdentifier() {
+    return identifier;
+  }
+
+  /**
+   * @return the number of executions of the query identifier through the {@link QueryInterpretor}
+   */
+  public long getCallCount() {
+    return calls.sum();
+  }
+
+  /**
+   * @return the number of times the result of the query was retrieved from the cache of a query context
+   */
+  public long getCacheHitCount() {
+    return cacheHits.sum();
+  }
+
+  /**
+   * @return the number of times the query was executed because its result was not in the cache of a query context
+   */
+  public long getCacheMissCount() {
+    return cacheMisses.sum();
+  }
+
+  /**
+   * @return the cumulative time of the executions of the query identifier, including the sub-queries it calls, in
+   *         nanoseconds
+   */
+  public long getCumulativeTime() {
+    return time.sum();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: %d calls, %d cache hits, %d cache misses, %.3f ms", identifier, //$NON-NLS-1$
+        Long.valueOf(getCallCount()), Long.valueOf(getCacheHitCount()), Long.valueOf(getCacheMissCount()),
+        Double.valueOf(getCumulativeTime() / 1e6));
+  }
+}
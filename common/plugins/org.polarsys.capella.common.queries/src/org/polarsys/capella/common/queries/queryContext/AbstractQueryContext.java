@@ -13,26 +13,30 @@
 
 package org.polarsys.capella.common.queries.queryContext;
 
-import java.util.Hashtable;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.polarsys.capella.common.queries.internal.IPrivateQueryContext;
 
 /**
+ * Caches results of queries. The cache and the call level can be accessed concurrently, when queries are executed in
+ * parallel by the QueryInterpretor.
  */
 public abstract class AbstractQueryContext implements IPrivateQueryContext {
 
-  private int callingLevel = 0;
-  private Hashtable<Integer, Hashtable<Object, List<Object>>> queryIdentifierToCacheTable = new Hashtable<Integer, Hashtable<Object, List<Object>>>();
+  private final AtomicInteger callingLevel = new AtomicInteger();
+  private volatile Map<Integer, Map<Object, List<Object>>> queryIdentifierToCacheTable = new ConcurrentHashMap<Integer, Map<Object, List<Object>>>();
 
   @Override
   public int getExecutionLevel() {
-    return callingLevel;
+    return callingLevel.get();
   }
 
   @Override
   public List<Object> getResultFromCache(Integer queryId, Object semanticsObject) {
-    Hashtable<Object, List<Object>> cacheTable = queryIdentifierToCacheTable.get(queryId);
+    Map<Object, List<Object>> cacheTable = queryIdentifierToCacheTable.get(queryId);
     if (cacheTable == null) {
       return null;
     }
@@ -41,26 +45,23 @@ public abstract class AbstractQueryContext implements IPrivateQueryContext {
 
   @Override
   public void addInCache(Integer queryId, Object semanticsObject, List<Object> res) {
-    Hashtable<Object, List<Object>> cacheTable = queryIdentifierToCacheTable.get(queryId);
-    if (cacheTable == null) {
-      cacheTable = new Hashtable<Object, List<Object>>();
-      queryIdentifierToCacheTable.put(queryId, cacheTable);
-    }
+    Map<Object, List<Object>> cacheTable = queryIdentifierToCacheTable.computeIfAbsent(queryId,
+        id -> new ConcurrentHashMap<Object, List<Object>>());
     cacheTable.put(semanticsObject, res);
   }
 
   @Override
   public void resetCache() {
-    queryIdentifierToCacheTable = new Hashtable<Integer, Hashtable<Object, List<Object>>>();
+    queryIdentifierToCacheTable = new ConcurrentHashMap<Integer, Map<Object, List<Object>>>();
   }
 
   @Override
   public void incCallLevel() {
-    callingLevel++;
+    callingLevel.incrementAndGet();
   }
 
   @Override
   public void decCallLevel() {
-    callingLevel--;
+    callingLevel.decrementAndGet();
   }
 }
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.polarsys.capella.common.queries.queryContext;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -21,7 +22,7 @@ import org.polarsys.capella.common.queries.exceptions.EntryAlreadyExistInContext
  */
 public class QueryContext extends AbstractQueryContext {
 
-  private final Map<String, Object> map = new HashMap<String, Object>();
+  private final Map<String, Object> map = Collections.synchronizedMap(new HashMap<String, Object>());
 
   @Override
   public boolean hasValue(String key) {
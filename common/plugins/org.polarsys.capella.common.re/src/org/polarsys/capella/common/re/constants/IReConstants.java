@@ -100,6 +100,8 @@ public class IReConstants {
   // All links to keep after tooling. Some links will be deleted
   public static final String CREATED_LINKS_TO_KEEP = "CREATED_LINKS_TO_KEEP";
   public static final String ADDITIONAL_ELEMENTS_TO_DELETE = "ADDITIONAL_ELEMENTS_TO_DELETE";
+  // Index of CatalogElementLinks by target and origin, maintained while links are added
+  public static final String CATALOG_ELEMENT_LINK_INDEX = "CATALOG_ELEMENT_LINK_INDEX";
 
   public static final String PLUGIN_ID = "org.polarsys.capella.common.re"; //$NON-NLS-1$
   public static final String PROPERTY__LOCATION_TARGET = "locationTarget"; //$NON-NLS-1$
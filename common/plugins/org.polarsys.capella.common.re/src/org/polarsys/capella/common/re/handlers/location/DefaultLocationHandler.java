@@ -121,13 +121,7 @@ public class DefaultLocationHandler implements ILocationHandler {
   }
 
   protected CatalogElementLink getAllLink(CatalogElement element, EObject target, IContext context) {
-    Collection<CatalogElementLink> links = ReplicableElementHandlerHelper.getInstance(context).getAllElementsLinks(element);
-    for (CatalogElementLink link : links) {
-      if ((target != null) && target.equals(link.getTarget())) {
-        return link;
-      }
-    }
-    return null;
+    return ReplicableElementHandlerHelper.getInstance(context).getLinkIndex(context).getLink(element, target);
   }
 
   /**
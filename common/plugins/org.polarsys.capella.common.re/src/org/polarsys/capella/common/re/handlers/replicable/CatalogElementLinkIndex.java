@@ -0,0 +1,277 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.common.re.handlers.replicable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.polarsys.capella.common.queries.interpretor.QueryInterpretor;
+import org.polarsys.capella.common.queries.queryContext.QueryContext;
+import org.polarsys.capella.common.re.CatalogElement;
+import org.polarsys.capella.common.re.CatalogElementLink;
+import org.polarsys.capella.common.re.RePackage;
+import org.polarsys.capella.common.re.queries.CatalogElement_AllUsedCatalogElements;
+
+/**
+ * Index of the links returned by {@link ReplicableElementHandler#getAllElementsLinks(CatalogElement)}, by target and by
+ * origin, so that a link of a REC/RPL can be retrieved without scanning all its links.
+ *
+ * The index of a catalog element is built on its first lookup. It is then maintained from the notifications of the
+ * indexed catalog elements and links, whoever modifies them (handlers, diffmerge, activities): a link appended to an
+ * indexed catalog element is indexed, a change of the target or origin of a link is reported in the index, any other
+ * change of the owned links drops the index of the catalog elements concerned. {@link #clear()} must be called at the
+ * end of the operation to detach the index from the model.
+ */
+public class CatalogElementLinkIndex {
+
+  private final Map<CatalogElement, Entry> entries = new HashMap<>();
+
+  private final Set<Notifier> observed = new HashSet<>();
+
+  private final AdapterImpl observer = new AdapterImpl() {
+    @Override
+    public void notifyChanged(Notification notification) {
+      if (!notification.isTouch()) {
+        CatalogElementLinkIndex.this.notifyChanged(notification);
+      }
+    }
+  };
+
+  /**
+   * Returns the first link of getAllElementsLinks(element) targeting the given value, or null if none
+   */
+  public CatalogElementLink getLink(CatalogElement element, EObject target) {
+    if ((element == null) || (target == null)) {
+      return null;
+    }
+    return first(getEntry(element).byTarget.get(target));
+  }
+
+  /**
+   * Returns the first link of getAllElementsLinks(element) whose origin is the given link, or null if none
+   */
+  public CatalogElementLink getLinkByOrigin(CatalogElement element, CatalogElementLink origin) {
+    if ((element == null) || (origin == null)) {
+      return null;
+    }
+    return first(getEntry(element).byOrigin.get(origin));
+  }
+
+  /**
+   * Returns whether the given link belongs to getAllElementsLinks(element)
+   */
+  public boolean contains(CatalogElement element, CatalogElementLink link) {
+    if ((element == null) || (link == null) || (link.getTarget() == null)) {
+      return false;
+    }
+    return getEntry(element).positions.containsKey(link);
+  }
+
+  /**
+   * Returns the position of the given link in getAllElementsLinks(element), only relevant to compare links of the same
+   * element
+   */
+  public long getPosition(CatalogElement element, CatalogElementLink link) {
+    Long position = getEntry(element).positions.get(link);
+    return position == null ? Long.MAX_VALUE : position.longValue();
+  }
+
+  /**
+   * Forget all indexed links and stop observing the model, links will be indexed again on next lookup
+   */
+  public void clear() {
+    entries.clear();
+    for (Notifier notifier : observed) {
+      notifier.eAdapters().remove(observer);
+    }
+    observed.clear();
+  }
+
+  protected Entry getEntry(CatalogElement element) {
+    Entry entry = entries.get(element);
+    if ((entry == null) || !entry.isUpToDate()) {
+      entry = rebuild(element);
+    }
+    return entry;
+  }
+
+  protected Entry rebuild(CatalogElement element) {
+    Entry entry = new Entry();
+    Collection<CatalogElement> elements = QueryInterpretor
+        .executeQuery(CatalogElement_AllUsedCatalogElements.class.getSimpleName(), element, new QueryContext());
+    for (CatalogElement usedElement : elements) {
+      if (!entry.sizes.containsKey(usedElement)) {
+        entry.ranks.put(usedElement, entry.sizes.size());
+        entry.sizes.put(usedElement, usedElement.getOwnedLinks().size());
+        observe(usedElement);
+        int index = 0;
+        for (CatalogElementLink link : usedElement.getOwnedLinks()) {
+          entry.add(link, usedElement, index);
+          observe(link);
+          index++;
+        }
+      }
+    }
+    entries.put(element, entry);
+    return entry;
+  }
+
+  protected void observe(Notifier notifier) {
+    if (observed.add(notifier)) {
+      notifier.eAdapters().add(observer);
+    }
+  }
+
+  protected void notifyChanged(Notification notification) {
+    Object feature = notification.getFeature();
+
+    if (feature == RePackage.Literals.CATALOG_ELEMENT_LINK__TARGET) {
+      if ((notification.getOldValue() instanceof CatalogElement)
+          || (notification.getNewValue() instanceof CatalogElement)) {
+        // The catalog elements used by the indexed ones may change
+        entries.clear();
+        return;
+      }
+      CatalogElementLink link = (CatalogElementLink) notification.getNotifier();
+      for (Entry entry : entries.values()) {
+        if (entry.positions.containsKey(link)) {
+          // A link without target is not indexed by origin either
+          entry.remove(entry.byTarget, (EObject) notification.getOldValue(), link);
+          entry.remove(entry.byOrigin, link.getOrigin(), link);
+          entry.put(entry.byTarget, link.getTarget(), link);
+          entry.put(entry.byOrigin, link.getOrigin(), link);
+        }
+      }
+
+    } else if (feature == RePackage.Literals.CATALOG_ELEMENT_LINK__ORIGIN) {
+      CatalogElementLink link = (CatalogElementLink) notification.getNotifier();
+      for (Entry entry : entries.values()) {
+        if (entry.positions.containsKey(link)) {
+          entry.remove(entry.byOrigin, (CatalogElementLink) notification.getOldValue(), link);
+          entry.put(entry.byOrigin, (CatalogElementLink) notification.getNewValue(), link);
+        }
+      }
+
+    } else if (feature == RePackage.Literals.CATALOG_ELEMENT__OWNED_LINKS) {
+      CatalogElement owner = (CatalogElement) notification.getNotifier();
+      boolean appended = (notification.getEventType() == Notification.ADD)
+          && (notification.getPosition() == owner.getOwnedLinks().size() - 1);
+      CatalogElementLink link = appended ? (CatalogElementLink) notification.getNewValue() : null;
+      if ((link != null) && (link.getTarget() instanceof CatalogElement)) {
+        entries.clear();
+        return;
+      }
+      for (Iterator<Entry> it = entries.values().iterator(); it.hasNext();) {
+        Entry entry = it.next();
+        if (entry.sizes.containsKey(owner)) {
+          if ((link != null) && entry.isUpToDate(owner, 1)) {
+            entry.add(link, owner, owner.getOwnedLinks().size() - 1);
+            entry.sizes.put(owner, owner.getOwnedLinks().size());
+          } else {
+            it.remove();
+          }
+        }
+      }
+      if (link != null) {
+        observe(link);
+      }
+    }
+  }
+
+  private static CatalogElementLink first(List<CatalogElementLink> links) {
+    return (links == null) || links.isEmpty() ? null : links.get(0);
+  }
+
+  /**
+   * Links of a catalog element and of all the catalog elements it uses, in the order of getAllElementsLinks
+   */
+  protected static class Entry {
+
+    /** Number of owned links of each indexed catalog element */
+    final Map<CatalogElement, Integer> sizes = new HashMap<>();
+
+    /** Rank of each indexed catalog element in getAllElementsLinks */
+    final Map<CatalogElement, Integer> ranks = new HashMap<>();
+
+    /** Position of each owned link, the rank of its catalog element then its rank in the owned links */
+    final Map<CatalogElementLink, Long> positions = new HashMap<>();
+
+    /** Links with a target, by target, ordered by position */
+    final Map<EObject, List<CatalogElementLink>> byTarget = new HashMap<>();
+
+    /** Links with a target, by origin, ordered by position */
+    final Map<EObject, List<CatalogElementLink>> byOrigin = new HashMap<>();
+
+    /**
+     * Returns whether the number of owned links of the indexed catalog elements is the indexed one, as a safeguard
+     * against changes made without notification
+     */
+    boolean isUpToDate() {
+      for (Map.Entry<CatalogElement, Integer> size : sizes.entrySet()) {
+        if (size.getKey().getOwnedLinks().size() != size.getValue().intValue()) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * Returns whether the given element is indexed and has received the given number of links since last update
+     */
+    boolean isUpToDate(CatalogElement element, int added) {
+      Integer size = sizes.get(element);
+      return (size != null) && (element.getOwnedLinks().size() == size.intValue() + added);
+    }
+
+    void add(CatalogElementLink link, CatalogElement owner, int index) {
+      long rank = ranks.get(owner).longValue();
+      positions.put(link, (rank << 32) | index);
+      put(byTarget, link.getTarget(), link);
+      put(byOrigin, link.getOrigin(), link);
+    }
+
+    void put(Map<EObject, List<CatalogElementLink>> map, EObject key, CatalogElementLink link) {
+      // Links without target are not returned by getAllElementsLinks
+      if ((key == null) || (link.getTarget() == null)) {
+        return;
+      }
+      List<CatalogElementLink> links = map.computeIfAbsent(key, k -> new ArrayList<>(1));
+      long position = positions.get(link).longValue();
+      int i = links.size();
+      while ((i > 0) && (positions.get(links.get(i - 1)).longValue() > position)) {
+        i--;
+      }
+      links.add(i, link);
+    }
+
+    void remove(Map<EObject, List<CatalogElementLink>> map, EObject key, CatalogElementLink link) {
+      List<CatalogElementLink> links = map.get(key);
+      if (links != null) {
+        links.remove(link);
+        if (links.isEmpty()) {
+          map.remove(key);
+        }
+      }
+    }
+  }
+}
@@ -145,6 +145,16 @@ public class ReplicableElementHandler implements IReplicableElementHandler {
     return (Collection<CatalogElementLink>) context.get(LINKS);
   }
 
+  /**
+   * Returns the index of the links of the catalog elements handled by the current operation
+   */
+  public CatalogElementLinkIndex getLinkIndex(IContext context) {
+    if (!context.exists(IReConstants.CATALOG_ELEMENT_LINK_INDEX)) {
+      context.put(IReConstants.CATALOG_ELEMENT_LINK_INDEX, new CatalogElementLinkIndex());
+    }
+    return (CatalogElementLinkIndex) context.get(IReConstants.CATALOG_ELEMENT_LINK_INDEX);
+  }
+
   public CatalogElementPkg getRootPackage(EObject object) {
     //TODO SHARED
     return ReFactory.eINSTANCE.createCatalogElementPkg();
@@ -218,18 +228,22 @@ public class ReplicableElementHandler implements IReplicableElementHandler {
 
   public CatalogElementLink addLink(IContext context, CatalogElement element, EObject value, EObject oppositeValue) {
 
-    for (CatalogElementLink link : ReplicableElementHandlerHelper.getInstance(context).getAllElementsLinks(element)) {
-      if (value.equals(link.getTarget())) {
-        return null;
-      }
-      if ((oppositeValue != null) && oppositeValue.equals(link.getTarget())) {
-        if (ContextScopeHandlerHelper.getInstance(context).contains(IReConstants.VIRTUAL_LINKS, link, context)) {
-          link.setTarget(value);
-          link.setSource(element);
-          ContextScopeHandlerHelper.getInstance(context).remove(IReConstants.VIRTUAL_LINKS, link, context);
-        }
-        return link;
+    // Look for the first link of getAllElementsLinks(element) targeting either the value or the opposite value
+    CatalogElementLinkIndex index = getLinkIndex(context);
+    CatalogElementLink valueLink = index.getLink(element, value);
+    CatalogElementLink oppositeLink = index.getLink(element, oppositeValue);
+
+    if ((valueLink != null)
+        && ((oppositeLink == null) || (index.getPosition(element, valueLink) <= index.getPosition(element, oppositeLink)))) {
+      return null;
+    }
+    if (oppositeLink != null) {
+      if (ContextScopeHandlerHelper.getInstance(context).contains(IReConstants.VIRTUAL_LINKS, oppositeLink, context)) {
+        oppositeLink.setTarget(value);
+        oppositeLink.setSource(element);
+        ContextScopeHandlerHelper.getInstance(context).remove(IReConstants.VIRTUAL_LINKS, oppositeLink, context);
       }
+      return oppositeLink;
     }
 
     CatalogElementLink link = ReFactory.eINSTANCE.createCatalogElementLink();
@@ -242,15 +256,14 @@ public class ReplicableElementHandler implements IReplicableElementHandler {
 
   public boolean isIndirectlyReferencedBy(EObject element, CatalogElement re, IContext context) {
     LinkedList<CatalogElement> elements = new LinkedList<CatalogElement>();
-    LinkedList<CatalogElement> visited = new LinkedList<CatalogElement>();
+    HashSet<CatalogElement> visited = new HashSet<CatalogElement>();
 
     elements.addAll(getIndirectlyReplicableElements(context, (Collection) Collections.singleton(element)));
 
     while (!(elements.isEmpty())) {
       CatalogElement elt = elements.removeFirst();
 
-      if (!visited.contains(elt)) {
-        visited.add(elt);
+      if (visited.add(elt)) {
 
         if ((elt != null) && elt.equals(re)) {
           return true;
@@ -472,13 +485,12 @@ public class ReplicableElementHandler implements IReplicableElementHandler {
    */
   public Collection<CatalogElement> getAllUsedReplicableElements(CatalogElement source) {
     LinkedList<CatalogElement> toVisit = new LinkedList<>();
-    LinkedList<CatalogElement> visited = new LinkedList<>();
+    LinkedHashSet<CatalogElement> visited = new LinkedHashSet<>();
     toVisit.add(source);
 
     while (!toVisit.isEmpty()) {
       CatalogElement visitedRE = toVisit.removeFirst();
-      if (!visited.contains(visitedRE)) {
-        visited.add(visitedRE);
+      if (visited.add(visitedRE)) {
         if (visitedRE != null) {
           for (CatalogElementLink link : visitedRE.getOwnedLinks()) {
             if ((link != null) && (link.getTarget() != null) && (link.getTarget() instanceof CatalogElement)) {
@@ -504,6 +516,7 @@ public class ReplicableElementHandler implements IReplicableElementHandler {
    */
   @Override
   public IStatus dispose(IContext context) {
+    getLinkIndex(context).clear();
     return Status.OK_STATUS;
   }
 
@@ -601,6 +614,7 @@ public class ReplicableElementHandler implements IReplicableElementHandler {
       }
       AttachmentHelper.getInstance(context).removeElements(toRemove, context);
     }
+    getLinkIndex(context).clear();
 
     createdLinks.clear();
     virtualLinks.clear();
@@ -678,17 +692,16 @@ public class ReplicableElementHandler implements IReplicableElementHandler {
       element = source;
     }
 
-    Collection<CatalogElementLink> usedLinks = ReplicableElementHandlerHelper.getInstance(context).getAllElementsLinks(element, new QueryContext());
-    for (CatalogElementLink usedLink : usedLinks) {
-      if ((usedLink != null) && (usedLink.getOrigin() != null) && usedLink.getOrigin().equals(link)) {
-        return usedLink;
-      }
-      if ((link != null) && (link.getOrigin() != null) && link.getOrigin().equals(usedLink)) {
-        return usedLink;
-      }
-    }
+    // First link of getAllElementsLinks(element) being either a replica or the origin of the given link
+    CatalogElementLinkIndex index = getLinkIndex(context);
+    CatalogElementLink replicaLink = index.getLinkByOrigin(element, link);
+    CatalogElementLink originLink = index.contains(element, link.getOrigin()) ? link.getOrigin() : null;
 
-    return null;
+    if ((replicaLink != null)
+        && ((originLink == null) || (index.getPosition(element, replicaLink) < index.getPosition(element, originLink)))) {
+      return replicaLink;
+    }
+    return originLink;
   }
 
   public CatalogElement createInitialReplica(CatalogElement source, CatalogElement target, IContext context) {
@@ -13,12 +13,18 @@
 
 package org.polarsys.capella.common.re.launcher;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.osgi.util.NLS;
 import org.polarsys.capella.common.re.constants.IReConstants;
 import org.polarsys.capella.core.transition.common.constants.ITransitionConstants;
+import org.polarsys.capella.core.transition.common.constants.Messages;
 import org.polarsys.capella.core.transition.common.handlers.merge.DefaultMergeHandler;
 import org.polarsys.capella.core.transition.common.handlers.merge.IMergeHandler;
+import org.polarsys.capella.core.transition.common.handlers.log.LogHelper;
 import org.polarsys.capella.core.transition.common.launcher.DefaultLauncher;
 import org.polarsys.kitalpha.cadence.core.api.parameter.GenericParameter;
+import org.polarsys.kitalpha.cadence.core.api.parameter.WorkflowActivityParameter;
 import org.polarsys.kitalpha.transposer.rules.handler.api.IRulesHandler;
 
 /**
@@ -46,6 +52,21 @@ public abstract class ReLauncher extends DefaultLauncher {
     removeSharedParameter(org.polarsys.capella.core.transition.common.activities.InitializeTransitionActivity.PARAMETER_RULE_HANDLER);
   }
   
+  /**
+   * Reports the duration of each phase (initialization, transposition, diffmerge, finalization) of the operation
+   */
+  @Override
+  protected IStatus triggerActivities(WorkflowActivityParameter activities, String workflowId, String workflowElement,
+      IProgressMonitor monitor) {
+    long start = System.currentTimeMillis();
+    try {
+      return super.triggerActivities(activities, workflowId, workflowElement, monitor);
+    } finally {
+      LogHelper.getInstance().info(NLS.bind("{0} - {1}: {2} ms", new Object[] { getKind(), workflowElement,
+          System.currentTimeMillis() - start }), Messages.Activity_Transition);
+    }
+  }
+
   @Override
   protected String getPurpose() {
     return "org.polarsys.capella.common.re";
@@ -13,7 +13,9 @@
 
 package org.polarsys.capella.common.tools.report.appenders.reportlogview;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IMarkerDelta;
@@ -71,13 +73,20 @@ abstract class AbstractMarkerViewContentProvider implements ITreeContentProvider
    * Deletes all markers that this content provider knows about.
    */
   public void clear(){
+    List<IMarker> lightMarkers = new ArrayList<IMarker>();
     for (IMarker marker : helper.findMarkers((IResource) viewer.getInput())) {
+      if (marker instanceof LightMarkerRegistry.LightMarker) {
+        // light markers are deleted at once
+        lightMarkers.add(marker);
+        continue;
+      }
       try {
         marker.delete();
       } catch (CoreException e) {
         MarkerViewPlugin.getDefault().getLog().log(new Status(IStatus.ERROR, MarkerViewPlugin.PLUGIN_ID, e.getLocalizedMessage(), e));
       }
     }
+    LightMarkerRegistry.getInstance().deleteMarkers(lightMarkers);
     viewerRefresh.refresh();
   }
 
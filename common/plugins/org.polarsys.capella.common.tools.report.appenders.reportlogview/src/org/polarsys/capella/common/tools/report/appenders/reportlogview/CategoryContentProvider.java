@@ -14,7 +14,9 @@
 package org.polarsys.capella.common.tools.report.appenders.reportlogview;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -51,9 +53,7 @@ class CategoryContentProvider extends AbstractMarkerViewContentProvider implemen
     ecoreMarkers = new ArrayList<IMarker>();
     messages = new ArrayList<IMarker>();
     
-    for (IMarker m : findMarkers()){
-      markerAdded(m);
-    }
+    markersAdded(findMarkers());
   }
 
   /**
@@ -155,7 +155,6 @@ class CategoryContentProvider extends AbstractMarkerViewContentProvider implemen
     } else {
       messages.add(marker);
     }
-    viewerRefresh.refresh();
   }
   
   /**
@@ -163,6 +162,35 @@ class CategoryContentProvider extends AbstractMarkerViewContentProvider implemen
    */
   public synchronized void markerAdded(IMarker marker) {
     markerAddedIntern(marker);
+    viewerRefresh.refresh();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized void markersAdded(Collection<IMarker> added) {
+    for (IMarker marker : added){
+      markerAddedIntern(marker);
+    }
+    viewerRefresh.refresh();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized void markersDeleted(Collection<IMarker> deleted) {
+    // can't get the category from a marker after it has been deleted, so all categories are cleaned up at once.
+    HashSet<IMarker> toRemove = new HashSet<IMarker>(deleted);
+    boolean removed = ecoreMarkers.removeAll(toRemove);
+    for (List<IMarker> children : markers.values()){
+      removed |= children.removeAll(toRemove);
+    }
+    removed |= messages.removeAll(toRemove);
+    if (removed){
+      viewerRefresh.refresh();
+    }
   }
 
   /**
@@ -13,6 +13,8 @@
 
 package org.polarsys.capella.common.tools.report.appenders.reportlogview;
 
+import java.util.Collection;
+
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IMarkerDelta;
 
@@ -35,6 +37,28 @@ public interface IMarkerSourceListener {
    */
   public void markerDeleted(IMarker marker);
   
+  /**
+   * Several markers were added at once.
+   * By default, {@link #markerAdded(IMarker)} is called for each marker.
+   * @param markers
+   */
+  default void markersAdded(Collection<IMarker> markers) {
+    for (IMarker marker : markers) {
+      markerAdded(marker);
+    }
+  }
+  
+  /**
+   * Several markers were deleted at once.
+   * By default, {@link #markerDeleted(IMarker)} is called for each marker.
+   * @param markers
+   */
+  default void markersDeleted(Collection<IMarker> markers) {
+    for (IMarker marker : markers) {
+      markerDeleted(marker);
+    }
+  }
+  
   /**
    * Currently unused.
    * @param marker
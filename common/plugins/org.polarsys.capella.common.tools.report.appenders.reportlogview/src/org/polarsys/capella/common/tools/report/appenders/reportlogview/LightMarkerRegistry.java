@@ -17,8 +17,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
@@ -42,13 +44,30 @@ import org.polarsys.capella.common.mdsofa.common.constant.ICommonConstants;
  * - All marker attributes have to be set upon creation with the help of a callback argument (see createMarker() below).
  * <br>
  * This class is thread safe.<br>
- * Listeners are notified on the thread that created/deleted a marker.
+ * Listeners are notified on the thread that created/deleted a marker. Markers created or deleted together (see
+ * {@link #createMarkers(IResource, Collection, String, IMarkerModification)}, {@link #deleteMarkers(Collection)} and
+ * {@link #runBatch(Runnable)}) are notified at once.<br>
+ * Markers are indexed by resource, by target element and by validation rule id.
  */
 public class LightMarkerRegistry implements IMarkerSource {
 
   private static final LightMarkerRegistry _instance = new LightMarkerRegistry();
 
-  private List<IMarker> _registry = Collections.synchronizedList(new ArrayList<IMarker>());
+  private Set<IMarker> _registry = Collections.synchronizedSet(new LinkedHashSet<IMarker>());
+
+  /**
+   * Indexes of the registry, guarded by the registry lock.
+   */
+  private final Map<IResource, Set<IMarker>> markersByResource = new HashMap<IResource, Set<IMarker>>();
+
+  private final Map<EObject, Set<IMarker>> markersByTarget = new HashMap<EObject, Set<IMarker>>();
+
+  private final Map<String, Set<IMarker>> markersByRuleId = new HashMap<String, Set<IMarker>>();
+
+  /**
+   * Changes whose notification is deferred until the end of the current {@link #runBatch(Runnable)}, per thread.
+   */
+  private final ThreadLocal<List<MarkerChange>> currentBatch = new ThreadLocal<List<MarkerChange>>();
 
   /**
    * Legacy content provider style observers
@@ -95,25 +114,70 @@ public class LightMarkerRegistry implements IMarkerSource {
   }
 
   protected void notifyRegistryChanged(IMarker oldValue, IMarker newValue) {
+    if ((oldValue == null) && (newValue != null)) {
+      notifyRegistryChanged(true, Collections.singletonList(newValue));
+    } else if ((oldValue != null) && (newValue == null)) {
+      notifyRegistryChanged(false, Collections.singletonList(oldValue));
+    }
+  }
+
+  /**
+   * Notify listeners about added or deleted markers, or defer the notification if a batch is running.
+   */
+  protected void notifyRegistryChanged(boolean added, List<IMarker> markers) {
+    List<MarkerChange> batch = currentBatch.get();
+    if (batch != null) {
+      MarkerChange last = batch.isEmpty() ? null : batch.get(batch.size() - 1);
+      if ((last != null) && (last.added == added)) {
+        last.markers.addAll(markers);
+      } else {
+        batch.add(new MarkerChange(added, markers));
+      }
+      return;
+    }
+
     List<IContentProvider> oldObservers = getObservers();
     synchronized (oldObservers) {
       for (IContentProvider observer : oldObservers) {
-        observer.inputChanged(null, oldValue, newValue);
+        for (IMarker marker : markers) {
+          observer.inputChanged(null, added ? null : marker, added ? marker : null);
+        }
       }
     }
+    List<IMarker> notified = Collections.unmodifiableList(markers);
     synchronized (listeners) {
-      if ((oldValue == null) && (newValue != null)) {
-        for (IMarkerSourceListener listener : listeners) {
-          listener.markerAdded(newValue);
-        }
-      } else if ((oldValue != null) && (newValue == null)) {
-        for (IMarkerSourceListener listener : listeners) {
-          listener.markerDeleted(oldValue);
+      for (IMarkerSourceListener listener : listeners) {
+        if (added) {
+          listener.markersAdded(notified);
+        } else {
+          listener.markersDeleted(notified);
         }
       }
     }
   }
 
+  /**
+   * Run the given runnable, and notify listeners once about the markers it created and deleted on the current thread.
+   * Markers are added to and removed from the registry immediately, only notifications are deferred.
+   */
+  public void runBatch(Runnable runnable) {
+    if (currentBatch.get() != null) {
+      // Nested batch, notifications are sent by the outermost one
+      runnable.run();
+      return;
+    }
+    List<MarkerChange> batch = new ArrayList<MarkerChange>();
+    currentBatch.set(batch);
+    try {
+      runnable.run();
+    } finally {
+      currentBatch.remove();
+      for (MarkerChange change : batch) {
+        notifyRegistryChanged(change.added, change.markers);
+      }
+    }
+  }
+
   /**
    * A shortcut for
    * 
@@ -150,21 +214,144 @@ public class LightMarkerRegistry implements IMarkerSource {
    */
   public IMarker createMarker(IResource fileResource, Diagnostic diagnostic, String markerType,
       IMarkerModification modification) {
-    LightMarker marker = new LightMarker(fileResource, markerType, diagnostic);
+    return createMarkers(fileResource, Collections.singletonList(diagnostic), markerType, modification).get(0);
+  }
+
+  /**
+   * Create a marker of a specific type for each diagnostic and apply the given modification to each of them.
+   * Listeners are notified once about all created markers.
+   * 
+   * @see #createMarker(IResource, Diagnostic, String, IMarkerModification)
+   * @return the created markers, in the order of the diagnostics
+   */
+  public List<IMarker> createMarkers(IResource fileResource, Collection<? extends Diagnostic> diagnostics,
+      String markerType, IMarkerModification modification) {
+    List<IMarker> created = new ArrayList<IMarker>(diagnostics.size());
+    for (Diagnostic diagnostic : diagnostics) {
+      LightMarker marker = new LightMarker(fileResource, markerType, diagnostic);
+      if (modification != null) {
+        modification.modify(marker);
+      }
+      created.add(marker);
+    }
 
-    if (modification != null) {
-      modification.modify(marker);
+    synchronized (_registry) {
+      for (IMarker marker : created) {
+        _registry.add(marker);
+        index(marker);
+      }
+    }
+    if (!created.isEmpty()) {
+      notifyRegistryChanged(true, new ArrayList<IMarker>(created));
     }
+    return created;
+  }
 
-    _registry.add(marker);
-    notifyRegistryChanged(null, marker);
-    return marker;
+  /**
+   * Delete the given markers from the registry. Listeners are notified once about all deleted markers.
+   */
+  public void deleteMarkers(Collection<? extends IMarker> markers) {
+    List<IMarker> deleted = new ArrayList<IMarker>(markers.size());
+    synchronized (_registry) {
+      for (IMarker marker : markers) {
+        if (_registry.remove(marker)) {
+          unindex(marker);
+          deleted.add(marker);
+        }
+      }
+    }
+    if (!deleted.isEmpty()) {
+      notifyRegistryChanged(false, deleted);
+    }
   }
 
   public boolean hasMarkers() {
     return !_registry.isEmpty();
   }
 
+  /**
+   * Returns the markers attached to the given resource.
+   */
+  public Collection<IMarker> getMarkers(IResource resource) {
+    return getIndexedMarkers(markersByResource, resource);
+  }
+
+  /**
+   * Returns the markers whose diagnostic data contains the given element.
+   */
+  public Collection<IMarker> getMarkers(EObject target) {
+    return getIndexedMarkers(markersByTarget, target);
+  }
+
+  /**
+   * Returns the markers of the given qualified validation rule id.
+   * 
+   * @see MarkerViewHelper#getRuleID(IMarker, boolean)
+   */
+  public Collection<IMarker> getMarkersForRule(String ruleId) {
+    return getIndexedMarkers(markersByRuleId, ruleId);
+  }
+
+  private <K> Collection<IMarker> getIndexedMarkers(Map<K, Set<IMarker>> index, K key) {
+    synchronized (_registry) {
+      Set<IMarker> markers = index.get(key);
+      if (markers == null) {
+        return Collections.emptyList();
+      }
+      return new ArrayList<IMarker>(markers);
+    }
+  }
+
+  private void index(IMarker marker) {
+    addToIndex(markersByResource, marker.getResource(), marker);
+    for (EObject target : getTargets(marker)) {
+      addToIndex(markersByTarget, target, marker);
+    }
+    addToIndex(markersByRuleId, MarkerViewHelper.getRuleID(marker, true), marker);
+  }
+
+  private void unindex(IMarker marker) {
+    removeFromIndex(markersByResource, marker.getResource(), marker);
+    for (EObject target : getTargets(marker)) {
+      removeFromIndex(markersByTarget, target, marker);
+    }
+    removeFromIndex(markersByRuleId, MarkerViewHelper.getRuleID(marker, true), marker);
+  }
+
+  private <K> void addToIndex(Map<K, Set<IMarker>> index, K key, IMarker marker) {
+    if (key != null) {
+      Set<IMarker> markers = index.get(key);
+      if (markers == null) {
+        markers = new LinkedHashSet<IMarker>();
+        index.put(key, markers);
+      }
+      markers.add(marker);
+    }
+  }
+
+  private <K> void removeFromIndex(Map<K, Set<IMarker>> index, K key, IMarker marker) {
+    if (key != null) {
+      Set<IMarker> markers = index.get(key);
+      if ((markers != null) && markers.remove(marker) && markers.isEmpty()) {
+        index.remove(key);
+      }
+    }
+  }
+
+  private Collection<EObject> getTargets(IMarker marker) {
+    Diagnostic diagnostic = (Diagnostic) marker.getAdapter(Diagnostic.class);
+    if ((diagnostic == null) || (diagnostic.getData() == null)) {
+      return Collections.emptyList();
+    }
+    List<EObject> targets = new ArrayList<EObject>();
+    for (Object data : diagnostic.getData()) {
+      if (data instanceof EObject) {
+        targets.add((EObject) data);
+      }
+    }
+    return targets;
+  }
+
   /**
    * Returns an unmodifiable view of markers stored by this IMarkerSource. Deleting a marker in this view while
    * iterating over its contents will throw a ConcurrentModificationException.
@@ -174,18 +361,47 @@ public class LightMarkerRegistry implements IMarkerSource {
   }
 
   public void purgeMarkers() {
-    Iterator<IMarker> markers = _registry.iterator();
-    while (markers.hasNext()) {
-      IMarker marker = markers.next();
-      if (isPurgeable(marker)) {
-        try {
-          markers.remove();
-          marker.delete();
-        } catch (Exception e) {
-          // Nothing here
+    List<IMarker> purgeable = new ArrayList<IMarker>();
+    synchronized (_registry) {
+      for (IMarker marker : _registry) {
+        if (isPurgeable(marker)) {
+          purgeable.add(marker);
+        }
+      }
+    }
+    deleteMarkers(purgeable);
+  }
+
+  /**
+   * Delete the purgeable markers targeting the given removed elements or their contents. Unlike
+   * {@link #purgeMarkers()}, only the markers of the given elements are checked.
+   */
+  public void purgeMarkers(Collection<? extends EObject> removedElements) {
+    List<IMarker> purgeable = new ArrayList<IMarker>();
+    synchronized (_registry) {
+      if (markersByTarget.isEmpty()) {
+        return;
+      }
+      Set<IMarker> candidates = new LinkedHashSet<IMarker>();
+      for (EObject removedElement : removedElements) {
+        addCandidates(markersByTarget.get(removedElement), candidates);
+        for (Iterator<EObject> contents = removedElement.eAllContents(); contents.hasNext();) {
+          addCandidates(markersByTarget.get(contents.next()), candidates);
+        }
+      }
+      for (IMarker marker : candidates) {
+        if (isPurgeable(marker)) {
+          purgeable.add(marker);
         }
       }
     }
+    deleteMarkers(purgeable);
+  }
+
+  private void addCandidates(Set<IMarker> markers, Set<IMarker> candidates) {
+    if (markers != null) {
+      candidates.addAll(markers);
+    }
   }
 
   protected boolean isPurgeable(IMarker marker) {
@@ -254,8 +470,7 @@ public class LightMarkerRegistry implements IMarkerSource {
      */
     @SuppressWarnings("synthetic-access")
     public void delete() throws CoreException {
-      _registry.remove(this);
-      notifyRegistryChanged(this, null);
+      deleteMarkers(Collections.singletonList(this));
     }
 
     /**
@@ -475,6 +690,19 @@ public class LightMarkerRegistry implements IMarkerSource {
     }
   }
 
+  /**
+   * Markers added or deleted together, waiting for the end of a batch to be notified.
+   */
+  private static class MarkerChange {
+    final boolean added;
+    final List<IMarker> markers;
+
+    MarkerChange(boolean added, List<IMarker> markers) {
+      this.added = added;
+      this.markers = new ArrayList<IMarker>(markers);
+    }
+  }
+
   /**
    * Light markers do fire notifications after they were added to this registry. You must therefore set all marker
    * attributes upon creation via this callback class, by passing an instance to createMarker();
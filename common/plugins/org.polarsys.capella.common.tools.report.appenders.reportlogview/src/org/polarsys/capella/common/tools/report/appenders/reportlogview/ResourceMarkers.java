@@ -59,23 +59,29 @@ class ResourceMarkers implements IResourceChangeListener, IMarkerSource {
       Collection<IMarkerDelta> deltas = retainMarkerDeltas(event);
       // If there are any markers of interest in the delta we refresh the viewer
       if (deltas.size() != 0) {
+        List<IMarker> added = new ArrayList<IMarker>();
+        List<IMarker> removed = new ArrayList<IMarker>();
         for (IMarkerDelta markerDelta : deltas) {
           final IMarker marker = markerDelta.getMarker();
           switch (markerDelta.getKind()) {
             case IResourceDelta.ADDED:
-              for (IMarkerSourceListener l : listeners){
-                l.markerAdded(marker);
-              }
+              added.add(marker);
               break;
             case IResourceDelta.REMOVED:
-              for (IMarkerSourceListener l : listeners){
-                l.markerDeleted(marker);
-              }
+              removed.add(marker);
               break;
             default:
             break;
           }
         }
+        for (IMarkerSourceListener l : listeners){
+          if (!added.isEmpty()){
+            l.markersAdded(added);
+          }
+          if (!removed.isEmpty()){
+            l.markersDeleted(removed);
+          }
+        }
       }
     }
   
@@ -14,6 +14,8 @@
 package org.polarsys.capella.common.tools.report.appenders.reportlogview;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -141,8 +143,6 @@ class RuleIdContentProvider extends AbstractMarkerViewContentProvider implements
     } else {
       messages.add(marker);
     }
-    viewerRefresh.refresh();
-
   }
   
   /**
@@ -150,6 +150,34 @@ class RuleIdContentProvider extends AbstractMarkerViewContentProvider implements
    */
   public synchronized void markerAdded(IMarker marker) {
     markerAddedIntern(marker);
+    viewerRefresh.refresh();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized void markersAdded(Collection<IMarker> added) {
+    for (IMarker marker : added){
+      markerAddedIntern(marker);
+    }
+    viewerRefresh.refresh();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized void markersDeleted(Collection<IMarker> deleted) {
+    HashSet<IMarker> toRemove = new HashSet<IMarker>(deleted);
+    for (Map.Entry<Object, List<IMarker>> entry : markers.entrySet()){
+      List<IMarker> children = entry.getValue();
+      if (children != null){
+        children.removeAll(toRemove);
+      }
+    }
+    messages.removeAll(toRemove);
+    viewerRefresh.refresh();
   }
 
   /**
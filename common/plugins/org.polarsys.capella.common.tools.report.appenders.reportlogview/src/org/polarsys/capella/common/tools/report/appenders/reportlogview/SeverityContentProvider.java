@@ -16,6 +16,7 @@ package org.polarsys.capella.common.tools.report.appenders.reportlogview;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -127,4 +128,33 @@ class SeverityContentProvider extends AbstractMarkerViewContentProvider implemen
       }
     }
   }  
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized void markersAdded(Collection<IMarker> added) {
+    for (IMarker marker : added){
+      SeverityLevel level = SeverityLevel.getLevel(marker);
+      if (level != null){
+        markers.get(level).add(marker);
+      }
+    }
+    viewerRefresh.refresh();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized void markersDeleted(Collection<IMarker> deleted) {
+    HashSet<IMarker> toRemove = new HashSet<IMarker>(deleted);
+    boolean removed = false;
+    for (SeverityLevel level : SeverityLevel.values()){
+      removed |= markers.get(level).removeAll(toRemove);
+    }
+    if (removed){
+      viewerRefresh.refresh();
+    }
+  }
 }
@@ -29,4 +29,11 @@ public class IOptionsConstants {
   
   public static final String IS_DRY_RUN = "isDryRun";
 
+  /**
+   * Whether rule matching is done in parallel, the tasks of the transposer being executed level by level.
+   */
+  public static final String TRANSPOSER_PARALLEL = "transposer.parallel";
+
+  public static final Boolean TRANSPOSER_PARALLEL__DEFAULT = Boolean.FALSE;
+
 }
@@ -13,12 +13,17 @@
 
 package org.polarsys.capella.core.transition.common.transposer;
 
-import org.eclipse.core.runtime.IProgressMonitor;
+import java.util.Iterator;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.emf.ecore.EObject;
 import org.polarsys.capella.core.transition.common.constants.ITransitionConstants;
+import org.polarsys.capella.core.transition.common.rules.AbstractRule;
 import org.polarsys.capella.core.transition.common.transposer.current.GenericRulesHandler;
 import org.polarsys.kitalpha.transposer.rules.handler.exceptions.mappings.purposes.NonExistingPurposeException;
 import org.polarsys.kitalpha.transposer.rules.handler.exceptions.rules.RuleExecutionException;
+import org.polarsys.kitalpha.transposer.rules.handler.rules.api.IRule;
+import org.polarsys.kitalpha.transposer.rules.handler.rules.common.MappingPossibility;
 import org.polarsys.kitalpha.transposer.rules.handler.rules.runtime.RuntimePurpose;
 
 /**
@@ -30,6 +35,8 @@ import org.polarsys.kitalpha.transposer.rules.handler.rules.runtime.RuntimePurpo
  */
 public class ExtendedRulesHandler extends GenericRulesHandler {
 
+  private Boolean typeBasedResolution;
+
   /**
    * @param purpose
    * @param mappingId
@@ -49,6 +56,49 @@ public class ExtendedRulesHandler extends GenericRulesHandler {
     return super.apply(object, complete, monitor);
   }
 
+  /**
+   * Returns whether the applicable possibility of an object only depends on its type: no possibility of the mapping has
+   * a context, and all rules are {@link AbstractRule}s matching their source type. Such a resolution reads neither the
+   * model nor the transposer context, and can then be done from several threads.
+   */
+  public boolean isTypeBasedResolution() {
+    if (typeBasedResolution == null) {
+      typeBasedResolution = Boolean.valueOf(computeTypeBasedResolution());
+    }
+    return typeBasedResolution.booleanValue();
+  }
+
+  protected boolean computeTypeBasedResolution() {
+    if ((getRuntimePurpose() == null) || (getRuntimePurpose().getMapping() == null)) {
+      return false;
+    }
+    for (Iterator<EObject> it = getRuntimePurpose().getMapping().eAllContents(); it.hasNext();) {
+      EObject object = it.next();
+      if (object instanceof MappingPossibility) {
+        MappingPossibility possibility = (MappingPossibility) object;
+        if ((possibility.getContext() != null) || !isTypeBased(possibility.getCompleteRule())
+            || !isTypeBased(possibility.getIncompleteRule())) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  protected boolean isTypeBased(IRule<?> rule) {
+    if (rule == null) {
+      return true;
+    }
+    if (!(rule instanceof AbstractRule)) {
+      return false;
+    }
+    try {
+      return rule.getClass().getMethod("isApplicableOn", EObject.class).getDeclaringClass() == AbstractRule.class; //$NON-NLS-1$
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
   @Override
   protected RuntimePurpose createRuntimePurpose(String purpose, String mappingId) {
     return ExtendedPurposeRegistry.getInstance().getRegisteredPurpose(purpose, mappingId);
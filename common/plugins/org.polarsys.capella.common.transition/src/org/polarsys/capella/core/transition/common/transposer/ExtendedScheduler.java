@@ -15,10 +15,12 @@ package org.polarsys.capella.core.transition.common.transposer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -95,6 +97,11 @@ public class ExtendedScheduler implements IScheduler {
    */
   private List<ITransposerTask<Vertex<?>>> scheduleResult;
 
+  /**
+   * The schedule result, split into consecutive groups of tasks of the same topological level.
+   */
+  private List<List<ITransposerTask<Vertex<?>>>> scheduleLevels;
+
   /**
    * Set of discovered tracks in the graph.
    */
@@ -215,6 +222,15 @@ public class ExtendedScheduler implements IScheduler {
     return scheduleResult;
   }
 
+  /**
+   * Return the schedule result split into consecutive groups of tasks. Tasks of a group are on vertices of the same
+   * topological level, so they do not depend on each other (except through backtracks). Concatenating the groups gives
+   * the schedule result, in the same order.
+   */
+  public List<List<ITransposerTask<Vertex<?>>>> getScheduleLevels() {
+    return scheduleLevels;
+  }
+
   /**
    * @return the visited
    */
@@ -291,6 +307,7 @@ public class ExtendedScheduler implements IScheduler {
     backTracks = new HashSet<Edge<?>>();
     foundCycles = new HashSet<LinkedList<Edge<?>>>();
     scheduleResult = new LinkedList<ITransposerTask<Vertex<?>>>();
+    scheduleLevels = new ArrayList<List<ITransposerTask<Vertex<?>>>>();
   }
 
   @Override
@@ -300,6 +317,7 @@ public class ExtendedScheduler implements IScheduler {
     backTracks = null;
     foundCycles = null;
     scheduleResult = null;
+    scheduleLevels = null;
   }
 
   /**
@@ -353,12 +371,40 @@ public class ExtendedScheduler implements IScheduler {
       setTopologicalSorter(new ExtendedTopologicalSorter(vertices, backTracks));
       getTopologicalSorter().sort(monitor);
       scheduleResult = getTopologicalSorter().getWork(monitor);
+      scheduleLevels = splitByLevels(scheduleResult, getTopologicalSorter().getLevels());
       getTopologicalSorter().dispose();
     } catch (TransitionException e) {
       e.printStackTrace();
     }
   }
 
+  /**
+   * Split given tasks into consecutive groups of tasks whose vertices are in the same level.
+   */
+  private List<List<ITransposerTask<Vertex<?>>>> splitByLevels(List<ITransposerTask<Vertex<?>>> tasks,
+      List<Set<Vertex<?>>> levels) {
+    Map<Vertex<?>, Integer> levelOfVertex = new HashMap<Vertex<?>, Integer>();
+    for (int i = 0; i < levels.size(); i++) {
+      for (Vertex<?> vertex : levels.get(i)) {
+        levelOfVertex.put(vertex, Integer.valueOf(i));
+      }
+    }
+
+    List<List<ITransposerTask<Vertex<?>>>> result = new ArrayList<List<ITransposerTask<Vertex<?>>>>();
+    List<ITransposerTask<Vertex<?>>> current = null;
+    Integer currentLevel = null;
+    for (ITransposerTask<Vertex<?>> task : tasks) {
+      Integer level = levelOfVertex.get(task.getTaskContent());
+      if ((current == null) || (level == null) || !level.equals(currentLevel)) {
+        current = new ArrayList<ITransposerTask<Vertex<?>>>();
+        result.add(current);
+        currentLevel = level;
+      }
+      current.add(task);
+    }
+    return result;
+  }
+
   /**
    * Mark a vertex as visited.
    * 
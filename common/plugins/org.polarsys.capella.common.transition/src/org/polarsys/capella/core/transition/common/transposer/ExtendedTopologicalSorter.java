@@ -44,6 +44,7 @@ public class ExtendedTopologicalSorter {
   protected Set<Edge<?>> backtracks;
   protected Set<Vertex<?>> model;
   protected LinkedHashSet<Vertex<?>> sortedModel;
+  protected List<Set<Vertex<?>>> levels;
 
   /**
    * @return the backtracks
@@ -66,6 +67,14 @@ public class ExtendedTopologicalSorter {
     return sortedModel;
   }
 
+  /**
+   * @return the vertices of the sorted model grouped by level: vertices of a level only depend on vertices of
+   *         previous levels (or through backtracks)
+   */
+  public List<Set<Vertex<?>>> getLevels() {
+    return levels;
+  }
+
   /**
    * 
    */
@@ -73,10 +82,12 @@ public class ExtendedTopologicalSorter {
     backtracks.clear();
     model.clear();
     sortedModel.clear();
+    levels.clear();
 
     backtracks = null;
     model = null;
     sortedModel = null;
+    levels = null;
 
   }
 
@@ -87,6 +98,7 @@ public class ExtendedTopologicalSorter {
   public ExtendedTopologicalSorter(Set<Vertex<?>> toSort, Set<Edge<?>> backtracks) {
     this.model = toSort;
     this.backtracks = backtracks;
+    this.levels = new ArrayList<Set<Vertex<?>>>();
   }
 
   /**
@@ -203,6 +215,7 @@ public class ExtendedTopologicalSorter {
 
       toSort.removeAll(independants);
       sorted.addAll(independants);
+      levels.add(independants);
     }
 
     return sorted;
@@ -19,11 +19,16 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.polarsys.capella.core.transition.common.constants.IOptionsConstants;
 import org.polarsys.capella.core.transition.common.exception.TransitionException;
+import org.polarsys.capella.core.transition.common.handlers.options.OptionsHandlerHelper;
 import org.polarsys.kitalpha.cadence.core.api.parameter.GenericParameter;
 import org.polarsys.kitalpha.cadence.core.api.parameter.WorkflowActivityParameter;
 import org.polarsys.kitalpha.transposer.TransposerCorePlugin;
@@ -34,13 +39,23 @@ import org.polarsys.kitalpha.transposer.api.TransposerConfiguration;
 import org.polarsys.kitalpha.transposer.generic.GenericTransposer;
 import org.polarsys.kitalpha.transposer.rules.handler.api.IRulesHandler;
 import org.polarsys.kitalpha.transposer.rules.handler.exceptions.mappings.purposes.NonExistingPurposeException;
+import org.polarsys.kitalpha.transposer.rules.handler.exceptions.possibilities.MappingPossibilityResolutionException;
 import org.polarsys.kitalpha.transposer.rules.handler.exceptions.rules.RuleExecutionException;
 import org.polarsys.kitalpha.transposer.rules.handler.rules.api.IContext;
 import org.polarsys.kitalpha.transposer.rules.handler.rules.api.IDomainHelper;
 import org.polarsys.kitalpha.transposer.scheduler.api.ITransposerTask;
 
 /**
- *
+ * A transposer using the extended analyzer and scheduler.
+ * 
+ * When the {@link IOptionsConstants#TRANSPOSER_PARALLEL} option is enabled, rule matching of analysis sources is done in
+ * parallel before the analysis, and scheduled tasks are executed level by level: rule matching of the tasks of a level
+ * is done in parallel, then rules are applied one after another, in the scheduled order. Since rules are applied in the
+ * same order, the result is the same as the sequential one.
+ * 
+ * Rule matching is only done in parallel when it depends on the type of objects only (see
+ * {@link ExtendedRulesHandler#isTypeBasedResolution()}), so that worker threads read neither the model nor the context,
+ * which are not thread-safe and are used by the calling thread within its transaction.
  */
 public class ExtendedTransposer extends GenericTransposer {
 
@@ -106,64 +121,155 @@ public class ExtendedTransposer extends GenericTransposer {
         }
       }
 
-      // Create graph
-      Graph graph = getAnalyzer().analyze(analysisSources, selection, monitor);
+      ForkJoinPool pool = isParallel() ? new ForkJoinPool() : null;
+      try {
+        transpose(selection, analysisSources, configuration, comparator, pool, monitor);
+      } finally {
+        if (pool != null) {
+          pool.shutdown();
+        }
+      }
 
+    } catch (OperationCanceledException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new TransitionException(e);
+    }
+  }
+
+  /**
+   * @param pool
+   *          the pool used for rule matching, null for a sequential execution
+   */
+  protected void transpose(Collection<Object> selection, Collection<Object> analysisSources, TransposerConfiguration configuration,
+      Comparator<Vertex<?>> comparator, ForkJoinPool pool, IProgressMonitor monitor) throws Exception {
+    if (pool != null) {
+      resolveApplicablePossibilities(analysisSources, pool);
       checkCancel(monitor);
+    }
 
-      callPreSchedulingActivities(graph, configuration, monitor);
+    // Create graph
+    Graph graph = getAnalyzer().analyze(analysisSources, selection, monitor);
 
-      checkCancel(monitor);
+    checkCancel(monitor);
 
-      // Create a sorted list of task from the graph
-      getScheduler().setModel(graph);
-      getScheduler().schedule(comparator, monitor);
+    callPreSchedulingActivities(graph, configuration, monitor);
 
-      List<ITransposerTask<Vertex<?>>> scheduledTasks = getScheduler().getScheduleResult();
+    checkCancel(monitor);
 
-      checkCancel(monitor);
+    // Create a sorted list of task from the graph
+    getScheduler().setModel(graph);
+    getScheduler().schedule(comparator, monitor);
 
-      callPreExecutionActivities(scheduledTasks, configuration, monitor);
+    List<ITransposerTask<Vertex<?>>> scheduledTasks = getScheduler().getScheduleResult();
 
-      checkCancel(monitor);
+    checkCancel(monitor);
 
-      // Execute computed tasks
-      // getRulesHandler().setDefaultContext(defaultContext_p)
+    callPreExecutionActivities(scheduledTasks, configuration, monitor);
 
-      if (monitor != null) {
-        monitor.beginTask("Transposer Tasks Execution", scheduledTasks.size()); //$NON-NLS-1$
-      }
+    checkCancel(monitor);
 
-      for (ITransposerTask<Vertex<?>> scheduledTask : scheduledTasks) {
-        Vertex<?> v = scheduledTask.getTaskContent();
-        try {
-          getRulesHandler().apply(v.getContent(), scheduledTask.isCompletelyTransposable(), monitor);
-          checkCancel(monitor);
-        } catch (RuleExecutionException e) {
-          TransposerCorePlugin.getDefault().logError(TransposerCorePlugin.PLUGIN_ID,
-              RuleExecutionException.class.getSimpleName() + " on " + e.getMessage(), e.getCause()); //$NON-NLS-1$
-        }
+    // Execute computed tasks
+    // getRulesHandler().setDefaultContext(defaultContext_p)
+
+    if (monitor != null) {
+      monitor.beginTask("Transposer Tasks Execution", scheduledTasks.size()); //$NON-NLS-1$
+    }
 
-        if (monitor != null) {
-          monitor.worked(1);
+    if ((pool != null) && (getScheduler() instanceof ExtendedScheduler)) {
+      for (List<ITransposerTask<Vertex<?>>> level : ((ExtendedScheduler) getScheduler()).getScheduleLevels()) {
+        List<Object> contents = new ArrayList<Object>(level.size());
+        for (ITransposerTask<Vertex<?>> scheduledTask : level) {
+          contents.add(scheduledTask.getTaskContent().getContent());
         }
+        resolveApplicablePossibilities(contents, pool);
+        executeTasks(level, monitor);
       }
+    } else {
+      executeTasks(scheduledTasks, monitor);
+    }
 
-      checkCancel(monitor);
+    checkCancel(monitor);
 
-      callPostExecutionActivities(configuration, monitor);
+    callPostExecutionActivities(configuration, monitor);
 
-      checkCancel(monitor);
+    checkCancel(monitor);
+
+    if (monitor != null) {
+      monitor.done();
+    }
+  }
+
+  /**
+   * Apply rules on given tasks, one after another.
+   */
+  protected void executeTasks(List<ITransposerTask<Vertex<?>>> tasks, IProgressMonitor monitor) throws Exception {
+    for (ITransposerTask<Vertex<?>> scheduledTask : tasks) {
+      Vertex<?> v = scheduledTask.getTaskContent();
+      try {
+        getRulesHandler().apply(v.getContent(), scheduledTask.isCompletelyTransposable(), monitor);
+        checkCancel(monitor);
+      } catch (RuleExecutionException e) {
+        TransposerCorePlugin.getDefault().logError(TransposerCorePlugin.PLUGIN_ID,
+            RuleExecutionException.class.getSimpleName() + " on " + e.getMessage(), e.getCause()); //$NON-NLS-1$
+      }
 
       if (monitor != null) {
-        monitor.done();
+        monitor.worked(1);
       }
+    }
+  }
 
-    } catch (OperationCanceledException e) {
-      throw e;
-    } catch (Exception e) {
-      throw new TransitionException(e);
+  /**
+   * Resolve in parallel the applicable possibilities of given objects. Possibilities are kept by the rules handler, and
+   * then reused when the graph is analyzed and when rules are applied. Once all resolutions are done, the resolution error
+   * of the first object in the given order is raised, if any.
+   */
+  protected void resolveApplicablePossibilities(Collection<Object> objects, ForkJoinPool pool)
+      throws MappingPossibilityResolutionException {
+    List<Future<?>> tasks = new ArrayList<Future<?>>(objects.size());
+    for (final Object object : objects) {
+      tasks.add(pool.submit(() -> getRulesHandler().getApplicablePossibility(object)));
+    }
+    MappingPossibilityResolutionException error = null;
+    for (Future<?> task : tasks) {
+      try {
+        task.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new OperationCanceledException();
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof MappingPossibilityResolutionException) {
+          if (error == null) {
+            error = (MappingPossibilityResolutionException) cause;
+          }
+        } else if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+          throw (Error) cause;
+        } else {
+          throw new TransitionException(cause);
+        }
+      }
+    }
+    if (error != null) {
+      throw error;
+    }
+  }
+
+  /**
+   * @return whether the {@link IOptionsConstants#TRANSPOSER_PARALLEL} option is enabled and rule matching can be done
+   *         in parallel
+   */
+  protected boolean isParallel() {
+    IContext context = getContext();
+    if ((context == null) || !(getRulesHandler() instanceof ExtendedRulesHandler)) {
+      return false;
     }
+    return OptionsHandlerHelper.getInstance(context).getBooleanValue(context, IOptionsConstants.TRANSITION_PREFERENCES,
+        IOptionsConstants.TRANSPOSER_PARALLEL, IOptionsConstants.TRANSPOSER_PARALLEL__DEFAULT.booleanValue())
+        && ((ExtendedRulesHandler) getRulesHandler()).isTypeBasedResolution();
   }
 
   /**
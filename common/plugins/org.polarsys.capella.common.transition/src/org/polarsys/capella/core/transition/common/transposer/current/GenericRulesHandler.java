@@ -36,14 +36,16 @@ import org.polarsys.kitalpha.transposer.rules.handler.rules.runtime.RuntimePurpo
 
 /**
  * Creation of _runtimePurpose is externalized into createRuntimePurpose
+ * 
+ * Known applicable possibilities can be resolved from several threads, see {@link org.polarsys.capella.core.transition.common.transposer.ExtendedTransposer}.
  */
 public class GenericRulesHandler implements IRulesHandler {
 
   public GenericRulesHandler(String purpose, String mappingId) throws NonExistingPurposeException {
     _context = null;
     _runtimePurpose = null;
-    _knownObjects = new HashMap();
-    _knownObjectsWithoutApplicablePossibitity = new HashSet();
+    _knownObjects = Collections.synchronizedMap(new HashMap());
+    _knownObjectsWithoutApplicablePossibitity = Collections.synchronizedSet(new HashSet());
     init(purpose, mappingId);
   }
 
@@ -147,6 +149,10 @@ public class GenericRulesHandler implements IRulesHandler {
     return _context;
   }
 
+  protected RuntimePurpose getRuntimePurpose() {
+    return _runtimePurpose;
+  }
+
   private IContext _context;
   private RuntimePurpose _runtimePurpose;
   private Map _knownObjects;
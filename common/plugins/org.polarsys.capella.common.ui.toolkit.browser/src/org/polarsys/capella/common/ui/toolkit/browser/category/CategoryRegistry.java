@@ -15,14 +15,18 @@ package org.polarsys.capella.common.ui.toolkit.browser.category;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map.Entry;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.polarsys.capella.common.mdsofa.common.misc.ExtensionClassDescriptor;
 import org.polarsys.capella.common.ui.toolkit.browser.BrowserActivator;
@@ -50,6 +54,12 @@ public class CategoryRegistry {
 
   private Collection<ExtensionClassDescriptor> availableForTypeClassDescriptors;
 
+  /**
+   * Available top level categories by viewer id and by type of element. Availability of a category only depends on the
+   * type of the element, so it is computed once per EClass.
+   */
+  private final Map<String, Map<EClass, Set<ICategory>>> topLevelCategoriesByType = new ConcurrentHashMap<>();
+
   private CategoryRegistry() {
     this.categoriesCache = new ArrayList<>();
 
@@ -66,11 +76,26 @@ public class CategoryRegistry {
    * @return the available categories for the current element, that can be displayed in the view.
    */
   public Set<ICategory> gatherCategories(String viewerId, EObject currentElement) {
+    if (currentElement == null) {
+      return new HashSet<>();
+    }
+    Map<EClass, Set<ICategory>> categoriesByType = topLevelCategoriesByType
+        .computeIfAbsent(viewerId.toLowerCase(Locale.ROOT), id -> new ConcurrentHashMap<>());
+    Set<ICategory> categories = categoriesByType.get(currentElement.eClass());
+    if (categories == null) {
+      categories = Collections.unmodifiableSet(computeCategories(viewerId, currentElement));
+      categoriesByType.put(currentElement.eClass(), categories);
+    }
+    return new HashSet<>(categories);
+  }
+
+  /**
+   * Compute the available top level categories for the type of the given element.
+   */
+  private Set<ICategory> computeCategories(String viewerId, EObject currentElement) {
     HashMap<String, ICategory> elementRegistry = getRegistry(viewerId);
     Set<ICategory> categories = new HashSet<>();
-    Set<Entry<String, ICategory>> entrySet = elementRegistry.entrySet();
-    for (Entry<String, ICategory> entry : entrySet) {
-      ICategory category = entry.getValue();
+    for (ICategory category : elementRegistry.values()) {
       // top level category and type matching
       if (category.isTopLevel() && category.isAvailableForType(currentElement)) {
         categories.add(category);
@@ -81,13 +106,23 @@ public class CategoryRegistry {
   }
 
   /**
-   * Remove categories overridden by at least one another category in the same input set of categories
+   * Remove categories overridden by at least one another category in the same input set of categories. A category
+   * only overrides categories with the same name (see {@link CategoryImpl#overrides(ICategory, EObject)}), so
+   * categories are only compared to the ones with the same name.
    * 
    * @param categories
    */
   private void removeOverriddenCategories(Set<ICategory> categories, EObject current) {
-    Set<ICategory> overriddenCategories = categories.stream()
-        .filter(x -> categories.stream().anyMatch(y -> y != x && y.overrides(x, current))).collect(Collectors.toSet());
+    Map<String, List<ICategory>> categoriesByName = categories.stream()
+        .collect(Collectors.groupingBy(category -> String.valueOf(category.getName())));
+    Set<ICategory> overriddenCategories = new HashSet<>();
+    for (List<ICategory> sameNameCategories : categoriesByName.values()) {
+      if (sameNameCategories.size() > 1) {
+        sameNameCategories.stream()
+            .filter(x -> sameNameCategories.stream().anyMatch(y -> y != x && y.overrides(x, current)))
+            .forEach(overriddenCategories::add);
+      }
+    }
     categories.removeAll(overriddenCategories);
   }
 
@@ -337,7 +372,7 @@ public class CategoryRegistry {
     return availableForTypeClassDescriptors;
   }
 
-  public static CategoryRegistry getInstance() {
+  public static synchronized CategoryRegistry getInstance() {
     if (categoryRegistry == null) {
       categoryRegistry = new CategoryRegistry();
     }
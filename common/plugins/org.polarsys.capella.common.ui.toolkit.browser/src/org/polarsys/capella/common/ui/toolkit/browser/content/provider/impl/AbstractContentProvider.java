@@ -13,18 +13,29 @@
 
 package org.polarsys.capella.common.ui.toolkit.browser.content.provider.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.emf.common.notify.AdapterFactory;
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.edit.provider.IViewerNotification;
 import org.eclipse.emf.edit.provider.ViewerNotification;
 import org.eclipse.emf.transaction.ResourceSetChangeEvent;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.emf.transaction.util.TransactionUtil;
 import org.eclipse.jface.viewers.StructuredViewer;
 import org.eclipse.jface.viewers.Viewer;
 import org.polarsys.capella.common.ui.services.helper.ViewerHelper;
@@ -64,6 +75,48 @@ public abstract class AbstractContentProvider extends GroupedAdapterFactoryConte
 
   protected ISemanticBrowserModel model;
 
+  /**
+   * System property to compute the content of categories in background, categories being displayed once their content
+   * has been computed. By default, the content of categories is computed synchronously, when the browser input changes.
+   */
+  public static final String ASYNCHRONOUS_PROPERTY = "org.polarsys.capella.common.ui.toolkit.browser.asynchronous"; //$NON-NLS-1$
+
+  protected static final boolean ASYNCHRONOUS = Boolean.getBoolean(ASYNCHRONOUS_PROPERTY);
+
+  /**
+   * Whether the content of categories is computed in background, see {@link #ASYNCHRONOUS_PROPERTY}
+   */
+  protected boolean asynchronous = ASYNCHRONOUS;
+
+  /**
+   * Computed children of categories, by queried element. Cleared when the model changes.
+   */
+  protected final Map<EObject, Map<ICategory, Set<Object>>> categoryChildrenCache = new ConcurrentHashMap<>();
+
+  /**
+   * Categories being computed in background, by queried element.
+   */
+  private final Map<EObject, Set<ICategory>> pendingCategories = new ConcurrentHashMap<>();
+
+  /**
+   * Elements to refresh once background computations are done.
+   */
+  private final Set<Object> pendingRefreshes = ConcurrentHashMap.newKeySet();
+
+  private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+  /**
+   * Incremented each time the cache is cleared, so that results computed before are not cached.
+   */
+  private final AtomicInteger cacheVersion = new AtomicInteger();
+
+  /**
+   * Incremented each time the input changes, so that background computations of the previous input are dropped.
+   */
+  private final AtomicInteger inputVersion = new AtomicInteger();
+
+  private final Set<Job> categoryJobs = ConcurrentHashMap.newKeySet();
+
   /**
    * Constructor.
    */
@@ -78,7 +131,9 @@ public abstract class AbstractContentProvider extends GroupedAdapterFactoryConte
    */
   @Override
   public void dispose() {
+    cancelCategoryJobs();
     semanticParentHashMap.clear();
+    categoryChildrenCache.clear();
     super.dispose();
   }
 
@@ -93,11 +148,43 @@ public abstract class AbstractContentProvider extends GroupedAdapterFactoryConte
   protected void getCategoryChildren(ICategory category, BrowserElementWrapper wrapper, Set<Object> gatheredElements) {
     // lookup for the element that we need to query on.
     EObject elementToQuery = lookUpModelElement(wrapper);
+    gatheredElements.addAll(getCategoryChildren(category, elementToQuery));
+  }
+
+  /**
+   * Get children of the category for the given element, from the cache or by computing them.<br>
+   * This method does not rely on the viewer state, and can be called from a background job.
+   * 
+   * @param category
+   * @param elementToQuery
+   * @return an unmodifiable set of children
+   */
+  protected Set<Object> getCategoryChildren(ICategory category, EObject elementToQuery) {
+    Map<ICategory, Set<Object>> elementChildren = categoryChildrenCache.get(elementToQuery);
+    Set<Object> children = (null == elementChildren) ? null : elementChildren.get(category);
+    if (null == children) {
+      int version = cacheVersion.get();
+
+      // Gather subCategories & compute queries attached to the category.
+      Set<Object> computedChildren = new HashSet<>(0);
+      computedChildren.addAll(category.compute(elementToQuery));
+      computedChildren
+          .addAll(CategoryRegistry.getInstance().gatherSubCategories(getBrowserId(), elementToQuery, category));
+      children = Collections.unmodifiableSet(computedChildren);
+
+      if ((null != elementToQuery) && (version == cacheVersion.get())) {
+        categoryChildrenCache.computeIfAbsent(elementToQuery, key -> new ConcurrentHashMap<>()).put(category, children);
+      }
+    }
+    return children;
+  }
 
-    // Gather subCategories & compute queries attached to the category.
-    gatheredElements.addAll(category.compute(elementToQuery));
-    gatheredElements
-        .addAll(CategoryRegistry.getInstance().gatherSubCategories(getBrowserId(), elementToQuery, category));
+  /**
+   * @return whether children of the category for the given element have already been computed
+   */
+  protected boolean isCategoryChildrenComputed(ICategory category, EObject elementToQuery) {
+    Map<ICategory, Set<Object>> elementChildren = categoryChildrenCache.get(elementToQuery);
+    return (null != elementChildren) && elementChildren.containsKey(category);
   }
 
   /**
@@ -131,6 +218,8 @@ public abstract class AbstractContentProvider extends GroupedAdapterFactoryConte
          * Wrap gathered elements & register each wrapper in cache.
          */
         Set<Object> wrappers = new HashSet<>(0);
+        // Categories whose content is not computed yet, by queried element.
+        Map<EObject, List<ICategory>> categoriesToCompute = new HashMap<>(0);
         for (Object gatherElement : gatheredElements) {
           // ignore queries result that returns a null object (reference with cardinality max 1)
           if (gatherElement != null) {
@@ -143,6 +232,12 @@ public abstract class AbstractContentProvider extends GroupedAdapterFactoryConte
             if (gatherElement instanceof ICategory) {
               if (!model.doesShowCategory((ICategory) gatherElement)) {
                 shouldRemovedEmptyCategoryWrapper = true;
+              } else if (asynchronous
+                  && !isCategoryChildrenComputed((ICategory) gatherElement, lookUpModelElement(elementWrapper))) {
+                // Category is displayed by a refresh of the parent once its content is computed.
+                wrappers.remove(elementWrapper);
+                categoriesToCompute.computeIfAbsent(lookUpModelElement(elementWrapper), key -> new ArrayList<>())
+                    .add((ICategory) gatherElement);
               } else {
                 Set<Object> categoryChildren = new HashSet<>(0);
                 // Compute category children, if no child, remove this category from displayed elements.
@@ -159,6 +254,10 @@ public abstract class AbstractContentProvider extends GroupedAdapterFactoryConte
           }
         }
 
+        for (Map.Entry<EObject, List<ICategory>> entry : categoriesToCompute.entrySet()) {
+          scheduleCategoryChildren(getRefreshedElement(wrapper), entry.getKey(), entry.getValue());
+        }
+
         result = wrappers.toArray();
       } else {
         // Wrap given element. This input element can't be a Category because a category element is computed.
@@ -172,6 +271,151 @@ public abstract class AbstractContentProvider extends GroupedAdapterFactoryConte
     return result;
   }
 
+  /**
+   * Compute in background, in a read-only transaction, the children of the given categories. Once a category is
+   * computed, the parent element is refreshed so that the category is displayed if not empty.
+   * 
+   * @param parentElement
+   *          the element of the viewer to refresh
+   * @param elementToQuery
+   * @param categories
+   */
+  protected void scheduleCategoryChildren(final Object parentElement, final EObject elementToQuery,
+      List<ICategory> categories) {
+    Set<ICategory> pending = pendingCategories.computeIfAbsent(elementToQuery, key -> ConcurrentHashMap.newKeySet());
+    final List<ICategory> toCompute = new ArrayList<>(categories.size());
+    for (ICategory category : categories) {
+      // Category may already be computed by a previous request.
+      if (pending.add(category)) {
+        toCompute.add(category);
+      }
+    }
+    if (toCompute.isEmpty()) {
+      return;
+    }
+
+    final int version = inputVersion.get();
+    Job job = new Job("Semantic Browser") { //$NON-NLS-1$
+      @Override
+      protected IStatus run(final IProgressMonitor monitor) {
+        try {
+          // Queries read the model: they are all evaluated in a read-only transaction, excluding concurrent writes
+          TransactionalEditingDomain domain = TransactionUtil.getEditingDomain(elementToQuery);
+          Runnable computation = () -> computeCategoryChildren(parentElement, elementToQuery, toCompute, pending,
+              version, monitor);
+          if (null != domain) {
+            domain.runExclusive(computation);
+          } else {
+            computation.run();
+          }
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        } finally {
+          pending.removeAll(toCompute);
+          categoryJobs.remove(this);
+        }
+        return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+      }
+
+      @Override
+      public boolean belongsTo(Object family) {
+        return family == AbstractContentProvider.this;
+      }
+    };
+    job.setSystem(true);
+    job.setPriority(Job.SHORT);
+    categoryJobs.add(job);
+    job.schedule();
+  }
+
+  /**
+   * Compute one after the other the children of the given categories, then refresh the parent element. The caller owns
+   * a transaction on the model, if any.
+   */
+  private void computeCategoryChildren(Object parentElement, EObject elementToQuery, List<ICategory> categories,
+      Set<ICategory> pending, int version, IProgressMonitor monitor) {
+    for (ICategory category : categories) {
+      if (monitor.isCanceled() || (version != inputVersion.get())) {
+        return;
+      }
+      try {
+        getCategoryChildren(category, elementToQuery);
+      } catch (Exception exception) {
+        BrowserActivator.getDefault().getLog().log(new Status(IStatus.ERROR, BrowserActivator.PLUGIN_ID,
+            "Error while getting children of category " + category.getName(), exception)); //$NON-NLS-1$
+      }
+      pending.remove(category);
+      scheduleRefresh(parentElement, version);
+    }
+  }
+
+  /**
+   * @return whether the content of categories is computed in background
+   */
+  public boolean isAsynchronous() {
+    return asynchronous;
+  }
+
+  /**
+   * Whether the content of categories is computed in background, see {@link #ASYNCHRONOUS_PROPERTY}
+   */
+  public void setAsynchronous(boolean asynchronous) {
+    this.asynchronous = asynchronous;
+  }
+
+  /**
+   * Refresh the given element in the UI thread, grouping the refreshes requested meanwhile.
+   */
+  private void scheduleRefresh(Object parentElement, final int version) {
+    pendingRefreshes.add(parentElement);
+    if (refreshScheduled.compareAndSet(false, true)) {
+      if ((viewer != null) && (viewer.getControl() != null) && !viewer.getControl().isDisposed()) {
+        viewer.getControl().getDisplay().asyncExec(new Runnable() {
+          @Override
+          public void run() {
+            refreshScheduled.set(false);
+            List<Object> elements = new ArrayList<>(pendingRefreshes);
+            pendingRefreshes.removeAll(elements);
+            if ((version == inputVersion.get()) && (viewer.getControl() != null)
+                && !viewer.getControl().isDisposed()) {
+              for (Object element : elements) {
+                ((StructuredViewer) viewer).refresh(element);
+              }
+            }
+          }
+        });
+      } else {
+        refreshScheduled.set(false);
+        pendingRefreshes.clear();
+      }
+    }
+  }
+
+  /**
+   * @return the element of the viewer displaying children of the given wrapper
+   */
+  private Object getRefreshedElement(BrowserElementWrapper wrapper) {
+    // Apart from the current element browser, the root element is not displayed: its children are top level items.
+    if ((wrapper.getElement() == rootElement) && (null == semanticParentHashMap.get(wrapper))
+        && !getBrowserId().equalsIgnoreCase(IBrowserContentProvider.ID_CURRENT_CP) && (viewer != null)) {
+      return viewer.getInput();
+    }
+    return wrapper;
+  }
+
+  /**
+   * Cancel background computations of categories.
+   */
+  protected void cancelCategoryJobs() {
+    inputVersion.incrementAndGet();
+    for (Job job : categoryJobs) {
+      job.cancel();
+    }
+    categoryJobs.clear();
+    pendingCategories.clear();
+    pendingRefreshes.clear();
+  }
+
   /**
    * Ge element children.
    * 
@@ -248,11 +492,13 @@ public abstract class AbstractContentProvider extends GroupedAdapterFactoryConte
       }
     } else if (newInput instanceof EObject) {
       // clear cache.
+      cancelCategoryJobs();
       semanticParentHashMap.clear();
       inputHasChanged = true;
       rootElement = (EObject) newInput;
     } else if (null == newInput) {
       // View is closing or no input selection.
+      cancelCategoryJobs();
       inputHasChanged = false;
       rootElement = null;
       semanticParentHashMap.clear();
@@ -275,6 +521,11 @@ public abstract class AbstractContentProvider extends GroupedAdapterFactoryConte
 
   @Override
   protected boolean refreshRequired(ResourceSetChangeEvent event) {
+    if (!event.getNotifications().isEmpty()) {
+      // Computed categories may be impacted by any model change.
+      cacheVersion.incrementAndGet();
+      categoryChildrenCache.clear();
+    }
     boolean result = false;
     synchronized (this) {
       if (isRefreshRequired) {
@@ -0,0 +1,473 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.common.helpers.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.transaction.NotificationFilter;
+import org.eclipse.emf.transaction.ResourceSetChangeEvent;
+import org.eclipse.emf.transaction.ResourceSetListenerImpl;
+import org.eclipse.emf.transaction.Transaction;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.emf.transaction.impl.InternalTransactionalEditingDomain;
+import org.eclipse.emf.transaction.util.TransactionUtil;
+
+/**
+ * A session scoped index of model elements, keyed by containment root and by concrete EClass.<br>
+ * The extent of a containment root is built lazily on the first query targeting it, then maintained incrementally from
+ * post-commit notifications on containment references and resource contents.<br>
+ * A query is answered by an index lookup plus an ancestor check, instead of a recursive walk of the containment tree.
+ * Found elements are then sorted in the pre-order of the containment tree, so that results are ordered as the ones of
+ * the walk.
+ * <p>
+ * The index only reflects committed changes: while a write transaction is active on the editing domain, it is not
+ * {@link #isAvailable() available} and callers must fall back on a containment walk.
+ * </p>
+ */
+public class EClassExtentIndex extends ResourceSetListenerImpl {
+
+  /**
+   * Only containment changes (or resource level changes) have an impact on the index.
+   */
+  private static final NotificationFilter CONTAINMENT_FILTER = NotificationFilter.NOT_TOUCH
+      .and(new NotificationFilter.Custom() {
+        @Override
+        public boolean matches(Notification notification) {
+          Object feature = notification.getFeature();
+          if ((feature instanceof EReference) && ((EReference) feature).isContainment()) {
+            return true;
+          }
+          return (notification.getNotifier() instanceof Resource)
+              || (notification.getNotifier() instanceof ResourceSet);
+        }
+      });
+
+  /**
+   * Extents by containment root. For each root, elements are grouped by their concrete EClass.
+   */
+  private final Map<EObject, Map<EClass, Set<EObject>>> extents = new HashMap<EObject, Map<EClass, Set<EObject>>>();
+
+  /**
+   * The resource set of the editing domain, used to check that an added element is still attached.
+   */
+  private final ResourceSet resourceSet;
+
+  /**
+   * Constructor.
+   *
+   * @param domain
+   *          the editing domain this index is scoped to
+   */
+  protected EClassExtentIndex(TransactionalEditingDomain domain) {
+    super(CONTAINMENT_FILTER);
+    this.resourceSet = domain.getResourceSet();
+  }
+
+  /**
+   * Get the extent index of the given editing domain, creating and registering it if needed.
+   *
+   * @param domain
+   * @return <code>null</code> if given domain is <code>null</code>.
+   */
+  public static EClassExtentIndex getIndex(TransactionalEditingDomain domain) {
+    if (null == domain) {
+      return null;
+    }
+    ResourceSet resourceSet = domain.getResourceSet();
+    synchronized (resourceSet) {
+      IndexHolder holder = (IndexHolder) EcoreUtil.getExistingAdapter(resourceSet, EClassExtentIndex.class);
+      if (null == holder) {
+        EClassExtentIndex index = new EClassExtentIndex(domain);
+        domain.addResourceSetListener(index);
+        holder = new IndexHolder(index);
+        resourceSet.eAdapters().add(holder);
+      }
+      return holder.index;
+    }
+  }
+
+  /**
+   * Get the extent index of the editing domain of the given element.
+   *
+   * @param source
+   * @return <code>null</code> if the given element does not belong to a transactional editing domain.
+   */
+  public static EClassExtentIndex getIndex(EObject source) {
+    if (null == source) {
+      return null;
+    }
+    return getIndex(TransactionUtil.getEditingDomain(source));
+  }
+
+  /**
+   * The index can only be used when no write transaction is pending, since it is only maintained from committed
+   * changes.
+   *
+   * @return <code>true</code> if the index reflects the current state of the model.
+   */
+  public boolean isAvailable() {
+    TransactionalEditingDomain domain = getTarget();
+    if (!(domain instanceof InternalTransactionalEditingDomain)) {
+      return false;
+    }
+    Transaction transaction = ((InternalTransactionalEditingDomain) domain).getActiveTransaction();
+    while (null != transaction) {
+      if (!transaction.isReadOnly()) {
+        return false;
+      }
+      transaction = transaction.getParent();
+    }
+    return true;
+  }
+
+  /**
+   * Retrieve elements of the given type contained (directly or not) by the source, source included.
+   *
+   * @param source
+   *          element from which the search starts
+   * @param targetType
+   *          discriminating type
+   * @return a not <code>null</code> set of elements
+   */
+  public Set<EObject> getAll(EObject source, EClass targetType) {
+    return getAllFiltered(source, targetType, Collections.<EClass> emptyList());
+  }
+
+  /**
+   * Retrieve elements of the given Java type contained (directly or not) by the source, source included.
+   *
+   * @param source
+   *          element from which the search starts
+   * @param targetType
+   *          discriminating type
+   * @return a not <code>null</code> set of elements
+   */
+  public synchronized Set<EObject> getAll(EObject source, Class<?> targetType) {
+    List<EObject> result = new ArrayList<EObject>();
+    if ((null == source) || (null == targetType)) {
+      return new LinkedHashSet<EObject>();
+    }
+    for (Set<EObject> elements : getExtent(source).values()) {
+      if (!elements.isEmpty() && targetType.isAssignableFrom(elements.iterator().next().getClass())) {
+        for (EObject element : elements) {
+          if (isContainedBy(element, source, Collections.<EClass> emptyList())) {
+            result.add(element);
+          }
+        }
+      }
+    }
+    return sortInContainmentOrder(source, result);
+  }
+
+  /**
+   * Retrieve elements of the given type contained (directly or not) by the source, source included. Elements contained
+   * by an element whose type is one of the filtered types are not returned.
+   *
+   * @param source
+   *          element from which the search starts
+   * @param targetType
+   *          discriminating type
+   * @param filter
+   *          list of the classes excluded from the query
+   * @return a not <code>null</code> set of elements
+   * @see GetAllQueries#getAllFiltered(EObject, EClass, List)
+   */
+  public synchronized Set<EObject> getAllFiltered(EObject source, EClass targetType, List<EClass> filter) {
+    List<EObject> result = new ArrayList<EObject>();
+    if ((null == source) || (null == targetType) || filter.contains(targetType)) {
+      return new LinkedHashSet<EObject>();
+    }
+    for (Map.Entry<EClass, Set<EObject>> entry : getExtent(source).entrySet()) {
+      if (targetType.isSuperTypeOf(entry.getKey())) {
+        for (EObject element : entry.getValue()) {
+          if (isContainedBy(element, source, filter)) {
+            result.add(element);
+          }
+        }
+      }
+    }
+    return sortInContainmentOrder(source, result);
+  }
+
+  /**
+   * Sort the given elements, all contained by the source, in the order they are visited by a pre-order walk of the
+   * containment tree from the source.<br>
+   * Each element is given the path of its positions in the contents of its ancestors. The positions of the contents of
+   * an ancestor are computed once for all elements.
+   */
+  private Set<EObject> sortInContainmentOrder(EObject source, List<EObject> elements) {
+    if (elements.size() > 1) {
+      final Map<EObject, Integer> positions = new HashMap<EObject, Integer>();
+      final Map<EObject, int[]> paths = new HashMap<EObject, int[]>();
+      for (EObject element : elements) {
+        paths.put(element, getPath(source, element, positions));
+      }
+      Collections.sort(elements, new Comparator<EObject>() {
+        @Override
+        public int compare(EObject element1, EObject element2) {
+          int[] path1 = paths.get(element1);
+          int[] path2 = paths.get(element2);
+          for (int i = 0; (i < path1.length) && (i < path2.length); i++) {
+            if (path1[i] != path2[i]) {
+              return (path1[i] < path2[i]) ? -1 : 1;
+            }
+          }
+          // An ancestor is visited before its contents.
+          return path1.length - path2.length;
+        }
+      });
+    }
+    return new LinkedHashSet<EObject>(elements);
+  }
+
+  /**
+   * @return the positions of the given element and of its ancestors up to the source (excluded) in the contents of
+   *         their container, from the source down to the element
+   */
+  private int[] getPath(EObject source, EObject element, Map<EObject, Integer> positions) {
+    List<Integer> path = new ArrayList<Integer>();
+    EObject current = element;
+    while ((current != source) && (null != current)) {
+      EObject container = current.eContainer();
+      Integer position = positions.get(current);
+      if (null == position) {
+        int i = 0;
+        for (EObject child : container.eContents()) {
+          positions.put(child, Integer.valueOf(i++));
+        }
+        position = positions.get(current);
+      }
+      path.add(position);
+      current = container;
+    }
+    int[] result = new int[path.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = path.get(result.length - 1 - i).intValue();
+    }
+    return result;
+  }
+
+  /**
+   * Is given element the source or a descendant of the source, without any filtered element in between ?
+   */
+  private boolean isContainedBy(EObject element, EObject source, List<EClass> filter) {
+    if (element == source) {
+      return true;
+    }
+    EObject current = element.eContainer();
+    while (null != current) {
+      for (EClass cls : filter) {
+        if (cls.isSuperTypeOf(current.eClass())) {
+          return false;
+        }
+      }
+      if (current == source) {
+        return true;
+      }
+      current = current.eContainer();
+    }
+    return false;
+  }
+
+  /**
+   * Get the extent of the containment root of the given element, building it if needed.
+   */
+  private Map<EClass, Set<EObject>> getExtent(EObject element) {
+    EObject root = EcoreUtil.getRootContainer(element);
+    Map<EClass, Set<EObject>> extent = extents.get(root);
+    if (null == extent) {
+      extent = new HashMap<EClass, Set<EObject>>();
+      extents.put(root, extent);
+      addTree(extent, root);
+    }
+    return extent;
+  }
+
+  /**
+   * Add the given element and all its contents to the given extent.
+   */
+  private void addTree(Map<EClass, Set<EObject>> extent, EObject element) {
+    addElement(extent, element);
+    for (TreeIterator<EObject> iterator = element.eAllContents(); iterator.hasNext();) {
+      addElement(extent, iterator.next());
+    }
+  }
+
+  private void addElement(Map<EClass, Set<EObject>> extent, EObject element) {
+    Set<EObject> elements = extent.get(element.eClass());
+    if (null == elements) {
+      elements = new LinkedHashSet<EObject>();
+      extent.put(element.eClass(), elements);
+    }
+    elements.add(element);
+  }
+
+  /**
+   * Remove the given element and all its contents from all extents.
+   */
+  private void removeTree(EObject element) {
+    extents.remove(element);
+    removeElement(element);
+    for (TreeIterator<EObject> iterator = element.eAllContents(); iterator.hasNext();) {
+      removeElement(iterator.next());
+    }
+  }
+
+  private void removeElement(EObject element) {
+    for (Map<EClass, Set<EObject>> extent : extents.values()) {
+      Set<EObject> elements = extent.get(element.eClass());
+      if ((null != elements) && elements.remove(element)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Is the given element still attached to the resource set of the editing domain ?
+   */
+  private boolean isAttached(EObject element) {
+    Resource resource = element.eResource();
+    return (null != resource) && (resource.getResourceSet() == resourceSet);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isPostcommitOnly() {
+    return true;
+  }
+
+  /**
+   * Removed elements are processed first, then added ones that are still attached at the end of the transaction. This
+   * way, an element moved several times during the transaction is indexed once, at its final location.
+   *
+   * @see org.eclipse.emf.transaction.ResourceSetListenerImpl#resourceSetChanged(org.eclipse.emf.transaction.ResourceSetChangeEvent)
+   */
+  @Override
+  public synchronized void resourceSetChanged(ResourceSetChangeEvent event) {
+    if (extents.isEmpty()) {
+      return;
+    }
+    Collection<EObject> removed = new ArrayList<EObject>();
+    Collection<EObject> added = new ArrayList<EObject>();
+
+    for (Notification notification : event.getNotifications()) {
+      if (((notification.getNotifier() instanceof ResourceSet)
+          && (notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES))
+          || ((notification.getNotifier() instanceof Resource)
+              && (notification.getFeatureID(Resource.class) == Resource.RESOURCE__IS_LOADED))) {
+        // A resource has been added, removed, loaded or unloaded, contained elements may have been turned into proxies.
+        extents.clear();
+        return;
+      }
+      if (!(notification.getNotifier() instanceof EObject)
+          && (notification.getFeatureID(Resource.class) != Resource.RESOURCE__CONTENTS)) {
+        continue;
+      }
+      switch (notification.getEventType()) {
+      case Notification.SET:
+      case Notification.UNSET:
+        collect(notification.getOldValue(), removed);
+        collect(notification.getNewValue(), added);
+        break;
+      case Notification.ADD:
+      case Notification.ADD_MANY:
+        collect(notification.getNewValue(), added);
+        break;
+      case Notification.REMOVE:
+      case Notification.REMOVE_MANY:
+        collect(notification.getOldValue(), removed);
+        break;
+      default:
+        break;
+      }
+    }
+
+    for (EObject element : removed) {
+      removeTree(element);
+    }
+    for (EObject element : added) {
+      if (isAttached(element)) {
+        Map<EClass, Set<EObject>> extent = extents.get(EcoreUtil.getRootContainer(element));
+        // If the root extent is not built yet, it will be on next query.
+        if (null != extent) {
+          addTree(extent, element);
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void collect(Object value, Collection<EObject> elements) {
+    if (value instanceof EObject) {
+      elements.add((EObject) value);
+    } else if (value instanceof Collection) {
+      for (Object object : (Collection<Object>) value) {
+        if (object instanceof EObject) {
+          elements.add((EObject) object);
+        }
+      }
+    }
+  }
+
+  /**
+   * Drop all extents. They will be rebuilt on next queries.
+   */
+  public synchronized void clear() {
+    extents.clear();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void unsetTarget(TransactionalEditingDomain domain) {
+    super.unsetTarget(domain);
+    clear();
+  }
+
+  /**
+   * Keeps a reference on the index from the resource set, so that the index lives as long as the session.
+   */
+  private static class IndexHolder extends AdapterImpl {
+
+    EClassExtentIndex index;
+
+    IndexHolder(EClassExtentIndex index) {
+      this.index = index;
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+      return type == EClassExtentIndex.class;
+    }
+  }
+}
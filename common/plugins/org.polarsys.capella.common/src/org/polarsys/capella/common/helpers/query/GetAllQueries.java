@@ -18,16 +18,61 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
+import org.polarsys.capella.common.MdeCommonActivator;
 
 /**
  * This class contains convenient static methods for querying a EMF model
  */
 public class GetAllQueries implements IGetAllQueries {
+
+  /**
+   * System property used to select how getAll queries are computed: <code>off</code> (default) walks the containment
+   * tree, <code>on</code> uses the {@link EClassExtentIndex} of the session, <code>check</code> computes both, logs any
+   * difference and returns the result of the walk.
+   */
+  public static final String INDEX_MODE_PROPERTY = "org.polarsys.capella.common.getall.index"; //$NON-NLS-1$
+
+  /**
+   * How getAll queries are computed.
+   */
+  public enum IndexMode {
+    OFF, ON, CHECK
+  }
+
+  private static volatile IndexMode indexMode = readIndexMode();
+
+  private static IndexMode readIndexMode() {
+    String value = System.getProperty(INDEX_MODE_PROPERTY, IndexMode.OFF.name());
+    for (IndexMode mode : IndexMode.values()) {
+      if (mode.name().equalsIgnoreCase(value)) {
+        return mode;
+      }
+    }
+    return IndexMode.OFF;
+  }
+
+  /**
+   * @return the current index mode
+   */
+  public static IndexMode getIndexMode() {
+    return indexMode;
+  }
+
+  /**
+   * @param mode
+   *          the index mode to use for next queries
+   */
+  public static void setIndexMode(IndexMode mode) {
+    indexMode = (null == mode) ? IndexMode.OFF : mode;
+  }
+
   /**
    * Retrieve EObject instances corresponding to a type and accessible from a source object by successive compositions
    * 
@@ -43,16 +88,30 @@ public class GetAllQueries implements IGetAllQueries {
     if (source == null || targetType == null)
       return result;
 
+    EClassExtentIndex index = getAvailableIndex(source);
+    if (null != index) {
+      Set<EObject> indexed = index.getAll(source, targetType);
+      if (indexMode == IndexMode.ON) {
+        return indexed;
+      }
+      collectAll(source, targetType, result);
+      checkIndex(source, targetType.getName(), result, indexed);
+      return result;
+    }
+
+    collectAll(source, targetType, result);
+    return result;
+  }
+
+  private void collectAll(EObject source, Class<?> targetType, Set<EObject> result) {
     if (targetType.isAssignableFrom(source.getClass())) {
       result.add(source);
     }
 
     EList<EObject> containedElements = source.eContents();
     for (EObject object : containedElements) {
-      result.addAll(getAll(object, targetType));
+      collectAll(object, targetType, result);
     }
-
-    return result;
   }
 
   /**
@@ -77,22 +136,64 @@ public class GetAllQueries implements IGetAllQueries {
       return result;
     }
 
+    EClassExtentIndex index = getAvailableIndex(source);
+    if (null != index) {
+      Set<EObject> indexed = index.getAllFiltered(source, targetType, filter);
+      if (indexMode == IndexMode.ON) {
+        return indexed;
+      }
+      collectAllFiltered(source, targetType, filter, result);
+      checkIndex(source, targetType.getName(), result, indexed);
+      return result;
+    }
+
+    collectAllFiltered(source, targetType, filter, result);
+    return result;
+  }
+
+  private void collectAllFiltered(EObject source, EClass targetType, List<EClass> filter, Set<EObject> result) {
     if (targetType.isSuperTypeOf(source.eClass())) {
       result.add(source);
     }
 
     for (EClass cls : filter) {
       if (cls.isSuperTypeOf(source.eClass())) {
-        return result;
+        return;
       }
     }
 
     EList<EObject> containedElements = source.eContents();
     for (EObject object : containedElements) {
-      result.addAll(getAllFiltered(object, targetType, filter));
+      collectAllFiltered(object, targetType, filter, result);
     }
+  }
 
-    return result;
+  /**
+   * @return the extent index to use for the given source, <code>null</code> if the containment tree must be walked.
+   */
+  private EClassExtentIndex getAvailableIndex(EObject source) {
+    if (indexMode == IndexMode.OFF) {
+      return null;
+    }
+    EClassExtentIndex index = EClassExtentIndex.getIndex(source);
+    if ((null != index) && index.isAvailable()) {
+      return index;
+    }
+    return null;
+  }
+
+  /**
+   * Log a warning if the result computed by the index differs from the result of the containment walk, either by its
+   * elements or by their order.
+   */
+  private void checkIndex(EObject source, String targetType, Set<EObject> expected, Set<EObject> indexed) {
+    if (!new ArrayList<EObject>(expected).equals(new ArrayList<EObject>(indexed))) {
+      String message = "GetAll index mismatch for " + targetType + " from " + source + ": " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+          + expected.size() + " element(s) found by containment walk, " + indexed.size() + " by index" //$NON-NLS-1$ //$NON-NLS-2$
+          + (expected.equals(indexed) ? " in another order" : ""); //$NON-NLS-1$ //$NON-NLS-2$
+      MdeCommonActivator.getDefault().getLog()
+          .log(new Status(IStatus.WARNING, MdeCommonActivator.getDefault().getPluginId(), message));
+    }
   }
 
   /**
@@ -0,0 +1,583 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.common.utils.graph;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An immutable directed graph, where nodes are indexed by integers and edges are stored in both directions in compact
+ * arrays (successors and predecessors of a node are contiguous slices of an int array).
+ * <p>
+ * Lookups of successors and predecessors are O(1), and traversals (breadth-first, depth-first), cycle detection,
+ * topological sort and search of strongly connected components are O(V + E), without recursion.
+ * </p>
+ * <p>
+ * Parallel edges are kept. Graphs are created with a {@link Builder}, or from an existing adjacency map or
+ * {@link IDirectedGraph}.
+ * </p>
+ */
+public class IndexedGraph<T> implements IDirectedGraph<T> {
+
+  private static final int[] NO_INDEX = new int[0];
+
+  private final List<T> nodes;
+
+  private final Map<T, Integer> indices;
+
+  /**
+   * Successors of node i are successors[successorOffsets[i]] to successors[successorOffsets[i + 1] - 1]
+   */
+  private final int[] successorOffsets;
+
+  private final int[] successors;
+
+  /**
+   * Predecessors of node i are predecessors[predecessorOffsets[i]] to predecessors[predecessorOffsets[i + 1] - 1]
+   */
+  private final int[] predecessorOffsets;
+
+  private final int[] predecessors;
+
+  /**
+   * Builds an {@link IndexedGraph}. Nodes are indexed in the order they are added, either explicitly or as the source
+   * or target of an edge.
+   */
+  public static class Builder<T> {
+
+    private final List<T> nodes = new ArrayList<>();
+
+    private final Map<T, Integer> indices = new HashMap<>();
+
+    private int[] edgeSources = new int[16];
+
+    private int[] edgeTargets = new int[16];
+
+    private int edgeCount;
+
+    public Builder<T> addNode(T node) {
+      index(node);
+      return this;
+    }
+
+    public Builder<T> addEdge(T source, T target) {
+      int sourceIndex = index(source);
+      int targetIndex = index(target);
+      if (edgeCount == edgeSources.length) {
+        edgeSources = Arrays.copyOf(edgeSources, edgeCount * 2);
+        edgeTargets = Arrays.copyOf(edgeTargets, edgeCount * 2);
+      }
+      edgeSources[edgeCount] = sourceIndex;
+      edgeTargets[edgeCount] = targetIndex;
+      edgeCount++;
+      return this;
+    }
+
+    private int index(T node) {
+      Integer index = indices.get(node);
+      if (index == null) {
+        index = nodes.size();
+        indices.put(node, index);
+        nodes.add(node);
+      }
+      return index;
+    }
+
+    public IndexedGraph<T> build() {
+      return new IndexedGraph<>(this);
+    }
+  }
+
+  protected IndexedGraph(Builder<T> builder) {
+    int size = builder.nodes.size();
+    int edgeCount = builder.edgeCount;
+    nodes = Collections.unmodifiableList(new ArrayList<>(builder.nodes));
+    indices = new HashMap<>(builder.indices);
+
+    successorOffsets = new int[size + 1];
+    successors = new int[edgeCount];
+    predecessorOffsets = new int[size + 1];
+    predecessors = new int[edgeCount];
+    fill(builder.edgeSources, builder.edgeTargets, edgeCount, successorOffsets, successors);
+    fill(builder.edgeTargets, builder.edgeSources, edgeCount, predecessorOffsets, predecessors);
+  }
+
+  /**
+   * Fill a compressed adjacency from the given list of edges, keeping the order of edges.
+   */
+  private static void fill(int[] from, int[] to, int edgeCount, int[] offsets, int[] adjacency) {
+    for (int i = 0; i < edgeCount; i++) {
+      offsets[from[i] + 1]++;
+    }
+    for (int i = 1; i < offsets.length; i++) {
+      offsets[i] += offsets[i - 1];
+    }
+    int[] positions = Arrays.copyOf(offsets, offsets.length - 1);
+    for (int i = 0; i < edgeCount; i++) {
+      adjacency[positions[from[i]]++] = to[i];
+    }
+  }
+
+  /**
+   * Create a graph from an adjacency map, where keys are nodes and values are their successors.
+   */
+  public static <T> IndexedGraph<T> of(Map<T, ? extends Collection<T>> adjacency) {
+    Builder<T> builder = new Builder<>();
+    for (Map.Entry<T, ? extends Collection<T>> entry : adjacency.entrySet()) {
+      builder.addNode(entry.getKey());
+      if (entry.getValue() != null) {
+        for (T successor : entry.getValue()) {
+          builder.addEdge(entry.getKey(), successor);
+        }
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Create a graph from the nodes and successors of the given graph.
+   */
+  public static <T> IndexedGraph<T> of(IDirectedGraph<T> graph) {
+    Builder<T> builder = new Builder<>();
+    Iterator<T> graphNodes = graph.getNodes();
+    while (graphNodes.hasNext()) {
+      T node = graphNodes.next();
+      builder.addNode(node);
+      Iterator<T> graphSuccessors = graph.getSucessors(node);
+      while (graphSuccessors.hasNext()) {
+        builder.addEdge(node, graphSuccessors.next());
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Create the graph of the nodes reachable from the given roots.
+   *
+   * @param successorsFunction
+   *          gives the successors of a node
+   */
+  public static <T> IndexedGraph<T> reachableFrom(Collection<? extends T> roots,
+      Function<? super T, ? extends Collection<? extends T>> successorsFunction) {
+    Builder<T> builder = new Builder<>();
+    List<T> toVisit = new ArrayList<>();
+    for (T root : roots) {
+      if (!builder.indices.containsKey(root)) {
+        builder.addNode(root);
+        toVisit.add(root);
+      }
+    }
+    for (int i = 0; i < toVisit.size(); i++) {
+      T node = toVisit.get(i);
+      for (T successor : successorsFunction.apply(node)) {
+        if (!builder.indices.containsKey(successor)) {
+          toVisit.add(successor);
+        }
+        builder.addEdge(node, successor);
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * @return the number of nodes
+   */
+  public int size() {
+    return nodes.size();
+  }
+
+  /**
+   * @return the number of edges
+   */
+  public int getEdgeCount() {
+    return successors.length;
+  }
+
+  public boolean isEmpty() {
+    return nodes.isEmpty();
+  }
+
+  public boolean contains(T node) {
+    return indices.containsKey(node);
+  }
+
+  /**
+   * @return the index of the node, or -1 if the node is not in the graph
+   */
+  public int indexOf(T node) {
+    Integer index = indices.get(node);
+    return index == null ? -1 : index.intValue();
+  }
+
+  public T getNode(int index) {
+    return nodes.get(index);
+  }
+
+  /**
+   * @return the nodes, in index order
+   */
+  public List<T> getNodeList() {
+    return nodes;
+  }
+
+  /**
+   * @return the successors of the node, with duplicates for parallel edges
+   */
+  public List<T> getSuccessors(T node) {
+    return asNodes(successorIndices(indexOf(node)));
+  }
+
+  /**
+   * @return the predecessors of the node, with duplicates for parallel edges
+   */
+  public List<T> getPredecessors(T node) {
+    return asNodes(predecessorIndices(indexOf(node)));
+  }
+
+  /**
+   * @return the successors and predecessors of the node
+   */
+  public Set<T> getNeighbours(T node) {
+    Set<T> neighbours = new LinkedHashSet<>(getSuccessors(node));
+    neighbours.addAll(getPredecessors(node));
+    return neighbours;
+  }
+
+  /**
+   * @return the nodes without predecessor
+   */
+  public Set<T> getSourceNodes() {
+    Set<T> sources = new LinkedHashSet<>();
+    for (int i = 0; i < nodes.size(); i++) {
+      if (predecessorOffsets[i] == predecessorOffsets[i + 1]) {
+        sources.add(nodes.get(i));
+      }
+    }
+    return sources;
+  }
+
+  /**
+   * @return the nodes reachable from the given ones (included), in breadth-first order
+   */
+  public List<T> breadthFirst(Collection<? extends T> starts) {
+    boolean[] visited = new boolean[nodes.size()];
+    int[] queue = new int[nodes.size()];
+    int tail = 0;
+    for (T start : starts) {
+      int index = indexOf(start);
+      if (index >= 0 && !visited[index]) {
+        visited[index] = true;
+        queue[tail++] = index;
+      }
+    }
+    for (int head = 0; head < tail; head++) {
+      int current = queue[head];
+      for (int i = successorOffsets[current]; i < successorOffsets[current + 1]; i++) {
+        int successor = successors[i];
+        if (!visited[successor]) {
+          visited[successor] = true;
+          queue[tail++] = successor;
+        }
+      }
+    }
+    return asNodes(Arrays.copyOf(queue, tail));
+  }
+
+  /**
+   * @return the nodes reachable from the given ones (included), in depth-first pre-order
+   */
+  public List<T> depthFirst(Collection<? extends T> starts) {
+    boolean[] visited = new boolean[nodes.size()];
+    int[] order = new int[nodes.size()];
+    int count = 0;
+    int[] stack = new int[successors.length + starts.size()];
+    for (T start : starts) {
+      int index = indexOf(start);
+      if (index < 0) {
+        continue;
+      }
+      int top = 0;
+      stack[top++] = index;
+      while (top > 0) {
+        int current = stack[--top];
+        if (!visited[current]) {
+          visited[current] = true;
+          order[count++] = current;
+          // pushed in reverse order so that successors are visited in their order
+          for (int i = successorOffsets[current + 1] - 1; i >= successorOffsets[current]; i--) {
+            if (!visited[successors[i]]) {
+              stack[top++] = successors[i];
+            }
+          }
+        }
+      }
+    }
+    return asNodes(Arrays.copyOf(order, count));
+  }
+
+  /**
+   * @return whether all nodes are connected, regardless of the direction of edges. An empty graph is connected.
+   */
+  public boolean isWeaklyConnected() {
+    if (nodes.isEmpty()) {
+      return true;
+    }
+    boolean[] visited = new boolean[nodes.size()];
+    int[] queue = new int[nodes.size()];
+    int tail = 0;
+    visited[0] = true;
+    queue[tail++] = 0;
+    for (int head = 0; head < tail; head++) {
+      int current = queue[head];
+      for (int i = successorOffsets[current]; i < successorOffsets[current + 1]; i++) {
+        if (!visited[successors[i]]) {
+          visited[successors[i]] = true;
+          queue[tail++] = successors[i];
+        }
+      }
+      for (int i = predecessorOffsets[current]; i < predecessorOffsets[current + 1]; i++) {
+        if (!visited[predecessors[i]]) {
+          visited[predecessors[i]] = true;
+          queue[tail++] = predecessors[i];
+        }
+      }
+    }
+    return tail == nodes.size();
+  }
+
+  /**
+   * @return whether the graph contains a cycle
+   */
+  public boolean containsCycle() {
+    return containsCycle(nodes);
+  }
+
+  /**
+   * @return whether a cycle is reachable from the given nodes
+   */
+  public boolean containsCycle(Collection<? extends T> starts) {
+    // 0: not visited, 1: on the current path, 2: done
+    byte[] states = new byte[nodes.size()];
+    int[] stackNodes = new int[nodes.size()];
+    int[] stackPositions = new int[nodes.size()];
+    for (T start : starts) {
+      int index = indexOf(start);
+      if (index < 0 || states[index] != 0) {
+        continue;
+      }
+      int top = 0;
+      stackNodes[top] = index;
+      stackPositions[top] = successorOffsets[index];
+      states[index] = 1;
+      while (top >= 0) {
+        int current = stackNodes[top];
+        if (stackPositions[top] < successorOffsets[current + 1]) {
+          int successor = successors[stackPositions[top]++];
+          if (states[successor] == 1) {
+            return true;
+          }
+          if (states[successor] == 0) {
+            states[successor] = 1;
+            top++;
+            stackNodes[top] = successor;
+            stackPositions[top] = successorOffsets[successor];
+          }
+        } else {
+          states[current] = 2;
+          top--;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return the nodes sorted so that each node is before its successors, or null if the graph contains a cycle. Among
+   *         available nodes, the one with the lowest index is taken first.
+   */
+  public List<T> topologicalSort() {
+    int size = nodes.size();
+    int[] inDegrees = new int[size];
+    for (int i = 0; i < size; i++) {
+      inDegrees[i] = predecessorOffsets[i + 1] - predecessorOffsets[i];
+    }
+    PriorityQueue<Integer> available = new PriorityQueue<>();
+    for (int i = 0; i < size; i++) {
+      if (inDegrees[i] == 0) {
+        available.add(i);
+      }
+    }
+    int[] order = new int[size];
+    int count = 0;
+    while (!available.isEmpty()) {
+      int current = available.poll();
+      order[count++] = current;
+      for (int i = successorOffsets[current]; i < successorOffsets[current + 1]; i++) {
+        if (--inDegrees[successors[i]] == 0) {
+          available.add(successors[i]);
+        }
+      }
+    }
+    return count == size ? asNodes(order) : null;
+  }
+
+  /**
+   * Find the strongly connected components with Tarjan's algorithm.
+   *
+   * @return all strongly connected components, including single nodes, each component being listed after the
+   *         components it can reach
+   */
+  public List<List<T>> getStronglyConnectedComponents() {
+    int size = nodes.size();
+    int[] discovery = new int[size];
+    Arrays.fill(discovery, -1);
+    int[] lowLinks = new int[size];
+    boolean[] onStack = new boolean[size];
+    int[] componentStack = new int[size];
+    int componentTop = 0;
+    int[] callNodes = new int[size];
+    int[] callPositions = new int[size];
+    int counter = 0;
+    List<List<T>> components = new ArrayList<>();
+
+    for (int root = 0; root < size; root++) {
+      if (discovery[root] >= 0) {
+        continue;
+      }
+      int top = 0;
+      callNodes[top] = root;
+      callPositions[top] = successorOffsets[root];
+      discovery[root] = lowLinks[root] = counter++;
+      componentStack[componentTop++] = root;
+      onStack[root] = true;
+
+      while (top >= 0) {
+        int current = callNodes[top];
+        if (callPositions[top] < successorOffsets[current + 1]) {
+          int successor = successors[callPositions[top]++];
+          if (discovery[successor] < 0) {
+            discovery[successor] = lowLinks[successor] = counter++;
+            componentStack[componentTop++] = successor;
+            onStack[successor] = true;
+            top++;
+            callNodes[top] = successor;
+            callPositions[top] = successorOffsets[successor];
+          } else if (onStack[successor]) {
+            lowLinks[current] = Math.min(lowLinks[current], discovery[successor]);
+          }
+        } else {
+          if (lowLinks[current] == discovery[current]) {
+            List<T> component = new ArrayList<>();
+            int member;
+            do {
+              member = componentStack[--componentTop];
+              onStack[member] = false;
+              component.add(nodes.get(member));
+            } while (member != current);
+            components.add(component);
+          }
+          top--;
+          if (top >= 0) {
+            int caller = callNodes[top];
+            lowLinks[caller] = Math.min(lowLinks[caller], lowLinks[current]);
+          }
+        }
+      }
+    }
+    return components;
+  }
+
+  /**
+   * @return whether each node reachable from the root is reached by exactly one path, i.e. the reachable part of the
+   *         graph is a tree without cycle nor merge
+   */
+  public boolean isArborescence(T root) {
+    int rootIndex = indexOf(root);
+    if (rootIndex < 0) {
+      return true;
+    }
+    boolean[] reached = new boolean[nodes.size()];
+    int[] queue = new int[nodes.size()];
+    int tail = 0;
+    reached[rootIndex] = true;
+    queue[tail++] = rootIndex;
+    for (int head = 0; head < tail; head++) {
+      int current = queue[head];
+      for (int i = successorOffsets[current]; i < successorOffsets[current + 1]; i++) {
+        int successor = successors[i];
+        if (reached[successor]) {
+          // the root or an already reached node is reached a second time
+          return false;
+        }
+        reached[successor] = true;
+        queue[tail++] = successor;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterator<T> getSucessors(T source) {
+    return getSuccessors(source).iterator();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterator<T> getNodes() {
+    return nodes.iterator();
+  }
+
+  private int[] successorIndices(int index) {
+    if (index < 0) {
+      return NO_INDEX;
+    }
+    return Arrays.copyOfRange(successors, successorOffsets[index], successorOffsets[index + 1]);
+  }
+
+  private int[] predecessorIndices(int index) {
+    if (index < 0) {
+      return NO_INDEX;
+    }
+    return Arrays.copyOfRange(predecessors, predecessorOffsets[index], predecessorOffsets[index + 1]);
+  }
+
+  private List<T> asNodes(final int[] indexes) {
+    return new AbstractList<T>() {
+      @Override
+      public T get(int index) {
+        return nodes.get(indexes[index]);
+      }
+
+      @Override
+      public int size() {
+        return indexes.length;
+      }
+    };
+  }
+}
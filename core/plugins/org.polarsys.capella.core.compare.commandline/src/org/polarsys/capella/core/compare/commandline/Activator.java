@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.core.compare.commandline;
+
+import org.osgi.framework.BundleActivator;
+import org.osgi.framework.BundleContext;
+
+public class Activator implements BundleActivator {
+  // The plug-in ID
+  public static final String PLUGIN_ID = "org.polarsys.capella.core.compare.commandline"; //$NON-NLS-1$
+
+  private static BundleContext context;
+
+  static BundleContext getContext() {
+    return context;
+  }
+
+  /*
+   * (non-Javadoc)
+   * @see org.osgi.framework.BundleActivator#start(org.osgi.framework.BundleContext)
+   */
+  @Override
+  public void start(BundleContext bundleContext) throws Exception {
+    Activator.context = bundleContext;
+  }
+
+  /*
+   * (non-Javadoc)
+   * @see org.osgi.framework.BundleActivator#stop(org.osgi.framework.BundleContext)
+   */
+  @Override
+  public void stop(BundleContext bundleContext) throws Exception {
+    Activator.context = null;
+  }
+
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.core.compare.commandline;
+
+import org.polarsys.capella.core.commandline.core.CommandLineArgumentHelper;
+
+/**
+ */
+public class CompareArgumentHelper extends CommandLineArgumentHelper {
+  private String baseline;
+  private String format = CompareCommandLineConstants.FORMAT_JSON;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void parseArgs(String[] args) {
+    super.parseArgs(args);
+
+    // parse comparison specific args
+    // an option given as last argument has no value and is ignored
+    for (int i = 0; i < args.length - 1; i++) {
+      String arg = args[i].toLowerCase();
+
+      if (CompareCommandLineConstants.COMPARE_BASELINE.equalsIgnoreCase(arg)) {
+        baseline = args[++i];
+
+      } else if (CompareCommandLineConstants.COMPARE_FORMAT.equalsIgnoreCase(arg)) {
+        format = args[++i].trim().toLowerCase();
+      }
+    }
+  }
+
+  /**
+   * @return the path of the model the input model is compared to
+   */
+  public String getBaseline() {
+    return baseline;
+  }
+
+  /**
+   * @return the format of the comparison report, json by default
+   */
+  public String getFormat() {
+    return format;
+  }
+}
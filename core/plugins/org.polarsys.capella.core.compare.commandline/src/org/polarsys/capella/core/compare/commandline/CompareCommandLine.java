@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.core.compare.commandline;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.diffmerge.generic.api.Role;
+import org.eclipse.emf.diffmerge.generic.api.diff.IDifference;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.equinox.app.IApplicationContext;
+import org.eclipse.osgi.util.NLS;
+import org.polarsys.capella.common.ef.ExecutionManager;
+import org.polarsys.capella.common.ef.ExecutionManagerRegistry;
+import org.polarsys.capella.core.commandline.core.CommandLineException;
+import org.polarsys.capella.core.commandline.core.DefaultCommandLine;
+import org.polarsys.capella.core.compare.CapellaComparison;
+import org.polarsys.capella.core.compare.CapellaDiffPolicy;
+import org.polarsys.capella.core.compare.CapellaMatchPolicy;
+import org.polarsys.capella.core.compare.CapellaMergePolicy;
+import org.polarsys.capella.core.model.handler.command.CapellaResourceHelper;
+
+/**
+ * Compares a model to a baseline without workbench nor Sirius session, and exports the differences to a JSON or CSV
+ * report.
+ */
+public class CompareCommandLine extends DefaultCommandLine {
+
+  public CompareCommandLine() {
+    super();
+    argHelper = new CompareArgumentHelper();
+  }
+
+  @Override
+  public void printHelp() {
+    super.printHelp(Arrays.asList("outputfolder"));
+    printArgumentsFromTable("compareParameters", false, Collections.emptyList());
+  }
+
+  @Override
+  public void checkArgs(IApplicationContext context) throws CommandLineException {
+    CompareArgumentHelper helper = (CompareArgumentHelper) argHelper;
+    if (helper.getInputs() == null) {
+      logErrorAndThrowException(org.polarsys.capella.core.commandline.core.Messages.inputs_mandatory);
+    }
+    List<String> inputs = toList(helper.getInputs());
+    if (inputs.size() != 1) {
+      logErrorAndThrowException(Messages.single_input);
+    }
+    if (helper.getBaseline() == null) {
+      logErrorAndThrowException(Messages.baseline_mandatory);
+    }
+    if (helper.getOutputFolder() == null) {
+      logErrorAndThrowException(org.polarsys.capella.core.commandline.core.Messages.outputfolder_mandatory);
+    }
+    if (!ComparisonReportWriter.isSupported(helper.getFormat())) {
+      logErrorAndThrowException(Messages.unknown_format + helper.getFormat());
+    }
+    // Both models are loaded ignoring their Capella version (see HeadlessCapellaScope), so checkProject checks the
+    // compliancy of their Capella resources with the current version
+    checkInputModelFile(inputs.get(0));
+    checkInputModelFile(helper.getBaseline());
+  }
+
+  /**
+   * Check that the given path is an aird or capella file of an existing project
+   */
+  protected void checkInputModelFile(String path) throws CommandLineException {
+    String extension = new Path(path).getFileExtension();
+    if (!CapellaResourceHelper.AIRD_FILE_EXTENSION.equals(extension)
+        && !CapellaResourceHelper.CAPELLA_MODEL_FILE_EXTENSION.equals(extension)) {
+      logErrorAndThrowException(Messages.model_file_expected + path);
+    }
+    IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(getProjectNameFromPath(path));
+    checkProject(project);
+    IFile file = project.getFile(getRelativeFilePath(path));
+    if (!file.exists()) {
+      logErrorAndThrowException(
+          Messages.model_file + path + org.polarsys.capella.core.commandline.core.Messages.not_exist);
+    }
+  }
+
+  @Override
+  public boolean execute(IApplicationContext context) throws CommandLineException {
+    CompareArgumentHelper helper = (CompareArgumentHelper) argHelper;
+    IFile target = ResourcesPlugin.getWorkspace().getRoot().getFile(new Path(toList(helper.getInputs()).get(0)));
+    IFile reference = ResourcesPlugin.getWorkspace().getRoot().getFile(new Path(helper.getBaseline()));
+
+    IStatus status = compare(reference, target, helper.getFormat());
+    logStatus(status);
+    if (!status.isOK()) {
+      throw new CommandLineException(status.getMessage());
+    }
+    return true;
+  }
+
+  /**
+   * Compare the given model to its baseline, then export the differences to the output folder of the model
+   *
+   * @param referenceFile
+   *          the aird or capella file of the baseline, playing the REFERENCE role
+   * @param targetFile
+   *          the aird or capella file of the compared model, playing the TARGET role
+   * @param format
+   *          the format of the report
+   */
+  protected IStatus compare(IFile referenceFile, IFile targetFile, String format) {
+    URI referenceURI = URI.createPlatformResourceURI(referenceFile.getFullPath().toString(), true);
+    URI targetURI = URI.createPlatformResourceURI(targetFile.getFullPath().toString(), true);
+
+    // Each model is loaded in its own editing domain, as in the comparison editor
+    ExecutionManager referenceManager = ExecutionManagerRegistry.getInstance().addNewManager();
+    ExecutionManager targetManager = ExecutionManagerRegistry.getInstance().addNewManager();
+    try {
+      long start = System.currentTimeMillis();
+      HeadlessCapellaScope referenceScope = new HeadlessCapellaScope(referenceURI,
+          referenceManager.getEditingDomain());
+      referenceScope.load();
+      HeadlessCapellaScope targetScope = new HeadlessCapellaScope(targetURI, targetManager.getEditingDomain());
+      targetScope.load();
+      logInfo(NLS.bind(Messages.models_loaded, System.currentTimeMillis() - start));
+
+      start = System.currentTimeMillis();
+      CapellaComparison comparison = new CapellaComparison(targetScope, referenceScope, null);
+      IStatus status = comparison.compute(new CapellaMatchPolicy(), new CapellaDiffPolicy(), new CapellaMergePolicy(),
+          new LoggingProgressMonitor());
+      if (status.matches(IStatus.ERROR | IStatus.CANCEL)) {
+        return status;
+      }
+      logInfo(NLS.bind(Messages.models_compared, System.currentTimeMillis() - start));
+      if (comparison.getMatchIDStatistics() != null) {
+        logInfo(comparison.getMatchIDStatistics().toString());
+      }
+
+      start = System.currentTimeMillis();
+      IFolder outputFolder = getOrCreateOutputFolderForAird(targetURI);
+      if (outputFolder == null) {
+        return new Status(IStatus.ERROR, Activator.PLUGIN_ID,
+            org.polarsys.capella.core.commandline.core.Messages.cannot_create_folder);
+      }
+      IFile reportFile = outputFolder.getFile(Messages.resultsFileName + '.' + format);
+      int count = export(comparison, reportFile, format, referenceFile, targetFile);
+      return new Status(IStatus.OK, Activator.PLUGIN_ID, NLS.bind(Messages.differences_exported,
+          new Object[] { count, reportFile.getFullPath(), System.currentTimeMillis() - start }));
+
+    } catch (Exception exception) {
+      return new Status(IStatus.ERROR, Activator.PLUGIN_ID, exception.getMessage(), exception);
+
+    } finally {
+      dispose(referenceManager);
+      dispose(targetManager);
+    }
+  }
+
+  /**
+   * Write the differences of the given computed comparison to the given report file, as they are iterated
+   *
+   * @return the number of exported differences
+   */
+  protected int export(CapellaComparison comparison, IFile reportFile, String format, IFile referenceFile,
+      IFile targetFile) throws Exception {
+    try (ComparisonReportWriter report = ComparisonReportWriter.create(format, new BufferedWriter(
+        new OutputStreamWriter(new FileOutputStream(reportFile.getLocation().toFile()), StandardCharsets.UTF_8)))) {
+      report.begin(referenceFile.getFullPath().toString(), targetFile.getFullPath().toString());
+      for (Role role : Arrays.asList(Role.TARGET, Role.REFERENCE)) {
+        for (IDifference<EObject> difference : comparison.getDifferences(role)) {
+          report.write(difference);
+        }
+      }
+      report.end();
+      reportFile.refreshLocal(IResource.DEPTH_ZERO, new NullProgressMonitor());
+      return report.getCount();
+    }
+  }
+
+  private void dispose(ExecutionManager manager) {
+    manager.getEditingDomain().dispose();
+    ExecutionManagerRegistry.getInstance().removeManager(manager);
+  }
+
+  /**
+   * Logs the tasks and sub tasks of the comparison, so that its progress can be followed from the console.
+   */
+  protected class LoggingProgressMonitor extends NullProgressMonitor {
+
+    @Override
+    public void beginTask(String name, int totalWork) {
+      logTask(name);
+    }
+
+    @Override
+    public void subTask(String name) {
+      logTask(name);
+    }
+
+    private void logTask(String name) {
+      if (name != null && !name.isEmpty()) {
+        logInfo(name);
+      }
+    }
+  }
+}
@@ -0,0 +1,25 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.core.compare.commandline;
+
+/**
+ */
+public class CompareCommandLineConstants {
+
+  public static final String COMPARE_BASELINE = "-comparebaseline";//$NON-NLS-1$
+  public static final String COMPARE_FORMAT = "-compareformat";//$NON-NLS-1$
+
+  public static final String FORMAT_JSON = "json";//$NON-NLS-1$
+  public static final String FORMAT_CSV = "csv";//$NON-NLS-1$
+
+}
@@ -0,0 +1,322 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.core.compare.commandline;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+import org.eclipse.emf.diffmerge.diffdata.EAttributeValuePresence;
+import org.eclipse.emf.diffmerge.diffdata.EElementPresence;
+import org.eclipse.emf.diffmerge.diffdata.EReferenceValuePresence;
+import org.eclipse.emf.diffmerge.generic.api.Role;
+import org.eclipse.emf.diffmerge.generic.api.diff.IDifference;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Writes the differences of a comparison to a report, one difference at a time, so that the report is never held in
+ * memory.
+ * The TARGET role is played by the compared model and the REFERENCE role by its baseline: a difference present in the
+ * TARGET role is reported as added, one present in the REFERENCE role as removed.
+ */
+public abstract class ComparisonReportWriter implements Closeable {
+
+  protected static final String[] COLUMNS = { "change", "kind", "elementId", "elementType", "elementName", "feature", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+      "value" }; //$NON-NLS-1$
+
+  protected static final String CHANGE_ADDED = "added"; //$NON-NLS-1$
+  protected static final String CHANGE_REMOVED = "removed"; //$NON-NLS-1$
+  protected static final String CHANGE_REORDERED = "reordered"; //$NON-NLS-1$
+
+  protected static final String KIND_ELEMENT = "element"; //$NON-NLS-1$
+  protected static final String KIND_ATTRIBUTE = "attribute"; //$NON-NLS-1$
+  protected static final String KIND_REFERENCE = "reference"; //$NON-NLS-1$
+
+  protected final Writer writer;
+
+  private int count;
+
+  protected ComparisonReportWriter(Writer writer) {
+    this.writer = writer;
+  }
+
+  /**
+   * @param format
+   *          the format of the report, see {@link CompareCommandLineConstants}
+   * @param writer
+   *          the writer of the report
+   * @return a report writer, or null if the format is unknown
+   */
+  public static ComparisonReportWriter create(String format, Writer writer) {
+    if (CompareCommandLineConstants.FORMAT_JSON.equals(format)) {
+      return new Json(writer);
+    } else if (CompareCommandLineConstants.FORMAT_CSV.equals(format)) {
+      return new Csv(writer);
+    }
+    return null;
+  }
+
+  /**
+   * @param format
+   *          a report format
+   * @return whether a report can be written in the given format
+   */
+  public static boolean isSupported(String format) {
+    return CompareCommandLineConstants.FORMAT_JSON.equals(format)
+        || CompareCommandLineConstants.FORMAT_CSV.equals(format);
+  }
+
+  /**
+   * Start the report
+   *
+   * @param reference
+   *          the path of the baseline model
+   * @param target
+   *          the path of the compared model
+   */
+  public abstract void begin(String reference, String target) throws IOException;
+
+  /**
+   * Write the given difference if it is relevant to the report
+   *
+   * @return whether the difference has been written
+   */
+  public boolean write(IDifference<EObject> difference) throws IOException {
+    String[] row = toRow(difference);
+    if (row == null) {
+      return false;
+    }
+    writeRow(row, count++);
+    return true;
+  }
+
+  /**
+   * End the report
+   */
+  public abstract void end() throws IOException;
+
+  /**
+   * @return the number of differences written so far
+   */
+  public int getCount() {
+    return count;
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.close();
+  }
+
+  /**
+   * @param row
+   *          the values of the {@link #COLUMNS} for a difference
+   * @param index
+   *          the index of the difference in the report
+   */
+  protected abstract void writeRow(String[] row, int index) throws IOException;
+
+  /**
+   * @return the values of the {@link #COLUMNS} for the given difference, or null if it is not reported
+   */
+  protected String[] toRow(IDifference<EObject> difference) {
+    if (difference instanceof EElementPresence) {
+      EElementPresence presence = (EElementPresence) difference;
+      return toRow(getChange(presence.getPresenceRole(), false), KIND_ELEMENT, presence.getElement(), null, null);
+
+    } else if (difference instanceof EAttributeValuePresence) {
+      EAttributeValuePresence presence = (EAttributeValuePresence) difference;
+      if (presence.isOrder() && presence.getPresenceRole() != Role.TARGET) {
+        // Order differences come in pairs, the one of the compared model is enough
+        return null;
+      }
+      EObject element = presence.getElementMatch().get(presence.getPresenceRole());
+      Object value = presence.getValue();
+      return toRow(getChange(presence.getPresenceRole(), presence.isOrder()), KIND_ATTRIBUTE, element,
+          presence.getFeature(), value == null ? null : value.toString());
+
+    } else if (difference instanceof EReferenceValuePresence) {
+      EReferenceValuePresence presence = (EReferenceValuePresence) difference;
+      if (presence.isOrder() && presence.getPresenceRole() != Role.TARGET) {
+        return null;
+      }
+      EObject element = presence.getElementMatch().get(presence.getPresenceRole());
+      return toRow(getChange(presence.getPresenceRole(), presence.isOrder()), KIND_REFERENCE, element,
+          presence.getFeature(), getId(presence.getValue()));
+    }
+    return null;
+  }
+
+  private String[] toRow(String change, String kind, EObject element, EStructuralFeature feature, String value) {
+    return new String[] { change, kind, getId(element), element == null ? null : element.eClass().getName(),
+        getName(element), feature == null ? null : feature.getName(), value };
+  }
+
+  private String getChange(Role presenceRole, boolean order) {
+    if (order) {
+      return CHANGE_REORDERED;
+    }
+    return presenceRole == Role.TARGET ? CHANGE_ADDED : CHANGE_REMOVED;
+  }
+
+  /**
+   * @return the ID of the given element, or its URI fragment if it has no ID
+   */
+  protected String getId(EObject element) {
+    if (element == null) {
+      return null;
+    }
+    String id = EcoreUtil.getID(element);
+    if (id == null && element.eResource() != null) {
+      id = element.eResource().getURIFragment(element);
+    }
+    return id;
+  }
+
+  /**
+   * @return the name of the given element, if its type has a name attribute
+   */
+  protected String getName(EObject element) {
+    if (element == null) {
+      return null;
+    }
+    EStructuralFeature feature = element.eClass().getEStructuralFeature("name"); //$NON-NLS-1$
+    if (feature instanceof EAttribute && !feature.isMany()) {
+      Object name = element.eGet(feature);
+      return name == null ? null : name.toString();
+    }
+    return null;
+  }
+
+  /**
+   * A report in JSON, whose differences are an array of objects keyed by the {@link #COLUMNS}.
+   */
+  protected static class Json extends ComparisonReportWriter {
+
+    protected Json(Writer writer) {
+      super(writer);
+    }
+
+    @Override
+    public void begin(String reference, String target) throws IOException {
+      writer.write("{\n  \"reference\": "); //$NON-NLS-1$
+      writeString(reference);
+      writer.write(",\n  \"target\": "); //$NON-NLS-1$
+      writeString(target);
+      writer.write(",\n  \"differences\": ["); //$NON-NLS-1$
+    }
+
+    @Override
+    protected void writeRow(String[] row, int index) throws IOException {
+      writer.write(index == 0 ? "\n    {" : ",\n    {"); //$NON-NLS-1$ //$NON-NLS-2$
+      for (int i = 0; i < COLUMNS.length; i++) {
+        if (i > 0) {
+          writer.write(", "); //$NON-NLS-1$
+        }
+        writeString(COLUMNS[i]);
+        writer.write(": "); //$NON-NLS-1$
+        writeString(row[i]);
+      }
+      writer.write('}');
+    }
+
+    @Override
+    public void end() throws IOException {
+      writer.write(getCount() == 0 ? "],\n" : "\n  ],\n"); //$NON-NLS-1$ //$NON-NLS-2$
+      writer.write("  \"count\": " + getCount() + "\n}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+      writer.flush();
+    }
+
+    private void writeString(String value) throws IOException {
+      if (value == null) {
+        writer.write("null"); //$NON-NLS-1$
+        return;
+      }
+      writer.write('"');
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        switch (c) {
+        case '"':
+          writer.write("\\\""); //$NON-NLS-1$
+          break;
+        case '\\':
+          writer.write("\\\\"); //$NON-NLS-1$
+          break;
+        case '\n':
+          writer.write("\\n"); //$NON-NLS-1$
+          break;
+        case '\r':
+          writer.write("\\r"); //$NON-NLS-1$
+          break;
+        case '\t':
+          writer.write("\\t"); //$NON-NLS-1$
+          break;
+        default:
+          if (c < 0x20) {
+            writer.write(String.format("\\u%04x", (int) c)); //$NON-NLS-1$
+          } else {
+            writer.write(c);
+          }
+        }
+      }
+      writer.write('"');
+    }
+  }
+
+  /**
+   * A report in CSV, with a header row of the {@link #COLUMNS} and a row per difference.
+   */
+  protected static class Csv extends ComparisonReportWriter {
+
+    protected Csv(Writer writer) {
+      super(writer);
+    }
+
+    @Override
+    public void begin(String reference, String target) throws IOException {
+      writeLine(COLUMNS);
+    }
+
+    @Override
+    protected void writeRow(String[] row, int index) throws IOException {
+      writeLine(row);
+    }
+
+    @Override
+    public void end() throws IOException {
+      writer.flush();
+    }
+
+    private void writeLine(String[] values) throws IOException {
+      for (int i = 0; i < values.length; i++) {
+        if (i > 0) {
+          writer.write(',');
+        }
+        String value = values[i];
+        if (value != null) {
+          if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0
+              || value.indexOf('\r') >= 0) {
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\"")); //$NON-NLS-1$ //$NON-NLS-2$
+            writer.write('"');
+          } else {
+            writer.write(value);
+          }
+        }
+      }
+      writer.write("\r\n"); //$NON-NLS-1$
+    }
+  }
+}
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.core.compare.commandline;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.edit.domain.EditingDomain;
+import org.polarsys.capella.core.compare.CapellaScope;
+
+/**
+ * A read-only Capella scope loaded outside of any Sirius session, where no user can be asked whether models of another
+ * Capella version may be compared.
+ */
+public class HeadlessCapellaScope extends CapellaScope {
+
+  /**
+   * Constructor
+   * @param uri the non-null URI of the aird or capella resource of the scope
+   * @param domain the non-null editing domain in which the resources of the scope are loaded
+   */
+  public HeadlessCapellaScope(URI uri, EditingDomain domain) {
+    super(uri, domain, true);
+  }
+
+  /**
+   * @see org.polarsys.capella.core.compare.CapellaScope#checkCapellaVersion(org.eclipse.emf.ecore.resource.Resource)
+   */
+  @Override
+  protected void checkCapellaVersion(Resource resource) {
+    // The version compliancy of the models is checked by the command line before they are loaded
+    _ignoreCapellaVersions = true;
+  }
+
+}
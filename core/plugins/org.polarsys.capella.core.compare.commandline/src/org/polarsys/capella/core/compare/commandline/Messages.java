@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.core.compare.commandline;
+
+import org.eclipse.osgi.util.NLS;
+
+/**
+ */
+public class Messages extends NLS {
+  private static final String BUNDLE_NAME = "org.polarsys.capella.core.compare.commandline.messages"; //$NON-NLS-1$
+  public static String resultsFileName;
+  public static String baseline_mandatory;
+  public static String single_input;
+  public static String model_file;
+  public static String model_file_expected;
+  public static String unknown_format;
+  public static String models_loaded;
+  public static String models_compared;
+  public static String differences_exported;
+  static {
+    // initialize resource bundle
+    NLS.initializeMessages(BUNDLE_NAME, Messages.class);
+  }
+
+  private Messages() {
+  }
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.core.compare;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.emf.diffmerge.diffdata.impl.EComparisonImpl;
+import org.eclipse.emf.diffmerge.generic.api.IDiffPolicy;
+import org.eclipse.emf.diffmerge.generic.api.IMatchPolicy;
+import org.eclipse.emf.diffmerge.generic.api.IMergePolicy;
+import org.eclipse.emf.diffmerge.generic.api.Role;
+import org.eclipse.emf.diffmerge.generic.api.scopes.IEditableTreeDataScope;
+import org.eclipse.emf.diffmerge.generic.api.scopes.ITreeDataScope;
+import org.eclipse.emf.ecore.EObject;
+import org.polarsys.capella.common.tools.report.util.IReportManagerDefaultComponents;
+import org.polarsys.capella.core.compare.CapellaMatchPolicy.MatchIDStatistics;
+
+/**
+ * A comparison of Capella models.
+ * The computation of the comparison is a match ID phase of its Capella match policy, so that the
+ * match IDs of the elements of its scopes are memoized and precomputed in parallel.
+ * The statistics of the phase are available once the comparison is computed, and logged in
+ * debug mode.
+ * @see CapellaMatchPolicy#beginMatchIDPhase(java.util.Collection)
+ */
+public class CapellaComparison extends EComparisonImpl {
+
+  private static final Logger LOGGER = Logger.getLogger(IReportManagerDefaultComponents.MODEL);
+
+  /** The statistics of the last match ID phase, if any */
+  protected MatchIDStatistics _matchIDStatistics;
+
+  /**
+   * Constructor
+   * @param targetScope_p the non-null model scope playing the TARGET comparison role
+   * @param referenceScope_p the non-null model scope playing the REFERENCE comparison role
+   * @param ancestorScope_p the optional model scope playing the ANCESTOR comparison role
+   */
+  public CapellaComparison(IEditableTreeDataScope<EObject> targetScope_p,
+      IEditableTreeDataScope<EObject> referenceScope_p,
+      IEditableTreeDataScope<EObject> ancestorScope_p) {
+    super(targetScope_p, referenceScope_p, ancestorScope_p);
+  }
+
+  /**
+   * @see org.eclipse.emf.diffmerge.generic.impl.GComparisonImpl#compute(org.eclipse.emf.diffmerge.generic.api.IMatchPolicy, org.eclipse.emf.diffmerge.generic.api.IDiffPolicy, org.eclipse.emf.diffmerge.generic.api.IMergePolicy, org.eclipse.core.runtime.IProgressMonitor)
+   */
+  @Override
+  public IStatus compute(IMatchPolicy<EObject> matchPolicy_p, IDiffPolicy<EObject> diffPolicy_p,
+      IMergePolicy<EObject> mergePolicy_p, IProgressMonitor monitor_p) {
+    if (!(matchPolicy_p instanceof CapellaMatchPolicy))
+      return super.compute(matchPolicy_p, diffPolicy_p, mergePolicy_p, monitor_p);
+    CapellaMatchPolicy matchPolicy = (CapellaMatchPolicy) matchPolicy_p;
+    List<ITreeDataScope<EObject>> scopes = new ArrayList<ITreeDataScope<EObject>>();
+    for (Role role : Role.values()) {
+      ITreeDataScope<EObject> scope = getScope(role);
+      if (scope != null)
+        scopes.add(scope);
+    }
+    matchPolicy.beginMatchIDPhase(scopes);
+    try {
+      return super.compute(matchPolicy_p, diffPolicy_p, mergePolicy_p, monitor_p);
+    } finally {
+      _matchIDStatistics = matchPolicy.endMatchIDPhase();
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(_matchIDStatistics);
+      }
+    }
+  }
+
+  /**
+   * Return the statistics of the match ID phase of the last computation
+   * @return a potentially null object, null if the comparison was not computed with a Capella
+   *         match policy
+   */
+  public MatchIDStatistics getMatchIDStatistics() {
+    return _matchIDStatistics;
+  }
+
+}
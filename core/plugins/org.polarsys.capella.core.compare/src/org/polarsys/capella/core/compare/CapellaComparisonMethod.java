@@ -27,10 +27,12 @@ import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
+import org.eclipse.emf.diffmerge.diffdata.EComparison;
 import org.eclipse.emf.diffmerge.generic.api.IDiffPolicy;
 import org.eclipse.emf.diffmerge.generic.api.IMatchPolicy;
 import org.eclipse.emf.diffmerge.generic.api.IMergePolicy;
 import org.eclipse.emf.diffmerge.generic.api.config.IComparisonConfigurator;
+import org.eclipse.emf.diffmerge.generic.api.scopes.IEditableTreeDataScope;
 import org.eclipse.emf.diffmerge.impl.policies.ComparisonConfigurator;
 import org.eclipse.emf.diffmerge.ui.sirius.SiriusComparisonMethod;
 import org.eclipse.emf.diffmerge.ui.specification.IComparisonMethodFactory;
@@ -107,6 +109,15 @@ public class CapellaComparisonMethod extends SiriusComparisonMethod {
     return result;
   }
   
+  /**
+   * @see org.eclipse.emf.diffmerge.ui.specification.ext.DefaultComparisonMethod#createComparison(org.eclipse.emf.diffmerge.generic.api.scopes.IEditableTreeDataScope, org.eclipse.emf.diffmerge.generic.api.scopes.IEditableTreeDataScope, org.eclipse.emf.diffmerge.generic.api.scopes.IEditableTreeDataScope)
+   */
+  @Override
+  public EComparison createComparison(IEditableTreeDataScope<EObject> targetScope,
+      IEditableTreeDataScope<EObject> referenceScope, IEditableTreeDataScope<EObject> ancestorScope) {
+    return new CapellaComparison(targetScope, referenceScope, ancestorScope);
+  }
+
   /**
    * @see org.eclipse.emf.diffmerge.ui.specification.ext.DefaultComparisonMethod#createEditingDomain()
    */
@@ -12,10 +12,16 @@
  *******************************************************************************/
 package org.polarsys.capella.core.compare;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.emf.diffmerge.generic.api.scopes.ITreeDataScope;
 import org.eclipse.emf.diffmerge.sirius.SiriusMatchPolicy;
@@ -37,6 +43,7 @@ import org.polarsys.capella.core.data.capellacore.Generalization;
 import org.polarsys.capella.core.data.capellacore.Involvement;
 import org.polarsys.capella.core.data.capellacore.KeyValue;
 import org.polarsys.capella.core.data.capellacore.ModellingArchitecture;
+import org.polarsys.capella.core.data.capellacore.Structure;
 import org.polarsys.capella.core.data.capellamodeller.CapellamodellerPackage;
 import org.polarsys.capella.core.data.capellamodeller.Library;
 import org.polarsys.capella.core.data.capellamodeller.Project;
@@ -164,6 +171,25 @@ public class CapellaMatchPolicy extends SiriusMatchPolicy {
    * typically because instances have automatically-generated names.
    */
   private static Collection<EClass> UNSIGNIFICANT_NAMEDELEMENT_SUBTYPES = null;
+  
+  /**
+   * The system property that gives the number of threads computing match IDs at the beginning of
+   * a match ID phase, 1 for no precomputation. Defaults to the number of available processors.
+   */
+  public static final String MATCH_ID_THREADS_PROPERTY = "org.polarsys.capella.core.compare.matchIDThreads"; //$NON-NLS-1$
+  
+  /** The value standing for a null match ID or qualifier in the memoized values */
+  private static final Object NO_VALUE = new Object();
+  
+  /**
+   * The memoized values of the scopes of the current match ID phase, shared with the worker
+   * policies of the precomputation
+   */
+  private Map<ITreeDataScope<EObject>, MatchIDMemo> _memos = new ConcurrentHashMap<ITreeDataScope<EObject>, MatchIDMemo>();
+  
+  /** The statistics of the current match ID phase, null if no phase is in progress */
+  private MatchIDStatistics _statistics = null;
+  
   /**
    * Default constructor
    */
@@ -190,6 +216,185 @@ public class CapellaMatchPolicy extends SiriusMatchPolicy {
   }
   
   /**
+   * Begin a match ID phase on the given scopes: until the end of the phase, the match IDs and
+   * structure-based root qualifiers of the elements of these scopes are memoized, so the scopes
+   * must not be modified. The match IDs of the Capella semantic elements are first computed in
+   * parallel, unless the MATCH_ID_THREADS_PROPERTY system property allows a single thread.
+   * @param scopes_p a non-null collection of non-null scopes
+   * @see CapellaMatchPolicy#endMatchIDPhase()
+   */
+  public void beginMatchIDPhase(Collection<? extends ITreeDataScope<EObject>> scopes_p) {
+    long start = System.nanoTime();
+    _memos.clear();
+    _statistics = new MatchIDStatistics(start, getMatchIDThreadCount());
+    for (ITreeDataScope<EObject> scope : scopes_p) {
+      _memos.put(scope, new MatchIDMemo());
+    }
+    if (_statistics._threadCount > 1) {
+      precomputeMatchIDs(scopes_p, _statistics._threadCount);
+    }
+    _statistics._precomputationTime = System.nanoTime() - start;
+  }
+  
+  /**
+   * End the current match ID phase, if any, and forget the memoized values
+   * @return the statistics of the phase, or null if no phase was in progress
+   */
+  public MatchIDStatistics endMatchIDPhase() {
+    MatchIDStatistics result = _statistics;
+    if (result != null) {
+      for (MatchIDMemo memo : _memos.values()) {
+        result._memoHits += memo._hits.get();
+        result._computationCount += memo._computations.get();
+      }
+      result._phaseTime = System.nanoTime() - result._start;
+    }
+    _memos.clear();
+    _statistics = null;
+    return result;
+  }
+  
+  /**
+   * Return whether a match ID phase is in progress for the given scope
+   * @param scope_p a non-null scope
+   */
+  public boolean isInMatchIDPhase(ITreeDataScope<EObject> scope_p) {
+    return _memos.containsKey(scope_p);
+  }
+  
+  /**
+   * Return the number of threads computing match IDs at the beginning of a match ID phase
+   * @return a positive int
+   */
+  protected int getMatchIDThreadCount() {
+    Integer count = Integer.getInteger(MATCH_ID_THREADS_PROPERTY);
+    if (count != null && count.intValue() > 0)
+      return count.intValue();
+    return Runtime.getRuntime().availableProcessors();
+  }
+  
+  /**
+   * Compute in parallel the match IDs of the Capella semantic elements of the given scopes.
+   * Each Structure is a unit of its own and its children are split again, any other element is
+   * a unit with all its contents, as in parallel validation. The IDs are computed by a clone of
+   * this policy which shares the memoized values but not the cache of the configurable policy,
+   * since that cache is not thread-safe. The IDs of the elements of the units that fail, and of
+   * the other elements of the scopes, are computed on demand during the match.
+   * @param scopes_p a non-null collection of scopes of the current phase
+   * @param threadCount_p a positive number of threads
+   */
+  protected void precomputeMatchIDs(Collection<? extends ITreeDataScope<EObject>> scopes_p,
+      int threadCount_p) {
+    final CapellaMatchPolicy worker = createWorkerPolicy();
+    if (worker == null)
+      return;
+    List<MatchIDUnit> units = new ArrayList<MatchIDUnit>();
+    for (ITreeDataScope<EObject> scope : scopes_p) {
+      for (EObject root : scope.getRoots()) {
+        if (root instanceof ModelElement) {
+          // Workers must only read: resolve proxies first
+          EcoreUtil.resolveAll(root);
+          split(root, scope, units);
+        }
+      }
+    }
+    _statistics._unitCount = units.size();
+    ForkJoinPool pool = new ForkJoinPool(threadCount_p);
+    try {
+      List<ForkJoinTask<Integer>> tasks = new ArrayList<ForkJoinTask<Integer>>(units.size());
+      for (final MatchIDUnit unit : units) {
+        tasks.add(pool.submit(() -> Integer.valueOf(worker.computeMatchIDs(unit))));
+      }
+      for (ForkJoinTask<Integer> task : tasks) {
+        try {
+          _statistics._precomputedCount += task.join().intValue();
+        } catch (RuntimeException e) {
+          _statistics._failedUnitCount++;
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+  
+  /**
+   * Return a policy that computes the same match IDs as this one, without cache, and memoizes
+   * them in the values of this policy
+   * @return a potentially null policy, null if this policy cannot be replicated
+   */
+  private CapellaMatchPolicy createWorkerPolicy() {
+    CapellaMatchPolicy result;
+    try {
+      result = clone();
+    } catch (CloneNotSupportedException e) {
+      return null;
+    }
+    if (result.getClass() != getClass())
+      // clone() is not overridden by the subclass: its match IDs may differ
+      return null;
+    result.setUseCache(false);
+    result._memos = _memos;
+    return result;
+  }
+  
+  /**
+   * Add to the given units the ones covering the given element and its contents
+   */
+  private void split(EObject element_p, ITreeDataScope<EObject> scope_p, List<MatchIDUnit> units_p) {
+    if (element_p instanceof Structure) {
+      units_p.add(new MatchIDUnit(element_p, scope_p, false));
+      for (EObject child : element_p.eContents()) {
+        split(child, scope_p, units_p);
+      }
+    } else {
+      units_p.add(new MatchIDUnit(element_p, scope_p, true));
+    }
+  }
+  
+  /**
+   * Compute the match IDs of the given unit, on a worker thread
+   * @return the number of elements of the unit
+   */
+  private int computeMatchIDs(MatchIDUnit unit_p) {
+    int result = 1;
+    getMatchID(unit_p._root, unit_p._scope);
+    if (unit_p._recursive) {
+      Iterator<EObject> contents = EcoreUtil.getAllProperContents(unit_p._root, false);
+      while (contents.hasNext()) {
+        getMatchID(contents.next(), unit_p._scope);
+        result++;
+      }
+    }
+    return result;
+  }
+  
+  /**
+   * Return the memoized value of the given element, if any
+   * @param memo_p a non-null memo
+   * @param values_p the non-null values of the memo to consider
+   * @param element_p a non-null element
+   * @return the memoized value, NO_VALUE for null, or null if the value is not memoized
+   */
+  private Object getMemoized(MatchIDMemo memo_p, Map<EObject, Object> values_p, EObject element_p) {
+    Object result = values_p.get(element_p);
+    if (result != null)
+      memo_p._hits.incrementAndGet();
+    return result;
+  }
+  
+  /**
+   * Memoize the given value for the given element
+   * @param memo_p a non-null memo
+   * @param values_p the non-null values of the memo to update
+   * @param element_p a non-null element
+   * @param value_p a potentially null value
+   */
+  private void memoize(MatchIDMemo memo_p, Map<EObject, Object> values_p, EObject element_p,
+      String value_p) {
+    memo_p._computations.incrementAndGet();
+    values_p.put(element_p, value_p == null ? NO_VALUE : value_p);
+  }
+  
   /**
    * @see org.eclipse.emf.diffmerge.sirius.SiriusMatchPolicy#getAvailableFineGrainedCriteria()
    */
@@ -346,6 +551,24 @@ public class CapellaMatchPolicy extends SiriusMatchPolicy {
     return result;
   }
   
+  /**
+   * Return the match ID of the given element, memoized if a match ID phase is in progress for
+   * the given scope
+   * @see org.eclipse.emf.diffmerge.impl.policies.ConfigurableMatchPolicy#getMatchID(org.eclipse.emf.ecore.EObject, org.eclipse.emf.diffmerge.generic.api.scopes.ITreeDataScope)
+   */
+  @Override
+  public String getMatchID(EObject element_p, ITreeDataScope<EObject> scope_p) {
+    MatchIDMemo memo = (element_p == null || scope_p == null) ? null : _memos.get(scope_p);
+    if (memo == null)
+      return super.getMatchID(element_p, scope_p);
+    Object memoized = getMemoized(memo, memo._matchIDs, element_p);
+    if (memoized != null)
+      return memoized == NO_VALUE ? null : (String) memoized;
+    String result = super.getMatchID(element_p, scope_p);
+    memoize(memo, memo._matchIDs, element_p, result);
+    return result;
+  }
+  
   /**
    * @see org.eclipse.emf.diffmerge.sirius.SiriusMatchPolicy#getName(org.eclipse.emf.ecore.EObject, org.eclipse.emf.diffmerge.generic.api.scopes.ITreeDataScope)
    */
@@ -496,6 +719,27 @@ public class CapellaMatchPolicy extends SiriusMatchPolicy {
   @Override
   protected String getStructureBasedRootQualifier(EObject element_p,
       ITreeDataScope<EObject> scope_p) {
+    // Asked for the root of every element by getCapellaDefaultContentRootSemanticID
+    MatchIDMemo memo = _memos.get(scope_p);
+    if (memo == null)
+      return computeStructureBasedRootQualifier(element_p, scope_p);
+    Object memoized = getMemoized(memo, memo._rootQualifiers, element_p);
+    if (memoized != null)
+      return memoized == NO_VALUE ? null : (String) memoized;
+    String result = computeStructureBasedRootQualifier(element_p, scope_p);
+    memoize(memo, memo._rootQualifiers, element_p, result);
+    return result;
+  }
+  
+  /**
+   * Compute the structure-based qualifier of the given root element
+   * @param element_p a non-null element
+   * @param scope_p a non-null scope that covers element_p
+   * @return a potentially null string
+   * @see CapellaMatchPolicy#getStructureBasedRootQualifier(EObject, ITreeDataScope)
+   */
+  protected String computeStructureBasedRootQualifier(EObject element_p,
+      ITreeDataScope<EObject> scope_p) {
     String result = null;
     if (useFineGrainedCriterion(CRITERION_SEMANTICS_P2L) &&
         isMainCapellaRoot(element_p, scope_p)) {
@@ -955,4 +1199,133 @@ public class CapellaMatchPolicy extends SiriusMatchPolicy {
         isInDiscriminatingContainment(element_p, scope_p);
   }
   
+  /**
+   * The values memoized for a scope during a match ID phase.
+   */
+  private static class MatchIDMemo {
+    /** The match IDs per element */
+    protected final Map<EObject, Object> _matchIDs = new ConcurrentHashMap<EObject, Object>();
+    /** The structure-based qualifiers per root element */
+    protected final Map<EObject, Object> _rootQualifiers = new ConcurrentHashMap<EObject, Object>();
+    /** The number of values found in the memo */
+    protected final AtomicLong _hits = new AtomicLong();
+    /** The number of values computed and memoized */
+    protected final AtomicLong _computations = new AtomicLong();
+  }
+  
+  /**
+   * An element whose match ID, and the ones of its contents if recursive, are precomputed by
+   * a single task.
+   */
+  private static class MatchIDUnit {
+    /** The non-null element */
+    protected final EObject _root;
+    /** The non-null scope of the element */
+    protected final ITreeDataScope<EObject> _scope;
+    /** Whether the contents of the element belong to the unit */
+    protected final boolean _recursive;
+    /**
+     * Constructor
+     * @param root_p a non-null element
+     * @param scope_p a non-null scope that covers root_p
+     * @param recursive_p whether the contents of the element belong to the unit
+     */
+    protected MatchIDUnit(EObject root_p, ITreeDataScope<EObject> scope_p, boolean recursive_p) {
+      _root = root_p;
+      _scope = scope_p;
+      _recursive = recursive_p;
+    }
+  }
+  
+  /**
+   * The statistics of a match ID phase. Times are in nanoseconds.
+   */
+  public static class MatchIDStatistics {
+    /** The start time of the phase, as given by System.nanoTime() */
+    protected final long _start;
+    /** The number of threads of the precomputation */
+    protected final int _threadCount;
+    /** The number of units of the precomputation */
+    protected int _unitCount;
+    /** The number of units whose precomputation failed */
+    protected int _failedUnitCount;
+    /** The number of elements whose match ID was precomputed */
+    protected int _precomputedCount;
+    /** The time spent in the precomputation */
+    protected long _precomputationTime;
+    /** The duration of the phase */
+    protected long _phaseTime;
+    /** The number of values found in the memo */
+    protected long _memoHits;
+    /** The number of values computed and memoized */
+    protected long _computationCount;
+    /**
+     * Constructor
+     * @param start_p the start time of the phase
+     * @param threadCount_p the number of threads of the precomputation
+     */
+    protected MatchIDStatistics(long start_p, int threadCount_p) {
+      _start = start_p;
+      _threadCount = threadCount_p;
+    }
+    /**
+     * Return the number of threads of the precomputation, 1 if match IDs were not precomputed
+     */
+    public int getThreadCount() {
+      return _threadCount;
+    }
+    /**
+     * Return the number of units of the precomputation
+     */
+    public int getUnitCount() {
+      return _unitCount;
+    }
+    /**
+     * Return the number of units whose precomputation failed
+     */
+    public int getFailedUnitCount() {
+      return _failedUnitCount;
+    }
+    /**
+     * Return the number of elements whose match ID was precomputed
+     */
+    public int getPrecomputedCount() {
+      return _precomputedCount;
+    }
+    /**
+     * Return the time spent to begin the phase, including the precomputation, in nanoseconds
+     */
+    public long getPrecomputationTime() {
+      return _precomputationTime;
+    }
+    /**
+     * Return the duration of the phase, in nanoseconds
+     */
+    public long getPhaseTime() {
+      return _phaseTime;
+    }
+    /**
+     * Return the number of match IDs and qualifiers found in the memo
+     */
+    public long getMemoHits() {
+      return _memoHits;
+    }
+    /**
+     * Return the number of match IDs and qualifiers computed and memoized
+     */
+    public long getComputationCount() {
+      return _computationCount;
+    }
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+      return "Match IDs: " + _computationCount + " computed, " + _memoHits + " memo hits, " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+          + _precomputedCount + " precomputed in " + _unitCount + " units on " + _threadCount //$NON-NLS-1$ //$NON-NLS-2$
+          + " threads (precomputation: " + (_precomputationTime / 1000000) + " ms, phase: " //$NON-NLS-1$ //$NON-NLS-2$
+          + (_phaseTime / 1000000) + " ms)"; //$NON-NLS-1$
+    }
+  }
+  
 }
@@ -32,6 +32,7 @@ import org.polarsys.capella.core.model.helpers.BlockArchitectureExt;
 import org.polarsys.capella.core.model.helpers.ComponentExt;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 public class GetAvailable_AbstractFunctionalBlock_AllocatedFunctions extends AbstractQuery {
 
@@ -61,7 +62,7 @@ public class GetAvailable_AbstractFunctionalBlock_AllocatedFunctions extends Abs
     List<CapellaElement> availableElements = new ArrayList<>(1);
     BlockArchitecture arch = BlockArchitectureExt.getRootBlockArchitecture(lc);
     if (arch != null) {
-      List<AbstractFunction> allLeafFunctions = new ArrayList<>(getCache(FunctionExt::getAllLeafAbstractFunctions, arch));
+      List<AbstractFunction> allLeafFunctions = new ArrayList<>(getCache(FunctionExt::getAllLeafAbstractFunctions, arch, RECORDED_READS));
       List<AbstractFunction> listTORemove = new ArrayList<>();
 
       // Remove already allocated functions, but not those that are already allocated to the target
@@ -32,6 +32,7 @@ import org.polarsys.capella.core.data.oa.Role;
 import org.polarsys.capella.core.model.helpers.SystemEngineeringExt;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 public class GetAvailable_Role_AllocatedActivities extends AbstractQuery {
 
@@ -61,7 +62,7 @@ public class GetAvailable_Role_AllocatedActivities extends AbstractQuery {
 		List<CapellaElement> availableElements = new ArrayList<>();
 		BlockArchitecture currentBlockArchitecture = SystemEngineeringExt.getRootBlockArchitecture(ele);
 		if (currentBlockArchitecture != null) {
-			availableElements.addAll(getCache(FunctionExt::getAllLeafAbstractFunctions, currentBlockArchitecture));
+			availableElements.addAll(getCache(FunctionExt::getAllLeafAbstractFunctions, currentBlockArchitecture, RECORDED_READS));
 		}
 		List<CapellaElement> listToRemove = new ArrayList<>();
 		for (CapellaElement activity : availableElements) {
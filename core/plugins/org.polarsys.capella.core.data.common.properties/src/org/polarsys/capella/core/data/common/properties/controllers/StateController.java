@@ -17,7 +17,7 @@ import java.util.List;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
-import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.helpers.ReferencerQuery;
 import org.polarsys.capella.core.business.queries.IBusinessQuery;
 import org.polarsys.capella.core.business.queries.capellacore.BusinessQueriesProvider;
 import org.polarsys.capella.core.data.fa.FaPackage;
@@ -27,6 +27,9 @@ import org.polarsys.capella.core.ui.properties.controllers.AbstractMultipleSeman
 /**
  */
 public class StateController extends AbstractMultipleSemanticFieldController {
+
+  private static final ReferencerQuery AVAILABLE_FUNCTIONS = new ReferencerQuery(FaPackage.Literals.ABSTRACT_FUNCTION__AVAILABLE_IN_STATES);
+
   /**
    * {@inheritDoc}
    */
@@ -40,7 +43,7 @@ public class StateController extends AbstractMultipleSemanticFieldController {
    */
   @Override
   public List<EObject> loadValues(EObject semanticElement, EStructuralFeature semanticFeature) {
-    return EObjectExt.getReferencers(semanticElement, FaPackage.Literals.ABSTRACT_FUNCTION__AVAILABLE_IN_STATES);
+    return AVAILABLE_FUNCTIONS.getReferencers(semanticElement);
   }
 
   /**
@@ -23,7 +23,7 @@ import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Group;
 import org.eclipse.ui.views.properties.tabbed.TabbedPropertySheetPage;
-import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.helpers.ReferencerQuery;
 import org.polarsys.capella.core.business.queries.IBusinessQuery;
 import org.polarsys.capella.core.business.queries.capellacore.BusinessQueriesProvider;
 import org.polarsys.capella.core.data.capellacommon.CapellacommonPackage;
@@ -87,7 +87,7 @@ public class StateSection extends AbstractStateSection {
           @SuppressWarnings("unchecked")
           @Override
           protected void removeAllDataValue(EObject object, EStructuralFeature feature) {
-            for (EObject referencer : EObjectExt.getReferencers(object, (EReference) feature)) {
+            for (EObject referencer : new ReferencerQuery((EReference) feature).<EObject> getReferencers(object)) {
               ((List<EObject>) referencer.eGet(feature)).remove(object);
             }
           }
@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.data.fa.validation.function;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.emf.ecore.EObject;
@@ -37,7 +38,7 @@ public class AbstractFunction_LeafFunctionKind extends AbstractValidationRule {
 
     if (eType == EMFEventType.NULL && eObj instanceof AbstractFunction) {
       AbstractFunction function = (AbstractFunction) eObj;
-      if (FunctionExt.isControlNode(function) && getCache(FunctionExt::getAllAbstractFunctions, function).size() > 1) {
+      if (FunctionExt.isControlNode(function) && getCache(FunctionExt::getAllAbstractFunctions, function, RECORDED_READS).size() > 1) {
         return ctx.createFailureStatus(CapellaElementExt.getName(eObj), function.getKind().getName());
       }
     }
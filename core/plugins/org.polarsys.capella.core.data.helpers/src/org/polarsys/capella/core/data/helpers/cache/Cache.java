@@ -31,18 +31,7 @@ public class Cache {
     Object resultObject = cachedResult.get(key);
     if (resultObject == null) {
       R result = function.apply(parameter);
-      Optional<R> encapsulatedResult;
-
-      if (result instanceof List<?>) {
-        encapsulatedResult = (Optional<R>) Optional.of(Collections.unmodifiableList((List<?>) result));
-      } else if (result instanceof Set<?>) {
-        encapsulatedResult = (Optional<R>) Optional.of(Collections.unmodifiableSet((Set<?>) result));
-      } else if (result instanceof Map<?, ?>) {
-        encapsulatedResult = (Optional<R>) Optional.of(Collections.unmodifiableMap((Map<?, ?>) result));
-      } else {
-        encapsulatedResult = Optional.ofNullable(result);
-      }
-      cachedResult.put(key, encapsulatedResult);
+      cachedResult.put(key, encapsulate(result));
 
       return result;
     }
@@ -52,6 +41,23 @@ public class Cache {
 
   }
 
+  /**
+   * @param result
+   * @return the result to keep in a cache: collections are made unmodifiable, and <code>null</code> is kept as an empty
+   *         Optional.
+   */
+  @SuppressWarnings("unchecked")
+  static <R> Optional<R> encapsulate(R result) {
+    if (result instanceof List<?>) {
+      return (Optional<R>) Optional.of(Collections.unmodifiableList((List<?>) result));
+    } else if (result instanceof Set<?>) {
+      return (Optional<R>) Optional.of(Collections.unmodifiableSet((Set<?>) result));
+    } else if (result instanceof Map<?, ?>) {
+      return (Optional<R>) Optional.of(Collections.unmodifiableMap((Map<?, ?>) result));
+    }
+    return Optional.ofNullable(result);
+  }
+
   public void clearCache() {
     cachedResult.clear();
   }
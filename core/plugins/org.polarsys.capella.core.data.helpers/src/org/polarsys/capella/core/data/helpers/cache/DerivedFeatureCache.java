@@ -0,0 +1,440 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+
+package org.polarsys.capella.core.data.helpers.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.emf.transaction.util.TransactionUtil;
+import org.polarsys.capella.common.data.modellingcore.ModelElement;
+import org.polarsys.capella.common.data.modellingcore.ModellingcorePackage;
+import org.polarsys.capella.common.model.helpers.DerivedFeatureDispatcher;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputerDecorator;
+import org.polarsys.capella.common.platform.sirius.ted.DataNotifier;
+import org.polarsys.capella.common.platform.sirius.ted.SemanticEditingDomainFactory.SemanticEditingDomain;
+import org.polarsys.capella.common.tools.report.config.registry.ReportManagerRegistry;
+import org.polarsys.capella.common.tools.report.util.IReportManagerDefaultComponents;
+import org.polarsys.capella.core.data.fa.FaPackage;
+
+/**
+ * Memoizes the values of derived properties, per element, in a cache scoped to an editing domain.<br>
+ * The cache listens to the {@link DataNotifier} of its editing domain, so that values are invalidated as soon as the
+ * model changes, including during a write transaction. A notification invalidates the values of:
+ * <ul>
+ * <li>its notifier and its old and new values, which covers the changes of the references browsed through the
+ * cross-referencer,</li>
+ * <li>for a containment change, the containers of the notifier, the added or removed elements and their contents,
+ * and the elements they reference.</li>
+ * </ul>
+ * Only the {@link #getMemoizedFeatures() memoized features}, whose values only depend on these changes, are cached.
+ * The memoized computers are installed with a {@link DerivedFeatureDispatcher} decorator, so they are not used when the
+ * dispatch table is disabled.
+ * <p>
+ * The cache is enabled with the <code>org.polarsys.capella.core.data.helpers.cache.derivedFeatures</code> system
+ * property. With the <code>org.polarsys.capella.core.data.helpers.cache.derivedFeatures.check</code> system property,
+ * each cached value is compared with a fresh computation, and replaced by it if they differ.
+ * </p>
+ */
+public class DerivedFeatureCache extends AdapterImpl {
+
+  /**
+   * System property enabling the memoization of derived properties.
+   */
+  public static final String MEMOIZE_PROPERTY = "org.polarsys.capella.core.data.helpers.cache.derivedFeatures"; //$NON-NLS-1$
+
+  /**
+   * System property enabling the comparison of cached values with fresh computations.
+   */
+  public static final String CHECK_PROPERTY = "org.polarsys.capella.core.data.helpers.cache.derivedFeatures.check"; //$NON-NLS-1$
+
+  private static final Logger logger = ReportManagerRegistry.getInstance()
+      .subscribe(IReportManagerDefaultComponents.MODEL);
+
+  /**
+   * Cached value of a property whose value is <code>null</code>.
+   */
+  private static final Object NULL_VALUE = new Object();
+
+  private static final Set<EStructuralFeature> MEMOIZED_FEATURES = Collections.unmodifiableSet(new HashSet<>(Arrays
+      .asList(FaPackage.Literals.ABSTRACT_FUNCTION__SUB_FUNCTIONS,
+          FaPackage.Literals.ABSTRACT_FUNCTION__INVOLVING_FUNCTIONAL_CHAINS,
+          FaPackage.Literals.ABSTRACT_FUNCTION__COMPONENT_FUNCTIONAL_ALLOCATIONS,
+          FaPackage.Literals.ABSTRACT_FUNCTION__IN_FUNCTION_REALIZATIONS,
+          FaPackage.Literals.ABSTRACT_FUNCTION__OUT_FUNCTION_REALIZATIONS,
+          ModellingcorePackage.Literals.TRACEABLE_ELEMENT__INCOMING_TRACES,
+          ModellingcorePackage.Literals.TRACEABLE_ELEMENT__OUTGOING_TRACES)));
+
+  private static final IDerivedFeatureComputerDecorator DECORATOR = (eClass, feature, computer) -> {
+    if (MEMOIZED_FEATURES.contains(feature)) {
+      return object -> getValue(object, feature, computer);
+    }
+    return computer;
+  };
+
+  private static volatile boolean check = Boolean.valueOf(System.getProperty(CHECK_PROPERTY, "false")); //$NON-NLS-1$
+
+  private static class CacheHolder extends AdapterImpl {
+
+    private final DerivedFeatureCache cache;
+
+    CacheHolder(DerivedFeatureCache cache) {
+      this.cache = cache;
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+      return DerivedFeatureCache.class == type;
+    }
+  }
+
+  /**
+   * Cached values by element, then by feature.
+   */
+  private final Map<EObject, Map<EStructuralFeature, Object>> values = new WeakHashMap<>();
+
+  /**
+   * Incremented on each invalidation, so that values computed meanwhile are not kept.
+   */
+  private long generation;
+
+  private final AtomicLong hitCount = new AtomicLong();
+
+  private final AtomicLong missCount = new AtomicLong();
+
+  private final AtomicLong invalidationCount = new AtomicLong();
+
+  private final AtomicLong mismatchCount = new AtomicLong();
+
+  protected DerivedFeatureCache() {
+    // Created by install
+  }
+
+  public static boolean isEnabled() {
+    return Boolean.valueOf(System.getProperty(MEMOIZE_PROPERTY, "false")); //$NON-NLS-1$
+  }
+
+  public static boolean isCheckEnabled() {
+    return check;
+  }
+
+  public static void setCheckEnabled(boolean enabled) {
+    check = enabled;
+  }
+
+  /**
+   * @return the derived features whose values are memoized
+   */
+  public static Set<EStructuralFeature> getMemoizedFeatures() {
+    return MEMOIZED_FEATURES;
+  }
+
+  /**
+   * Create the cache of the given editing domain if needed, and register it to the data notifier of the domain.
+   *
+   * @param domain
+   * @return the cache of the domain, <code>null</code> if the domain has no data notifier.
+   */
+  public static DerivedFeatureCache install(SemanticEditingDomain domain) {
+    DataNotifier dataNotifier = domain.getDataNotifier();
+    if (null == dataNotifier) {
+      return null;
+    }
+    ResourceSet resourceSet = domain.getResourceSet();
+    DerivedFeatureCache cache;
+    synchronized (resourceSet) {
+      CacheHolder holder = (CacheHolder) EcoreUtil.getExistingAdapter(resourceSet, DerivedFeatureCache.class);
+      if (null != holder) {
+        return holder.cache;
+      }
+      cache = new DerivedFeatureCache();
+      dataNotifier.addAdapter(ModelElement.class, cache);
+      resourceSet.eAdapters().add(new CacheHolder(cache));
+    }
+    DerivedFeatureDispatcher.addDecorator(DECORATOR);
+    return cache;
+  }
+
+  /**
+   * Unregister the cache of the given editing domain from its data notifier, and remove all its entries.
+   *
+   * @param domain
+   */
+  public static void uninstall(SemanticEditingDomain domain) {
+    ResourceSet resourceSet = domain.getResourceSet();
+    synchronized (resourceSet) {
+      CacheHolder holder = (CacheHolder) EcoreUtil.getExistingAdapter(resourceSet, DerivedFeatureCache.class);
+      if (null != holder) {
+        resourceSet.eAdapters().remove(holder);
+        if (null != domain.getDataNotifier()) {
+          domain.getDataNotifier().remove(holder.cache);
+        }
+        holder.cache.clear();
+      }
+    }
+  }
+
+  /**
+   * @param domain
+   * @return the cache of the given editing domain, <code>null</code> if it is not installed.
+   */
+  public static DerivedFeatureCache getCache(TransactionalEditingDomain domain) {
+    if (null == domain) {
+      return null;
+    }
+    CacheHolder holder = (CacheHolder) EcoreUtil.getExistingAdapter(domain.getResourceSet(),
+        DerivedFeatureCache.class);
+    return null == holder ? null : holder.cache;
+  }
+
+  /**
+   * @return the value of the feature of the object, from the cache of its editing domain if any.
+   */
+  static Object getValue(EObject object, EStructuralFeature feature, IDerivedFeatureComputer computer) {
+    DerivedFeatureCache cache = getCache(TransactionUtil.getEditingDomain(object));
+    if (null == cache) {
+      return computer.getValue(object);
+    }
+    return cache.get(object, feature, computer);
+  }
+
+  /**
+   * @param object
+   * @param feature
+   * @param computer
+   *          the computer of the feature
+   * @return the cached value if any, or the computed value that is then cached
+   */
+  public Object get(EObject object, EStructuralFeature feature, IDerivedFeatureComputer computer) {
+    Object cached = null;
+    long startGeneration;
+    synchronized (this) {
+      Map<EStructuralFeature, Object> objectValues = values.get(object);
+      if (null != objectValues) {
+        cached = objectValues.get(feature);
+      }
+      startGeneration = generation;
+    }
+    if (null != cached) {
+      hitCount.incrementAndGet();
+      Object value = NULL_VALUE == cached ? null : cached;
+      if (check) {
+        return check(object, feature, computer, value, startGeneration);
+      }
+      return value;
+    }
+    missCount.incrementAndGet();
+    Object value = protect(computer.getValue(object));
+    put(object, feature, value, startGeneration);
+    return value;
+  }
+
+  /**
+   * Compare the cached value with a fresh computation.
+   *
+   * @return the fresh value
+   */
+  private Object check(EObject object, EStructuralFeature feature, IDerivedFeatureComputer computer, Object cached,
+      long startGeneration) {
+    Object value = protect(computer.getValue(object));
+    if (!Objects.equals(cached, value)) {
+      mismatchCount.incrementAndGet();
+      logger.error("Stale cached value of " + feature.getName() + " for " + EcoreUtil.getURI(object)); //$NON-NLS-1$ //$NON-NLS-2$
+      put(object, feature, value, startGeneration);
+    }
+    return value;
+  }
+
+  /**
+   * Cached lists are shared between callers.
+   */
+  private Object protect(Object value) {
+    if (value instanceof List<?>) {
+      return Collections.unmodifiableList((List<?>) value);
+    }
+    return value;
+  }
+
+  private synchronized void put(EObject object, EStructuralFeature feature, Object value, long startGeneration) {
+    if (startGeneration != generation) {
+      return;
+    }
+    values.computeIfAbsent(object, o -> new HashMap<>(4)).put(feature, null == value ? NULL_VALUE : value);
+  }
+
+  @Override
+  public void notifyChanged(Notification notification) {
+    if (notification.isTouch()) {
+      return;
+    }
+    Object notifier = notification.getNotifier();
+    boolean containment;
+    if (notifier instanceof Resource) {
+      // Roots of the resource
+      containment = Resource.RESOURCE__CONTENTS == notification.getFeatureID(Resource.class);
+      if (!containment) {
+        return;
+      }
+    } else if (notifier instanceof ModelElement) {
+      Object feature = notification.getFeature();
+      containment = (feature instanceof EReference) && ((EReference) feature).isContainment();
+    } else {
+      return;
+    }
+    synchronized (this) {
+      if (values.isEmpty()) {
+        return;
+      }
+      generation++;
+      if (notifier instanceof EObject) {
+        invalidate((EObject) notifier);
+        if (containment) {
+          for (EObject container = ((EObject) notifier).eContainer(); null != container; container = container
+              .eContainer()) {
+            invalidate(container);
+          }
+        }
+      }
+      invalidateValues(notification.getOldValue(), containment);
+      invalidateValues(notification.getNewValue(), containment);
+    }
+  }
+
+  private void invalidateValues(Object value, boolean containment) {
+    if (value instanceof EObject) {
+      invalidateValue((EObject) value, containment);
+    } else if (value instanceof Collection<?>) {
+      for (Object item : (Collection<?>) value) {
+        if (item instanceof EObject) {
+          invalidateValue((EObject) item, containment);
+        }
+      }
+    }
+  }
+
+  private void invalidateValue(EObject value, boolean containment) {
+    invalidate(value);
+    if (containment) {
+      invalidateReferenced(value);
+      for (TreeIterator<EObject> it = value.eAllContents(); it.hasNext();) {
+        EObject content = it.next();
+        invalidate(content);
+        invalidateReferenced(content);
+      }
+    }
+  }
+
+  /**
+   * Invalidate the elements referenced by the given one, whose inverse references change with its containment.
+   */
+  private void invalidateReferenced(EObject object) {
+    EClass eClass = object.eClass();
+    for (EReference reference : eClass.getEAllReferences()) {
+      if (reference.isContainment() || reference.isContainer() || reference.isDerived()) {
+        continue;
+      }
+      Object referenced = object.eGet(reference, false);
+      if (referenced instanceof EObject) {
+        invalidate((EObject) referenced);
+      } else if (referenced instanceof Collection<?>) {
+        for (Object item : (Collection<?>) referenced) {
+          if (item instanceof EObject) {
+            invalidate((EObject) item);
+          }
+        }
+      }
+    }
+  }
+
+  private void invalidate(EObject object) {
+    Map<EStructuralFeature, Object> objectValues = values.remove(object);
+    if (null != objectValues) {
+      invalidationCount.addAndGet(objectValues.size());
+    }
+  }
+
+  /**
+   * Remove all entries from this cache.
+   */
+  public synchronized void clear() {
+    generation++;
+    values.clear();
+  }
+
+  /**
+   * @return the number of elements having cached values
+   */
+  public synchronized int size() {
+    return values.size();
+  }
+
+  /**
+   * @return the number of values found in the cache
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * @return the number of values computed because they were not in the cache
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * @return the number of values removed because of a model change
+   */
+  public long getInvalidationCount() {
+    return invalidationCount.get();
+  }
+
+  /**
+   * @return the number of cached values that differed from a fresh computation, in check mode
+   */
+  public long getMismatchCount() {
+    return mismatchCount.get();
+  }
+
+  /**
+   * Reset hit, miss, invalidation and mismatch counters.
+   */
+  public void resetCounters() {
+    hitCount.set(0);
+    missCount.set(0);
+    invalidationCount.set(0);
+    mismatchCount.set(0);
+  }
+}
@@ -15,12 +15,26 @@ package org.polarsys.capella.core.data.helpers.cache;
 
 import java.util.function.Function;
 
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
 public class ModelCache {
 
   private static final Cache cache = new Cache();
 
   private static boolean enabled = false;
 
+  /**
+   * Whether results of semantic elements are cached in the {@link ScopedModelCache} of their editing domain.
+   */
+  private static final boolean scoped = ScopedModelCache.isScoped();
+
+  /**
+   * Features to give to {@link #getCache(Function, Object, EStructuralFeature...)} for a function that records what it
+   * reads, besides its parameter, with {@link #recordRead(EObject)} and its variants.
+   */
+  public static final EStructuralFeature[] RECORDED_READS = new EStructuralFeature[0];
+
   private ModelCache() {
     // To hide the implicit public on
   }
@@ -33,13 +47,69 @@ public class ModelCache {
    *         result before returning it.
    */
   public static <P, R> R getCache(Function<P, R> function, P parameter) {
+    return getCache(function, parameter, (EStructuralFeature[]) null);
+  }
 
+  /**
+   * 
+   * @param function
+   * @param parameter
+   * @param features
+   *          the features read by the function, <code>null</code> if unknown. In scoped mode, the cached result is
+   *          only invalidated by changes of these features, of the parameter, or of what the function recorded with
+   *          {@link #recordRead(EObject, EStructuralFeature)}.
+   * @return If enabled, return the cached result if any or apply the function to the given parameter and cache the
+   *         result before returning it.
+   */
+  public static <P, R> R getCache(Function<P, R> function, P parameter, EStructuralFeature... features) {
+    if (scoped) {
+      ScopedModelCache scopedCache = ScopedModelCache.getCache(function, parameter);
+      if (null != scopedCache) {
+        return scopedCache.get(function, parameter, features);
+      }
+    }
     if (enabled) {
       return cache.get(function, parameter);
     }
     return function.apply(parameter);
   }
 
+  /**
+   * Record that the cached function being computed read the given feature of the given element. Records are only kept
+   * by a computation of a {@link ScopedModelCache}, they are ignored otherwise.
+   * 
+   * @param element
+   * @param feature
+   */
+  public static void recordRead(EObject element, EStructuralFeature feature) {
+    ScopedModelCache.recordRead(element, feature);
+  }
+
+  /**
+   * Record that the cached function being computed read the given element.
+   * 
+   * @param element
+   */
+  public static void recordRead(EObject element) {
+    ScopedModelCache.recordRead(element);
+  }
+
+  /**
+   * Record that the cached function being computed read the given feature, on any element.
+   * 
+   * @param feature
+   */
+  public static void recordRead(EStructuralFeature feature) {
+    ScopedModelCache.recordRead(feature);
+  }
+
+  /**
+   * @return true if results of semantic elements are cached in the {@link ScopedModelCache} of their editing domain.
+   */
+  public static boolean isScoped() {
+    return scoped;
+  }
+
   /**
    * Enable the cache.
    */
@@ -48,7 +118,8 @@ public class ModelCache {
   }
 
   /**
-   * Disable the cache and remove all the entries from it.
+   * Disable the cache and remove all the entries from it. Entries of scoped caches are kept, they are invalidated by
+   * model changes.
    */
   public static void disable() {
     enabled = false;
@@ -0,0 +1,536 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+
+package org.polarsys.capella.core.data.helpers.cache;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.transaction.NotificationFilter;
+import org.eclipse.emf.transaction.ResourceSetChangeEvent;
+import org.eclipse.emf.transaction.ResourceSetListenerImpl;
+import org.eclipse.emf.transaction.Transaction;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.emf.transaction.impl.InternalTransactionalEditingDomain;
+import org.eclipse.emf.transaction.util.TransactionUtil;
+import org.polarsys.capella.common.data.modellingcore.ModelElement;
+
+/**
+ * A {@link ModelCache} scoped to an editing domain, whose entries survive diagram refreshes and commands.<br>
+ * Each entry records what its computation read, and is invalidated from post-commit notifications when one of these
+ * reads is impacted:
+ * <ul>
+ * <li>entries computed through {@link ModelCache#getCache(Function, Object, EStructuralFeature...)} depend on their
+ * parameter, on the declared features and on what was recorded during the computation with
+ * {@link ModelCache#recordRead(EObject, EStructuralFeature)} and its variants,</li>
+ * <li>other entries depend on the whole semantic model, and are invalidated by any semantic change.</li>
+ * </ul>
+ * A cached computation calling another cached function inherits its dependencies.<br>
+ * The number of entries is bounded, least recently used entries being evicted first.
+ * <p>
+ * Only functions of a semantic element are cached here, and only when no write transaction is active (or during a
+ * diagram refresh, where the {@link ModelCache} is {@link ModelCache#isEnabled() enabled}). Entries computed in a write
+ * transaction are only visible in this transaction until it is committed: they are discarded if it is rolled back, as no
+ * post-commit notification would invalidate them.
+ * </p>
+ */
+public class ScopedModelCache extends ResourceSetListenerImpl {
+
+  /**
+   * System property enabling the scoped cache.
+   */
+  public static final String SCOPED_PROPERTY = "org.polarsys.capella.core.data.helpers.cache.scoped"; //$NON-NLS-1$
+
+  /**
+   * System property defining the maximum number of entries of a scoped cache.
+   */
+  public static final String MAX_SIZE_PROPERTY = "org.polarsys.capella.core.data.helpers.cache.maxSize"; //$NON-NLS-1$
+
+  private static final int DEFAULT_MAX_SIZE = 50000;
+
+  /**
+   * Semantic changes, and changes of the resources.
+   */
+  private static final NotificationFilter SEMANTIC_FILTER = NotificationFilter.NOT_TOUCH
+      .and(new NotificationFilter.Custom() {
+        @Override
+        public boolean matches(Notification notification) {
+          Object notifier = notification.getNotifier();
+          if (notifier instanceof Resource) {
+            int featureID = notification.getFeatureID(Resource.class);
+            return (Resource.RESOURCE__CONTENTS == featureID) || (Resource.RESOURCE__IS_LOADED == featureID);
+          }
+          return (notifier instanceof ModelElement) || (notifier instanceof ResourceSet);
+        }
+      });
+
+  /**
+   * Whether instances of a function class capture variables. A capturing lambda is a new instance on each evaluation:
+   * it would never be found again.
+   */
+  private static final ClassValue<Boolean> CAPTURING = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return Boolean.valueOf(type.getDeclaredFields().length > 0);
+    }
+  };
+
+  private static final ThreadLocal<Deque<Computation>> COMPUTATIONS = ThreadLocal.withInitial(ArrayDeque::new);
+
+  /**
+   * What a computation in progress has read.
+   */
+  private static class Computation {
+
+    private final Set<Object> dependencies = new HashSet<>();
+
+    private boolean opaque;
+
+    void addAll(Collection<Object> readDependencies, boolean readOpaque) {
+      dependencies.addAll(readDependencies);
+      opaque |= readOpaque;
+    }
+  }
+
+  private static class Entry {
+
+    private final Object key;
+
+    private final Optional<?> value;
+
+    private final Set<Object> dependencies;
+
+    private final boolean opaque;
+
+    Entry(Object key, Optional<?> value, Computation computation) {
+      this.key = key;
+      this.value = value;
+      this.dependencies = computation.opaque ? Collections.emptySet() : computation.dependencies;
+      this.opaque = computation.opaque;
+    }
+  }
+
+  private static class CacheHolder extends AdapterImpl {
+
+    private final ScopedModelCache cache;
+
+    CacheHolder(ScopedModelCache cache) {
+      this.cache = cache;
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+      return ScopedModelCache.class == type;
+    }
+  }
+
+  /**
+   * Entries by key, in access order.
+   */
+  private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * Keys of the entries depending on an element, a feature, or a feature of an element.
+   */
+  private final Map<Object, Set<Object>> dependents = new HashMap<>();
+
+  /**
+   * Keys of the entries depending on the whole semantic model.
+   */
+  private final Set<Object> opaqueKeys = new HashSet<>();
+
+  /**
+   * Keys of the entries computed in {@link #pendingTransaction}, not committed yet.
+   */
+  private final Set<Object> pendingKeys = new HashSet<>();
+
+  /**
+   * The top-level write transaction in which the pending entries were computed.
+   */
+  private Transaction pendingTransaction;
+
+  private final int maxSize;
+
+  /**
+   * Incremented on each invalidation, so that results computed meanwhile are not kept.
+   */
+  private long generation;
+
+  private final AtomicLong hitCount = new AtomicLong();
+
+  private final AtomicLong missCount = new AtomicLong();
+
+  private final AtomicLong evictionCount = new AtomicLong();
+
+  private final AtomicLong invalidationCount = new AtomicLong();
+
+  protected ScopedModelCache(int maxSize) {
+    super(SEMANTIC_FILTER);
+    this.maxSize = maxSize;
+  }
+
+  public static boolean isScoped() {
+    return Boolean.valueOf(System.getProperty(SCOPED_PROPERTY, "false")); //$NON-NLS-1$
+  }
+
+  /**
+   * Get the scoped cache of the given editing domain, creating and registering it if needed.
+   *
+   * @param domain
+   * @return <code>null</code> if given domain is <code>null</code>.
+   */
+  public static ScopedModelCache getCache(TransactionalEditingDomain domain) {
+    if (null == domain) {
+      return null;
+    }
+    ResourceSet resourceSet = domain.getResourceSet();
+    synchronized (resourceSet) {
+      CacheHolder holder = (CacheHolder) EcoreUtil.getExistingAdapter(resourceSet, ScopedModelCache.class);
+      if (null == holder) {
+        ScopedModelCache cache = new ScopedModelCache(Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE));
+        domain.addResourceSetListener(cache);
+        holder = new CacheHolder(cache);
+        resourceSet.eAdapters().add(holder);
+      }
+      return holder.cache;
+    }
+  }
+
+  /**
+   * @param function
+   * @param parameter
+   * @return the scoped cache to use to compute the given function, <code>null</code> if it cannot be cached there
+   */
+  static ScopedModelCache getCache(Function<?, ?> function, Object parameter) {
+    if (!(parameter instanceof ModelElement) || CAPTURING.get(function.getClass()).booleanValue()) {
+      return null;
+    }
+    TransactionalEditingDomain domain = TransactionUtil.getEditingDomain((EObject) parameter);
+    if ((null == domain) || (!ModelCache.isEnabled() && isWriting(domain))) {
+      return null;
+    }
+    return getCache(domain);
+  }
+
+  private static boolean isWriting(TransactionalEditingDomain domain) {
+    return null != getWriteTransaction(domain);
+  }
+
+  /**
+   * @return the active top-level transaction of the given domain if it is a write transaction, <code>null</code>
+   *         otherwise
+   */
+  private static Transaction getWriteTransaction(TransactionalEditingDomain domain) {
+    if (domain instanceof InternalTransactionalEditingDomain) {
+      Transaction transaction = ((InternalTransactionalEditingDomain) domain).getActiveTransaction();
+      while ((null != transaction) && (null != transaction.getParent())) {
+        transaction = transaction.getParent();
+      }
+      if ((null != transaction) && !transaction.isReadOnly()) {
+        return transaction;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Record that the computation in progress in the current thread read the given feature of the given element.
+   *
+   * @param element
+   * @param feature
+   */
+  static void recordRead(EObject element, EStructuralFeature feature) {
+    recordRead(new Couple<>(element, feature));
+  }
+
+  /**
+   * Record that the computation in progress in the current thread read the given dependency.
+   *
+   * @param dependency
+   *          an element (any of its features), or a feature (of any element)
+   */
+  static void recordRead(Object dependency) {
+    Computation computation = COMPUTATIONS.get().peek();
+    if (null != computation) {
+      computation.dependencies.add(dependency);
+    }
+  }
+
+  /**
+   * @param function
+   * @param parameter
+   * @param features
+   *          the features read by the function, <code>null</code> if unknown
+   * @return the cached result if any, or the result of the function that is then cached
+   */
+  @SuppressWarnings("unchecked")
+  public <P, R> R get(Function<P, R> function, P parameter, EStructuralFeature... features) {
+    Object key = new Couple<>(function, parameter);
+    Transaction transaction = getWriteTransaction(getTarget());
+    Entry entry;
+    long startGeneration;
+    synchronized (this) {
+      if ((null != pendingTransaction) && (transaction != pendingTransaction) && !pendingTransaction.isActive()) {
+        // Closed without a post-commit notification: rolled back, or committed without semantic change
+        removePending();
+      }
+      entry = entries.get(key);
+      if ((null != entry) && (transaction != pendingTransaction) && pendingKeys.contains(key)) {
+        entry = null;
+      }
+      startGeneration = generation;
+    }
+    Deque<Computation> computations = COMPUTATIONS.get();
+    Computation caller = computations.peek();
+    if (null != entry) {
+      hitCount.incrementAndGet();
+      if (null != caller) {
+        caller.addAll(entry.dependencies, entry.opaque);
+      }
+      return ((Optional<R>) entry.value).orElse(null);
+    }
+    missCount.incrementAndGet();
+
+    Computation computation = new Computation();
+    if (null == features) {
+      computation.opaque = true;
+    } else {
+      computation.dependencies.add(parameter);
+      Collections.addAll(computation.dependencies, (Object[]) features);
+    }
+    R result;
+    computations.push(computation);
+    try {
+      result = function.apply(parameter);
+    } finally {
+      computations.pop();
+    }
+    if (null != caller) {
+      caller.addAll(computation.dependencies, computation.opaque);
+    }
+    put(new Entry(key, Cache.encapsulate(result), computation), startGeneration, transaction);
+    return result;
+  }
+
+  private synchronized void put(Entry entry, long startGeneration, Transaction transaction) {
+    if (startGeneration != generation) {
+      return;
+    }
+    if ((null != transaction) && (transaction != pendingTransaction)) {
+      if ((null != pendingTransaction) && pendingTransaction.isActive()) {
+        // Another write transaction is still running: don't mix up their entries
+        return;
+      }
+      removePending();
+      pendingTransaction = transaction;
+    }
+    Entry previous = entries.get(entry.key);
+    if (null != previous) {
+      remove(previous);
+    }
+    entries.put(entry.key, entry);
+    if (null != transaction) {
+      pendingKeys.add(entry.key);
+    }
+    if (entry.opaque) {
+      opaqueKeys.add(entry.key);
+    } else {
+      for (Object dependency : entry.dependencies) {
+        dependents.computeIfAbsent(dependency, d -> new HashSet<>()).add(entry.key);
+      }
+    }
+    if (entries.size() > maxSize) {
+      Iterator<Entry> it = entries.values().iterator();
+      Entry eldest = it.next();
+      remove(eldest);
+      evictionCount.incrementAndGet();
+    }
+  }
+
+  /**
+   * Remove the entries of the pending transaction.
+   */
+  private void removePending() {
+    for (Object key : new ArrayList<>(pendingKeys)) {
+      Entry entry = entries.get(key);
+      if (null != entry) {
+        remove(entry);
+        invalidationCount.incrementAndGet();
+      }
+    }
+    pendingKeys.clear();
+    pendingTransaction = null;
+  }
+
+  private void remove(Entry entry) {
+    entries.remove(entry.key);
+    pendingKeys.remove(entry.key);
+    if (entry.opaque) {
+      opaqueKeys.remove(entry.key);
+    } else {
+      for (Object dependency : entry.dependencies) {
+        Set<Object> keys = dependents.get(dependency);
+        if (null != keys) {
+          keys.remove(entry.key);
+          if (keys.isEmpty()) {
+            dependents.remove(dependency);
+          }
+        }
+      }
+    }
+  }
+
+  @Override
+  public boolean isPostcommitOnly() {
+    return true;
+  }
+
+  @Override
+  public synchronized void resourceSetChanged(ResourceSetChangeEvent event) {
+    if (entries.isEmpty()) {
+      return;
+    }
+    generation++;
+    for (Notification notification : event.getNotifications()) {
+      Object notifier = notification.getNotifier();
+      if (!(notifier instanceof EObject)) {
+        // Resources are loaded, unloaded or have new roots.
+        invalidationCount.addAndGet(entries.size());
+        clear();
+        return;
+      }
+      invalidate(new ArrayList<>(opaqueKeys));
+      Object feature = notification.getFeature();
+      invalidate(dependents.get(notifier));
+      invalidate(dependents.get(feature));
+      invalidate(dependents.get(new Couple<>(notifier, feature)));
+      invalidateValues(notification.getOldValue());
+      invalidateValues(notification.getNewValue());
+    }
+    if (event.getTransaction() == pendingTransaction) {
+      // Committed: remaining entries of the transaction are invalidated by later changes only
+      pendingKeys.clear();
+      pendingTransaction = null;
+    }
+  }
+
+  private void invalidateValues(Object value) {
+    if (value instanceof EObject) {
+      invalidate(dependents.get(value));
+    } else if (value instanceof Collection<?>) {
+      for (Object item : (Collection<?>) value) {
+        if (item instanceof EObject) {
+          invalidate(dependents.get(item));
+        }
+      }
+    }
+  }
+
+  private void invalidate(Collection<Object> keys) {
+    if ((null == keys) || keys.isEmpty()) {
+      return;
+    }
+    List<Object> toInvalidate = new ArrayList<>(keys);
+    for (Object key : toInvalidate) {
+      Entry entry = entries.get(key);
+      if (null != entry) {
+        remove(entry);
+        invalidationCount.incrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * Remove all entries from this cache.
+   */
+  public synchronized void clear() {
+    generation++;
+    entries.clear();
+    dependents.clear();
+    opaqueKeys.clear();
+    pendingKeys.clear();
+    pendingTransaction = null;
+  }
+
+  @Override
+  public void unsetTarget(TransactionalEditingDomain domain) {
+    super.unsetTarget(domain);
+    clear();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * @return the number of results found in the cache
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * @return the number of results computed because they were not in the cache
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * @return the number of entries removed to keep the cache bounded
+   */
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  /**
+   * @return the number of entries removed because of a model change
+   */
+  public long getInvalidationCount() {
+    return invalidationCount.get();
+  }
+
+  /**
+   * Reset hit, miss, eviction and invalidation counters.
+   */
+  public void resetCounters() {
+    hitCount.set(0);
+    missCount.set(0);
+    evictionCount.set(0);
+    invalidationCount.set(0);
+  }
+}
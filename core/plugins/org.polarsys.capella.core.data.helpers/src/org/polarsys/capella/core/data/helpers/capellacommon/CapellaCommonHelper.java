@@ -14,9 +14,11 @@
 package org.polarsys.capella.core.data.helpers.capellacommon;
 
 import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.model.helpers.HelperNotFoundException;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.common.model.helpers.IHelper;
 import org.polarsys.capella.core.data.capellacommon.AbstractStateRealization;
 import org.polarsys.capella.core.data.capellacommon.CapabilityRealizationInvolvedElement;
@@ -134,4 +136,60 @@ public class CapellaCommonHelper implements IHelper {
 
 		throw new HelperNotFoundException();
 	}
+
+	@Override
+	public IDerivedFeatureComputer getComputer(EClass eClass, EStructuralFeature feature) {
+		// Same dispatch as getValue, on the instance class
+		Class<?> instanceClass = eClass.getInstanceClass();
+		IDerivedFeatureComputer computer = null;
+		if (CapabilityRealizationInvolvement.class.isAssignableFrom(instanceClass)) {
+			computer = CapabilityRealizationInvolvementHelper.getInstance().getComputer(feature);
+		} else if (CapabilityRealizationInvolvedElement.class.isAssignableFrom(instanceClass)) {
+			computer = CapabilityRealizationInvolvedElementHelper.getInstance().getComputer(feature);
+		} else if (GenericTrace.class.isAssignableFrom(instanceClass)) {
+			computer = GenericTraceHelper.getInstance().getComputer(feature);
+		} else if (StateMachine.class.isAssignableFrom(instanceClass)) {
+			computer = CapellaElementHelper.getInstance().getComputer(feature);
+		} else if (Region.class.isAssignableFrom(instanceClass)) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		} else if (ChoicePseudoState.class.isAssignableFrom(instanceClass)) {
+			computer = AbstractStateHelper.getInstance().getComputer(feature);
+		} else if (ForkPseudoState.class.isAssignableFrom(instanceClass)) {
+			computer = AbstractStateHelper.getInstance().getComputer(feature);
+		} else if (InitialPseudoState.class.isAssignableFrom(instanceClass)) {
+			computer = AbstractStateHelper.getInstance().getComputer(feature);
+		} else if (JoinPseudoState.class.isAssignableFrom(instanceClass)) {
+			computer = AbstractStateHelper.getInstance().getComputer(feature);
+		} else if (TerminatePseudoState.class.isAssignableFrom(instanceClass)) {
+			computer = AbstractStateHelper.getInstance().getComputer(feature);
+		} else if (EntryPointPseudoState.class.isAssignableFrom(instanceClass)) {
+			computer = AbstractStateHelper.getInstance().getComputer(feature);
+		} else if (ExitPointPseudoState.class.isAssignableFrom(instanceClass)) {
+			computer = AbstractStateHelper.getInstance().getComputer(feature);
+		} else if (ShallowHistoryPseudoState.class.isAssignableFrom(instanceClass)) {
+			computer = AbstractStateHelper.getInstance().getComputer(feature);
+		} else if (DeepHistoryPseudoState.class.isAssignableFrom(instanceClass)) {
+			computer = AbstractStateHelper.getInstance().getComputer(feature);
+		} else if (FinalState.class.isAssignableFrom(instanceClass)) {
+			computer = StateHelper.getInstance().getComputer(feature);
+		} else if (Mode.class.isAssignableFrom(instanceClass)) {
+			computer = StateHelper.getInstance().getComputer(feature);
+		} else if (State.class.isAssignableFrom(instanceClass)) {
+			computer = StateHelper.getInstance().getComputer(feature);
+		} else if (StateTransition.class.isAssignableFrom(instanceClass)) {
+			computer = StateTransitionHelper.getInstance().getComputer(feature);
+		} else if (StateEvent.class.isAssignableFrom(instanceClass)) {
+			computer = StateEventHelper.getInstance().getComputer(feature);
+		} else if (GenericTrace.class.isAssignableFrom(instanceClass)) {
+			computer = TraceHelper.getInstance().getComputer(feature);
+		} else if (AbstractStateRealization.class.isAssignableFrom(instanceClass)) {
+			computer = AbstractStateRealizationHelper.getInstance().getComputer(feature);
+		} else if (StateTransitionRealization.class.isAssignableFrom(instanceClass)) {
+			computer = StateTransitionRealizationHelper.getInstance().getComputer(feature);
+		} else if (StateEventRealization.class.isAssignableFrom(instanceClass)) {
+			computer = StateEventRealizationHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 }
@@ -14,11 +14,14 @@
 package org.polarsys.capella.core.data.helpers.capellacommon.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacommon.AbstractState;
 import org.polarsys.capella.core.data.capellacommon.AbstractStateRealization;
 import org.polarsys.capella.core.data.capellacommon.CapellacommonPackage;
@@ -29,6 +32,24 @@ import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedElement
 public class AbstractStateHelper {
   private static AbstractStateHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
+  private AbstractStateHelper() {
+    computers.put(CapellacommonPackage.Literals.ABSTRACT_STATE__REALIZED_ABSTRACT_STATES,
+        element -> getRealizedAbstractStates((AbstractState) element));
+    computers.put(CapellacommonPackage.Literals.ABSTRACT_STATE__REALIZING_ABSTRACT_STATES,
+        element -> getRealizingAbstractStates((AbstractState) element));
+    computers.put(CapellacommonPackage.Literals.ABSTRACT_STATE__INVOLVER_REGIONS,
+        element -> getInvolverRegions((AbstractState) element));
+    computers.put(CapellacommonPackage.Literals.ABSTRACT_STATE__INCOMING,
+        element -> getIncoming((AbstractState) element));
+    computers.put(CapellacommonPackage.Literals.ABSTRACT_STATE__OUTGOING,
+        element -> getOutgoing((AbstractState) element));
+  }
+
   public static AbstractStateHelper getInstance() {
     if (instance == null) {
       instance = new AbstractStateHelper();
@@ -39,16 +60,9 @@ public class AbstractStateHelper {
   public Object doSwitch(AbstractState element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CapellacommonPackage.Literals.ABSTRACT_STATE__REALIZED_ABSTRACT_STATES)) {
-      ret = getRealizedAbstractStates(element);
-    } else if (feature.equals(CapellacommonPackage.Literals.ABSTRACT_STATE__REALIZING_ABSTRACT_STATES)) {
-      ret = getRealizingAbstractStates(element);
-    } else if (feature.equals(CapellacommonPackage.Literals.ABSTRACT_STATE__INVOLVER_REGIONS)) {
-      ret = getInvolverRegions(element);
-    } else if (feature.equals(CapellacommonPackage.Literals.ABSTRACT_STATE__INCOMING)) {
-      ret = getIncoming(element);
-    } else if (feature.equals(CapellacommonPackage.Literals.ABSTRACT_STATE__OUTGOING)) {
-      ret = getOutgoing(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -59,6 +73,18 @@ public class AbstractStateHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = NamedElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<StateTransition> getOutgoing(AbstractState element) {
     return EObjectExt.getReferencers(element, CapellacommonPackage.Literals.STATE_TRANSITION__SOURCE);
   }
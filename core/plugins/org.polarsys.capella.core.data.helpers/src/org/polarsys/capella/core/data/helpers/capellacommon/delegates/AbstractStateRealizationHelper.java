@@ -13,7 +13,11 @@
 
 package org.polarsys.capella.core.data.helpers.capellacommon.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacommon.AbstractState;
 import org.polarsys.capella.core.data.capellacommon.AbstractStateRealization;
 import org.polarsys.capella.core.data.capellacommon.CapellacommonPackage;
@@ -22,7 +26,16 @@ import org.polarsys.capella.core.data.helpers.capellacore.delegates.AllocationHe
 public class AbstractStateRealizationHelper {
   private static AbstractStateRealizationHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private AbstractStateRealizationHelper() {
+    computers.put(CapellacommonPackage.Literals.ABSTRACT_STATE_REALIZATION__REALIZED_ABSTRACT_STATE,
+        element -> getRealizedAbstractState((AbstractStateRealization) element));
+    computers.put(CapellacommonPackage.Literals.ABSTRACT_STATE_REALIZATION__REALIZING_ABSTRACT_STATE,
+        element -> getRealizingAbstractState((AbstractStateRealization) element));
   }
 
   public static AbstractStateRealizationHelper getInstance() {
@@ -35,10 +48,9 @@ public class AbstractStateRealizationHelper {
   public Object doSwitch(AbstractStateRealization element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CapellacommonPackage.Literals.ABSTRACT_STATE_REALIZATION__REALIZED_ABSTRACT_STATE)) {
-      ret = getRealizedAbstractState(element);
-    } else if (feature.equals(CapellacommonPackage.Literals.ABSTRACT_STATE_REALIZATION__REALIZING_ABSTRACT_STATE)) {
-      ret = getRealizingAbstractState(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -49,6 +61,18 @@ public class AbstractStateRealizationHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AllocationHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected AbstractState getRealizedAbstractState(AbstractStateRealization element) {
     if (element.getTargetElement() instanceof AbstractState) {
       return (AbstractState) element.getTargetElement();
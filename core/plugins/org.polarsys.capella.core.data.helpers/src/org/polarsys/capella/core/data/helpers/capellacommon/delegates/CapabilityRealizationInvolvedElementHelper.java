@@ -14,9 +14,12 @@
 package org.polarsys.capella.core.data.helpers.capellacommon.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacommon.CapabilityRealizationInvolvedElement;
 import org.polarsys.capella.core.data.capellacommon.CapabilityRealizationInvolvement;
 import org.polarsys.capella.core.data.capellacommon.CapellacommonPackage;
@@ -29,8 +32,16 @@ import org.polarsys.capella.core.data.la.CapabilityRealization;
 public class CapabilityRealizationInvolvedElementHelper {
 	private static CapabilityRealizationInvolvedElementHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private CapabilityRealizationInvolvedElementHelper() {
-	  //
+		computers.put(CapellacommonPackage.Literals.CAPABILITY_REALIZATION_INVOLVED_ELEMENT__CAPABILITY_REALIZATION_INVOLVEMENTS,
+				element -> getCapabilityRealizationInvolvements((CapabilityRealizationInvolvedElement) element));
+		computers.put(CapellacommonPackage.Literals.CAPABILITY_REALIZATION_INVOLVED_ELEMENT__INVOLVING_CAPABILITY_REALIZATIONS,
+				element -> getInvolvingCapabilityRealizations((CapabilityRealizationInvolvedElement) element));
 	}
 
 	public static CapabilityRealizationInvolvedElementHelper getInstance(){
@@ -42,11 +53,10 @@ public class CapabilityRealizationInvolvedElementHelper {
 	public Object doSwitch(CapabilityRealizationInvolvedElement element, EStructuralFeature feature){
 		Object ret = null;
 
-		if (feature.equals(CapellacommonPackage.Literals.CAPABILITY_REALIZATION_INVOLVED_ELEMENT__CAPABILITY_REALIZATION_INVOLVEMENTS)) {
-			ret = getCapabilityRealizationInvolvements(element);
-		} else if (feature.equals(CapellacommonPackage.Literals.CAPABILITY_REALIZATION_INVOLVED_ELEMENT__INVOLVING_CAPABILITY_REALIZATIONS)) {
-      ret = getInvolvingCapabilityRealizations(element);
-    }
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
+		}
 
 		// no helper found... searching in super classes...
 		if(null == ret) {
@@ -55,6 +65,18 @@ public class CapabilityRealizationInvolvedElementHelper {
 
 		return ret;
 	}
+
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = InvolvedElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
 	
 	protected List<CapabilityRealizationInvolvement> getCapabilityRealizationInvolvements(CapabilityRealizationInvolvedElement element){
 		List<CapabilityRealizationInvolvement> ret = new ArrayList<> ();
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.capellacommon.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.InvolvementHelper;
 import org.polarsys.capella.core.data.capellacommon.CapabilityRealizationInvolvedElement;
 import org.polarsys.capella.core.data.capellacommon.CapabilityRealizationInvolvement;
@@ -25,8 +29,14 @@ import org.polarsys.capella.core.data.capellacore.InvolvedElement;
 public class CapabilityRealizationInvolvementHelper {
 	private static CapabilityRealizationInvolvementHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private CapabilityRealizationInvolvementHelper() {
-	  //
+		computers.put(CapellacommonPackage.Literals.CAPABILITY_REALIZATION_INVOLVEMENT__INVOLVED_CAPABILITY_REALIZATION_INVOLVED_ELEMENT,
+				element -> getInvolvedCapabilityRealizationInvolvedElement((CapabilityRealizationInvolvement) element));
 	}
 
 	public static CapabilityRealizationInvolvementHelper getInstance(){
@@ -38,8 +48,9 @@ public class CapabilityRealizationInvolvementHelper {
 	public Object doSwitch(CapabilityRealizationInvolvement element, EStructuralFeature feature){
 		Object ret = null;
 
-		if (feature.equals(CapellacommonPackage.Literals.CAPABILITY_REALIZATION_INVOLVEMENT__INVOLVED_CAPABILITY_REALIZATION_INVOLVED_ELEMENT)) {
-			ret = getInvolvedCapabilityRealizationInvolvedElement(  element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -50,6 +61,18 @@ public class CapabilityRealizationInvolvementHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = InvolvementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected CapabilityRealizationInvolvedElement getInvolvedCapabilityRealizationInvolvedElement(CapabilityRealizationInvolvement element){
 		InvolvedElement involved= element.getInvolved();
 		if(involved instanceof CapabilityRealizationInvolvedElement){
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.capellacommon.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.TraceHelper;
 import org.polarsys.capella.core.data.capellacommon.GenericTrace;
 import org.polarsys.capella.core.data.capellacommon.CapellacommonPackage;
@@ -23,8 +27,14 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class GenericTraceHelper {
 	private static GenericTraceHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private GenericTraceHelper() {
-	  //
+		computers.put(CapellacommonPackage.Literals.GENERIC_TRACE__SOURCE, element -> getSource((GenericTrace) element));
+		computers.put(CapellacommonPackage.Literals.GENERIC_TRACE__TARGET, element -> getTarget((GenericTrace) element));
 	}
 
 	public static GenericTraceHelper getInstance() {
@@ -36,11 +46,9 @@ public class GenericTraceHelper {
 	public Object doSwitch(GenericTrace element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(CapellacommonPackage.Literals.GENERIC_TRACE__SOURCE)) {
-      ret = getSource(element);
-    }
-    else if (feature.equals(CapellacommonPackage.Literals.GENERIC_TRACE__TARGET)) {
-      ret = getTarget(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -51,6 +59,18 @@ public class GenericTraceHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = TraceHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected TraceableElement getSource(GenericTrace element) {
     return element.getSourceElement();
   }
@@ -15,6 +15,7 @@ package org.polarsys.capella.core.data.helpers.capellacommon.delegates;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.helpers.modellingcore.delegates.AbstractTypeHelper;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacommon.StateEvent;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedElementHelper;
 
@@ -40,4 +41,16 @@ public class StateEventHelper {
     }
     return ret;
   }
+
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = NamedElementHelper.getInstance().getComputer(feature);
+    if (null == computer) {
+      computer = AbstractTypeHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
 }
@@ -13,7 +13,11 @@
 
 package org.polarsys.capella.core.data.helpers.capellacommon.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacommon.CapellacommonPackage;
 import org.polarsys.capella.core.data.capellacommon.StateEvent;
 import org.polarsys.capella.core.data.capellacommon.StateEventRealization;
@@ -22,8 +26,16 @@ import org.polarsys.capella.core.data.helpers.capellacore.delegates.AllocationHe
 public class StateEventRealizationHelper {
   private static StateEventRealizationHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private StateEventRealizationHelper() {
-    //
+    computers.put(CapellacommonPackage.Literals.STATE_EVENT_REALIZATION__REALIZED_EVENT,
+        element -> getRealizedEvent((StateEventRealization) element));
+    computers.put(CapellacommonPackage.Literals.STATE_EVENT_REALIZATION__REALIZING_EVENT,
+        element -> getRealizingEvent((StateEventRealization) element));
   }
 
   public static StateEventRealizationHelper getInstance() {
@@ -36,10 +48,9 @@ public class StateEventRealizationHelper {
   public Object doSwitch(StateEventRealization element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CapellacommonPackage.Literals.STATE_EVENT_REALIZATION__REALIZED_EVENT)) {
-      ret = getRealizedEvent(element);
-    } else if (feature.equals(CapellacommonPackage.Literals.STATE_EVENT_REALIZATION__REALIZING_EVENT)) {
-      ret = getRealizingEvent(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -50,6 +61,18 @@ public class StateEventRealizationHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AllocationHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected StateEvent getRealizedEvent(StateEventRealization element) {
     if (element.getTargetElement() instanceof StateEvent) {
       return (StateEvent) element.getTargetElement();
@@ -13,10 +13,13 @@
 
 package org.polarsys.capella.core.data.helpers.capellacommon.delegates;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacommon.CapellacommonPackage;
 import org.polarsys.capella.core.data.capellacommon.State;
 import org.polarsys.capella.core.data.fa.AbstractFunction;
@@ -28,8 +31,18 @@ import org.polarsys.capella.core.data.interaction.InteractionPackage;
 public class StateHelper {
   private static StateHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private StateHelper() {
-    //
+    computers.put(CapellacommonPackage.Literals.STATE__AVAILABLE_ABSTRACT_FUNCTIONS,
+        element -> getAvailableAbstractFunctions((State) element));
+    computers.put(CapellacommonPackage.Literals.STATE__AVAILABLE_FUNCTIONAL_CHAINS,
+        element -> getAvailableFunctionalChains((State) element));
+    computers.put(CapellacommonPackage.Literals.STATE__AVAILABLE_ABSTRACT_CAPABILITIES,
+        element -> getAvailableAbstractCapabilities((State) element));
   }
 
   public static StateHelper getInstance() {
@@ -42,12 +55,9 @@ public class StateHelper {
   public Object doSwitch(State element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CapellacommonPackage.Literals.STATE__AVAILABLE_ABSTRACT_FUNCTIONS)) {
-      ret = getAvailableAbstractFunctions(element);
-    } else if (feature.equals(CapellacommonPackage.Literals.STATE__AVAILABLE_FUNCTIONAL_CHAINS)) {
-      ret = getAvailableFunctionalChains(element);
-    } else if (feature.equals(CapellacommonPackage.Literals.STATE__AVAILABLE_ABSTRACT_CAPABILITIES)) {
-      ret = getAvailableAbstractCapabilities(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -58,6 +68,18 @@ public class StateHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AbstractStateHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<AbstractFunction> getAvailableAbstractFunctions(State element) {
     return EObjectExt.getReferencers(element, FaPackage.Literals.ABSTRACT_FUNCTION__AVAILABLE_IN_STATES);
   }
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.capellacommon.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.RelationshipHelper;
 import org.polarsys.capella.core.data.capellacommon.CapellacommonPackage;
 import org.polarsys.capella.core.data.capellacommon.StateTransition;
@@ -27,8 +30,16 @@ import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 public class StateTransitionHelper {
 	private static StateTransitionHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private StateTransitionHelper() {
-	  //
+		computers.put(CapellacommonPackage.Literals.STATE_TRANSITION__REALIZED_STATE_TRANSITIONS,
+				element -> getRealizedStateTransitions((StateTransition) element));
+		computers.put(CapellacommonPackage.Literals.STATE_TRANSITION__REALIZING_STATE_TRANSITIONS,
+				element -> getRealizingStateTransitions((StateTransition) element));
 	}
 
 	public static StateTransitionHelper getInstance(){
@@ -40,12 +51,10 @@ public class StateTransitionHelper {
 	public Object doSwitch(StateTransition element, EStructuralFeature feature){
 		Object ret = null;
 
-		if (feature.equals(CapellacommonPackage.Literals.STATE_TRANSITION__REALIZED_STATE_TRANSITIONS)) {
-			ret = getRealizedStateTransitions(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
-		else if (feature.equals(CapellacommonPackage.Literals.STATE_TRANSITION__REALIZING_STATE_TRANSITIONS)) {
-      ret = getRealizingStateTransitions(element);
-    }
 
 		// no helper found... searching in super classes...
 		if (null == ret) {
@@ -55,6 +64,18 @@ public class StateTransitionHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = RelationshipHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected List<StateTransition> getRealizedStateTransitions(StateTransition element) {
 	  List<StateTransition> result = new ArrayList<>();
     for (AbstractTrace trace : element.getOutgoingTraces()) {
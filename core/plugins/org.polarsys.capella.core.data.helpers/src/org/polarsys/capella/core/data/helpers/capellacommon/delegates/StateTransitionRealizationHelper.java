@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.capellacommon.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.AllocationHelper;
 import org.polarsys.capella.core.data.capellacommon.CapellacommonPackage;
 import org.polarsys.capella.core.data.capellacommon.StateTransition;
@@ -23,8 +27,16 @@ import org.polarsys.capella.core.data.capellacommon.StateTransitionRealization;
 public class StateTransitionRealizationHelper {
 	private static StateTransitionRealizationHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private StateTransitionRealizationHelper() {
-	  //
+		computers.put(CapellacommonPackage.Literals.STATE_TRANSITION_REALIZATION__REALIZED_STATE_TRANSITION,
+				element -> getRealizedStateTransition((StateTransitionRealization) element));
+		computers.put(CapellacommonPackage.Literals.STATE_TRANSITION_REALIZATION__REALIZING_STATE_TRANSITION,
+				element -> getRealizingStateTransition((StateTransitionRealization) element));
 	}
 
 	public static StateTransitionRealizationHelper getInstance(){
@@ -36,12 +48,10 @@ public class StateTransitionRealizationHelper {
 	public Object doSwitch(StateTransitionRealization element, EStructuralFeature feature){
 		Object ret = null;
 
-		if (feature.equals(CapellacommonPackage.Literals.STATE_TRANSITION_REALIZATION__REALIZED_STATE_TRANSITION)) {
-			ret = getRealizedStateTransition(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
-		else if (feature.equals(CapellacommonPackage.Literals.STATE_TRANSITION_REALIZATION__REALIZING_STATE_TRANSITION)) {
-      ret = getRealizingStateTransition(element);
-    }
 
 		// no helper found... searching in super classes...
 		if (null == ret) {
@@ -51,6 +61,18 @@ public class StateTransitionRealizationHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AllocationHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected StateTransition getRealizedStateTransition(StateTransitionRealization element) {
     if (element.getTargetElement() instanceof StateTransition) {
       return (StateTransition) element.getTargetElement();
@@ -14,9 +14,11 @@
 package org.polarsys.capella.core.data.helpers.capellacore;
 
 import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.model.helpers.HelperNotFoundException;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.common.model.helpers.IHelper;
 import org.polarsys.capella.core.data.capellacore.AbstractPropertyValue;
 import org.polarsys.capella.core.data.capellacore.Constraint;
@@ -122,4 +124,49 @@ public class CapellaCoreHelper implements IHelper {
 		throw new HelperNotFoundException();
 	}
 
+  @Override
+  public IDerivedFeatureComputer getComputer(EClass eClass, EStructuralFeature feature) {
+    // Same dispatch as getValue, on the instance class
+    Class<?> instanceClass = eClass.getInstanceClass();
+    IDerivedFeatureComputer computer = null;
+    if (TypedElement.class.isAssignableFrom(instanceClass)) {
+      computer = TypedElementHelper.getInstance().getComputer(feature);
+    } else if (Type.class.isAssignableFrom(instanceClass)) {
+      computer = TypeHelper.getInstance().getComputer(feature);
+    } else if (GeneralizableElement.class.isAssignableFrom(instanceClass)) {
+      computer = GeneralizableElementHelper.getInstance().getComputer(feature);
+    } else if (KeyValue.class.isAssignableFrom(instanceClass)) {
+      computer = CapellaElementHelper.getInstance().getComputer(feature);
+    } else if (Involvement.class.isAssignableFrom(instanceClass)) {
+      computer = InvolvementHelper.getInstance().getComputer(feature);
+    } else if (InvolverElement.class.isAssignableFrom(instanceClass)) {
+      computer = InvolverElementHelper.getInstance().getComputer(feature);
+    } else if (InvolvedElement.class.isAssignableFrom(instanceClass)) {
+      computer = InvolvedElementHelper.getInstance().getComputer(feature);
+    } else if (Relationship.class.isAssignableFrom(instanceClass)) {
+      computer = RelationshipHelper.getInstance().getComputer(feature);
+    } else if (Structure.class.isAssignableFrom(instanceClass)) {
+      computer = StructureHelper.getInstance().getComputer(feature);
+    } else if (Trace.class.isAssignableFrom(instanceClass)) {
+      computer = TraceHelper.getInstance().getComputer(feature);
+    } else if (NamingRule.class.isAssignableFrom(instanceClass)) {
+      computer = CapellaElementHelper.getInstance().getComputer(feature);
+    } else if (AbstractPropertyValue.class.isAssignableFrom(instanceClass)) {
+      computer = AbstractPropertyValueHelper.getInstance().getComputer(feature);
+    } else if (EnumerationPropertyType.class.isAssignableFrom(instanceClass)) {
+      computer = NamedElementHelper.getInstance().getComputer(feature);
+    } else if (EnumerationPropertyLiteral.class.isAssignableFrom(instanceClass)) {
+      computer = NamedElementHelper.getInstance().getComputer(feature);
+    } else if (PropertyValueGroup.class.isAssignableFrom(instanceClass)) {
+      computer = PropertyValueGroupHelper.getInstance().getComputer(feature);
+    } else if (PropertyValuePkg.class.isAssignableFrom(instanceClass)) {
+      computer = StructureHelper.getInstance().getComputer(feature);
+    } else if (Constraint.class.isAssignableFrom(instanceClass)) {
+      computer = ConstraintHelper.getInstance().getComputer(feature);
+    } else if (Namespace.class.isAssignableFrom(instanceClass)) {
+      computer = NamespaceHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
 }
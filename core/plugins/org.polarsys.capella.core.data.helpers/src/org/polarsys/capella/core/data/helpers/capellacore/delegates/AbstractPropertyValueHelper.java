@@ -13,10 +13,13 @@
 
 package org.polarsys.capella.core.data.helpers.capellacore.delegates;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.AbstractPropertyValue;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.capellacore.CapellacorePackage;
@@ -24,7 +27,14 @@ import org.polarsys.capella.core.data.capellacore.CapellacorePackage;
 public class AbstractPropertyValueHelper {
   private static AbstractPropertyValueHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private AbstractPropertyValueHelper() {
+    computers.put(CapellacorePackage.Literals.ABSTRACT_PROPERTY_VALUE__VALUED_ELEMENTS,
+        element -> getValuedElements((AbstractPropertyValue) element));
   }
 
   public static AbstractPropertyValueHelper getInstance() {
@@ -37,8 +47,9 @@ public class AbstractPropertyValueHelper {
   public Object doSwitch(AbstractPropertyValue element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CapellacorePackage.Literals.ABSTRACT_PROPERTY_VALUE__VALUED_ELEMENTS)) {
-      ret = getValuedElements(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -49,6 +60,18 @@ public class AbstractPropertyValueHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = NamedElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<CapellaElement> getValuedElements(AbstractPropertyValue element) {
     return EObjectExt.getReferencers(element, CapellacorePackage.Literals.CAPELLA_ELEMENT__APPLIED_PROPERTY_VALUES);
   }
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.capellacore.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.capellacore.CapellacorePackage;
 import org.polarsys.capella.core.data.requirement.Requirement;
@@ -29,8 +32,14 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class CapellaElementHelper {
 	private static CapellaElementHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private CapellaElementHelper() {
-	  // do nothing
+		computers.put(CapellacorePackage.Literals.CAPELLA_ELEMENT__APPLIED_REQUIREMENTS,
+				element -> getAppliedRequirements((CapellaElement) element));
 	}
 
 	public static CapellaElementHelper getInstance() {
@@ -42,8 +51,9 @@ public class CapellaElementHelper {
 	public Object doSwitch(CapellaElement element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CapellacorePackage.Literals.CAPELLA_ELEMENT__APPLIED_REQUIREMENTS)) {
-      ret = getAppliedRequirements(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -54,6 +64,18 @@ public class CapellaElementHelper {
     return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = TraceableElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected List<Requirement> getAppliedRequirements(CapellaElement element) {
     List<Requirement> ret = new ArrayList<>();
     for (AbstractTrace trace : element.getOutgoingTraces()) {
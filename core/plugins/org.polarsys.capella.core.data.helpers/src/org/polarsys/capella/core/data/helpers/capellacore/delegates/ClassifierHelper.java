@@ -14,9 +14,12 @@
 package org.polarsys.capella.core.data.helpers.capellacore.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.CapellacorePackage;
 import org.polarsys.capella.core.data.capellacore.Classifier;
 import org.polarsys.capella.core.data.capellacore.Feature;
@@ -26,8 +29,14 @@ import org.polarsys.capella.core.data.information.Property;
 public class ClassifierHelper {
 	private static ClassifierHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private ClassifierHelper() {
-	  // do nothing
+		computers.put(CapellacorePackage.Literals.CLASSIFIER__CONTAINED_PROPERTIES,
+				element -> getContainedProperties((Classifier) element));
 	}
 
 	public static ClassifierHelper getInstance() {
@@ -39,8 +48,9 @@ public class ClassifierHelper {
 	public Object doSwitch(Classifier element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(CapellacorePackage.Literals.CLASSIFIER__CONTAINED_PROPERTIES)) {
-      ret = getContainedProperties(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -51,6 +61,18 @@ public class ClassifierHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = GeneralizableElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	/**
 	 * @param element the owner {@link Classifier}
 	 * @return returns ONLY the instances of {@link Property} meta-class and NOT one of its sub-types
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.capellacore.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.information.Operation;
 import org.polarsys.capella.core.data.capellacore.Feature;
 import org.polarsys.capella.core.data.capellacore.GeneralClass;
@@ -27,8 +30,14 @@ public class GeneralClassHelper {
 
   private static GeneralClassHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private GeneralClassHelper() {
-    // do nothing
+    computers.put(CapellacorePackage.Literals.GENERAL_CLASS__CONTAINED_OPERATIONS,
+        element -> getContainedOperations((GeneralClass) element));
   }
 
   public static GeneralClassHelper getInstance(){
@@ -40,8 +49,9 @@ public class GeneralClassHelper {
   public Object doSwitch(GeneralClass element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CapellacorePackage.Literals.GENERAL_CLASS__CONTAINED_OPERATIONS)) {
-      ret = getContainedOperations(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -52,6 +62,18 @@ public class GeneralClassHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = ClassifierHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List <Operation> getContainedOperations(GeneralClass element) {
     List <Operation> ret = new ArrayList <>();
     for (Feature feature : element.getOwnedFeatures()) {
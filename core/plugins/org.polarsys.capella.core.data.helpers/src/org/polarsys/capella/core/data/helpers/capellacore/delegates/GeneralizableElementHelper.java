@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.capellacore.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.CapellacorePackage;
 import org.polarsys.capella.core.data.capellacore.GeneralizableElement;
 import org.polarsys.capella.core.data.capellacore.Generalization;
@@ -25,7 +28,20 @@ import org.polarsys.capella.core.data.capellacore.Generalization;
 public class GeneralizableElementHelper {
   private static GeneralizableElementHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private GeneralizableElementHelper() {
+    computers.put(CapellacorePackage.Literals.GENERALIZABLE_ELEMENT__SUB,
+        element -> getSub((GeneralizableElement) element));
+    computers.put(CapellacorePackage.Literals.GENERALIZABLE_ELEMENT__SUPER,
+        element -> getSuper((GeneralizableElement) element));
+    computers.put(CapellacorePackage.Literals.GENERALIZABLE_ELEMENT__SUB_GENERALIZATIONS,
+        element -> getSubGeneralizations((GeneralizableElement) element));
+    computers.put(CapellacorePackage.Literals.GENERALIZABLE_ELEMENT__SUPER_GENERALIZATIONS,
+        element -> getSuperGeneralizations((GeneralizableElement) element));
   }
 
   public static GeneralizableElementHelper getInstance() {
@@ -38,14 +54,9 @@ public class GeneralizableElementHelper {
   public Object doSwitch(GeneralizableElement element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CapellacorePackage.Literals.GENERALIZABLE_ELEMENT__SUB)) {
-      ret = getSub(element);
-    } else if (feature.equals(CapellacorePackage.Literals.GENERALIZABLE_ELEMENT__SUPER)) {
-      ret = getSuper(element);
-    } else if (feature.equals(CapellacorePackage.Literals.GENERALIZABLE_ELEMENT__SUB_GENERALIZATIONS)) {
-      ret = getSubGeneralizations(element);
-    } else if (feature.equals(CapellacorePackage.Literals.GENERALIZABLE_ELEMENT__SUPER_GENERALIZATIONS)) {
-      ret = getSuperGeneralizations(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -56,6 +67,18 @@ public class GeneralizableElementHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = TypeHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<GeneralizableElement> getSub(GeneralizableElement element) {
     List<GeneralizableElement> ret = new ArrayList<>();
     for (Generalization generalization : element.getSubGeneralizations()) {
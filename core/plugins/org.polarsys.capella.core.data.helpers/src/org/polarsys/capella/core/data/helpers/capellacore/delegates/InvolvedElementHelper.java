@@ -13,10 +13,13 @@
 
 package org.polarsys.capella.core.data.helpers.capellacore.delegates;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.CapellacorePackage;
 import org.polarsys.capella.core.data.capellacore.InvolvedElement;
 import org.polarsys.capella.core.data.capellacore.Involvement;
@@ -24,7 +27,14 @@ import org.polarsys.capella.core.data.capellacore.Involvement;
 public class InvolvedElementHelper {
   private static InvolvedElementHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private InvolvedElementHelper() {
+    computers.put(CapellacorePackage.Literals.INVOLVED_ELEMENT__INVOLVING_INVOLVEMENTS,
+        element -> getInvolvingInvolvements((InvolvedElement) element));
   }
 
   public static InvolvedElementHelper getInstance() {
@@ -37,8 +47,9 @@ public class InvolvedElementHelper {
   public Object doSwitch(InvolvedElement element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CapellacorePackage.Literals.INVOLVED_ELEMENT__INVOLVING_INVOLVEMENTS)) {
-      ret = getInvolvingInvolvements(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -49,6 +60,18 @@ public class InvolvedElementHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = CapellaElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<Involvement> getInvolvingInvolvements(InvolvedElement element) {
     return EObjectExt.getReferencers(element, CapellacorePackage.Literals.INVOLVEMENT__INVOLVED);
   }
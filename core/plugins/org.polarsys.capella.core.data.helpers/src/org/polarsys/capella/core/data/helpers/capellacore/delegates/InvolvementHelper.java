@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.capellacore.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.CapellacorePackage;
 import org.polarsys.capella.core.data.capellacore.Involvement;
 import org.polarsys.capella.core.data.capellacore.InvolverElement;
@@ -22,7 +26,13 @@ import org.polarsys.capella.core.data.capellacore.InvolverElement;
 public class InvolvementHelper {
 	private static InvolvementHelper instance;
 
-	private InvolvementHelper() {//
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
+	private InvolvementHelper() {
+		computers.put(CapellacorePackage.Literals.INVOLVEMENT__INVOLVER, element -> getInvolver((Involvement) element));
 	}
 
 	public static InvolvementHelper getInstance() {
@@ -34,9 +44,10 @@ public class InvolvementHelper {
 	public Object doSwitch(Involvement element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(CapellacorePackage.Literals.INVOLVEMENT__INVOLVER)) {
-      ret = getInvolver(element);
-    } 
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
+		} 
 		
 		// no helper found... searching in super classes...
 		if(null == ret) {
@@ -46,6 +57,18 @@ public class InvolvementHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = RelationshipHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   private InvolverElement getInvolver(Involvement element) {
     EObject parent = element.eContainer();
     if (parent instanceof InvolverElement) {
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.capellacore.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.CapellacorePackage;
 import org.polarsys.capella.core.data.capellacore.Involvement;
 import org.polarsys.capella.core.data.capellacore.InvolverElement;
@@ -25,7 +28,14 @@ import org.polarsys.capella.core.data.capellacore.InvolverElement;
 public class InvolverElementHelper {
   private static InvolverElementHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private InvolverElementHelper() {
+    computers.put(CapellacorePackage.Literals.INVOLVER_ELEMENT__INVOLVED_INVOLVEMENTS,
+        element -> getInvolvedInvolvements((InvolverElement) element));
   }
 
   public static InvolverElementHelper getInstance() {
@@ -38,8 +48,9 @@ public class InvolverElementHelper {
   public Object doSwitch(InvolverElement element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CapellacorePackage.Literals.INVOLVER_ELEMENT__INVOLVED_INVOLVEMENTS)) {
-      ret = getInvolvedInvolvements(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -50,6 +61,18 @@ public class InvolverElementHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = CapellaElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<Involvement> getInvolvedInvolvements(InvolverElement element) {
     List<Involvement> result = new ArrayList<>();
     for (EObject child : element.eContents()) {
@@ -15,6 +15,7 @@ package org.polarsys.capella.core.data.helpers.capellacore.delegates;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.NamedElement;
 
 public class NamedElementHelper {
@@ -35,4 +36,12 @@ public class NamedElementHelper {
 		// no helper found... searching in super classes...
 		return CapellaElementHelper.getInstance().doSwitch(element, feature);
 	}
+
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		return CapellaElementHelper.getInstance().getComputer(feature);
+	}
 }
@@ -15,6 +15,7 @@ package org.polarsys.capella.core.data.helpers.capellacore.delegates;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.NamedRelationship;
 
 public class NamedRelationshipHelper {
@@ -40,4 +41,16 @@ public class NamedRelationshipHelper {
 
 		return ret;
 	}
+
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = RelationshipHelper.getInstance().getComputer(feature);
+		if (null == computer) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
 }
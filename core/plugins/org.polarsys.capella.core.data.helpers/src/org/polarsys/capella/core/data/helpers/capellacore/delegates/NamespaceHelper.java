@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.capellacore.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacommon.GenericTrace;
 import org.polarsys.capella.core.data.capellacore.CapellacorePackage;
 import org.polarsys.capella.core.data.capellacore.Namespace;
@@ -27,7 +30,16 @@ import org.polarsys.capella.core.data.requirement.RequirementsTrace;
 public class NamespaceHelper {
 	private static NamespaceHelper instance;
 
-	private NamespaceHelper() {//
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
+	private NamespaceHelper() {
+		computers.put(CapellacorePackage.Literals.NAMESPACE__CONTAINED_GENERIC_TRACES,
+				element -> getContainedGenericTraces((Namespace) element));
+		computers.put(CapellacorePackage.Literals.NAMESPACE__CONTAINED_REQUIREMENTS_TRACES,
+				element -> getContainedRequirementsTraces((Namespace) element));
 	}
 
 	public static NamespaceHelper getInstance() {
@@ -39,10 +51,9 @@ public class NamespaceHelper {
 	public Object doSwitch(Namespace element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(CapellacorePackage.Literals.NAMESPACE__CONTAINED_GENERIC_TRACES)) {
-      ret = getContainedGenericTraces(element);
-    } else if (feature.equals(CapellacorePackage.Literals.NAMESPACE__CONTAINED_REQUIREMENTS_TRACES)) {
-      ret = getContainedRequirementsTraces(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -53,6 +64,18 @@ public class NamespaceHelper {
 		return ret;
 	}
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = NamedElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<GenericTrace> getContainedGenericTraces(Namespace element) {
     List<GenericTrace> traces = new ArrayList<>();
     for (Trace trace : element.getOwnedTraces()) {
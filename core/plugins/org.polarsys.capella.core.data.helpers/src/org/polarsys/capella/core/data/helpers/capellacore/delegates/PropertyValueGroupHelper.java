@@ -13,10 +13,13 @@
 
 package org.polarsys.capella.core.data.helpers.capellacore.delegates;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.capellacore.CapellacorePackage;
 import org.polarsys.capella.core.data.capellacore.PropertyValueGroup;
@@ -24,7 +27,14 @@ import org.polarsys.capella.core.data.capellacore.PropertyValueGroup;
 public class PropertyValueGroupHelper {
   private static PropertyValueGroupHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private PropertyValueGroupHelper() {
+    computers.put(CapellacorePackage.Literals.PROPERTY_VALUE_GROUP__VALUED_ELEMENTS,
+        element -> getValuedElements((PropertyValueGroup) element));
   }
 
   public static PropertyValueGroupHelper getInstance() {
@@ -37,8 +47,9 @@ public class PropertyValueGroupHelper {
   public Object doSwitch(PropertyValueGroup element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CapellacorePackage.Literals.PROPERTY_VALUE_GROUP__VALUED_ELEMENTS)) {
-      ret = getValuedElements(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -49,6 +60,18 @@ public class PropertyValueGroupHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = NamespaceHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<CapellaElement> getValuedElements(PropertyValueGroup element) {
     return EObjectExt.getReferencers(element, CapellacorePackage.Literals.CAPELLA_ELEMENT__APPLIED_PROPERTY_VALUE_GROUPS);
   }
@@ -15,6 +15,7 @@ package org.polarsys.capella.core.data.helpers.capellacore.delegates;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.Structure;
 
 public class StructureHelper {
@@ -35,4 +36,12 @@ public class StructureHelper {
 		// no helper found... searching in super classes...
 		return NamespaceHelper.getInstance().doSwitch(element, feature);
 	}
+
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		return NamespaceHelper.getInstance().getComputer(feature);
+	}
 }
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.capellacore.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.CapellacorePackage;
 import org.polarsys.capella.core.data.capellacore.Type;
 import org.polarsys.capella.core.data.capellacore.TypedElement;
@@ -27,8 +30,13 @@ import org.polarsys.capella.common.data.modellingcore.AbstractTypedElement;
 public class TypeHelper {
 	private static TypeHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private TypeHelper() {
-	  //
+		computers.put(CapellacorePackage.Literals.TYPE__TYPED_ELEMENTS, element -> getTypedElements((Type) element));
 	}
 
 	public static TypeHelper getInstance(){
@@ -40,8 +48,9 @@ public class TypeHelper {
 	public Object doSwitch(Type element, EStructuralFeature feature){
 		Object ret = null;
 
-		if (feature.equals(CapellacorePackage.Literals.TYPE__TYPED_ELEMENTS)) {
-			ret = getTypedElements(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -55,6 +64,21 @@ public class TypeHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AbstractTypeHelper.getInstance().getComputer(feature);
+		}
+		if (null == computer) {
+			computer = NamespaceHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected List<TypedElement> getTypedElements(Type element){
 		List <AbstractTypedElement> absTypedElements = element.getAbstractTypedElements();
 		List <TypedElement> ret = new ArrayList<>();
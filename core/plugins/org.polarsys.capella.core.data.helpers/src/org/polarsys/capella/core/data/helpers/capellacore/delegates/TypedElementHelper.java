@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.capellacore.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.CapellacorePackage;
 import org.polarsys.capella.core.data.capellacore.Type;
 import org.polarsys.capella.core.data.capellacore.TypedElement;
@@ -23,9 +27,14 @@ import org.polarsys.capella.common.data.modellingcore.AbstractType;
 
 public class TypedElementHelper {
 	private static TypedElementHelper instance;
+
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
 	
 	private TypedElementHelper() {
-	  //
+		computers.put(CapellacorePackage.Literals.TYPED_ELEMENT__TYPE, element -> getType((TypedElement) element));
 	}
 	
 	public static TypedElementHelper getInstance(){
@@ -37,8 +46,9 @@ public class TypedElementHelper {
 	public Object doSwitch(TypedElement element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(CapellacorePackage.Literals.TYPED_ELEMENT__TYPE)) {
-			ret = getType( element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -49,6 +59,18 @@ public class TypedElementHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected Type getType(TypedElement element){
 		AbstractType absType = element.getAbstractType();
 		if(absType instanceof Type) {
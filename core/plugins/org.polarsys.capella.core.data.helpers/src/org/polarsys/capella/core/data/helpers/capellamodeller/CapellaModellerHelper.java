@@ -14,9 +14,11 @@
 package org.polarsys.capella.core.data.helpers.capellamodeller;
 
 import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.model.helpers.HelperNotFoundException;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.common.model.helpers.IHelper;
 import org.polarsys.capella.core.data.capellamodeller.Folder;
 import org.polarsys.capella.core.data.capellamodeller.Project;
@@ -48,4 +50,22 @@ public class CapellaModellerHelper implements IHelper {
 
 		throw new HelperNotFoundException();
 	}
+
+	@Override
+	public IDerivedFeatureComputer getComputer(EClass eClass, EStructuralFeature feature) {
+		// Same dispatch as getValue, on the instance class
+		Class<?> instanceClass = eClass.getInstanceClass();
+		IDerivedFeatureComputer computer = null;
+		if (Project.class.isAssignableFrom(instanceClass)) {
+			computer = StructureHelper.getInstance().getComputer(feature);
+		} else if (Folder.class.isAssignableFrom(instanceClass)) {
+			computer = StructureHelper.getInstance().getComputer(feature);
+		} else if (SystemEngineering.class.isAssignableFrom(instanceClass)) {
+			computer = SystemEngineeringHelper.getInstance().getComputer(feature);
+		} else if (SystemEngineeringPkg.class.isAssignableFrom(instanceClass)) {
+			computer = StructureHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 }
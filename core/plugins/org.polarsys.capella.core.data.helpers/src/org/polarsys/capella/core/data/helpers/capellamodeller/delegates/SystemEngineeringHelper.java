@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.capellamodeller.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.ctx.SystemAnalysis;
 import org.polarsys.capella.core.data.epbs.EPBSArchitecture;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.StructureHelper;
@@ -32,8 +35,24 @@ import org.polarsys.capella.core.data.sharedmodel.SharedPkg;
 public class SystemEngineeringHelper {
   private static SystemEngineeringHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private SystemEngineeringHelper() {
-    // do nothing
+    computers.put(CapellamodellerPackage.Literals.SYSTEM_ENGINEERING__CONTAINED_OPERATIONAL_ANALYSIS,
+        element -> getContainedOperationalAnalysis((SystemEngineering) element));
+    computers.put(CapellamodellerPackage.Literals.SYSTEM_ENGINEERING__CONTAINED_SYSTEM_ANALYSIS,
+        element -> getContainedSystemAnalysis((SystemEngineering) element));
+    computers.put(CapellamodellerPackage.Literals.SYSTEM_ENGINEERING__CONTAINED_LOGICAL_ARCHITECTURES,
+        element -> getContainedLogicalArchitectures((SystemEngineering) element));
+    computers.put(CapellamodellerPackage.Literals.SYSTEM_ENGINEERING__CONTAINED_PHYSICAL_ARCHITECTURES,
+        element -> getContainedPhysicalArchitectures((SystemEngineering) element));
+    computers.put(CapellamodellerPackage.Literals.SYSTEM_ENGINEERING__CONTAINED_EPBS_ARCHITECTURES,
+        element -> getContainedEPBSArchitectures((SystemEngineering) element));
+    computers.put(CapellamodellerPackage.Literals.SYSTEM_ENGINEERING__CONTAINED_SHARED_PKGS,
+        element -> getContainedSharedPkgs((SystemEngineering) element));
   }
 
   public static SystemEngineeringHelper getInstance() {
@@ -45,18 +64,9 @@ public class SystemEngineeringHelper {
   public Object doSwitch(SystemEngineering element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CapellamodellerPackage.Literals.SYSTEM_ENGINEERING__CONTAINED_OPERATIONAL_ANALYSIS)) {
-      ret = getContainedOperationalAnalysis(element);
-    } else if (feature.equals(CapellamodellerPackage.Literals.SYSTEM_ENGINEERING__CONTAINED_SYSTEM_ANALYSIS)) {
-      ret = getContainedSystemAnalysis(element);
-    } else if (feature.equals(CapellamodellerPackage.Literals.SYSTEM_ENGINEERING__CONTAINED_LOGICAL_ARCHITECTURES)) {
-      ret = getContainedLogicalArchitectures(element);
-    } else if (feature.equals(CapellamodellerPackage.Literals.SYSTEM_ENGINEERING__CONTAINED_PHYSICAL_ARCHITECTURES)) {
-      ret = getContainedPhysicalArchitectures(element);
-    } else if (feature.equals(CapellamodellerPackage.Literals.SYSTEM_ENGINEERING__CONTAINED_EPBS_ARCHITECTURES)) {
-      ret = getContainedEPBSArchitectures(element);
-    } else if (feature.equals(CapellamodellerPackage.Literals.SYSTEM_ENGINEERING__CONTAINED_SHARED_PKGS)) {
-      ret = getContainedSharedPkgs(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -67,6 +77,18 @@ public class SystemEngineeringHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = StructureHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<OperationalAnalysis> getContainedOperationalAnalysis(SystemEngineering element) {
     List<OperationalAnalysis> res = new ArrayList<>();
     for (ModellingArchitecture architecture : element.getOwnedArchitectures()) {
@@ -14,9 +14,11 @@
 package org.polarsys.capella.core.data.helpers.cs;
 
 import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.model.helpers.HelperNotFoundException;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.common.model.helpers.IHelper;
 import org.polarsys.capella.core.data.cs.ArchitectureAllocation;
 import org.polarsys.capella.core.data.cs.BlockArchitecture;
@@ -134,4 +136,60 @@ public class CompositeStructureHelper implements IHelper {
 
     throw new HelperNotFoundException();
   }
+
+  @Override
+  public IDerivedFeatureComputer getComputer(EClass eClass, EStructuralFeature feature) {
+    // Same dispatch as getValue, on the instance class
+    Class<?> instanceClass = eClass.getInstanceClass();
+    IDerivedFeatureComputer computer = null;
+    if (Part.class.isAssignableFrom(instanceClass)) {
+      computer = PartHelper.getInstance().getComputer(feature);
+    } else if (SystemComponent.class.isAssignableFrom(instanceClass)) {
+      computer = SystemComponentHelper.getInstance().getComputer(feature);
+    } else if (Component.class.isAssignableFrom(instanceClass)) {
+      computer = ComponentHelper.getInstance().getComputer(feature);
+    } else if (BlockArchitecture.class.isAssignableFrom(instanceClass)) {
+      computer = BlockArchitectureHelper.getInstance().getComputer(feature);
+    } else if (Interface.class.isAssignableFrom(instanceClass)) {
+      computer = InterfaceHelper.getInstance().getComputer(feature);
+    } else if (InterfaceAllocator.class.isAssignableFrom(instanceClass)) {
+      computer = InterfaceAllocatorHelper.getInstance().getComputer(feature);
+    } else if (InterfaceAllocation.class.isAssignableFrom(instanceClass)) {
+      computer = InterfaceAllocationHelper.getInstance().getComputer(feature);
+    } else if (ArchitectureAllocation.class.isAssignableFrom(instanceClass)) {
+      computer = ArchitectureAllocationHelper.getInstance().getComputer(feature);
+    } else if (InterfaceImplementation.class.isAssignableFrom(instanceClass)) {
+      computer = InterfaceImplementationHelper.getInstance().getComputer(feature);
+    } else if (InterfaceUse.class.isAssignableFrom(instanceClass)) {
+      computer = InterfaceUseHelper.getInstance().getComputer(feature);
+    } else if (InterfacePkg.class.isAssignableFrom(instanceClass)) {
+      computer = StructureHelper.getInstance().getComputer(feature);
+    } else if (ExchangeItemAllocation.class.isAssignableFrom(instanceClass)) {
+      computer = ExchangeItemAllocationHelper.getInstance().getComputer(feature);
+    } else if (PhysicalLink.class.isAssignableFrom(instanceClass)) {
+      computer = PhysicalLinkHelper.getInstance().getComputer(feature);
+    } else if (PhysicalPath.class.isAssignableFrom(instanceClass)) {
+      computer = PhysicalPathHelper.getInstance().getComputer(feature);
+    } else if (PhysicalPort.class.isAssignableFrom(instanceClass)) {
+      computer = PhysicalPortHelper.getInstance().getComputer(feature);
+    } else if (PhysicalLinkEnd.class.isAssignableFrom(instanceClass)) {
+      computer = PhysicalLinkEndHelper.getInstance().getComputer(feature);
+    } else if (PhysicalPathReference.class.isAssignableFrom(instanceClass)) {
+      computer = PhysicalPathReferenceHelper.getInstance().getComputer(feature);
+    } else if (PhysicalPathInvolvement.class.isAssignableFrom(instanceClass)) {
+      computer = PhysicalPathInvolvementHelper.getInstance().getComputer(feature);
+    } else if (PhysicalLinkCategory.class.isAssignableFrom(instanceClass)) {
+      computer = NamedElementHelper.getInstance().getComputer(feature);
+    } else if (PhysicalLinkRealization.class.isAssignableFrom(instanceClass)) {
+      computer = PhysicalLinkRealizationHelper.getInstance().getComputer(feature);
+    } else if (PhysicalPathRealization.class.isAssignableFrom(instanceClass)) {
+      computer = PhysicalPathRealizationHelper.getInstance().getComputer(feature);
+    } else if (PhysicalPortRealization.class.isAssignableFrom(instanceClass)) {
+      computer = PhysicalPortRealizationHelper.getInstance().getComputer(feature);
+    } else if (ComponentRealization.class.isAssignableFrom(instanceClass)) {
+      computer = ComponentRealizationHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
 }
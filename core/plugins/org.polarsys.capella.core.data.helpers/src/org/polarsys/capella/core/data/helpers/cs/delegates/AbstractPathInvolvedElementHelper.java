@@ -15,6 +15,7 @@ package org.polarsys.capella.core.data.helpers.cs.delegates;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.AbstractPathInvolvedElement;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.InvolvedElementHelper;
 
@@ -36,4 +37,12 @@ public class AbstractPathInvolvedElementHelper {
 	  // no helper found... searching in super classes...
       return InvolvedElementHelper.getInstance().doSwitch(element, feature);
   }
+
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    return InvolvedElementHelper.getInstance().getComputer(feature);
+  }
 }
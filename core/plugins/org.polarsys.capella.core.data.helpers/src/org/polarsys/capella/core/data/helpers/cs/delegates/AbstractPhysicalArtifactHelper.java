@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.AbstractPhysicalArtifact;
 import org.polarsys.capella.core.data.cs.Component;
 import org.polarsys.capella.core.data.cs.CsPackage;
@@ -29,8 +32,14 @@ import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 public class AbstractPhysicalArtifactHelper {
   private static AbstractPhysicalArtifactHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private AbstractPhysicalArtifactHelper() {
-    // do nothing
+    computers.put(CsPackage.Literals.ABSTRACT_PHYSICAL_ARTIFACT__ALLOCATOR_CONFIGURATION_ITEMS,
+        element -> getAllocatorConfigurationItems((AbstractPhysicalArtifact) element));
   }
 
   public static AbstractPhysicalArtifactHelper getInstance() {
@@ -42,8 +51,9 @@ public class AbstractPhysicalArtifactHelper {
   public Object doSwitch(AbstractPhysicalArtifact element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CsPackage.Literals.ABSTRACT_PHYSICAL_ARTIFACT__ALLOCATOR_CONFIGURATION_ITEMS)) {
-      ret = getAllocatorConfigurationItems(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -54,6 +64,18 @@ public class AbstractPhysicalArtifactHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = CapellaElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<ConfigurationItem> getAllocatorConfigurationItems(AbstractPhysicalArtifact element) {
     List<ConfigurationItem> ret = new ArrayList<>();
     for (AbstractTrace trace : element.getIncomingTraces()) {
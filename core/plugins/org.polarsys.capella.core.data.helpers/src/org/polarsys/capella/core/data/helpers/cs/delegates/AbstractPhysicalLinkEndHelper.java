@@ -14,12 +14,15 @@
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.AbstractPhysicalLinkEnd;
 import org.polarsys.capella.core.data.cs.CsPackage;
 import org.polarsys.capella.core.data.cs.PhysicalLink;
@@ -29,8 +32,14 @@ import org.polarsys.capella.core.data.helpers.capellacore.delegates.CapellaEleme
 public class AbstractPhysicalLinkEndHelper {
 	private static AbstractPhysicalLinkEndHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private AbstractPhysicalLinkEndHelper() {
-    // do nothing
+		computers.put(CsPackage.Literals.ABSTRACT_PHYSICAL_LINK_END__INVOLVED_LINKS,
+				element -> getInvolvedLinks((AbstractPhysicalLinkEnd) element));
 	}
 
 	public static AbstractPhysicalLinkEndHelper getInstance() {
@@ -42,9 +51,10 @@ public class AbstractPhysicalLinkEndHelper {
 	public Object doSwitch(AbstractPhysicalLinkEnd element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(CsPackage.Literals.ABSTRACT_PHYSICAL_LINK_END__INVOLVED_LINKS)) {
-      ret = getInvolvedLinks(element);
-    }
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
+		}
 
 		// no helper found... searching in super classes...
 		if (null == ret) {
@@ -53,6 +63,18 @@ public class AbstractPhysicalLinkEndHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = CapellaElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected List<PhysicalLink> getInvolvedLinks(AbstractPhysicalLinkEnd element) {
     List<PhysicalLink> ret = new ArrayList<>();
 
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.ArchitectureAllocation;
 import org.polarsys.capella.core.data.cs.BlockArchitecture;
 import org.polarsys.capella.core.data.cs.CsPackage;
@@ -24,8 +28,16 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class ArchitectureAllocationHelper {
 	private static ArchitectureAllocationHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private ArchitectureAllocationHelper() {
-    // do nothing
+		computers.put(CsPackage.Literals.ARCHITECTURE_ALLOCATION__ALLOCATED_ARCHITECTURE,
+				element -> getAllocatedArchitecture((ArchitectureAllocation) element));
+		computers.put(CsPackage.Literals.ARCHITECTURE_ALLOCATION__ALLOCATING_ARCHITECTURE,
+				element -> getAllocatingArchitecture((ArchitectureAllocation) element));
 	}
 
 	public static ArchitectureAllocationHelper getInstance() {
@@ -37,11 +49,9 @@ public class ArchitectureAllocationHelper {
 	public Object doSwitch(ArchitectureAllocation element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(CsPackage.Literals.ARCHITECTURE_ALLOCATION__ALLOCATED_ARCHITECTURE)) {
-			ret = getAllocatedArchitecture(element);
-		}
-		else if (feature.equals(CsPackage.Literals.ARCHITECTURE_ALLOCATION__ALLOCATING_ARCHITECTURE)) {
-			ret = getAllocatingArchitecture(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		} 
 
 		// no helper found... searching in super classes...
@@ -52,6 +62,18 @@ public class ArchitectureAllocationHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AllocationHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected BlockArchitecture getAllocatedArchitecture(ArchitectureAllocation element) {
 		TraceableElement ret = element.getTargetElement();
 		if(ret instanceof BlockArchitecture)
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.ArchitectureAllocation;
 import org.polarsys.capella.core.data.cs.BlockArchitecture;
 import org.polarsys.capella.core.data.cs.Component;
@@ -35,8 +38,21 @@ import org.polarsys.capella.core.data.pa.PhysicalComponentPkg;
 public class BlockArchitectureHelper {
   private static BlockArchitectureHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private BlockArchitectureHelper() {
-    // do nothing
+    computers.put(CsPackage.Literals.BLOCK_ARCHITECTURE__ALLOCATED_ARCHITECTURES,
+        element -> getAllocatedArchitectures((BlockArchitecture) element));
+    computers.put(CsPackage.Literals.BLOCK_ARCHITECTURE__ALLOCATING_ARCHITECTURES,
+        element -> getAllocatingArchitectures((BlockArchitecture) element));
+    computers.put(CsPackage.Literals.BLOCK_ARCHITECTURE__PROVISIONED_ARCHITECTURE_ALLOCATIONS,
+        element -> getProvisionedArchitectureAllocations((BlockArchitecture) element));
+    computers.put(CsPackage.Literals.BLOCK_ARCHITECTURE__PROVISIONING_ARCHITECTURE_ALLOCATIONS,
+        element -> getProvisioningArchitectureAllocations((BlockArchitecture) element));
+    computers.put(CsPackage.Literals.BLOCK_ARCHITECTURE__SYSTEM, element -> getSystem((BlockArchitecture) element));
   }
 
   public static BlockArchitectureHelper getInstance() {
@@ -49,16 +65,9 @@ public class BlockArchitectureHelper {
 
     Object ret = null;
 
-    if (feature.equals(CsPackage.Literals.BLOCK_ARCHITECTURE__ALLOCATED_ARCHITECTURES)) {
-      ret = getAllocatedArchitectures(element);
-    } else if (feature.equals(CsPackage.Literals.BLOCK_ARCHITECTURE__ALLOCATING_ARCHITECTURES)) {
-      ret = getAllocatingArchitectures(element);
-    } else if (feature.equals(CsPackage.Literals.BLOCK_ARCHITECTURE__PROVISIONED_ARCHITECTURE_ALLOCATIONS)) {
-      ret = getProvisionedArchitectureAllocations(element);
-    } else if (feature.equals(CsPackage.Literals.BLOCK_ARCHITECTURE__PROVISIONING_ARCHITECTURE_ALLOCATIONS)) {
-      ret = getProvisioningArchitectureAllocations(element);
-    } else if (feature.equals(CsPackage.Literals.BLOCK_ARCHITECTURE__SYSTEM)) {
-      ret = getSystem(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -69,6 +78,18 @@ public class BlockArchitectureHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = StructureHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<ArchitectureAllocation> getProvisionedArchitectureAllocations(BlockArchitecture element) {
     List<AbstractTrace> traces = element.getOutgoingTraces();
     List<ArchitectureAllocation> ret = new ArrayList<>();
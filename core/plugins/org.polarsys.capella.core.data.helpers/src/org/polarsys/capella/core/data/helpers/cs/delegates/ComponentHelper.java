@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.Feature;
 import org.polarsys.capella.core.data.capellacore.TypedElement;
 import org.polarsys.capella.core.data.cs.Component;
@@ -36,8 +39,34 @@ import org.polarsys.capella.core.data.helpers.information.delegates.Communicatio
 public class ComponentHelper {
   private static ComponentHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private ComponentHelper() {
-    // do nothing
+    computers.put(CsPackage.Literals.COMPONENT__REALIZED_COMPONENTS,
+        element -> getRealizedComponents((Component) element));
+    computers.put(CsPackage.Literals.COMPONENT__REALIZING_COMPONENTS,
+        element -> getRealizingComponents((Component) element));
+    computers.put(CsPackage.Literals.COMPONENT__PROVIDED_INTERFACES,
+        element -> getProvidedInterfaces((Component) element));
+    computers.put(CsPackage.Literals.COMPONENT__REQUIRED_INTERFACES,
+        element -> getRequiredInterfaces((Component) element));
+    computers.put(CsPackage.Literals.COMPONENT__IMPLEMENTED_INTERFACES,
+        element -> getImplementedInterfaces((Component) element));
+    computers.put(CsPackage.Literals.COMPONENT__USED_INTERFACES, element -> getUsedInterfaces((Component) element));
+    computers.put(CsPackage.Literals.COMPONENT__IMPLEMENTED_INTERFACE_LINKS,
+        element -> getImplementedInterfaceLinks((Component) element));
+    computers.put(CsPackage.Literals.COMPONENT__USED_INTERFACE_LINKS,
+        element -> getUsedInterfaceLinks((Component) element));
+    computers.put(CsPackage.Literals.COMPONENT__CONTAINED_COMPONENT_PORTS,
+        element -> getContainedComponentPorts((Component) element));
+    computers.put(CsPackage.Literals.COMPONENT__CONTAINED_PARTS, element -> getContainedParts((Component) element));
+    computers.put(CsPackage.Literals.COMPONENT__CONTAINED_PHYSICAL_PORTS,
+        element -> getContainedPhysicalPorts((Component) element));
+    computers.put(CsPackage.Literals.COMPONENT__REPRESENTING_PARTS,
+        element -> getRepresentingParts((Component) element));
   }
 
   public static ComponentHelper getInstance() {
@@ -50,30 +79,9 @@ public class ComponentHelper {
   public Object doSwitch(Component element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CsPackage.Literals.COMPONENT__REALIZED_COMPONENTS)) {
-      ret = getRealizedComponents(element);
-    } else if (feature.equals(CsPackage.Literals.COMPONENT__REALIZING_COMPONENTS)) {
-      ret = getRealizingComponents(element);
-    } else if (feature.equals(CsPackage.Literals.COMPONENT__PROVIDED_INTERFACES)) {
-      ret = getProvidedInterfaces(element);
-    } else if (feature.equals(CsPackage.Literals.COMPONENT__REQUIRED_INTERFACES)) {
-      ret = getRequiredInterfaces(element);
-    } else if (feature.equals(CsPackage.Literals.COMPONENT__IMPLEMENTED_INTERFACES)) {
-      ret = getImplementedInterfaces(element);
-    } else if (feature.equals(CsPackage.Literals.COMPONENT__USED_INTERFACES)) {
-      ret = getUsedInterfaces(element);
-    } else if (feature.equals(CsPackage.Literals.COMPONENT__IMPLEMENTED_INTERFACE_LINKS)) {
-      ret = getImplementedInterfaceLinks(element);
-    } else if (feature.equals(CsPackage.Literals.COMPONENT__USED_INTERFACE_LINKS)) {
-      ret = getUsedInterfaceLinks(element);
-    } else if (feature.equals(CsPackage.Literals.COMPONENT__CONTAINED_COMPONENT_PORTS)) {
-      ret = getContainedComponentPorts(element);
-    } else if (feature.equals(CsPackage.Literals.COMPONENT__CONTAINED_PARTS)) {
-      ret = getContainedParts(element);
-    } else if (feature.equals(CsPackage.Literals.COMPONENT__CONTAINED_PHYSICAL_PORTS)) {
-      ret = getContainedPhysicalPorts(element);
-    } else if (feature.equals(CsPackage.Literals.COMPONENT__REPRESENTING_PARTS)) {
-      ret = getRepresentingParts(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -93,6 +101,27 @@ public class ComponentHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AbstractFunctionalBlockHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = ClassifierHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = InterfaceAllocatorHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = CommunicationLinkExchangerHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<Component> getRealizedComponents(Component element) {
     List<Component> ret = new ArrayList<>();
     for (AbstractTrace trace : element.getOutgoingTraces()) {
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.TraceableElement;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.Component;
 import org.polarsys.capella.core.data.cs.ComponentRealization;
 import org.polarsys.capella.core.data.cs.CsPackage;
@@ -23,8 +27,16 @@ import org.polarsys.capella.core.data.helpers.capellacore.delegates.AllocationHe
 public class ComponentRealizationHelper {
   private static ComponentRealizationHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private ComponentRealizationHelper() {
-    // do nothing
+    computers.put(CsPackage.Literals.COMPONENT_REALIZATION__REALIZED_COMPONENT,
+        element -> getRealizedComponent((ComponentRealization) element));
+    computers.put(CsPackage.Literals.COMPONENT_REALIZATION__REALIZING_COMPONENT,
+        element -> getRealizingComponent((ComponentRealization) element));
   }
 
   public static ComponentRealizationHelper getInstance() {
@@ -37,10 +49,9 @@ public class ComponentRealizationHelper {
   public Object doSwitch(ComponentRealization element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CsPackage.Literals.COMPONENT_REALIZATION__REALIZED_COMPONENT)) {
-      ret = getRealizedComponent(element);
-    } else if (feature.equals(CsPackage.Literals.COMPONENT_REALIZATION__REALIZING_COMPONENT)) {
-      ret = getRealizingComponent(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -51,6 +62,18 @@ public class ComponentRealizationHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AllocationHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected Component getRealizedComponent(ComponentRealization element) {
     TraceableElement ret = element.getTargetElement();
     if (null != ret && ret instanceof Component)
@@ -13,10 +13,13 @@
 
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.AbstractDeploymentLink;
 import org.polarsys.capella.core.data.cs.CsPackage;
 import org.polarsys.capella.core.data.cs.DeployableElement;
@@ -25,7 +28,14 @@ import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedElement
 public class DeployableElementHelper {
   private static DeployableElementHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private DeployableElementHelper() {
+    computers.put(CsPackage.Literals.DEPLOYABLE_ELEMENT__DEPLOYING_LINKS,
+        element -> getDeployingLinks((DeployableElement) element));
   }
 
   public static DeployableElementHelper getInstance() {
@@ -39,8 +49,9 @@ public class DeployableElementHelper {
 
     Object ret = null;
 
-    if (feature.equals(CsPackage.Literals.DEPLOYABLE_ELEMENT__DEPLOYING_LINKS)) {
-      ret = getDeployingLinks(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -51,6 +62,18 @@ public class DeployableElementHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = NamedElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<AbstractDeploymentLink> getDeployingLinks(DeployableElement element) {
     return EObjectExt.getReferencers(element, CsPackage.Literals.ABSTRACT_DEPLOYMENT_LINK__DEPLOYED_ELEMENT);
   }
@@ -13,10 +13,13 @@
 
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.AbstractDeploymentLink;
 import org.polarsys.capella.core.data.cs.CsPackage;
 import org.polarsys.capella.core.data.cs.DeploymentTarget;
@@ -25,8 +28,15 @@ import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedElement
 public class DeploymentTargetHelper {
 	
 	private static DeploymentTargetHelper instance;
+
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
 	
 	private DeploymentTargetHelper() {
+		computers.put(CsPackage.Literals.DEPLOYMENT_TARGET__DEPLOYMENT_LINKS,
+				element -> getDeploymentLinks((DeploymentTarget) element));
 	}
 
 	public static DeploymentTargetHelper getInstance() {
@@ -40,8 +50,9 @@ public class DeploymentTargetHelper {
 
 	    Object ret = null;
 
-	    if (feature.equals(CsPackage.Literals.DEPLOYMENT_TARGET__DEPLOYMENT_LINKS)) {
-	      ret = getDeploymentLinks(element);
+	    IDerivedFeatureComputer computer = computers.get(feature);
+	    if (null != computer) {
+	    	ret = computer.getValue(element);
 	    }
 
 	    // no helper found... searching in super classes...
@@ -52,6 +63,18 @@ public class DeploymentTargetHelper {
 	    return ret;
 	  }
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	  protected List<AbstractDeploymentLink> getDeploymentLinks(DeploymentTarget element) {
 	    return EObjectExt.getReferencers(element, CsPackage.Literals.ABSTRACT_DEPLOYMENT_LINK__LOCATION);
 	  }
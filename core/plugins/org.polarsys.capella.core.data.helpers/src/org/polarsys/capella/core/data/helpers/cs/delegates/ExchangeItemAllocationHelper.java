@@ -13,9 +13,13 @@
 
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.CsPackage;
 import org.polarsys.capella.core.data.cs.ExchangeItemAllocation;
 import org.polarsys.capella.core.data.cs.Interface;
@@ -25,8 +29,14 @@ import org.polarsys.capella.core.data.helpers.capellacore.delegates.Relationship
 public class ExchangeItemAllocationHelper {
 	private static ExchangeItemAllocationHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private ExchangeItemAllocationHelper() {
-    // do nothing
+		computers.put(CsPackage.Literals.EXCHANGE_ITEM_ALLOCATION__ALLOCATING_INTERFACE,
+				element -> getAllocatingInterface((ExchangeItemAllocation) element));
 	}
 
 	public static ExchangeItemAllocationHelper getInstance() {
@@ -38,8 +48,9 @@ public class ExchangeItemAllocationHelper {
 	public Object doSwitch(ExchangeItemAllocation element, EStructuralFeature feature) {
 		Object ret = null;
     
-    if (feature.equals(CsPackage.Literals.EXCHANGE_ITEM_ALLOCATION__ALLOCATING_INTERFACE)) {
-      ret = getAllocatingInterface(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -53,6 +64,21 @@ public class ExchangeItemAllocationHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = RelationshipHelper.getInstance().getComputer(feature);
+		}
+		if (null == computer) {
+			computer = AbstractEventOperationHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected Interface getAllocatingInterface(ExchangeItemAllocation element) {
     if (null != element) {
       EObject owner = element.eContainer();
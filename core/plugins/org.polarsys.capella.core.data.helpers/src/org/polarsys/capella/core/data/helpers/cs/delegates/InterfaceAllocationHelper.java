@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.CsPackage;
 import org.polarsys.capella.core.data.cs.Interface;
 import org.polarsys.capella.core.data.cs.InterfaceAllocation;
@@ -25,8 +29,16 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class InterfaceAllocationHelper {
 	private static InterfaceAllocationHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private InterfaceAllocationHelper() {
-    // do nothing
+		computers.put(CsPackage.Literals.INTERFACE_ALLOCATION__ALLOCATED_INTERFACE,
+				element -> getAllocatedInterface((InterfaceAllocation) element));
+		computers.put(CsPackage.Literals.INTERFACE_ALLOCATION__ALLOCATING_INTERFACE_ALLOCATOR,
+				element -> getAllocatingInterfaceAllocator((InterfaceAllocation) element));
 	}
 
 	public static InterfaceAllocationHelper getInstance() {
@@ -38,11 +50,9 @@ public class InterfaceAllocationHelper {
 	public Object doSwitch(InterfaceAllocation element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(CsPackage.Literals.INTERFACE_ALLOCATION__ALLOCATED_INTERFACE)) {
-			ret = getAllocatedInterface(element);
-		}
-		else if (feature.equals(CsPackage.Literals.INTERFACE_ALLOCATION__ALLOCATING_INTERFACE_ALLOCATOR)) {
-			ret = getAllocatingInterfaceAllocator(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
     // no helper found... searching in super classes...
@@ -53,6 +63,18 @@ public class InterfaceAllocationHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AllocationHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected Interface getAllocatedInterface(InterfaceAllocation element) {
 		TraceableElement ret = element.getTargetElement();
 		if(ret instanceof Interface)
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.CsPackage;
 import org.polarsys.capella.core.data.cs.Interface;
 import org.polarsys.capella.core.data.cs.InterfaceAllocation;
@@ -28,8 +31,16 @@ import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 public class InterfaceAllocatorHelper {
 	private static InterfaceAllocatorHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private InterfaceAllocatorHelper() {
-    // do nothing
+		computers.put(CsPackage.Literals.INTERFACE_ALLOCATOR__ALLOCATED_INTERFACES,
+				element -> getAllocatedInterfaces((InterfaceAllocator) element));
+		computers.put(CsPackage.Literals.INTERFACE_ALLOCATOR__PROVISIONED_INTERFACE_ALLOCATIONS,
+				element -> getProvisionedInterfaceAllocations((InterfaceAllocator) element));
 	}
 
 	public static InterfaceAllocatorHelper getInstance() {
@@ -41,11 +52,9 @@ public class InterfaceAllocatorHelper {
 	public Object doSwitch(InterfaceAllocator element,EStructuralFeature feature) {
 		Object ret = null;
 		
-		if (feature.equals(CsPackage.Literals.INTERFACE_ALLOCATOR__ALLOCATED_INTERFACES)) {
-			ret = getAllocatedInterfaces(element);
-		} else	
-		if (feature.equals(CsPackage.Literals.INTERFACE_ALLOCATOR__PROVISIONED_INTERFACE_ALLOCATIONS)) {
-			ret = getProvisionedInterfaceAllocations(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		} 
 
     // no helper found... searching in super classes...
@@ -55,6 +64,18 @@ public class InterfaceAllocatorHelper {
 
 		return ret;
 	}
+
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = CapellaElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
 	
 	protected List<Interface> getAllocatedInterfaces(InterfaceAllocator element) {
 		List<InterfaceAllocation> allocs = element.getProvisionedInterfaceAllocations();
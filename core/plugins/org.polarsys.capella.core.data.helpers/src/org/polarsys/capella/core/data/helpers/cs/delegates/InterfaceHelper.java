@@ -14,13 +14,16 @@
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.Component;
 import org.polarsys.capella.core.data.cs.CsPackage;
 import org.polarsys.capella.core.data.cs.ExchangeItemAllocation;
@@ -39,7 +42,41 @@ import org.polarsys.capella.core.data.pa.LogicalInterfaceRealization;
 public class InterfaceHelper {
   private static InterfaceHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private InterfaceHelper() {
+    computers.put(CsPackage.Literals.INTERFACE__ALLOCATING_INTERFACES,
+        element -> getAllocatingInterfaces((Interface) element));
+    computers.put(CsPackage.Literals.INTERFACE__ALLOCATING_COMPONENTS,
+        element -> getAllocatingComponents((Interface) element));
+    computers.put(CsPackage.Literals.INTERFACE__IMPLEMENTOR_COMPONENTS,
+        element -> getImplementorComponents((Interface) element));
+    computers.put(CsPackage.Literals.INTERFACE__USER_COMPONENTS, element -> getUserComponents((Interface) element));
+    computers.put(CsPackage.Literals.INTERFACE__PROVISIONING_INTERFACE_ALLOCATIONS,
+        element -> getProvisioningInterfaceAllocations((Interface) element));
+    computers.put(CsPackage.Literals.INTERFACE__INTERFACE_IMPLEMENTATIONS,
+        element -> getInterfaceImplementations((Interface) element));
+    computers.put(CsPackage.Literals.INTERFACE__INTERFACE_USES, element -> getInterfaceUses((Interface) element));
+    computers.put(CsPackage.Literals.INTERFACE__EXCHANGE_ITEMS, element -> getExchangeItems((Interface) element));
+    computers.put(CsPackage.Literals.INTERFACE__REQUIRING_COMPONENTS,
+        element -> getRequiringComponents((Interface) element));
+    computers.put(CsPackage.Literals.INTERFACE__PROVIDING_COMPONENTS,
+        element -> getProvidingComponents((Interface) element));
+    computers.put(CsPackage.Literals.INTERFACE__REQUIRING_COMPONENT_PORTS,
+        element -> getRequiringComponentPorts((Interface) element));
+    computers.put(CsPackage.Literals.INTERFACE__PROVIDING_COMPONENT_PORTS,
+        element -> getProvidingComponentPorts((Interface) element));
+    computers.put(CsPackage.Literals.INTERFACE__REALIZING_LOGICAL_INTERFACES,
+        element -> getRealizingLogicalInterfaces((Interface) element));
+    computers.put(CsPackage.Literals.INTERFACE__REALIZED_CONTEXT_INTERFACES,
+        element -> getRealizedContextInterfaces((Interface) element));
+    computers.put(CsPackage.Literals.INTERFACE__REALIZING_PHYSICAL_INTERFACES,
+        element -> getRealizingPhysicalInterfaces((Interface) element));
+    computers.put(CsPackage.Literals.INTERFACE__REALIZED_LOGICAL_INTERFACES,
+        element -> getRealizedLogicalInterfaces((Interface) element));
   }
 
   public static InterfaceHelper getInstance() {
@@ -52,38 +89,9 @@ public class InterfaceHelper {
   public Object doSwitch(Interface element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CsPackage.Literals.INTERFACE__ALLOCATING_INTERFACES)) {
-      ret = getAllocatingInterfaces(element);
-    } else if (feature.equals(CsPackage.Literals.INTERFACE__ALLOCATING_COMPONENTS)) {
-      ret = getAllocatingComponents(element);
-    } else if (feature.equals(CsPackage.Literals.INTERFACE__IMPLEMENTOR_COMPONENTS)) {
-      ret = getImplementorComponents(element);
-    } else if (feature.equals(CsPackage.Literals.INTERFACE__USER_COMPONENTS)) {
-      ret = getUserComponents(element);
-    } else if (feature.equals(CsPackage.Literals.INTERFACE__PROVISIONING_INTERFACE_ALLOCATIONS)) {
-      ret = getProvisioningInterfaceAllocations(element);
-    } else if (feature.equals(CsPackage.Literals.INTERFACE__INTERFACE_IMPLEMENTATIONS)) {
-      ret = getInterfaceImplementations(element);
-    } else if (feature.equals(CsPackage.Literals.INTERFACE__INTERFACE_USES)) {
-      ret = getInterfaceUses(element);
-    } else if (feature.equals(CsPackage.Literals.INTERFACE__EXCHANGE_ITEMS)) {
-      ret = getExchangeItems(element);
-    } else if (feature.equals(CsPackage.Literals.INTERFACE__REQUIRING_COMPONENTS)) {
-      ret = getRequiringComponents(element);
-    } else if (feature.equals(CsPackage.Literals.INTERFACE__PROVIDING_COMPONENTS)) {
-      ret = getProvidingComponents(element);
-    } else if (feature.equals(CsPackage.Literals.INTERFACE__REQUIRING_COMPONENT_PORTS)) {
-      ret = getRequiringComponentPorts(element);
-    } else if (feature.equals(CsPackage.Literals.INTERFACE__PROVIDING_COMPONENT_PORTS)) {
-      ret = getProvidingComponentPorts(element);
-    } else if (feature.equals(CsPackage.Literals.INTERFACE__REALIZING_LOGICAL_INTERFACES)) {
-      ret = getRealizingLogicalInterfaces(element);
-    } else if (feature.equals(CsPackage.Literals.INTERFACE__REALIZED_CONTEXT_INTERFACES)) {
-      ret = getRealizedContextInterfaces(element);
-    } else if (feature.equals(CsPackage.Literals.INTERFACE__REALIZING_PHYSICAL_INTERFACES)) {
-      ret = getRealizingPhysicalInterfaces(element);
-    } else if (feature.equals(CsPackage.Literals.INTERFACE__REALIZED_LOGICAL_INTERFACES)) {
-      ret = getRealizedLogicalInterfaces(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -97,6 +105,21 @@ public class InterfaceHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = InterfaceAllocatorHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = GeneralClassHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   /**
    * Gets the exchange items.
    * @param element the given interface
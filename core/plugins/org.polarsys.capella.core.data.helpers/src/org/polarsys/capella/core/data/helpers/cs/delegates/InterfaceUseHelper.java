@@ -13,9 +13,13 @@
 
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.Component;
 import org.polarsys.capella.core.data.cs.CsPackage;
 import org.polarsys.capella.core.data.cs.InterfaceUse;
@@ -24,8 +28,14 @@ import org.polarsys.capella.core.data.helpers.capellacore.delegates.Relationship
 public class InterfaceUseHelper {
 	private static InterfaceUseHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private InterfaceUseHelper() {
-    // do nothing
+		computers.put(CsPackage.Literals.INTERFACE_USE__INTERFACE_USER,
+				element -> getInterfaceUser((InterfaceUse) element));
 	}
 
 	public static InterfaceUseHelper getInstance() {
@@ -37,8 +47,9 @@ public class InterfaceUseHelper {
 	public Object doSwitch(InterfaceUse element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(CsPackage.Literals.INTERFACE_USE__INTERFACE_USER)) {
-			ret = getInterfaceUser(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -49,6 +60,18 @@ public class InterfaceUseHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = RelationshipHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected Component getInterfaceUser(InterfaceUse element) {
 		EObject owner = element.eContainer();
 		if (owner instanceof Component) {
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.helpers.modellingcore.delegates.InformationsExchangerHelper;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.Type;
 import org.polarsys.capella.core.data.cs.AbstractDeploymentLink;
 import org.polarsys.capella.core.data.cs.Component;
@@ -31,8 +34,16 @@ import org.polarsys.capella.core.data.helpers.information.delegates.AbstractInst
 public class PartHelper {
   private static PartHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private PartHelper() {
-    // do nothing
+    computers.put(CsPackage.Literals.PART__PROVIDED_INTERFACES, element -> getProvidedInterfaces((Part) element));
+    computers.put(CsPackage.Literals.PART__REQUIRED_INTERFACES, element -> getRequiredInterfaces((Part) element));
+    computers.put(CsPackage.Literals.PART__DEPLOYED_PARTS, element -> getDeployedParts((Part) element));
+    computers.put(CsPackage.Literals.PART__DEPLOYING_PARTS, element -> getDeployingParts((Part) element));
   }
 
   public static PartHelper getInstance() {
@@ -44,14 +55,9 @@ public class PartHelper {
   public Object doSwitch(Part element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CsPackage.Literals.PART__PROVIDED_INTERFACES)) {
-      ret = getProvidedInterfaces(element);
-    } else if (feature.equals(CsPackage.Literals.PART__REQUIRED_INTERFACES)) {
-      ret = getRequiredInterfaces(element);
-    } else if (feature.equals(CsPackage.Literals.PART__DEPLOYED_PARTS)) {
-      ret = getDeployedParts(element);
-    } else if (feature.equals(CsPackage.Literals.PART__DEPLOYING_PARTS)) {
-      ret = getDeployingParts(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -74,6 +80,30 @@ public class PartHelper {
 
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AbstractInstanceHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = InformationsExchangerHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = DeployableElementHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = AbstractPathInvolvedElementHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = DeploymentTargetHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<Interface> getProvidedInterfaces(Part element) {
     List<Interface> ret = new ArrayList<>();
 
@@ -14,11 +14,14 @@
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.CsPackage;
 import org.polarsys.capella.core.data.cs.PhysicalLink;
 import org.polarsys.capella.core.data.cs.PhysicalLinkRealization;
@@ -35,8 +38,21 @@ import org.polarsys.capella.common.helpers.EObjectExt;
 public class PhysicalLinkHelper {
 	private static PhysicalLinkHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private PhysicalLinkHelper() {
-    // do nothing
+		computers.put(CsPackage.Literals.PHYSICAL_LINK__SOURCE_PHYSICAL_PORT,
+				element -> getSourcePhysicalPort((PhysicalLink) element));
+		computers.put(CsPackage.Literals.PHYSICAL_LINK__TARGET_PHYSICAL_PORT,
+				element -> getTargetPhysicalPort((PhysicalLink) element));
+		computers.put(CsPackage.Literals.PHYSICAL_LINK__REALIZED_PHYSICAL_LINKS,
+				element -> getRealizedPhysicalLinks((PhysicalLink) element));
+		computers.put(CsPackage.Literals.PHYSICAL_LINK__REALIZING_PHYSICAL_LINKS,
+				element -> getRealizingPhysicalLinks((PhysicalLink) element));
+		computers.put(CsPackage.Literals.PHYSICAL_LINK__CATEGORIES, element -> getCategories((PhysicalLink) element));
 	}
 
 	public static PhysicalLinkHelper getInstance() {
@@ -48,16 +64,9 @@ public class PhysicalLinkHelper {
 	public Object doSwitch(PhysicalLink element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(CsPackage.Literals.PHYSICAL_LINK__SOURCE_PHYSICAL_PORT)) {
-      ret = getSourcePhysicalPort(element);
-    } else if (feature.equals(CsPackage.Literals.PHYSICAL_LINK__TARGET_PHYSICAL_PORT)) {
-      ret = getTargetPhysicalPort(element);
-    } else if (feature.equals(CsPackage.Literals.PHYSICAL_LINK__REALIZED_PHYSICAL_LINKS)) {
-      ret = getRealizedPhysicalLinks(element);
-    } else if (feature.equals(CsPackage.Literals.PHYSICAL_LINK__REALIZING_PHYSICAL_LINKS)) {
-      ret = getRealizingPhysicalLinks(element);
-    } else if (feature.equals(CsPackage.Literals.PHYSICAL_LINK__CATEGORIES)) {
-      ret = getCategories(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -74,6 +83,24 @@ public class PhysicalLinkHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AbstractPathInvolvedElementHelper.getInstance().getComputer(feature);
+		}
+		if (null == computer) {
+			computer = AbstractPhysicalArtifactHelper.getInstance().getComputer(feature);
+		}
+		if (null == computer) {
+			computer = ComponentExchangeAllocatorHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected List<EObject> getCategories(PhysicalLink element) {
     return EObjectExt.getReferencers(element, CsPackage.Literals.PHYSICAL_LINK_CATEGORY__LINKS);
   }
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.CsPackage;
 import org.polarsys.capella.core.data.cs.PhysicalPath;
 import org.polarsys.capella.core.data.cs.PhysicalPathInvolvement;
@@ -31,8 +34,18 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class PhysicalPathHelper {
   private static PhysicalPathHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private PhysicalPathHelper() {
-    // do nothing
+    computers.put(CsPackage.Literals.PHYSICAL_PATH__FIRST_PHYSICAL_PATH_INVOLVEMENTS,
+        element -> getFirstPhysicalPathInvolvements((PhysicalPath) element));
+    computers.put(CsPackage.Literals.PHYSICAL_PATH__REALIZED_PHYSICAL_PATHS,
+        element -> getRealizedPhysicalPaths((PhysicalPath) element));
+    computers.put(CsPackage.Literals.PHYSICAL_PATH__REALIZING_PHYSICAL_PATHS,
+        element -> getRealizingPhysicalPaths((PhysicalPath) element));
   }
 
   public static PhysicalPathHelper getInstance() {
@@ -45,12 +58,9 @@ public class PhysicalPathHelper {
   public Object doSwitch(PhysicalPath element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CsPackage.Literals.PHYSICAL_PATH__FIRST_PHYSICAL_PATH_INVOLVEMENTS)) {
-      ret = getFirstPhysicalPathInvolvements(element);
-    } else if (feature.equals(CsPackage.Literals.PHYSICAL_PATH__REALIZED_PHYSICAL_PATHS)) {
-      ret = getRealizedPhysicalPaths(element);
-    } else if (feature.equals(CsPackage.Literals.PHYSICAL_PATH__REALIZING_PHYSICAL_PATHS)) {
-      ret = getRealizingPhysicalPaths(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -70,6 +80,27 @@ public class PhysicalPathHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = NamedElementHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = ComponentExchangeAllocatorHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = AbstractPathInvolvedElementHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = InvolverElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<PhysicalPathInvolvement> getFirstPhysicalPathInvolvements(PhysicalPath element) {
     List<PhysicalPathInvolvement> ret = new ArrayList<>();
     for (PhysicalPathInvolvement inv : element.getOwnedPhysicalPathInvolvements()) {
@@ -14,12 +14,15 @@
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.AbstractPathInvolvedElement;
 import org.polarsys.capella.core.data.cs.Component;
 import org.polarsys.capella.core.data.cs.CsPackage;
@@ -33,8 +36,18 @@ import org.polarsys.capella.core.data.capellacore.Type;
 public class PhysicalPathInvolvementHelper {
   private static PhysicalPathInvolvementHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private PhysicalPathInvolvementHelper() {
-    // do nothing
+    computers.put(CsPackage.Literals.PHYSICAL_PATH_INVOLVEMENT__INVOLVED_ELEMENT,
+        element -> getInvolvedElement((PhysicalPathInvolvement) element));
+    computers.put(CsPackage.Literals.PHYSICAL_PATH_INVOLVEMENT__INVOLVED_COMPONENT,
+        element -> getInvolvedComponent((PhysicalPathInvolvement) element));
+    computers.put(CsPackage.Literals.PHYSICAL_PATH_INVOLVEMENT__PREVIOUS_INVOLVEMENTS,
+        element -> getPreviousInvolvements((PhysicalPathInvolvement) element));
   }
 
   public static PhysicalPathInvolvementHelper getInstance() {
@@ -46,12 +59,9 @@ public class PhysicalPathInvolvementHelper {
   public Object doSwitch(PhysicalPathInvolvement element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CsPackage.Literals.PHYSICAL_PATH_INVOLVEMENT__INVOLVED_ELEMENT)) {
-      ret = getInvolvedElement(element);
-    } else if (feature.equals(CsPackage.Literals.PHYSICAL_PATH_INVOLVEMENT__INVOLVED_COMPONENT)) {
-      ret = getInvolvedComponent(element);
-    } else if (feature.equals(CsPackage.Literals.PHYSICAL_PATH_INVOLVEMENT__PREVIOUS_INVOLVEMENTS)) {
-      ret = getPreviousInvolvements(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -62,6 +72,18 @@ public class PhysicalPathInvolvementHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = InvolvementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected AbstractPathInvolvedElement getInvolvedElement(PhysicalPathInvolvement element) {
     if (element != null) {
       InvolvedElement involvedElement = element.getInvolved();
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.CsPackage;
 import org.polarsys.capella.core.data.cs.PhysicalPath;
 import org.polarsys.capella.core.data.cs.PhysicalPathReference;
@@ -23,8 +27,14 @@ import org.polarsys.capella.core.data.capellacore.InvolvedElement;
 public class PhysicalPathReferenceHelper {
 	private static PhysicalPathReferenceHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private PhysicalPathReferenceHelper() {
-    // do nothing
+		computers.put(CsPackage.Literals.PHYSICAL_PATH_REFERENCE__REFERENCED_PHYSICAL_PATH,
+				element -> getReferencedPhysicalPath((PhysicalPathReference) element));
 	}
 
 	public static PhysicalPathReferenceHelper getInstance(){
@@ -36,8 +46,9 @@ public class PhysicalPathReferenceHelper {
 	public Object doSwitch(PhysicalPathReference element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(CsPackage.Literals.PHYSICAL_PATH_REFERENCE__REFERENCED_PHYSICAL_PATH)) {
-      ret = getReferencedPhysicalPath(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -48,6 +59,18 @@ public class PhysicalPathReferenceHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = PhysicalPathInvolvementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected PhysicalPath getReferencedPhysicalPath(PhysicalPathReference element) {
     InvolvedElement elt = element.getInvolved();
     if (elt instanceof PhysicalPath) {
@@ -14,12 +14,15 @@
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.helpers.modellingcore.delegates.InformationsExchangerHelper;
 import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 import org.polarsys.capella.common.data.modellingcore.TraceableElement;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.CsPackage;
 import org.polarsys.capella.core.data.cs.PhysicalPort;
 import org.polarsys.capella.core.data.cs.PhysicalPortRealization;
@@ -31,8 +34,18 @@ import org.polarsys.capella.core.data.information.Port;
 public class PhysicalPortHelper {
 	private static PhysicalPortHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private PhysicalPortHelper() {
-    // do nothing
+		computers.put(CsPackage.Literals.PHYSICAL_PORT__ALLOCATED_COMPONENT_PORTS,
+				element -> getAllocatedComponentPorts((PhysicalPort) element));
+		computers.put(CsPackage.Literals.PHYSICAL_PORT__REALIZED_PHYSICAL_PORTS,
+				element -> getRealizedPhysicalPorts((PhysicalPort) element));
+		computers.put(CsPackage.Literals.PHYSICAL_PORT__REALIZING_PHYSICAL_PORTS,
+				element -> getRealizingPhysicalPorts((PhysicalPort) element));
 	}
 
 	public static PhysicalPortHelper getInstance() {
@@ -44,13 +57,10 @@ public class PhysicalPortHelper {
 	public Object doSwitch(PhysicalPort element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(CsPackage.Literals.PHYSICAL_PORT__ALLOCATED_COMPONENT_PORTS)) {
-      ret = getAllocatedComponentPorts(element);
-    } else if (feature.equals(CsPackage.Literals.PHYSICAL_PORT__REALIZED_PHYSICAL_PORTS)) {
-      ret = getRealizedPhysicalPorts(element);
-    } else if (feature.equals(CsPackage.Literals.PHYSICAL_PORT__REALIZING_PHYSICAL_PORTS)) {
-      ret = getRealizingPhysicalPorts(element);
-    }
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
+		}
 
 		// no helper found... searching in super classes...
     if (null == ret) {
@@ -69,6 +79,27 @@ public class PhysicalPortHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AbstractPhysicalArtifactHelper.getInstance().getComputer(feature);
+		}
+		if (null == computer) {
+			computer = AbstractPhysicalLinkEndHelper.getInstance().getComputer(feature);
+		}
+		if (null == computer) {
+			computer = InformationsExchangerHelper.getInstance().getComputer(feature);
+		}
+		if (null == computer) {
+			computer = PortHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected List<ComponentPort> getAllocatedComponentPorts(PhysicalPort element) {
     List <ComponentPort> result = new ArrayList<>();
     for (AbstractTrace trace : element.getOutgoingTraces()) {
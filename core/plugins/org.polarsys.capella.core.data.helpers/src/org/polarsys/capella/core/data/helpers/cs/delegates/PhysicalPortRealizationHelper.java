@@ -15,6 +15,7 @@ package org.polarsys.capella.core.data.helpers.cs.delegates;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.PhysicalPortRealization;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.AllocationHelper;
 
@@ -36,4 +37,12 @@ public class PhysicalPortRealizationHelper {
     // no helper found... searching in super classes...
     return AllocationHelper.getInstance().doSwitch(element, feature);
   }
+
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    return AllocationHelper.getInstance().getComputer(feature);
+  }
 }
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.cs.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.Involvement;
 import org.polarsys.capella.core.data.capellacore.InvolverElement;
 import org.polarsys.capella.core.data.ctx.Capability;
@@ -35,8 +38,26 @@ import org.polarsys.capella.core.data.oa.Entity;
 public class SystemComponentHelper {
   private static SystemComponentHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private SystemComponentHelper() {
-    // do nothing
+    computers.put(CtxPackage.Literals.SYSTEM_COMPONENT__CAPABILITY_INVOLVEMENTS,
+        element -> getCapabilityInvolvements((SystemComponent) element));
+    computers.put(CtxPackage.Literals.SYSTEM_COMPONENT__INVOLVING_CAPABILITIES,
+        element -> getInvolvingCapabilities((SystemComponent) element));
+    computers.put(CtxPackage.Literals.SYSTEM_COMPONENT__MISSION_INVOLVEMENTS,
+        element -> getMissionInvolvements((SystemComponent) element));
+    computers.put(CtxPackage.Literals.SYSTEM_COMPONENT__INVOLVING_MISSIONS,
+        element -> getInvolvingMissions((SystemComponent) element));
+    computers.put(CtxPackage.Literals.SYSTEM_COMPONENT__REALIZED_ENTITIES,
+        element -> getRealizedEntities((SystemComponent) element));
+    computers.put(CtxPackage.Literals.SYSTEM_COMPONENT__REALIZING_LOGICAL_COMPONENTS,
+        element -> getRealizingLogicalComponents((SystemComponent) element));
+    computers.put(CtxPackage.Literals.SYSTEM_COMPONENT__ALLOCATED_SYSTEM_FUNCTIONS,
+        element -> getAllocatedSystemFunctions((SystemComponent) element));
   }
 
   public static SystemComponentHelper getInstance() {
@@ -48,20 +69,9 @@ public class SystemComponentHelper {
   public Object doSwitch(SystemComponent element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CtxPackage.Literals.SYSTEM_COMPONENT__CAPABILITY_INVOLVEMENTS)) {
-      ret = getCapabilityInvolvements(element);
-    } else if (feature.equals(CtxPackage.Literals.SYSTEM_COMPONENT__INVOLVING_CAPABILITIES)) {
-      ret = getInvolvingCapabilities(element);
-    } else if (feature.equals(CtxPackage.Literals.SYSTEM_COMPONENT__MISSION_INVOLVEMENTS)) {
-      ret = getMissionInvolvements(element);
-    } else if (feature.equals(CtxPackage.Literals.SYSTEM_COMPONENT__INVOLVING_MISSIONS)) {
-      ret = getInvolvingMissions(element);
-    } else if (feature.equals(CtxPackage.Literals.SYSTEM_COMPONENT__REALIZED_ENTITIES)) {
-      ret = getRealizedEntities(element);
-    } else if (feature.equals(CtxPackage.Literals.SYSTEM_COMPONENT__REALIZING_LOGICAL_COMPONENTS)) {
-      ret = getRealizingLogicalComponents(element);
-    } else if (feature.equals(CtxPackage.Literals.SYSTEM_COMPONENT__ALLOCATED_SYSTEM_FUNCTIONS)) {
-      ret = getAllocatedSystemFunctions(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -75,6 +85,21 @@ public class SystemComponentHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = ComponentHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = InvolvedElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<CapabilityInvolvement> getCapabilityInvolvements(SystemComponent element) {
     List<CapabilityInvolvement> ret = new ArrayList<>();
     for (Involvement involvement : element.getInvolvingInvolvements()) {
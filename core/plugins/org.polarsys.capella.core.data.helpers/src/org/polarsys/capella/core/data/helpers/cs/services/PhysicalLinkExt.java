@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.data.helpers.cs.services;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -31,6 +32,7 @@ import org.polarsys.capella.core.data.cs.Part;
 import org.polarsys.capella.core.data.cs.PhysicalLink;
 import org.polarsys.capella.core.data.cs.PhysicalLinkEnd;
 import org.polarsys.capella.core.data.cs.PhysicalPort;
+import org.polarsys.capella.core.data.helpers.cache.ModelCache;
 import org.polarsys.capella.core.data.information.Port;
 /**
  */
@@ -72,6 +74,8 @@ public class PhysicalLinkExt {
     result.addAll(element.getInvolvedLinks());
 
     for (PhysicalLinkEnd end : getRelatedPhysicalLinkEnds(element)) {
+      // Links of an end are found from the end
+      ModelCache.recordRead(end);
       result.addAll(end.getInvolvedLinks());
     }
 
@@ -82,7 +86,7 @@ public class PhysicalLinkExt {
     HashSet<PhysicalLink> result = new HashSet<>();
 
     for (PhysicalPort port : element.getContainedPhysicalPorts()) {
-      result.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, (PhysicalPort) port));
+      result.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, (PhysicalPort) port, RECORDED_READS));
     }
 
     return result;
@@ -119,10 +123,11 @@ public class PhysicalLinkExt {
 
     if (element.getAbstractType() instanceof Component) {
       Component component = ((Component) element.getAbstractType());
-      result.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, component));
+      result.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, component, RECORDED_READS));
     }
 
     for (PhysicalLinkEnd end : getRelatedPhysicalLinkEnds(element)) {
+      ModelCache.recordRead(end);
       result.addAll(end.getInvolvedLinks());
     }
 
@@ -14,9 +14,11 @@
 package org.polarsys.capella.core.data.helpers.ctx;
 
 import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.model.helpers.HelperNotFoundException;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.common.model.helpers.IHelper;
 import org.polarsys.capella.core.data.capellacore.Structure;
 import org.polarsys.capella.core.data.ctx.Capability;
@@ -90,4 +92,38 @@ public class CtxHelper implements IHelper {
 
 		throw new HelperNotFoundException();
 	}
+
+	@Override
+	public IDerivedFeatureComputer getComputer(EClass eClass, EStructuralFeature feature) {
+		// Same dispatch as getValue, on the instance class
+		Class<?> instanceClass = eClass.getInstanceClass();
+		IDerivedFeatureComputer computer = null;
+		if (SystemAnalysis.class.isAssignableFrom(instanceClass)) {
+			computer = SystemAnalysisHelper.getInstance().getComputer(feature);
+		} else if (Capability.class.isAssignableFrom(instanceClass)) {
+			computer = CapabilityHelper.getInstance().getComputer(feature);
+		} else if (Mission.class.isAssignableFrom(instanceClass)) {
+			computer = MissionHelper.getInstance().getComputer(feature);
+		} else if (SystemFunction.class.isAssignableFrom(instanceClass)) {
+			computer = SystemFunctionHelper.getInstance().getComputer(feature);
+		} else if (OperationalAnalysisRealization.class.isAssignableFrom(instanceClass)) {
+			computer = OperationalAnalysisRealizationHelper.getInstance().getComputer(feature);
+		} else if (Structure.class.isAssignableFrom(instanceClass)) {
+			computer = StructureHelper.getInstance().getComputer(feature);
+		} else if (CapabilityExploitation.class.isAssignableFrom(instanceClass)) {
+			computer = CapabilityExploitationHelper.getInstance().getComputer(feature);
+		} else if (SystemCommunication.class.isAssignableFrom(instanceClass)) {
+			computer = RelationshipHelper.getInstance().getComputer(feature);
+		} else if (SystemCommunicationHook.class.isAssignableFrom(instanceClass)) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		} else if (SystemComponent.class.isAssignableFrom(instanceClass)) {
+			computer = SystemComponentHelper.getInstance().getComputer(feature);
+		} else if (CapabilityInvolvement.class.isAssignableFrom(instanceClass)) {
+			computer = CapabilityInvolvementHelper.getInstance().getComputer(feature);
+		} else if (MissionInvolvement.class.isAssignableFrom(instanceClass)) {
+			computer = MissionInvolvementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 }
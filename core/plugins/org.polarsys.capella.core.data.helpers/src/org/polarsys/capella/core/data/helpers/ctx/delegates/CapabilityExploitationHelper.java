@@ -12,8 +12,12 @@
  *******************************************************************************/
 package org.polarsys.capella.core.data.helpers.ctx.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.ctx.CapabilityExploitation;
 import org.polarsys.capella.core.data.ctx.CtxPackage;
 import org.polarsys.capella.core.data.ctx.Mission;
@@ -22,8 +26,14 @@ import org.polarsys.capella.core.data.helpers.capellacore.delegates.Relationship
 public class CapabilityExploitationHelper {
 	private static CapabilityExploitationHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private CapabilityExploitationHelper() {
-    // do nothing
+		computers.put(CtxPackage.Literals.CAPABILITY_EXPLOITATION__MISSION,
+				element -> getMission((CapabilityExploitation) element));
 	}
 
 	public static CapabilityExploitationHelper getInstance() {
@@ -35,8 +45,9 @@ public class CapabilityExploitationHelper {
 	public Object doSwitch(CapabilityExploitation element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(CtxPackage.Literals.CAPABILITY_EXPLOITATION__MISSION)) {
-			ret = getMission(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 		// no helper found... searching in super classes...
 		if(null == ret) {
@@ -46,6 +57,18 @@ public class CapabilityExploitationHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = RelationshipHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   private Mission getMission(CapabilityExploitation element) {
     EObject parent = element.eContainer();
     if (parent instanceof Mission) {
@@ -14,11 +14,14 @@
 package org.polarsys.capella.core.data.helpers.ctx.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.ctx.Capability;
 import org.polarsys.capella.core.data.ctx.CapabilityExploitation;
 import org.polarsys.capella.core.data.ctx.CapabilityInvolvement;
@@ -34,8 +37,21 @@ import org.polarsys.capella.core.data.oa.OperationalCapability;
 public class CapabilityHelper {
 	private static CapabilityHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private CapabilityHelper() {
-    // do nothing
+		computers.put(CtxPackage.Literals.CAPABILITY__PURPOSE_MISSIONS,
+				element -> getPurposeMissions((Capability) element));
+		computers.put(CtxPackage.Literals.CAPABILITY__PURPOSES, element -> getPurposes((Capability) element));
+		computers.put(CtxPackage.Literals.CAPABILITY__INVOLVED_SYSTEM_COMPONENTS,
+				element -> getInvolvedSystemComponents((Capability) element));
+		computers.put(CtxPackage.Literals.CAPABILITY__REALIZED_OPERATIONAL_CAPABILITIES,
+				element -> getRealizedOperationalCapabilities((Capability) element));
+		computers.put(CtxPackage.Literals.CAPABILITY__REALIZING_CAPABILITY_REALIZATIONS,
+				element -> getRealizingCapabilityRealizations((Capability) element));
 	}
 
 	public static CapabilityHelper getInstance() {
@@ -47,16 +63,9 @@ public class CapabilityHelper {
 	public Object doSwitch(Capability element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(CtxPackage.Literals.CAPABILITY__PURPOSE_MISSIONS)) {
-			ret = getPurposeMissions(element);
-		} else if (feature.equals(CtxPackage.Literals.CAPABILITY__PURPOSES)) {
-      ret = getPurposes(element);
-    } else if (feature.equals(CtxPackage.Literals.CAPABILITY__INVOLVED_SYSTEM_COMPONENTS)) {
-			ret = getInvolvedSystemComponents(element);
-		} else if (feature.equals(CtxPackage.Literals.CAPABILITY__REALIZED_OPERATIONAL_CAPABILITIES)) {
-      ret = getRealizedOperationalCapabilities(element);
-    } else if (feature.equals(CtxPackage.Literals.CAPABILITY__REALIZING_CAPABILITY_REALIZATIONS)) {
-      ret = getRealizingCapabilityRealizations(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -67,6 +76,18 @@ public class CapabilityHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AbstractCapabilityHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected List<CapabilityExploitation> getPurposes(Capability element) {
 	  return EObjectExt.getReferencers(element, CtxPackage.Literals.CAPABILITY_EXPLOITATION__CAPABILITY);
 	}
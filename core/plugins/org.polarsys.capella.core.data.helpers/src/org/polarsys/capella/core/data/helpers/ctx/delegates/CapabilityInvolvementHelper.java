@@ -13,7 +13,11 @@
 
 package org.polarsys.capella.core.data.helpers.ctx.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.InvolvedElement;
 import org.polarsys.capella.core.data.capellacore.InvolverElement;
 import org.polarsys.capella.core.data.ctx.Capability;
@@ -25,8 +29,16 @@ import org.polarsys.capella.core.data.helpers.capellacore.delegates.InvolvementH
 public class CapabilityInvolvementHelper {
   private static CapabilityInvolvementHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private CapabilityInvolvementHelper() {
-    // do nothing
+    computers.put(CtxPackage.Literals.CAPABILITY_INVOLVEMENT__SYSTEM_COMPONENT,
+        element -> getSystemComponent((CapabilityInvolvement) element));
+    computers.put(CtxPackage.Literals.CAPABILITY_INVOLVEMENT__CAPABILITY,
+        element -> getCapability((CapabilityInvolvement) element));
   }
 
   public static CapabilityInvolvementHelper getInstance() {
@@ -38,10 +50,9 @@ public class CapabilityInvolvementHelper {
   public Object doSwitch(CapabilityInvolvement element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CtxPackage.Literals.CAPABILITY_INVOLVEMENT__SYSTEM_COMPONENT)) {
-      ret = getSystemComponent(element);
-    } else if (feature.equals(CtxPackage.Literals.CAPABILITY_INVOLVEMENT__CAPABILITY)) {
-      ret = getCapability(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -52,6 +63,18 @@ public class CapabilityInvolvementHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = InvolvementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected SystemComponent getSystemComponent(CapabilityInvolvement element) {
     InvolvedElement elt = element.getInvolved();
     if (elt instanceof SystemComponent)
@@ -14,9 +14,12 @@
 package org.polarsys.capella.core.data.helpers.ctx.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.ctx.Capability;
 import org.polarsys.capella.core.data.ctx.CapabilityExploitation;
 import org.polarsys.capella.core.data.ctx.CtxPackage;
@@ -29,8 +32,16 @@ import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedElement
 public class MissionHelper {
 	private static MissionHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private MissionHelper() {
-    // do nothing
+		computers.put(CtxPackage.Literals.MISSION__INVOLVED_SYSTEM_COMPONENTS,
+				element -> getInvolvedSystemComponents((Mission) element));
+		computers.put(CtxPackage.Literals.MISSION__EXPLOITED_CAPABILITIES,
+				element -> getExploitedCapabilities((Mission) element));
 	}
 
 	public static MissionHelper getInstance() {
@@ -42,11 +53,9 @@ public class MissionHelper {
 	public Object doSwitch(Mission element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(CtxPackage.Literals.MISSION__INVOLVED_SYSTEM_COMPONENTS)) {
-			ret = getInvolvedSystemComponents(element);
-		}
-		else if (feature.equals(CtxPackage.Literals.MISSION__EXPLOITED_CAPABILITIES)) {
-			ret = getExploitedCapabilities(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -60,6 +69,21 @@ public class MissionHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		}
+		if (null == computer) {
+			computer = InvolverElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected List<SystemComponent> getInvolvedSystemComponents(Mission element) {
     List<SystemComponent> ret = new ArrayList<>();
     for (MissionInvolvement involvement : element.getOwnedMissionInvolvements()) {
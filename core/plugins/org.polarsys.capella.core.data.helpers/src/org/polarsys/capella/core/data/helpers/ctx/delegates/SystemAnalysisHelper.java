@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.ctx.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.ArchitectureAllocation;
 import org.polarsys.capella.core.data.cs.BlockArchitecture;
 import org.polarsys.capella.core.data.ctx.CapabilityPkg;
@@ -34,8 +37,22 @@ import org.polarsys.capella.core.data.oa.OperationalAnalysis;
 public class SystemAnalysisHelper {
   private static SystemAnalysisHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private SystemAnalysisHelper() {
-    // do nothing
+    computers.put(CtxPackage.Literals.SYSTEM_ANALYSIS__ALLOCATED_OPERATIONAL_ANALYSIS_REALIZATIONS,
+        element -> getAllocatedOperationalAnalysisRealizations((SystemAnalysis) element));
+    computers.put(CtxPackage.Literals.SYSTEM_ANALYSIS__CONTAINED_CAPABILITY_PKG,
+        element -> getContainedCapabilityPkg((SystemAnalysis) element));
+    computers.put(CtxPackage.Literals.SYSTEM_ANALYSIS__CONTAINED_SYSTEM_FUNCTION_PKG,
+        element -> getContainedSystemFunctionPkg((SystemAnalysis) element));
+    computers.put(CtxPackage.Literals.SYSTEM_ANALYSIS__ALLOCATED_OPERATIONAL_ANALYSES,
+        element -> getAllocatedOperationalAnalyses((SystemAnalysis) element));
+    computers.put(CtxPackage.Literals.SYSTEM_ANALYSIS__ALLOCATING_LOGICAL_ARCHITECTURES,
+        element -> getAllocatingLogicalArchitectures((SystemAnalysis) element));
   }
 
   public static SystemAnalysisHelper getInstance() {
@@ -47,16 +64,9 @@ public class SystemAnalysisHelper {
   public Object doSwitch(SystemAnalysis element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CtxPackage.Literals.SYSTEM_ANALYSIS__ALLOCATED_OPERATIONAL_ANALYSIS_REALIZATIONS)) {
-      ret = getAllocatedOperationalAnalysisRealizations(element);
-    } else if (feature.equals(CtxPackage.Literals.SYSTEM_ANALYSIS__CONTAINED_CAPABILITY_PKG)) {
-      ret = getContainedCapabilityPkg(element);
-    } else if (feature.equals(CtxPackage.Literals.SYSTEM_ANALYSIS__CONTAINED_SYSTEM_FUNCTION_PKG)) {
-      ret = getContainedSystemFunctionPkg(element);
-    } else if (feature.equals(CtxPackage.Literals.SYSTEM_ANALYSIS__ALLOCATED_OPERATIONAL_ANALYSES)) {
-      ret = getAllocatedOperationalAnalyses(element);
-    } else if (feature.equals(CtxPackage.Literals.SYSTEM_ANALYSIS__ALLOCATING_LOGICAL_ARCHITECTURES)) {
-      ret = getAllocatingLogicalArchitectures(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -67,6 +77,18 @@ public class SystemAnalysisHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = BlockArchitectureHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<OperationalAnalysisRealization> getAllocatedOperationalAnalysisRealizations(SystemAnalysis element) {
     List<OperationalAnalysisRealization> ret = new ArrayList<>();
     for (ArchitectureAllocation architectureAllocation : element.getProvisionedArchitectureAllocations()) {
@@ -14,11 +14,14 @@
 package org.polarsys.capella.core.data.helpers.ctx.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 import org.polarsys.capella.common.data.modellingcore.TraceableElement;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.ctx.CtxPackage;
 import org.polarsys.capella.core.data.ctx.SystemComponent;
 import org.polarsys.capella.core.data.ctx.SystemFunction;
@@ -32,8 +35,22 @@ import org.polarsys.capella.core.data.oa.OperationalActivity;
 public class SystemFunctionHelper {
   private static SystemFunctionHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private SystemFunctionHelper() {
-    // do nothing
+    computers.put(CtxPackage.Literals.SYSTEM_FUNCTION__ALLOCATING_SYSTEM_COMPONENTS,
+        element -> getAllocatingSystemComponents((SystemFunction) element));
+    computers.put(CtxPackage.Literals.SYSTEM_FUNCTION__REALIZED_OPERATIONAL_ACTIVITIES,
+        element -> getRealizedOperationalActivities((SystemFunction) element));
+    computers.put(CtxPackage.Literals.SYSTEM_FUNCTION__REALIZING_LOGICAL_FUNCTIONS,
+        element -> getRealizingLogicalFunctions((SystemFunction) element));
+    computers.put(CtxPackage.Literals.SYSTEM_FUNCTION__CONTAINED_SYSTEM_FUNCTIONS,
+        element -> getContainedSystemFunctions((SystemFunction) element));
+    computers.put(CtxPackage.Literals.SYSTEM_FUNCTION__CHILDREN_SYSTEM_FUNCTIONS,
+        element -> getChildrenSystemFunctions((SystemFunction) element));
   }
 
   public static SystemFunctionHelper getInstance() {
@@ -46,16 +63,9 @@ public class SystemFunctionHelper {
   public Object doSwitch(SystemFunction element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(CtxPackage.Literals.SYSTEM_FUNCTION__ALLOCATING_SYSTEM_COMPONENTS)) {
-      ret = getAllocatingSystemComponents(element);
-    } else if (feature.equals(CtxPackage.Literals.SYSTEM_FUNCTION__REALIZED_OPERATIONAL_ACTIVITIES)) {
-      ret = getRealizedOperationalActivities(element);
-    } else if (feature.equals(CtxPackage.Literals.SYSTEM_FUNCTION__REALIZING_LOGICAL_FUNCTIONS)) {
-      ret = getRealizingLogicalFunctions(element);
-    } else if (feature.equals(CtxPackage.Literals.SYSTEM_FUNCTION__CONTAINED_SYSTEM_FUNCTIONS)) {
-      ret = getContainedSystemFunctions(element);
-    } else if (feature.equals(CtxPackage.Literals.SYSTEM_FUNCTION__CHILDREN_SYSTEM_FUNCTIONS)) {
-      ret = getChildrenSystemFunctions(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -66,6 +76,18 @@ public class SystemFunctionHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AbstractFunctionHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<SystemComponent> getAllocatingSystemComponents(SystemFunction element) {
     List<SystemComponent> ret = new ArrayList<>();
     for (AbstractTrace trace : element.getIncomingTraces()) {
@@ -14,9 +14,11 @@
 package org.polarsys.capella.core.data.helpers.epbs;
 
 import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.model.helpers.HelperNotFoundException;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.common.model.helpers.IHelper;
 import org.polarsys.capella.core.data.capellacore.Structure;
 import org.polarsys.capella.core.data.epbs.ConfigurationItem;
@@ -55,4 +57,24 @@ public class EpbsHelper implements IHelper {
 
 		throw new HelperNotFoundException();
 	}
+
+	@Override
+	public IDerivedFeatureComputer getComputer(EClass eClass, EStructuralFeature feature) {
+		// Same dispatch as getValue, on the instance class
+		Class<?> instanceClass = eClass.getInstanceClass();
+		IDerivedFeatureComputer computer = null;
+		if (EPBSArchitecture.class.isAssignableFrom(instanceClass)) {
+			computer = EPBSArchitectureHelper.getInstance().getComputer(feature);
+		} else if (ConfigurationItem.class.isAssignableFrom(instanceClass)) {
+			computer = ConfigurationItemHelper.getInstance().getComputer(feature);
+		} else if (PhysicalArtifactRealization.class.isAssignableFrom(instanceClass)) {
+			computer = PhysicalArtifactRealizationHelper.getInstance().getComputer(feature);
+		} else if (PhysicalArchitectureRealization.class.isAssignableFrom(instanceClass)) {
+			computer = PhysicalArchitectureRealizationHelper.getInstance().getComputer(feature);
+		} else if (Structure.class.isAssignableFrom(instanceClass)) {
+			computer = StructureHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 }
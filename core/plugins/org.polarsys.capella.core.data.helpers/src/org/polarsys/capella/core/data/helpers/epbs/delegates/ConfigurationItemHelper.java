@@ -14,11 +14,14 @@
 package org.polarsys.capella.core.data.helpers.epbs.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 import org.polarsys.capella.common.data.modellingcore.TraceableElement;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.AbstractPhysicalArtifact;
 import org.polarsys.capella.core.data.epbs.ConfigurationItem;
 import org.polarsys.capella.core.data.epbs.EpbsPackage;
@@ -29,8 +32,14 @@ import org.polarsys.capella.core.data.helpers.cs.delegates.ComponentHelper;
 public class ConfigurationItemHelper {
   private static ConfigurationItemHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private ConfigurationItemHelper() {
-    // do nothing
+    computers.put(EpbsPackage.Literals.CONFIGURATION_ITEM__ALLOCATED_PHYSICAL_ARTIFACTS,
+        element -> getAllocatedPhysicalArtifacts((ConfigurationItem) element));
   }
 
   public static ConfigurationItemHelper getInstance() {
@@ -42,8 +51,9 @@ public class ConfigurationItemHelper {
   public Object doSwitch(ConfigurationItem element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(EpbsPackage.Literals.CONFIGURATION_ITEM__ALLOCATED_PHYSICAL_ARTIFACTS)) {
-      ret = getAllocatedPhysicalArtifacts(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -57,6 +67,21 @@ public class ConfigurationItemHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = ComponentHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = CapabilityRealizationInvolvedElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<AbstractPhysicalArtifact> getAllocatedPhysicalArtifacts(ConfigurationItem element) {
     List<AbstractPhysicalArtifact> ret = new ArrayList<>();
 
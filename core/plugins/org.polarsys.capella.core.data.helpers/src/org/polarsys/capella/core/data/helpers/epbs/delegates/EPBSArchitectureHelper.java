@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.epbs.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.ArchitectureAllocation;
 import org.polarsys.capella.core.data.cs.BlockArchitecture;
 import org.polarsys.capella.core.data.epbs.EPBSArchitecture;
@@ -31,8 +34,18 @@ import org.polarsys.capella.core.data.pa.PhysicalArchitecture;
 public class EPBSArchitectureHelper {
   private static EPBSArchitectureHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private EPBSArchitectureHelper() {
-    // do nothing
+    computers.put(EpbsPackage.Literals.EPBS_ARCHITECTURE__ALLOCATED_PHYSICAL_ARCHITECTURE_REALIZATIONS,
+        element -> getAllocatedPhysicalArchitectureRealizations((EPBSArchitecture) element));
+    computers.put(EpbsPackage.Literals.EPBS_ARCHITECTURE__CONTAINED_CAPABILITY_REALIZATION_PKG,
+        element -> getContainedCapabilityRealizationPkg((EPBSArchitecture) element));
+    computers.put(EpbsPackage.Literals.EPBS_ARCHITECTURE__ALLOCATED_PHYSICAL_ARCHITECTURES,
+        element -> getAllocatedPhysicalArchitectures((EPBSArchitecture) element));
   }
 
   public static EPBSArchitectureHelper getInstance() {
@@ -44,12 +57,9 @@ public class EPBSArchitectureHelper {
   public Object doSwitch(EPBSArchitecture element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(EpbsPackage.Literals.EPBS_ARCHITECTURE__ALLOCATED_PHYSICAL_ARCHITECTURE_REALIZATIONS)) {
-      ret = getAllocatedPhysicalArchitectureRealizations(element);
-    } else if (feature.equals(EpbsPackage.Literals.EPBS_ARCHITECTURE__CONTAINED_CAPABILITY_REALIZATION_PKG)) {
-      ret = getContainedCapabilityRealizationPkg(element);
-    } else if (feature.equals(EpbsPackage.Literals.EPBS_ARCHITECTURE__ALLOCATED_PHYSICAL_ARCHITECTURES)) {
-      ret = getAllocatedPhysicalArchitectures(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -60,6 +70,18 @@ public class EPBSArchitectureHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = BlockArchitectureHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<PhysicalArchitectureRealization> getAllocatedPhysicalArchitectureRealizations(EPBSArchitecture element) {
     List<PhysicalArchitectureRealization> ret = new ArrayList<>();
 
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.epbs.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.TraceableElement;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.AbstractPhysicalArtifact;
 import org.polarsys.capella.core.data.epbs.ConfigurationItem;
 import org.polarsys.capella.core.data.epbs.EpbsPackage;
@@ -24,8 +28,16 @@ import org.polarsys.capella.core.data.helpers.capellacore.delegates.AllocationHe
 public class PhysicalArtifactRealizationHelper {
   private static PhysicalArtifactRealizationHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private PhysicalArtifactRealizationHelper() {
-    // do nothing
+    computers.put(EpbsPackage.Literals.PHYSICAL_ARTIFACT_REALIZATION__REALIZED_PHYSICAL_ARTIFACT,
+        element -> getRealizedPhysicalArtifact((PhysicalArtifactRealization) element));
+    computers.put(EpbsPackage.Literals.PHYSICAL_ARTIFACT_REALIZATION__REALIZING_CONFIGURATION_ITEM,
+        element -> getRealizingConfigurationItem((PhysicalArtifactRealization) element));
   }
 
   public static PhysicalArtifactRealizationHelper getInstance() {
@@ -38,10 +50,9 @@ public class PhysicalArtifactRealizationHelper {
   public Object doSwitch(PhysicalArtifactRealization element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(EpbsPackage.Literals.PHYSICAL_ARTIFACT_REALIZATION__REALIZED_PHYSICAL_ARTIFACT)) {
-      ret = getRealizedPhysicalArtifact(element);
-    } else if (feature.equals(EpbsPackage.Literals.PHYSICAL_ARTIFACT_REALIZATION__REALIZING_CONFIGURATION_ITEM)) {
-      ret = getRealizingConfigurationItem(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -51,6 +62,18 @@ public class PhysicalArtifactRealizationHelper {
 
     return ret;
   }
+
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AllocationHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
   
   protected AbstractPhysicalArtifact getRealizedPhysicalArtifact(PhysicalArtifactRealization element) {
     TraceableElement ret = element.getTargetElement();
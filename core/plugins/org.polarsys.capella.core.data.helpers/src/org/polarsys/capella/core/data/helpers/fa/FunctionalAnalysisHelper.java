@@ -14,9 +14,11 @@
 package org.polarsys.capella.core.data.helpers.fa;
 
 import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.model.helpers.HelperNotFoundException;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.common.model.helpers.IHelper;
 import org.polarsys.capella.core.data.fa.AbstractFunction;
 import org.polarsys.capella.core.data.fa.AbstractFunctionalBlock;
@@ -176,4 +178,71 @@ public class FunctionalAnalysisHelper implements IHelper {
 
 	}
 
+	@Override
+	public IDerivedFeatureComputer getComputer(EClass eClass, EStructuralFeature feature) {
+		// Same dispatch as getValue, on the instance class
+		Class<?> instanceClass = eClass.getInstanceClass();
+		IDerivedFeatureComputer computer = null;
+		if (AbstractFunctionalBlock.class.isAssignableFrom(instanceClass)) {
+			computer = AbstractFunctionalBlockHelper.getInstance().getComputer(feature);
+		} else if (FunctionSpecification.class.isAssignableFrom(instanceClass)) {
+			computer = FunctionSpecificationHelper.getInstance().getComputer(feature);
+		} else if (ComponentPort.class.isAssignableFrom(instanceClass)) {
+			computer = ComponentPortHelper.getInstance().getComputer(feature);
+		} else if (ComponentExchange.class.isAssignableFrom(instanceClass)) {
+			computer = ComponentExchangeHelper.getInstance().getComputer(feature);
+		} else if (FunctionalChain.class.isAssignableFrom(instanceClass)) {
+			computer = FunctionalChainHelper.getInstance().getComputer(feature);
+		} else if (FunctionalChainReference.class.isAssignableFrom(instanceClass)) {
+			computer = FunctionalChainReferenceHelper.getInstance().getComputer(feature);
+		} else if (FunctionalChainInvolvementFunction.class.isAssignableFrom(instanceClass)) {
+			computer = FunctionalChainInvolvementFunctionHelper.getInstance().getComputer(feature);
+		} else if (FunctionalChainInvolvement.class.isAssignableFrom(instanceClass)) {
+			computer = FunctionalChainInvolvementHelper.getInstance().getComputer(feature);
+		} else if (ExchangeLink.class.isAssignableFrom(instanceClass)) {
+			computer = ExchangeLinkHelper.getInstance().getComputer(feature);
+		} else if (ExchangeContainment.class.isAssignableFrom(instanceClass)) {
+			computer = RelationshipHelper.getInstance().getComputer(feature);
+		} else if (FunctionalExchangeSpecification.class.isAssignableFrom(instanceClass)) {
+			computer = FunctionalExchangeSpecificationHelper.getInstance().getComputer(feature);
+		} else if (FunctionalExchange.class.isAssignableFrom(instanceClass)) {
+			computer = FunctionalExchangeHelper.getInstance().getComputer(feature);
+		} else if (AbstractFunction.class.isAssignableFrom(instanceClass)) {
+			computer = AbstractFunctionHelper.getInstance().getComputer(feature);
+		} else if (ComponentFunctionalAllocation.class.isAssignableFrom(instanceClass)) {
+			computer = ComponentFunctionalAllocationHelper.getInstance().getComputer(feature);
+		} else if (FunctionRealization.class.isAssignableFrom(instanceClass)) {
+			computer = FunctionRealizationHelper.getInstance().getComputer(feature);
+		} else if (FunctionalExchangeRealization.class.isAssignableFrom(instanceClass)) {
+			computer = FunctionalExchangeRealizationHelper.getInstance().getComputer(feature);
+		} else if (ComponentExchangeRealization.class.isAssignableFrom(instanceClass)) {
+			computer = ComponentExchangeRealizationHelper.getInstance().getComputer(feature);
+		} else if (FunctionalChainRealization.class.isAssignableFrom(instanceClass)) {
+			computer = AllocationHelper.getInstance().getComputer(feature);
+		} else if (ComponentExchangeFunctionalExchangeAllocation.class.isAssignableFrom(instanceClass)) {
+			computer = ComponentExchangeFunctionalExchangeAllocationHelper.getInstance().getComputer(feature);
+		} else if (FunctionInputPort.class.isAssignableFrom(instanceClass)) {
+			computer = FunctionInputPortHelper.getInstance().getComputer(feature);
+		} else if (FunctionOutputPort.class.isAssignableFrom(instanceClass)) {
+			computer = FunctionOutputPortHelper.getInstance().getComputer(feature);
+		} else if (ExchangeCategory.class.isAssignableFrom(instanceClass)) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		} else if (ComponentExchangeEnd.class.isAssignableFrom(instanceClass)) {
+			computer = ComponentExchangeEndHelper.getInstance().getComputer(feature);
+		} else if (ComponentExchangeCategory.class.isAssignableFrom(instanceClass)) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		} else if (ComponentPortAllocation.class.isAssignableFrom(instanceClass)) {
+			computer = ComponentPortAllocationHelper.getInstance().getComputer(feature);
+		} else if (ComponentPortAllocationEnd.class.isAssignableFrom(instanceClass)) {
+			computer = ComponentPortAllocationEndHelper.getInstance().getComputer(feature);
+		} else if (ComponentExchangeAllocation.class.isAssignableFrom(instanceClass)) {
+			computer = ComponentExchangeAllocationHelper.getInstance().getComputer(feature);
+		} else if (SequenceLink.class.isAssignableFrom(instanceClass)) {
+			computer = CapellaElementHelper.getInstance().getComputer(feature);
+		} else if (SequenceLinkEnd.class.isAssignableFrom(instanceClass)) {
+			computer = CapellaElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 }
@@ -15,10 +15,13 @@ package org.polarsys.capella.core.data.helpers.fa.delegates;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.ctx.Capability;
 import org.polarsys.capella.core.data.fa.AbstractFunction;
 import org.polarsys.capella.core.data.fa.AbstractFunctionalBlock;
@@ -48,12 +51,41 @@ import org.polarsys.capella.common.data.helpers.modellingcore.delegates.Abstract
 import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 public class AbstractFunctionHelper {
   private static AbstractFunctionHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private AbstractFunctionHelper() {
-    // do nothing
+    computers.put(FaPackage.Literals.ABSTRACT_FUNCTION__ALLOCATION_BLOCKS,
+        element -> getAllocationBlocks((AbstractFunction) element));
+    computers.put(FaPackage.Literals.ABSTRACT_FUNCTION__COMPONENT_FUNCTIONAL_ALLOCATIONS,
+        element -> getComponentFunctionalAllocations((AbstractFunction) element));
+    computers.put(FaPackage.Literals.ABSTRACT_FUNCTION__OUT_FUNCTION_REALIZATIONS,
+        element -> getOutFunctionRealizations((AbstractFunction) element));
+    computers.put(FaPackage.Literals.ABSTRACT_FUNCTION__IN_FUNCTION_REALIZATIONS,
+        element -> getInFunctionRealizations((AbstractFunction) element));
+    computers.put(FaPackage.Literals.ABSTRACT_FUNCTION__INVOLVING_CAPABILITIES,
+        element -> getInvolvingCapabilities((AbstractFunction) element));
+    computers.put(FaPackage.Literals.ABSTRACT_FUNCTION__INVOLVING_CAPABILITY_REALIZATIONS,
+        element -> getInvolvingCapabilityRealizations((AbstractFunction) element));
+    computers.put(FaPackage.Literals.ABSTRACT_FUNCTION__INVOLVING_FUNCTIONAL_CHAINS,
+        element -> getInvolvingFunctionalChains((AbstractFunction) element));
+    computers.put(FaPackage.Literals.ABSTRACT_FUNCTION__LINKED_FUNCTION_SPECIFICATION,
+        element -> getLinkedFunctionSpecification((AbstractFunction) element));
+    computers.put(FaPackage.Literals.ABSTRACT_FUNCTION__LINKED_STATE_MACHINE,
+        element -> getLinkedStateMachine((AbstractFunction) element));
+    computers.put(FaPackage.Literals.ABSTRACT_FUNCTION__SUB_FUNCTIONS,
+        element -> getSubFunctions((AbstractFunction) element));
+    computers.put(ActivityPackage.Literals.ACTIVITY_NODE__INCOMING,
+        element -> getIncoming((AbstractFunction) element, ActivityPackage.Literals.ACTIVITY_NODE__INCOMING));
+    computers.put(ActivityPackage.Literals.ACTIVITY_NODE__OUTGOING,
+        element -> getOutgoing((AbstractFunction) element, ActivityPackage.Literals.ACTIVITY_NODE__OUTGOING));
   }
 
   public static AbstractFunctionHelper getInstance() {
@@ -66,30 +98,9 @@ public class AbstractFunctionHelper {
 
     Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.ABSTRACT_FUNCTION__ALLOCATION_BLOCKS)) {
-      ret = getAllocationBlocks(element);
-    } else if (feature.equals(FaPackage.Literals.ABSTRACT_FUNCTION__COMPONENT_FUNCTIONAL_ALLOCATIONS)) {
-      ret = getComponentFunctionalAllocations(element);
-    } else if (feature.equals(FaPackage.Literals.ABSTRACT_FUNCTION__OUT_FUNCTION_REALIZATIONS)) {
-      ret = getOutFunctionRealizations(element);
-    } else if (feature.equals(FaPackage.Literals.ABSTRACT_FUNCTION__IN_FUNCTION_REALIZATIONS)) {
-      ret = getInFunctionRealizations(element);
-    } else if (feature.equals(FaPackage.Literals.ABSTRACT_FUNCTION__INVOLVING_CAPABILITIES)) {
-      ret = getInvolvingCapabilities(element);
-    } else if (feature.equals(FaPackage.Literals.ABSTRACT_FUNCTION__INVOLVING_CAPABILITY_REALIZATIONS)) {
-      ret = getInvolvingCapabilityRealizations(element);
-    } else if (feature.equals(FaPackage.Literals.ABSTRACT_FUNCTION__INVOLVING_FUNCTIONAL_CHAINS)) {
-      ret = getInvolvingFunctionalChains(element);
-    } else if (feature.equals(FaPackage.Literals.ABSTRACT_FUNCTION__LINKED_FUNCTION_SPECIFICATION)) {
-      ret = getLinkedFunctionSpecification(element);
-    } else if (feature.equals(FaPackage.Literals.ABSTRACT_FUNCTION__LINKED_STATE_MACHINE)) {
-      ret = getLinkedStateMachine(element);
-    } else if (feature.equals(FaPackage.Literals.ABSTRACT_FUNCTION__SUB_FUNCTIONS)) {
-      ret = getSubFunctions(element);
-    } else if (feature.equals(ActivityPackage.Literals.ACTIVITY_NODE__INCOMING)) {
-      ret = getIncoming(element, feature);
-    } else if (feature.equals(ActivityPackage.Literals.ACTIVITY_NODE__OUTGOING)) {
-      ret = getOutgoing(element, feature);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -112,6 +123,30 @@ public class AbstractFunctionHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = InvolvedElementHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = AbstractInstanceHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = ActivityNodeHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = AbstractTypeHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = NamespaceHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<FunctionRealization> getInFunctionRealizations(AbstractFunction element) {
     List<FunctionRealization> ret = new ArrayList<>();
     for (AbstractTrace trace : element.getIncomingTraces()) {
@@ -179,7 +214,8 @@ public class AbstractFunctionHelper {
   }
 
   protected List<AbstractFunction> getSubFunctions(AbstractFunction element) {
-    return (List<AbstractFunction>) getCache(FunctionExt::getFirstLevelAbstractFunctions, element);
+    // Reads of the function packages are recorded by FunctionPkgExt
+    return (List<AbstractFunction>) getCache(FunctionExt::getFirstLevelAbstractFunctions, element, RECORDED_READS);
   }
 
   protected List<FunctionalChain> getInvolvingFunctionalChains(AbstractFunction element) {
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.AbstractFunction;
 import org.polarsys.capella.core.data.fa.AbstractFunctionalBlock;
 import org.polarsys.capella.core.data.fa.ComponentFunctionalAllocation;
@@ -28,8 +31,16 @@ import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 public class AbstractFunctionalBlockHelper {
   private static AbstractFunctionalBlockHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private AbstractFunctionalBlockHelper() {
-    // Private constructor.
+    computers.put(FaPackage.Literals.ABSTRACT_FUNCTIONAL_BLOCK__ALLOCATED_FUNCTIONS,
+        element -> getAllocatedFunctions((AbstractFunctionalBlock) element));
+    computers.put(FaPackage.Literals.ABSTRACT_FUNCTIONAL_BLOCK__FUNCTIONAL_ALLOCATIONS,
+        element -> getFunctionalAllocations((AbstractFunctionalBlock) element));
   }
 
   public static AbstractFunctionalBlockHelper getInstance() {
@@ -42,10 +53,9 @@ public class AbstractFunctionalBlockHelper {
 
     Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.ABSTRACT_FUNCTIONAL_BLOCK__ALLOCATED_FUNCTIONS)) {
-      ret = getAllocatedFunctions(element);
-    } else if (feature.equals(FaPackage.Literals.ABSTRACT_FUNCTIONAL_BLOCK__FUNCTIONAL_ALLOCATIONS)) {
-      ret = getFunctionalAllocations(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -56,6 +66,18 @@ public class AbstractFunctionalBlockHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = TypeHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<ComponentFunctionalAllocation> getFunctionalAllocations(AbstractFunctionalBlock element) {
     List<AbstractTrace> traces = element.getOutgoingTraces();
     List<ComponentFunctionalAllocation> ret = new ArrayList<>();
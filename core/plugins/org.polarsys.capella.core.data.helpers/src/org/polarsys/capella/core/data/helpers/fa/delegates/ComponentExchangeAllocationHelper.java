@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.ComponentExchange;
 import org.polarsys.capella.core.data.fa.ComponentExchangeAllocation;
 import org.polarsys.capella.core.data.fa.ComponentExchangeAllocator;
@@ -25,8 +29,16 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class ComponentExchangeAllocationHelper {
 	private static ComponentExchangeAllocationHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private ComponentExchangeAllocationHelper() {
-	  // do nothing
+		computers.put(FaPackage.Literals.COMPONENT_EXCHANGE_ALLOCATION__COMPONENT_EXCHANGE_ALLOCATED,
+				element -> getComponentExchangeAllocated((ComponentExchangeAllocation) element));
+		computers.put(FaPackage.Literals.COMPONENT_EXCHANGE_ALLOCATION__COMPONENT_EXCHANGE_ALLOCATOR,
+				element -> getComponentExchangeAllocator((ComponentExchangeAllocation) element));
 	}
 
 	public static ComponentExchangeAllocationHelper getInstance() {
@@ -38,11 +50,9 @@ public class ComponentExchangeAllocationHelper {
 	public Object doSwitch(ComponentExchangeAllocation element, EStructuralFeature feature) {
 		Object ret = null;
 		
-		if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE_ALLOCATION__COMPONENT_EXCHANGE_ALLOCATED)) {
-			ret = getComponentExchangeAllocated(element);
-		}
-		else if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE_ALLOCATION__COMPONENT_EXCHANGE_ALLOCATOR)) {
-			ret = getComponentExchangeAllocator(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -53,6 +63,18 @@ public class ComponentExchangeAllocationHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AllocationHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected ComponentExchange getComponentExchangeAllocated(ComponentExchangeAllocation element) {
 		TraceableElement ret = element.getTargetElement();
 		if(ret instanceof ComponentExchange)
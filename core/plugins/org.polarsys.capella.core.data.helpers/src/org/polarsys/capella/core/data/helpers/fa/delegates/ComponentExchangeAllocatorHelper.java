@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.ComponentExchange;
 import org.polarsys.capella.core.data.fa.ComponentExchangeAllocation;
 import org.polarsys.capella.core.data.fa.ComponentExchangeAllocator;
@@ -28,8 +31,14 @@ import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 public class ComponentExchangeAllocatorHelper {
 	private static ComponentExchangeAllocatorHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private ComponentExchangeAllocatorHelper() {
-    // do nothing
+		computers.put(FaPackage.Literals.COMPONENT_EXCHANGE_ALLOCATOR__ALLOCATED_COMPONENT_EXCHANGES,
+				element -> getAllocatedComponentExchanges((ComponentExchangeAllocator) element));
 	}
 
 	public static ComponentExchangeAllocatorHelper getInstance() {
@@ -41,8 +50,9 @@ public class ComponentExchangeAllocatorHelper {
 	public Object doSwitch(ComponentExchangeAllocator element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE_ALLOCATOR__ALLOCATED_COMPONENT_EXCHANGES)) {
-			ret = getAllocatedComponentExchanges(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -53,6 +63,18 @@ public class ComponentExchangeAllocatorHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected List<ComponentExchange> getAllocatedComponentExchanges(ComponentExchangeAllocator element) {
 		List<ComponentExchange> ret = new ArrayList<>();
 		for (AbstractTrace trace : element.getOutgoingTraces()) {
@@ -15,6 +15,7 @@ package org.polarsys.capella.core.data.helpers.fa.delegates;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.ComponentExchangeEnd;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.CapellaElementHelper;
 import org.polarsys.capella.common.data.helpers.modellingcore.delegates.InformationsExchangerHelper;
@@ -43,4 +44,16 @@ public class ComponentExchangeEndHelper {
 		}
 		return ret;
 	}
+
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = InformationsExchangerHelper.getInstance().getComputer(feature);
+		if (null == computer) {
+			computer = CapellaElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
 }
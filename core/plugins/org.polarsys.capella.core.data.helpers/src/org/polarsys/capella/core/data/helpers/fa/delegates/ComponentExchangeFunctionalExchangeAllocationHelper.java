@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.ComponentExchange;
 import org.polarsys.capella.core.data.fa.ComponentExchangeFunctionalExchangeAllocation;
 import org.polarsys.capella.core.data.fa.FaPackage;
@@ -24,8 +28,16 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class ComponentExchangeFunctionalExchangeAllocationHelper {
 	private static ComponentExchangeFunctionalExchangeAllocationHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private ComponentExchangeFunctionalExchangeAllocationHelper() {
-    // do nothing
+		computers.put(FaPackage.Literals.COMPONENT_EXCHANGE_FUNCTIONAL_EXCHANGE_ALLOCATION__ALLOCATING_COMPONENT_EXCHANGE,
+				element -> getAllocatingComponentExchange((ComponentExchangeFunctionalExchangeAllocation) element));
+		computers.put(FaPackage.Literals.COMPONENT_EXCHANGE_FUNCTIONAL_EXCHANGE_ALLOCATION__ALLOCATED_FUNCTIONAL_EXCHANGE,
+				element -> getAllocatedFunctionalExchange((ComponentExchangeFunctionalExchangeAllocation) element));
 	}
 
 	public static ComponentExchangeFunctionalExchangeAllocationHelper getInstance() {
@@ -37,11 +49,9 @@ public class ComponentExchangeFunctionalExchangeAllocationHelper {
 	public Object doSwitch(ComponentExchangeFunctionalExchangeAllocation element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE_FUNCTIONAL_EXCHANGE_ALLOCATION__ALLOCATING_COMPONENT_EXCHANGE)) {
-			ret = getAllocatingComponentExchange(element);
-		}
-		else if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE_FUNCTIONAL_EXCHANGE_ALLOCATION__ALLOCATED_FUNCTIONAL_EXCHANGE)) {
-			ret = getAllocatedFunctionalExchange(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		} 
 
 		// no helper found... searching in super classes...
@@ -52,6 +62,18 @@ public class ComponentExchangeFunctionalExchangeAllocationHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AbstractFunctionAllocationHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected ComponentExchange getAllocatingComponentExchange(ComponentExchangeFunctionalExchangeAllocation element) {
 		TraceableElement ret = element.getSourceElement();
 		if (ret instanceof ComponentExchange)
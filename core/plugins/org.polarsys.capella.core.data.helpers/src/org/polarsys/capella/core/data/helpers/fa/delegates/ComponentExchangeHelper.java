@@ -14,7 +14,9 @@
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
@@ -22,6 +24,7 @@ import org.polarsys.capella.common.data.helpers.modellingcore.delegates.Abstract
 import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 import org.polarsys.capella.common.data.modellingcore.InformationsExchanger;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.Part;
 import org.polarsys.capella.core.data.cs.PhysicalLink;
 import org.polarsys.capella.core.data.fa.ComponentExchange;
@@ -38,8 +41,36 @@ import org.polarsys.capella.core.data.information.Port;
 public class ComponentExchangeHelper {
   private static ComponentExchangeHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private ComponentExchangeHelper() {
-    // do nothing
+    computers.put(FaPackage.Literals.COMPONENT_EXCHANGE__ALLOCATED_FUNCTIONAL_EXCHANGES,
+        element -> getAllocatedFunctionalExchanges((ComponentExchange) element));
+    computers.put(FaPackage.Literals.COMPONENT_EXCHANGE__INCOMING_COMPONENT_EXCHANGE_REALIZATIONS,
+        element -> getIncomingComponentExchangeRealizations((ComponentExchange) element));
+    computers.put(FaPackage.Literals.COMPONENT_EXCHANGE__OUTGOING_COMPONENT_EXCHANGE_REALIZATIONS,
+        element -> getOutgoingComponentExchangeRealizations((ComponentExchange) element));
+    computers.put(FaPackage.Literals.COMPONENT_EXCHANGE__OUTGOING_COMPONENT_EXCHANGE_FUNCTIONAL_EXCHANGE_ALLOCATIONS,
+        element -> getOutgoingComponentExchangeFunctionalExchangeAllocations((ComponentExchange) element));
+    computers.put(FaPackage.Literals.COMPONENT_EXCHANGE__SOURCE_PART,
+        element -> getSourcePart((ComponentExchange) element));
+    computers.put(FaPackage.Literals.COMPONENT_EXCHANGE__SOURCE_PORT,
+        element -> getSourcePort((ComponentExchange) element));
+    computers.put(FaPackage.Literals.COMPONENT_EXCHANGE__TARGET_PART,
+        element -> getTargetPart((ComponentExchange) element));
+    computers.put(FaPackage.Literals.COMPONENT_EXCHANGE__TARGET_PORT,
+        element -> getTargetPort((ComponentExchange) element));
+    computers.put(FaPackage.Literals.COMPONENT_EXCHANGE__ALLOCATOR_PHYSICAL_LINKS,
+        element -> getAllocatorPhysicalLinks((ComponentExchange) element));
+    computers.put(FaPackage.Literals.COMPONENT_EXCHANGE__REALIZED_COMPONENT_EXCHANGES,
+        element -> getRealizedComponentExchanges((ComponentExchange) element));
+    computers.put(FaPackage.Literals.COMPONENT_EXCHANGE__REALIZING_COMPONENT_EXCHANGES,
+        element -> getRealizingComponentExchanges((ComponentExchange) element));
+    computers.put(FaPackage.Literals.COMPONENT_EXCHANGE__CATEGORIES,
+        element -> getCategories((ComponentExchange) element));
   }
 
   public static ComponentExchangeHelper getInstance() {
@@ -51,30 +82,9 @@ public class ComponentExchangeHelper {
   public Object doSwitch(ComponentExchange element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE__ALLOCATED_FUNCTIONAL_EXCHANGES)) {
-      ret = getAllocatedFunctionalExchanges(element);
-    } else if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE__INCOMING_COMPONENT_EXCHANGE_REALIZATIONS)) {
-      ret = getIncomingComponentExchangeRealizations(element);
-    } else if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE__OUTGOING_COMPONENT_EXCHANGE_REALIZATIONS)) {
-      ret = getOutgoingComponentExchangeRealizations(element);
-    } else if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE__OUTGOING_COMPONENT_EXCHANGE_FUNCTIONAL_EXCHANGE_ALLOCATIONS)) {
-      ret = getOutgoingComponentExchangeFunctionalExchangeAllocations(element);
-    } else if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE__SOURCE_PART)) {
-      ret = getSourcePart(element);
-    } else if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE__SOURCE_PORT)) {
-      ret = getSourcePort(element);
-    } else if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE__TARGET_PART)) {
-      ret = getTargetPart(element);
-    } else if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE__TARGET_PORT)) {
-      ret = getTargetPort(element);
-    } else if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE__ALLOCATOR_PHYSICAL_LINKS)) {
-      ret = getAllocatorPhysicalLinks(element);
-    } else if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE__REALIZED_COMPONENT_EXCHANGES)) {
-      ret = getRealizedComponentExchanges(element);
-    } else if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE__REALIZING_COMPONENT_EXCHANGES)) {
-      ret = getRealizingComponentExchanges(element);
-    } else if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE__CATEGORIES)) {
-      ret = getCategories(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -91,6 +101,24 @@ public class ComponentExchangeHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AbstractTypeHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = ExchangeSpecificationHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = AbstractEventOperationHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<EObject> getCategories(ComponentExchange element) {
     return EObjectExt.getReferencers(element, FaPackage.Literals.COMPONENT_EXCHANGE_CATEGORY__EXCHANGES);
   }
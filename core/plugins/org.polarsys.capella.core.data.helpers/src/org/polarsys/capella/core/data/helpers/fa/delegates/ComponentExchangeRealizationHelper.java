@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.ComponentExchange;
 import org.polarsys.capella.core.data.fa.ComponentExchangeRealization;
 import org.polarsys.capella.core.data.fa.FaPackage;
@@ -23,8 +27,16 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class ComponentExchangeRealizationHelper {
 	private static ComponentExchangeRealizationHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private ComponentExchangeRealizationHelper() {
-    // do nothing
+		computers.put(FaPackage.Literals.COMPONENT_EXCHANGE_REALIZATION__ALLOCATING_COMPONENT_EXCHANGE,
+				element -> getAllocatingComponentExchange((ComponentExchangeRealization) element));
+		computers.put(FaPackage.Literals.COMPONENT_EXCHANGE_REALIZATION__ALLOCATED_COMPONENT_EXCHANGE,
+				element -> getAllocatedComponentExchange((ComponentExchangeRealization) element));
 	}
 
 	public static ComponentExchangeRealizationHelper getInstance() {
@@ -35,11 +47,9 @@ public class ComponentExchangeRealizationHelper {
 	
 	public Object doSwitch(ComponentExchangeRealization element, EStructuralFeature feature) {
 		Object ret = null;
-		if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE_REALIZATION__ALLOCATING_COMPONENT_EXCHANGE)) {
-			ret = getAllocatingComponentExchange(element);
-		}
-		else if (feature.equals(FaPackage.Literals.COMPONENT_EXCHANGE_REALIZATION__ALLOCATED_COMPONENT_EXCHANGE)) {
-			ret = getAllocatedComponentExchange(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -50,6 +60,18 @@ public class ComponentExchangeRealizationHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = ExchangeSpecificationRealizationHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected ComponentExchange getAllocatingComponentExchange(ComponentExchangeRealization element) {
 		TraceableElement ret = element.getSourceElement();
 		if(ret instanceof ComponentExchange)
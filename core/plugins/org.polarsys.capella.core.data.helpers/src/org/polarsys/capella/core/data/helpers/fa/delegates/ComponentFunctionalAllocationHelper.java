@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.AbstractFunction;
 import org.polarsys.capella.core.data.fa.AbstractFunctionalBlock;
 import org.polarsys.capella.core.data.fa.ComponentFunctionalAllocation;
@@ -24,8 +28,16 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class ComponentFunctionalAllocationHelper {
 	private static ComponentFunctionalAllocationHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private ComponentFunctionalAllocationHelper() {
-    // do nothing
+		computers.put(FaPackage.Literals.COMPONENT_FUNCTIONAL_ALLOCATION__BLOCK,
+				element -> getBlock((ComponentFunctionalAllocation) element));
+		computers.put(FaPackage.Literals.COMPONENT_FUNCTIONAL_ALLOCATION__FUNCTION,
+				element -> getFunction((ComponentFunctionalAllocation) element));
 	}
 
 	public static ComponentFunctionalAllocationHelper getInstance() {
@@ -37,11 +49,9 @@ public class ComponentFunctionalAllocationHelper {
 	public Object doSwitch(ComponentFunctionalAllocation element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(FaPackage.Literals.COMPONENT_FUNCTIONAL_ALLOCATION__BLOCK)) {
-			ret = getBlock(element);
-		}
-		else if (feature.equals(FaPackage.Literals.COMPONENT_FUNCTIONAL_ALLOCATION__FUNCTION)) {
-			ret = getFunction(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -52,6 +62,18 @@ public class ComponentFunctionalAllocationHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AbstractFunctionAllocationHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected AbstractFunctionalBlock getBlock(ComponentFunctionalAllocation element) {
 		TraceableElement ret = element.getSourceElement();
 		if (ret instanceof AbstractFunctionalBlock)
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.ComponentPortAllocation;
 import org.polarsys.capella.core.data.fa.ComponentPortAllocationEnd;
 import org.polarsys.capella.core.data.fa.FaPackage;
@@ -23,8 +27,14 @@ import org.polarsys.capella.core.data.helpers.capellacore.delegates.CapellaEleme
 public class ComponentPortAllocationEndHelper {
   private static ComponentPortAllocationEndHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private ComponentPortAllocationEndHelper() {
-    // do nothing
+    computers.put(FaPackage.Literals.COMPONENT_PORT_ALLOCATION_END__OWNING_COMPONENT_PORT_ALLOCATION,
+        element -> getOwningComponentPortAllocation((ComponentPortAllocationEnd) element));
   }
 
   public static ComponentPortAllocationEndHelper getInstance() {
@@ -36,8 +46,9 @@ public class ComponentPortAllocationEndHelper {
   public Object doSwitch(ComponentPortAllocationEnd element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.COMPONENT_PORT_ALLOCATION_END__OWNING_COMPONENT_PORT_ALLOCATION)) {
-      ret = getOwningComponentPortAllocation(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -48,6 +59,18 @@ public class ComponentPortAllocationEndHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = CapellaElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   private ComponentPortAllocation getOwningComponentPortAllocation(ComponentPortAllocationEnd element) {
     EObject parent = element.eContainer();
     if (parent instanceof ComponentPortAllocation) {
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.ComponentPortAllocation;
 import org.polarsys.capella.core.data.fa.ComponentPortAllocationEnd;
 import org.polarsys.capella.core.data.fa.FaPackage;
@@ -25,8 +29,16 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class ComponentPortAllocationHelper {
   private static ComponentPortAllocationHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private ComponentPortAllocationHelper() {
-    // do nothing
+    computers.put(FaPackage.Literals.COMPONENT_PORT_ALLOCATION__ALLOCATING_PORT,
+        element -> getAllocatingPort((ComponentPortAllocation) element));
+    computers.put(FaPackage.Literals.COMPONENT_PORT_ALLOCATION__ALLOCATED_PORT,
+        element -> getAllocatedPort((ComponentPortAllocation) element));
   }
 
   public static ComponentPortAllocationHelper getInstance() {
@@ -38,10 +50,9 @@ public class ComponentPortAllocationHelper {
   public Object doSwitch(ComponentPortAllocation element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.COMPONENT_PORT_ALLOCATION__ALLOCATING_PORT)) {
-      ret = getAllocatingPort(element);
-    } else if (feature.equals(FaPackage.Literals.COMPONENT_PORT_ALLOCATION__ALLOCATED_PORT)) {
-      ret = getAllocatedPort(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -52,6 +63,18 @@ public class ComponentPortAllocationHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AllocationHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected Port getAllocatingPort(ComponentPortAllocation element) {
     TraceableElement source = element.getSourceElement();
     if (source instanceof ComponentPortAllocationEnd) {
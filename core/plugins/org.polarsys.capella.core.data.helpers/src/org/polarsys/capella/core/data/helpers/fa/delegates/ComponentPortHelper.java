@@ -14,9 +14,11 @@
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
@@ -24,6 +26,7 @@ import org.polarsys.capella.common.data.helpers.modellingcore.delegates.Informat
 import org.polarsys.capella.common.data.modellingcore.AbstractInformationFlow;
 import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 import org.polarsys.capella.common.data.modellingcore.InformationsExchanger;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.PhysicalPort;
 import org.polarsys.capella.core.data.fa.ComponentExchange;
 import org.polarsys.capella.core.data.fa.ComponentExchangeEnd;
@@ -42,8 +45,26 @@ import org.polarsys.capella.core.data.information.PortRealization;
 public class ComponentPortHelper {
   private static ComponentPortHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private ComponentPortHelper() {
-    // do nothing
+    computers.put(FaPackage.Literals.COMPONENT_PORT__COMPONENT_EXCHANGES,
+        element -> getComponentExchanges((ComponentPort) element));
+    computers.put(FaPackage.Literals.COMPONENT_PORT__ALLOCATED_FUNCTION_PORTS,
+        element -> getAllocatedFunctionPorts((ComponentPort) element));
+    computers.put(FaPackage.Literals.COMPONENT_PORT__DELEGATED_COMPONENT_PORTS,
+        element -> getDelegatedComponentPorts((ComponentPort) element));
+    computers.put(FaPackage.Literals.COMPONENT_PORT__DELEGATING_COMPONENT_PORTS,
+        element -> getDelegatingComponentPorts((ComponentPort) element));
+    computers.put(FaPackage.Literals.COMPONENT_PORT__ALLOCATING_PHYSICAL_PORTS,
+        element -> getAllocatingPhysicalPorts((ComponentPort) element));
+    computers.put(FaPackage.Literals.COMPONENT_PORT__REALIZED_COMPONENT_PORTS,
+        element -> getRealizedComponentPorts((ComponentPort) element));
+    computers.put(FaPackage.Literals.COMPONENT_PORT__REALIZING_COMPONENT_PORTS,
+        element -> getRealizingComponentPorts((ComponentPort) element));
   }
 
   public static ComponentPortHelper getInstance() {
@@ -56,20 +77,9 @@ public class ComponentPortHelper {
   public Object doSwitch(ComponentPort element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.COMPONENT_PORT__COMPONENT_EXCHANGES)) {
-      ret = getComponentExchanges(element);
-    } else if (feature.equals(FaPackage.Literals.COMPONENT_PORT__ALLOCATED_FUNCTION_PORTS)) {
-      ret = getAllocatedFunctionPorts(element);
-    } else if (feature.equals(FaPackage.Literals.COMPONENT_PORT__DELEGATED_COMPONENT_PORTS)) {
-      ret = getDelegatedComponentPorts(element);
-    } else if (feature.equals(FaPackage.Literals.COMPONENT_PORT__DELEGATING_COMPONENT_PORTS)) {
-      ret = getDelegatingComponentPorts(element);
-    } else if (feature.equals(FaPackage.Literals.COMPONENT_PORT__ALLOCATING_PHYSICAL_PORTS)) {
-      ret = getAllocatingPhysicalPorts(element);
-    } else if (feature.equals(FaPackage.Literals.COMPONENT_PORT__REALIZED_COMPONENT_PORTS)) {
-      ret = getRealizedComponentPorts(element);
-    } else if (feature.equals(FaPackage.Literals.COMPONENT_PORT__REALIZING_COMPONENT_PORTS)) {
-      ret = getRealizingComponentPorts(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -86,6 +96,24 @@ public class ComponentPortHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = PortHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = InformationsExchangerHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = PropertyHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   /**
    * Returns all abstract connections linked to the component port
    */
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.ExchangeContainment;
 import org.polarsys.capella.core.data.fa.ExchangeLink;
 import org.polarsys.capella.core.data.fa.ExchangeSpecification;
@@ -26,9 +29,14 @@ import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedRelatio
 
 public class ExchangeLinkHelper {
 private static ExchangeLinkHelper instance;
+
+/**
+ * Computers of the features handled by this helper.
+ */
+private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
 	
 	private ExchangeLinkHelper() {
-    // do nothing
+		computers.put(FaPackage.Literals.EXCHANGE_LINK__EXCHANGES, element -> getExchanges((ExchangeLink) element));
 	}
 	
 	public static ExchangeLinkHelper getInstance(){
@@ -41,8 +49,9 @@ private static ExchangeLinkHelper instance;
 		
 		Object ret = null;
 		
-		if (feature.equals(FaPackage.Literals.EXCHANGE_LINK__EXCHANGES)) {
-			ret = getExchanges(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		} 
 
     // no helper found... searching in super classes...
@@ -52,6 +61,18 @@ private static ExchangeLinkHelper instance;
 
 		return ret;
 	}
+
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = NamedRelationshipHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
 	
 	protected List<ExchangeSpecification> getExchanges(ExchangeLink element) {
 		
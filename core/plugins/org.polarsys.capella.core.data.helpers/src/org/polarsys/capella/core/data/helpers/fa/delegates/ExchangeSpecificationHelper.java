@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.ExchangeContainment;
 import org.polarsys.capella.core.data.fa.ExchangeLink;
 import org.polarsys.capella.core.data.fa.ExchangeSpecification;
@@ -30,8 +33,18 @@ import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 public class ExchangeSpecificationHelper {
   private static ExchangeSpecificationHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private ExchangeSpecificationHelper() {
-    // do nothing
+    computers.put(FaPackage.Literals.EXCHANGE_SPECIFICATION__CONTAINING_LINK,
+        element -> getContainingLink((ExchangeSpecification) element));
+    computers.put(FaPackage.Literals.EXCHANGE_SPECIFICATION__INCOMING_EXCHANGE_SPECIFICATION_REALIZATIONS,
+        element -> getIncomingExchangeSpecificationRealizations((ExchangeSpecification) element));
+    computers.put(FaPackage.Literals.EXCHANGE_SPECIFICATION__OUTGOING_EXCHANGE_SPECIFICATION_REALIZATIONS,
+        element -> getOutgoingExchangeSpecificationRealizations((ExchangeSpecification) element));
   }
 
   public static ExchangeSpecificationHelper getInstance() {
@@ -43,12 +56,9 @@ public class ExchangeSpecificationHelper {
   public Object doSwitch(ExchangeSpecification element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.EXCHANGE_SPECIFICATION__CONTAINING_LINK)) {
-      ret = getContainingLink(element);
-    } else if (feature.equals(FaPackage.Literals.EXCHANGE_SPECIFICATION__INCOMING_EXCHANGE_SPECIFICATION_REALIZATIONS)) {
-      ret = getIncomingExchangeSpecificationRealizations(element);
-    } else if (feature.equals(FaPackage.Literals.EXCHANGE_SPECIFICATION__OUTGOING_EXCHANGE_SPECIFICATION_REALIZATIONS)) {
-      ret = getOutgoingExchangeSpecificationRealizations(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -62,6 +72,21 @@ public class ExchangeSpecificationHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = NamedElementHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = ActivityExchangeHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<ExchangeSpecificationRealization> getIncomingExchangeSpecificationRealizations(ExchangeSpecification element) {
     List<ExchangeSpecificationRealization> ret = new ArrayList<>();
 
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.ExchangeSpecification;
 import org.polarsys.capella.core.data.fa.ExchangeSpecificationRealization;
 import org.polarsys.capella.core.data.fa.FaPackage;
@@ -24,8 +28,16 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class ExchangeSpecificationRealizationHelper {
   private static ExchangeSpecificationRealizationHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private ExchangeSpecificationRealizationHelper() {
-    // do nothing
+    computers.put(FaPackage.Literals.EXCHANGE_SPECIFICATION_REALIZATION__REALIZING_EXCHANGE_SPECIFICATION,
+        element -> getRealizingExchangeSpecification((ExchangeSpecificationRealization) element));
+    computers.put(FaPackage.Literals.EXCHANGE_SPECIFICATION_REALIZATION__REALIZED_EXCHANGE_SPECIFICATION,
+        element -> getRealizedExchangeSpecification((ExchangeSpecificationRealization) element));
   }
 
   public static ExchangeSpecificationRealizationHelper getInstance() {
@@ -37,10 +49,9 @@ public class ExchangeSpecificationRealizationHelper {
   public Object doSwitch(ExchangeSpecificationRealization element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.EXCHANGE_SPECIFICATION_REALIZATION__REALIZING_EXCHANGE_SPECIFICATION)) {
-      ret = getRealizingExchangeSpecification(element);
-    } else if (feature.equals(FaPackage.Literals.EXCHANGE_SPECIFICATION_REALIZATION__REALIZED_EXCHANGE_SPECIFICATION)) {
-      ret = getRealizedExchangeSpecification(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -51,6 +62,18 @@ public class ExchangeSpecificationRealizationHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AllocationHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected ExchangeSpecification getRealizingExchangeSpecification(ExchangeSpecificationRealization element) {
     TraceableElement ret = element.getSourceElement();
     if (ret instanceof ExchangeSpecification)
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.FaPackage;
 import org.polarsys.capella.core.data.fa.FunctionInputPort;
 import org.polarsys.capella.core.data.fa.FunctionalExchange;
@@ -27,7 +30,14 @@ import org.polarsys.capella.common.data.helpers.activity.delegates.ActivityNodeH
 public class FunctionInputPortHelper {
 	private static FunctionInputPortHelper instance;
 
-	private FunctionInputPortHelper() {//
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
+	private FunctionInputPortHelper() {
+		computers.put(FaPackage.Literals.FUNCTION_INPUT_PORT__INCOMING_FUNCTIONAL_EXCHANGES,
+				element -> getIncomingFunctionalExchanges((FunctionInputPort) element));
 	}
 
 	public static FunctionInputPortHelper getInstance() {
@@ -39,8 +49,9 @@ public class FunctionInputPortHelper {
 	public Object doSwitch(FunctionInputPort element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.FUNCTION_INPUT_PORT__INCOMING_FUNCTIONAL_EXCHANGES)) {
-      ret = getIncomingFunctionalExchanges(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -54,6 +65,21 @@ public class FunctionInputPortHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = FunctionPortHelper.getInstance().getComputer(feature);
+		}
+		if (null == computer) {
+			computer = ActivityNodeHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected List<FunctionalExchange> getIncomingFunctionalExchanges(FunctionInputPort element) {
     List <FunctionalExchange> ret = new ArrayList<>();
     for (ActivityEdge activityEdge : element.getIncoming()) {
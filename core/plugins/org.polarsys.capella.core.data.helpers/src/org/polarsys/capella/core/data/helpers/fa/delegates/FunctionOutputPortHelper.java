@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.FaPackage;
 import org.polarsys.capella.core.data.fa.FunctionOutputPort;
 import org.polarsys.capella.core.data.fa.FunctionalExchange;
@@ -27,7 +30,14 @@ import org.polarsys.capella.common.data.helpers.activity.delegates.ActivityNodeH
 public class FunctionOutputPortHelper {
 	private static FunctionOutputPortHelper instance;
 
-	private FunctionOutputPortHelper() {//
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
+	private FunctionOutputPortHelper() {
+		computers.put(FaPackage.Literals.FUNCTION_OUTPUT_PORT__OUTGOING_FUNCTIONAL_EXCHANGES,
+				element -> getOutgoingFunctionalExchanges((FunctionOutputPort) element));
 	}
 
 	public static FunctionOutputPortHelper getInstance() {
@@ -39,8 +49,9 @@ public class FunctionOutputPortHelper {
 	public Object doSwitch(FunctionOutputPort element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.FUNCTION_OUTPUT_PORT__OUTGOING_FUNCTIONAL_EXCHANGES)) {
-      ret = getOutgoingFunctionalExchanges(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -54,6 +65,21 @@ public class FunctionOutputPortHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = FunctionPortHelper.getInstance().getComputer(feature);
+		}
+		if (null == computer) {
+			computer = ActivityNodeHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected List<FunctionalExchange> getOutgoingFunctionalExchanges(FunctionOutputPort element) {
     List <FunctionalExchange> ret = new ArrayList<>();
     for (ActivityEdge activityEdge : element.getOutgoing()) {
@@ -13,10 +13,13 @@
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.helpers.modellingcore.delegates.AbstractTypeHelper;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.ComponentPort;
 import org.polarsys.capella.core.data.fa.FaPackage;
 import org.polarsys.capella.core.data.fa.FunctionPort;
@@ -28,8 +31,18 @@ import org.polarsys.capella.core.data.information.PortRealization;
 public class FunctionPortHelper {
 	private static FunctionPortHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private FunctionPortHelper() {
-    // do nothing
+		computers.put(FaPackage.Literals.FUNCTION_PORT__ALLOCATOR_COMPONENT_PORTS,
+				element -> getAllocatorComponentPorts((FunctionPort) element));
+		computers.put(FaPackage.Literals.FUNCTION_PORT__REALIZED_FUNCTION_PORTS,
+				element -> getRealizedFunctionPorts((FunctionPort) element));
+		computers.put(FaPackage.Literals.FUNCTION_PORT__REALIZING_FUNCTION_PORTS,
+				element -> getRealizingFunctionPorts((FunctionPort) element));
 	}
 
 	public static FunctionPortHelper getInstance() {
@@ -41,12 +54,9 @@ public class FunctionPortHelper {
 	public Object doSwitch(FunctionPort element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.FUNCTION_PORT__ALLOCATOR_COMPONENT_PORTS)) {
-      ret = getAllocatorComponentPorts(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTION_PORT__REALIZED_FUNCTION_PORTS)) {
-      ret = getRealizedFunctionPorts(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTION_PORT__REALIZING_FUNCTION_PORTS)) {
-      ret = getRealizingFunctionPorts(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -60,6 +70,21 @@ public class FunctionPortHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = PortHelper.getInstance().getComputer(feature);
+		}
+		if (null == computer) {
+			computer = AbstractTypeHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected List<ComponentPort> getAllocatorComponentPorts(FunctionPort element) {
     List <ComponentPort> ret = new ArrayList<>();
     for (PortAllocation portAllocation : element.getIncomingPortAllocations()) {
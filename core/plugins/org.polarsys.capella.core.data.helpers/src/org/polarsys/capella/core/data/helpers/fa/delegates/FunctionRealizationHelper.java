@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.AbstractFunction;
 import org.polarsys.capella.core.data.fa.FaPackage;
 import org.polarsys.capella.core.data.fa.FunctionRealization;
@@ -23,8 +27,16 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class FunctionRealizationHelper {
   private static FunctionRealizationHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private FunctionRealizationHelper() {
-    // do nothing
+    computers.put(FaPackage.Literals.FUNCTION_REALIZATION__ALLOCATING_FUNCTION,
+        element -> getAllocatingFunction((FunctionRealization) element));
+    computers.put(FaPackage.Literals.FUNCTION_REALIZATION__ALLOCATED_FUNCTION,
+        element -> getAllocatedFunction((FunctionRealization) element));
   }
 
   public static FunctionRealizationHelper getInstance() {
@@ -36,10 +48,9 @@ public class FunctionRealizationHelper {
   public Object doSwitch(FunctionRealization element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.FUNCTION_REALIZATION__ALLOCATING_FUNCTION)) {
-      ret = getAllocatingFunction(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTION_REALIZATION__ALLOCATED_FUNCTION)) {
-      ret = getAllocatedFunction(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -50,6 +61,18 @@ public class FunctionRealizationHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AbstractFunctionAllocationHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected AbstractFunction getAllocatingFunction(FunctionRealization element) {
     TraceableElement ret = element.getSourceElement();
     if (ret instanceof AbstractFunction)
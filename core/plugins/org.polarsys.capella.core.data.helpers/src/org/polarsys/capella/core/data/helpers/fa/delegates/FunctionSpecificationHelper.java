@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.AbstractFunction;
 import org.polarsys.capella.core.data.fa.FaPackage;
 import org.polarsys.capella.core.data.fa.FunctionSpecification;
@@ -27,9 +30,15 @@ import org.polarsys.capella.common.data.helpers.activity.delegates.AbstractActiv
 
 public class FunctionSpecificationHelper {
 private static FunctionSpecificationHelper instance;
+
+/**
+ * Computers of the features handled by this helper.
+ */
+private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
 	
 	private FunctionSpecificationHelper() {
-    // do nothing
+		computers.put(FaPackage.Literals.FUNCTION_SPECIFICATION__SUB_FUNCTION_SPECIFICATIONS,
+				element -> getSubFunctionSpecifications((FunctionSpecification) element));
 	}
 	
 	public static FunctionSpecificationHelper getInstance(){
@@ -42,8 +51,9 @@ private static FunctionSpecificationHelper instance;
 		
 		Object ret = null;
 		
-		if (feature.equals(FaPackage.Literals.FUNCTION_SPECIFICATION__SUB_FUNCTION_SPECIFICATIONS)) {
-			ret = getSubFunctionSpecifications(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -57,6 +67,21 @@ private static FunctionSpecificationHelper instance;
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = NamespaceHelper.getInstance().getComputer(feature);
+		}
+		if (null == computer) {
+			computer = AbstractActivityHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected List<FunctionSpecification> getSubFunctionSpecifications(FunctionSpecification element) {
 		List<ActivityNode> nodes = element.getOwnedNodes();
 		List<FunctionSpecification> ret = new ArrayList<>();
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.ctx.Capability;
 import org.polarsys.capella.core.data.fa.AbstractFunction;
 import org.polarsys.capella.core.data.fa.AbstractFunctionalBlock;
@@ -39,8 +42,34 @@ import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 public class FunctionalChainHelper {
   private static FunctionalChainHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private FunctionalChainHelper() {
-    // do nothing
+    computers.put(FaPackage.Literals.FUNCTIONAL_CHAIN__INVOLVED_FUNCTIONAL_CHAIN_INVOLVEMENTS,
+        element -> getInvolvedFunctionalChainInvolvements((FunctionalChain) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_CHAIN__INVOLVED_ELEMENTS,
+        element -> getInvolvedElements((FunctionalChain) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_CHAIN__INVOLVED_FUNCTIONAL_EXCHANGES,
+        element -> getInvolvedFunctionalExchanges((FunctionalChain) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_CHAIN__INVOLVED_FUNCTIONS,
+        element -> getInvolvedFunctions((FunctionalChain) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_CHAIN__ENACTED_FUNCTIONS,
+        element -> getEnactedFunctions((FunctionalChain) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_CHAIN__ENACTED_FUNCTIONAL_BLOCKS,
+        element -> getEnactedFunctionalBlocks((FunctionalChain) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_CHAIN__FIRST_FUNCTIONAL_CHAIN_INVOLVEMENTS,
+        element -> getFirstFunctionalChainInvolvements((FunctionalChain) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_CHAIN__INVOLVING_CAPABILITIES,
+        element -> getInvolvingCapabilities((FunctionalChain) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_CHAIN__INVOLVING_CAPABILITY_REALIZATIONS,
+        element -> getInvolvingCapabilityRealizations((FunctionalChain) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_CHAIN__REALIZED_FUNCTIONAL_CHAINS,
+        element -> getRealizedFunctionalChains((FunctionalChain) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_CHAIN__REALIZING_FUNCTIONAL_CHAINS,
+        element -> getRealizingFunctionalChains((FunctionalChain) element));
   }
 
   public static FunctionalChainHelper getInstance() {
@@ -53,28 +82,9 @@ public class FunctionalChainHelper {
   public Object doSwitch(FunctionalChain element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.FUNCTIONAL_CHAIN__INVOLVED_FUNCTIONAL_CHAIN_INVOLVEMENTS)) {
-      ret = getInvolvedFunctionalChainInvolvements(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_CHAIN__INVOLVED_ELEMENTS)) {
-      ret = getInvolvedElements(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_CHAIN__INVOLVED_FUNCTIONAL_EXCHANGES)) {
-      ret = getInvolvedFunctionalExchanges(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_CHAIN__INVOLVED_FUNCTIONS)) {
-      ret = getInvolvedFunctions(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_CHAIN__ENACTED_FUNCTIONS)) {
-      ret = getEnactedFunctions(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_CHAIN__ENACTED_FUNCTIONAL_BLOCKS)) {
-      ret = getEnactedFunctionalBlocks(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_CHAIN__FIRST_FUNCTIONAL_CHAIN_INVOLVEMENTS)) {
-      ret = getFirstFunctionalChainInvolvements(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_CHAIN__INVOLVING_CAPABILITIES)) {
-      ret = getInvolvingCapabilities(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_CHAIN__INVOLVING_CAPABILITY_REALIZATIONS)) {
-      ret = getInvolvingCapabilityRealizations(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_CHAIN__REALIZED_FUNCTIONAL_CHAINS)) {
-      ret = getRealizedFunctionalChains(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_CHAIN__REALIZING_FUNCTIONAL_CHAINS)) {
-      ret = getRealizingFunctionalChains(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -91,6 +101,24 @@ public class FunctionalChainHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = NamedElementHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = InvolverElementHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = InvolvedElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<FunctionalChainInvolvement> getInvolvedFunctionalChainInvolvements(FunctionalChain element) {
     return new ArrayList<>(element.getOwnedFunctionalChainInvolvements());
   }
@@ -14,11 +14,14 @@
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.FaPackage;
 import org.polarsys.capella.core.data.fa.FunctionalChainInvolvementFunction;
 import org.polarsys.capella.core.data.fa.FunctionalChainInvolvementLink;
@@ -26,8 +29,16 @@ import org.polarsys.capella.core.data.fa.FunctionalChainInvolvementLink;
 public class FunctionalChainInvolvementFunctionHelper {
   private static FunctionalChainInvolvementFunctionHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private FunctionalChainInvolvementFunctionHelper() {
-    // do nothing
+    computers.put(FaPackage.Literals.FUNCTIONAL_CHAIN_INVOLVEMENT_FUNCTION__INCOMING_INVOLVEMENT_LINKS,
+        element -> getIncomingInvolvementLinks((FunctionalChainInvolvementFunction) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_CHAIN_INVOLVEMENT_FUNCTION__OUTGOING_INVOLVEMENT_LINKS,
+        element -> getOutgoingInvolvementLinks((FunctionalChainInvolvementFunction) element));
   }
 
   public static FunctionalChainInvolvementFunctionHelper getInstance() {
@@ -39,10 +50,9 @@ public class FunctionalChainInvolvementFunctionHelper {
   public Object doSwitch(FunctionalChainInvolvementFunction element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.FUNCTIONAL_CHAIN_INVOLVEMENT_FUNCTION__INCOMING_INVOLVEMENT_LINKS)) {
-      ret = getIncomingInvolvementLinks(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_CHAIN_INVOLVEMENT_FUNCTION__OUTGOING_INVOLVEMENT_LINKS)) {
-      ret = getOutgoingInvolvementLinks(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -53,6 +63,18 @@ public class FunctionalChainInvolvementFunctionHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = FunctionalChainInvolvementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<FunctionalChainInvolvementLink> getIncomingInvolvementLinks(
       FunctionalChainInvolvementFunction element) {
     List<FunctionalChainInvolvementLink> ret = new ArrayList<>();
@@ -14,11 +14,14 @@
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.InvolvedElement;
 import org.polarsys.capella.core.data.fa.FaPackage;
 import org.polarsys.capella.core.data.fa.FunctionalChainInvolvement;
@@ -29,8 +32,18 @@ import org.polarsys.capella.core.data.helpers.capellacore.delegates.InvolvementH
 public class FunctionalChainInvolvementHelper {
   private static FunctionalChainInvolvementHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private FunctionalChainInvolvementHelper() {
-    // do nothing
+    computers.put(FaPackage.Literals.FUNCTIONAL_CHAIN_INVOLVEMENT__PREVIOUS_FUNCTIONAL_CHAIN_INVOLVEMENTS,
+        element -> getPreviousFunctionalChainInvolvements((FunctionalChainInvolvement) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_CHAIN_INVOLVEMENT__NEXT_FUNCTIONAL_CHAIN_INVOLVEMENTS,
+        element -> getNextFunctionalChainInvolvements((FunctionalChainInvolvement) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_CHAIN_INVOLVEMENT__INVOLVED_ELEMENT,
+        element -> getInvolvedElement((FunctionalChainInvolvement) element));
   }
 
   public static FunctionalChainInvolvementHelper getInstance() {
@@ -42,12 +55,9 @@ public class FunctionalChainInvolvementHelper {
   public Object doSwitch(FunctionalChainInvolvement element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.FUNCTIONAL_CHAIN_INVOLVEMENT__PREVIOUS_FUNCTIONAL_CHAIN_INVOLVEMENTS)) {
-      ret = getPreviousFunctionalChainInvolvements(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_CHAIN_INVOLVEMENT__NEXT_FUNCTIONAL_CHAIN_INVOLVEMENTS)) {
-      ret = getNextFunctionalChainInvolvements(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_CHAIN_INVOLVEMENT__INVOLVED_ELEMENT)) {
-      ret = getInvolvedElement(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -58,6 +68,18 @@ public class FunctionalChainInvolvementHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = InvolvementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<FunctionalChainInvolvement> getPreviousFunctionalChainInvolvements(
       FunctionalChainInvolvement element) {
     List<FunctionalChainInvolvement> ret = new ArrayList<>();
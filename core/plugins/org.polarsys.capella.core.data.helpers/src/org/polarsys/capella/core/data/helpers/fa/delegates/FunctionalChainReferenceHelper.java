@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.FaPackage;
 import org.polarsys.capella.core.data.fa.FunctionalChain;
 import org.polarsys.capella.core.data.fa.FunctionalChainReference;
@@ -23,8 +27,14 @@ import org.polarsys.capella.core.data.capellacore.InvolvedElement;
 public class FunctionalChainReferenceHelper {
 	private static FunctionalChainReferenceHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private FunctionalChainReferenceHelper() {
-    // do nothing
+		computers.put(FaPackage.Literals.FUNCTIONAL_CHAIN_REFERENCE__REFERENCED_FUNCTIONAL_CHAIN,
+				element -> getReferencedFunctionalChain((FunctionalChainReference) element));
 	}
 
 	public static FunctionalChainReferenceHelper getInstance(){
@@ -36,8 +46,9 @@ public class FunctionalChainReferenceHelper {
 	public Object doSwitch(FunctionalChainReference element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.FUNCTIONAL_CHAIN_REFERENCE__REFERENCED_FUNCTIONAL_CHAIN)) {
-      ret = getReferencedFunctionalChain(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -48,6 +59,18 @@ public class FunctionalChainReferenceHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = FunctionalChainInvolvementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected FunctionalChain getReferencedFunctionalChain(FunctionalChainReference element) {
     InvolvedElement elt = element.getInvolved();
     if (elt instanceof FunctionalChain) {
@@ -14,11 +14,14 @@
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.ComponentExchange;
 import org.polarsys.capella.core.data.fa.ComponentExchangeFunctionalExchangeAllocation;
 import org.polarsys.capella.core.data.fa.FaPackage;
@@ -43,8 +46,32 @@ import org.polarsys.capella.common.helpers.EObjectExt;
 public class FunctionalExchangeHelper {
   private static FunctionalExchangeHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private FunctionalExchangeHelper() {
-    // do nothing
+    computers.put(FaPackage.Literals.FUNCTIONAL_EXCHANGE__INVOLVING_FUNCTIONAL_CHAINS,
+        element -> getInvolvingFunctionalChains((FunctionalExchange) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_EXCHANGE__ALLOCATING_COMPONENT_EXCHANGES,
+        element -> getAllocatingComponentExchanges((FunctionalExchange) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_EXCHANGE__INCOMING_COMPONENT_EXCHANGE_FUNCTIONAL_EXCHANGE_REALIZATIONS,
+        element -> getIncomingComponentExchangeFunctionalExchangeRealizations((FunctionalExchange) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_EXCHANGE__INCOMING_FUNCTIONAL_EXCHANGE_REALIZATIONS,
+        element -> getIncomingFunctionalExchangeRealizations((FunctionalExchange) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_EXCHANGE__OUTGOING_FUNCTIONAL_EXCHANGE_REALIZATIONS,
+        element -> getOutgoingFunctionalExchangeRealizations((FunctionalExchange) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_EXCHANGE__SOURCE_FUNCTION_OUTPUT_PORT,
+        element -> getSourceFunctionOutputPort((FunctionalExchange) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_EXCHANGE__TARGET_FUNCTION_INPUT_PORT,
+        element -> getTargetFunctionInputPort((FunctionalExchange) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_EXCHANGE__REALIZED_FUNCTIONAL_EXCHANGES,
+        element -> getRealizedFunctionalExchanges((FunctionalExchange) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_EXCHANGE__REALIZING_FUNCTIONAL_EXCHANGES,
+        element -> getRealizingFunctionalExchanges((FunctionalExchange) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_EXCHANGE__CATEGORIES,
+        element -> getCategories((FunctionalExchange) element));
   }
 
   public static FunctionalExchangeHelper getInstance() {
@@ -57,26 +84,9 @@ public class FunctionalExchangeHelper {
   public Object doSwitch(FunctionalExchange element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.FUNCTIONAL_EXCHANGE__INVOLVING_FUNCTIONAL_CHAINS)) {
-      ret = getInvolvingFunctionalChains(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_EXCHANGE__ALLOCATING_COMPONENT_EXCHANGES)) {
-      ret = getAllocatingComponentExchanges(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_EXCHANGE__INCOMING_COMPONENT_EXCHANGE_FUNCTIONAL_EXCHANGE_REALIZATIONS)) {
-      ret = getIncomingComponentExchangeFunctionalExchangeRealizations(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_EXCHANGE__INCOMING_FUNCTIONAL_EXCHANGE_REALIZATIONS)) {
-      ret = getIncomingFunctionalExchangeRealizations(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_EXCHANGE__OUTGOING_FUNCTIONAL_EXCHANGE_REALIZATIONS)) {
-      ret = getOutgoingFunctionalExchangeRealizations(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_EXCHANGE__SOURCE_FUNCTION_OUTPUT_PORT)) {
-      ret = getSourceFunctionOutputPort(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_EXCHANGE__TARGET_FUNCTION_INPUT_PORT)) {
-      ret = getTargetFunctionInputPort(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_EXCHANGE__REALIZED_FUNCTIONAL_EXCHANGES)) {
-      ret = getRealizedFunctionalExchanges(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_EXCHANGE__REALIZING_FUNCTIONAL_EXCHANGES)) {
-      ret = getRealizingFunctionalExchanges(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_EXCHANGE__CATEGORIES)) {
-      ret = getCategories(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -99,6 +109,30 @@ public class FunctionalExchangeHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = NamedElementHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = AbstractTypeHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = InvolvedElementHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = RelationshipHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = AbstractEventOperationHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<EObject> getCategories(FunctionalExchange element) {
     return EObjectExt.getReferencers(element, FaPackage.Literals.EXCHANGE_CATEGORY__EXCHANGES);
   }
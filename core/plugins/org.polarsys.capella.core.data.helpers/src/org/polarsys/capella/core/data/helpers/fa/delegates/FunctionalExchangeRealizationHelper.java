@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.FaPackage;
 import org.polarsys.capella.core.data.fa.FunctionalExchange;
 import org.polarsys.capella.core.data.fa.FunctionalExchangeRealization;
@@ -24,8 +28,16 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class FunctionalExchangeRealizationHelper {
   private static FunctionalExchangeRealizationHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private FunctionalExchangeRealizationHelper() {
-    // do nothing
+    computers.put(FaPackage.Literals.FUNCTIONAL_EXCHANGE_REALIZATION__REALIZING_FUNCTIONAL_EXCHANGE,
+        element -> getRealizingFunctionalExchange((FunctionalExchangeRealization) element));
+    computers.put(FaPackage.Literals.FUNCTIONAL_EXCHANGE_REALIZATION__REALIZED_FUNCTIONAL_EXCHANGE,
+        element -> getRealizedFunctionalExchange((FunctionalExchangeRealization) element));
   }
 
   public static FunctionalExchangeRealizationHelper getInstance() {
@@ -37,10 +49,9 @@ public class FunctionalExchangeRealizationHelper {
   public Object doSwitch(FunctionalExchangeRealization element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.FUNCTIONAL_EXCHANGE_REALIZATION__REALIZING_FUNCTIONAL_EXCHANGE)) {
-      ret = getRealizingFunctionalExchange(element);
-    } else if (feature.equals(FaPackage.Literals.FUNCTIONAL_EXCHANGE_REALIZATION__REALIZED_FUNCTIONAL_EXCHANGE)) {
-      ret = getRealizedFunctionalExchange(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -51,6 +62,18 @@ public class FunctionalExchangeRealizationHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AllocationHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected FunctionalExchange getRealizingFunctionalExchange(FunctionalExchangeRealization element) {
     TraceableElement ret = element.getSourceElement();
     if (ret instanceof FunctionalExchange)
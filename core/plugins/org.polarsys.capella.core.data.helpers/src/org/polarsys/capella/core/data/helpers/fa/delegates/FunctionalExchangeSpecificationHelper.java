@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.fa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.FaPackage;
 import org.polarsys.capella.core.data.fa.FunctionalExchange;
 import org.polarsys.capella.core.data.fa.FunctionalExchangeSpecification;
@@ -26,8 +29,14 @@ import org.polarsys.capella.common.data.modellingcore.AbstractRelationship;
 public class FunctionalExchangeSpecificationHelper {
   private static FunctionalExchangeSpecificationHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private FunctionalExchangeSpecificationHelper() {
-    // do nothing
+    computers.put(FaPackage.Literals.FUNCTIONAL_EXCHANGE_SPECIFICATION__FUNCTIONAL_EXCHANGES,
+        element -> getFunctionalExchanges((FunctionalExchangeSpecification) element));
   }
 
   public static FunctionalExchangeSpecificationHelper getInstance() {
@@ -39,8 +48,9 @@ public class FunctionalExchangeSpecificationHelper {
   public Object doSwitch(FunctionalExchangeSpecification element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(FaPackage.Literals.FUNCTIONAL_EXCHANGE_SPECIFICATION__FUNCTIONAL_EXCHANGES)) {
-      ret = getFunctionalExchanges(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -51,6 +61,18 @@ public class FunctionalExchangeSpecificationHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = ExchangeSpecificationHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<FunctionalExchange> getFunctionalExchanges(FunctionalExchangeSpecification element) {
     List<FunctionalExchange> ret = new ArrayList<>();
 
@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.data.helpers.fa.services;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -41,6 +42,7 @@ import org.polarsys.capella.core.data.fa.FunctionOutputPort;
 import org.polarsys.capella.core.data.fa.FunctionPkg;
 import org.polarsys.capella.core.data.fa.FunctionRealization;
 import org.polarsys.capella.core.data.fa.FunctionalExchange;
+import org.polarsys.capella.core.data.helpers.cache.ModelCache;
 import org.polarsys.capella.core.data.information.Port;
 import org.polarsys.capella.core.data.la.LogicalFunction;
 import org.polarsys.capella.core.data.oa.OperationalActivity;
@@ -212,16 +214,20 @@ public class FunctionExt {
 	 * @return all outgoing exchanges
 	 */
 	public static List<FunctionalExchange> getAllOutgoingExchanges(AbstractFunction function) {
+		// Exchanges are linked to the function or to its pins
+		recordNode(function);
 		if (function.getOwnedFunctions().isEmpty())
 			return getOutGoingExchange(function);
 
 		List<FunctionalExchange> result = getOutGoingExchange(function);
 
 		for (AbstractFunction abstractFunction : function.getOwnedFunctions()) {
-			List<FunctionalExchange> outgoings = getCache(FunctionExt::getAllOutgoingExchanges, abstractFunction);
+			List<FunctionalExchange> outgoings = getCache(FunctionExt::getAllOutgoingExchanges, abstractFunction,
+					RECORDED_READS);
 			for (FunctionalExchange activityEdge : outgoings) {
 				// If the functional exchange of the sub-function goes out of
 				// the scope of the function
+				recordContainers(activityEdge, activityEdge.getTarget(), function);
 				if (!EcoreUtil2.isContainedBy(activityEdge.getTarget(), function))
 					result.add((FunctionalExchange) activityEdge);
 			}
@@ -238,16 +244,20 @@ public class FunctionExt {
 	 * @return all incoming exchanges
 	 */
 	public static List<FunctionalExchange> getAllIncomingExchanges(AbstractFunction function) {
+		// Exchanges are linked to the function or to its pins
+		recordNode(function);
 		if (function.getOwnedFunctions().isEmpty())
 			return getIncomingExchange(function);
 
 		List<FunctionalExchange> result = getIncomingExchange(function);
 
 		for (AbstractFunction abstractFunction : function.getOwnedFunctions()) {
-			List<FunctionalExchange> incomings = getCache(FunctionExt::getAllIncomingExchanges, abstractFunction);
+			List<FunctionalExchange> incomings = getCache(FunctionExt::getAllIncomingExchanges, abstractFunction,
+					RECORDED_READS);
 			for (FunctionalExchange activityEdge : incomings) {
 				// If the functional exchange of the sub-function goes out of
 				// the scope of the function
+				recordContainers(activityEdge, activityEdge.getSource(), function);
 				if (!EcoreUtil2.isContainedBy(activityEdge.getSource(), function))
 					result.add((FunctionalExchange) activityEdge);
 			}
@@ -265,11 +275,37 @@ public class FunctionExt {
 	 */
 	public static List<FunctionalExchange> getAllExchanges(AbstractFunction function) {
 		List<FunctionalExchange> result = new BasicEList<>();
-    result.addAll(getCache(FunctionExt::getAllIncomingExchanges, function));
-    result.addAll(getCache(FunctionExt::getAllOutgoingExchanges, function));
+    result.addAll(getCache(FunctionExt::getAllIncomingExchanges, function, RECORDED_READS));
+    result.addAll(getCache(FunctionExt::getAllOutgoingExchanges, function, RECORDED_READS));
 		return result;
 	}
 
+	/**
+	 * Record, for the cached function being computed, the reads of the function
+	 * and of its pins, whose exchanges are the ones of the function.
+	 */
+	private static void recordNode(AbstractFunction function) {
+		ModelCache.recordRead(function);
+		for (InputPin pin : function.getInputs()) {
+			ModelCache.recordRead(pin);
+		}
+		for (OutputPin pin : function.getOutputs()) {
+			ModelCache.recordRead(pin);
+		}
+	}
+
+	/**
+	 * Record, for the cached function being computed, the reads of the exchange
+	 * and of the containers of its end, up to the given function, checked by
+	 * {@link EcoreUtil2#isContainedBy(EObject, EObject)}.
+	 */
+	private static void recordContainers(FunctionalExchange exchange, EObject end, AbstractFunction function) {
+		ModelCache.recordRead(exchange);
+		for (EObject current = end; (null != current) && (current != function); current = current.eContainer()) {
+			ModelCache.recordRead(current);
+		}
+	}
+
 	/**
 	 * Returns all incoming exchanges of the function.
 	 * 
@@ -425,6 +461,7 @@ public class FunctionExt {
 		List<AbstractFunction> returnedList = new ArrayList<>();
 
 		if (function != null) {
+			ModelCache.recordRead(function);
 			returnedList.add(function);
 
 			for (AbstractFunction anAbstractFunction : function.getOwnedFunctions()) {
@@ -447,7 +484,8 @@ public class FunctionExt {
 	 */
 	public static List<AbstractFunction> getAllLeafAbstractFunctions(AbstractFunction function) {
 		List<AbstractFunction> returnedList = new ArrayList<>();
-		for (AbstractFunction abstractFunction : getCache(FunctionExt::getAllAbstractFunctions, function)) {
+		for (AbstractFunction abstractFunction : getCache(FunctionExt::getAllAbstractFunctions, function,
+				RECORDED_READS)) {
 			if (isLeaf(abstractFunction)) {
 				returnedList.add(abstractFunction);
 			}
@@ -480,6 +518,7 @@ public class FunctionExt {
 	 * @return all abstractFunctions in blockArchitecture
 	 */
 	public static List<AbstractFunction> getAllAbstractFunctions(BlockArchitecture blockArchitecture) {
+		ModelCache.recordRead(blockArchitecture);
 		return FunctionPkgExt.getAllAbstractFunctions(blockArchitecture.getOwnedFunctionPkg());
 	}
 
@@ -571,7 +610,7 @@ public class FunctionExt {
 	public static Collection<FunctionalExchange> getAllOwnedFunctionalExchanges(AbstractFunction function) {
 		EList<FunctionalExchange> functionExchanges = new BasicEList<>();
 
-		List<AbstractFunction> subFunctions = getCache(FunctionExt::getAllAbstractFunctions, function);
+		List<AbstractFunction> subFunctions = getCache(FunctionExt::getAllAbstractFunctions, function, RECORDED_READS);
 		for (AbstractFunction abstractFunction : subFunctions) {
 			functionExchanges.addAll(abstractFunction.getOwnedFunctionalExchanges());
 		}
@@ -14,6 +14,7 @@
 package org.polarsys.capella.core.data.helpers.fa.services;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -24,6 +25,7 @@ import org.polarsys.capella.core.data.ctx.SystemFunctionPkg;
 import org.polarsys.capella.core.data.fa.AbstractFunction;
 import org.polarsys.capella.core.data.fa.ExchangeCategory;
 import org.polarsys.capella.core.data.fa.FunctionPkg;
+import org.polarsys.capella.core.data.helpers.cache.ModelCache;
 import org.polarsys.capella.core.data.la.LogicalFunctionPkg;
 import org.polarsys.capella.core.data.oa.OperationalActivityPkg;
 import org.polarsys.capella.core.data.pa.PhysicalFunctionPkg;
@@ -108,6 +110,8 @@ public class FunctionPkgExt {
   public static Collection<AbstractFunction> getFirstLevelAbstractFunctions(FunctionPkg container) {
     Collection<AbstractFunction> result = new ArrayList<>();
 
+    // Packages are not the parameter of cached sub functions, changes of their contents must invalidate them
+    ModelCache.recordRead(container);
     result.addAll(FunctionPkgExt.getOwnedFunctions(container));
     for (FunctionPkg pkg : FunctionPkgExt.getOwnedFunctionPkgs(container)) {
       result.addAll(getFirstLevelAbstractFunctions(pkg));
@@ -144,12 +148,13 @@ public class FunctionPkgExt {
     List<AbstractFunction> returnedList = new ArrayList<>();
 
     if (functionPkg != null) {
+      ModelCache.recordRead(functionPkg);
       for (AbstractFunction aFunction : getOwnedFunctions(functionPkg)) {
-        returnedList.addAll(getCache(FunctionExt::getAllAbstractFunctions, aFunction));
+        returnedList.addAll(getCache(FunctionExt::getAllAbstractFunctions, aFunction, RECORDED_READS));
       }
 
       for (FunctionPkg aFunctionPkg : getOwnedFunctionPkgs(functionPkg)) {
-        returnedList.addAll(getCache(FunctionPkgExt::getAllAbstractFunctions, aFunctionPkg));
+        returnedList.addAll(getCache(FunctionPkgExt::getAllAbstractFunctions, aFunctionPkg, RECORDED_READS));
       }
     }
 
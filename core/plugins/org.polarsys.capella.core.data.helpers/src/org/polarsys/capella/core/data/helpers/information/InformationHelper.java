@@ -14,9 +14,11 @@
 package org.polarsys.capella.core.data.helpers.information;
 
 import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.model.helpers.HelperNotFoundException;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.common.model.helpers.IHelper;
 import org.polarsys.capella.core.data.capellacore.Structure;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.CapellaElementHelper;
@@ -183,4 +185,86 @@ public class InformationHelper implements IHelper {
 
     throw new HelperNotFoundException();
   }
+
+  @Override
+  public IDerivedFeatureComputer getComputer(EClass eClass, EStructuralFeature feature) {
+    // Same dispatch as getValue, on the instance class
+    Class<?> instanceClass = eClass.getInstanceClass();
+    IDerivedFeatureComputer computer = null;
+    if (ExchangeItemInstance.class.isAssignableFrom(instanceClass)) {
+      computer = AbstractInstanceHelper.getInstance().getComputer(feature);
+    } else if (SignalInstance.class.isAssignableFrom(instanceClass)) {
+      computer = AbstractInstanceHelper.getInstance().getComputer(feature);
+    } else if (Port.class.isAssignableFrom(instanceClass)) {
+      computer = PortHelper.getInstance().getComputer(feature);
+    } else if (PortRealization.class.isAssignableFrom(instanceClass)) {
+      computer = PortRealizationHelper.getInstance().getComputer(feature);
+    } else if (PortAllocation.class.isAssignableFrom(instanceClass)) {
+      computer = PortAllocationHelper.getInstance().getComputer(feature);
+    } else if (Property.class.isAssignableFrom(instanceClass)) {
+      computer = PropertyHelper.getInstance().getComputer(feature);
+    } else if (Association.class.isAssignableFrom(instanceClass)) {
+      computer = NamedRelationshipHelper.getInstance().getComputer(feature);
+    } else if (Union.class.isAssignableFrom(instanceClass)) {
+      computer = UnionHelper.getInstance().getComputer(feature);
+    } else if (Class.class.isAssignableFrom(instanceClass)) {
+      computer = ClassHelper.getInstance().getComputer(feature);
+    } else if (Collection.class.isAssignableFrom(instanceClass)) {
+      computer = CollectionHelper.getInstance().getComputer(feature);
+    } else if (Service.class.isAssignableFrom(instanceClass)) {
+      computer = ServiceHelper.getInstance().getComputer(feature);
+    } else if (ValuePart.class.isAssignableFrom(instanceClass)) {
+      computer = CapellaElementHelper.getInstance().getComputer(feature);
+    } else if (CommunicationItem.class.isAssignableFrom(instanceClass)) {
+      computer = CommunicationItemHelper.getInstance().getComputer(feature);
+    } else if (Parameter.class.isAssignableFrom(instanceClass)) {
+      computer = TypedElementHelper.getInstance().getComputer(feature);
+    } else if (OperationAllocation.class.isAssignableFrom(instanceClass)) {
+      computer = OperationAllocationHelper.getInstance().getComputer(feature);
+    } else if (ExchangeItemRealization.class.isAssignableFrom(instanceClass)) {
+      computer = ExchangeItemRealizationHelper.getInstance().getComputer(feature);
+    } else if (KeyPart.class.isAssignableFrom(instanceClass)) {
+      computer = RelationshipHelper.getInstance().getComputer(feature);
+    } else if (Unit.class.isAssignableFrom(instanceClass)) {
+      computer = NamedElementHelper.getInstance().getComputer(feature);
+    } else if (MessageReference.class.isAssignableFrom(instanceClass)) {
+      computer = RelationshipHelper.getInstance().getComputer(feature);
+    } else if (MessageReferencePkg.class.isAssignableFrom(instanceClass)) {
+      computer = StructureHelper.getInstance().getComputer(feature);
+    } else if (BinaryExpression.class.isAssignableFrom(instanceClass)) {
+      computer = BinaryExpressionHelper.getInstance().getComputer(feature);
+    } else if (UnaryExpression.class.isAssignableFrom(instanceClass)) {
+      computer = UnaryExpressionHelper.getInstance().getComputer(feature);
+    } else if (AbstractBooleanValue.class.isAssignableFrom(instanceClass)) {
+      computer = AbstractBooleanValueHelper.getInstance().getComputer(feature);
+    } else if (AbstractCollectionValue.class.isAssignableFrom(instanceClass)) {
+      computer = AbstractCollectionValueHelper.getInstance().getComputer(feature);
+    } else if (AbstractComplexValue.class.isAssignableFrom(instanceClass)) {
+      computer = AbstractComplexValueHelper.getInstance().getComputer(feature);
+    } else if (AbstractEnumerationValue.class.isAssignableFrom(instanceClass)) {
+      computer = AbstractEnumerationValueHelper.getInstance().getComputer(feature);
+    } else if (NumericValue.class.isAssignableFrom(instanceClass)) {
+      computer = NumericValueHelper.getInstance().getComputer(feature);
+    } else if (AbstractStringValue.class.isAssignableFrom(instanceClass)) {
+      computer = AbstractStringValueHelper.getInstance().getComputer(feature);
+    } else if (DataType.class.isAssignableFrom(instanceClass)) {
+      computer = DataTypeHelper.getInstance().getComputer(feature);
+    } else if (Structure.class.isAssignableFrom(instanceClass)) {
+      computer = StructureHelper.getInstance().getComputer(feature);
+    } else if (ExchangeItem.class.isAssignableFrom(instanceClass)) {
+      computer = ExchangeItemHelper.getInstance().getComputer(feature);
+    } else if (ExchangeItemElement.class.isAssignableFrom(instanceClass)) {
+      computer = ExchangeItemElementHelper.getInstance().getComputer(feature);
+    } else if (InformationRealization.class.isAssignableFrom(instanceClass)) {
+      computer = RelationshipHelper.getInstance().getComputer(feature);
+    } else if (CommunicationLink.class.isAssignableFrom(instanceClass)) {
+      computer = CommunicationLinkHelper.getInstance().getComputer(feature);
+    } else if (CommunicationLinkExchanger.class.isAssignableFrom(instanceClass)) {
+      computer = CommunicationLinkExchangerHelper.getInstance().getComputer(feature);
+    } else if (OpaqueExpression.class.isAssignableFrom(instanceClass)) {
+      computer = OpaqueExpressionHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
 }
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.information.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.information.datatype.BooleanType;
 import org.polarsys.capella.core.data.information.datavalue.AbstractBooleanValue;
 import org.polarsys.capella.core.data.information.datavalue.DatavaluePackage;
@@ -24,8 +28,14 @@ public class AbstractBooleanValueHelper {
 
   private static AbstractBooleanValueHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private AbstractBooleanValueHelper() {
-    // Do nothing
+    computers.put(DatavaluePackage.Literals.ABSTRACT_BOOLEAN_VALUE__BOOLEAN_TYPE,
+        element -> getBooleanType((AbstractBooleanValue) element));
   }
 
   public static AbstractBooleanValueHelper getInstance() {
@@ -37,14 +47,27 @@ public class AbstractBooleanValueHelper {
 
   public Object doSwitch(AbstractBooleanValue element, EStructuralFeature feature) {
 
-    if (feature.equals(DatavaluePackage.Literals.ABSTRACT_BOOLEAN_VALUE__BOOLEAN_TYPE)) {
-      return getBooleanType(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      return computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
     return DataValueHelper.getInstance().doSwitch(element, feature);
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = DataValueHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected BooleanType getBooleanType(AbstractBooleanValue element) {
     AbstractType absType = element.getAbstractType();
     if (absType instanceof BooleanType) {
@@ -15,6 +15,7 @@ package org.polarsys.capella.core.data.helpers.information.delegates;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.information.AbstractCollectionValue;
 
 public class AbstractCollectionValueHelper {
@@ -36,4 +37,12 @@ public class AbstractCollectionValueHelper {
     // no helper found... searching in super classes...
     return DataValueHelper.getInstance().doSwitch(element, feature);
   }
+
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    return DataValueHelper.getInstance().getComputer(feature);
+  }
 }
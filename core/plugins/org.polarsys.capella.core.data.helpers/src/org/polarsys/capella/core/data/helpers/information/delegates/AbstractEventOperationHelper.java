@@ -14,12 +14,15 @@
 package org.polarsys.capella.core.data.helpers.information.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedElementHelper;
 import org.polarsys.capella.core.data.information.AbstractEventOperation;
 import org.polarsys.capella.core.data.information.InformationPackage;
@@ -29,8 +32,14 @@ import org.polarsys.capella.core.data.interaction.SequenceMessage;
 public class AbstractEventOperationHelper {
 	private static AbstractEventOperationHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private AbstractEventOperationHelper() {
-    // do nothing
+		computers.put(InformationPackage.Literals.ABSTRACT_EVENT_OPERATION__INVOKING_SEQUENCE_MESSAGES,
+				element -> getInvokingSequenceMessages((AbstractEventOperation) element));
 	}
 
 	public static AbstractEventOperationHelper getInstance(){
@@ -42,8 +51,9 @@ public class AbstractEventOperationHelper {
 	public Object doSwitch(AbstractEventOperation element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(InformationPackage.Literals.ABSTRACT_EVENT_OPERATION__INVOKING_SEQUENCE_MESSAGES)) {
-			ret = getInvokingSequenceMessages(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -54,6 +64,18 @@ public class AbstractEventOperationHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	/**
 	 * 
 	 */
@@ -14,12 +14,15 @@
 package org.polarsys.capella.core.data.helpers.information.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.information.AbstractInstance;
 import org.polarsys.capella.core.data.information.InformationPackage;
 import org.polarsys.capella.core.data.interaction.InstanceRole;
@@ -28,8 +31,14 @@ import org.polarsys.capella.core.data.interaction.InteractionPackage;
 public class AbstractInstanceHelper {
 	private static AbstractInstanceHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private AbstractInstanceHelper() {
-    // do nothing
+		computers.put(InformationPackage.Literals.ABSTRACT_INSTANCE__REPRESENTING_INSTANCE_ROLES,
+				element -> getRepresentingInstanceRoles((AbstractInstance) element));
 	}
 
 	public static AbstractInstanceHelper getInstance(){
@@ -41,8 +50,9 @@ public class AbstractInstanceHelper {
 	public Object doSwitch(AbstractInstance element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(InformationPackage.Literals.ABSTRACT_INSTANCE__REPRESENTING_INSTANCE_ROLES)) {
-			ret = getRepresentingInstanceRoles(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -53,6 +63,18 @@ public class AbstractInstanceHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = PropertyHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	/**
 	 * 
 	 */
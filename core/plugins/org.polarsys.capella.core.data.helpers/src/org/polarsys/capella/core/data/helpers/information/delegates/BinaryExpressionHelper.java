@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.information.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.information.services.DataValueNamingHelper;
 import org.polarsys.capella.core.data.information.datavalue.BinaryExpression;
 import org.polarsys.capella.core.data.information.datavalue.BinaryOperator;
@@ -23,8 +27,14 @@ import org.polarsys.capella.core.data.information.datavalue.DatavaluePackage;
 public class BinaryExpressionHelper {
   private static BinaryExpressionHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private BinaryExpressionHelper() {
-    // Do nothing
+    computers.put(DatavaluePackage.Literals.ABSTRACT_EXPRESSION_VALUE__EXPRESSION,
+        element -> getExpression((BinaryExpression) element));
   }
 
   public static BinaryExpressionHelper getInstance() {
@@ -36,14 +46,27 @@ public class BinaryExpressionHelper {
 
   public Object doSwitch(BinaryExpression element, EStructuralFeature feature) {
 
-    if (feature.equals(DatavaluePackage.Literals.ABSTRACT_EXPRESSION_VALUE__EXPRESSION)) {
-      return getExpression(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      return computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
     return AbstractExpressionValueHelper.getInstance().doSwitch(element, feature);
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AbstractExpressionValueHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected String getExpression(BinaryExpression element) {
     // If operator is the UNSET one, we directly use the unparsed expression.
     if (BinaryOperator.UNSET.equals(element.getOperator())) {
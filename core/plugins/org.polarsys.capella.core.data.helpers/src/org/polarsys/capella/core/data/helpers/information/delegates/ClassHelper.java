@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.information.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.GeneralClassHelper;
 import org.polarsys.capella.core.data.information.Class;
 import org.polarsys.capella.core.data.information.InformationPackage;
@@ -29,11 +32,18 @@ public class ClassHelper {
 
 	private static ClassHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   /**
    *
    */
 	private ClassHelper() {
-    // do nothing
+		computers.put(InformationPackage.Literals.CLASS__REALIZED_CLASSES, element -> getRealizedClasses((Class) element));
+		computers.put(InformationPackage.Literals.CLASS__REALIZING_CLASSES,
+				element -> getRealizingClasses((Class) element));
 	}
 
   /**
@@ -51,11 +61,10 @@ public class ClassHelper {
 	public Object doSwitch(Class element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(InformationPackage.Literals.CLASS__REALIZED_CLASSES)) {
-      ret = getRealizedClasses(element);
-    } else if (feature.equals(InformationPackage.Literals.CLASS__REALIZING_CLASSES)) {
-      ret = getRealizingClasses(element);
-    }
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
+		}
 
 		// no helper found... searching in super classes...
 		if(null == ret) {
@@ -65,6 +74,18 @@ public class ClassHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = GeneralClassHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   /**
    *
    */
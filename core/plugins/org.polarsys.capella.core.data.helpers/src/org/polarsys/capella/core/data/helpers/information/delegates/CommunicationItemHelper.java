@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.information.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.ClassifierHelper;
 import org.polarsys.capella.core.data.information.Property;
 import org.polarsys.capella.core.data.information.communication.CommunicationItem;
@@ -27,8 +30,14 @@ import org.polarsys.capella.core.data.capellacore.Feature;
 public class CommunicationItemHelper {
 	private static CommunicationItemHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private CommunicationItemHelper() {
-    // do nothing
+		computers.put(CommunicationPackage.Literals.COMMUNICATION_ITEM__PROPERTIES,
+				element -> getProperties((CommunicationItem) element));
 	}
 
 	public static CommunicationItemHelper getInstance(){
@@ -40,8 +49,9 @@ public class CommunicationItemHelper {
 	public Object doSwitch(CommunicationItem element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(CommunicationPackage.Literals.COMMUNICATION_ITEM__PROPERTIES)) {
-			ret = getProperties(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -52,6 +62,18 @@ public class CommunicationItemHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = ClassifierHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected List<Property> getProperties(CommunicationItem element) {
 		List <Property> ret = new ArrayList <>();
 		for (Feature feature : element.getOwnedFeatures()) {
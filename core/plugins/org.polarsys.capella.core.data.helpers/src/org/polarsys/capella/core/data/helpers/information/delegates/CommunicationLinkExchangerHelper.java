@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.information.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.information.communication.CommunicationLink;
 import org.polarsys.capella.core.data.information.communication.CommunicationLinkExchanger;
 import org.polarsys.capella.core.data.information.communication.CommunicationLinkKind;
@@ -29,8 +32,32 @@ import org.polarsys.capella.core.data.information.communication.CommunicationPac
 public class CommunicationLinkExchangerHelper {
   private static CommunicationLinkExchangerHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private CommunicationLinkExchangerHelper() {
-    //
+    computers.put(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__PRODUCE,
+        element -> getProduce((CommunicationLinkExchanger) element));
+    computers.put(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__CONSUME,
+        element -> getConsume((CommunicationLinkExchanger) element));
+    computers.put(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__SEND,
+        element -> getSend((CommunicationLinkExchanger) element));
+    computers.put(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__RECEIVE,
+        element -> getReceive((CommunicationLinkExchanger) element));
+    computers.put(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__CALL,
+        element -> getCall((CommunicationLinkExchanger) element));
+    computers.put(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__EXECUTE,
+        element -> getExecute((CommunicationLinkExchanger) element));
+    computers.put(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__WRITE,
+        element -> getWrite((CommunicationLinkExchanger) element));
+    computers.put(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__ACCESS,
+        element -> getAccess((CommunicationLinkExchanger) element));
+    computers.put(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__ACQUIRE,
+        element -> getAcquire((CommunicationLinkExchanger) element));
+    computers.put(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__TRANSMIT,
+        element -> getTransmit((CommunicationLinkExchanger) element));
   }
 
   public static CommunicationLinkExchangerHelper getInstance() {
@@ -41,30 +68,21 @@ public class CommunicationLinkExchangerHelper {
 
   public Object doSwitch(CommunicationLinkExchanger element, EStructuralFeature feature) {
     Object ret = null;
-    if (feature.equals(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__PRODUCE)) {
-      ret = getProduce(element);
-    } else if (feature.equals(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__CONSUME)) {
-      ret = getConsume(element);
-    } else if (feature.equals(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__SEND)) {
-      ret = getSend(element);
-    } else if (feature.equals(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__RECEIVE)) {
-      ret = getReceive(element);
-    } else if (feature.equals(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__CALL)) {
-      ret = getCall(element);
-    } else if (feature.equals(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__EXECUTE)) {
-      ret = getExecute(element);
-    } else if (feature.equals(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__WRITE)) {
-      ret = getWrite(element);
-    } else if (feature.equals(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__ACCESS)) {
-      ret = getAccess(element);
-    } else if (feature.equals(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__ACQUIRE)) {
-      ret = getAcquire(element);
-    } else if (feature.equals(CommunicationPackage.Literals.COMMUNICATION_LINK_EXCHANGER__TRANSMIT)) {
-      ret = getTransmit(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    return computers.get(feature);
+  }
+
   protected List<CommunicationLink> getProduce(CommunicationLinkExchanger element) {
     return getLinks(element, CommunicationLinkKind.PRODUCE);
   }
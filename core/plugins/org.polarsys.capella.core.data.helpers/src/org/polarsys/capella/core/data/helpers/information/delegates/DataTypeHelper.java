@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.information.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.GeneralizableElementHelper;
 import org.polarsys.capella.core.data.information.InformationRealization;
 import org.polarsys.capella.core.data.information.datatype.BooleanType;
@@ -34,8 +37,18 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class DataTypeHelper {
 	private static DataTypeHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private DataTypeHelper() {
-    // do nothing
+		computers.put(DatatypePackage.Literals.DATA_TYPE__REALIZED_DATA_TYPES,
+				element -> getRealizedDataTypes((DataType) element));
+		computers.put(DatatypePackage.Literals.DATA_TYPE__REALIZING_DATA_TYPES,
+				element -> getRealizingDataTypes((DataType) element));
+		computers.put(DatatypePackage.Literals.DATA_TYPE__DEFAULT_VALUE, element -> getDefaultValue((DataType) element));
+		computers.put(DatatypePackage.Literals.DATA_TYPE__NULL_VALUE, element -> getNullValue((DataType) element));
 	}
 
 	public static DataTypeHelper getInstance(){
@@ -47,15 +60,10 @@ public class DataTypeHelper {
 	public Object doSwitch(DataType element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(DatatypePackage.Literals.DATA_TYPE__REALIZED_DATA_TYPES)) {
-      ret = getRealizedDataTypes(element);
-    } else if (feature.equals(DatatypePackage.Literals.DATA_TYPE__REALIZING_DATA_TYPES)) {
-      ret = getRealizingDataTypes(element);
-    } else if (feature.equals(DatatypePackage.Literals.DATA_TYPE__DEFAULT_VALUE)) {
-			ret = getDefaultValue(element);
-		} else if (feature.equals(DatatypePackage.Literals.DATA_TYPE__NULL_VALUE)) {
-			ret = getNullValue(element);
-		}
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
+    }
 
 		// no helper found... searching in super classes...
 		if (null == ret) {
@@ -63,6 +71,18 @@ public class DataTypeHelper {
 		}		
 
 		return ret;
+	}
+
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = GeneralizableElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
 	}	
 
   /**
@@ -13,9 +13,13 @@
 
 package org.polarsys.capella.core.data.helpers.information.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.apache.log4j.Logger;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.common.tools.report.config.registry.ReportManagerRegistry;
 import org.polarsys.capella.common.tools.report.util.IReportManagerDefaultComponents;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedElementHelper;
@@ -33,8 +37,13 @@ public class DataValueHelper {
 
   private static DataValueHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private DataValueHelper() {
-    // do nothing
+    computers.put(DatavaluePackage.Literals.DATA_VALUE__TYPE, element -> getType((DataValue) element));
   }
 
   public static DataValueHelper getInstance() {
@@ -46,14 +55,27 @@ public class DataValueHelper {
 
   public Object doSwitch(DataValue element, EStructuralFeature feature) {
 
-    if (feature.equals(DatavaluePackage.Literals.DATA_VALUE__TYPE)) {
-      return getType(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      return computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
     return NamedElementHelper.getInstance().doSwitch(element, feature);
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = NamedElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected Type getType(DataValue element) {
     AbstractType absType = element.getAbstractType();
     if (absType instanceof Type) {
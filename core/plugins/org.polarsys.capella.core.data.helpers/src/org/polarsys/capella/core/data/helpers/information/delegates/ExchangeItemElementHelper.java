@@ -15,6 +15,7 @@ package org.polarsys.capella.core.data.helpers.information.delegates;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.TypedElementHelper;
 import org.polarsys.capella.core.data.information.ExchangeItemElement;
 
@@ -38,4 +39,12 @@ public class ExchangeItemElementHelper {
 	  // no helper found... searching in super classes...
 	  return TypedElementHelper.getInstance().doSwitch(element, feature);
   }
+
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    return TypedElementHelper.getInstance().getComputer(feature);
+  }
 }
@@ -14,12 +14,15 @@
 package org.polarsys.capella.core.data.helpers.information.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.CsPackage;
 import org.polarsys.capella.core.data.cs.ExchangeItemAllocation;
 import org.polarsys.capella.core.data.cs.Interface;
@@ -35,9 +38,21 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 
 public class ExchangeItemHelper {
 	private static ExchangeItemHelper instance;
+
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
 	
 	private ExchangeItemHelper() {
-	  //
+		computers.put(InformationPackage.Literals.EXCHANGE_ITEM__REALIZED_EXCHANGE_ITEMS,
+				element -> getRealizedExchangeItems((ExchangeItem) element));
+		computers.put(InformationPackage.Literals.EXCHANGE_ITEM__REALIZING_EXCHANGE_ITEMS,
+				element -> getRealizingExchangeItems((ExchangeItem) element));
+		computers.put(InformationPackage.Literals.EXCHANGE_ITEM__REALIZING_OPERATIONS,
+				element -> getRealizingOperations((ExchangeItem) element));
+		computers.put(InformationPackage.Literals.EXCHANGE_ITEM__ALLOCATOR_INTERFACES,
+				element -> getAllocatorInterfaces((ExchangeItem) element));
 	}
 	
 	public static ExchangeItemHelper getInstance(){
@@ -49,15 +64,10 @@ public class ExchangeItemHelper {
 	public Object doSwitch(ExchangeItem element, EStructuralFeature feature){
 		Object ret = null;
 
-		if (feature.equals(InformationPackage.Literals.EXCHANGE_ITEM__REALIZED_EXCHANGE_ITEMS)) {
-      ret = getRealizedExchangeItems(element);
-    } else if (feature.equals(InformationPackage.Literals.EXCHANGE_ITEM__REALIZING_EXCHANGE_ITEMS)) {
-      ret = getRealizingExchangeItems(element);
-    } else if (feature.equals(InformationPackage.Literals.EXCHANGE_ITEM__REALIZING_OPERATIONS)) {
-      ret = getRealizingOperations(element);
-    } else if (feature.equals(InformationPackage.Literals.EXCHANGE_ITEM__ALLOCATOR_INTERFACES)) {
-      ret = getAllocatorInterfaces(element);
-    }
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
+		}
 
     // no helper found... searching in super classes...
 		if(null == ret) {
@@ -66,6 +76,18 @@ public class ExchangeItemHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = GeneralizableElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   /**
    *
    */
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.information.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.AllocationHelper;
 import org.polarsys.capella.core.data.information.ExchangeItemRealization;
 import org.polarsys.capella.core.data.information.InformationPackage;
@@ -25,8 +29,16 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class ExchangeItemRealizationHelper {
 	private static ExchangeItemRealizationHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private ExchangeItemRealizationHelper() {
-    // do nothing
+		computers.put(InformationPackage.Literals.EXCHANGE_ITEM_REALIZATION__REALIZED_ITEM,
+				element -> getRealizedItem((ExchangeItemRealization) element));
+		computers.put(InformationPackage.Literals.EXCHANGE_ITEM_REALIZATION__REALIZING_OPERATION,
+				element -> getRealizingOperation((ExchangeItemRealization) element));
 	}
 
 	public static ExchangeItemRealizationHelper getInstance() {
@@ -38,11 +50,9 @@ public class ExchangeItemRealizationHelper {
 	public Object doSwitch(ExchangeItemRealization element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(InformationPackage.Literals.EXCHANGE_ITEM_REALIZATION__REALIZED_ITEM)) {
-			ret = getRealizedItem(element);
-		}
-		else if (feature.equals(InformationPackage.Literals.EXCHANGE_ITEM_REALIZATION__REALIZING_OPERATION)) {
-			ret = getRealizingOperation(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		} 
 
     // no helper found... searching in super classes...
@@ -53,6 +63,18 @@ public class ExchangeItemRealizationHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AllocationHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected AbstractExchangeItem getRealizedItem(ExchangeItemRealization element) {
 		TraceableElement ret = element.getTargetElement();
 		if( ret instanceof AbstractExchangeItem)
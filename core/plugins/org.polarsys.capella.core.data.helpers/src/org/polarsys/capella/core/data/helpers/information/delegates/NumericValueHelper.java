@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.information.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.information.datatype.NumericType;
 import org.polarsys.capella.core.data.information.datavalue.DatavaluePackage;
 import org.polarsys.capella.core.data.information.datavalue.NumericValue;
@@ -24,8 +28,14 @@ public class NumericValueHelper {
 
   private static NumericValueHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private NumericValueHelper() {
-    // do nothing
+    computers.put(DatavaluePackage.Literals.NUMERIC_VALUE__NUMERIC_TYPE,
+        element -> getNumericType((NumericValue) element));
   }
 
   public static NumericValueHelper getInstance() {
@@ -37,14 +47,27 @@ public class NumericValueHelper {
 
   public Object doSwitch(NumericValue element, EStructuralFeature feature) {
 
-    if (feature.equals(DatavaluePackage.Literals.NUMERIC_VALUE__NUMERIC_TYPE)) {
-      return getNumericType(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      return computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
       return DataValueHelper.getInstance().doSwitch(element, feature);
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = DataValueHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected NumericType getNumericType(NumericValue element) {
     AbstractType absType = element.getAbstractType();
     if (absType instanceof NumericType) {
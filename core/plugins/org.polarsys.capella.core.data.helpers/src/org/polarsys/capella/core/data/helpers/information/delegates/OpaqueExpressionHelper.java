@@ -15,6 +15,7 @@ package org.polarsys.capella.core.data.helpers.information.delegates;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.helpers.modellingcore.delegates.ValueSpecificationHelper;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.CapellaElementHelper;
 import org.polarsys.capella.core.data.information.datavalue.OpaqueExpression;
 
@@ -41,4 +42,16 @@ public class OpaqueExpressionHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = CapellaElementHelper.getInstance().getComputer(feature);
+    if (null == computer) {
+      computer = ValueSpecificationHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
 }
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.information.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.FeatureHelper;
 import org.polarsys.capella.core.data.information.ExchangeItem;
 import org.polarsys.capella.core.data.information.ExchangeItemRealization;
@@ -31,8 +34,18 @@ import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 public class OperationHelper {
 	private static OperationHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private OperationHelper() {
-    // do nothing
+		computers.put(InformationPackage.Literals.OPERATION__ALLOCATED_OPERATIONS,
+				element -> getAllocatedOperations((Operation) element));
+		computers.put(InformationPackage.Literals.OPERATION__ALLOCATING_OPERATIONS,
+				element -> getAllocatingOperations((Operation) element));
+		computers.put(InformationPackage.Literals.OPERATION__REALIZED_EXCHANGE_ITEMS,
+				element -> getRealizedExchangeItems((Operation) element));
 	}
 
 	public static OperationHelper getInstance() {
@@ -44,12 +57,9 @@ public class OperationHelper {
 	public Object doSwitch(Operation element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(InformationPackage.Literals.OPERATION__ALLOCATED_OPERATIONS)) {
-			return ret = getAllocatedOperations(element);
-		} else if (feature.equals(InformationPackage.Literals.OPERATION__ALLOCATING_OPERATIONS)) {
-			return ret = getAllocatingOperations(element);
-    } else if (feature.equals(InformationPackage.Literals.OPERATION__REALIZED_EXCHANGE_ITEMS)) {
-      ret = getRealizedExchangeItems(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		} 
 
     // no helper found... searching in super classes...
@@ -66,6 +76,24 @@ public class OperationHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = FeatureHelper.getInstance().getComputer(feature);
+		}
+		if (null == computer) {
+			computer = AbstractTypeHelper.getInstance().getComputer(feature);
+		}
+		if (null == computer) {
+			computer = AbstractEventOperationHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   /**
    *
    */
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.information.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.AllocationHelper;
 import org.polarsys.capella.core.data.information.InformationPackage;
 import org.polarsys.capella.core.data.information.Port;
@@ -24,8 +28,16 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class PortAllocationHelper {
 	private static PortAllocationHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private PortAllocationHelper() {
-    // do nothing
+		computers.put(InformationPackage.Literals.PORT_ALLOCATION__ALLOCATED_PORT,
+				element -> getAllocatedPort((PortAllocation) element));
+		computers.put(InformationPackage.Literals.PORT_ALLOCATION__ALLOCATING_PORT,
+				element -> getAllocatingPort((PortAllocation) element));
 	}
 
 	public static PortAllocationHelper getInstance() {
@@ -37,11 +49,9 @@ public class PortAllocationHelper {
 	public Object doSwitch(PortAllocation element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(InformationPackage.Literals.PORT_ALLOCATION__ALLOCATED_PORT)) {
-			ret = getAllocatedPort(element);
-		}
-		else if (feature.equals(InformationPackage.Literals.PORT_ALLOCATION__ALLOCATING_PORT)) {
-			ret = getAllocatingPort(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		} 
 
 		// no helper found... searching in super classes...
@@ -52,6 +62,18 @@ public class PortAllocationHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AllocationHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected Port getAllocatingPort(PortAllocation element) {
 		TraceableElement ret = element.getSourceElement();
 		if(ret instanceof Port)
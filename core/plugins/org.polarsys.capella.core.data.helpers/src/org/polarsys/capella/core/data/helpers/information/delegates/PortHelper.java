@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.information.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedElementHelper;
 import org.polarsys.capella.core.data.information.InformationPackage;
 import org.polarsys.capella.core.data.information.Port;
@@ -27,9 +30,21 @@ import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 
 public class PortHelper {
 	private static PortHelper instance;
+
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
 	
 	private PortHelper() {
-    // do nothing
+		computers.put(InformationPackage.Literals.PORT__INCOMING_PORT_REALIZATIONS,
+				element -> getIncomingPortRealizations((Port) element));
+		computers.put(InformationPackage.Literals.PORT__OUTGOING_PORT_REALIZATIONS,
+				element -> getOutgoingPortRealizations((Port) element));
+		computers.put(InformationPackage.Literals.PORT__INCOMING_PORT_ALLOCATIONS,
+				element -> getIncomingPortAllocations((Port) element));
+		computers.put(InformationPackage.Literals.PORT__OUTGOING_PORT_ALLOCATIONS,
+				element -> getOutgoingPortAllocations((Port) element));
 	}
 	
 	public static PortHelper getInstance(){
@@ -41,17 +56,9 @@ public class PortHelper {
 	public Object doSwitch(Port element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(InformationPackage.Literals.PORT__INCOMING_PORT_REALIZATIONS)) {
-			ret = getIncomingPortRealizations(element);
-		}
-		else if (feature.equals(InformationPackage.Literals.PORT__OUTGOING_PORT_REALIZATIONS)) {
-			ret = getOutgoingPortRealizations(element);
-		}
-		else if (feature.equals(InformationPackage.Literals.PORT__INCOMING_PORT_ALLOCATIONS)) {
-			ret = getIncomingPortAllocations(element);
-		}
-		else if (feature.equals(InformationPackage.Literals.PORT__OUTGOING_PORT_ALLOCATIONS)) {
-			ret = getOutgoingPortAllocations(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -62,6 +69,18 @@ public class PortHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected List<PortAllocation> getIncomingPortAllocations(Port element){
 		List<AbstractTrace> traces = element.getIncomingTraces();
 		List<PortAllocation> ret = new ArrayList<>();
@@ -14,9 +14,12 @@
 package org.polarsys.capella.core.data.helpers.information.delegates;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.TypedElementHelper;
 import org.polarsys.capella.core.data.information.Association;
 import org.polarsys.capella.core.data.information.InformationPackage;
@@ -25,7 +28,13 @@ import org.polarsys.capella.core.data.information.Property;
 public class PropertyHelper {
   private static PropertyHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private PropertyHelper() {
+    computers.put(InformationPackage.Literals.PROPERTY__ASSOCIATION, element -> getAssociation((Property) element));
   }
 
   public static PropertyHelper getInstance() {
@@ -38,8 +47,9 @@ public class PropertyHelper {
   public Object doSwitch(Property element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(InformationPackage.Literals.PROPERTY__ASSOCIATION)) {
-      ret = getAssociation(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -50,6 +60,18 @@ public class PropertyHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = TypedElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected Association getAssociation(Property element) {
     Collection<Association> assocations = EObjectExt.getReferencers(element, InformationPackage.Literals.ASSOCIATION__NAVIGABLE_MEMBERS);
     if (!assocations.isEmpty()) {
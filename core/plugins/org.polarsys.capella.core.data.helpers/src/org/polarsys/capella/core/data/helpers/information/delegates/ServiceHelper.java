@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.information.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.information.InformationPackage;
 import org.polarsys.capella.core.data.information.Service;
 import org.polarsys.capella.core.data.information.communication.Message;
@@ -26,8 +29,13 @@ import org.polarsys.capella.core.data.information.communication.MessageReference
 public class ServiceHelper {
 	private static ServiceHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private ServiceHelper() {
-	  // do nothing
+		computers.put(InformationPackage.Literals.SERVICE__MESSAGES, element -> getMessages((Service) element));
 	}
 
 	public static ServiceHelper getInstance(){
@@ -39,8 +47,9 @@ public class ServiceHelper {
 	public Object doSwitch(Service element, EStructuralFeature feature) {
 		Object ret = null;
 		
-		if (feature.equals(InformationPackage.Literals.SERVICE__MESSAGES)) {
-			ret = getMessages(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -50,6 +59,18 @@ public class ServiceHelper {
 
 		return ret;
 	}
+
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = OperationHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
 	
 	protected List<Message> getMessages(Service element){
 		List<MessageReference> refs = element.getMessageReferences();
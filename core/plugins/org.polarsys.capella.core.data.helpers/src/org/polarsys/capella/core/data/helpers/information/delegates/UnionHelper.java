@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.information.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.information.InformationPackage;
 import org.polarsys.capella.core.data.information.Union;
 import org.polarsys.capella.core.data.information.UnionProperty;
@@ -26,6 +29,16 @@ import org.polarsys.capella.core.data.capellacore.Feature;
 public class UnionHelper {
 	private static UnionHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
+	private UnionHelper() {
+		computers.put(InformationPackage.Literals.UNION__CONTAINED_UNION_PROPERTIES,
+				element -> getContainedUnionProperties((Union) element));
+	}
+
 	public static UnionHelper getInstance(){
 		if(instance == null)
 			instance = new UnionHelper();
@@ -35,8 +48,9 @@ public class UnionHelper {
 	public Object doSwitch(Union element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(InformationPackage.Literals.UNION__CONTAINED_UNION_PROPERTIES)) {
-      ret = getContainedUnionProperties(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -45,6 +59,18 @@ public class UnionHelper {
 		}		
 
 		return ret;
+	}
+
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = ClassHelper.getInstance().getComputer(feature);
+		}
+		return computer;
 	}	
 
   protected List <UnionProperty> getContainedUnionProperties(Union element){
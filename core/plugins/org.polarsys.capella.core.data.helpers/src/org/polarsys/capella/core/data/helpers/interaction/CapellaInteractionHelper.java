@@ -14,9 +14,11 @@
 package org.polarsys.capella.core.data.helpers.interaction;
 
 import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.model.helpers.HelperNotFoundException;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.common.model.helpers.IHelper;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.CapellaElementHelper;
@@ -154,4 +156,70 @@ public class CapellaInteractionHelper implements IHelper {
 
     throw new HelperNotFoundException();
   }
+
+  @Override
+  public IDerivedFeatureComputer getComputer(EClass eClass, EStructuralFeature feature) {
+    // Same dispatch as getValue, on the instance class
+    Class<?> instanceClass = eClass.getInstanceClass();
+    IDerivedFeatureComputer computer = null;
+    if (AbstractCapabilityRealization.class.isAssignableFrom(instanceClass)) {
+      computer = AbstractCapabilityRealizationHelper.getInstance().getComputer(feature);
+    } else if (AbstractCapability.class.isAssignableFrom(instanceClass)) {
+      computer = AbstractCapabilityHelper.getInstance().getComputer(feature);
+    } else if (Scenario.class.isAssignableFrom(instanceClass)) {
+      computer = ScenarioHelper.getInstance().getComputer(feature);
+    } else if (InteractionOperand.class.isAssignableFrom(instanceClass)) {
+      computer = NamedElementHelper.getInstance().getComputer(feature);
+    } else if (InteractionState.class.isAssignableFrom(instanceClass)) {
+      computer = InteractionStateHelper.getInstance().getComputer(feature);
+    } else if (FragmentEnd.class.isAssignableFrom(instanceClass)) {
+      computer = FragmentEndHelper.getInstance().getComputer(feature);
+    } else if (Gate.class.isAssignableFrom(instanceClass)) {
+      computer = MessageEndHelper.getInstance().getComputer(feature);
+    } else if (MessageEnd.class.isAssignableFrom(instanceClass)) {
+      computer = MessageEndHelper.getInstance().getComputer(feature);
+    } else if (ExecutionEnd.class.isAssignableFrom(instanceClass)) {
+      computer = ExecutionEndHelper.getInstance().getComputer(feature);
+    } else if (InteractionUse.class.isAssignableFrom(instanceClass)) {
+      computer = InteractionUseHelper.getInstance().getComputer(feature);
+    } else if (CombinedFragment.class.isAssignableFrom(instanceClass)) {
+      computer = CombinedFragmentHelper.getInstance().getComputer(feature);
+    } else if (StateFragment.class.isAssignableFrom(instanceClass)) {
+      computer = NamedElementHelper.getInstance().getComputer(feature);
+    } else if (SequenceMessage.class.isAssignableFrom(instanceClass)) {
+      computer = SequenceMessageHelper.getInstance().getComputer(feature);
+    } else if (InstanceRole.class.isAssignableFrom(instanceClass)) {
+      computer = InstanceRoleHelper.getInstance().getComputer(feature);
+    } else if (Event.class.isAssignableFrom(instanceClass)) {
+      computer = EventHelper.getInstance().getComputer(feature);
+    } else if (Execution.class.isAssignableFrom(instanceClass)) {
+      computer = ExecutionHelper.getInstance().getComputer(feature);
+    } else if (RefinementLink.class.isAssignableFrom(instanceClass)) {
+      computer = TraceHelper.getInstance().getComputer(feature);
+    } else if (MergeLink.class.isAssignableFrom(instanceClass)) {
+      computer = TraceHelper.getInstance().getComputer(feature);
+    } else if (AbstractCapabilityExtensionPoint.class.isAssignableFrom(instanceClass)) {
+      computer = AbstractCapabilityExtensionPointHelper.getInstance().getComputer(feature);
+    } else if (AbstractCapabilityExtend.class.isAssignableFrom(instanceClass)) {
+      computer = AbstractCapabilityExtendHelper.getInstance().getComputer(feature);
+    } else if (AbstractCapabilityInclude.class.isAssignableFrom(instanceClass)) {
+      computer = AbstractCapabilityIncludeHelper.getInstance().getComputer(feature);
+    } else if (AbstractCapabilityGeneralization.class.isAssignableFrom(instanceClass)) {
+      computer = AbstractCapabilityGeneralizationHelper.getInstance().getComputer(feature);
+    } else if (AbstractFunctionAbstractCapabilityInvolvement.class.isAssignableFrom(instanceClass)) {
+      computer = AbstractFunctionAbstractCapabilityInvolvementHelper.getInstance().getComputer(feature);
+    } else if (FunctionalChainAbstractCapabilityInvolvement.class.isAssignableFrom(instanceClass)) {
+      computer = FunctionalChainAbstractCapabilityInvolvementHelper.getInstance().getComputer(feature);
+    } else if (ScenarioRealization.class.isAssignableFrom(instanceClass)) {
+      computer = ScenarioRealizationHelper.getInstance().getComputer(feature);
+    } else if (ConstraintDuration.class.isAssignableFrom(instanceClass)) {
+      computer = NamedElementHelper.getInstance().getComputer(feature);
+    } else if (TimeLapse.class.isAssignableFrom(instanceClass)) {
+      computer = NamedElementHelper.getInstance().getComputer(feature);
+    } else if (SequenceMessageValuation.class.isAssignableFrom(instanceClass)) {
+      computer = CapellaElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
 }
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.interaction.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.RelationshipHelper;
 import org.polarsys.capella.core.data.interaction.AbstractCapability;
 import org.polarsys.capella.core.data.interaction.AbstractCapabilityExtend;
@@ -24,8 +28,14 @@ public class AbstractCapabilityExtendHelper {
 	
 	private static AbstractCapabilityExtendHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private AbstractCapabilityExtendHelper() {
-    // do nothing
+		computers.put(InteractionPackage.Literals.ABSTRACT_CAPABILITY_EXTEND__EXTENSION,
+				element -> getExtension((AbstractCapabilityExtend) element));
 	}
 
 	public static AbstractCapabilityExtendHelper getInstance() {
@@ -37,8 +47,9 @@ public class AbstractCapabilityExtendHelper {
 	public Object doSwitch(AbstractCapabilityExtend element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(InteractionPackage.Literals.ABSTRACT_CAPABILITY_EXTEND__EXTENSION)) {
-			ret = getExtension(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 		
 		// No helper found... searching in super classes...
@@ -49,6 +60,18 @@ public class AbstractCapabilityExtendHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = RelationshipHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected AbstractCapability getExtension(AbstractCapabilityExtend element) {
 		return element.eContainer() instanceof AbstractCapability ? (AbstractCapability)element.eContainer() : null;
 	}
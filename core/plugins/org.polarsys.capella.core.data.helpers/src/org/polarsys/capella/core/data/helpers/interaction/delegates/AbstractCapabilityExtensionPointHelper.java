@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.interaction.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedRelationshipHelper;
 import org.polarsys.capella.core.data.interaction.AbstractCapability;
 import org.polarsys.capella.core.data.interaction.AbstractCapabilityExtensionPoint;
@@ -24,8 +28,14 @@ public class AbstractCapabilityExtensionPointHelper {
 	
 	private static AbstractCapabilityExtensionPointHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private AbstractCapabilityExtensionPointHelper() {
-    // do nothing
+		computers.put(InteractionPackage.Literals.ABSTRACT_CAPABILITY_EXTENSION_POINT__ABSTRACT_CAPABILITY,
+				element -> getAbstractCapability((AbstractCapabilityExtensionPoint) element));
 	}
 
 	public static AbstractCapabilityExtensionPointHelper getInstance() {
@@ -37,8 +47,9 @@ public class AbstractCapabilityExtensionPointHelper {
 	public Object doSwitch(AbstractCapabilityExtensionPoint element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(InteractionPackage.Literals.ABSTRACT_CAPABILITY_EXTENSION_POINT__ABSTRACT_CAPABILITY)) {
-			ret = getAbstractCapability(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 		
 		// No helper found... searching in super classes...
@@ -49,6 +60,18 @@ public class AbstractCapabilityExtensionPointHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = NamedRelationshipHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected AbstractCapability getAbstractCapability(AbstractCapabilityExtensionPoint element) {
 		return element.eContainer() instanceof AbstractCapability ? (AbstractCapability)element.eContainer() : null;
 	}
@@ -14,12 +14,15 @@
 package org.polarsys.capella.core.data.helpers.interaction.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.AbstractFunction;
 import org.polarsys.capella.core.data.fa.FunctionalChain;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.InvolverElementHelper;
@@ -38,8 +41,38 @@ import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 public class AbstractCapabilityHelper {
   private static AbstractCapabilityHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private AbstractCapabilityHelper() {
-    // do nothing
+    computers.put(InteractionPackage.Literals.ABSTRACT_CAPABILITY__INCOMING_CAPABILITY_ALLOCATION,
+        element -> getIncomingCapabilityAllocation((AbstractCapability) element));
+    computers.put(InteractionPackage.Literals.ABSTRACT_CAPABILITY__OUTGOING_CAPABILITY_ALLOCATION,
+        element -> getOutgoingCapabilityAllocation((AbstractCapability) element));
+    computers.put(InteractionPackage.Literals.ABSTRACT_CAPABILITY__SUPER,
+        element -> getSuper((AbstractCapability) element));
+    computers.put(InteractionPackage.Literals.ABSTRACT_CAPABILITY__SUB,
+        element -> getSub((AbstractCapability) element));
+    computers.put(InteractionPackage.Literals.ABSTRACT_CAPABILITY__INCLUDED_ABSTRACT_CAPABILITIES,
+        element -> getIncludedAbstractCapabilities((AbstractCapability) element));
+    computers.put(InteractionPackage.Literals.ABSTRACT_CAPABILITY__INCLUDING_ABSTRACT_CAPABILITIES,
+        element -> getIncludingAbstractCapabilities((AbstractCapability) element));
+    computers.put(InteractionPackage.Literals.ABSTRACT_CAPABILITY__EXTENDED_ABSTRACT_CAPABILITIES,
+        element -> getExtendedAbstractCapabilities((AbstractCapability) element));
+    computers.put(InteractionPackage.Literals.ABSTRACT_CAPABILITY__EXTENDING_ABSTRACT_CAPABILITIES,
+        element -> getExtendingAbstractCapabilities((AbstractCapability) element));
+    computers.put(InteractionPackage.Literals.ABSTRACT_CAPABILITY__INVOLVED_ABSTRACT_FUNCTIONS,
+        element -> getInvolvedAbstractFunctions((AbstractCapability) element));
+    computers.put(InteractionPackage.Literals.ABSTRACT_CAPABILITY__INVOLVED_FUNCTIONAL_CHAINS,
+        element -> getInvolvedFunctionalChains((AbstractCapability) element));
+    computers.put(InteractionPackage.Literals.ABSTRACT_CAPABILITY__EXTENDING,
+        element -> getExtending((AbstractCapability) element));
+    computers.put(InteractionPackage.Literals.ABSTRACT_CAPABILITY__INCLUDING,
+        element -> getIncluding((AbstractCapability) element));
+    computers.put(InteractionPackage.Literals.ABSTRACT_CAPABILITY__SUB_GENERALIZATIONS,
+        element -> getSubGeneralizations((AbstractCapability) element));
   }
 
   public static AbstractCapabilityHelper getInstance() {
@@ -51,32 +84,9 @@ public class AbstractCapabilityHelper {
   public Object doSwitch(AbstractCapability element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(InteractionPackage.Literals.ABSTRACT_CAPABILITY__INCOMING_CAPABILITY_ALLOCATION)) {
-      ret = getIncomingCapabilityAllocation(element);
-    } else if (feature.equals(InteractionPackage.Literals.ABSTRACT_CAPABILITY__OUTGOING_CAPABILITY_ALLOCATION)) {
-      ret = getOutgoingCapabilityAllocation(element);
-    } else if (feature.equals(InteractionPackage.Literals.ABSTRACT_CAPABILITY__SUPER)) {
-      ret = getSuper(element);
-    } else if (feature.equals(InteractionPackage.Literals.ABSTRACT_CAPABILITY__SUB)) {
-      ret = getSub(element);
-    } else if (feature.equals(InteractionPackage.Literals.ABSTRACT_CAPABILITY__INCLUDED_ABSTRACT_CAPABILITIES)) {
-      ret = getIncludedAbstractCapabilities(element);
-    } else if (feature.equals(InteractionPackage.Literals.ABSTRACT_CAPABILITY__INCLUDING_ABSTRACT_CAPABILITIES)) {
-      ret = getIncludingAbstractCapabilities(element);
-    } else if (feature.equals(InteractionPackage.Literals.ABSTRACT_CAPABILITY__EXTENDED_ABSTRACT_CAPABILITIES)) {
-      ret = getExtendedAbstractCapabilities(element);
-    } else if (feature.equals(InteractionPackage.Literals.ABSTRACT_CAPABILITY__EXTENDING_ABSTRACT_CAPABILITIES)) {
-      ret = getExtendingAbstractCapabilities(element);
-    } else if (feature.equals(InteractionPackage.Literals.ABSTRACT_CAPABILITY__INVOLVED_ABSTRACT_FUNCTIONS)) {
-      ret = getInvolvedAbstractFunctions(element);
-    } else if (feature.equals(InteractionPackage.Literals.ABSTRACT_CAPABILITY__INVOLVED_FUNCTIONAL_CHAINS)) {
-      ret = getInvolvedFunctionalChains(element);
-    }else if (feature.equals(InteractionPackage.Literals.ABSTRACT_CAPABILITY__EXTENDING)) {
-      ret = getExtending(element);
-    }else if (feature.equals(InteractionPackage.Literals.ABSTRACT_CAPABILITY__INCLUDING)) {
-      ret = getIncluding(element);
-    }else if (feature.equals(InteractionPackage.Literals.ABSTRACT_CAPABILITY__SUB_GENERALIZATIONS)) {
-      ret = getSubGeneralizations(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -89,6 +99,21 @@ public class AbstractCapabilityHelper {
 
     return ret;
   }
+
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = InvolverElementHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = StructureHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
   
   protected List<AbstractCapabilityGeneralization> getSubGeneralizations(AbstractCapability element){
 	  return EObjectExt.getReferencers(element, InteractionPackage.Literals.ABSTRACT_CAPABILITY_GENERALIZATION__SUPER);
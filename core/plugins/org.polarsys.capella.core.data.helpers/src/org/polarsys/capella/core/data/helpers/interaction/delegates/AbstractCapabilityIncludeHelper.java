@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.interaction.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.RelationshipHelper;
 import org.polarsys.capella.core.data.interaction.AbstractCapability;
 import org.polarsys.capella.core.data.interaction.AbstractCapabilityExtend;
@@ -25,8 +29,14 @@ public class AbstractCapabilityIncludeHelper {
 	
 	private static AbstractCapabilityIncludeHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private AbstractCapabilityIncludeHelper() {
-    // do nothing
+		computers.put(InteractionPackage.Literals.ABSTRACT_CAPABILITY_INCLUDE__INCLUSION,
+				element -> getInclusion((AbstractCapabilityInclude) element));
 	}
 
 	public static AbstractCapabilityIncludeHelper getInstance() {
@@ -38,8 +48,9 @@ public class AbstractCapabilityIncludeHelper {
 	public Object doSwitch(AbstractCapabilityInclude element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(InteractionPackage.Literals.ABSTRACT_CAPABILITY_INCLUDE__INCLUSION)) {
-			ret = getInclusion(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 		
 		// No helper found... searching in super classes...
@@ -50,6 +61,18 @@ public class AbstractCapabilityIncludeHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = RelationshipHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected AbstractCapability getInclusion(AbstractCapabilityInclude element) {
 		return element.eContainer() instanceof AbstractCapability? (AbstractCapability)element.eContainer() : null;
 	}
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.interaction.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.AllocationHelper;
 import org.polarsys.capella.core.data.interaction.AbstractCapability;
 import org.polarsys.capella.core.data.interaction.AbstractCapabilityRealization;
@@ -24,8 +28,16 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class AbstractCapabilityRealizationHelper {
 	private static AbstractCapabilityRealizationHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private AbstractCapabilityRealizationHelper() {
-    // do nothing
+		computers.put(InteractionPackage.Literals.ABSTRACT_CAPABILITY_REALIZATION__REALIZED_CAPABILITY,
+				element -> getRealizedCapability((AbstractCapabilityRealization) element));
+		computers.put(InteractionPackage.Literals.ABSTRACT_CAPABILITY_REALIZATION__REALIZING_CAPABILITY,
+				element -> getRealizingCapability((AbstractCapabilityRealization) element));
 	}
 
 	public static AbstractCapabilityRealizationHelper getInstance() {
@@ -37,11 +49,9 @@ public class AbstractCapabilityRealizationHelper {
 	public Object doSwitch(AbstractCapabilityRealization element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(InteractionPackage.Literals.ABSTRACT_CAPABILITY_REALIZATION__REALIZED_CAPABILITY)) {
-			ret = getRealizedCapability(element);
-		}
-		else if (feature.equals(InteractionPackage.Literals.ABSTRACT_CAPABILITY_REALIZATION__REALIZING_CAPABILITY)) {
-			ret = getRealizingCapability(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		} 
 
 		// no helper found... searching in super classes...
@@ -52,6 +62,18 @@ public class AbstractCapabilityRealizationHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AllocationHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected AbstractCapability getRealizedCapability(AbstractCapabilityRealization element) {
 		TraceableElement ret = element.getTargetElement();
 		if(ret instanceof AbstractCapability)
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.interaction.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedElementHelper;
 import org.polarsys.capella.core.data.interaction.AbstractEnd;
 import org.polarsys.capella.core.data.interaction.InstanceRole;
@@ -23,8 +27,13 @@ import org.polarsys.capella.core.data.interaction.InteractionPackage;
 public class AbstractEndHelper {
 	private static AbstractEndHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private AbstractEndHelper() {
-    // do nothing
+		computers.put(InteractionPackage.Literals.ABSTRACT_END__COVERED, element -> getCovered((AbstractEnd) element));
 	}
 
 	public static AbstractEndHelper getInstance() {
@@ -36,8 +45,9 @@ public class AbstractEndHelper {
 	public Object doSwitch(AbstractEnd element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(InteractionPackage.Literals.ABSTRACT_END__COVERED)) {
-      ret = getCovered(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -48,6 +58,18 @@ public class AbstractEndHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected InstanceRole getCovered(AbstractEnd element) {
     if (element != null) {
       for (InstanceRole instanceRole : element.getCoveredInstanceRoles()) {
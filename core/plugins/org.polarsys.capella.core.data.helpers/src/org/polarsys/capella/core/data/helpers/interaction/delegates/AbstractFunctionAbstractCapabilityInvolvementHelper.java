@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.interaction.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.AbstractFunction;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.InvolvementHelper;
 import org.polarsys.capella.core.data.interaction.AbstractCapability;
@@ -26,8 +30,16 @@ import org.polarsys.capella.core.data.capellacore.InvolverElement;
 public class AbstractFunctionAbstractCapabilityInvolvementHelper {
   private static AbstractFunctionAbstractCapabilityInvolvementHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private AbstractFunctionAbstractCapabilityInvolvementHelper() {
-    // do nothing
+    computers.put(InteractionPackage.Literals.ABSTRACT_FUNCTION_ABSTRACT_CAPABILITY_INVOLVEMENT__FUNCTION,
+        element -> getFunction((AbstractFunctionAbstractCapabilityInvolvement) element));
+    computers.put(InteractionPackage.Literals.ABSTRACT_FUNCTION_ABSTRACT_CAPABILITY_INVOLVEMENT__CAPABILITY,
+        element -> getCapability((AbstractFunctionAbstractCapabilityInvolvement) element));
   }
 
   public static AbstractFunctionAbstractCapabilityInvolvementHelper getInstance() {
@@ -39,10 +51,9 @@ public class AbstractFunctionAbstractCapabilityInvolvementHelper {
   public Object doSwitch(AbstractFunctionAbstractCapabilityInvolvement element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(InteractionPackage.Literals.ABSTRACT_FUNCTION_ABSTRACT_CAPABILITY_INVOLVEMENT__FUNCTION)) {
-      ret = getFunction(element);
-    } else if (feature.equals(InteractionPackage.Literals.ABSTRACT_FUNCTION_ABSTRACT_CAPABILITY_INVOLVEMENT__CAPABILITY)) {
-      ret = getCapability(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -53,6 +64,18 @@ public class AbstractFunctionAbstractCapabilityInvolvementHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = InvolvementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected AbstractFunction getFunction(AbstractFunctionAbstractCapabilityInvolvement element) {
     InvolvedElement elt = element.getInvolved();
     if (elt instanceof AbstractFunction)
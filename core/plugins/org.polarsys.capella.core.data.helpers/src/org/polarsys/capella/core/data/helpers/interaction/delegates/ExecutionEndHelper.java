@@ -13,9 +13,13 @@
 
 package org.polarsys.capella.core.data.helpers.interaction.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.interaction.Execution;
 import org.polarsys.capella.core.data.interaction.ExecutionEnd;
 import org.polarsys.capella.core.data.interaction.InteractionPackage;
@@ -25,8 +29,14 @@ import org.polarsys.capella.core.data.interaction.TimeLapse;
 public class ExecutionEndHelper {
 	private static ExecutionEndHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private ExecutionEndHelper() {
-    // do nothing
+		computers.put(InteractionPackage.Literals.EXECUTION_END__EXECUTION,
+				element -> getExecution((ExecutionEnd) element));
 	}
 
 	public static ExecutionEndHelper getInstance() {
@@ -38,8 +48,9 @@ public class ExecutionEndHelper {
 	public Object doSwitch(ExecutionEnd element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(InteractionPackage.Literals.EXECUTION_END__EXECUTION)) {
-      ret = getExecution(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -50,6 +61,18 @@ public class ExecutionEndHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AbstractEndHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected Execution getExecution(ExecutionEnd element) {
     if (element != null) {
       EObject owner = element.eContainer();
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.interaction.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedElementHelper;
 import org.polarsys.capella.core.data.interaction.Execution;
 import org.polarsys.capella.core.data.interaction.InstanceRole;
@@ -24,8 +28,13 @@ import org.polarsys.capella.core.data.interaction.InteractionPackage;
 public class ExecutionHelper {
 	private static ExecutionHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private ExecutionHelper() {
-    // do nothing
+		computers.put(InteractionPackage.Literals.EXECUTION__COVERED, element -> getCovered((Execution) element));
 	}
 
 	public static ExecutionHelper getInstance() {
@@ -37,8 +46,9 @@ public class ExecutionHelper {
 	public Object doSwitch(Execution element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(InteractionPackage.Literals.EXECUTION__COVERED)) {
-      ret = getCovered(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -49,6 +59,18 @@ public class ExecutionHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected InstanceRole getCovered(Execution element) {
     if (element != null) {
       InteractionFragment ifstart = element.getStart();
@@ -13,9 +13,13 @@
 
 package org.polarsys.capella.core.data.helpers.interaction.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedElementHelper;
 import org.polarsys.capella.core.data.interaction.AbstractFragment;
 import org.polarsys.capella.core.data.interaction.CombinedFragment;
@@ -28,8 +32,14 @@ import org.polarsys.capella.core.data.interaction.TimeLapse;
 public class FragmentEndHelper {
 	private static FragmentEndHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private FragmentEndHelper() {
-    // do nothing
+		computers.put(InteractionPackage.Literals.FRAGMENT_END__ABSTRACT_FRAGMENT,
+				element -> getAbstractFragment((FragmentEnd) element));
 	}
 
 	public static FragmentEndHelper getInstance() {
@@ -41,8 +51,9 @@ public class FragmentEndHelper {
 	public Object doSwitch(FragmentEnd element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(InteractionPackage.Literals.FRAGMENT_END__ABSTRACT_FRAGMENT)) {
-      ret = getAbstractFragment(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -53,6 +64,18 @@ public class FragmentEndHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected AbstractFragment getAbstractFragment(FragmentEnd element) {
     if (element != null) {
       EObject owner = element.eContainer();
@@ -14,11 +14,14 @@
 package org.polarsys.capella.core.data.helpers.interaction.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedElementHelper;
 import org.polarsys.capella.core.data.interaction.AbstractEnd;
 import org.polarsys.capella.core.data.interaction.InstanceRole;
@@ -29,8 +32,14 @@ import org.polarsys.capella.core.data.interaction.Scenario;
 public class InstanceRoleHelper {
 	private static InstanceRoleHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private InstanceRoleHelper() {
-    // Do nothing
+		computers.put(InteractionPackage.Literals.INSTANCE_ROLE__ABSTRACT_ENDS,
+				element -> getAbstractEnds((InstanceRole) element));
 	}
 
 	public static InstanceRoleHelper getInstance() {
@@ -43,8 +52,9 @@ public class InstanceRoleHelper {
 	public Object doSwitch(InstanceRole element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(InteractionPackage.Literals.INSTANCE_ROLE__ABSTRACT_ENDS)) {
-			ret = getAbstractEnds(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -55,6 +65,18 @@ public class InstanceRoleHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected List<AbstractEnd> getAbstractEnds(InstanceRole element) {
 		List<AbstractEnd> ret = new ArrayList<>();
 
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.interaction.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedElementHelper;
 import org.polarsys.capella.core.data.interaction.InstanceRole;
 import org.polarsys.capella.core.data.interaction.InteractionPackage;
@@ -23,8 +27,14 @@ import org.polarsys.capella.core.data.interaction.InteractionState;
 public class InteractionStateHelper {
 	private static InteractionStateHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private InteractionStateHelper() {
-    // do nothing
+		computers.put(InteractionPackage.Literals.INTERACTION_STATE__COVERED,
+				element -> getCovered((InteractionState) element));
 	}
 
 	public static InteractionStateHelper getInstance() {
@@ -36,8 +46,9 @@ public class InteractionStateHelper {
 	public Object doSwitch(InteractionState element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(InteractionPackage.Literals.INTERACTION_STATE__COVERED)) {
-      ret = getCovered(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -48,6 +59,18 @@ public class InteractionStateHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected InstanceRole getCovered(InteractionState element) {
     if (element != null) {
       for (InstanceRole instanceRole : element.getCoveredInstanceRoles()) {
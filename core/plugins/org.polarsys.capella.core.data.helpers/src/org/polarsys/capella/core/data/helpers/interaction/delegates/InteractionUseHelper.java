@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.interaction.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedElementHelper;
 import org.polarsys.capella.core.data.interaction.Gate;
 import org.polarsys.capella.core.data.interaction.InteractionPackage;
@@ -26,8 +29,14 @@ import org.polarsys.capella.core.data.interaction.InteractionUse;
 public class InteractionUseHelper {
 	private static InteractionUseHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private InteractionUseHelper() {
-    // do nothing
+		computers.put(InteractionPackage.Literals.INTERACTION_USE__ACTUAL_GATES,
+				element -> getActualGates((InteractionUse) element));
 	}
 
 	public static InteractionUseHelper getInstance() {
@@ -39,8 +48,9 @@ public class InteractionUseHelper {
 	public Object doSwitch(InteractionUse element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(InteractionPackage.Literals.INTERACTION_USE__ACTUAL_GATES)) {
-      ret = getActualGates(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -51,6 +61,18 @@ public class InteractionUseHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected List<Gate> getActualGates(InteractionUse element) {
     List<Gate> ret = new ArrayList<>();
 
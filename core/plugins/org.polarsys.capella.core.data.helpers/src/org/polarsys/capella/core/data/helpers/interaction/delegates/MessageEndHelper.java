@@ -13,9 +13,13 @@
 
 package org.polarsys.capella.core.data.helpers.interaction.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.interaction.CombinedFragment;
 import org.polarsys.capella.core.data.interaction.InteractionOperand;
 import org.polarsys.capella.core.data.interaction.InteractionPackage;
@@ -26,8 +30,13 @@ import org.polarsys.capella.core.data.interaction.SequenceMessage;
 public class MessageEndHelper {
 	private static MessageEndHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private MessageEndHelper() {
-    // do nothing
+		computers.put(InteractionPackage.Literals.MESSAGE_END__MESSAGE, element -> getMessage((MessageEnd) element));
 	}
 
 	public static MessageEndHelper getInstance() {
@@ -39,8 +48,9 @@ public class MessageEndHelper {
 	public Object doSwitch(MessageEnd element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(InteractionPackage.Literals.MESSAGE_END__MESSAGE)) {
-      ret = getMessage(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -51,6 +61,18 @@ public class MessageEndHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AbstractEndHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected SequenceMessage getMessage(MessageEnd element) {
     if (element != null) {
       EObject owner = element.eContainer();
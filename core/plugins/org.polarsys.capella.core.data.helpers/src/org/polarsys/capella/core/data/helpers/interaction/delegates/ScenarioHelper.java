@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.interaction.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.Part;
 import org.polarsys.capella.core.data.fa.AbstractFunction;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamespaceHelper;
@@ -33,8 +36,22 @@ import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 public class ScenarioHelper {
   private static ScenarioHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private ScenarioHelper() {
-    // do nothing
+    computers.put(InteractionPackage.Literals.SCENARIO__CONTAINED_FUNCTIONS,
+        element -> getContainedFunctions((Scenario) element));
+    computers.put(InteractionPackage.Literals.SCENARIO__CONTAINED_PARTS,
+        element -> getContainedParts((Scenario) element));
+    computers.put(InteractionPackage.Literals.SCENARIO__REFERENCED_SCENARIOS,
+        element -> getReferencedScenarios((Scenario) element));
+    computers.put(InteractionPackage.Literals.SCENARIO__REALIZED_SCENARIOS,
+        element -> getRealizedScenarios((Scenario) element));
+    computers.put(InteractionPackage.Literals.SCENARIO__REALIZING_SCENARIOS,
+        element -> getRealizingScenarios((Scenario) element));
   }
 
   public static ScenarioHelper getInstance() {
@@ -46,16 +63,9 @@ public class ScenarioHelper {
   public Object doSwitch(Scenario element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(InteractionPackage.Literals.SCENARIO__CONTAINED_FUNCTIONS)) {
-      ret = getContainedFunctions(element);
-    } else if (feature.equals(InteractionPackage.Literals.SCENARIO__CONTAINED_PARTS)) {
-      ret = getContainedParts(element);
-    } else if (feature.equals(InteractionPackage.Literals.SCENARIO__REFERENCED_SCENARIOS)) {
-      ret = getReferencedScenarios(element);
-    } else if (feature.equals(InteractionPackage.Literals.SCENARIO__REALIZED_SCENARIOS)) {
-      ret = getRealizedScenarios(element);
-    } else if (feature.equals(InteractionPackage.Literals.SCENARIO__REALIZING_SCENARIOS)) {
-      ret = getRealizingScenarios(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -66,6 +76,18 @@ public class ScenarioHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = NamespaceHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<AbstractFunction> getContainedFunctions(Scenario element) {
     List<AbstractFunction> res = new ArrayList<>();
     for (InstanceRole instanceRole : element.getOwnedInstanceRoles()) {
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.interaction.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.AllocationHelper;
 import org.polarsys.capella.core.data.interaction.InteractionPackage;
 import org.polarsys.capella.core.data.interaction.Scenario;
@@ -24,8 +28,16 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class ScenarioRealizationHelper {
   private static ScenarioRealizationHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private ScenarioRealizationHelper() {
-    // do nothing
+    computers.put(InteractionPackage.Literals.SCENARIO_REALIZATION__REALIZED_SCENARIO,
+        element -> getRealizedScenario((ScenarioRealization) element));
+    computers.put(InteractionPackage.Literals.SCENARIO_REALIZATION__REALIZING_SCENARIO,
+        element -> getRealizingScenario((ScenarioRealization) element));
   }
 
   public static ScenarioRealizationHelper getInstance() {
@@ -37,10 +49,9 @@ public class ScenarioRealizationHelper {
   public Object doSwitch(ScenarioRealization element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(InteractionPackage.Literals.SCENARIO_REALIZATION__REALIZED_SCENARIO)) {
-      ret = getRealizedScenario(element);
-    } else if (feature.equals(InteractionPackage.Literals.SCENARIO_REALIZATION__REALIZING_SCENARIO)) {
-      ret = getRealizingScenario(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -51,6 +62,18 @@ public class ScenarioRealizationHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AllocationHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected Scenario getRealizingScenario(ScenarioRealization element) {
     TraceableElement ret = element.getSourceElement();
     if (ret instanceof Scenario)
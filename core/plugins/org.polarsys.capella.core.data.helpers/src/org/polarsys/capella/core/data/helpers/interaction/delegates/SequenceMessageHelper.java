@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.interaction.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.Part;
 import org.polarsys.capella.core.data.fa.AbstractFunction;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedElementHelper;
@@ -31,8 +35,22 @@ import org.polarsys.capella.core.data.interaction.SequenceMessage;
 public class SequenceMessageHelper {
 	private static SequenceMessageHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private SequenceMessageHelper() {
-    // do nothing
+		computers.put(InteractionPackage.Literals.SEQUENCE_MESSAGE__INVOKED_OPERATION,
+				element -> getInvokedOperation((SequenceMessage) element));
+		computers.put(InteractionPackage.Literals.SEQUENCE_MESSAGE__SENDING_PART,
+				element -> getSendingPart((SequenceMessage) element));
+		computers.put(InteractionPackage.Literals.SEQUENCE_MESSAGE__RECEIVING_PART,
+				element -> getReceivingPart((SequenceMessage) element));
+		computers.put(InteractionPackage.Literals.SEQUENCE_MESSAGE__SENDING_FUNCTION,
+				element -> getSendingFunction((SequenceMessage) element));
+		computers.put(InteractionPackage.Literals.SEQUENCE_MESSAGE__RECEIVING_FUNCTION,
+				element -> getReceivingFunction((SequenceMessage) element));
 	}
 
 	public static SequenceMessageHelper getInstance() {
@@ -44,16 +62,9 @@ public class SequenceMessageHelper {
 	public Object doSwitch(SequenceMessage element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(InteractionPackage.Literals.SEQUENCE_MESSAGE__INVOKED_OPERATION)) {
-      ret = getInvokedOperation(element);
-    } else if (feature.equals(InteractionPackage.Literals.SEQUENCE_MESSAGE__SENDING_PART)) {
-      ret = getSendingPart(element);
-    } else if (feature.equals(InteractionPackage.Literals.SEQUENCE_MESSAGE__RECEIVING_PART)) {
-      ret = getReceivingPart(element);
-    } else if (feature.equals(InteractionPackage.Literals.SEQUENCE_MESSAGE__SENDING_FUNCTION)) {
-      ret = getSendingFunction(element);
-    } else if (feature.equals(InteractionPackage.Literals.SEQUENCE_MESSAGE__RECEIVING_FUNCTION)) {
-      ret = getReceivingFunction(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -64,6 +75,18 @@ public class SequenceMessageHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected AbstractEventOperation getInvokedOperation(SequenceMessage element) {
     if (element != null) {
       MessageEnd receiver = element.getReceivingEnd();
@@ -14,9 +14,11 @@
 package org.polarsys.capella.core.data.helpers.la;
 
 import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.model.helpers.HelperNotFoundException;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.common.model.helpers.IHelper;
 import org.polarsys.capella.core.data.capellacore.Structure;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.StructureHelper;
@@ -65,4 +67,28 @@ public class LaHelper implements IHelper {
 		
 		throw new HelperNotFoundException();
 	}
+
+	@Override
+	public IDerivedFeatureComputer getComputer(EClass eClass, EStructuralFeature feature) {
+		// Same dispatch as getValue, on the instance class
+		Class<?> instanceClass = eClass.getInstanceClass();
+		IDerivedFeatureComputer computer = null;
+		if (LogicalArchitecture.class.isAssignableFrom(instanceClass)) {
+			computer = LogicalArchitectureHelper.getInstance().getComputer(feature);
+		} else if (LogicalComponent.class.isAssignableFrom(instanceClass)) {
+			computer = LogicalComponentHelper.getInstance().getComputer(feature);
+		} else if (LogicalFunction.class.isAssignableFrom(instanceClass)) {
+			computer = LogicalFunctionHelper.getInstance().getComputer(feature);
+		} else if (SystemAnalysisRealization.class.isAssignableFrom(instanceClass)) {
+			computer = SystemAnalysisRealizationHelper.getInstance().getComputer(feature);
+		} else if (ContextInterfaceRealization.class.isAssignableFrom(instanceClass)) {
+			computer = ContextInterfaceRealizationHelper.getInstance().getComputer(feature);
+		} else if (CapabilityRealization.class.isAssignableFrom(instanceClass)) {
+			computer = CapabilityRealizationHelper.getInstance().getComputer(feature);
+		} else if (Structure.class.isAssignableFrom(instanceClass)) {
+			computer = StructureHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 }
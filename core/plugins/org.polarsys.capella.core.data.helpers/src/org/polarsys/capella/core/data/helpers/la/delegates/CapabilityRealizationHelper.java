@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.la.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacommon.CapabilityRealizationInvolvedElement;
 import org.polarsys.capella.core.data.capellacommon.CapabilityRealizationInvolvement;
 import org.polarsys.capella.core.data.ctx.Capability;
@@ -30,8 +33,20 @@ import org.polarsys.capella.core.data.la.LaPackage;
 public class CapabilityRealizationHelper {
 	private static CapabilityRealizationHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private CapabilityRealizationHelper() {
-    // do nothing
+		computers.put(LaPackage.Literals.CAPABILITY_REALIZATION__INVOLVED_COMPONENTS,
+				element -> getInvolvedComponents((CapabilityRealization) element));
+		computers.put(LaPackage.Literals.CAPABILITY_REALIZATION__REALIZED_CAPABILITIES,
+				element -> getRealizedCapabilities((CapabilityRealization) element));
+		computers.put(LaPackage.Literals.CAPABILITY_REALIZATION__REALIZED_CAPABILITY_REALIZATIONS,
+				element -> getRealizedCapabilityRealizations((CapabilityRealization) element));
+		computers.put(LaPackage.Literals.CAPABILITY_REALIZATION__REALIZING_CAPABILITY_REALIZATIONS,
+				element -> getRealizingCapabilityRealizations((CapabilityRealization) element));
 	}
 
 	public static CapabilityRealizationHelper getInstance(){
@@ -43,14 +58,9 @@ public class CapabilityRealizationHelper {
 	public Object doSwitch(CapabilityRealization element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(LaPackage.Literals.CAPABILITY_REALIZATION__INVOLVED_COMPONENTS)) {
-			ret = getInvolvedComponents(element);
-		} else if (feature.equals(LaPackage.Literals.CAPABILITY_REALIZATION__REALIZED_CAPABILITIES)) {
-      ret = getRealizedCapabilities(element);
-    } else if (feature.equals(LaPackage.Literals.CAPABILITY_REALIZATION__REALIZED_CAPABILITY_REALIZATIONS)) {
-      ret = getRealizedCapabilityRealizations(element);
-    } else if (feature.equals(LaPackage.Literals.CAPABILITY_REALIZATION__REALIZING_CAPABILITY_REALIZATIONS)) {
-      ret = getRealizingCapabilityRealizations(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -61,6 +71,18 @@ public class CapabilityRealizationHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AbstractCapabilityHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected List<CapabilityRealizationInvolvedElement> getInvolvedComponents(CapabilityRealization element) {
     List<CapabilityRealizationInvolvedElement> ret = new ArrayList<>();
     for (CapabilityRealizationInvolvement involvement : element.getOwnedCapabilityRealizationInvolvements()) {
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.la.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.ArchitectureAllocation;
 import org.polarsys.capella.core.data.cs.BlockArchitecture;
 import org.polarsys.capella.core.data.ctx.SystemAnalysis;
@@ -34,8 +37,22 @@ import org.polarsys.capella.core.data.pa.PhysicalArchitecture;
 public class LogicalArchitectureHelper {
   private static LogicalArchitectureHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private LogicalArchitectureHelper() {
-    // do nothing
+    computers.put(LaPackage.Literals.LOGICAL_ARCHITECTURE__ALLOCATED_SYSTEM_ANALYSIS_REALIZATIONS,
+        element -> getAllocatedSystemAnalysisRealizations((LogicalArchitecture) element));
+    computers.put(LaPackage.Literals.LOGICAL_ARCHITECTURE__CONTAINED_CAPABILITY_REALIZATION_PKG,
+        element -> getContainedCapabilityRealizationPkg((LogicalArchitecture) element));
+    computers.put(LaPackage.Literals.LOGICAL_ARCHITECTURE__CONTAINED_LOGICAL_FUNCTION_PKG,
+        element -> getContainedLogicalFunctionPkg((LogicalArchitecture) element));
+    computers.put(LaPackage.Literals.LOGICAL_ARCHITECTURE__ALLOCATED_SYSTEM_ANALYSES,
+        element -> getAllocatedSystemAnalyses((LogicalArchitecture) element));
+    computers.put(LaPackage.Literals.LOGICAL_ARCHITECTURE__ALLOCATING_PHYSICAL_ARCHITECTURES,
+        element -> getAllocatingPhysicalArchitectures((LogicalArchitecture) element));
   }
 
   public static LogicalArchitectureHelper getInstance() {
@@ -47,16 +64,9 @@ public class LogicalArchitectureHelper {
   public Object doSwitch(LogicalArchitecture element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(LaPackage.Literals.LOGICAL_ARCHITECTURE__ALLOCATED_SYSTEM_ANALYSIS_REALIZATIONS)) {
-      ret = getAllocatedSystemAnalysisRealizations(element);
-    } else if (feature.equals(LaPackage.Literals.LOGICAL_ARCHITECTURE__CONTAINED_CAPABILITY_REALIZATION_PKG)) {
-      ret = getContainedCapabilityRealizationPkg(element);
-    } else if (feature.equals(LaPackage.Literals.LOGICAL_ARCHITECTURE__CONTAINED_LOGICAL_FUNCTION_PKG)) {
-      ret = getContainedLogicalFunctionPkg(element);
-    } else if (feature.equals(LaPackage.Literals.LOGICAL_ARCHITECTURE__ALLOCATED_SYSTEM_ANALYSES)) {
-      ret = getAllocatedSystemAnalyses(element);
-    } else if (feature.equals(LaPackage.Literals.LOGICAL_ARCHITECTURE__ALLOCATING_PHYSICAL_ARCHITECTURES)) {
-      ret = getAllocatingPhysicalArchitectures(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -67,6 +77,18 @@ public class LogicalArchitectureHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = BlockArchitectureHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<SystemAnalysisRealization> getAllocatedSystemAnalysisRealizations(LogicalArchitecture element) {
     List<SystemAnalysisRealization> ret = new ArrayList<>();
 
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.la.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.Feature;
 import org.polarsys.capella.core.data.capellacore.Type;
 import org.polarsys.capella.core.data.cs.Part;
@@ -34,8 +37,20 @@ public class LogicalComponentHelper {
 
   private static LogicalComponentHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private LogicalComponentHelper() {
-    // do nothing
+    computers.put(LaPackage.Literals.LOGICAL_COMPONENT__SUB_LOGICAL_COMPONENTS,
+        element -> getSubLogicalComponents((LogicalComponent) element));
+    computers.put(LaPackage.Literals.LOGICAL_COMPONENT__ALLOCATED_LOGICAL_FUNCTIONS,
+        element -> getAllocatedLogicalFunctions((LogicalComponent) element));
+    computers.put(LaPackage.Literals.LOGICAL_COMPONENT__REALIZING_PHYSICAL_COMPONENTS,
+        element -> getRealizingPhysicalComponents((LogicalComponent) element));
+    computers.put(LaPackage.Literals.LOGICAL_COMPONENT__REALIZED_SYSTEM_COMPONENTS,
+        element -> getRealizedSystemComponents((LogicalComponent) element));
   }
 
   public static LogicalComponentHelper getInstance() {
@@ -47,14 +62,9 @@ public class LogicalComponentHelper {
   public Object doSwitch(LogicalComponent element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(LaPackage.Literals.LOGICAL_COMPONENT__SUB_LOGICAL_COMPONENTS)) {
-      ret = getSubLogicalComponents(element);
-    } else if (feature.equals(LaPackage.Literals.LOGICAL_COMPONENT__ALLOCATED_LOGICAL_FUNCTIONS)) {
-      ret = getAllocatedLogicalFunctions(element);
-    } else if (feature.equals(LaPackage.Literals.LOGICAL_COMPONENT__REALIZING_PHYSICAL_COMPONENTS)) {
-      ret = getRealizingPhysicalComponents(element);
-    } else if (feature.equals(LaPackage.Literals.LOGICAL_COMPONENT__REALIZED_SYSTEM_COMPONENTS)) {
-      ret = getRealizedSystemComponents(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -68,6 +78,21 @@ public class LogicalComponentHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = ComponentHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = CapabilityRealizationInvolvedElementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<LogicalComponent> getSubLogicalComponents(LogicalComponent element) {
     List<LogicalComponent> ret = new ArrayList<>();
     for (Feature feature : element.getOwnedFeatures()) {
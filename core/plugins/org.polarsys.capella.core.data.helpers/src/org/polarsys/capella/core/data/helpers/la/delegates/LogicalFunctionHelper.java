@@ -14,11 +14,14 @@
 package org.polarsys.capella.core.data.helpers.la.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 import org.polarsys.capella.common.data.modellingcore.TraceableElement;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.ctx.SystemFunction;
 import org.polarsys.capella.core.data.fa.AbstractFunction;
 import org.polarsys.capella.core.data.fa.ComponentFunctionalAllocation;
@@ -32,8 +35,22 @@ import org.polarsys.capella.core.data.pa.PhysicalFunction;
 public class LogicalFunctionHelper {
   private static LogicalFunctionHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private LogicalFunctionHelper() {
-    // do nothing
+    computers.put(LaPackage.Literals.LOGICAL_FUNCTION__ALLOCATING_LOGICAL_COMPONENTS,
+        element -> getAllocatingLogicalComponents((LogicalFunction) element));
+    computers.put(LaPackage.Literals.LOGICAL_FUNCTION__REALIZED_SYSTEM_FUNCTIONS,
+        element -> getRealizedSystemFunctions((LogicalFunction) element));
+    computers.put(LaPackage.Literals.LOGICAL_FUNCTION__REALIZING_PHYSICAL_FUNCTIONS,
+        element -> getRealizingPhysicalFunctions((LogicalFunction) element));
+    computers.put(LaPackage.Literals.LOGICAL_FUNCTION__CONTAINED_LOGICAL_FUNCTIONS,
+        element -> getContainedLogicalFunctions((LogicalFunction) element));
+    computers.put(LaPackage.Literals.LOGICAL_FUNCTION__CHILDREN_LOGICAL_FUNCTIONS,
+        element -> getChildrenLogicalFunctions((LogicalFunction) element));
   }
 
   public static LogicalFunctionHelper getInstance() {
@@ -46,16 +63,9 @@ public class LogicalFunctionHelper {
   public Object doSwitch(LogicalFunction element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(LaPackage.Literals.LOGICAL_FUNCTION__ALLOCATING_LOGICAL_COMPONENTS)) {
-      ret = getAllocatingLogicalComponents(element);
-    } else if (feature.equals(LaPackage.Literals.LOGICAL_FUNCTION__REALIZED_SYSTEM_FUNCTIONS)) {
-      ret = getRealizedSystemFunctions(element);
-    } else if (feature.equals(LaPackage.Literals.LOGICAL_FUNCTION__REALIZING_PHYSICAL_FUNCTIONS)) {
-      ret = getRealizingPhysicalFunctions(element);
-    } else if (feature.equals(LaPackage.Literals.LOGICAL_FUNCTION__CONTAINED_LOGICAL_FUNCTIONS)) {
-      ret = getContainedLogicalFunctions(element);
-    } else if (feature.equals(LaPackage.Literals.LOGICAL_FUNCTION__CHILDREN_LOGICAL_FUNCTIONS)) {
-      ret = getChildrenLogicalFunctions(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -66,6 +76,18 @@ public class LogicalFunctionHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AbstractFunctionHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<LogicalComponent> getAllocatingLogicalComponents(LogicalFunction element) {
     List<LogicalComponent> ret = new ArrayList<>();
     for (AbstractTrace trace : element.getIncomingTraces()) {
@@ -14,9 +14,11 @@
 package org.polarsys.capella.core.data.helpers.oa;
 
 import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.model.helpers.HelperNotFoundException;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.common.model.helpers.IHelper;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedElementHelper;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.RelationshipHelper;
@@ -156,4 +158,67 @@ public class OaHelper implements IHelper {
 		throw new HelperNotFoundException();
 	}
 
+	@Override
+	public IDerivedFeatureComputer getComputer(EClass eClass, EStructuralFeature feature) {
+		// Same dispatch as getValue, on the instance class
+		Class<?> instanceClass = eClass.getInstanceClass();
+		IDerivedFeatureComputer computer = null;
+		if (OperationalAnalysis.class.isAssignableFrom(instanceClass)) {
+			computer = OperationalAnalysisHelper.getInstance().getComputer(feature);
+		} else if (OperationalActivity.class.isAssignableFrom(instanceClass)) {
+			computer = OperationalActivityHelper.getInstance().getComputer(feature);
+		} else if (OperationalCapability.class.isAssignableFrom(instanceClass)) {
+			computer = OperationalCapabilityHelper.getInstance().getComputer(feature);
+		} else if (Swimlane.class.isAssignableFrom(instanceClass)) {
+			computer = SwimlaneHelper.getInstance().getComputer(feature);
+		} else if (Entity.class.isAssignableFrom(instanceClass)) {
+			computer = EntityHelper.getInstance().getComputer(feature);
+		} else if (Role.class.isAssignableFrom(instanceClass)) {
+			computer = RoleHelper.getInstance().getComputer(feature);
+		} else if (OperationalProcess.class.isAssignableFrom(instanceClass)) {
+			computer = OperationalProcessHelper.getInstance().getComputer(feature);
+		} else if (ActivityAllocation.class.isAssignableFrom(instanceClass)) {
+			computer = ActivityAllocationHelper.getInstance().getComputer(feature);
+		} else if (RoleAllocation.class.isAssignableFrom(instanceClass)) {
+			computer = RoleAllocationHelper.getInstance().getComputer(feature);
+		} else if (CommunicationMean.class.isAssignableFrom(instanceClass)) {
+			computer = CommunicationMeanHelper.getInstance().getComputer(feature);
+		} else if (OperationalActivityPkg.class.isAssignableFrom(instanceClass)) {
+			computer = StructureHelper.getInstance().getComputer(feature);
+		} else if (OperationalCapabilityPkg.class.isAssignableFrom(instanceClass)) {
+			computer = StructureHelper.getInstance().getComputer(feature);
+		} else if (RolePkg.class.isAssignableFrom(instanceClass)) {
+			computer = StructureHelper.getInstance().getComputer(feature);
+		} else if (EntityPkg.class.isAssignableFrom(instanceClass)) {
+			computer = StructureHelper.getInstance().getComputer(feature);
+		} else if (CapabilityConfiguration.class.isAssignableFrom(instanceClass)) {
+			computer = ComponentHelper.getInstance().getComputer(feature);
+		} else if (OrganisationalUnit.class.isAssignableFrom(instanceClass)) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		} else if (OrganisationalUnitComposition.class.isAssignableFrom(instanceClass)) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		} else if (Concept.class.isAssignableFrom(instanceClass)) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		} else if (ConceptCompliance.class.isAssignableFrom(instanceClass)) {
+			computer = RelationshipHelper.getInstance().getComputer(feature);
+		} else if (ConceptPkg.class.isAssignableFrom(instanceClass)) {
+			computer = StructureHelper.getInstance().getComputer(feature);
+		} else if (ItemInConcept.class.isAssignableFrom(instanceClass)) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		} else if (Location.class.isAssignableFrom(instanceClass)) {
+			computer = ComponentHelper.getInstance().getComputer(feature);
+		} else if (CommunityOfInterest.class.isAssignableFrom(instanceClass)) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		} else if (CommunityOfInterestComposition.class.isAssignableFrom(instanceClass)) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		} else if (RoleAssemblyUsage.class.isAssignableFrom(instanceClass)) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		} else if (EntityOperationalCapabilityInvolvement.class.isAssignableFrom(instanceClass)) {
+			computer = EntityOperationalCapabilityInvolvementHelper.getInstance().getComputer(feature);
+		} else if (OperationalScenario.class.isAssignableFrom(instanceClass)) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 }
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.oa.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.AllocationHelper;
 import org.polarsys.capella.core.data.oa.ActivityAllocation;
 import org.polarsys.capella.core.data.oa.OaPackage;
@@ -25,8 +29,15 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class ActivityAllocationHelper {
 	private static ActivityAllocationHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private ActivityAllocationHelper() {
-    // do nothing
+		computers.put(OaPackage.Literals.ACTIVITY_ALLOCATION__ACTIVITY,
+				element -> getActivity((ActivityAllocation) element));
+		computers.put(OaPackage.Literals.ACTIVITY_ALLOCATION__ROLE, element -> getRole((ActivityAllocation) element));
 	}
 
 	public static ActivityAllocationHelper getInstance(){
@@ -38,11 +49,9 @@ public class ActivityAllocationHelper {
 	public Object doSwitch(ActivityAllocation element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(OaPackage.Literals.ACTIVITY_ALLOCATION__ACTIVITY)) {
-			ret = getActivity(element);
-		}
-		else if (feature.equals(OaPackage.Literals.ACTIVITY_ALLOCATION__ROLE)) {
-			ret = getRole(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
     // no helper found... searching in super classes...
@@ -53,6 +62,18 @@ public class ActivityAllocationHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AllocationHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected OperationalActivity getActivity(ActivityAllocation element) {
 		TraceableElement ret = element.getTargetElement();
 
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.oa.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.fa.delegates.ComponentExchangeHelper;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedRelationshipHelper;
 import org.polarsys.capella.core.data.oa.CommunicationMean;
@@ -25,8 +29,16 @@ import org.polarsys.capella.common.data.modellingcore.InformationsExchanger;
 public class CommunicationMeanHelper {
   private static CommunicationMeanHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private CommunicationMeanHelper() {
-    // do nothing
+    computers.put(OaPackage.Literals.COMMUNICATION_MEAN__SOURCE_ENTITY,
+        element -> getSourceEntity((CommunicationMean) element));
+    computers.put(OaPackage.Literals.COMMUNICATION_MEAN__TARGET_ENTITY,
+        element -> getTargetEntity((CommunicationMean) element));
   }
 
   public static CommunicationMeanHelper getInstance() {
@@ -38,10 +50,9 @@ public class CommunicationMeanHelper {
   public Object doSwitch(CommunicationMean element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(OaPackage.Literals.COMMUNICATION_MEAN__SOURCE_ENTITY)) {
-      ret = getSourceEntity(element);
-    } else if (feature.equals(OaPackage.Literals.COMMUNICATION_MEAN__TARGET_ENTITY)) {
-      ret = getTargetEntity(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -55,6 +66,21 @@ public class CommunicationMeanHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = ComponentExchangeHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = NamedRelationshipHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected Entity getSourceEntity(CommunicationMean element) {
     InformationsExchanger source = element.getSource();
     if (source instanceof Entity) {
@@ -14,12 +14,15 @@
 package org.polarsys.capella.core.data.helpers.oa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.helpers.modellingcore.delegates.InformationsExchangerHelper;
 import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.Feature;
 import org.polarsys.capella.core.data.capellacore.Involvement;
 import org.polarsys.capella.core.data.capellacore.Type;
@@ -39,8 +42,21 @@ import org.polarsys.capella.core.data.oa.RoleAllocation;
 public class EntityHelper {
 	private static EntityHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private EntityHelper() {
-	  // do nothing
+		computers.put(OaPackage.Literals.ENTITY__SUB_ENTITIES, element -> getSubEntities((Entity) element));
+		computers.put(OaPackage.Literals.ENTITY__ROLE_ALLOCATIONS, element -> getRoleAllocations((Entity) element));
+		computers.put(OaPackage.Literals.ENTITY__ALLOCATED_OPERATIONAL_ACTIVITIES,
+				element -> getAllocatedOperationalActivities((Entity) element));
+		computers.put(OaPackage.Literals.ENTITY__INVOLVING_OPERATIONAL_CAPABILITIES,
+				element -> getInvolvingOperationalCapabilities((Entity) element));
+		computers.put(OaPackage.Literals.ENTITY__ALLOCATED_ROLES, element -> getAllocatedRoles((Entity) element));
+		computers.put(OaPackage.Literals.ENTITY__REALIZING_SYSTEM_COMPONENTS,
+				element -> getRealizingSystemComponents((Entity) element));
 	}
 
 	public static EntityHelper getInstance() {
@@ -52,18 +68,9 @@ public class EntityHelper {
 	public Object doSwitch(Entity element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(OaPackage.Literals.ENTITY__SUB_ENTITIES)) {
-			ret = getSubEntities(element);
-		} else if (feature.equals(OaPackage.Literals.ENTITY__ROLE_ALLOCATIONS)) {
-			ret = getRoleAllocations(element);
-    } else if (feature.equals(OaPackage.Literals.ENTITY__ALLOCATED_OPERATIONAL_ACTIVITIES)) {
-      ret = getAllocatedOperationalActivities(element);
-    } else if (feature.equals(OaPackage.Literals.ENTITY__INVOLVING_OPERATIONAL_CAPABILITIES)) {
-      ret = getInvolvingOperationalCapabilities(element);
-    } else if (feature.equals(OaPackage.Literals.ENTITY__ALLOCATED_ROLES)) {
-      ret = getAllocatedRoles(element);
-    } else if (feature.equals(OaPackage.Literals.ENTITY__REALIZING_SYSTEM_COMPONENTS)) {
-      ret = getRealizingSystemComponents(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -80,6 +87,24 @@ public class EntityHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = ComponentHelper.getInstance().getComputer(feature);
+		}
+		if (null == computer) {
+			computer = InformationsExchangerHelper.getInstance().getComputer(feature);
+		}
+		if (null == computer) {
+			computer = InvolvedElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected List<RoleAllocation> getRoleAllocations(Entity element) {
 		List<RoleAllocation> ret = new ArrayList<>();
 
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.oa.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.InvolvementHelper;
 import org.polarsys.capella.core.data.capellacore.InvolvedElement;
 import org.polarsys.capella.core.data.capellacore.InvolverElement;
@@ -26,8 +30,16 @@ import org.polarsys.capella.core.data.oa.OperationalCapability;
 public class EntityOperationalCapabilityInvolvementHelper {
   private static EntityOperationalCapabilityInvolvementHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private EntityOperationalCapabilityInvolvementHelper() {
-    // do nothing
+    computers.put(OaPackage.Literals.ENTITY_OPERATIONAL_CAPABILITY_INVOLVEMENT__ENTITY,
+        element -> getEntity((EntityOperationalCapabilityInvolvement) element));
+    computers.put(OaPackage.Literals.ENTITY_OPERATIONAL_CAPABILITY_INVOLVEMENT__CAPABILITY,
+        element -> getCapability((EntityOperationalCapabilityInvolvement) element));
   }
 
   public static EntityOperationalCapabilityInvolvementHelper getInstance() {
@@ -39,10 +51,9 @@ public class EntityOperationalCapabilityInvolvementHelper {
   public Object doSwitch(EntityOperationalCapabilityInvolvement element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(OaPackage.Literals.ENTITY_OPERATIONAL_CAPABILITY_INVOLVEMENT__ENTITY)) {
-      ret = getEntity(element);
-    } else if (feature.equals(OaPackage.Literals.ENTITY_OPERATIONAL_CAPABILITY_INVOLVEMENT__CAPABILITY)) {
-      ret = getCapability(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -53,6 +64,18 @@ public class EntityOperationalCapabilityInvolvementHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = InvolvementHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected Entity getEntity(EntityOperationalCapabilityInvolvement element) {
     InvolvedElement elt = element.getInvolved();
     if (elt instanceof Entity)
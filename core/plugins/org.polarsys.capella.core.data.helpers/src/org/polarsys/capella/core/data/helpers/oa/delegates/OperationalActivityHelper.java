@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.oa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.ctx.SystemFunction;
 import org.polarsys.capella.core.data.fa.AbstractFunction;
 import org.polarsys.capella.core.data.fa.ComponentFunctionalAllocation;
@@ -37,8 +40,28 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class OperationalActivityHelper {
   private static OperationalActivityHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private OperationalActivityHelper() {
-    // do nothing
+    computers.put(OaPackage.Literals.OPERATIONAL_ACTIVITY__OWNED_SWIMLANES,
+        element -> getOwnedSwimlanes((OperationalActivity) element));
+    computers.put(OaPackage.Literals.OPERATIONAL_ACTIVITY__OWNED_PROCESS,
+        element -> getOwnedProcess((OperationalActivity) element));
+    computers.put(OaPackage.Literals.OPERATIONAL_ACTIVITY__ACTIVITY_ALLOCATIONS,
+        element -> getActivityAllocations((OperationalActivity) element));
+    computers.put(OaPackage.Literals.OPERATIONAL_ACTIVITY__ALLOCATOR_ENTITIES,
+        element -> getAllocatorEntities((OperationalActivity) element));
+    computers.put(OaPackage.Literals.OPERATIONAL_ACTIVITY__REALIZING_SYSTEM_FUNCTIONS,
+        element -> getRealizingSystemFunctions((OperationalActivity) element));
+    computers.put(OaPackage.Literals.OPERATIONAL_ACTIVITY__ALLOCATING_ROLES,
+        element -> getAllocatingRoles((OperationalActivity) element));
+    computers.put(OaPackage.Literals.OPERATIONAL_ACTIVITY__CONTAINED_OPERATIONAL_ACTIVITIES,
+        element -> getContainedOperationalActivities((OperationalActivity) element));
+    computers.put(OaPackage.Literals.OPERATIONAL_ACTIVITY__CHILDREN_OPERATIONAL_ACTIVITIES,
+        element -> getChildrenOperationalActivities((OperationalActivity) element));
   }
 
   public static OperationalActivityHelper getInstance() {
@@ -51,22 +74,9 @@ public class OperationalActivityHelper {
   public Object doSwitch(OperationalActivity element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(OaPackage.Literals.OPERATIONAL_ACTIVITY__OWNED_SWIMLANES)) {
-      ret = getOwnedSwimlanes(element);
-    } else if (feature.equals(OaPackage.Literals.OPERATIONAL_ACTIVITY__OWNED_PROCESS)) {
-      ret = getOwnedProcess(element);
-    } else if (feature.equals(OaPackage.Literals.OPERATIONAL_ACTIVITY__ACTIVITY_ALLOCATIONS)) {
-      ret = getActivityAllocations(element);
-    } else if (feature.equals(OaPackage.Literals.OPERATIONAL_ACTIVITY__ALLOCATOR_ENTITIES)) {
-      ret = getAllocatorEntities(element);
-    } else if (feature.equals(OaPackage.Literals.OPERATIONAL_ACTIVITY__REALIZING_SYSTEM_FUNCTIONS)) {
-      ret = getRealizingSystemFunctions(element);
-    } else if (feature.equals(OaPackage.Literals.OPERATIONAL_ACTIVITY__ALLOCATING_ROLES)) {
-      ret = getAllocatingRoles(element);
-    } else if (feature.equals(OaPackage.Literals.OPERATIONAL_ACTIVITY__CONTAINED_OPERATIONAL_ACTIVITIES)) {
-      ret = getContainedOperationalActivities(element);
-    } else if (feature.equals(OaPackage.Literals.OPERATIONAL_ACTIVITY__CHILDREN_OPERATIONAL_ACTIVITIES)) {
-      ret = getChildrenOperationalActivities(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -77,6 +87,18 @@ public class OperationalActivityHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AbstractFunctionHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<ActivityAllocation> getActivityAllocations(OperationalActivity element) {
     List<ActivityAllocation> ret = new ArrayList<>();
 
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.oa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.BlockArchitecture;
 import org.polarsys.capella.core.data.ctx.SystemAnalysis;
 import org.polarsys.capella.core.data.fa.FunctionPkg;
@@ -31,8 +34,18 @@ import org.polarsys.capella.core.data.oa.OperationalCapabilityPkg;
 public class OperationalAnalysisHelper {
   private static OperationalAnalysisHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private OperationalAnalysisHelper() {
-    // do nothing
+    computers.put(OaPackage.Literals.OPERATIONAL_ANALYSIS__CONTAINED_OPERATIONAL_CAPABILITY_PKG,
+        element -> getContainedOperationalCapabilityPkg((OperationalAnalysis) element));
+    computers.put(OaPackage.Literals.OPERATIONAL_ANALYSIS__CONTAINED_OPERATIONAL_ACTIVITY_PKG,
+        element -> getContainedOperationalActivityPkg((OperationalAnalysis) element));
+    computers.put(OaPackage.Literals.OPERATIONAL_ANALYSIS__ALLOCATING_SYSTEM_ANALYSES,
+        element -> getAllocatingSystemAnalyses((OperationalAnalysis) element));
   }
 
   public static OperationalAnalysisHelper getInstance() {
@@ -44,12 +57,9 @@ public class OperationalAnalysisHelper {
   public Object doSwitch(OperationalAnalysis element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(OaPackage.Literals.OPERATIONAL_ANALYSIS__CONTAINED_OPERATIONAL_CAPABILITY_PKG)) {
-      ret = getContainedOperationalCapabilityPkg(element);
-    } else if (feature.equals(OaPackage.Literals.OPERATIONAL_ANALYSIS__CONTAINED_OPERATIONAL_ACTIVITY_PKG)) {
-      ret = getContainedOperationalActivityPkg(element);
-    } else if (feature.equals(OaPackage.Literals.OPERATIONAL_ANALYSIS__ALLOCATING_SYSTEM_ANALYSES)) {
-      ret = getAllocatingSystemAnalyses(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -60,6 +70,18 @@ public class OperationalAnalysisHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = BlockArchitectureHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected OperationalCapabilityPkg getContainedOperationalCapabilityPkg(OperationalAnalysis element) {
     AbstractCapabilityPkg abstractCapabilityPkg = element.getOwnedAbstractCapabilityPkg();
     if (abstractCapabilityPkg instanceof OperationalCapabilityPkg) {
@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.oa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.ctx.Capability;
 import org.polarsys.capella.core.data.helpers.interaction.delegates.AbstractCapabilityHelper;
 import org.polarsys.capella.core.data.interaction.AbstractCapability;
@@ -32,8 +35,16 @@ import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 public class OperationalCapabilityHelper {
   private static OperationalCapabilityHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private OperationalCapabilityHelper() {
-    // do nothing
+    computers.put(OaPackage.Literals.OPERATIONAL_CAPABILITY__REALIZING_CAPABILITIES,
+        element -> getRealizingCapabilities((OperationalCapability) element));
+    computers.put(OaPackage.Literals.OPERATIONAL_CAPABILITY__INVOLVED_ENTITIES,
+        element -> getInvolvedEntities((OperationalCapability) element));
   }
 
   public static OperationalCapabilityHelper getInstance() {
@@ -45,10 +56,9 @@ public class OperationalCapabilityHelper {
   public Object doSwitch(OperationalCapability element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(OaPackage.Literals.OPERATIONAL_CAPABILITY__REALIZING_CAPABILITIES)) {
-      ret = getRealizingCapabilities(element);
-    } else if (feature.equals(OaPackage.Literals.OPERATIONAL_CAPABILITY__INVOLVED_ENTITIES)) {
-      ret = getInvolvedEntities(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -59,6 +69,18 @@ public class OperationalCapabilityHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AbstractCapabilityHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<Capability> getRealizingCapabilities(OperationalCapability element) {
     List <Capability> ret = new ArrayList<>();
     for (AbstractTrace trace : element.getIncomingTraces()) {
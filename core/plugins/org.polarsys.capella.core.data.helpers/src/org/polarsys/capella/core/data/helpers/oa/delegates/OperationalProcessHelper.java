@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.oa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.fa.delegates.FunctionalChainHelper;
 import org.polarsys.capella.core.data.interaction.AbstractCapability;
 import org.polarsys.capella.core.data.interaction.FunctionalChainAbstractCapabilityInvolvement;
@@ -29,8 +32,14 @@ import org.polarsys.capella.core.data.oa.OperationalProcess;
 public class OperationalProcessHelper {
   private static OperationalProcessHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private OperationalProcessHelper() {
-    // do nothing
+    computers.put(OaPackage.Literals.OPERATIONAL_PROCESS__INVOLVING_OPERATIONAL_CAPABILITIES,
+        element -> getInvolvingOperationalCapabilities((OperationalProcess) element));
   }
 
   public static OperationalProcessHelper getInstance() {
@@ -42,8 +51,9 @@ public class OperationalProcessHelper {
   public Object doSwitch(OperationalProcess element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(OaPackage.Literals.OPERATIONAL_PROCESS__INVOLVING_OPERATIONAL_CAPABILITIES)) {
-      ret = getInvolvingOperationalCapabilities(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -54,6 +64,18 @@ public class OperationalProcessHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = FunctionalChainHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<OperationalCapability> getInvolvingOperationalCapabilities(OperationalProcess element) {
     List<OperationalCapability> ret = new ArrayList<>();
     for (Involvement inv : element.getInvolvingInvolvements()) {
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.oa.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.AllocationHelper;
 import org.polarsys.capella.core.data.oa.Entity;
 import org.polarsys.capella.core.data.oa.OaPackage;
@@ -25,8 +29,14 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class RoleAllocationHelper {
 	private static RoleAllocationHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private RoleAllocationHelper() {
-    // do nothing
+		computers.put(OaPackage.Literals.ROLE_ALLOCATION__ENTITY, element -> getEntity((RoleAllocation) element));
+		computers.put(OaPackage.Literals.ROLE_ALLOCATION__ROLE, element -> getRole((RoleAllocation) element));
 	}
 
 	public static RoleAllocationHelper getInstance(){
@@ -38,11 +48,9 @@ public class RoleAllocationHelper {
 	public Object doSwitch(RoleAllocation element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(OaPackage.Literals.ROLE_ALLOCATION__ENTITY)) {
-			ret = getEntity(element);
-		}
-		else if (feature.equals(OaPackage.Literals.ROLE_ALLOCATION__ROLE)) {
-			ret = getRole(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
     // no helper found... searching in super classes...
@@ -53,6 +61,18 @@ public class RoleAllocationHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AllocationHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected Entity getEntity(RoleAllocation element) {
 		TraceableElement ret = element.getSourceElement();
 
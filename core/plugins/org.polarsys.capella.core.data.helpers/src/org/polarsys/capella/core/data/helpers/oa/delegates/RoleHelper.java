@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.oa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.information.delegates.AbstractInstanceHelper;
 import org.polarsys.capella.core.data.oa.ActivityAllocation;
 import org.polarsys.capella.core.data.oa.Entity;
@@ -30,8 +33,17 @@ import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 public class RoleHelper {
 	private static RoleHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private RoleHelper() {
-    // do nothing
+		computers.put(OaPackage.Literals.ROLE__ROLE_ALLOCATIONS, element -> getRoleAllocations((Role) element));
+		computers.put(OaPackage.Literals.ROLE__ACTIVITY_ALLOCATIONS, element -> getActivityAllocations((Role) element));
+		computers.put(OaPackage.Literals.ROLE__ALLOCATING_ENTITIES, element -> getAllocatingEntities((Role) element));
+		computers.put(OaPackage.Literals.ROLE__ALLOCATED_OPERATIONAL_ACTIVITIES,
+				element -> getAllocatedOperationalActivities((Role) element));
 	}
 
 	public static RoleHelper getInstance(){
@@ -43,14 +55,9 @@ public class RoleHelper {
 	public Object doSwitch(Role element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(OaPackage.Literals.ROLE__ROLE_ALLOCATIONS)) {
-			ret = getRoleAllocations(element);
-		} else if (feature.equals(OaPackage.Literals.ROLE__ACTIVITY_ALLOCATIONS)) {
-			ret = getActivityAllocations(element);
-    } else if (feature.equals(OaPackage.Literals.ROLE__ALLOCATING_ENTITIES)) {
-      ret = getAllocatingEntities(element);
-    } else if (feature.equals(OaPackage.Literals.ROLE__ALLOCATED_OPERATIONAL_ACTIVITIES)) {
-      ret = getAllocatedOperationalActivities(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
     // no helper found... searching in super classes...
@@ -61,6 +68,18 @@ public class RoleHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = AbstractInstanceHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected List<RoleAllocation> getRoleAllocations(Role element) {
 		List<RoleAllocation> ret = new ArrayList<>();
 		for (AbstractTrace abstractTrace : element.getIncomingTraces()) {
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.oa.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedElementHelper;
 import org.polarsys.capella.core.data.oa.Entity;
 import org.polarsys.capella.core.data.oa.OaPackage;
@@ -25,8 +29,13 @@ import org.polarsys.capella.common.data.modellingcore.AbstractType;
 public class SwimlaneHelper {
   private static SwimlaneHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private SwimlaneHelper() {
-    // do nothing
+    computers.put(OaPackage.Literals.SWIMLANE__REPRESENTED_ENTITY, element -> getRepresentedEntity((Swimlane) element));
   }
 
   public static SwimlaneHelper getInstance() {
@@ -38,8 +47,9 @@ public class SwimlaneHelper {
   public Object doSwitch(Swimlane element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(OaPackage.Literals.SWIMLANE__REPRESENTED_ENTITY)) {
-      ret = getRepresentedEntity(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -53,6 +63,21 @@ public class SwimlaneHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = NamedElementHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = ActivityPartitionHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected Entity getRepresentedEntity(Swimlane element) {
     AbstractType represented = element.getRepresentedElement();
     if (represented instanceof Entity) {
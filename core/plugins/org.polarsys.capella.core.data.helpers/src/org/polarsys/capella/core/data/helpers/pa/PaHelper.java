@@ -14,9 +14,11 @@
 package org.polarsys.capella.core.data.helpers.pa;
 
 import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.model.helpers.HelperNotFoundException;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.common.model.helpers.IHelper;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.CapellaElementHelper;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamedElementHelper;
@@ -110,4 +112,48 @@ public class PaHelper implements IHelper {
 
 		throw new HelperNotFoundException();
 	}
+
+	@Override
+	public IDerivedFeatureComputer getComputer(EClass eClass, EStructuralFeature feature) {
+		// Same dispatch as getValue, on the instance class
+		Class<?> instanceClass = eClass.getInstanceClass();
+		IDerivedFeatureComputer computer = null;
+		if (PhysicalArchitecture.class.isAssignableFrom(instanceClass)) {
+			computer = PhysicalArchitectureHelper.getInstance().getComputer(feature);
+		} else if (PhysicalNode.class.isAssignableFrom(instanceClass)) {
+			computer = PhysicalNodeHelper.getInstance().getComputer(feature);
+		} else if (PhysicalComponent.class.isAssignableFrom(instanceClass)) {
+			computer = PhysicalComponentHelper.getInstance().getComputer(feature);
+		} else if (PhysicalFunction.class.isAssignableFrom(instanceClass)) {
+			computer = PhysicalFunctionHelper.getInstance().getComputer(feature);
+		} else if (LogicalArchitectureRealization.class.isAssignableFrom(instanceClass)) {
+			computer = LogicalArchitectureRealizationHelper.getInstance().getComputer(feature);
+		} else if (LogicalInterfaceRealization.class.isAssignableFrom(instanceClass)) {
+			computer = LogicalInterfaceRealizationHelper.getInstance().getComputer(feature);
+		} else if (PhysicalFunctionPkg.class.isAssignableFrom(instanceClass)) {
+			computer = StructureHelper.getInstance().getComputer(feature);
+		} else if (PhysicalComponentPkg.class.isAssignableFrom(instanceClass)) {
+			computer = StructureHelper.getInstance().getComputer(feature);
+		} else if (TypeDeploymentLink.class.isAssignableFrom(instanceClass)) {
+			computer = RelationshipHelper.getInstance().getComputer(feature);
+		} else if (PartDeploymentLink.class.isAssignableFrom(instanceClass)) {
+			computer = RelationshipHelper.getInstance().getComputer(feature);
+		} else if (InstanceDeploymentLink.class.isAssignableFrom(instanceClass)) {
+			computer = RelationshipHelper.getInstance().getComputer(feature);
+		} else if (DeploymentAspect.class.isAssignableFrom(instanceClass)) {
+			computer = StructureHelper.getInstance().getComputer(feature);
+		} else if (PhysicalArchitecturePkg.class.isAssignableFrom(instanceClass)) {
+			computer = StructureHelper.getInstance().getComputer(feature);
+		} else if (DeploymentConfiguration.class.isAssignableFrom(instanceClass)) {
+			computer = NamedElementHelper.getInstance().getComputer(feature);
+		} else if (PortInstance.class.isAssignableFrom(instanceClass)) {
+			computer = PortInstanceHelper.getInstance().getComputer(feature);
+		} else if (ComponentInstance.class.isAssignableFrom(instanceClass)) {
+			computer = ComponentInstanceHelper.getInstance().getComputer(feature);
+		} else if (ConnectionInstance.class.isAssignableFrom(instanceClass)) {
+			computer = CapellaElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 }
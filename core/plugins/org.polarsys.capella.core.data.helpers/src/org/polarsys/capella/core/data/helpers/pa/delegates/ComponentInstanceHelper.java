@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.pa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.cs.delegates.DeployableElementHelper;
 import org.polarsys.capella.core.data.helpers.cs.delegates.DeploymentTargetHelper;
 import org.polarsys.capella.core.data.pa.deployment.AbstractPhysicalInstance;
@@ -28,8 +31,14 @@ import org.polarsys.capella.core.data.pa.deployment.PortInstance;
 public class ComponentInstanceHelper {
 	private static ComponentInstanceHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private ComponentInstanceHelper() {
-    // do nothing
+		computers.put(DeploymentPackage.Literals.COMPONENT_INSTANCE__PORT_INSTANCES,
+				element -> getPortInstances((ComponentInstance) element));
 	}
 
 	public static ComponentInstanceHelper getInstance() {
@@ -41,8 +50,9 @@ public class ComponentInstanceHelper {
 	public Object doSwitch(ComponentInstance element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(DeploymentPackage.Literals.COMPONENT_INSTANCE__PORT_INSTANCES)) {
-      ret = getPortInstances(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 	// No helper found... searching in super classes...
@@ -57,6 +67,21 @@ public class ComponentInstanceHelper {
 	return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = DeployableElementHelper.getInstance().getComputer(feature);
+		}
+		if (null == computer) {
+			computer = DeploymentTargetHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected List<PortInstance> getPortInstances(ComponentInstance element) {
     List<PortInstance> portInstances = new ArrayList<>();
     for (AbstractPhysicalInstance abstractPhysicalInstance : element.getOwnedAbstractPhysicalInstances()) {
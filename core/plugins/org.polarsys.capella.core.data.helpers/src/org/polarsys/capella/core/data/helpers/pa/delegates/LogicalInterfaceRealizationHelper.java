@@ -15,6 +15,7 @@ package org.polarsys.capella.core.data.helpers.pa.delegates;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.cs.delegates.InterfaceAllocationHelper;
 import org.polarsys.capella.core.data.pa.LogicalInterfaceRealization;
 
@@ -36,4 +37,12 @@ public class LogicalInterfaceRealizationHelper {
 		// no helper found... searching in super classes...
 		return InterfaceAllocationHelper.getInstance().doSwitch(element, feature);
 	}
+
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		return InterfaceAllocationHelper.getInstance().getComputer(feature);
+	}
 }
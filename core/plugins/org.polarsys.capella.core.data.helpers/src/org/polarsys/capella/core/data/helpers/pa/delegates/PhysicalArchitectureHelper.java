@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.pa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.cs.ArchitectureAllocation;
 import org.polarsys.capella.core.data.cs.BlockArchitecture;
 import org.polarsys.capella.core.data.epbs.EPBSArchitecture;
@@ -34,8 +37,22 @@ import org.polarsys.capella.core.data.pa.PhysicalFunctionPkg;
 public class PhysicalArchitectureHelper {
   private static PhysicalArchitectureHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private PhysicalArchitectureHelper() {
-    // do nothing
+    computers.put(PaPackage.Literals.PHYSICAL_ARCHITECTURE__ALLOCATED_LOGICAL_ARCHITECTURE_REALIZATIONS,
+        element -> getAllocatedLogicalArchitectureRealizations((PhysicalArchitecture) element));
+    computers.put(PaPackage.Literals.PHYSICAL_ARCHITECTURE__CONTAINED_CAPABILITY_REALIZATION_PKG,
+        element -> getContainedCapabilityRealizationPkg((PhysicalArchitecture) element));
+    computers.put(PaPackage.Literals.PHYSICAL_ARCHITECTURE__CONTAINED_PHYSICAL_FUNCTION_PKG,
+        element -> getContainedPhysicalFunctionPkg((PhysicalArchitecture) element));
+    computers.put(PaPackage.Literals.PHYSICAL_ARCHITECTURE__ALLOCATED_LOGICAL_ARCHITECTURES,
+        element -> getAllocatedLogicalArchitectures((PhysicalArchitecture) element));
+    computers.put(PaPackage.Literals.PHYSICAL_ARCHITECTURE__ALLOCATING_EPBS_ARCHITECTURES,
+        element -> getAllocatingEpbsArchitectures((PhysicalArchitecture) element));
   }
 
   public static PhysicalArchitectureHelper getInstance() {
@@ -47,16 +64,9 @@ public class PhysicalArchitectureHelper {
   public Object doSwitch(PhysicalArchitecture element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(PaPackage.Literals.PHYSICAL_ARCHITECTURE__ALLOCATED_LOGICAL_ARCHITECTURE_REALIZATIONS)) {
-      ret = getAllocatedLogicalArchitectureRealizations(element);
-    } else if (feature.equals(PaPackage.Literals.PHYSICAL_ARCHITECTURE__CONTAINED_CAPABILITY_REALIZATION_PKG)) {
-      ret = getContainedCapabilityRealizationPkg(element);
-    } else if (feature.equals(PaPackage.Literals.PHYSICAL_ARCHITECTURE__CONTAINED_PHYSICAL_FUNCTION_PKG)) {
-      ret = getContainedPhysicalFunctionPkg(element);
-    } else if (feature.equals(PaPackage.Literals.PHYSICAL_ARCHITECTURE__ALLOCATED_LOGICAL_ARCHITECTURES)) {
-      ret = getAllocatedLogicalArchitectures(element);
-    } else if (feature.equals(PaPackage.Literals.PHYSICAL_ARCHITECTURE__ALLOCATING_EPBS_ARCHITECTURES)) {
-      ret = getAllocatingEpbsArchitectures(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -67,6 +77,18 @@ public class PhysicalArchitectureHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = BlockArchitectureHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<LogicalArchitectureRealization> getAllocatedLogicalArchitectureRealizations(PhysicalArchitecture element) {
     List<LogicalArchitectureRealization> ret = new ArrayList<>();
 
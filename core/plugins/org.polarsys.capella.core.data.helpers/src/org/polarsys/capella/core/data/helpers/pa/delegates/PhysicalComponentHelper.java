@@ -14,7 +14,9 @@
 package org.polarsys.capella.core.data.helpers.pa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.eclipse.emf.ecore.EObject;
@@ -22,6 +24,7 @@ import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.AbstractType;
 import org.polarsys.capella.common.data.modellingcore.ModellingcorePackage;
 import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.Feature;
 import org.polarsys.capella.core.data.capellacore.Type;
 import org.polarsys.capella.core.data.cs.AbstractDeploymentLink;
@@ -44,8 +47,24 @@ import org.polarsys.capella.core.data.pa.PhysicalFunction;
 public class PhysicalComponentHelper {
   private static PhysicalComponentHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private PhysicalComponentHelper() {
-    // do nothing
+    computers.put(PaPackage.Literals.PHYSICAL_COMPONENT__SUB_PHYSICAL_COMPONENTS,
+        element -> getSubPhysicalComponents((PhysicalComponent) element));
+    computers.put(PaPackage.Literals.PHYSICAL_COMPONENT__LOGICAL_INTERFACE_REALIZATIONS,
+        element -> getLogicalInterfaceRealizations((PhysicalComponent) element));
+    computers.put(PaPackage.Literals.PHYSICAL_COMPONENT__REALIZED_LOGICAL_COMPONENTS,
+        element -> getRealizedLogicalComponents((PhysicalComponent) element));
+    computers.put(PaPackage.Literals.PHYSICAL_COMPONENT__ALLOCATED_PHYSICAL_FUNCTIONS,
+        element -> getAllocatedPhysicalFunctions((PhysicalComponent) element));
+    computers.put(PaPackage.Literals.PHYSICAL_COMPONENT__DEPLOYED_PHYSICAL_COMPONENTS,
+        element -> getDeployedPhysicalComponents((PhysicalComponent) element));
+    computers.put(PaPackage.Literals.PHYSICAL_COMPONENT__DEPLOYING_PHYSICAL_COMPONENTS,
+        element -> getDeployingPhysicalComponents((PhysicalComponent) element));
   }
 
   public static PhysicalComponentHelper getInstance() {
@@ -57,18 +76,9 @@ public class PhysicalComponentHelper {
   public Object doSwitch(PhysicalComponent element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(PaPackage.Literals.PHYSICAL_COMPONENT__SUB_PHYSICAL_COMPONENTS)) {
-      ret = getSubPhysicalComponents(element);
-    } else if (feature.equals(PaPackage.Literals.PHYSICAL_COMPONENT__LOGICAL_INTERFACE_REALIZATIONS)) {
-      ret = getLogicalInterfaceRealizations(element);
-    } else if (feature.equals(PaPackage.Literals.PHYSICAL_COMPONENT__REALIZED_LOGICAL_COMPONENTS)) {
-      ret = getRealizedLogicalComponents(element);
-    } else if (feature.equals(PaPackage.Literals.PHYSICAL_COMPONENT__ALLOCATED_PHYSICAL_FUNCTIONS)) {
-      ret = getAllocatedPhysicalFunctions(element);
-    } else if (feature.equals(PaPackage.Literals.PHYSICAL_COMPONENT__DEPLOYED_PHYSICAL_COMPONENTS)) {
-      ret = getDeployedPhysicalComponents(element);
-    } else if (feature.equals(PaPackage.Literals.PHYSICAL_COMPONENT__DEPLOYING_PHYSICAL_COMPONENTS)) {
-      ret = getDeployingPhysicalComponents(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -91,6 +101,30 @@ public class PhysicalComponentHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AbstractPhysicalArtifactHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = ComponentHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = CapabilityRealizationInvolvedElementHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = DeployableElementHelper.getInstance().getComputer(feature);
+    }
+    if (null == computer) {
+      computer = DeploymentTargetHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<LogicalInterfaceRealization> getLogicalInterfaceRealizations(PhysicalComponent element) {
     List<LogicalInterfaceRealization> ret = new ArrayList<>();
     for (InterfaceAllocation componentAllocation : element.getProvisionedInterfaceAllocations()) {
@@ -14,11 +14,14 @@
 package org.polarsys.capella.core.data.helpers.pa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.data.modellingcore.AbstractTrace;
 import org.polarsys.capella.common.data.modellingcore.TraceableElement;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.fa.AbstractFunction;
 import org.polarsys.capella.core.data.fa.ComponentFunctionalAllocation;
 import org.polarsys.capella.core.data.fa.FunctionRealization;
@@ -31,8 +34,20 @@ import org.polarsys.capella.core.data.pa.PhysicalFunction;
 public class PhysicalFunctionHelper {
   private static PhysicalFunctionHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private PhysicalFunctionHelper() {
-    // do nothing
+    computers.put(PaPackage.Literals.PHYSICAL_FUNCTION__ALLOCATING_PHYSICAL_COMPONENTS,
+        element -> getAllocatingPhysicalComponents((PhysicalFunction) element));
+    computers.put(PaPackage.Literals.PHYSICAL_FUNCTION__REALIZED_LOGICAL_FUNCTIONS,
+        element -> getRealizedLogicalFunctions((PhysicalFunction) element));
+    computers.put(PaPackage.Literals.PHYSICAL_FUNCTION__CONTAINED_PHYSICAL_FUNCTIONS,
+        element -> getContainedPhysicalFunctions((PhysicalFunction) element));
+    computers.put(PaPackage.Literals.PHYSICAL_FUNCTION__CHILDREN_PHYSICAL_FUNCTIONS,
+        element -> getChildrenPhysicalFunctions((PhysicalFunction) element));
   }
 
   public static PhysicalFunctionHelper getInstance() {
@@ -45,14 +60,9 @@ public class PhysicalFunctionHelper {
   public Object doSwitch(PhysicalFunction element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(PaPackage.Literals.PHYSICAL_FUNCTION__ALLOCATING_PHYSICAL_COMPONENTS)) {
-      ret = getAllocatingPhysicalComponents(element);
-    } else if (feature.equals(PaPackage.Literals.PHYSICAL_FUNCTION__REALIZED_LOGICAL_FUNCTIONS)) {
-      ret = getRealizedLogicalFunctions(element);
-    } else if (feature.equals(PaPackage.Literals.PHYSICAL_FUNCTION__CONTAINED_PHYSICAL_FUNCTIONS)) {
-      ret = getContainedPhysicalFunctions(element);
-    } else if (feature.equals(PaPackage.Literals.PHYSICAL_FUNCTION__CHILDREN_PHYSICAL_FUNCTIONS)) {
-      ret = getChildrenPhysicalFunctions(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -63,6 +73,18 @@ public class PhysicalFunctionHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = AbstractFunctionHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<PhysicalComponent> getAllocatingPhysicalComponents(PhysicalFunction element) {
     List<PhysicalComponent> ret = new ArrayList<>();
     for (AbstractTrace trace : element.getIncomingTraces()) {
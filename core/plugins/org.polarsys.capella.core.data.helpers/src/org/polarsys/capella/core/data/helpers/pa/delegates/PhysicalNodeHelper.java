@@ -14,9 +14,12 @@
 package org.polarsys.capella.core.data.helpers.pa.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.capellacore.Feature;
 import org.polarsys.capella.core.data.capellacore.Type;
 import org.polarsys.capella.core.data.cs.Part;
@@ -26,8 +29,14 @@ import org.polarsys.capella.core.data.pa.PhysicalNode;
 public class PhysicalNodeHelper {
   private static PhysicalNodeHelper instance;
 
+  /**
+   * Computers of the features handled by this helper.
+   */
+  private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
   private PhysicalNodeHelper() {
-    // do nothing
+    computers.put(PaPackage.Literals.PHYSICAL_NODE__SUB_PHYSICAL_NODES,
+        element -> getSubPhysicalNodes((PhysicalNode) element));
   }
 
   public static PhysicalNodeHelper getInstance() {
@@ -40,8 +49,9 @@ public class PhysicalNodeHelper {
   public Object doSwitch(PhysicalNode element, EStructuralFeature feature) {
     Object ret = null;
 
-    if (feature.equals(PaPackage.Literals.PHYSICAL_NODE__SUB_PHYSICAL_NODES)) {
-      ret = getSubPhysicalNodes(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+      ret = computer.getValue(element);
     }
 
     // no helper found... searching in super classes...
@@ -52,6 +62,18 @@ public class PhysicalNodeHelper {
     return ret;
   }
 
+  /**
+   * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+   *         feature is not handled
+   */
+  public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null == computer) {
+      computer = PhysicalComponentHelper.getInstance().getComputer(feature);
+    }
+    return computer;
+  }
+
   protected List<PhysicalNode> getSubPhysicalNodes(PhysicalNode element) {
     List<PhysicalNode> ret = new ArrayList<>();
     for (Feature feature : element.getOwnedFeatures()) {
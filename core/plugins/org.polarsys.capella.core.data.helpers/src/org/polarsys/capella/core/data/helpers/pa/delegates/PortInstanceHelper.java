@@ -13,9 +13,13 @@
 
 package org.polarsys.capella.core.data.helpers.pa.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.CapellaElementHelper;
 import org.polarsys.capella.core.data.pa.deployment.ComponentInstance;
 import org.polarsys.capella.core.data.pa.deployment.DeploymentPackage;
@@ -24,8 +28,13 @@ import org.polarsys.capella.core.data.pa.deployment.PortInstance;
 public class PortInstanceHelper {
 	private static PortInstanceHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private PortInstanceHelper() {
-    // do nothing
+		computers.put(DeploymentPackage.Literals.PORT_INSTANCE__COMPONENT, element -> getComponent((PortInstance) element));
 	}
 
 	public static PortInstanceHelper getInstance() {
@@ -37,8 +46,9 @@ public class PortInstanceHelper {
 	public Object doSwitch(PortInstance element, EStructuralFeature feature) {
 		Object ret = null;
     
-    if (feature.equals(DeploymentPackage.Literals.PORT_INSTANCE__COMPONENT)) {
-      ret = getComponent(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -49,6 +59,18 @@ public class PortInstanceHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = CapellaElementHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected ComponentInstance getComponent(PortInstance element) {
     EObject owner = element.eContainer();
     if (owner instanceof ComponentInstance) {
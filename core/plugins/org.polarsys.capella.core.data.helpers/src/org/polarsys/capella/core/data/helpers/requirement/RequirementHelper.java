@@ -14,9 +14,11 @@
 package org.polarsys.capella.core.data.helpers.requirement;
 
 import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.polarsys.capella.common.model.helpers.HelperNotFoundException;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.common.model.helpers.IHelper;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.StructureHelper;
 import org.polarsys.capella.core.data.helpers.requirement.delegates.RequirementsTraceHelper;
@@ -60,4 +62,28 @@ public class RequirementHelper implements IHelper {
 
 		throw new HelperNotFoundException();
 	}
+
+	@Override
+	public IDerivedFeatureComputer getComputer(EClass eClass, EStructuralFeature feature) {
+		// Same dispatch as getValue, on the instance class
+		Class<?> instanceClass = eClass.getInstanceClass();
+		IDerivedFeatureComputer computer = null;
+		if (RequirementsPkg.class.isAssignableFrom(instanceClass)) {
+			computer = StructureHelper.getInstance().getComputer(feature);
+		} else if (SystemFunctionalInterfaceRequirement.class.isAssignableFrom(instanceClass)) {
+			computer = org.polarsys.capella.core.data.helpers.requirement.delegates.RequirementHelper.getInstance().getComputer(feature);
+		} else if (SystemFunctionalRequirement.class.isAssignableFrom(instanceClass)) {
+			computer = org.polarsys.capella.core.data.helpers.requirement.delegates.RequirementHelper.getInstance().getComputer(feature);
+		} else if (SystemNonFunctionalInterfaceRequirement.class.isAssignableFrom(instanceClass)) {
+			computer = org.polarsys.capella.core.data.helpers.requirement.delegates.RequirementHelper.getInstance().getComputer(feature);
+		} else if (SystemNonFunctionalRequirement.class.isAssignableFrom(instanceClass)) {
+			computer = org.polarsys.capella.core.data.helpers.requirement.delegates.RequirementHelper.getInstance().getComputer(feature);
+		} else if (SystemUserRequirement.class.isAssignableFrom(instanceClass)) {
+			computer = org.polarsys.capella.core.data.helpers.requirement.delegates.RequirementHelper.getInstance().getComputer(feature);
+		} else if (RequirementsTrace.class.isAssignableFrom(instanceClass)) {
+			computer = RequirementsTraceHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 }
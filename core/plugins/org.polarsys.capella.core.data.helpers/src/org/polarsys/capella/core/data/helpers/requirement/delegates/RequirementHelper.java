@@ -14,10 +14,13 @@
 package org.polarsys.capella.core.data.helpers.requirement.delegates;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.NamespaceHelper;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.requirement.Requirement;
@@ -29,8 +32,14 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class RequirementHelper {
 	private static RequirementHelper instance;
 
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
 	private RequirementHelper() {
-    // do nothing
+		computers.put(RequirementPackage.Literals.REQUIREMENT__RELATED_CAPELLA_ELEMENTS,
+				element -> getRelatedCapellaElements((Requirement) element));
 	}
 
 	public static RequirementHelper getInstance() {
@@ -42,8 +51,9 @@ public class RequirementHelper {
 	public Object doSwitch(Requirement element, EStructuralFeature feature) {
 		Object ret = null;
 
-		if (feature.equals(RequirementPackage.Literals.REQUIREMENT__RELATED_CAPELLA_ELEMENTS)) {
-			ret = getRelatedCapellaElements(element);
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null != computer) {
+			ret = computer.getValue(element);
 		}
 
 		// no helper found... searching in super classes...
@@ -54,6 +64,18 @@ public class RequirementHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = NamespaceHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
 	protected List<CapellaElement> getRelatedCapellaElements(Requirement element) {
 		List<CapellaElement> ret = new ArrayList<>();
 		for (AbstractTrace trace : element.getIncomingTraces()) {
@@ -13,8 +13,12 @@
 
 package org.polarsys.capella.core.data.helpers.requirement.delegates;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EStructuralFeature;
 
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
 import org.polarsys.capella.core.data.helpers.capellacore.delegates.TraceHelper;
 import org.polarsys.capella.core.data.requirement.RequirementPackage;
 import org.polarsys.capella.core.data.requirement.RequirementsTrace;
@@ -23,7 +27,16 @@ import org.polarsys.capella.common.data.modellingcore.TraceableElement;
 public class RequirementsTraceHelper {
 	private static RequirementsTraceHelper instance;
 
-	private RequirementsTraceHelper() {//
+	/**
+	 * Computers of the features handled by this helper.
+	 */
+	private final Map<EStructuralFeature, IDerivedFeatureComputer> computers = new HashMap<>();
+
+	private RequirementsTraceHelper() {
+		computers.put(RequirementPackage.Literals.REQUIREMENTS_TRACE__SOURCE,
+				element -> getSource((RequirementsTrace) element));
+		computers.put(RequirementPackage.Literals.REQUIREMENTS_TRACE__TARGET,
+				element -> getTarget((RequirementsTrace) element));
 	}
 
 	public static RequirementsTraceHelper getInstance() {
@@ -35,11 +48,9 @@ public class RequirementsTraceHelper {
 	public Object doSwitch(RequirementsTrace element, EStructuralFeature feature) {
 		Object ret = null;
 
-    if (feature.equals(RequirementPackage.Literals.REQUIREMENTS_TRACE__SOURCE)) {
-      ret = getSource(element);
-    }
-    else if (feature.equals(RequirementPackage.Literals.REQUIREMENTS_TRACE__TARGET)) {
-      ret = getTarget(element);
+    IDerivedFeatureComputer computer = computers.get(feature);
+    if (null != computer) {
+    	ret = computer.getValue(element);
     }
 
 		// no helper found... searching in super classes...
@@ -50,6 +61,18 @@ public class RequirementsTraceHelper {
 		return ret;
 	}
 
+	/**
+	 * @return the computer of a feature handled by this helper or by the helpers of super classes, null if the
+	 *         feature is not handled
+	 */
+	public IDerivedFeatureComputer getComputer(EStructuralFeature feature) {
+		IDerivedFeatureComputer computer = computers.get(feature);
+		if (null == computer) {
+			computer = TraceHelper.getInstance().getComputer(feature);
+		}
+		return computer;
+	}
+
   protected TraceableElement getSource(RequirementsTrace element) {
     return element.getSourceElement();
   }
@@ -21,7 +21,7 @@ import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.ui.views.properties.tabbed.TabbedPropertySheetWidgetFactory;
 import org.polarsys.capella.common.data.modellingcore.ModellingcorePackage;
-import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.helpers.ReferencerQuery;
 import org.polarsys.capella.core.data.capellacore.CapellacorePackage;
 import org.polarsys.capella.core.data.capellacore.Classifier;
 import org.polarsys.capella.core.data.information.Association;
@@ -34,6 +34,9 @@ import org.polarsys.capella.core.ui.properties.fields.AbstractSemanticCheckboxGr
  * The DataType customized section class.
  */
 public class NavigableCheckbox extends AbstractSemanticCheckboxGroup {
+
+  private static final ReferencerQuery NAVIGABLE_MEMBER_OF = new ReferencerQuery(InformationPackage.Literals.ASSOCIATION,
+      InformationPackage.Literals.ASSOCIATION__NAVIGABLE_MEMBERS);
   protected Button _isNavigableBtn;
 
   /**
@@ -56,9 +59,9 @@ public class NavigableCheckbox extends AbstractSemanticCheckboxGroup {
 
     EObject assoc = semanticElement.eContainer();
     if (assoc instanceof Classifier) {
-      List<EObject> lst = EObjectExt.getReferencers(semanticElement, InformationPackage.Literals.ASSOCIATION, InformationPackage.Literals.ASSOCIATION__NAVIGABLE_MEMBERS);
-      if (!lst.isEmpty()) {
-        assoc = lst.get(0);
+      EObject association = NAVIGABLE_MEMBER_OF.getFirstReferencer(semanticElement);
+      if (null != association) {
+        assoc = association;
       }
     }
 
@@ -89,11 +92,7 @@ public class NavigableCheckbox extends AbstractSemanticCheckboxGroup {
       }
     }
     else {
-      EObject referencerElement = null;
-      List<EObject> lst = EObjectExt.getReferencers(semanticElement, InformationPackage.Literals.ASSOCIATION, InformationPackage.Literals.ASSOCIATION__NAVIGABLE_MEMBERS);
-      if (!lst.isEmpty()) {
-        referencerElement = lst.get(0);
-      }
+      EObject referencerElement = NAVIGABLE_MEMBER_OF.getFirstReferencer(semanticElement);
 
       if ((typeElement instanceof Classifier) && (referencerElement instanceof Association)) {
         moveDataValue(semanticElement, referencerElement, InformationPackage.Literals.ASSOCIATION__OWNED_MEMBERS);
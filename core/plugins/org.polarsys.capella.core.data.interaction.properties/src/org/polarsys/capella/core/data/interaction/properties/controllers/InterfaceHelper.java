@@ -22,7 +22,7 @@ import java.util.List;
 import org.eclipse.emf.ecore.EObject;
 import org.polarsys.capella.common.data.modellingcore.AbstractExchangeItem;
 import org.polarsys.capella.common.data.modellingcore.AbstractType;
-import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.helpers.ReferencerQuery;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.capellacore.Feature;
 import org.polarsys.capella.core.data.cs.Component;
@@ -57,6 +57,9 @@ import org.polarsys.capella.core.model.helpers.ScenarioExt;
  */
 public class InterfaceHelper {
 
+  private static final ReferencerQuery EXCHANGE_ITEM_ALLOCATIONS = new ReferencerQuery(
+      CsPackage.Literals.EXCHANGE_ITEM_ALLOCATION__ALLOCATED_ITEM);
+
   /**
    * The single instance of the class
    */
@@ -333,7 +336,7 @@ public class InterfaceHelper {
         }
       } else if (client.getAbstractType() instanceof ExchangeItem) {
         // The interfaces are all those containing a ExchangeItemAllocation to this EI
-        List<EObject> lst = EObjectExt.getReferencers(client.getAbstractType(), CsPackage.Literals.EXCHANGE_ITEM_ALLOCATION__ALLOCATED_ITEM);
+        List<EObject> lst = EXCHANGE_ITEM_ALLOCATIONS.getReferencers(client.getAbstractType());
         for (EObject obj : lst) {
           Interface interf = (Interface) obj.eContainer();
           clientUsedAndRequiredInterfaces.addAll(InterfaceExt.getAllSuperGeneralizableElements(interf));
@@ -348,7 +351,7 @@ public class InterfaceHelper {
         }
       } else if (provider.getAbstractType() instanceof ExchangeItem) {
         // The interfaces are all those containing a ExchangeItemAllocation to this EI
-        List<EObject> lst = EObjectExt.getReferencers(provider.getAbstractType(), CsPackage.Literals.EXCHANGE_ITEM_ALLOCATION__ALLOCATED_ITEM);
+        List<EObject> lst = EXCHANGE_ITEM_ALLOCATIONS.getReferencers(provider.getAbstractType());
         for (EObject obj : lst) {
           Interface interf = (Interface) obj.eContainer();
           providerImplementedAndProvidedInterfaces.addAll(InterfaceExt.getAllSuperGeneralizableElements(interf));
@@ -510,7 +513,7 @@ public class InterfaceHelper {
         if (abstractExchangeItem == eiClient) {
           result.add((CapellaElement) eiClient);
           // communication pattern : we add EIA that point to this EI
-          List<EObject> eiaPotentials = EObjectExt.getReferencers(abstractExchangeItem, CsPackage.Literals.EXCHANGE_ITEM_ALLOCATION__ALLOCATED_ITEM);
+          List<EObject> eiaPotentials = EXCHANGE_ITEM_ALLOCATIONS.getReferencers(abstractExchangeItem);
           for (EObject eObject : eiaPotentials) {
             if (eObject instanceof ExchangeItemAllocation) {
               ExchangeItemAllocation eia = (ExchangeItemAllocation) eObject;
@@ -17,7 +17,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import org.eclipse.emf.ecore.EObject;
-import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.helpers.ReferencerQuery;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.capellacore.Feature;
 import org.polarsys.capella.core.data.cs.Component;
@@ -35,6 +35,9 @@ import org.polarsys.capella.core.model.helpers.ScenarioExt;
 
 public class SelectInvokedOperationModelForSharedDataAndEvent {
 
+  private static final ReferencerQuery EXCHANGE_ITEM_ALLOCATIONS = new ReferencerQuery(
+      CsPackage.Literals.EXCHANGE_ITEM_ALLOCATION__ALLOCATED_ITEM);
+
   /**
    * Returns the available operation (in terms of affectation) for the given <code>SequenceMessage</code>.<br>
    * Resolves ExchangeItemAllocations using interfaces.
@@ -68,7 +71,7 @@ public class SelectInvokedOperationModelForSharedDataAndEvent {
         }
       } else if (client.getAbstractType() instanceof ExchangeItem) {
         // The interfaces are all those containing a ExchangeItemAllocation to this EI
-        List<EObject> lst = EObjectExt.getReferencers(client.getAbstractType(), CsPackage.Literals.EXCHANGE_ITEM_ALLOCATION__ALLOCATED_ITEM);
+        List<EObject> lst = EXCHANGE_ITEM_ALLOCATIONS.getReferencers(client.getAbstractType());
         for (EObject obj : lst) {
           Interface interf = (Interface) obj.eContainer();
           clientUsedAndRequiredInterfaces.addAll(InterfaceExt.getAllSuperGeneralizableElements(interf));
@@ -83,7 +86,7 @@ public class SelectInvokedOperationModelForSharedDataAndEvent {
         }
       } else if (provider.getAbstractType() instanceof ExchangeItem) {
         // The interfaces are all those containing a ExchangeItemAllocation to this EI
-        List<EObject> lst = EObjectExt.getReferencers(provider.getAbstractType(), CsPackage.Literals.EXCHANGE_ITEM_ALLOCATION__ALLOCATED_ITEM);
+        List<EObject> lst = EXCHANGE_ITEM_ALLOCATIONS.getReferencers(provider.getAbstractType());
         for (EObject obj : lst) {
           Interface interf = (Interface) obj.eContainer();
           providerImplementedAndProvidedInterfaces.addAll(InterfaceExt.getAllSuperGeneralizableElements(interf));
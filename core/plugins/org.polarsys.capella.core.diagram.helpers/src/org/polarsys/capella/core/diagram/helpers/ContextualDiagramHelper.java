@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.diagram.helpers;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -212,7 +213,7 @@ public class ContextualDiagramHelper {
 
         for (Component component : BlockArchitectureExt.getAllComponents(architecture)) {
           if (multiPart && !isOA) {
-            result.addAll(getCache(ComponentExt::getRepresentingParts, component));
+            result.addAll(getCache(ComponentExt::getRepresentingParts, component, RECORDED_READS));
           } else {
             result.add(component);
           }
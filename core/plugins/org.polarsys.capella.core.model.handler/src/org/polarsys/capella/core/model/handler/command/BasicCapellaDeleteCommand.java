@@ -58,6 +58,15 @@ public class BasicCapellaDeleteCommand extends AbstractCommand {
    */
   public static final String ID = "Delete"; //$NON-NLS-1$
 
+  /**
+   * System property disabling the {@link BatchDeleteStructureCommand}, so that dependent elements are deleted through
+   * nested commands.
+   */
+  public static final String BATCH_DELETE_PROPERTY = "org.polarsys.capella.core.model.handler.batchDelete"; //$NON-NLS-1$
+
+  private static volatile boolean batchDeleteEnabled = Boolean
+      .valueOf(System.getProperty(BATCH_DELETE_PROPERTY, "true")).booleanValue(); //$NON-NLS-1$
+
   /**
    * Hooks to notify prior deletion
    */
@@ -269,6 +278,20 @@ public class BasicCapellaDeleteCommand extends AbstractCommand {
         new NullProgressMonitor());
   }
 
+  /**
+   * @return the command deleting the expanded selection and its semantic structure, in waves if batch delete is
+   *         enabled, through nested commands otherwise
+   */
+  protected DeleteStructureCommand createDeleteStructureCommand() {
+    DeleteStructureCommand command = batchDeleteEnabled
+        ? new BatchDeleteStructureCommand(editingDomain, getExpandedSelection())
+        : new DeleteStructureCommand(editingDomain, getExpandedSelection());
+    // Use DeleteRepresentation here since this command handles open representation editors.
+    // Appended before the command is prepared, so that it runs before the removal of the elements.
+    command.append(getDeleteRepresentationCommand((TransactionalEditingDomain) editingDomain));
+    return command;
+  }
+
   /**
    * Do execute real command. Point of no return.
    */
@@ -286,14 +309,7 @@ public class BasicCapellaDeleteCommand extends AbstractCommand {
       }
     }
     try {
-      realCommand = new DeleteStructureCommand(editingDomain, getExpandedSelection()) {
-        @Override
-        protected void doPrepare() {
-          // Use DeleteRepresentation here since this command handles open representation editors.
-          append(getDeleteRepresentationCommand((TransactionalEditingDomain) getEditingDomain()));
-          super.doPrepare();
-        }
-      };
+      realCommand = createDeleteStructureCommand();
       if (realCommand.canExecute()) {
         realCommand.execute();
       }
@@ -320,6 +336,14 @@ public class BasicCapellaDeleteCommand extends AbstractCommand {
     return false;
   }
 
+  public static boolean isBatchDeleteEnabled() {
+    return batchDeleteEnabled;
+  }
+
+  public static void setBatchDeleteEnabled(boolean enabled) {
+    batchDeleteEnabled = enabled;
+  }
+
   /**
    * @see org.eclipse.emf.common.command.AbstractCommand#getAffectedObjects()
    */
@@ -432,6 +456,8 @@ public class BasicCapellaDeleteCommand extends AbstractCommand {
     if (allElementsToDelete == null) {
       // Get a new handler.
       HashSet<Object> result = new HashSet<Object>();
+      // Elements whose subtree is already in the result.
+      Set<EObject> expandedElements = new HashSet<EObject>();
       PreDeleteHandler handler = new PreDeleteHandler();
 
       // Call predeletion command.
@@ -471,12 +497,15 @@ public class BasicCapellaDeleteCommand extends AbstractCommand {
                 EObject deletedObject = (EObject) oldValue;
                 result.add(deletedObject);
                 // Filter out children of non Capella model elements as DRepresentation for instance.
-                if (CapellaResourceHelper.isSemanticElement(deletedObject)) {
-                  // Add the deleted element subtree.
+                if (CapellaResourceHelper.isSemanticElement(deletedObject) && expandedElements.add(deletedObject)) {
+                  // Add the deleted element subtree, skipping subtrees already added.
                   TreeIterator<EObject> allChildrenOfDeletedObject = deletedObject.eAllContents();
                   while (allChildrenOfDeletedObject.hasNext()) {
                     EObject child = allChildrenOfDeletedObject.next();
                     result.add(child);
+                    if (!expandedElements.add(child)) {
+                      allChildrenOfDeletedObject.prune();
+                    }
                   }
                 }
               }
@@ -0,0 +1,280 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.core.model.handler.command;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.command.Command;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.edit.command.RemoveCommand;
+import org.eclipse.emf.edit.domain.EditingDomain;
+import org.polarsys.capella.common.tools.report.util.IReportManagerDefaultComponents;
+
+/**
+ * A {@link DeleteStructureCommand} that plans the deletion of dependent elements instead of executing a nested delete
+ * command for each of them.<br>
+ * The deletion runs in waves. Each wave removes a set of elements in one flat remove command, then clears the
+ * references pointing to them, and evaluates the {@link IDeleteHelper} rules on the referencing elements. The
+ * elements selected by the rules form the next wave. Each deleted element is traversed once, and its inverse
+ * references are asked once to the cross referencer.<br>
+ * As with nested commands, a rule is evaluated once the reference it is given has been cleared. The model state differs
+ * though: when the rules of a wave are evaluated, all the elements of the wave are already removed and the references
+ * to them cleared, whereas a nested command evaluates them depth first, before the deletion of the next elements.
+ * <p>
+ * The size of the deletion and the time spent are available once the command is executed, and logged in debug mode.
+ * </p>
+ */
+public class BatchDeleteStructureCommand extends DeleteStructureCommand {
+
+  private static final Logger LOGGER = Logger.getLogger(IReportManagerDefaultComponents.MODEL);
+
+  /**
+   * All deleted elements, with their contents.
+   */
+  private final Set<EObject> deletedElements = new HashSet<>();
+
+  /**
+   * Deleted elements whose referencing elements are subject to the {@link IDeleteHelper} rules.
+   */
+  private final Set<EObject> structureElements = new HashSet<>();
+
+  /**
+   * Elements of the next wave, and whether their structure is deleted (<code>true</code>) or only the elements
+   * (<code>false</code>).
+   */
+  private final Map<EObject, Boolean> plannedElements = new LinkedHashMap<>();
+
+  /**
+   * Whether the rules are evaluated for the references being cleared.
+   */
+  private boolean deletingStructure;
+
+  private int waveCount;
+
+  private int clearedReferenceCount;
+
+  private long planningTime;
+
+  private long executionTime;
+
+  public BatchDeleteStructureCommand(EditingDomain editingDomain, Collection<?> elements) {
+    super(editingDomain, elements);
+  }
+
+  @Override
+  public void execute() {
+    ECrossReferenceAdapter crossReferencer = getECrossReferencerAdapter();
+
+    // First wave: the given elements, removed by the prepared commands.
+    long start = System.nanoTime();
+    Collection<EObject> wave = getElementsToDeleteWithContents();
+    deletedElements.addAll(wave);
+    structureElements.addAll(wave);
+    Map<EObject, Collection<Setting>> usages = getUsages(crossReferencer, wave);
+    long planned = System.nanoTime();
+    planningTime += planned - start;
+    executeComposingCommands();
+    clearPointingReferences(usages);
+    executionTime += System.nanoTime() - planned;
+    waveCount++;
+
+    // Next waves: the elements selected by the rules.
+    while (!plannedElements.isEmpty()) {
+      start = System.nanoTime();
+      List<EObject> roots = new ArrayList<>();
+      wave = planWave(roots);
+      usages = getUsages(crossReferencer, wave);
+      planned = System.nanoTime();
+      planningTime += planned - start;
+      if (!roots.isEmpty()) {
+        appendAndExecute(RemoveCommand.create(getEditingDomain(), roots));
+      }
+      clearPointingReferences(usages);
+      executionTime += System.nanoTime() - planned;
+      waveCount++;
+    }
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Deleted " + deletedElements.size() + " elements and cleared " + clearedReferenceCount //$NON-NLS-1$ //$NON-NLS-2$
+          + " references in " + waveCount + " waves (planning: " + (planningTime / 1000000) + " ms, execution: " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+          + (executionTime / 1000000) + " ms)"); //$NON-NLS-1$
+    }
+  }
+
+  /**
+   * Take the planned elements that are not deleted yet, and add their contents.
+   * @param roots The resulting elements to remove from their container, i.e. planned elements not contained by
+   *          another one.
+   * @return The elements of the wave, with their contents.
+   */
+  protected Collection<EObject> planWave(List<EObject> roots) {
+    Map<EObject, Boolean> waveElements = new LinkedHashMap<>(plannedElements);
+    plannedElements.clear();
+    Collection<EObject> wave = new ArrayList<>();
+    for (Map.Entry<EObject, Boolean> entry : waveElements.entrySet()) {
+      EObject element = entry.getKey();
+      if (deletedElements.contains(element)) {
+        continue;
+      }
+      if (!isContainedBy(element, waveElements.keySet()) && (null != element.eContainer() || null != element.eResource())) {
+        roots.add(element);
+      }
+      boolean structure = entry.getValue().booleanValue();
+      addToWave(element, structure, wave);
+      for (Iterator<EObject> contents = element.eAllContents(); contents.hasNext();) {
+        addToWave(contents.next(), structure, wave);
+      }
+    }
+    return wave;
+  }
+
+  private void addToWave(EObject element, boolean structure, Collection<EObject> wave) {
+    if (deletedElements.add(element)) {
+      wave.add(element);
+      if (structure) {
+        structureElements.add(element);
+      }
+    }
+  }
+
+  private boolean isContainedBy(EObject element, Set<EObject> containers) {
+    for (EObject container = element.eContainer(); null != container; container = container.eContainer()) {
+      if (containers.contains(container)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Ask the cross referencer once for the references pointing to each element.
+   */
+  protected Map<EObject, Collection<Setting>> getUsages(ECrossReferenceAdapter crossReferencer,
+      Collection<EObject> elements) {
+    Map<EObject, Collection<Setting>> usages = new LinkedHashMap<>();
+    for (EObject element : elements) {
+      Collection<Setting> settings = getPointingReferences(crossReferencer, element);
+      if (!settings.isEmpty()) {
+        usages.put(element, settings);
+      }
+    }
+    return usages;
+  }
+
+  /**
+   * Clear the references pointing to deleted elements from elements that are not deleted.
+   */
+  protected void clearPointingReferences(Map<EObject, Collection<Setting>> usages) {
+    for (Map.Entry<EObject, Collection<Setting>> entry : usages.entrySet()) {
+      EObject element = entry.getKey();
+      deletingStructure = structureElements.contains(element);
+      for (Setting setting : entry.getValue()) {
+        EObject referencingElement = setting.getEObject();
+        EStructuralFeature feature = setting.getEStructuralFeature();
+        if (!deletedElements.contains(referencingElement) && feature.isChangeable()) {
+          deletePointingReference(referencingElement, feature, element);
+          clearedReferenceCount++;
+        }
+      }
+    }
+  }
+
+  /**
+   * Plan the deletion of the elements selected by the rules, instead of executing it.
+   * @see org.polarsys.capella.core.model.handler.command.DeleteStructureCommand#deleteSemanticStructure(org.eclipse.emf.ecore.EObject,
+   *      org.eclipse.emf.ecore.EObject, org.eclipse.emf.ecore.EStructuralFeature)
+   */
+  @Override
+  protected void deleteSemanticStructure(EObject linkObject, EObject sourceObject, EStructuralFeature feature) {
+    if (!deletingStructure) {
+      return;
+    }
+    IDeleteHelper helper = IDeleteHelper.DEFAULT;
+
+    if (helper.isDeleteSemanticStructure(sourceObject, linkObject, feature)) {
+      plan(sourceObject, true);
+
+    } else if (helper.isDeleteElement(sourceObject, linkObject, feature)) {
+      plan(sourceObject, false);
+    }
+
+    Collection<EObject> additionnalElements = helper.getAdditionalElements(sourceObject, linkObject, feature);
+    if (additionnalElements != null) {
+      for (EObject object : additionnalElements) {
+        plan(object, true);
+      }
+    }
+
+    if (runAdditionalCommands()) {
+      Collection<Command> additionnalCommands = helper.getAdditionalCommands(sourceObject, linkObject, feature);
+      if (additionnalCommands != null) {
+        for (Command object : additionnalCommands) {
+          appendAndExecute(object);
+        }
+      }
+    }
+  }
+
+  private void plan(EObject element, boolean structure) {
+    if (!deletedElements.contains(element)) {
+      Boolean planned = plannedElements.get(element);
+      plannedElements.put(element, Boolean.valueOf(structure || Boolean.TRUE.equals(planned)));
+    }
+  }
+
+  /**
+   * @return the deleted elements, with their contents
+   */
+  public Set<EObject> getDeletedElements() {
+    return deletedElements;
+  }
+
+  /**
+   * @return the number of references cleared from elements that are not deleted
+   */
+  public int getClearedReferenceCount() {
+    return clearedReferenceCount;
+  }
+
+  /**
+   * @return the number of waves of removal
+   */
+  public int getWaveCount() {
+    return waveCount;
+  }
+
+  /**
+   * @return the time spent to traverse deleted elements and get their inverse references, in nanoseconds
+   */
+  public long getPlanningTime() {
+    return planningTime;
+  }
+
+  /**
+   * @return the time spent to remove elements and clear references, in nanoseconds
+   */
+  public long getExecutionTime() {
+    return executionTime;
+  }
+}
@@ -78,45 +78,18 @@ public class DeleteCommand extends CompoundCommand {
 	@Override
 	public void execute() {
 		// Unwrap elements to be deleted.
-		Collection<EObject> eObjects = new LinkedHashSet<EObject>();
-		for (Object wrappedObject : getElementsToDelete()) {
-			Object object = AdapterFactoryEditingDomain.unwrap(wrappedObject);
-			if (object instanceof EObject) {
-				eObjects.add((EObject) object);
-				for (Iterator<EObject> j = ((EObject) object).eAllContents(); j.hasNext();) {
-					eObjects.add(j.next());
-				}
-			} else if (object instanceof Resource) {
-				for (Iterator<EObject> j = ((Resource) object).getAllContents(); j.hasNext();) {
-					eObjects.add(j.next());
-				}
-			}
-		}
+		Collection<EObject> eObjects = getElementsToDeleteWithContents();
 
 		// Use permanent cross referencer for better performances.
 		// Note that this one does only take into account semantic resources.
 		ECrossReferenceAdapter crossReferencer = getECrossReferencerAdapter();
 		Map<EObject, Collection<EStructuralFeature.Setting>> usages = new HashMap<EObject, Collection<Setting>>(0);
 		for (EObject eObject : eObjects) {
-			Collection<Setting> inverseReferences = crossReferencer.getInverseReferences(eObject, true);
-			// Remove containment references out of inverse references, there are handled natively by the command.
-			for (Iterator<Setting> settings = inverseReferences.iterator(); settings.hasNext();) {
-				Setting setting = settings.next();
-				try {
-					// Test feature against reference, and containment.
-					if (EReference.class.cast(setting.getEStructuralFeature()).isContainment()) {
-						// Remove this feature from inverse references.
-						settings.remove();
-					}
-				} catch (ClassCastException cce) {
-					// Not a reference, skip it.
-				}
-			}
-			usages.put(eObject, inverseReferences);
+			usages.put(eObject, getPointingReferences(crossReferencer, eObject));
 		}
 
 		// Execute composing commands.
-		super.execute();
+		executeComposingCommands();
 
 		// Delete references.
 		for (Map.Entry<EObject, Collection<EStructuralFeature.Setting>> entry : usages.entrySet()) {
@@ -134,6 +107,59 @@ public class DeleteCommand extends CompoundCommand {
 		}
 	}
 
+	/**
+	 * Unwrap elements to be deleted, and add their contents.
+	 * @return The elements to be deleted, along with their contents.
+	 */
+	protected Collection<EObject> getElementsToDeleteWithContents() {
+		Collection<EObject> eObjects = new LinkedHashSet<EObject>();
+		for (Object wrappedObject : getElementsToDelete()) {
+			Object object = AdapterFactoryEditingDomain.unwrap(wrappedObject);
+			if (object instanceof EObject) {
+				eObjects.add((EObject) object);
+				for (Iterator<EObject> j = ((EObject) object).eAllContents(); j.hasNext();) {
+					eObjects.add(j.next());
+				}
+			} else if (object instanceof Resource) {
+				for (Iterator<EObject> j = ((Resource) object).getAllContents(); j.hasNext();) {
+					eObjects.add(j.next());
+				}
+			}
+		}
+		return eObjects;
+	}
+
+	/**
+	 * Get the references pointing to specified element, containment references excepted.
+	 * @param crossReferencer The cross referencer.
+	 * @param eObject The deleted element.
+	 * @return The non containment inverse references of the element.
+	 */
+	protected Collection<Setting> getPointingReferences(ECrossReferenceAdapter crossReferencer, EObject eObject) {
+		Collection<Setting> inverseReferences = crossReferencer.getInverseReferences(eObject, true);
+		// Remove containment references out of inverse references, there are handled natively by the command.
+		for (Iterator<Setting> settings = inverseReferences.iterator(); settings.hasNext();) {
+			Setting setting = settings.next();
+			try {
+				// Test feature against reference, and containment.
+				if (EReference.class.cast(setting.getEStructuralFeature()).isContainment()) {
+					// Remove this feature from inverse references.
+					settings.remove();
+				}
+			} catch (ClassCastException cce) {
+				// Not a reference, skip it.
+			}
+		}
+		return inverseReferences;
+	}
+
+	/**
+	 * Execute the commands composing this compound one, i.e. the prepared ones.
+	 */
+	protected void executeComposingCommands() {
+		super.execute();
+	}
+
 	/**
 	 * Do add an initial command to this compound one.<br>
 	 * Default implementation adds an EMF {@link RemoveCommand}.
@@ -14,12 +14,19 @@ package org.polarsys.capella.core.model.handler.crossreferencer;
 
 import java.lang.ref.WeakReference;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
 import org.eclipse.emf.ecore.resource.Resource;
@@ -54,11 +61,130 @@ public class CapellaECrossReferenceAdapter extends SiriusCrossReferenceAdapter {
 
   }
 
+  /**
+   * An inverse cross referencer backed by a {@link CompactInverseReferenceStore}.<br>
+   * The map API of the inverse cross referencer is preserved, but settings are created on demand only.
+   */
+  class CompactInverseCrossReferencer extends CapellaInverseCrossReferencer {
+    /**
+     * Generated serial UID.
+     */
+    private static final long serialVersionUID = 2206497010547853237L;
+
+    final transient CompactInverseReferenceStore store = new CompactInverseReferenceStore();
+
+    @Override
+    protected void add(InternalEObject eObject, EReference eReference, EObject crossReferencedEObject) {
+      store.add(eObject, eReference, crossReferencedEObject);
+    }
+
+    @Override
+    protected void remove(EObject eObject, EReference eReference, EObject crossReferencedEObject) {
+      store.remove(eObject, eReference, crossReferencedEObject);
+    }
+
+    @Override
+    public Collection<EStructuralFeature.Setting> get(Object key) {
+      return (key instanceof EObject) ? store.getSettings((EObject) key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return (key instanceof EObject) && (store.getInverseReferenceCount((EObject) key) > 0);
+    }
+
+    @Override
+    public Collection<EStructuralFeature.Setting> remove(Object key) {
+      if (!(key instanceof EObject)) {
+        return null;
+      }
+      List<EStructuralFeature.Setting> settings = store.getSettings((EObject) key);
+      store.removeAll((EObject) key);
+      return settings;
+    }
+
+    @Override
+    public int size() {
+      return store.getTargetCount();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return store.getTargetCount() == 0;
+    }
+
+    @Override
+    public void clear() {
+      store.clear();
+    }
+
+    @Override
+    public Set<EObject> keySet() {
+      return Collections.unmodifiableSet(new LinkedHashSet<EObject>(store.getTargets()));
+    }
+
+    @Override
+    public Collection<Collection<EStructuralFeature.Setting>> values() {
+      return snapshot().values();
+    }
+
+    @Override
+    public Set<Map.Entry<EObject, Collection<EStructuralFeature.Setting>>> entrySet() {
+      return snapshot().entrySet();
+    }
+
+    /**
+     * @return an unmodifiable copy of the inverse references, as the map of the default inverse cross referencer.
+     */
+    private Map<EObject, Collection<EStructuralFeature.Setting>> snapshot() {
+      Map<EObject, Collection<EStructuralFeature.Setting>> result = new LinkedHashMap<EObject, Collection<EStructuralFeature.Setting>>();
+      for (EObject target : store.getTargets()) {
+        result.put(target, store.getSettings(target));
+      }
+      return Collections.unmodifiableMap(result);
+    }
+  }
+
+  /**
+   * System property enabling the compact inverse references store for new cross referencers.
+   */
+  public static final String COMPACT_STORE_PROPERTY = "org.polarsys.capella.core.crossreferencer.compact"; //$NON-NLS-1$
+
   WeakReference<EditingDomain> _editingDomain;
 
+  /**
+   * Whether inverse references are kept in a {@link CompactInverseReferenceStore}.
+   */
+  private final boolean compactStore;
+
   public CapellaECrossReferenceAdapter(EditingDomain editingDomain) {
+    this(editingDomain, Boolean.valueOf(System.getProperty(COMPACT_STORE_PROPERTY, "false"))); //$NON-NLS-1$
+  }
+
+  /**
+   * @param editingDomain
+   * @param compactStore
+   *          whether inverse references are kept in a {@link CompactInverseReferenceStore} rather than in a map of
+   *          settings
+   */
+  public CapellaECrossReferenceAdapter(EditingDomain editingDomain, boolean compactStore) {
     super();
     _editingDomain = new WeakReference<EditingDomain>(editingDomain);
+    this.compactStore = compactStore;
+    if (compactStore) {
+      // The inverse cross referencer is created by the super constructor, before this flag is set.
+      inverseCrossReferencer = createInverseCrossReferencer();
+    }
+  }
+
+  /**
+   * @return the compact store of inverse references, <code>null</code> if this cross referencer uses the default one.
+   */
+  public CompactInverseReferenceStore getCompactStore() {
+    if (inverseCrossReferencer instanceof CompactInverseCrossReferencer) {
+      return ((CompactInverseCrossReferencer) inverseCrossReferencer).store;
+    }
+    return null;
   }
 
   /**
@@ -103,6 +229,9 @@ public class CapellaECrossReferenceAdapter extends SiriusCrossReferenceAdapter {
 
   @Override
   protected InverseCrossReferencer createInverseCrossReferencer() {
+    if (compactStore) {
+      return new CompactInverseCrossReferencer();
+    }
     return new CapellaInverseCrossReferencer();
   }
 
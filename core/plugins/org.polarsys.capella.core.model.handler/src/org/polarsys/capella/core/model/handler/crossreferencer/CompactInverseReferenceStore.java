@@ -0,0 +1,383 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.core.model.handler.crossreferencer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+
+/**
+ * A compact store of inverse references.<br>
+ * Each EObject involved in a cross reference (as source or as target) is given a dense ordinal, and each reference a
+ * feature ordinal. The inverse references of a target are then kept as an array of (source ordinal, feature ordinal)
+ * pairs. {@link EStructuralFeature.Setting Settings} are only created when asked for by {@link #getSettings(EObject)}.
+ * <p>
+ * Ordinals are recycled as soon as an EObject is neither the source nor the target of any stored reference.<br>
+ * As the inverse cross referencer it replaces, this store is not thread safe.
+ * </p>
+ */
+public class CompactInverseReferenceStore {
+
+  private static final int[] NO_ENTRIES = new int[0];
+
+  private static final int INITIAL_CAPACITY = 1024;
+
+  /**
+   * Open addressing identity table from EObject to ordinal (linear probing).
+   */
+  private Object[] keys = new Object[INITIAL_CAPACITY * 2];
+
+  private int[] keyOrdinals = new int[INITIAL_CAPACITY * 2];
+
+  private int keyCount;
+
+  /**
+   * EObject by ordinal.
+   */
+  private EObject[] objects = new EObject[INITIAL_CAPACITY];
+
+  /**
+   * Inverse references by target ordinal, as (source ordinal, feature ordinal) pairs.
+   */
+  private int[][] inverse = new int[INITIAL_CAPACITY][];
+
+  /**
+   * Number of pairs used in each inverse references array.
+   */
+  private int[] inverseSizes = new int[INITIAL_CAPACITY];
+
+  /**
+   * Number of stored references whose source is the EObject of a given ordinal.
+   */
+  private int[] sourceUses = new int[INITIAL_CAPACITY];
+
+  /**
+   * Next never used ordinal.
+   */
+  private int nextOrdinal;
+
+  /**
+   * Released ordinals, available for reuse.
+   */
+  private int[] freeOrdinals = new int[16];
+
+  private int freeCount;
+
+  /**
+   * Number of EObjects having at least one inverse reference.
+   */
+  private int targetCount;
+
+  private final Map<EReference, Integer> featureOrdinals = new HashMap<EReference, Integer>();
+
+  private final List<EReference> features = new ArrayList<EReference>();
+
+  /**
+   * Store a reference from source to target through given feature.
+   *
+   * @param source
+   * @param feature
+   * @param target
+   */
+  public void add(EObject source, EReference feature, EObject target) {
+    int sourceOrdinal = getOrCreateOrdinal(source);
+    int targetOrdinal = getOrCreateOrdinal(target);
+    int featureOrdinal = getFeatureOrdinal(feature);
+
+    int[] entries = inverse[targetOrdinal];
+    int size = inverseSizes[targetOrdinal];
+    if (null == entries) {
+      entries = new int[2];
+    } else if (entries.length < (size + 1) * 2) {
+      entries = Arrays.copyOf(entries, entries.length * 2);
+    }
+    entries[size * 2] = sourceOrdinal;
+    entries[size * 2 + 1] = featureOrdinal;
+    inverse[targetOrdinal] = entries;
+    inverseSizes[targetOrdinal] = size + 1;
+    if (0 == size) {
+      targetCount++;
+    }
+    sourceUses[sourceOrdinal]++;
+  }
+
+  /**
+   * Remove one occurrence of the reference from source to target through given feature.
+   *
+   * @param source
+   * @param feature
+   * @param target
+   * @return <code>true</code> if such a reference was stored
+   */
+  public boolean remove(EObject source, EReference feature, EObject target) {
+    int targetOrdinal = getOrdinal(target);
+    int sourceOrdinal = getOrdinal(source);
+    Integer featureOrdinal = featureOrdinals.get(feature);
+    if ((targetOrdinal < 0) || (sourceOrdinal < 0) || (null == featureOrdinal)) {
+      return false;
+    }
+    int[] entries = inverse[targetOrdinal];
+    int size = inverseSizes[targetOrdinal];
+    for (int i = 0; i < size; i++) {
+      if ((entries[i * 2] == sourceOrdinal) && (entries[i * 2 + 1] == featureOrdinal.intValue())) {
+        System.arraycopy(entries, (i + 1) * 2, entries, i * 2, (size - i - 1) * 2);
+        setInverseSize(targetOrdinal, size - 1);
+        sourceUses[sourceOrdinal]--;
+        releaseIfUnused(sourceOrdinal);
+        releaseIfUnused(targetOrdinal);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Remove all inverse references of the given target.
+   *
+   * @param target
+   * @return the number of removed references
+   */
+  public int removeAll(EObject target) {
+    int targetOrdinal = getOrdinal(target);
+    if (targetOrdinal < 0) {
+      return 0;
+    }
+    int[] entries = inverse[targetOrdinal];
+    int size = inverseSizes[targetOrdinal];
+    setInverseSize(targetOrdinal, 0);
+    for (int i = 0; i < size; i++) {
+      int sourceOrdinal = entries[i * 2];
+      sourceUses[sourceOrdinal]--;
+      if (sourceOrdinal != targetOrdinal) {
+        releaseIfUnused(sourceOrdinal);
+      }
+    }
+    releaseIfUnused(targetOrdinal);
+    return size;
+  }
+
+  /**
+   * @param target
+   * @return the number of stored references toward the given target
+   */
+  public int getInverseReferenceCount(EObject target) {
+    int targetOrdinal = getOrdinal(target);
+    return (targetOrdinal < 0) ? 0 : inverseSizes[targetOrdinal];
+  }
+
+  /**
+   * Create the settings of the stored references toward the given target.
+   *
+   * @param target
+   * @return <code>null</code> if there is no such reference, a new list otherwise.
+   */
+  public List<EStructuralFeature.Setting> getSettings(EObject target) {
+    int targetOrdinal = getOrdinal(target);
+    if ((targetOrdinal < 0) || (0 == inverseSizes[targetOrdinal])) {
+      return null;
+    }
+    int[] entries = inverse[targetOrdinal];
+    int size = inverseSizes[targetOrdinal];
+    List<EStructuralFeature.Setting> result = new ArrayList<EStructuralFeature.Setting>(size);
+    for (int i = 0; i < size; i++) {
+      InternalEObject source = (InternalEObject) objects[entries[i * 2]];
+      result.add(source.eSetting(features.get(entries[i * 2 + 1])));
+    }
+    return result;
+  }
+
+  /**
+   * @return all EObjects having at least one stored inverse reference
+   */
+  public List<EObject> getTargets() {
+    List<EObject> result = new ArrayList<EObject>(targetCount);
+    for (int i = 0; i < nextOrdinal; i++) {
+      if (inverseSizes[i] > 0) {
+        result.add(objects[i]);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return the number of EObjects having at least one stored inverse reference
+   */
+  public int getTargetCount() {
+    return targetCount;
+  }
+
+  /**
+   * Remove all stored references.
+   */
+  public void clear() {
+    Arrays.fill(keys, null);
+    keyCount = 0;
+    Arrays.fill(objects, null);
+    Arrays.fill(inverse, null);
+    Arrays.fill(inverseSizes, 0);
+    Arrays.fill(sourceUses, 0);
+    nextOrdinal = 0;
+    freeCount = 0;
+    targetCount = 0;
+  }
+
+  /**
+   * An estimation of the retained size of this store, in bytes, assuming compressed references.
+   *
+   * @return a size in bytes
+   */
+  public long getEstimatedFootprint() {
+    // Array header is 16 bytes, object references are 4 bytes.
+    long result = 16L + (keys.length * 4L) + 16L + (keyOrdinals.length * 4L);
+    result += 16L + (objects.length * 4L);
+    result += 16L + (inverse.length * 4L) + 16L + (inverseSizes.length * 4L) + 16L + (sourceUses.length * 4L);
+    result += 16L + (freeOrdinals.length * 4L);
+    for (int i = 0; i < nextOrdinal; i++) {
+      if (null != inverse[i]) {
+        result += 16L + (inverse[i].length * 4L);
+      }
+    }
+    return result;
+  }
+
+  private void setInverseSize(int targetOrdinal, int size) {
+    if ((0 == size) && (inverseSizes[targetOrdinal] > 0)) {
+      targetCount--;
+      inverse[targetOrdinal] = null;
+    }
+    inverseSizes[targetOrdinal] = size;
+  }
+
+  private int getFeatureOrdinal(EReference feature) {
+    Integer ordinal = featureOrdinals.get(feature);
+    if (null == ordinal) {
+      ordinal = Integer.valueOf(features.size());
+      features.add(feature);
+      featureOrdinals.put(feature, ordinal);
+    }
+    return ordinal.intValue();
+  }
+
+  private void releaseIfUnused(int ordinal) {
+    if ((inverseSizes[ordinal] == 0) && (sourceUses[ordinal] == 0) && (null != objects[ordinal])) {
+      removeKey(objects[ordinal]);
+      objects[ordinal] = null;
+      inverse[ordinal] = null;
+      if (freeCount == freeOrdinals.length) {
+        freeOrdinals = Arrays.copyOf(freeOrdinals, freeCount * 2);
+      }
+      freeOrdinals[freeCount++] = ordinal;
+    }
+  }
+
+  private int getOrCreateOrdinal(EObject object) {
+    int ordinal = getOrdinal(object);
+    if (ordinal >= 0) {
+      return ordinal;
+    }
+    if (freeCount > 0) {
+      ordinal = freeOrdinals[--freeCount];
+    } else {
+      ordinal = nextOrdinal++;
+      if (ordinal == objects.length) {
+        int capacity = objects.length * 2;
+        objects = Arrays.copyOf(objects, capacity);
+        inverse = Arrays.copyOf(inverse, capacity);
+        inverseSizes = Arrays.copyOf(inverseSizes, capacity);
+        sourceUses = Arrays.copyOf(sourceUses, capacity);
+      }
+    }
+    objects[ordinal] = object;
+    putKey(object, ordinal);
+    return ordinal;
+  }
+
+  private static int hash(Object object, int mask) {
+    int h = System.identityHashCode(object);
+    // Spread bits, identity hash codes are not uniformly distributed in low bits.
+    return (h ^ (h >>> 16)) * 0x9E3779B9 >>> 1 & mask;
+  }
+
+  /**
+   * @return the ordinal of the given EObject, -1 if it has none
+   */
+  private int getOrdinal(Object object) {
+    int mask = keys.length - 1;
+    for (int i = hash(object, mask);; i = (i + 1) & mask) {
+      Object key = keys[i];
+      if (null == key) {
+        return -1;
+      }
+      if (key == object) {
+        return keyOrdinals[i];
+      }
+    }
+  }
+
+  private void putKey(Object object, int ordinal) {
+    if ((keyCount + 1) * 2 > keys.length) {
+      rehash(keys.length * 2);
+    }
+    int mask = keys.length - 1;
+    int i = hash(object, mask);
+    while (null != keys[i]) {
+      i = (i + 1) & mask;
+    }
+    keys[i] = object;
+    keyOrdinals[i] = ordinal;
+    keyCount++;
+  }
+
+  private void removeKey(Object object) {
+    int mask = keys.length - 1;
+    int i = hash(object, mask);
+    while (keys[i] != object) {
+      if (null == keys[i]) {
+        return;
+      }
+      i = (i + 1) & mask;
+    }
+    keys[i] = null;
+    keyCount--;
+    // Backward shift deletion, to keep probe sequences without holes.
+    for (int j = (i + 1) & mask; null != keys[j]; j = (j + 1) & mask) {
+      int home = hash(keys[j], mask);
+      if (((j - home) & mask) >= ((j - i) & mask)) {
+        keys[i] = keys[j];
+        keyOrdinals[i] = keyOrdinals[j];
+        keys[j] = null;
+        i = j;
+      }
+    }
+  }
+
+  private void rehash(int capacity) {
+    Object[] oldKeys = keys;
+    int[] oldOrdinals = keyOrdinals;
+    keys = new Object[capacity];
+    keyOrdinals = new int[capacity];
+    keyCount = 0;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (null != oldKeys[i]) {
+        putKey(oldKeys[i], oldOrdinals[i]);
+      }
+    }
+  }
+}
@@ -12,7 +12,11 @@
  *******************************************************************************/
 package org.polarsys.capella.core.model.handler.validation;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.notify.AdapterFactory;
@@ -32,14 +36,28 @@ import org.polarsys.capella.common.data.modellingcore.AbstractType;
  * can follow the part->component link. 
  */
 public class CapellaDiagnostician extends Diagnostician {
+  /**
+   * Key, in the validation context, of the types of parts already validated.
+   */
+  private static final Object VALIDATED_PART_TYPES = new Object();
+
     private AdapterFactory adapterFactory;
     private IProgressMonitor progressMonitor;
+    private Collection<? extends EObject> scope = Collections.emptyList();
     
   public CapellaDiagnostician (AdapterFactory adapterFactory_p, IProgressMonitor progressMonitor_p) {
   	adapterFactory = adapterFactory_p;
   	progressMonitor = progressMonitor_p;
   }
 
+  /**
+   * @param scope
+   *          the elements validated with their contents, types of parts contained in them are not validated again
+   */
+  public void setScope(Collection<? extends EObject> scope) {
+    this.scope = (null == scope) ? Collections.<EObject> emptyList() : scope;
+  }
+
 	@Override
   public String getObjectLabel(EObject eObject) {
     if (adapterFactory != null && !eObject.eIsProxy()) {
@@ -63,12 +81,27 @@ public class CapellaDiagnostician extends Diagnostician {
 		if (eObject instanceof Part) {
 			// also launch validation on representedInstance
 			AbstractType component = ((Part) eObject).getAbstractType();
-      if ((null != component) && !component.eIsProxy() && !EcoreUtil.isAncestor(component, eObject)) {
-			  // FIXME doing that might throw duplicated validations
-			  // TODO workaround : if component is already included in validation scope, do nothing
+      if ((null != component) && !component.eIsProxy() && !EcoreUtil.isAncestor(component, eObject)
+          && !EcoreUtil.isAncestor(scope, component) && markValidated(component, context)) {
 			  result &= validate(component, diagnostics, context);
 			}
 		}		
 		return result;
 	}
+
+  /**
+   * @return <code>false</code> if the given type of part has already been validated through another part
+   */
+  @SuppressWarnings("unchecked")
+  private boolean markValidated(EObject partType, Map<Object, Object> context) {
+    if (null == context) {
+      return true;
+    }
+    Set<EObject> validated = (Set<EObject>) context.get(VALIDATED_PART_TYPES);
+    if (null == validated) {
+      validated = Collections.newSetFromMap(new IdentityHashMap<EObject, Boolean>());
+      context.put(VALIDATED_PART_TYPES, validated);
+    }
+    return validated.add(partType);
+  }
 }
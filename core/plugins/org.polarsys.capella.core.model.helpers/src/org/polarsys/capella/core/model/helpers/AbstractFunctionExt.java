@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.model.helpers;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -452,7 +453,7 @@ public class AbstractFunctionExt {
       return motherFunctionAllocatingComponents;
     }
     // Get all leaves functions of the motherFunction
-    List<AbstractFunction> leaves = getCache(FunctionExt::getAllLeafAbstractFunctions, motherFunction);
+    List<AbstractFunction> leaves = getCache(FunctionExt::getAllLeafAbstractFunctions, motherFunction, RECORDED_READS);
     if (null == leaves || leaves.isEmpty()) {
       return Collections.emptyList();
     }
@@ -487,7 +488,7 @@ public class AbstractFunctionExt {
       return motherFunctionAllocatingComponents;
     }
     // Get all owned functions of the motherFunction
-    List<AbstractFunction> owned = getCache(FunctionExt::getAllAbstractFunctions, motherFunction);
+    List<AbstractFunction> owned = getCache(FunctionExt::getAllAbstractFunctions, motherFunction, RECORDED_READS);
     if (null == owned || owned.isEmpty()) {
       return Collections.emptyList();
     }
@@ -558,7 +559,7 @@ public class AbstractFunctionExt {
    */
   public static List<OperationalActivity> getAllLeafOperationalActivities(OperationalActivity activity) {
     List<OperationalActivity> result = new ArrayList<>();
-    for (AbstractFunction abstractFunction : getCache(FunctionExt::getAllAbstractFunctions, activity)) {
+    for (AbstractFunction abstractFunction : getCache(FunctionExt::getAllAbstractFunctions, activity, RECORDED_READS)) {
       if (org.polarsys.capella.core.data.helpers.fa.services.FunctionExt.isLeaf(abstractFunction)
           && (abstractFunction instanceof OperationalActivity)) {
         result.add((OperationalActivity) abstractFunction);
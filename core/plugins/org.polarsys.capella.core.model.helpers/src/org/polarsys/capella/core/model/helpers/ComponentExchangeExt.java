@@ -14,6 +14,7 @@
 package org.polarsys.capella.core.model.helpers;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -126,7 +127,7 @@ public final class ComponentExchangeExt {
     }
     Component sourceComponent = getSourceComponent(connection);
     if (sourceComponent != null) {
-      return getCache(ComponentExt::getRepresentingParts, sourceComponent);
+      return getCache(ComponentExt::getRepresentingParts, sourceComponent, RECORDED_READS);
     }
     return Collections.emptyList();
   }
@@ -171,7 +172,7 @@ public final class ComponentExchangeExt {
     }
     Component targetComponent = getTargetComponent(connection);
     if (targetComponent != null) {
-      return getCache(ComponentExt::getRepresentingParts, targetComponent);
+      return getCache(ComponentExt::getRepresentingParts, targetComponent, RECORDED_READS);
     }
     return Collections.emptyList();
   }
@@ -723,7 +724,7 @@ public final class ComponentExchangeExt {
     Port componentExcSource = ce.getSourcePort();
     if (componentExcSource instanceof ComponentPort) {
       Component sourceComponent = (Component) componentExcSource.eContainer();
-      if (getCache(ComponentExt::getRepresentingParts, sourceComponent).contains(sourcePart)) {
+      if (getCache(ComponentExt::getRepresentingParts, sourceComponent, RECORDED_READS).contains(sourcePart)) {
         return (ComponentPort) componentExcSource;
       }
 
@@ -731,7 +732,7 @@ public final class ComponentExchangeExt {
     Port componentExcTarget = ce.getTargetPort();
     if (componentExcTarget instanceof ComponentPort) {
       Component targetComponent = (Component) componentExcTarget.eContainer();
-      if (getCache(ComponentExt::getRepresentingParts, targetComponent).contains(sourcePart)) {
+      if (getCache(ComponentExt::getRepresentingParts, targetComponent, RECORDED_READS).contains(sourcePart)) {
         //
       }
       return (ComponentPort) componentExcTarget;
@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.model.helpers;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -79,6 +80,7 @@ import org.polarsys.capella.core.data.fa.ComponentPortKind;
 import org.polarsys.capella.core.data.fa.FaFactory;
 import org.polarsys.capella.core.data.fa.FaPackage;
 import org.polarsys.capella.core.data.fa.FunctionalExchange;
+import org.polarsys.capella.core.data.helpers.cache.ModelCache;
 import org.polarsys.capella.core.data.fa.OrientationPortKind;
 import org.polarsys.capella.core.data.helpers.capellacore.services.GeneralizableElementExt;
 import org.polarsys.capella.core.data.helpers.fa.services.FunctionExt;
@@ -1781,6 +1783,8 @@ public class ComponentExt {
     ArrayList<Part> result = new ArrayList<Part>();
     if (component != null) {
       for (Part part : component.getRepresentingParts()) {
+        // A part removed from the model without unsetting its type must invalidate cached results
+        ModelCache.recordRead(part);
         result.add(part);
       }
     }
@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.model.helpers;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -100,7 +101,7 @@ public class ComponentPortAllocationExt {
     }
     Component sourceComponent = getSourceComponent(connection);
     if (sourceComponent != null) {
-      return getCache(ComponentExt::getRepresentingParts, sourceComponent);
+      return getCache(ComponentExt::getRepresentingParts, sourceComponent, RECORDED_READS);
     }
     return Collections.emptyList();
   }
@@ -133,7 +134,7 @@ public class ComponentPortAllocationExt {
     }
     Component targetComponent = getTargetComponent(connection);
     if (targetComponent != null) {
-      return getCache(ComponentExt::getRepresentingParts, targetComponent);
+      return getCache(ComponentExt::getRepresentingParts, targetComponent, RECORDED_READS);
     }
     return Collections.emptyList();
   }
@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.model.helpers;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -312,7 +313,7 @@ public class PartExt {
    * @return whether part source can be moved into target component
    */
   public static boolean canMoveInto(Part source, Component target) {
-    Collection<Part> representingParts = getCache(ComponentExt::getRepresentingParts, target);
+    Collection<Part> representingParts = getCache(ComponentExt::getRepresentingParts, target, RECORDED_READS);
 
     for (Part part : representingParts) {
       Collection<Part> parts = ComponentExt.getPartAncestors(part);
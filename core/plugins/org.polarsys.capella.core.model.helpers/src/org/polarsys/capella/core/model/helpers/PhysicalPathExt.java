@@ -15,6 +15,7 @@ package org.polarsys.capella.core.model.helpers;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -33,6 +34,7 @@ import org.polarsys.capella.common.data.modellingcore.ModelElement;
 import org.polarsys.capella.common.helpers.SimpleOrientedGraph;
 import org.polarsys.capella.common.helpers.TransactionHelper;
 import org.polarsys.capella.common.menu.dynamic.CreationHelper;
+import org.polarsys.capella.common.utils.graph.IndexedGraph;
 import org.polarsys.capella.core.data.capellacore.InvolvedElement;
 import org.polarsys.capella.core.data.cs.AbstractPathInvolvedElement;
 import org.polarsys.capella.core.data.cs.BlockArchitecture;
@@ -54,6 +56,7 @@ import org.polarsys.capella.core.data.pa.PhysicalArchitecture;
 import org.polarsys.capella.core.model.helpers.refmap.Pair;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 /**
  */
 public class PhysicalPathExt {
@@ -337,7 +340,7 @@ public class PhysicalPathExt {
     }
 
     for (Part function : targetFunctions) {
-      targetExchanges.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, function));
+      targetExchanges.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, function, RECORDED_READS));
     }
     return targetExchanges;
   }
@@ -361,7 +364,7 @@ public class PhysicalPathExt {
     }
 
     for (Part function : targetFunctions) {
-      targetExchanges.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, function));
+      targetExchanges.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, function, RECORDED_READS));
     }
     return targetExchanges;
   }
@@ -385,7 +388,7 @@ public class PhysicalPathExt {
     }
 
     for (Part function : sourceFunctions) {
-      sourceExchanges.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, function));
+      sourceExchanges.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, function, RECORDED_READS));
     }
 
     return sourceExchanges;
@@ -423,7 +426,7 @@ public class PhysicalPathExt {
     targetFunctions.addAll(getFlatPhysicalPathFirstParts(path));
 
     for (Part function : targetFunctions) {
-      targetExchanges.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, function));
+      targetExchanges.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, function, RECORDED_READS));
     }
     return targetExchanges;
   }
@@ -436,7 +439,7 @@ public class PhysicalPathExt {
     targetFunctions.addAll(getFlatPhysicalPathLastParts(path));
 
     for (Part function : targetFunctions) {
-      targetExchanges.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, function));
+      targetExchanges.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, function, RECORDED_READS));
     }
     return targetExchanges;
   }
@@ -629,28 +632,16 @@ public class PhysicalPathExt {
   }
 
   /**
-   * detect a cycle in a PhysicalPath
+   * detect a cycle in a PhysicalPath, i.e. an involvement reached twice from the given one
    * @param involvement1
    * @param visitedInvolvements1
    * @return
    */
   public static boolean containsACycle(PhysicalPathInvolvement involvement1, Set<PhysicalPathInvolvement> visitedInvolvements1) {
-    Set<PhysicalPathInvolvement> visitedInvolvements = new HashSet<>();
-    LinkedList<PhysicalPathInvolvement> toVisit = new LinkedList<>();
-    toVisit.add(involvement1);
-    while (!toVisit.isEmpty()) {
-      PhysicalPathInvolvement involvment = toVisit.removeFirst();
-      if (visitedInvolvements.contains(involvment)) {
-        return true;
-      }
-      visitedInvolvements.add(involvment);
-
-      for (PhysicalPathInvolvement aNext : involvment.getNextInvolvements()) {
-        // we don't use flat involvement, we can use a FC more than once in another FC
-        toVisit.add(aNext);
-      }
-    }
-    return false;
+    // we don't use flat involvement, we can use a FC more than once in another FC
+    IndexedGraph<PhysicalPathInvolvement> graph = IndexedGraph.reachableFrom(Collections.singletonList(involvement1),
+        PhysicalPathInvolvement::getNextInvolvements);
+    return !graph.isArborescence(involvement1);
   }
   
   /**
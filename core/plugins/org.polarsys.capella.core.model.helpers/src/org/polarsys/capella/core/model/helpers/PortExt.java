@@ -14,6 +14,7 @@
 package org.polarsys.capella.core.model.helpers;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -839,7 +840,7 @@ public class PortExt {
     Collection<PhysicalLink> links = new HashSet<>();
 
     Component component = PortExt.getRelatedComponent(port);
-    Collection<Part> parts = getCache(ComponentExt::getRepresentingParts, component);
+    Collection<Part> parts = getCache(ComponentExt::getRepresentingParts, component, RECORDED_READS);
 
     for (PhysicalLink link : port.getInvolvedLinks()) {
       Collection<Part> sourceParts = org.polarsys.capella.core.data.helpers.cs.services.PhysicalLinkExt.getSourceParts(link);
@@ -891,7 +892,7 @@ public class PortExt {
     Collection<PhysicalLink> links = new HashSet<>();
 
     Component component = PortExt.getRelatedComponent(port);
-    Collection<Part> parts = getCache(ComponentExt::getRepresentingParts, component);
+    Collection<Part> parts = getCache(ComponentExt::getRepresentingParts, component, RECORDED_READS);
 
     for (PhysicalLink link : port.getInvolvedLinks()) {
       Collection<Part> sourceParts = org.polarsys.capella.core.data.helpers.cs.services.PhysicalLinkExt.getSourceParts(link);
@@ -17,6 +17,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.polarsys.capella.common.utils.graph.IndexedGraph;
+
 /**
  * A 'simple' graph with nodes and edges Graph, node, and edges are identifiable by a 'semantic element' (GS, NS, ES)
  * which serve as unique identifier of the node/edge.
@@ -90,6 +92,23 @@ public abstract class Graph<GS, NS, ES, N extends GraphNode<NS, E>, E extends Gr
     return result;
   }
 
+  /**
+   * @return an indexed copy of the graph, whose nodes are the semantic elements of the nodes. Traversals, cycle
+   *         detection and connected components can be computed on it.
+   */
+  public IndexedGraph<NS> toIndexedGraph() {
+    IndexedGraph.Builder<NS> builder = new IndexedGraph.Builder<>();
+    for (NS node : nodes.keySet()) {
+      builder.addNode(node);
+    }
+    for (E edge : edges.values()) {
+      if (edge.getSource() != null && edge.getTarget() != null) {
+        builder.addEdge(edge.getSource().getSemantic(), edge.getTarget().getSemantic());
+      }
+    }
+    return builder.build();
+  }
+
   /**
    * This method remove an edge. Nodes previously referencing the edge will no longer reference it.
    */
@@ -12,15 +12,14 @@ package org.polarsys.capella.core.model.helpers.graph;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.EList;
+import org.polarsys.capella.common.utils.graph.IndexedGraph;
 import org.polarsys.capella.core.data.fa.FunctionalChain;
 import org.polarsys.capella.core.data.fa.FunctionalChainInvolvement;
 import org.polarsys.capella.core.data.fa.FunctionalChainInvolvementFunction;
@@ -181,44 +180,24 @@ public class InvolvementHierarchyGraph {
   }
 
   /**
-   * Detects the presence of any cycles in the graph, by using a recursive DFS with O(V + E) complexity.
+   * Detects the presence of any cycles in the graph, by using an iterative DFS with O(V + E) complexity.
    */
   public boolean hasCycle() {
-    Set<Vertex> visited = new HashSet<>();
-    Set<Vertex> path = new HashSet<>();
-
-    for (Vertex vertex : vertices.values()) {
-      if (hasCycle(vertex, visited, path)) {
-        return true;
-      }
-    }
-
-    return false;
+    return toIndexedGraph().containsCycle();
   }
 
-  protected boolean hasCycle(Vertex current, Set<Vertex> visited, Set<Vertex> path) {
-    if (path.contains(current)) {
-      return true;
-    }
-
-    if (visited.contains(current)) {
-      return false;
-    }
-
-    visited.add(current);
-
-    path.add(current);
-
-    for (Edge edge : current.edges) {
-      Vertex target = edge.target;
-      if (hasCycle(target, visited, path)) {
-        return true;
+  /**
+   * @return an indexed copy of the graph, whose nodes are the vertices
+   */
+  protected IndexedGraph<Vertex> toIndexedGraph() {
+    IndexedGraph.Builder<Vertex> builder = new IndexedGraph.Builder<>();
+    for (Vertex vertex : vertices.values()) {
+      builder.addNode(vertex);
+      for (Edge edge : vertex.edges) {
+        builder.addEdge(vertex, edge.target);
       }
     }
-
-    path.remove(current);
-
-    return false;
+    return builder.build();
   }
 
   protected static class VertexKey {
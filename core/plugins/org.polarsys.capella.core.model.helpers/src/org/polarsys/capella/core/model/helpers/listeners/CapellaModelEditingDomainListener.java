@@ -18,6 +18,7 @@ import org.eclipse.emf.transaction.ResourceSetListenerImpl;
 import org.polarsys.capella.common.data.modellingcore.AbstractNamedElement;
 import org.polarsys.capella.common.ef.domain.IEditingDomainListener;
 import org.polarsys.capella.common.platform.sirius.ted.SemanticEditingDomainFactory.SemanticEditingDomain;
+import org.polarsys.capella.core.data.helpers.cache.DerivedFeatureCache;
 
 /**
  *
@@ -46,7 +47,9 @@ public class CapellaModelEditingDomainListener extends ResourceSetListenerImpl i
    */
   @Override
   public void disposedEditingDomain(EditingDomain editingDomain) {
-    // Do nothing
+    if (DerivedFeatureCache.isEnabled()) {
+      DerivedFeatureCache.uninstall((SemanticEditingDomain) editingDomain);
+    }
   }
 
   /**
@@ -60,6 +63,7 @@ public class CapellaModelEditingDomainListener extends ResourceSetListenerImpl i
     loadDataListenerForInstanceRoles(editingDomain);
     loadDataListenerForAbstractStates(editingDomain);
     loadDataListenerForExchangeItemAndExchangeItemInstance(editingDomain);
+    loadDerivedFeatureCache(editingDomain);
   }
 
   /**
@@ -129,6 +133,15 @@ public class CapellaModelEditingDomainListener extends ResourceSetListenerImpl i
     }
   }
 
+  /**
+   * loads the cache of derived properties, if enabled
+   */
+  private void loadDerivedFeatureCache(SemanticEditingDomain editingDomain) {
+    if (DerivedFeatureCache.isEnabled()) {
+      DerivedFeatureCache.install(editingDomain);
+    }
+  }
+
   private void loadDataListenerForExchangeItemAndExchangeItemInstance(SemanticEditingDomain editingDomain) {
     if (dataListenerForExchangeItemAndExchangeItemInstance == null) {
       if (editingDomain.getDataNotifier() != null) {
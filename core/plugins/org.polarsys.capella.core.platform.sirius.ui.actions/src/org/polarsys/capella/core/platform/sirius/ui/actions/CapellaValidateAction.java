@@ -46,6 +46,7 @@ import org.polarsys.capella.common.tools.report.appenders.usage.UsageMonitoringL
 import org.polarsys.capella.common.tools.report.appenders.usage.util.UsageMonitoring.EventStatus;
 import org.polarsys.capella.core.commands.preferences.service.AbstractPreferencesInitializer;
 import org.polarsys.capella.core.model.handler.markers.ICapellaValidationConstants;
+import org.polarsys.capella.core.model.handler.validation.CapellaDiagnostician;
 import org.polarsys.capella.core.model.handler.validation.PluggableDiagnosticianProvider;
 import org.polarsys.capella.core.platform.sirius.ui.preferences.ICapellaValidationPreferences;
 
@@ -95,15 +96,17 @@ public class CapellaValidateAction extends ValidateAction {
         boolean cleanup = AbstractPreferencesInitializer.getBoolean(ICapellaValidationPreferences.P_CLEAN_PREVIOUS_VALIDATION_RESULTS, false);
         if (cleanup) {
           List<IMarker> markers = new ArrayList<IMarker>(LightMarkerRegistry.getInstance().getMarkers());
+          List<IMarker> toDelete = new ArrayList<IMarker>();
           for (IMarker marker : markers) {
             try {
               if (marker.getType().equals(getMarkerID())) {
-                marker.delete();
+                toDelete.add(marker);
               }
             } catch (CoreException e) {
               CapellaActionsActivator.getDefault().log(IStatus.ERROR, e.getMessage(), e);
             }
           }
+          LightMarkerRegistry.getInstance().deleteMarkers(toDelete);
         }
       }
 
@@ -136,7 +139,12 @@ public class CapellaValidateAction extends ValidateAction {
 
   @Override
   protected Diagnostician createDiagnostician(AdapterFactory adapterFactory, IProgressMonitor progressMonitor) {
-    return new PluggableDiagnosticianProvider().getDiagnostician(adapterFactory, progressMonitor);
+    Diagnostician diagnostician = new PluggableDiagnosticianProvider().getDiagnostician(adapterFactory, progressMonitor);
+    if (diagnostician instanceof CapellaDiagnostician) {
+      // Selected elements are validated with their contents, types of parts there must not be validated twice
+      ((CapellaDiagnostician) diagnostician).setScope(selectedObjects);
+    }
+    return diagnostician;
   }
 
   /**
@@ -241,7 +249,8 @@ public class CapellaValidateAction extends ValidateAction {
       }
       // Go for default behavior.
       // Markers will be tagged with current resource at creation time (see constructor).
-      super.handleDiagnostic(diagnostic);
+      // Listeners of the marker registry are notified once about all markers.
+      LightMarkerRegistry.getInstance().runBatch(() -> super.handleDiagnostic(diagnostic));
     } finally {
       // Reset current resource, whatever its value may be.
       _currentResource = null;
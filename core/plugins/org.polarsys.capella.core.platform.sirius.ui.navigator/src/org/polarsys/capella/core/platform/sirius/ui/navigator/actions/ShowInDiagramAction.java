@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.platform.sirius.ui.navigator.actions;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -121,7 +122,7 @@ public class ShowInDiagramAction extends BaseSelectionListenerAction implements
         Collection<DDiagramElement> currentViewElements = Collections.emptyList();
 
         if (semanticElement instanceof Component) {
-          currentViewElements = getCache(ComponentExt::getRepresentingParts, (Component) semanticElement) //
+          currentViewElements = getCache(ComponentExt::getRepresentingParts, (Component) semanticElement, RECORDED_READS) //
               .stream() //
               .flatMap(part -> getDDiagramElements(diagram, part))//
               .collect(Collectors.toList());
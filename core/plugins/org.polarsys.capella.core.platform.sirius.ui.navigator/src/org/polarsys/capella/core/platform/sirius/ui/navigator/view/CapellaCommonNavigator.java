@@ -83,6 +83,12 @@ public class CapellaCommonNavigator extends CommonNavigator implements IEditingD
    */
   public static final String ID = "capella.project.explorer"; //$NON-NLS-1$
 
+  /**
+   * System property enabling a virtual tree: items of a node are only created when they are displayed, so labels,
+   * images and children of large packages are computed page by page while scrolling.
+   */
+  public static final String VIRTUAL_PROPERTY = "org.polarsys.capella.core.platform.sirius.ui.navigator.virtual"; //$NON-NLS-1$
+
   public static final int IS_SEARCH_IN_DESCRIPTION_ENABLED_PROPERTY = 0x10001;
   private boolean isSearchInDescriptionEnabled = false;
 
@@ -110,10 +116,19 @@ public class CapellaCommonNavigator extends CommonNavigator implements IEditingD
 
   @Override
   protected CommonViewer createCommonViewerObject(Composite aParent) {
-    filteredTree = new CapellaCommonNavigatorFilteredTree(aParent, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL,
-        new CapellaCommonNavigatorPatternFilter());
+    int style = SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL;
+    boolean virtual = Boolean.valueOf(System.getProperty(VIRTUAL_PROPERTY, "false")).booleanValue(); //$NON-NLS-1$
+    if (virtual) {
+      style |= SWT.VIRTUAL;
+    }
+    filteredTree = new CapellaCommonNavigatorFilteredTree(aParent, style, new CapellaCommonNavigatorPatternFilter());
     filteredTree.setCaseSensitiveEnabled(isSearchCaseSensitiveEnabled);
-    return (CommonViewer) filteredTree.getViewer();
+    CommonViewer viewer = (CommonViewer) filteredTree.getViewer();
+    if (virtual) {
+      // Required by virtual trees to find items of elements not displayed yet
+      viewer.setUseHashlookup(true);
+    }
+    return viewer;
   }
 
   @Override
@@ -153,6 +168,10 @@ public class CapellaCommonNavigator extends CommonNavigator implements IEditingD
     String property = event.getProperty();
     if (ICapellaNavigatorPreferences.PREFERENCE_SHOW_CAPELLA_PROJECT_CONCEPT.equals(property)
         || ICapellaNavigatorPreferences.PREFERENCE_PART_EXPLICIT_VIEW.equals(property)) {
+      CapellaNavigatorContentProvider contentProvider = getContentProvider();
+      if (null != contentProvider) {
+        contentProvider.clearChildCounts();
+      }
       // Get all active sessions.
       Iterator<Session> iterator = SessionManager.INSTANCE.getSessions().iterator();
       // Iterate over sessions to refresh their UI representations.
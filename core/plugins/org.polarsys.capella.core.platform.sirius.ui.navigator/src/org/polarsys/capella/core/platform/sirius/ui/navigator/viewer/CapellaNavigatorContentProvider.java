@@ -15,11 +15,13 @@ package org.polarsys.capella.core.platform.sirius.ui.navigator.viewer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.apache.log4j.Logger;
 import org.eclipse.core.resources.IFile;
@@ -33,10 +35,13 @@ import org.eclipse.emf.ecore.EStructuralFeature.Setting;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
 import org.eclipse.emf.edit.provider.IEditingDomainItemProvider;
+import org.eclipse.emf.edit.provider.ITreeItemContentProvider;
 import org.eclipse.emf.edit.provider.ViewerNotification;
 import org.eclipse.emf.edit.ui.provider.AdapterFactoryContentProvider;
+import org.eclipse.emf.transaction.ResourceSetChangeEvent;
 import org.eclipse.emf.transaction.TransactionalEditingDomain;
 import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.sirius.business.api.session.Session;
 import org.eclipse.sirius.business.api.session.SessionManager;
 import org.eclipse.sirius.business.api.session.danalysis.DAnalysisSession;
@@ -44,6 +49,7 @@ import org.eclipse.sirius.common.tools.api.constant.CommonPreferencesConstants;
 import org.eclipse.sirius.common.ui.SiriusTransPlugin;
 import org.eclipse.sirius.common.ui.tools.api.navigator.GroupingContentProvider;
 import org.eclipse.sirius.diagram.DSemanticDiagram;
+import org.eclipse.sirius.diagram.business.api.query.EObjectQuery;
 import org.eclipse.sirius.ui.tools.api.views.common.item.RepresentationDescriptionItem;
 import org.eclipse.sirius.ui.tools.api.views.common.item.ViewpointItem;
 import org.eclipse.sirius.ui.tools.internal.views.common.SessionWrapperContentProvider;
@@ -53,6 +59,7 @@ import org.eclipse.sirius.viewpoint.DSemanticDecorator;
 import org.eclipse.sirius.viewpoint.ViewpointPackage;
 import org.eclipse.sirius.viewpoint.description.DescriptionPackage;
 import org.eclipse.ui.navigator.SaveablesProvider;
+import org.polarsys.capella.common.data.modellingcore.ModelElement;
 import org.polarsys.capella.common.data.modellingcore.ModellingcorePackage;
 import org.polarsys.capella.common.helpers.EcoreUtil2;
 import org.polarsys.capella.common.helpers.TransactionHelper;
@@ -97,6 +104,22 @@ public class CapellaNavigatorContentProvider extends GroupedAdapterFactoryConten
    */
   private static final Object[] NO_CHILD = new Object[0];
 
+  /**
+   * Cached value of an element known to have children, without knowing how many.
+   */
+  private static final Integer SOME_CHILDREN = Integer.valueOf(-1);
+
+  /**
+   * Number of children of model elements, as last displayed.<br>
+   * Entries are removed when a notification is received about the element, or about its children.
+   */
+  private Map<Object, Integer> childCounts = Collections.synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * Incremented on each invalidation, so that a count computed during a model change is not cached.
+   */
+  private volatile int childCountsVersion;
+
   /**
    * Session content provider.
    */
@@ -313,7 +336,95 @@ public class CapellaNavigatorContentProvider extends GroupedAdapterFactoryConten
    */
   @Override
   public boolean hasChildren(Object element) {
-    return getChildren(element).length > 0;
+    if (!isChildCountCached(element)) {
+      return getChildren(element).length > 0;
+    }
+    Integer count = childCounts.get(element);
+    if (count != null) {
+      return count.intValue() != 0;
+    }
+    int version = childCountsVersion;
+    boolean hasChildren = hasModelElementChildren((ModelElement) element);
+    cacheChildCount(element, hasChildren ? SOME_CHILDREN : Integer.valueOf(0), version);
+    return hasChildren;
+  }
+
+  /**
+   * Answer whether the given model element has children in the explorer, without computing them.<br>
+   * Children of a model element are its children from its item provider and the representations targeting it.
+   */
+  protected boolean hasModelElementChildren(ModelElement element) {
+    ITreeItemContentProvider provider = (ITreeItemContentProvider) adapterFactory.adapt(element,
+        ITreeItemContentProvider.class);
+    if ((provider != null) && provider.hasChildren(element)) {
+      return true;
+    }
+    return !new EObjectQuery(element)
+        .getInverseReferences(ViewpointPackage.Literals.DREPRESENTATION_DESCRIPTOR__TARGET).isEmpty();
+  }
+
+  /**
+   * Only children of model elements displayed through the session content provider are counted. Other elements (files,
+   * sessions, implicit view of parts) are few or have a specific content.
+   */
+  protected boolean isChildCountCached(Object element) {
+    return (element instanceof ModelElement)
+        && !((element instanceof Part) && (((Part) element).getOwnedAbstractType() != null)
+            && isImplicitView((EObject) element));
+  }
+
+  private void cacheChildCount(Object element, Integer count, int version) {
+    synchronized (childCounts) {
+      if (version == childCountsVersion) {
+        childCounts.put(element, count);
+      }
+    }
+  }
+
+  /**
+   * Remove cached children counts of elements whose children may have changed with the given notification.
+   */
+  protected void invalidateChildCounts(Notification notification) {
+    synchronized (childCounts) {
+      childCountsVersion++;
+      if (childCounts.isEmpty()) {
+        return;
+      }
+      Object notifier = notification.getNotifier();
+      childCounts.remove(notifier);
+      if (notifier instanceof EObject) {
+        // Children of a component are displayed under its part with the implicit view
+        childCounts.remove(((EObject) notifier).eContainer());
+      }
+      if (notification instanceof ViewerNotification) {
+        childCounts.remove(((ViewerNotification) notification).getElement());
+      }
+      invalidateChildCounts(notification.getOldValue());
+      invalidateChildCounts(notification.getNewValue());
+    }
+  }
+
+  private void invalidateChildCounts(Object value) {
+    if (value instanceof Collection<?>) {
+      for (Object item : (Collection<?>) value) {
+        invalidateChildCounts(item);
+      }
+    } else if (value instanceof DRepresentationDescriptor) {
+      // A representation is displayed under its target
+      childCounts.remove(((DRepresentationDescriptor) value).getTarget());
+    } else if (value instanceof EObject) {
+      childCounts.remove(value);
+    }
+  }
+
+  /**
+   * Clear all cached children counts, when the displayed content changes regardless of the model (e.g preferences).
+   */
+  public void clearChildCounts() {
+    synchronized (childCounts) {
+      childCountsVersion++;
+      childCounts.clear();
+    }
   }
 
   /**
@@ -321,6 +432,19 @@ public class CapellaNavigatorContentProvider extends GroupedAdapterFactoryConten
    */
   @Override
   public Object[] getChildren(Object element) {
+    if (isChildCountCached(element)) {
+      int version = childCountsVersion;
+      Object[] children = doGetChildren(element);
+      cacheChildCount(element, Integer.valueOf(children.length), version);
+      return children;
+    }
+    return doGetChildren(element);
+  }
+
+  /**
+   * Compute the children of the given element.
+   */
+  protected Object[] doGetChildren(Object element) {
     Object[] result = NO_CHILD;
     try {
 
@@ -524,6 +648,28 @@ public class CapellaNavigatorContentProvider extends GroupedAdapterFactoryConten
     return result;
   }
 
+  /**
+   * @see org.eclipse.emf.edit.ui.provider.AdapterFactoryContentProvider#inputChanged(org.eclipse.jface.viewers.Viewer,
+   *      java.lang.Object, java.lang.Object)
+   */
+  @Override
+  public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+    clearChildCounts();
+    super.inputChanged(viewer, oldInput, newInput);
+  }
+
+  /**
+   * @see org.polarsys.capella.common.ui.toolkit.provider.GroupedAdapterFactoryContentProvider#refreshRequired(org.eclipse.emf.transaction.ResourceSetChangeEvent)
+   */
+  @Override
+  protected boolean refreshRequired(ResourceSetChangeEvent event) {
+    // Notifications of elements not displayed yet are not forwarded to the content provider
+    for (Notification notification : event.getNotifications()) {
+      invalidateChildCounts(notification);
+    }
+    return super.refreshRequired(event);
+  }
+
   /**
    * @see org.eclipse.emf.edit.ui.provider.AdapterFactoryContentProvider#dispose()
    */
@@ -543,6 +689,7 @@ public class CapellaNavigatorContentProvider extends GroupedAdapterFactoryConten
    */
   @Override
   public void notifyChanged(Notification notification) {
+    invalidateChildCounts(notification);
 
     // At the moment representation notifications are ignored to avoid
     // massive UI refreshes.
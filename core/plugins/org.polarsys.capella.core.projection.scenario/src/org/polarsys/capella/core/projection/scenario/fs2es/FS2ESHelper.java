@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.projection.scenario.fs2es;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -88,7 +89,7 @@ public class FS2ESHelper extends ScenarioHorizontalHelper {
     Collection<Component> allocatingBlocks = getAllocatingBlocks(function);
 
     // if all leaf functions are allocated to the same component, we use it
-    Iterator<AbstractFunction> leafs = getCache(FunctionExt::getAllLeafAbstractFunctions, function).iterator();
+    Iterator<AbstractFunction> leafs = getCache(FunctionExt::getAllLeafAbstractFunctions, function, RECORDED_READS).iterator();
     if (leafs.hasNext()) {
       AbstractFunction leaf = leafs.next();
       Collection<Component> leafAllocatingBlocks = getAllocatingBlocks(leaf);
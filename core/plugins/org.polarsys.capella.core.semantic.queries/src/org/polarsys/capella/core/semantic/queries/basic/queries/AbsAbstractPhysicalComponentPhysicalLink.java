@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.semantic.queries.basic.queries;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -45,7 +46,7 @@ public abstract class AbsAbstractPhysicalComponentPhysicalLink implements IQuery
     List<Object> result = new ArrayList<>();
     if (object instanceof PhysicalComponent) {
       PhysicalComponent absPhyComp = (PhysicalComponent) object;
-      Collection<PhysicalLink> allRelatedPhysicalLinks = getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, absPhyComp);
+      Collection<PhysicalLink> allRelatedPhysicalLinks = getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, absPhyComp, RECORDED_READS);
       for (PhysicalLink physicalLink : allRelatedPhysicalLinks) {
         result.add(physicalLink);
       }
@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.semantic.queries.basic.queries;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -48,7 +49,7 @@ public abstract class AbstractFunctionInternalDataflows implements IQuery {
     if (object instanceof AbstractFunction) {
       AbstractFunction currentFunction = (AbstractFunction) object;
       // collect all the sub functions recursively 
-      List<AbstractFunction> subfunctions = new ArrayList<>(getCache(FunctionExt::getAllAbstractFunctions, currentFunction));
+      List<AbstractFunction> subfunctions = new ArrayList<>(getCache(FunctionExt::getAllAbstractFunctions, currentFunction, RECORDED_READS));
       // remove the current function
       subfunctions.remove(currentFunction);
       for (AbstractFunction subfunction : subfunctions) {
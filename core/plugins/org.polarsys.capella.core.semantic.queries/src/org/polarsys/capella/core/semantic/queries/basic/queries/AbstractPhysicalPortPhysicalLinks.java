@@ -23,6 +23,7 @@ import org.polarsys.capella.core.data.information.Port;
 import org.polarsys.capella.common.helpers.query.IQuery;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 /**
  * Return connected Physical Links of current Physical Port
@@ -47,7 +48,7 @@ public abstract class AbstractPhysicalPortPhysicalLinks implements IQuery {
 		List<Object> result = new ArrayList<>();
 		if (object instanceof PhysicalPort) {
 		  PhysicalPort currentPort = (PhysicalPort) object;
-		  Collection<PhysicalLink> links = getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, currentPort);
+		  Collection<PhysicalLink> links = getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, currentPort, RECORDED_READS);
 		  for (PhysicalLink physicalLink : links) {
         Port port = getSourcePortFromLink(physicalLink);
         if (null != port && port.equals(currentPort)) {
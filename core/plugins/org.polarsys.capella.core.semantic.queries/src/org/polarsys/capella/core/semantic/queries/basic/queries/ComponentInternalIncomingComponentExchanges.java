@@ -14,6 +14,7 @@
 package org.polarsys.capella.core.semantic.queries.basic.queries;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -45,7 +46,7 @@ public class ComponentInternalIncomingComponentExchanges extends ComponentIncomi
         }
       }
     }
-    usedParts.addAll(getCache(ComponentExt::getRepresentingParts, (Component) object));
+    usedParts.addAll(getCache(ComponentExt::getRepresentingParts, (Component) object, RECORDED_READS));
     
     List<ComponentExchange> result = new ArrayList<>();
 
@@ -18,7 +18,7 @@ import java.util.List;
 
 import org.eclipse.emf.ecore.EObject;
 
-import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.helpers.ReferencerQuery;
 import org.polarsys.capella.core.data.fa.FaPackage;
 import org.polarsys.capella.core.data.information.ExchangeItem;
 import org.polarsys.capella.common.data.modellingcore.ModellingcorePackage;
@@ -30,6 +30,11 @@ import org.polarsys.capella.common.helpers.query.IQuery;
  */
 public class EIActiveInConnectionsAndExchanges implements IQuery {
 
+  private static final ReferencerQuery CONNECTIONS = new ReferencerQuery(
+      ModellingcorePackage.Literals.ABSTRACT_INFORMATION_FLOW__CONVOYED_INFORMATIONS);
+
+  private static final ReferencerQuery EXCHANGES = new ReferencerQuery(
+      FaPackage.Literals.FUNCTIONAL_EXCHANGE__EXCHANGED_ITEMS);
 
 	/** 
 	 * @see org.polarsys.capella.common.helpers.query.IQuery#compute(java.lang.Object)
@@ -38,8 +43,8 @@ public class EIActiveInConnectionsAndExchanges implements IQuery {
 	  List<Object> result = new ArrayList<Object>();
 	  if (object instanceof ExchangeItem) {
 	    ExchangeItem exchangeItem = (ExchangeItem) object;
-	    List<EObject> connections = EObjectExt.getReferencers(exchangeItem, ModellingcorePackage.Literals.ABSTRACT_INFORMATION_FLOW__CONVOYED_INFORMATIONS);
-	    List<EObject> exchanges = EObjectExt.getReferencers(exchangeItem, FaPackage.Literals.FUNCTIONAL_EXCHANGE__EXCHANGED_ITEMS);
+	    List<EObject> connections = CONNECTIONS.getReferencers(exchangeItem);
+	    List<EObject> exchanges = EXCHANGES.getReferencers(exchangeItem);
 	    if (connections != null && !connections.isEmpty()) {
 	      result.addAll(connections);
       }
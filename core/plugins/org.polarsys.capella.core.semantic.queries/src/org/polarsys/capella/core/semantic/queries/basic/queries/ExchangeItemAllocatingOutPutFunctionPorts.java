@@ -18,7 +18,7 @@ import java.util.List;
 
 import org.eclipse.emf.ecore.EObject;
 
-import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.helpers.ReferencerQuery;
 import org.polarsys.capella.core.data.fa.FaPackage;
 import org.polarsys.capella.core.data.information.ExchangeItem;
 import org.polarsys.capella.common.helpers.query.IQuery;
@@ -28,6 +28,8 @@ import org.polarsys.capella.common.helpers.query.IQuery;
  */
 public class ExchangeItemAllocatingOutPutFunctionPorts implements IQuery {
 
+  private static final ReferencerQuery PORTS = new ReferencerQuery(FaPackage.Literals.FUNCTION_OUTPUT_PORT__OUTGOING_EXCHANGE_ITEMS);
+
 	/**
 	 * 
 	 */
@@ -42,7 +44,7 @@ public class ExchangeItemAllocatingOutPutFunctionPorts implements IQuery {
 	public List<Object> compute(Object object) {
     List<Object> result = new ArrayList<Object>();
     if (object instanceof ExchangeItem) {
-      for (EObject obj : EObjectExt.getReferencers((EObject) object, FaPackage.Literals.FUNCTION_OUTPUT_PORT__OUTGOING_EXCHANGE_ITEMS)) {
+      for (EObject obj : PORTS.<EObject> getReferencers((EObject) object)) {
         result.add(obj);
       }
     }
@@ -18,21 +18,23 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.eclipse.emf.ecore.EObject;
-import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.helpers.ReferencerQuery;
 import org.polarsys.capella.common.helpers.query.IQuery;
 import org.polarsys.capella.core.data.capellacore.CapellacorePackage;
 import org.polarsys.capella.core.data.fa.FunctionalChain;
-import org.polarsys.capella.core.data.fa.FunctionalChainReference;
+import org.polarsys.capella.core.data.fa.FaPackage;
 import org.polarsys.capella.core.data.oa.OperationalProcess;
 import org.polarsys.capella.core.semantic.queries.basic.queries.utils.QueryHelper;
 
 public class FunctionalChainParent implements IQuery {
 
+  private static final ReferencerQuery INVOLVING_REFERENCES = new ReferencerQuery(
+      FaPackage.Literals.FUNCTIONAL_CHAIN_REFERENCE, CapellacorePackage.Literals.INVOLVEMENT__INVOLVED);
+
   public List<Object> compute(Object object) {
     FunctionalChain functionalChain = QueryHelper.getFunctionalChain(object);
     if (functionalChain != null && isValidInstanceOf(functionalChain)) {
-      return EObjectExt.getReferencers(functionalChain, CapellacorePackage.Literals.INVOLVEMENT__INVOLVED).stream()
-          .filter(FunctionalChainReference.class::isInstance).map(EObject::eContainer).distinct()
+      return INVOLVING_REFERENCES.stream(functionalChain).map(EObject::eContainer).distinct()
           .collect(Collectors.toList());
     }
     return Collections.emptyList();
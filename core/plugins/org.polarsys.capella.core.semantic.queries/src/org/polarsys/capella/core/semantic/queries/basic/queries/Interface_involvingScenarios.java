@@ -16,7 +16,8 @@ package org.polarsys.capella.core.semantic.queries.basic.queries;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.polarsys.capella.common.helpers.EObjectExt;
+import org.eclipse.emf.ecore.EObject;
+import org.polarsys.capella.common.helpers.ReferencerQuery;
 import org.polarsys.capella.core.data.cs.Interface;
 import org.polarsys.capella.core.data.interaction.EventSentOperation;
 import org.polarsys.capella.core.data.interaction.InteractionPackage;
@@ -27,19 +28,20 @@ import org.polarsys.capella.common.helpers.query.IQuery;
 
 public class Interface_involvingScenarios implements IQuery {
 
+  private static final ReferencerQuery SENDING_EVENTS = new ReferencerQuery(
+      InteractionPackage.Literals.EVENT_SENT_OPERATION, InteractionPackage.Literals.EVENT_SENT_OPERATION__OPERATION);
+
   public List<Object> compute(Object object) {
     List<Object> result = new ArrayList<Object>();
     if (object instanceof Interface) {
       Interface itf = (Interface) object;
       
       for (AbstractExchangeItem operation : itf.getExchangeItems()) {
-        for (Object objectRef : EObjectExt.getReferencers(operation, InteractionPackage.Literals.EVENT_SENT_OPERATION__OPERATION)) {
-          if (objectRef instanceof EventSentOperation) {
-            for (Scenario scenario : ScenarioExt.getScenariosFromEvent((EventSentOperation)objectRef)) {
-              if (!result.contains(scenario) && !scenario.isMerged())
-                result.add(scenario);
-            } 
-          }
+        for (EObject objectRef : SENDING_EVENTS.getReferencers(operation)) {
+          for (Scenario scenario : ScenarioExt.getScenariosFromEvent((EventSentOperation)objectRef)) {
+            if (!result.contains(scenario) && !scenario.isMerged())
+              result.add(scenario);
+          } 
         } 
       }
     }
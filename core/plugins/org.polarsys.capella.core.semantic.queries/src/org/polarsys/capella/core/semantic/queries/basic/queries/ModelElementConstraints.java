@@ -14,6 +14,7 @@
 package org.polarsys.capella.core.semantic.queries.basic.queries;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -77,7 +78,7 @@ public class ModelElementConstraints implements IQuery {
    */
   private Set<AbstractConstraint> compute(Component component) {
     Set<AbstractConstraint> result = new HashSet<>();
-    Collection<Part> parts = getCache(ComponentExt::getRepresentingParts, component);
+    Collection<Part> parts = getCache(ComponentExt::getRepresentingParts, component, RECORDED_READS);
     for (AbstractTypedElement part : parts) {
       for (AbstractConstraint constraint : part.getConstraints())
         result.add(constraint);
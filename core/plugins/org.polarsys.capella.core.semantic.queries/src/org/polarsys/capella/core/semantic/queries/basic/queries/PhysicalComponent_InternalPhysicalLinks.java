@@ -14,6 +14,7 @@
 package org.polarsys.capella.core.semantic.queries.basic.queries;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -47,9 +48,9 @@ public class PhysicalComponent_InternalPhysicalLinks implements IQuery {
       Component seletectedComponent = (Component) object;
       Collection<Part> usedParts = ComponentExt.getAllSubUsedParts(seletectedComponent, true);
       for (Part part : usedParts) {
-        allPLs.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, part));
+        allPLs.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, part, RECORDED_READS));
       }
-      usedParts.addAll(getCache(ComponentExt::getRepresentingParts, seletectedComponent));
+      usedParts.addAll(getCache(ComponentExt::getRepresentingParts, seletectedComponent, RECORDED_READS));
       
       // If source or target is one of the used parts or representing parts, filter
       for (PhysicalLink pl : allPLs) {
@@ -23,6 +23,7 @@ import org.polarsys.capella.core.data.helpers.cs.services.PhysicalLinkExt;
 import org.polarsys.capella.common.helpers.query.IQuery;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 /**
  * Return incoming and outgoing Physical Links of current Physical Port
@@ -44,7 +45,7 @@ public class PhysicalPortIncomingPhysicalLinks  implements IQuery {
 		List<Object> result = new ArrayList<>();
 		if (object instanceof PhysicalPort) {
 		  PhysicalPort currentPort = (PhysicalPort) object;
-		  Collection<PhysicalLink> links = getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, currentPort);
+		  Collection<PhysicalLink> links = getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, currentPort, RECORDED_READS);
 		  if (!links.isEmpty()) {
 			result.addAll(links);
 		  }
@@ -16,13 +16,15 @@ package org.polarsys.capella.core.semantic.queries.basic.queries;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.common.helpers.ReferencerQuery;
 import org.polarsys.capella.common.data.modellingcore.IState;
 import org.polarsys.capella.common.data.modellingcore.ModellingcorePackage;
 import org.polarsys.capella.common.helpers.query.IQuery;
 
 public class State_InvolvingStates implements IQuery {
 
+	private static final ReferencerQuery INVOLVING_STATES = new ReferencerQuery(ModellingcorePackage.Literals.ISTATE__REFERENCED_STATES);
+
 	public State_InvolvingStates() {
 		// nothing to do here
 	}
@@ -31,7 +33,7 @@ public class State_InvolvingStates implements IQuery {
 		List<Object> result = new ArrayList<Object>();
 		if (object instanceof IState) {
 			IState state = (IState) object;
-			result.addAll(EObjectExt.getReferencers(state, ModellingcorePackage.Literals.ISTATE__REFERENCED_STATES));
+			result.addAll(INVOLVING_STATES.getReferencers(state));
 		}
 		return result;
 	}
@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.sirius.analysis;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -266,7 +267,7 @@ public class ABServices {
         newComponentPkg.getOwnedParts().add((Part) pcMoved);
         component = (Component) ((Part) pcMoved).getType();
       } else if (pcMoved instanceof Component) {
-        for (Part part : getCache(ComponentExt::getRepresentingParts, (Component) pcMoved)) {
+        for (Part part : getCache(ComponentExt::getRepresentingParts, (Component) pcMoved, RECORDED_READS)) {
           if (!newComponentPkg.equals(part.eContainer())) {
             newComponentPkg.getOwnedParts().add(part);
           }
@@ -289,7 +290,7 @@ public class ABServices {
         newComponent.getOwnedFeatures().add((Part) pcMoved);
         component = (Component) ((Part) pcMoved).getType();
       } else if (pcMoved instanceof Component) {
-        for (Part part : getCache(ComponentExt::getRepresentingParts, (Component) pcMoved)) {
+        for (Part part : getCache(ComponentExt::getRepresentingParts, (Component) pcMoved, RECORDED_READS)) {
           if (!newComponent.equals(part.eContainer())) {
             newComponent.getOwnedFeatures().add(part);
           }
@@ -1526,13 +1527,13 @@ public class ABServices {
     Collection<EObject> cSource = new ArrayList<>(category.getExchanges());
 
     List<FunctionalExchange> allSourceExchanges = new ArrayList<>();
-    for (AbstractFunction currentFunction : getCache(FunctionExt::getAllAbstractFunctions, source)) {
+    for (AbstractFunction currentFunction : getCache(FunctionExt::getAllAbstractFunctions, source, RECORDED_READS)) {
       allSourceExchanges.addAll(FunctionExt.getOutGoingExchange(currentFunction));
       allSourceExchanges.addAll(FunctionExt.getOutGoingExchange(currentFunction));
     }
 
     List<FunctionalExchange> allTargetExchanges = new ArrayList<>();
-    for (AbstractFunction currentFunction : getCache(FunctionExt::getAllAbstractFunctions, target)) {
+    for (AbstractFunction currentFunction : getCache(FunctionExt::getAllAbstractFunctions, target, RECORDED_READS)) {
       allTargetExchanges.addAll(FunctionExt.getIncomingExchange(currentFunction));
       allTargetExchanges.addAll(FunctionExt.getIncomingExchange(currentFunction));
     }
@@ -1547,7 +1548,7 @@ public class ABServices {
     Collection<EObject> cSource = new ArrayList<>(category.getExchanges());
 
     List<FunctionalExchange> allSourceExchanges = new ArrayList<>();
-    for (AbstractFunction currentFunction : getCache(FunctionExt::getAllAbstractFunctions, source)) {
+    for (AbstractFunction currentFunction : getCache(FunctionExt::getAllAbstractFunctions, source, RECORDED_READS)) {
       allSourceExchanges.addAll(FunctionExt.getOutGoingExchange(currentFunction));
       allSourceExchanges.addAll(FunctionExt.getOutGoingExchange(currentFunction));
     }
@@ -1560,7 +1561,7 @@ public class ABServices {
     Collection<EObject> cSource = new ArrayList<>(category.getExchanges());
 
     List<FunctionalExchange> allSourceExchanges = new ArrayList<>();
-    for (AbstractFunction currentFunction : getCache(FunctionExt::getAllAbstractFunctions, target)) {
+    for (AbstractFunction currentFunction : getCache(FunctionExt::getAllAbstractFunctions, target, RECORDED_READS)) {
       allSourceExchanges.addAll(FunctionExt.getIncomingExchange(currentFunction));
       allSourceExchanges.addAll(FunctionExt.getIncomingExchange(currentFunction));
     }
@@ -2359,7 +2360,7 @@ public class ABServices {
 
   public Collection<PhysicalLink> getRelatedPhysicalLinks(EObject part) {
     if (part instanceof Part) {
-      return getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, (Part) part);
+      return getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, (Part) part, RECORDED_READS);
     }
     return Collections.emptyList();
   }
@@ -2403,10 +2404,10 @@ public class ABServices {
 
   public Collection<PhysicalLink> getRelatedPhysicalLink(EObject element) {
     if (element instanceof Part) {
-      return getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, (Part) element);
+      return getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, (Part) element, RECORDED_READS);
 
     } else if (element instanceof Component) {
-      return getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, (Component) element);
+      return getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, (Component) element, RECORDED_READS);
     }
     return Collections.emptyList();
   }
@@ -3353,9 +3354,9 @@ public class ABServices {
       if (dNode instanceof AbstractDNode) {
         EObject target = dNode.getTarget();
         if (target instanceof Part) {
-          result.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, (Part) target));
+          result.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, (Part) target, RECORDED_READS));
         } else if (target instanceof Component) {
-          result.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, (Component) target));
+          result.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, (Component) target, RECORDED_READS));
         }
       }
     }
@@ -13,10 +13,12 @@
 package org.polarsys.capella.core.sirius.analysis;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
 import org.eclipse.sirius.common.tools.api.interpreter.EvaluationException;
@@ -36,11 +38,125 @@ import org.polarsys.capella.core.model.handler.helpers.CapellaAdapterHelper;
 
 import com.google.common.base.CaseFormat;
 
+/**
+ * Interpreter of <code>capella:</code> expressions, which compute the Semantic Browser category whose command name is
+ * given after the prefix.<br>
+ * Expressions are compiled once into a {@link CapellaExpression}. The categories available for a type only depend on
+ * the type, so the categories of all the Semantic Browser registries are indexed by command name once per type.
+ */
 public class CapellaInterpreter implements IInterpreterProvider, IInterpreter, TypedValidation {
 
   /** The Capella interpreter prefix. */
   public static final String PREFIX = TitleBlockHelper.CAPELLA_PREFIX;
 
+  /**
+   * Compiled expressions, by expression.
+   */
+  private static final Map<String, CapellaExpression> EXPRESSIONS = new ConcurrentHashMap<>();
+
+  /**
+   * Available categories by type of element and by command name.
+   */
+  private static final Map<EClass, Map<String, ICategory>> CATEGORIES_BY_TYPE = new ConcurrentHashMap<>();
+
+  /**
+   * A compiled <code>capella:</code> expression.
+   */
+  public static class CapellaExpression {
+
+    private final String command;
+
+    protected CapellaExpression(String command) {
+      this.command = command;
+    }
+
+    /**
+     * @return the command name, i.e. the expression without the prefix
+     */
+    public String getCommand() {
+      return command;
+    }
+
+    /**
+     * @param resolvedTarget
+     *          a semantic element
+     * @return the category of the command available for the type of the element, null if none
+     */
+    public ICategory getCategory(EObject resolvedTarget) {
+      return getCategories(resolvedTarget).get(command);
+    }
+
+    /**
+     * Evaluate the expression on the given target.
+     * 
+     * @param target
+     *          a semantic element, a representation descriptor or a diagram element
+     * @return the result of the category query, null if the target can't be resolved to a semantic element
+     * @throws EvaluationException
+     *           if no category of the command is available for the target
+     */
+    public Object evaluate(EObject target) throws EvaluationException {
+      EObject resolvedTarget = CapellaAdapterHelper.resolveDescriptorOrBusinessObject(target);
+      if (resolvedTarget == null) {
+        return null;
+      }
+      ICategory category = getCategory(resolvedTarget);
+      if (category == null) {
+        throw new EvaluationException();
+      }
+      return category.compute(resolvedTarget);
+    }
+  }
+
+  /**
+   * Compile a <code>capella:</code> expression. Compiled expressions are cached.
+   * 
+   * @param expression
+   *          the expression
+   * @return the compiled expression, null if it is not a <code>capella:</code> expression
+   */
+  public static CapellaExpression compile(String expression) {
+    if (expression == null || !expression.startsWith(PREFIX)) {
+      return null;
+    }
+    CapellaExpression compiled = EXPRESSIONS.get(expression);
+    if (compiled == null) {
+      compiled = EXPRESSIONS.computeIfAbsent(expression,
+          e -> new CapellaExpression(e.substring(PREFIX.length(), e.length()).trim()));
+    }
+    return compiled;
+  }
+
+  /**
+   * @param resolvedTarget
+   *          a semantic element
+   * @return the categories of all the Semantic Browser registries available for the type of the element, by command
+   *         name
+   */
+  protected static Map<String, ICategory> getCategories(EObject resolvedTarget) {
+    Map<String, ICategory> categories = CATEGORIES_BY_TYPE.get(resolvedTarget.eClass());
+    if (categories == null) {
+      Map<String, ICategory> commands = new HashMap<>();
+      for (ICategory category : CategoryRegistry.getInstance().gatherCategories(resolvedTarget)) {
+        if (category.getName() != null) {
+          commands.putIfAbsent(getCommandName(category), category);
+        }
+      }
+      categories = Collections.unmodifiableMap(commands);
+      CATEGORIES_BY_TYPE.put(resolvedTarget.eClass(), categories);
+    }
+    return categories;
+  }
+
+  /**
+   * @param category
+   *          a category
+   * @return the command name of the category in <code>capella:</code> expressions
+   */
+  public static String getCommandName(ICategory category) {
+    return CaseFormat.UPPER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, category.getName().trim().replaceAll(" ", "_"));
+  }
+
   @Override
   public boolean provides(String expression) {
     return expression != null && expression.startsWith(getPrefix());
@@ -73,30 +189,11 @@ public class CapellaInterpreter implements IInterpreterProvider, IInterpreter, T
 
   @Override
   public Object evaluate(EObject target, String expression) throws EvaluationException {
-    Object result = null;
-    EObject resolvedTarget = CapellaAdapterHelper.resolveDescriptorOrBusinessObject(target);
-    if (resolvedTarget != null && expression != null && expression.startsWith(PREFIX)) {
-      // extract the capella command
-      String command = expression.substring(PREFIX.length(), expression.length()).trim();
-
-      // get all the categories for target and match the command name from category with the command in TitleBlock
-      Set<ICategory> categories = CategoryRegistry.getInstance().gatherCategories(resolvedTarget).stream()
-          .filter(category -> CaseFormat.UPPER_UNDERSCORE
-              .to(CaseFormat.LOWER_CAMEL, category.getName().trim().replaceAll(" ", "_")).equals(command))
-          .collect(Collectors.toSet());
-
-      if (!categories.isEmpty()) {
-        ICategory category = categories.iterator().next();
-        if (category != null) {
-          // execute the command
-          result = category.compute(resolvedTarget);
-        }
-      }
-      else {
-        throw new EvaluationException();
-      }
+    CapellaExpression compiled = compile(expression);
+    if (compiled == null) {
+      return null;
     }
-    return result;
+    return compiled.evaluate(target);
   }
 
   @Override
@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.sirius.analysis;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -1099,7 +1100,7 @@ public class CapellaServices {
       }
 
     }
-    returnedFunctions.addAll(getCache(FunctionExt::getAllAbstractFunctions, rootFunction));
+    returnedFunctions.addAll(getCache(FunctionExt::getAllAbstractFunctions, rootFunction, RECORDED_READS));
     returnedFunctions.removeAll(ownedNodes);
 
     if (allGraphicalContainers != null) {
@@ -2263,7 +2264,7 @@ public class CapellaServices {
         return false;
       }
     } else {
-      List<AbstractFunction> allLeaves = getCache(FunctionExt::getAllLeafAbstractFunctions, function);
+      List<AbstractFunction> allLeaves = getCache(FunctionExt::getAllLeafAbstractFunctions, function, RECORDED_READS);
       for (AbstractFunction leaf : allLeaves) {
         List<Component> allocatingComponent = getCache(AbstractFunctionExt::getAllocatingComponents, leaf);
         if (allocatingComponent.size() != 1 || allocatingComponent.get(0) != container) {
@@ -2292,7 +2293,7 @@ public class CapellaServices {
         return allocatingComponents.stream().allMatch(comp -> comp != container);
       }
     } else {
-      List<AbstractFunction> allLeaves = getCache(FunctionExt::getAllLeafAbstractFunctions, function);
+      List<AbstractFunction> allLeaves = getCache(FunctionExt::getAllLeafAbstractFunctions, function, RECORDED_READS);
       List<Component> subComponents = getCache(ComponentExt::getAllSubUsedAndDeployedComponents, container);
       for (AbstractFunction leaf : allLeaves) {
         List<Component> allocatingComponents = getCache(AbstractFunctionExt::getAllocatingComponents, leaf);
@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.sirius.analysis;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -3146,7 +3147,7 @@ public class CsServices {
           EObject src = getSourcePart(relatedExchange);
           if (src == null) {
             semantics.addAll(
-                getCache(ComponentExt::getRepresentingParts, ComponentExchangeExt.getSourceComponent(relatedExchange)));
+                getCache(ComponentExt::getRepresentingParts, ComponentExchangeExt.getSourceComponent(relatedExchange), RECORDED_READS));
           } else {
             semantics.add(src);
           }
@@ -3154,7 +3155,7 @@ public class CsServices {
           EObject target = getTargetPart(relatedExchange);
           if (target == null) {
             semantics.addAll(
-                getCache(ComponentExt::getRepresentingParts, ComponentExchangeExt.getTargetComponent(relatedExchange)));
+                getCache(ComponentExt::getRepresentingParts, ComponentExchangeExt.getTargetComponent(relatedExchange), RECORDED_READS));
           } else {
             semantics.add(src);
           }
@@ -4931,7 +4932,7 @@ public class CsServices {
           contextualParts.add(contextualElement);
 
         } else if (contextualElement instanceof Component) {
-          Collection<Part> parts = getCache(ComponentExt::getRepresentingParts, (Component) contextualElement);
+          Collection<Part> parts = getCache(ComponentExt::getRepresentingParts, (Component) contextualElement, RECORDED_READS);
           contextualParts.addAll(parts);
 
         } else if (contextualElement instanceof Part) {
@@ -6569,13 +6570,13 @@ public class CsServices {
     for (DDiagramElement dNode : context.getDiagramElements()) {
       EObject target = dNode.getTarget();
       if (target instanceof Part) {
-        result.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, (Part) target));
+        result.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, (Part) target, RECORDED_READS));
         Collection<Part> allSubUsedParts = ComponentExt.getAllSubUsedParts((Part) target, true);
         for (Part part : allSubUsedParts) {
-          result.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, part));
+          result.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, part, RECORDED_READS));
         }
       } else if (target instanceof Component) {
-        result.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, (Component) target));
+        result.addAll(getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, (Component) target, RECORDED_READS));
         Collection<Component> allSubUsedComponents = ComponentExt.getAllSubUsedComponents((Component) target);
         for (Component component : allSubUsedComponents) {
           result.addAll(PhysicalLinkExt.getAllRelatedPhysicalLinks(component));
@@ -6827,7 +6828,7 @@ public class CsServices {
         }
         if (source.eContainer() instanceof Component) {
           Collection<Part> representingParts = getCache(ComponentExt::getRepresentingParts,
-              (Component) source.eContainer());
+              (Component) source.eContainer(), RECORDED_READS);
           if (!representingParts.isEmpty()) {
             Part portParent = representingParts.iterator().next();
             result.addAll(getVisibleEdgeEnds(diagram, portParent, false));
@@ -6889,7 +6890,7 @@ public class CsServices {
 
   private void addRelevantParts(DDiagram diagram, Part mainPart, List<DeploymentTarget> toHandle) {
     if (mainPart.eContainer() instanceof Component) {
-      Iterator<Part> parts = getCache(ComponentExt::getRepresentingParts, (Component) mainPart.eContainer()).iterator();
+      Iterator<Part> parts = getCache(ComponentExt::getRepresentingParts, (Component) mainPart.eContainer(), RECORDED_READS).iterator();
       while (parts.hasNext()) {
         Part parentPart = parts.next();
         Collection<DSemanticDecorator> diagramElements = DiagramServices.getDiagramServices()
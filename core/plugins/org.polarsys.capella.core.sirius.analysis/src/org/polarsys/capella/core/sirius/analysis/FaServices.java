@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.sirius.analysis;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.AbstractMap;
 import java.util.ArrayList;
@@ -272,7 +273,7 @@ public class FaServices {
 
     if (context.getTarget() instanceof AbstractFunction) {
       selectedFunction = (AbstractFunction) context.getTarget();
-      for (AbstractFunction currentFunction : getCache(FunctionExt::getAllAbstractFunctions, selectedFunction)) {
+      for (AbstractFunction currentFunction : getCache(FunctionExt::getAllAbstractFunctions, selectedFunction, RECORDED_READS)) {
         allFunctionalExchanges.addAll(FunctionExt.getIncomingExchange(currentFunction));
         allFunctionalExchanges.addAll(FunctionExt.getOutGoingExchange(currentFunction));
       }
@@ -763,7 +764,7 @@ public class FaServices {
     }
     if ((null != target) && (current instanceof DNodeContainer) && (target instanceof AbstractFunction)) {
       currentFunction = (AbstractFunction) target;
-      returnedFunctions.addAll(getCache(FunctionExt::getAllAbstractFunctions, currentFunction));
+      returnedFunctions.addAll(getCache(FunctionExt::getAllAbstractFunctions, currentFunction, RECORDED_READS));
     }
     DDiagram currentDiagram = CapellaServices.getService().getDiagramContainer(current);
     for (AbstractDNode aContainer : currentDiagram.getContainers()) {
@@ -2134,7 +2135,7 @@ public class FaServices {
   }
 
   public Collection<AbstractFunction> getAllAbstractFunctions(AbstractFunction root) {
-    return getCache(FunctionExt::getAllAbstractFunctions, root);
+    return getCache(FunctionExt::getAllAbstractFunctions, root, RECORDED_READS);
   }
 
   public Collection<AbstractFunction> getAllAbstractFunctions(BlockArchitecture root) {
@@ -2288,7 +2289,7 @@ public class FaServices {
     if (oldContainer.equals(newContainer)) {
       return function;
     }
-    Collection<AbstractFunction> functions = getCache(FunctionExt::getAllAbstractFunctions, function);
+    Collection<AbstractFunction> functions = getCache(FunctionExt::getAllAbstractFunctions, function, RECORDED_READS);
 
     Component oldComponent = null;
     Component newComponent = null;
@@ -3284,7 +3285,7 @@ public class FaServices {
    *          the given flowPort
    */
   protected void updateExchanges(PhysicalPort port, Part oldPart, Part newPart) {
-    for (PhysicalLink exchange : getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, port)) {
+    for (PhysicalLink exchange : getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, port, RECORDED_READS)) {
       if (!exchange.getOwnedPhysicalLinkEnds().isEmpty()) {
         for (PhysicalLinkEnd anEnd : exchange.getOwnedPhysicalLinkEnds()) {
           if (anEnd.getPort().equals(port) && anEnd.getPart().equals(oldPart)) {
@@ -4276,7 +4277,7 @@ public class FaServices {
    * @return : List of leaf Functions
    */
   public List<AbstractFunction> getAllLeafAbstractFunctions(BlockArchitecture arch) {
-    return getCache(FunctionExt::getAllLeafAbstractFunctions, arch);
+    return getCache(FunctionExt::getAllLeafAbstractFunctions, arch, RECORDED_READS);
   }
 
   public AbstractFunction getOutgoingAbstractFunction(FunctionalExchange fe) {
@@ -4342,7 +4343,7 @@ public class FaServices {
    * Return all the leaf functions from given Block Architecture
    */
   public List<AbstractFunction> getAllLeafFunctions(BlockArchitecture blockArchitecture) {
-    List<AbstractFunction> allAbstractFunctions = getCache(FunctionExt::getAllLeafAbstractFunctions, blockArchitecture);
+    List<AbstractFunction> allAbstractFunctions = getCache(FunctionExt::getAllLeafAbstractFunctions, blockArchitecture, RECORDED_READS);
     if (!allAbstractFunctions.isEmpty()) {
       return allAbstractFunctions;
     }
@@ -4870,7 +4871,7 @@ public class FaServices {
         contextualFunctions.add((AbstractFunction) contextualElement);
 
         for (AbstractFunction function : getCache(FunctionExt::getAllAbstractFunctions,
-            (AbstractFunction) contextualElement)) {
+            (AbstractFunction) contextualElement, RECORDED_READS)) {
           for (FunctionalExchange exchange : FunctionExt.getIncomingExchange(function)) {
             AbstractFunction source = FunctionalExchangeExt.getSourceFunction(exchange);
             AbstractFunction target = FunctionalExchangeExt.getTargetFunction(exchange);
@@ -5013,7 +5014,7 @@ public class FaServices {
     if ((element == null) || isLeaf(element)) {
       return false;
     }
-    List<AbstractFunction> leaves = getCache(FunctionExt::getAllLeafAbstractFunctions, element);
+    List<AbstractFunction> leaves = getCache(FunctionExt::getAllLeafAbstractFunctions, element, RECORDED_READS);
     i = leaves.size();
     for (AbstractFunction af : leaves) {
       if (FunctionExt.isActorFunction(af)) {
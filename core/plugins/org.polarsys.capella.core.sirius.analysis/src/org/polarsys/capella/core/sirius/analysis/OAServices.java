@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.sirius.analysis;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -183,7 +184,7 @@ public class OAServices {
       list.addAll(getOutgoingAndIncomingExchanges(oa));
 
       // get all children
-      List<AbstractFunction> allAbstractFunctions = getCache(FunctionExt::getAllAbstractFunctions, oa);
+      List<AbstractFunction> allAbstractFunctions = getCache(FunctionExt::getAllAbstractFunctions, oa, RECORDED_READS);
       for (AbstractFunction abstractFunction : allAbstractFunctions) {
         list.addAll(getOutgoingAndIncomingExchanges(abstractFunction));
       }
@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.sirius.analysis;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -1280,8 +1281,8 @@ public class PhysicalServices {
 
   public List<PhysicalLink> getAvailablePhysicaLinks(PhysicalPath path, Part source, Part target) {
     List<PhysicalLink> returnedPhysicalLinks = new ArrayList<>();
-    Collection<PhysicalLink> incoming = getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, target);
-    Collection<PhysicalLink> outgoing = getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, source);
+    Collection<PhysicalLink> incoming = getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, target, RECORDED_READS);
+    Collection<PhysicalLink> outgoing = getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks, source, RECORDED_READS);
     List<AbstractPathInvolvedElement> involvedElements = PhysicalPathExt.getInvolvedElements(path);
     for (PhysicalLink aPhysicalLink : incoming) {
       if (outgoing.contains(aPhysicalLink) && !involvedElements.contains(aPhysicalLink)) {
@@ -1341,7 +1342,7 @@ public class PhysicalServices {
     List<AbstractPathInvolvedElement> involvedElements = PhysicalPathExt
         .getInvolvedElements((PhysicalPath) selectedInvolvement.eContainer());
     for (PhysicalLink aLink : getCache(PhysicalLinkExt::getAllRelatedPhysicalLinks,
-        (Part) selectedInvolvement.getInvolvedElement())) {
+        (Part) selectedInvolvement.getInvolvedElement(), RECORDED_READS)) {
       if (!existingInvolvedLinks.contains(aLink) && !involvedElements.contains(aLink)) {
         returnedList.add(aLink);
       }
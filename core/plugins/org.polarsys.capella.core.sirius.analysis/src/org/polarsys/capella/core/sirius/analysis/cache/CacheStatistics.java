@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.core.sirius.analysis.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the lookups of a cache, to measure what it saves.
+ */
+public class CacheStatistics {
+
+  private final String name;
+
+  private final AtomicLong hits = new AtomicLong();
+
+  private final AtomicLong misses = new AtomicLong();
+
+  private final AtomicLong evictions = new AtomicLong();
+
+  public CacheStatistics(String name) {
+    this.name = name;
+  }
+
+  public void hit() {
+    hits.incrementAndGet();
+  }
+
+  public void miss() {
+    misses.incrementAndGet();
+  }
+
+  public void evicted(int count) {
+    evictions.addAndGet(count);
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  public long getEvictions() {
+    return evictions.get();
+  }
+
+  /**
+   * @return the ratio of lookups answered from the cache, 0 if there was no lookup
+   */
+  public double getHitRate() {
+    long hitCount = hits.get();
+    long total = hitCount + misses.get();
+    return (0 == total) ? 0 : (double) hitCount / total;
+  }
+
+  public void reset() {
+    hits.set(0);
+    misses.set(0);
+    evictions.set(0);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: %d hits, %d misses (hit rate %.1f%%), %d evictions", name, //$NON-NLS-1$
+        Long.valueOf(getHits()), Long.valueOf(getMisses()), Double.valueOf(getHitRate() * 100),
+        Long.valueOf(getEvictions()));
+  }
+}
@@ -12,14 +12,27 @@
  *******************************************************************************/
 package org.polarsys.capella.core.sirius.analysis.cache;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
 
+import org.eclipse.emf.ecore.EObject;
+import org.polarsys.capella.core.data.fa.ControlNode;
 import org.polarsys.capella.core.data.fa.FunctionalChain;
+import org.polarsys.capella.core.data.fa.FunctionalChainInvolvement;
+import org.polarsys.capella.core.data.fa.SequenceLink;
+import org.polarsys.capella.core.model.helpers.FunctionalChainExt;
 import org.polarsys.capella.core.model.helpers.graph.InternalLinksGraph;
 import org.polarsys.capella.core.model.helpers.graph.InvolvementGraph;
 
-public class FunctionalChainCache {
+/**
+ * Involvement and internal links graphs of functional chains.<br>
+ * A graph is dropped when the chain, one of its involvements, control nodes or sequence links (including the ones of
+ * referenced chains), or one of the involved elements is modified.
+ */
+public class FunctionalChainCache extends SessionGraphCache<FunctionalChain, InvolvementGraph, InternalLinksGraph> {
 
   private static FunctionalChainCache instance;
 
@@ -30,24 +43,61 @@ public class FunctionalChainCache {
     return instance;
   }
 
-  private Map<FunctionalChain, InvolvementGraph> involvmentGraphs = new HashMap<>();
-
-  private Map<InvolvementGraph, InternalLinksGraph> internalLinksGraphs = new HashMap<>();
-
   private FunctionalChainCache() {
+    super(FunctionalChainCache.class.getSimpleName());
   }
 
   public InvolvementGraph getInvolvementGraph(FunctionalChain chain) {
-    return involvmentGraphs.computeIfAbsent(chain, InvolvementGraph::new);
+    return getGraph(chain);
   }
 
   public InternalLinksGraph getInternalLinksGraph(InvolvementGraph graph) {
-    return internalLinksGraphs.computeIfAbsent(graph, InternalLinksGraph::new);
+    return getDerivedGraph(graph);
+  }
+
+  @Override
+  protected InvolvementGraph createGraph(FunctionalChain chain) {
+    return new InvolvementGraph(chain);
+  }
+
+  @Override
+  protected InternalLinksGraph createDerivedGraph(InvolvementGraph graph) {
+    return new InternalLinksGraph(graph);
+  }
+
+  @Override
+  protected FunctionalChain getKey(InvolvementGraph graph) {
+    return graph.getSemantic();
   }
 
-  public void reset() {
-    involvmentGraphs.clear();
-    internalLinksGraphs.clear();
+  @Override
+  protected Collection<? extends EObject> getDependencies(FunctionalChain chain) {
+    Set<EObject> result = Collections.newSetFromMap(new IdentityHashMap<EObject, Boolean>());
+    result.add(chain);
+    for (Iterator<EObject> it = chain.eAllContents(); it.hasNext();) {
+      result.add(it.next());
+    }
+    // Elements of referenced chains, and their containers to be notified of additions
+    for (FunctionalChainInvolvement involvement : FunctionalChainExt.getFlatInvolvements(chain)) {
+      addDependency(involvement, result);
+      if (null != involvement.getInvolved()) {
+        result.add(involvement.getInvolved());
+      }
+    }
+    for (ControlNode controlNode : FunctionalChainExt.getFlatControlNodes(chain)) {
+      addDependency(controlNode, result);
+    }
+    for (SequenceLink sequenceLink : FunctionalChainExt.getFlatSequenceLinks(chain)) {
+      addDependency(sequenceLink, result);
+    }
+    return result;
+  }
+
+  private void addDependency(EObject element, Set<EObject> dependencies) {
+    dependencies.add(element);
+    if (null != element.eContainer()) {
+      dependencies.add(element.eContainer());
+    }
   }
 
 }
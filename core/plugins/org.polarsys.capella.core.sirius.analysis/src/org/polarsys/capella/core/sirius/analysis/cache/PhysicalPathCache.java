@@ -12,14 +12,26 @@
  *******************************************************************************/
 package org.polarsys.capella.core.sirius.analysis.cache;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
 
+import org.eclipse.emf.ecore.EObject;
 import org.polarsys.capella.core.data.cs.PhysicalPath;
+import org.polarsys.capella.core.data.cs.PhysicalPathInvolvement;
+import org.polarsys.capella.core.model.helpers.PhysicalPathExt;
 import org.polarsys.capella.core.model.helpers.graph.PhysicalPathInternalLinksGraph;
 import org.polarsys.capella.core.model.helpers.graph.PhysicalPathInvolvementGraph;
 
-public class PhysicalPathCache {
+/**
+ * Involvement and internal links graphs of physical paths.<br>
+ * A graph is dropped when the path, one of its involvements (including the ones of referenced paths), or one of the
+ * involved elements is modified.
+ */
+public class PhysicalPathCache
+    extends SessionGraphCache<PhysicalPath, PhysicalPathInvolvementGraph, PhysicalPathInternalLinksGraph> {
 
   private static PhysicalPathCache instance;
 
@@ -30,24 +42,51 @@ public class PhysicalPathCache {
     return instance;
   }
 
-  private Map<PhysicalPath, PhysicalPathInvolvementGraph> involvementGraphs = new HashMap<>();
-
-  private Map<PhysicalPathInvolvementGraph, PhysicalPathInternalLinksGraph> internalLinksGraphs = new HashMap<>();
-
   private PhysicalPathCache() {
+    super(PhysicalPathCache.class.getSimpleName());
   }
 
   public PhysicalPathInvolvementGraph getInvolvementGraph(PhysicalPath path) {
-    return involvementGraphs.computeIfAbsent(path, PhysicalPathInvolvementGraph::new);
+    return getGraph(path);
   }
 
   public PhysicalPathInternalLinksGraph getInternalLinksGraph(PhysicalPathInvolvementGraph graph) {
-    return internalLinksGraphs.computeIfAbsent(graph, PhysicalPathInternalLinksGraph::new);
+    return getDerivedGraph(graph);
+  }
+
+  @Override
+  protected PhysicalPathInvolvementGraph createGraph(PhysicalPath path) {
+    return new PhysicalPathInvolvementGraph(path);
+  }
+
+  @Override
+  protected PhysicalPathInternalLinksGraph createDerivedGraph(PhysicalPathInvolvementGraph graph) {
+    return new PhysicalPathInternalLinksGraph(graph);
+  }
+
+  @Override
+  protected PhysicalPath getKey(PhysicalPathInvolvementGraph graph) {
+    return graph.getSemantic();
   }
 
-  public void reset() {
-    involvementGraphs.clear();
-    internalLinksGraphs.clear();
+  @Override
+  protected Collection<? extends EObject> getDependencies(PhysicalPath path) {
+    Set<EObject> result = Collections.newSetFromMap(new IdentityHashMap<EObject, Boolean>());
+    result.add(path);
+    for (Iterator<EObject> it = path.eAllContents(); it.hasNext();) {
+      result.add(it.next());
+    }
+    // Elements of referenced paths, and their containers to be notified of additions
+    for (PhysicalPathInvolvement involvement : PhysicalPathExt.getFlatInvolvements(path)) {
+      result.add(involvement);
+      if (null != involvement.eContainer()) {
+        result.add(involvement.eContainer());
+      }
+      if (null != involvement.getInvolved()) {
+        result.add(involvement.getInvolved());
+      }
+    }
+    return result;
   }
 
 }
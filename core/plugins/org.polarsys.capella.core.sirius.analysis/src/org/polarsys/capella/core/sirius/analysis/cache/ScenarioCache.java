@@ -88,6 +88,11 @@ public class ScenarioCache {
    */
   private boolean isCacheEnabled;
 
+  /**
+   * Lookups of the scenario structures.
+   */
+  private final CacheStatistics statistics = new CacheStatistics("ScenarioCache"); //$NON-NLS-1$
+
   /**
    * Constructor.
    */
@@ -104,6 +109,13 @@ public class ScenarioCache {
     return instance;
   }
 
+  /**
+   * @return the counters of the lookups of the scenario structures
+   */
+  public CacheStatistics getStatistics() {
+    return statistics;
+  }
+
   /**
    * Clear all caches.
    */
@@ -244,10 +256,13 @@ public class ScenarioCache {
     List<SemanticCandidateContext> semanticCandidateContexts = getInstanceRoleToSemanticCandidateContextCache(
         instanceRole);
     if (semanticCandidateContexts == null) {
+      statistics.miss();
       semanticCandidateContexts = computeInstanceRoleSemanticCandidateContextStructure(instanceRole);
       if (isRefreshCacheEnabled()) {
         putInstanceRoleToSemanticCandidateContextsCache(instanceRole, semanticCandidateContexts);
       }
+    } else {
+      statistics.hit();
     }
     return semanticCandidateContexts;
   }
@@ -261,6 +276,7 @@ public class ScenarioCache {
   public OperandContext getOperandContext(InteractionOperand operand) {
     OperandContext operandContext = getOperandToOperandContextCache(operand);
     if (operandContext == null) {
+      statistics.miss();
       Scenario scenario = SequenceDiagramServices.getScenario(operand);
       Map<InteractionOperand, OperandContext> operandToOperandContextStructure = computeOperandToOperandContextStructure(
           scenario);
@@ -268,6 +284,8 @@ public class ScenarioCache {
       if (isRefreshCacheEnabled()) {
         operandToOperandContextCache = operandToOperandContextStructure;
       }
+    } else {
+      statistics.hit();
     }
     return operandContext;
   }
@@ -285,6 +303,7 @@ public class ScenarioCache {
   private Collection<EObject> getSemanticCandidates(InstanceRole instanceRole, EObject element) {
     Collection<EObject> semanticCandidates = getSemanticCandidatesFromCache(element);
     if (semanticCandidates == null) {
+      statistics.miss();
       // compute result from SemanticCandidateContext structure
       List<SemanticCandidateContext> semanticCandidateContexts = getSemanticCandidateContexts(instanceRole);
 
@@ -294,6 +313,8 @@ public class ScenarioCache {
       if (isRefreshCacheEnabled()) {
         putSemanticCandidatesInCache(element, semanticCandidates);
       }
+    } else {
+      statistics.hit();
     }
     return semanticCandidates;
   }
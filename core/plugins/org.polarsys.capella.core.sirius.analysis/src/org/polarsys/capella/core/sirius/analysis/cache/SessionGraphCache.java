@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.core.sirius.analysis.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Graphs computed from semantic elements (e.g. functional chains), along with a second graph derived from each of
+ * them (e.g. internal links).
+ * <p>
+ * Graphs are kept by resource set, so they are released along with the session they are computed for. A graph is
+ * dropped as soon as one of the elements it has been computed from is modified, and is computed again on its next
+ * lookup: graphs of other elements are kept, and the cache does not need to be reset before a diagram refresh.
+ * </p>
+ *
+ * @param <K>
+ *          the semantic element a graph is computed from
+ * @param <G>
+ *          the graph
+ * @param <L>
+ *          the graph derived from a graph
+ */
+public abstract class SessionGraphCache<K extends EObject, G, L> {
+
+  /**
+   * The graphs of a resource set.<br>
+   * It is attached as adapter to the resource set, and to the elements graphs have been computed from to be notified
+   * of their changes.
+   */
+  private class Store extends AdapterImpl {
+
+    final Map<K, G> graphs = new IdentityHashMap<>();
+
+    final Map<K, L> derivedGraphs = new IdentityHashMap<>();
+
+    final Map<K, Collection<EObject>> dependencies = new IdentityHashMap<>();
+
+    final Map<EObject, Set<K>> dependents = new IdentityHashMap<>();
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+      return type == SessionGraphCache.this;
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+      if (notification.isTouch()) {
+        return;
+      }
+      synchronized (SessionGraphCache.this) {
+        Set<K> keys = dependents.get(notification.getNotifier());
+        if (null != keys) {
+          for (K key : new ArrayList<>(keys)) {
+            evict(key);
+          }
+        }
+      }
+    }
+
+    void put(K key, G graph, Collection<? extends EObject> elements) {
+      graphs.put(key, graph);
+      Collection<EObject> keyDependencies = new ArrayList<>(elements);
+      dependencies.put(key, keyDependencies);
+      for (EObject element : keyDependencies) {
+        Set<K> keys = dependents.get(element);
+        if (null == keys) {
+          keys = Collections.newSetFromMap(new IdentityHashMap<K, Boolean>());
+          dependents.put(element, keys);
+          element.eAdapters().add(this);
+        }
+        keys.add(key);
+      }
+    }
+
+    void evict(K key) {
+      graphs.remove(key);
+      derivedGraphs.remove(key);
+      Collection<EObject> keyDependencies = dependencies.remove(key);
+      if (null != keyDependencies) {
+        for (EObject element : keyDependencies) {
+          Set<K> keys = dependents.get(element);
+          if ((null != keys) && keys.remove(key) && keys.isEmpty()) {
+            dependents.remove(element);
+            element.eAdapters().remove(this);
+          }
+        }
+        statistics.evicted(1);
+      }
+    }
+
+    void clear() {
+      for (K key : new ArrayList<>(graphs.keySet())) {
+        evict(key);
+      }
+    }
+  }
+
+  private final CacheStatistics statistics;
+
+  private final Set<Store> stores = Collections.newSetFromMap(new WeakHashMap<Store, Boolean>());
+
+  protected SessionGraphCache(String name) {
+    statistics = new CacheStatistics(name);
+  }
+
+  /**
+   * @param key
+   * @return the graph computed from the given element
+   */
+  protected abstract G createGraph(K key);
+
+  /**
+   * @param graph
+   * @return the graph derived from the given one
+   */
+  protected abstract L createDerivedGraph(G graph);
+
+  /**
+   * @param graph
+   * @return the element the given graph has been computed from
+   */
+  protected abstract K getKey(G graph);
+
+  /**
+   * @param key
+   * @return the elements read to compute the graph of the given element: a change of one of them drops the graph
+   */
+  protected abstract Collection<? extends EObject> getDependencies(K key);
+
+  public synchronized G getGraph(K key) {
+    Store store = getStore(key);
+    G graph = (null == store) ? null : store.graphs.get(key);
+    if (null != graph) {
+      statistics.hit();
+      return graph;
+    }
+    statistics.miss();
+    graph = createGraph(key);
+    if (null != store) {
+      store.put(key, graph, getDependencies(key));
+    }
+    return graph;
+  }
+
+  public synchronized L getDerivedGraph(G graph) {
+    K key = getKey(graph);
+    Store store = getStore(key);
+    // A graph dropped from the cache may still be used by the caller, its derived graph is not kept.
+    if ((null == store) || (store.graphs.get(key) != graph)) {
+      statistics.miss();
+      return createDerivedGraph(graph);
+    }
+    L derivedGraph = store.derivedGraphs.get(key);
+    if (null != derivedGraph) {
+      statistics.hit();
+      return derivedGraph;
+    }
+    statistics.miss();
+    derivedGraph = createDerivedGraph(graph);
+    store.derivedGraphs.put(key, derivedGraph);
+    return derivedGraph;
+  }
+
+  /**
+   * @return the store of the resource set of the given element, <code>null</code> if it does not belong to a resource
+   *         set
+   */
+  @SuppressWarnings("unchecked")
+  private Store getStore(EObject element) {
+    Resource resource = element.eResource();
+    ResourceSet resourceSet = (null == resource) ? null : resource.getResourceSet();
+    if (null == resourceSet) {
+      return null;
+    }
+    Store store = (Store) EcoreUtil.getExistingAdapter(resourceSet, this);
+    if (null == store) {
+      store = new Store();
+      resourceSet.eAdapters().add(store);
+      stores.add(store);
+    }
+    return store;
+  }
+
+  /**
+   * Drop all graphs.
+   */
+  public synchronized void reset() {
+    for (Store store : new ArrayList<>(stores)) {
+      store.clear();
+    }
+  }
+
+  public CacheStatistics getStatistics() {
+    return statistics;
+  }
+}
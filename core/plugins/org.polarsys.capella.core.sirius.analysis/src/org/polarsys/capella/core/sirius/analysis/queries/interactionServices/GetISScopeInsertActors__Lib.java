@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.sirius.analysis.queries.interactionServices;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -45,7 +46,7 @@ public class GetISScopeInsertActors__Lib extends AbstractQuery {
       EObject correspondingInput = QueryExt.getCorrespondingElementInLibrary(element, (CapellaModel) library);
       List<Component> actors = QueryInterpretor.executeQuery(QueryIdentifierConstants.GET_ALL_ACTORS, correspondingInput, context);
       for (Component actor : actors) {
-        result.addAll(getCache(ComponentExt::getRepresentingParts, actor));
+        result.addAll(getCache(ComponentExt::getRepresentingParts, actor, RECORDED_READS));
       }
     }
     return result;
@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.sirius.analysis.queries.interactionServices;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -47,7 +48,7 @@ public class GetISScopeInsertComponents__Lib extends AbstractQuery {
       List<Component> components = QueryInterpretor.executeQuery(QueryIdentifierConstants.GET_ALL_COMPONENTS, correspondingInput, context);
       components = QueryInterpretor.executeFilter(components, new RemoveActorsFilter());
       for (Component component : components) {
-        result.addAll(getCache(ComponentExt::getRepresentingParts, component));
+        result.addAll(getCache(ComponentExt::getRepresentingParts, component, RECORDED_READS));
       }
     }
     return result;
@@ -12,9 +12,14 @@
  *******************************************************************************/
 package org.polarsys.capella.core.sirius.analysis.refresh.extension;
 
+import org.apache.log4j.Logger;
 import org.eclipse.sirius.diagram.DDiagram;
 import org.eclipse.sirius.diagram.business.api.refresh.IRefreshExtension;
+import org.polarsys.capella.common.tools.report.util.IReportManagerDefaultComponents;
 import org.polarsys.capella.core.data.helpers.cache.ModelCache;
+import org.polarsys.capella.core.sirius.analysis.cache.FunctionalChainCache;
+import org.polarsys.capella.core.sirius.analysis.cache.PhysicalPathCache;
+import org.polarsys.capella.core.sirius.analysis.cache.ScenarioCache;
 
 public abstract class AbstractCacheAwareRefreshExtension extends AbstractRefreshExtension implements IRefreshExtension {
 
@@ -32,5 +37,12 @@ public abstract class AbstractCacheAwareRefreshExtension extends AbstractRefresh
   @Override
   public void postRefresh(DDiagram dDiagram) {
     ModelCache.disable();
+
+    Logger logger = Logger.getLogger(IReportManagerDefaultComponents.DIAGRAM);
+    if (logger.isDebugEnabled()) {
+      logger.debug(FunctionalChainCache.getInstance().getStatistics());
+      logger.debug(PhysicalPathCache.getInstance().getStatistics());
+      logger.debug(ScenarioCache.getInstance().getStatistics());
+    }
   }
 }
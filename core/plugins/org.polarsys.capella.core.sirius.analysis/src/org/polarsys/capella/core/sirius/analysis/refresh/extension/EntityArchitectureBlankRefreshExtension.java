@@ -29,7 +29,6 @@ import org.polarsys.capella.core.sirius.analysis.FaServices;
 import org.polarsys.capella.core.sirius.analysis.FunctionalChainServices;
 import org.polarsys.capella.core.sirius.analysis.IDiagramNameConstants;
 import org.polarsys.capella.core.sirius.analysis.IMappingNameConstants;
-import org.polarsys.capella.core.sirius.analysis.cache.FunctionalChainCache;
 
 /**
  * 
@@ -44,8 +43,6 @@ public class EntityArchitectureBlankRefreshExtension extends AbstractCacheAwareR
   public void beforeRefresh(DDiagram diagram) {
     super.beforeRefresh(diagram);
 
-    FunctionalChainCache.getInstance().reset();
-    
     DRepresentationDescriptor descriptor = RepresentationHelper.getRepresentationDescriptor(diagram);
     Collection<EObject> contextualElements = ContextualDiagramHelper.getService().getContextualElements(descriptor);
 
@@ -81,7 +78,6 @@ public class EntityArchitectureBlankRefreshExtension extends AbstractCacheAwareR
       Logger.getLogger(IReportManagerDefaultComponents.DIAGRAM).error(Messages.RefreshExtension_ErrorOnUpdateFunctionalChainStyle, e);
     }
 
-    FunctionalChainCache.getInstance().reset();
     super.postRefresh(diagram);
   }
 
@@ -41,6 +41,7 @@ import org.polarsys.capella.core.sirius.analysis.constants.MappingConstantsHelpe
 import org.polarsys.capella.core.sirius.analysis.tool.HashMapSet;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 /**
  * A ShowHide definition for ABCategory containers of category pins must be set with sourceParts and targetParts
@@ -81,7 +82,7 @@ public class ShowHideABComponent extends AbstractShowHide {
 
     if (lastContext.getValue() instanceof Entity) {
       Entity entity = (Entity) lastContext.getValue();
-      Collection<Part> parts = getCache(ComponentExt::getRepresentingParts, entity);
+      Collection<Part> parts = getCache(ComponentExt::getRepresentingParts, entity, RECORDED_READS);
       if (parts.size() > 0) {
         EObject targetContainer = EcoreUtil2.getFirstContainer(parts.iterator().next(), CsPackage.Literals.COMPONENT);
         if (targetContainer instanceof Entity) {
@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.sirius.analysis.showhide;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.Collection;
 
@@ -110,7 +111,7 @@ public class ShowHideABComponentExchange extends ShowHideFunctionalExchange {
 
     } else if (lastContext.getValue() instanceof ComponentPort) {
       ComponentPort port = (ComponentPort) lastContext.getValue();
-      value.putAll(CONTAINER, (Collection<EObject>) (Collection<? extends EObject>) getCache(ComponentExt::getRepresentingParts, PortExt.getRelatedComponent(port)));
+      value.putAll(CONTAINER, (Collection<EObject>) (Collection<? extends EObject>) getCache(ComponentExt::getRepresentingParts, PortExt.getRelatedComponent(port), RECORDED_READS));
     }
 
     return value;
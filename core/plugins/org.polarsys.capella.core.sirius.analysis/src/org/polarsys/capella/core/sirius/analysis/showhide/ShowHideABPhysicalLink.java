@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.sirius.analysis.showhide;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.Collection;
 
@@ -69,7 +70,7 @@ public class ShowHideABPhysicalLink extends ShowHideABComponentExchange {
 
     } else if (lastContext.getValue() instanceof PhysicalPort) {
       PhysicalPort port = (PhysicalPort) lastContext.getValue();
-      value.putAll(CONTAINER, (Collection<EObject>) (Collection<? extends EObject>) getCache(ComponentExt::getRepresentingParts, PortExt.getRelatedComponent(port)));
+      value.putAll(CONTAINER, (Collection<EObject>) (Collection<? extends EObject>) getCache(ComponentExt::getRepresentingParts, PortExt.getRelatedComponent(port), RECORDED_READS));
     }
 
     return value;
@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.sirius.analysis.showhide;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -73,7 +74,7 @@ public class ShowHideFunction extends ShowHideABRole {
           } else if (block instanceof Role) {
             result.add((Role) block);
           } else if (block instanceof Component) {
-            result.addAll(getCache(ComponentExt::getRepresentingParts, (Component) block));
+            result.addAll(getCache(ComponentExt::getRepresentingParts, (Component) block, RECORDED_READS));
           }
         }
 
@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.sirius.ui.copyformat.keyproviders;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -73,7 +74,7 @@ public class TraceabilityKeyProvider implements IKeyProvider {
         for (AbstractTrace trace : ((TraceableElement) (((Part) semantic).getAbstractType())).getOutgoingTraces()) {
           if (isValidTrace(trace)) {
             keys.add(new CapellaTraceabilityFormatDataKey(mKey, trace.getTargetElement()));
-            for (Part part : getCache(ComponentExt::getRepresentingParts, (Component) trace.getTargetElement())) {
+            for (Part part : getCache(ComponentExt::getRepresentingParts, (Component) trace.getTargetElement(), RECORDED_READS)) {
               keys.add(new CapellaTraceabilityFormatDataKey(mKey, part));
             }
           }
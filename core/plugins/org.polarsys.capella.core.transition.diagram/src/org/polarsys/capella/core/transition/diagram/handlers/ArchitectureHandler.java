@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.transition.diagram.handlers;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -156,7 +157,7 @@ public class ArchitectureHandler extends AbstractDiagramHandler {
     ArrayList<EObject> objects = new ArrayList<EObject>();
     for (EObject resut : result) {
       if (result instanceof Component) {
-        for (Part part : getCache(ComponentExt::getRepresentingParts, (Component) result)) {
+        for (Part part : getCache(ComponentExt::getRepresentingParts, (Component) result, RECORDED_READS)) {
           objects.add(part);
           break;
         }
@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.transition.system.topdown.rules.oa.oe2system;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import java.util.Collection;
 
@@ -49,7 +50,7 @@ public class PartRule extends org.polarsys.capella.core.transition.system.rules.
     BlockArchitecture target = (BlockArchitecture) TransformationHandlerHelper.getInstance(context_p)
         .getBestTracedElement(root, context_p, CsPackage.Literals.BLOCK_ARCHITECTURE);
     Component cps = BlockArchitectureExt.getOrCreateSystem(target);
-    Collection<Part> parts = getCache(ComponentExt::getRepresentingParts, cps);
+    Collection<Part> parts = getCache(ComponentExt::getRepresentingParts, cps, RECORDED_READS);
     if (!parts.isEmpty()) {
       return parts.iterator().next();
     }
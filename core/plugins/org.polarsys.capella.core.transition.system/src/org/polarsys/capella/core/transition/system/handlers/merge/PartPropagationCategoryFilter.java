@@ -13,6 +13,7 @@
 package org.polarsys.capella.core.transition.system.handlers.merge;
 
 import static org.polarsys.capella.core.data.helpers.cache.ModelCache.getCache;
+import static org.polarsys.capella.core.data.helpers.cache.ModelCache.RECORDED_READS;
 
 import org.eclipse.emf.diffmerge.diffdata.EElementPresence;
 import org.eclipse.emf.diffmerge.generic.api.IMatch;
@@ -48,7 +49,7 @@ public class PartPropagationCategoryFilter extends CategoryFilter {
       ExtendedComparison comparison = (ExtendedComparison) context.get(ITransitionConstants.MERGE_COMPARISON);
       EObject target = presence.getElementMatch().get(Role.REFERENCE);
       if (target instanceof Component) {
-        for (Part part : getCache(ComponentExt::getRepresentingParts, (Component) target)) {
+        for (Part part : getCache(ComponentExt::getRepresentingParts, (Component) target, RECORDED_READS)) {
           IMatch match = comparison.getMapping().getMatchFor(part, Role.REFERENCE);
           if (match != null) {
             EElementPresence matchPresence = (EElementPresence) match.getElementPresenceDifference();
@@ -12,7 +12,12 @@
  *******************************************************************************/
 package org.polarsys.capella.core.ui.reportlog;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.transaction.NotificationFilter;
@@ -56,6 +61,20 @@ public class DeleteMarkerListener extends AbstractEditingDomainResourceSetListen
   }
   
   public void resourceSetChanged(ResourceSetChangeEvent event) {
-    LightMarkerRegistry.getInstance().purgeMarkers();
+    // Only markers of removed elements are checked
+    List<EObject> removedElements = new ArrayList<EObject>();
+    for (Notification notification : event.getNotifications()) {
+      Object oldValue = notification.getOldValue();
+      if (oldValue instanceof EObject) {
+        removedElements.add((EObject) oldValue);
+      } else if (oldValue instanceof Collection<?>) {
+        for (Object value : (Collection<?>) oldValue) {
+          if (value instanceof EObject) {
+            removedElements.add((EObject) value);
+          }
+        }
+      }
+    }
+    LightMarkerRegistry.getInstance().purgeMarkers(removedElements);
   }
 }
@@ -12,14 +12,9 @@
  *******************************************************************************/
 package org.polarsys.capella.core.ui.reportlog;
 
-import java.util.ArrayList;
-import java.util.List;
-
-import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
-import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IPath;
-import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.sirius.business.api.session.Session;
@@ -38,21 +33,10 @@ public class InformationViewSessionListener extends SessionManagerListener.Stub
     if (notification_p == SessionListener.CLOSING) {
       Resource sessionResource = updated_p.getSessionResource();
       if (sessionResource.getURI().isPlatformResource()) {
-        List<IMarker> toDelete = new ArrayList<IMarker>();
         IPath path = new Path(sessionResource.getURI().toPlatformString(true));
-        for (IMarker marker : LightMarkerRegistry.getInstance().getMarkers()) {
-          IResource markerResource = marker.getResource();
-          if ((markerResource != null) && markerResource.getFullPath().equals(path)) {
-            toDelete.add(marker);
-          }
-        }
-        for (IMarker marker : toDelete) {
-          try {
-            marker.delete();
-          } catch (CoreException exception) {
-            ReportLogActivator.getDefault().log(IStatus.ERROR, exception.getMessage(), exception);
-          }
-        }
+        IResource markerResource = ResourcesPlugin.getWorkspace().getRoot().getFile(path);
+        LightMarkerRegistry.getInstance()
+            .deleteMarkers(LightMarkerRegistry.getInstance().getMarkers(markerResource));
       }
     }
   }
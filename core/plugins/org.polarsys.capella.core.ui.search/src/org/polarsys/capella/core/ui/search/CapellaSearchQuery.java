@@ -13,6 +13,8 @@
 package org.polarsys.capella.core.ui.search;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
@@ -27,19 +29,25 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.gmf.runtime.diagram.core.util.ViewType;
 import org.eclipse.gmf.runtime.notation.Diagram;
 import org.eclipse.gmf.runtime.notation.Shape;
 import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.search.ui.ISearchQuery;
+import org.eclipse.sirius.business.api.session.Session;
+import org.eclipse.sirius.business.api.session.SessionManager;
 import org.eclipse.sirius.diagram.DDiagram;
 import org.eclipse.sirius.diagram.ui.business.api.query.DDiagramGraphicalQuery;
 import org.eclipse.sirius.ext.base.Option;
 import org.eclipse.sirius.viewpoint.DRepresentation;
 import org.eclipse.sirius.viewpoint.DRepresentationDescriptor;
 import org.polarsys.capella.core.commands.preferences.util.PreferencesHelper;
+import org.polarsys.capella.core.model.handler.helpers.RepresentationHelper;
 import org.polarsys.capella.core.platform.sirius.ui.navigator.viewer.CapellaNavigatorContentProvider;
+import org.polarsys.capella.core.ui.search.index.SearchPatternLiterals;
+import org.polarsys.capella.core.ui.search.index.SessionSearchIndex;
 import org.polarsys.capella.core.ui.search.match.LineSearchMatchChild;
 import org.polarsys.capella.core.ui.search.match.ListElementSearchMatchChild;
 import org.polarsys.capella.core.ui.search.match.SearchMatch;
@@ -85,8 +93,12 @@ public class CapellaSearchQuery implements ISearchQuery {
   @Override
   public IStatus run(IProgressMonitor monitor) {
     capellaSearchResult.removeAll();
+    capellaSearchResult.setSearchDuration(-1);
+    long start = System.currentTimeMillis();
     try {
       Pattern pattern = capellaSearchSettings.createPattern();
+      List<String> literals = isIndexUsable() ? SearchPatternLiterals.getLiterals(
+          capellaSearchSettings.getTextPattern(), capellaSearchSettings.isRegExSearch()) : null;
       IWorkspaceRoot workspaceRoot = ResourcesPlugin.getWorkspace().getRoot();
       Set<Object> selectedObjects = capellaSearchSettings.getObjectsToSearch();
 
@@ -104,10 +116,16 @@ public class CapellaSearchQuery implements ISearchQuery {
         }
         // search the pattern in the projects
         if (project != null) {
-          search(pattern, selectedObj, project);
+          Collection<Session> sessions = (literals != null) ? getSessions(selectedObj, project) : null;
+          if (sessions != null) {
+            searchIndex(pattern, literals, selectedObj, project, sessions);
+          } else {
+            search(pattern, selectedObj, project);
+          }
           subMonitor.split(1);
         }
       }
+      capellaSearchResult.setSearchDuration(System.currentTimeMillis() - start);
       return Status.OK_STATUS;
     } catch (PatternSyntaxException e) {
       String message = String.format(CapellaSearchConstants.CapellaSearchQuery_Search_Pattern_Not_Validated_Message,
@@ -119,6 +137,96 @@ public class CapellaSearchQuery implements ISearchQuery {
     }
   }
 
+  /**
+   * The index only covers attributes which are not derived.
+   * 
+   * @return whether the search can be answered from the search index
+   */
+  private boolean isIndexUsable() {
+    if (!SessionSearchIndex.isEnabled()) {
+      return false;
+    }
+    for (Object searchAttributeItem : capellaSearchSettings.getSearchAttributeItems()) {
+      if (searchAttributeItem instanceof SearchForAttributeItem) {
+        Object attributes = ((SearchForAttributeItem) searchAttributeItem).getObject();
+        if (attributes instanceof Collection<?>) {
+          for (Object attribute : (Collection<?>) attributes) {
+            if (attribute instanceof EAttribute && !SessionSearchIndex.isIndexed((EAttribute) attribute)) {
+              return false;
+            }
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param selectedObj
+   * @param project
+   * @return the sessions to search in, <code>null</code> if they cannot be determined
+   */
+  private Collection<Session> getSessions(Object selectedObj, IProject project) {
+    if (selectedObj instanceof EObject) {
+      Session session = SessionManager.INSTANCE.getSession((EObject) selectedObj);
+      return (session != null) ? Collections.singletonList(session) : null;
+    }
+    List<Session> sessions = new ArrayList<>();
+    for (Session session : SessionManager.INSTANCE.getSessions()) {
+      URI uri = session.getSessionResource().getURI();
+      if (uri.isPlatformResource() && project.getName().equals(URI.decode(uri.segment(1)))) {
+        sessions.add(session);
+      }
+    }
+    return sessions;
+  }
+
+  /**
+   * Search the pattern in the elements of the search index that may contain its literals.
+   * 
+   * @param pattern
+   * @param literals
+   * @param selectedObj
+   *          the entry point of the search
+   * @param project
+   * @param sessions
+   */
+  private void searchIndex(Pattern pattern, List<String> literals, Object selectedObj, IProject project,
+      Collection<Session> sessions) {
+    for (Session session : sessions) {
+      SessionSearchIndex index = SessionSearchIndex.getIndex(session);
+      if (index != null) {
+        for (EObject candidate : index.getCandidates(literals)) {
+          if (!(selectedObj instanceof EObject) || isInScope(candidate, (EObject) selectedObj)) {
+            searchElement(pattern, candidate, project);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * @return whether the element is displayed under the scope in the project tree
+   */
+  private boolean isInScope(EObject element, EObject scope) {
+    EObject current = element;
+    while (current != null) {
+      if (current == scope) {
+        return true;
+      }
+      if (current instanceof DRepresentationDescriptor) {
+        current = ((DRepresentationDescriptor) current).getTarget();
+      } else if (SessionSearchIndex.isNote(current)) {
+        EObject diagram = ((Shape) current).getDiagram().getElement();
+        current = (diagram instanceof DDiagram) ? RepresentationHelper.getRepresentationDescriptor((DDiagram) diagram)
+            : null;
+      } else {
+        current = current.eContainer();
+      }
+    }
+    return false;
+  }
+
   /**
    * 
    * @param pattern
@@ -128,25 +236,7 @@ public class CapellaSearchQuery implements ISearchQuery {
    */
   private void search(Pattern pattern, Object element, IProject project) {
     if (element instanceof EObject) {
-      EObject eObj = (EObject) element;
-
-      Set<Object> searchClassItems = capellaSearchSettings.getSearchClassItems();
-      for (Object searchClassItem : searchClassItems) {
-        if (searchClassItem instanceof SearchForClassItem && ((SearchForClassItem) searchClassItem).covers(eObj)) {
-
-          if (searchClassItem instanceof SearchForNoteItem) {
-            searchForAttribute(pattern, project, eObj, (SearchForNoteItem) searchClassItem);
-          } else {
-            Set<Object> searchAttributeItems = capellaSearchSettings.getSearchAttributeItems();
-            for (Object searchAttributeItem : searchAttributeItems) {
-              if (searchAttributeItem instanceof SearchForAttributeItem) {
-                searchForAttribute(pattern, project, eObj, (SearchForAttributeItem) searchAttributeItem);
-              }
-            }
-
-          }
-        }
-      }
+      searchElement(pattern, (EObject) element, project);
     }
 
     Object[] children = contentProvider.getChildren(element);
@@ -156,6 +246,26 @@ public class CapellaSearchQuery implements ISearchQuery {
     }
   }
 
+  private void searchElement(Pattern pattern, EObject eObj, IProject project) {
+    Set<Object> searchClassItems = capellaSearchSettings.getSearchClassItems();
+    for (Object searchClassItem : searchClassItems) {
+      if (searchClassItem instanceof SearchForClassItem && ((SearchForClassItem) searchClassItem).covers(eObj)) {
+
+        if (searchClassItem instanceof SearchForNoteItem) {
+          searchForAttribute(pattern, project, eObj, (SearchForNoteItem) searchClassItem);
+        } else {
+          Set<Object> searchAttributeItems = capellaSearchSettings.getSearchAttributeItems();
+          for (Object searchAttributeItem : searchAttributeItems) {
+            if (searchAttributeItem instanceof SearchForAttributeItem) {
+              searchForAttribute(pattern, project, eObj, (SearchForAttributeItem) searchAttributeItem);
+            }
+          }
+
+        }
+      }
+    }
+  }
+
   protected void searchForAttribute(Pattern pattern, IProject project, EObject inputObject,
       SearchForAttributeItem attributeItem) {
 
@@ -0,0 +1,295 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.core.ui.search.index;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A trigram index over the texts of documents.<br>
+ * Each document is identified by a key, has a location used to retrieve it, and is indexed by the trigrams of its
+ * folded texts. A query returns the documents containing all trigrams of a set of literals: it is a superset of the
+ * documents whose texts contain these literals, and callers are expected to match the texts afterwards.
+ * <p>
+ * Texts are folded character by character the same way case insensitive patterns compare characters, so the index can
+ * be queried for case sensitive and case insensitive searches.
+ * </p>
+ */
+public class SearchIndex {
+
+  private static final int FORMAT_VERSION = 1;
+
+  private static final long[] NO_TRIGRAMS = new long[0];
+
+  /**
+   * An indexed document.
+   */
+  public static class Document {
+
+    private final String key;
+
+    private String location;
+
+    private Object target;
+
+    private long[] trigrams = NO_TRIGRAMS;
+
+    Document(String key) {
+      this.key = key;
+    }
+
+    public String getKey() {
+      return key;
+    }
+
+    /**
+     * @return the location of the document, to retrieve it when its target is not known
+     */
+    public String getLocation() {
+      return location;
+    }
+
+    /**
+     * @return the object the document stands for, <code>null</code> if not known
+     */
+    public Object getTarget() {
+      return target;
+    }
+
+    public void setTarget(Object target) {
+      this.target = target;
+    }
+
+    boolean containsAll(long[] required) {
+      for (long trigram : required) {
+        if (Arrays.binarySearch(trigrams, trigram) < 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Documents containing a trigram, in no particular order.
+   */
+  private static class Postings {
+
+    private Document[] documents = new Document[2];
+
+    private int size;
+
+    void add(Document document) {
+      if (size == documents.length) {
+        documents = Arrays.copyOf(documents, size * 2);
+      }
+      documents[size++] = document;
+    }
+
+    void remove(Document document) {
+      for (int i = 0; i < size; i++) {
+        if (documents[i] == document) {
+          documents[i] = documents[--size];
+          documents[size] = null;
+          return;
+        }
+      }
+    }
+  }
+
+  private final Map<String, Document> documents = new HashMap<>();
+
+  private final Map<Long, Postings> postings = new HashMap<>();
+
+  /**
+   * Index a document, replacing any previous content for the same key.
+   *
+   * @param key
+   * @param location
+   * @param target
+   *          the object the document stands for, may be <code>null</code>
+   * @param texts
+   */
+  public synchronized void put(String key, String location, Object target, Collection<String> texts) {
+    Document document = documents.get(key);
+    if (null == document) {
+      document = new Document(key);
+      documents.put(key, document);
+    }
+    document.location = location;
+    document.target = target;
+    setTrigrams(document, getTrigrams(texts));
+  }
+
+  /**
+   * @param key
+   * @return <code>true</code> if a document was removed
+   */
+  public synchronized boolean remove(String key) {
+    Document document = documents.remove(key);
+    if (null == document) {
+      return false;
+    }
+    setTrigrams(document, NO_TRIGRAMS);
+    return true;
+  }
+
+  public synchronized void clear() {
+    documents.clear();
+    postings.clear();
+  }
+
+  public synchronized int size() {
+    return documents.size();
+  }
+
+  /**
+   * @param literals
+   *          literals that a matching text must contain
+   * @return the documents that may contain all given literals, all documents if literals are too short to be indexed
+   */
+  public synchronized List<Document> query(Collection<String> literals) {
+    long[] required = getTrigrams(literals);
+    if (0 == required.length) {
+      return new ArrayList<>(documents.values());
+    }
+    // Start from the smallest postings, then check the other trigrams on each candidate.
+    Postings smallest = null;
+    for (long trigram : required) {
+      Postings candidates = postings.get(Long.valueOf(trigram));
+      if (null == candidates) {
+        return new ArrayList<>();
+      }
+      if ((null == smallest) || (candidates.size < smallest.size)) {
+        smallest = candidates;
+      }
+    }
+    List<Document> result = new ArrayList<>();
+    for (int i = 0; i < smallest.size; i++) {
+      Document document = smallest.documents[i];
+      if (document.containsAll(required)) {
+        result.add(document);
+      }
+    }
+    return result;
+  }
+
+  public synchronized void write(DataOutputStream out) throws IOException {
+    out.writeInt(FORMAT_VERSION);
+    out.writeInt(documents.size());
+    for (Document document : documents.values()) {
+      out.writeUTF(document.key);
+      out.writeUTF((null == document.location) ? "" : document.location); //$NON-NLS-1$
+      out.writeInt(document.trigrams.length);
+      for (long trigram : document.trigrams) {
+        out.writeLong(trigram);
+      }
+    }
+  }
+
+  /**
+   * Replace the content of this index by the one read from the given stream.
+   *
+   * @param in
+   * @throws IOException
+   *           if the stream cannot be read or has not the expected format
+   */
+  public synchronized void read(DataInputStream in) throws IOException {
+    clear();
+    if (FORMAT_VERSION != in.readInt()) {
+      throw new IOException("Unsupported search index format"); //$NON-NLS-1$
+    }
+    int count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      Document document = new Document(in.readUTF());
+      document.location = in.readUTF();
+      long[] trigrams = new long[in.readInt()];
+      for (int j = 0; j < trigrams.length; j++) {
+        trigrams[j] = in.readLong();
+      }
+      documents.put(document.key, document);
+      setTrigrams(document, trigrams);
+    }
+  }
+
+  private void setTrigrams(Document document, long[] trigrams) {
+    for (long trigram : document.trigrams) {
+      if (Arrays.binarySearch(trigrams, trigram) < 0) {
+        Long trigramKey = Long.valueOf(trigram);
+        Postings documentPostings = postings.get(trigramKey);
+        if (null != documentPostings) {
+          documentPostings.remove(document);
+          if (0 == documentPostings.size) {
+            postings.remove(trigramKey);
+          }
+        }
+      }
+    }
+    for (long trigram : trigrams) {
+      if (Arrays.binarySearch(document.trigrams, trigram) < 0) {
+        postings.computeIfAbsent(Long.valueOf(trigram), k -> new Postings()).add(document);
+      }
+    }
+    document.trigrams = trigrams;
+  }
+
+  /**
+   * @param texts
+   * @return the sorted distinct trigrams of the folded texts
+   */
+  static long[] getTrigrams(Collection<String> texts) {
+    long[] result = new long[16];
+    int size = 0;
+    for (String text : texts) {
+      if ((null == text) || (text.length() < 3)) {
+        continue;
+      }
+      long c1 = fold(text.charAt(0));
+      long c2 = fold(text.charAt(1));
+      for (int i = 2; i < text.length(); i++) {
+        long c3 = fold(text.charAt(i));
+        if (size == result.length) {
+          result = Arrays.copyOf(result, size * 2);
+        }
+        result[size++] = (c1 << 32) | (c2 << 16) | c3;
+        c1 = c2;
+        c2 = c3;
+      }
+    }
+    if (0 == size) {
+      return NO_TRIGRAMS;
+    }
+    Arrays.sort(result, 0, size);
+    int distinct = 1;
+    for (int i = 1; i < size; i++) {
+      if (result[i] != result[distinct - 1]) {
+        result[distinct++] = result[i];
+      }
+    }
+    return Arrays.copyOf(result, distinct);
+  }
+
+  /**
+   * Fold a character as case insensitive patterns compare them.
+   */
+  static char fold(char c) {
+    return Character.toLowerCase(Character.toUpperCase(c));
+  }
+}
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.core.ui.search.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Extract from a search pattern literals that any matching text must contain.<br>
+ * Extraction is conservative: when a part of the pattern cannot be analyzed simply, no literal is extracted from it.
+ */
+public class SearchPatternLiterals {
+
+  private static final String REGEX_META_CHARACTERS = ".[]()^$+*?{}|\\"; //$NON-NLS-1$
+
+  /**
+   * Embedded flags enabling comments, where white spaces of the pattern are not literals.
+   */
+  private static final Pattern COMMENTS_FLAG = Pattern.compile("\\(\\?[a-zA-Z]*x"); //$NON-NLS-1$
+
+  private SearchPatternLiterals() {
+    // Static utility
+  }
+
+  /**
+   * @param textPattern
+   *          a search pattern, as entered in the search page
+   * @param isRegEx
+   *          whether the pattern is a regular expression or a text with wildcards
+   * @return the literals any matching text contains
+   */
+  public static List<String> getLiterals(String textPattern, boolean isRegEx) {
+    if ((null == textPattern) || textPattern.isEmpty()) {
+      return Collections.emptyList();
+    }
+    return isRegEx ? getRegExLiterals(textPattern) : getWildcardLiterals(textPattern);
+  }
+
+  /**
+   * '*' stands for any string, '?' for any character and '\' escapes these three characters.
+   */
+  private static List<String> getWildcardLiterals(String textPattern) {
+    List<String> result = new ArrayList<>();
+    StringBuilder current = new StringBuilder();
+    for (int i = 0; i < textPattern.length(); i++) {
+      char c = textPattern.charAt(i);
+      if ((c == '\\') && (i + 1 < textPattern.length()) && ("*?\\".indexOf(textPattern.charAt(i + 1)) >= 0)) { //$NON-NLS-1$
+        current.append(textPattern.charAt(++i));
+      } else if ((c == '*') || (c == '?') || (c == '\\')) {
+        flush(current, result);
+      } else {
+        current.append(c);
+      }
+    }
+    flush(current, result);
+    return result;
+  }
+
+  /**
+   * Only literals outside of any group, class or alternative are extracted.
+   */
+  private static List<String> getRegExLiterals(String textPattern) {
+    if ((textPattern.indexOf('|') >= 0) || textPattern.contains("\\Q") //$NON-NLS-1$
+        || COMMENTS_FLAG.matcher(textPattern).find()) {
+      return Collections.emptyList();
+    }
+    List<String> result = new ArrayList<>();
+    StringBuilder current = new StringBuilder();
+    int depth = 0;
+    for (int i = 0; i < textPattern.length(); i++) {
+      char c = textPattern.charAt(i);
+      if (c == '\\') {
+        if (i + 1 >= textPattern.length()) {
+          break;
+        }
+        char escaped = textPattern.charAt(++i);
+        if ((depth == 0) && !Character.isLetterOrDigit(escaped)) {
+          appendLiteral(textPattern, i, escaped, current, result);
+        } else {
+          // Character classes, back references, etc.
+          flush(current, result);
+        }
+      } else if (c == '[') {
+        flush(current, result);
+        i = skipCharacterClass(textPattern, i);
+      } else if (c == '{') {
+        // Bounds of a quantifier, the quantified character has not been appended
+        flush(current, result);
+        i = skipQuantifier(textPattern, i);
+      } else if (c == '(') {
+        flush(current, result);
+        depth++;
+      } else if (c == ')') {
+        depth--;
+      } else if (REGEX_META_CHARACTERS.indexOf(c) >= 0) {
+        flush(current, result);
+      } else if (depth == 0) {
+        appendLiteral(textPattern, i, c, current, result);
+      }
+    }
+    flush(current, result);
+    return result;
+  }
+
+  /**
+   * Append the character at given index, unless a quantifier makes it optional.
+   */
+  private static void appendLiteral(String textPattern, int index, char c, StringBuilder current,
+      List<String> result) {
+    char next = (index + 1 < textPattern.length()) ? textPattern.charAt(index + 1) : 0;
+    if ((next == '?') || (next == '*') || (next == '{')) {
+      flush(current, result);
+    } else {
+      current.append(c);
+      if (next == '+') {
+        flush(current, result);
+      }
+    }
+  }
+
+  private static int skipCharacterClass(String textPattern, int start) {
+    int i = start + 1;
+    // A closing bracket right after the opening one (or its negation) is a literal
+    if ((i < textPattern.length()) && (textPattern.charAt(i) == '^')) {
+      i++;
+    }
+    if ((i < textPattern.length()) && (textPattern.charAt(i) == ']')) {
+      i++;
+    }
+    int nested = 0;
+    for (; i < textPattern.length(); i++) {
+      char c = textPattern.charAt(i);
+      if (c == '\\') {
+        i++;
+      } else if (c == '[') {
+        nested++;
+      } else if (c == ']') {
+        if (nested == 0) {
+          return i;
+        }
+        nested--;
+      }
+    }
+    return i;
+  }
+
+  private static int skipQuantifier(String textPattern, int start) {
+    int end = textPattern.indexOf('}', start);
+    return (end < 0) ? textPattern.length() : end;
+  }
+
+  private static void flush(StringBuilder current, List<String> result) {
+    if (current.length() > 0) {
+      result.add(current.toString());
+      current.setLength(0);
+    }
+  }
+}
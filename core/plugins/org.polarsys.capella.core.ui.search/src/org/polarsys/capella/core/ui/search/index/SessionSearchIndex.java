@@ -0,0 +1,407 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.core.ui.search.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.transaction.NotificationFilter;
+import org.eclipse.emf.transaction.ResourceSetChangeEvent;
+import org.eclipse.emf.transaction.ResourceSetListenerImpl;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.gmf.runtime.diagram.core.util.ViewType;
+import org.eclipse.gmf.runtime.notation.Shape;
+import org.eclipse.sirius.business.api.session.Session;
+import org.eclipse.sirius.business.api.session.SessionListener;
+import org.eclipse.sirius.business.api.session.SessionStatus;
+import org.eclipse.sirius.viewpoint.DRepresentationDescriptor;
+import org.polarsys.capella.core.model.handler.command.CapellaResourceHelper;
+import org.polarsys.capella.core.ui.search.Activator;
+
+/**
+ * The search index of a session, covering the String attributes of semantic elements, representation descriptors and
+ * diagram notes.<br>
+ * It is kept up to date from the model change notifications, and written in the state location of this plug-in each
+ * time the session is saved. When the session is opened again, the written index is reused if none of the session
+ * resources has changed since.
+ */
+public class SessionSearchIndex extends ResourceSetListenerImpl implements SessionListener {
+
+  /**
+   * System property used to enable the search index, the search browses the whole model otherwise.
+   */
+  public static final String INDEX_PROPERTY = "org.polarsys.capella.core.ui.search.index"; //$NON-NLS-1$
+
+  private static final String INDEX_FOLDER = "index"; //$NON-NLS-1$
+
+  private static final String INDEX_FILE_EXTENSION = ".searchindex"; //$NON-NLS-1$
+
+  private static final Map<Session, SessionSearchIndex> INDEXES = new HashMap<>();
+
+  private final Session session;
+
+  private final SearchIndex index = new SearchIndex();
+
+  /**
+   * Indexed String attributes, by EClass.
+   */
+  private final Map<EClass, List<EAttribute>> indexedAttributes = new HashMap<>();
+
+  private SessionSearchIndex(Session session) {
+    super(NotificationFilter.NOT_TOUCH);
+    this.session = session;
+  }
+
+  public static boolean isEnabled() {
+    return Boolean.getBoolean(INDEX_PROPERTY);
+  }
+
+  /**
+   * Get the index of the given session, loading or building it if needed.
+   *
+   * @param session
+   *          an open session
+   * @return the index of the session, <code>null</code> if the session is not open
+   */
+  public static synchronized SessionSearchIndex getIndex(Session session) {
+    SessionSearchIndex result = INDEXES.get(session);
+    if ((null == result) && session.isOpen()) {
+      result = new SessionSearchIndex(session);
+      result.initialize();
+      INDEXES.put(session, result);
+    }
+    return result;
+  }
+
+  private void initialize() {
+    TransactionalEditingDomain domain = session.getTransactionalEditingDomain();
+    domain.addResourceSetListener(this);
+    session.addListener(this);
+    try {
+      domain.runExclusive(() -> {
+        if ((session.getStatus() == SessionStatus.DIRTY) || !load()) {
+          build();
+        }
+      });
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void dispose() {
+    synchronized (SessionSearchIndex.class) {
+      INDEXES.remove(session);
+    }
+    session.removeListener(this);
+    TransactionalEditingDomain domain = session.getTransactionalEditingDomain();
+    if (null != domain) {
+      domain.removeResourceSetListener(this);
+    }
+    index.clear();
+  }
+
+  @Override
+  public void notify(int changeKind) {
+    switch (changeKind) {
+    case SessionListener.SYNC:
+      // The session has just been saved, the index matches the saved resources.
+      save();
+      break;
+    case SessionListener.CLOSING:
+      dispose();
+      break;
+    default:
+      break;
+    }
+  }
+
+  @Override
+  public boolean isPostcommitOnly() {
+    return true;
+  }
+
+  @Override
+  public void resourceSetChanged(ResourceSetChangeEvent event) {
+    for (Notification notification : event.getNotifications()) {
+      Object notifier = notification.getNotifier();
+      if (notifier instanceof Resource) {
+        int featureID = notification.getFeatureID(Resource.class);
+        if ((Resource.RESOURCE__IS_LOADED == featureID) && notification.getNewBooleanValue()) {
+          indexContents(((Resource) notifier).getAllContents());
+        } else if (Resource.RESOURCE__CONTENTS == featureID) {
+          handleContainmentChange(notification);
+        }
+      } else if (notifier instanceof EObject) {
+        Object feature = notification.getFeature();
+        if ((feature instanceof EAttribute) && isIndexed((EAttribute) feature)) {
+          indexObject((EObject) notifier);
+        } else if ((feature instanceof EReference) && ((EReference) feature).isContainment()) {
+          handleContainmentChange(notification);
+        }
+      }
+    }
+  }
+
+  private void handleContainmentChange(Notification notification) {
+    for (Object removed : getValues(notification.getOldValue())) {
+      // Objects moved elsewhere are still attached, they are indexed again below.
+      if ((removed instanceof EObject) && (null == ((EObject) removed).eResource())) {
+        unindexObject((EObject) removed);
+        for (TreeIterator<EObject> it = ((EObject) removed).eAllContents(); it.hasNext();) {
+          unindexObject(it.next());
+        }
+      }
+    }
+    for (Object added : getValues(notification.getNewValue())) {
+      if ((added instanceof EObject) && (null != ((EObject) added).eResource())) {
+        indexObject((EObject) added);
+        indexContents(((EObject) added).eAllContents());
+      }
+    }
+  }
+
+  private Collection<?> getValues(Object value) {
+    if (value instanceof Collection<?>) {
+      return (Collection<?>) value;
+    }
+    return (null == value) ? Collections.emptyList() : Collections.singletonList(value);
+  }
+
+  /**
+   * Index again all the resources of the session.
+   */
+  public void build() {
+    index.clear();
+    for (Resource resource : new ArrayList<>(session.getTransactionalEditingDomain().getResourceSet().getResources())) {
+      indexContents(resource.getAllContents());
+    }
+  }
+
+  private void indexContents(TreeIterator<EObject> contents) {
+    while (contents.hasNext()) {
+      indexObject(contents.next());
+    }
+  }
+
+  private void indexObject(EObject object) {
+    if (!isIndexed(object)) {
+      return;
+    }
+    List<String> texts = new ArrayList<>();
+    for (EAttribute attribute : getIndexedAttributes(object.eClass())) {
+      Object value = object.eGet(attribute);
+      if (value instanceof String) {
+        texts.add((String) value);
+      } else if (value instanceof Collection<?>) {
+        for (Object item : (Collection<?>) value) {
+          if (item instanceof String) {
+            texts.add((String) item);
+          }
+        }
+      }
+    }
+    index.put(getKey(object), EcoreUtil.getURI(object).toString(), object, texts);
+  }
+
+  private void unindexObject(EObject object) {
+    index.remove(getKey(object));
+  }
+
+  /**
+   * Semantic elements are all indexed. From representation resources, only representation descriptors and notes are
+   * indexed.
+   */
+  private boolean isIndexed(EObject object) {
+    Resource resource = object.eResource();
+    if (null == resource) {
+      return false;
+    }
+    URI uri = resource.getURI();
+    if (CapellaResourceHelper.isAirdResource(uri) || CapellaResourceHelper.isRepresentationResource(uri)) {
+      return (object instanceof DRepresentationDescriptor) || isNote(object);
+    }
+    return true;
+  }
+
+  public static boolean isNote(Object object) {
+    return (object instanceof Shape) && ViewType.NOTE.equals(((Shape) object).getType());
+  }
+
+  /**
+   * @param eClass
+   * @return the String attributes indexed for instances of the given EClass
+   */
+  private synchronized List<EAttribute> getIndexedAttributes(EClass eClass) {
+    return indexedAttributes.computeIfAbsent(eClass, c -> {
+      List<EAttribute> result = new ArrayList<>();
+      for (EAttribute attribute : c.getEAllAttributes()) {
+        if (isIndexed(attribute)) {
+          result.add(attribute);
+        }
+      }
+      return result;
+    });
+  }
+
+  /**
+   * Derived attributes are not indexed, as they change without notification.
+   *
+   * @param attribute
+   * @return whether values of the given attribute are indexed
+   */
+  public static boolean isIndexed(EAttribute attribute) {
+    return !attribute.isDerived() && (String.class == attribute.getEAttributeType().getInstanceClass());
+  }
+
+  /**
+   * Identifier of the element when it has one, so that a removed element can still be found, its URI otherwise.
+   */
+  private String getKey(EObject object) {
+    String id = EcoreUtil.getID(object);
+    return (null != id) ? id : EcoreUtil.getURI(object).toString();
+  }
+
+  /**
+   * Get the elements that may contain all the given literals in one of their indexed attributes.
+   *
+   * @param literals
+   * @return elements of loaded resources, to be matched by the caller
+   */
+  public List<EObject> getCandidates(Collection<String> literals) {
+    List<EObject> result = new ArrayList<>();
+    for (SearchIndex.Document document : index.query(literals)) {
+      Object target = document.getTarget();
+      if ((target instanceof EObject) && (null != ((EObject) target).eResource())) {
+        result.add((EObject) target);
+      } else if (null != target) {
+        // Removed element
+        index.remove(document.getKey());
+      } else {
+        EObject resolved = resolve(document.getLocation());
+        if (null != resolved) {
+          document.setTarget(resolved);
+          result.add(resolved);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Elements of resources which are not loaded are not resolved.
+   */
+  private EObject resolve(String location) {
+    try {
+      return session.getTransactionalEditingDomain().getResourceSet().getEObject(URI.createURI(location), false);
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * @return the time stamps of the session resources stored in the workspace, by URI
+   */
+  private Map<String, Long> getResourceStamps() {
+    Map<String, Long> result = new LinkedHashMap<>();
+    for (Resource resource : session.getTransactionalEditingDomain().getResourceSet().getResources()) {
+      URI uri = resource.getURI();
+      if ((null != uri) && uri.isPlatformResource()) {
+        IFile file = ResourcesPlugin.getWorkspace().getRoot().getFile(new Path(uri.toPlatformString(true)));
+        result.put(uri.toString(), Long.valueOf(file.getLocalTimeStamp()));
+      }
+    }
+    return result;
+  }
+
+  private File getIndexFile() {
+    URI sessionURI = session.getSessionResource().getURI();
+    File folder = Activator.getDefault().getStateLocation().append(INDEX_FOLDER).toFile();
+    return new File(folder, Integer.toHexString(sessionURI.toString().hashCode()) + INDEX_FILE_EXTENSION);
+  }
+
+  /**
+   * @return <code>true</code> if the written index was up to date and has been loaded
+   */
+  private boolean load() {
+    File file = getIndexFile();
+    if (!file.isFile()) {
+      return false;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if (!session.getSessionResource().getURI().toString().equals(in.readUTF())) {
+        return false;
+      }
+      Map<String, Long> stamps = new LinkedHashMap<>();
+      int count = in.readInt();
+      for (int i = 0; i < count; i++) {
+        stamps.put(in.readUTF(), Long.valueOf(in.readLong()));
+      }
+      if (!stamps.equals(getResourceStamps())) {
+        return false;
+      }
+      index.read(in);
+      return true;
+
+    } catch (IOException e) {
+      Activator.getDefault().getLog().log(new Status(IStatus.WARNING, Activator.PLUGIN_ID, e.getMessage(), e));
+      index.clear();
+      return false;
+    }
+  }
+
+  private void save() {
+    File file = getIndexFile();
+    file.getParentFile().mkdirs();
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+      out.writeUTF(session.getSessionResource().getURI().toString());
+      Map<String, Long> stamps = getResourceStamps();
+      out.writeInt(stamps.size());
+      for (Map.Entry<String, Long> stamp : stamps.entrySet()) {
+        out.writeUTF(stamp.getKey());
+        out.writeLong(stamp.getValue().longValue());
+      }
+      index.write(out);
+
+    } catch (IOException e) {
+      Activator.getDefault().getLog().log(new Status(IStatus.WARNING, Activator.PLUGIN_ID, e.getMessage(), e));
+      file.delete();
+    }
+  }
+}
@@ -43,6 +43,7 @@ public class CapellaSearchResult extends AbstractTextSearchResult {
 
   private CapellaSearchQuery capellaSearchQuery;
   private TreeData treeData;
+  private long searchDuration = -1;
 
   public CapellaSearchResult(CapellaSearchQuery capellaSearchQuery) {
     this.capellaSearchQuery = capellaSearchQuery;
@@ -82,14 +83,20 @@ public class CapellaSearchResult extends AbstractTextSearchResult {
     int matchedProjectsCount = getProjects().size();
     String queryLabel = capellaSearchQuery.getLabel();
     int activeFilterCount = getActiveMatchFilters().length;
+    String label;
     if (activeFilterCount == 0) {
-      return String.format(CapellaSearchConstants.CapellaSearchResult_Label, queryLabel, totalOccurrenceCount,
+      label = String.format(CapellaSearchConstants.CapellaSearchResult_Label, queryLabel, totalOccurrenceCount,
           matchedElementsCount, matchedProjectsCount);
+    } else {
+      int displayedOccurrenceCount = getOccurrenceCount();
+      label = String.format(CapellaSearchConstants.CapellaSearchResult_Label_With_Active_Filters, queryLabel,
+          totalOccurrenceCount, matchedElementsCount, matchedProjectsCount,
+          totalOccurrenceCount - displayedOccurrenceCount, activeFilterCount);
     }
-    int displayedOccurrenceCount = getOccurrenceCount();
-    return String.format(CapellaSearchConstants.CapellaSearchResult_Label_With_Active_Filters, queryLabel,
-        totalOccurrenceCount, matchedElementsCount, matchedProjectsCount,
-        totalOccurrenceCount - displayedOccurrenceCount, activeFilterCount);
+    if (searchDuration >= 0) {
+      label = String.format(CapellaSearchConstants.CapellaSearchResult_Label_With_Duration, label, searchDuration);
+    }
+    return label;
   }
 
   @Override
@@ -168,6 +175,18 @@ public class CapellaSearchResult extends AbstractTextSearchResult {
         .collect(Collectors.toSet());
   }
 
+  /**
+   * @param searchDuration
+   *          the duration of the last search, in milliseconds
+   */
+  public void setSearchDuration(long searchDuration) {
+    this.searchDuration = searchDuration;
+  }
+
+  public long getSearchDuration() {
+    return searchDuration;
+  }
+
   public TreeData getTreeData() {
     return treeData;
   }
@@ -15,9 +15,14 @@ package org.polarsys.capella.core.validation.commandline;
 import java.util.List;
 
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.common.notify.AdapterFactory;
+import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EObjectValidator;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.ui.EMFEditUIPlugin;
 import org.eclipse.emf.transaction.util.TransactionUtil;
 import org.polarsys.capella.common.ef.ExecutionManager;
 import org.polarsys.capella.common.helpers.TransactionHelper;
@@ -29,23 +34,53 @@ public class CapellaValidateComlineAction extends CapellaValidateAction {
 
   private Resource resourceToValidate;
   private Diagnostic diagnostic;
+  private ParallelValidation parallelValidation;
 
   public void setSelectedObjects(List<EObject> selectedObjects) {
     this.selectedObjects = selectedObjects;
   }
 
+  /**
+   * @param threadCount
+   *          the number of threads validating model elements concurrently, 0 to validate them sequentially
+   */
+  public void setParallelism(int threadCount) {
+    parallelValidation = threadCount > 0 ? new ParallelValidation(threadCount) : null;
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public void run() {
     if(isSetEditingDomain()){
-      // works fine
-      diagnostic = super.validate(new NullProgressMonitor());
+      if (parallelValidation != null) {
+        diagnostic = parallelValidation.validate(selectedObjects, createDiagnostic());
+      } else {
+        // works fine
+        diagnostic = super.validate(new NullProgressMonitor());
+      }
       handleDiagnostic(diagnostic);
     }
   }
   
+  /**
+   * @return the diagnostic holding the diagnostics of the selected elements, as created by the sequential validation
+   */
+  private BasicDiagnostic createDiagnostic() {
+    if (selectedObjects.size() == 1) {
+      AdapterFactory adapterFactory = domain instanceof AdapterFactoryEditingDomain
+          ? ((AdapterFactoryEditingDomain) domain).getAdapterFactory()
+          : null;
+      return createDiagnostician(adapterFactory, new NullProgressMonitor())
+          .createDefaultDiagnostic(selectedObjects.get(0));
+    }
+    return new BasicDiagnostic(EObjectValidator.DIAGNOSTIC_SOURCE, 0,
+        EMFEditUIPlugin.INSTANCE.getString("_UI_DiagnosisOfNObjects_message", //$NON-NLS-1$
+            new String[] { Integer.toString(selectedObjects.size()) }),
+        selectedObjects.toArray());
+  }
+
   private boolean isSetEditingDomain(){
     if(domain == null && !selectedObjects.isEmpty()){
       ExecutionManager executionManager = TransactionHelper.getExecutionManager(selectedObjects);
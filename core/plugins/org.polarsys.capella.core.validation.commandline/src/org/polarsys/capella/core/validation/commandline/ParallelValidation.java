@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.core.validation.commandline;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.Diagnostician;
+import org.eclipse.emf.ecore.util.EObjectValidator;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.emf.transaction.util.TransactionUtil;
+import org.eclipse.emf.validation.model.EvaluationMode;
+import org.eclipse.emf.validation.model.IConstraintStatus;
+import org.eclipse.emf.validation.service.IBatchValidator;
+import org.eclipse.emf.validation.service.ITraversalStrategy;
+import org.eclipse.emf.validation.service.ModelValidationService;
+import org.polarsys.capella.common.data.modellingcore.AbstractType;
+import org.polarsys.capella.common.helpers.validation.ConstraintStatusDiagnostic;
+import org.polarsys.capella.core.data.capellacore.Structure;
+import org.polarsys.capella.core.data.cs.Part;
+import org.polarsys.capella.core.validation.filter.CapellaConstraintFilter;
+
+/**
+ * Validates model elements concurrently.<br>
+ * Elements are split into units following the model structure: a structure (project, system engineering, architecture,
+ * package) is validated alone and its contents are split the same way, while any other element is validated along with
+ * its whole subtree.
+ * <p>
+ * Units are validated by a fork-join pool while the calling thread holds a read-only exclusive transaction on the model
+ * until all units are done, so that no write can happen meanwhile. Workers read the model under the lock of this
+ * transaction without opening transactions of their own: a transaction belongs to the thread that opened it, so a
+ * worker asking for the lock would wait for the calling thread, itself waiting for the workers.
+ * </p>
+ * <p>
+ * As with the sequential validation, diagnostics of validated elements are added to the given diagnostic, along with
+ * their own children. They are merged in the order of the units, so that the result does not depend on the number of
+ * threads. As the {@link org.polarsys.capella.core.model.handler.validation.CapellaDiagnostician} does, the types of
+ * parts are also validated when they are not part of the validated elements, only once.
+ * </p>
+ */
+public class ParallelValidation {
+
+  /**
+   * A set of elements validated by a single task.
+   */
+  private static class ValidationUnit {
+
+    final EObject root;
+
+    final boolean recursive;
+
+    ValidationUnit(EObject root, boolean recursive) {
+      this.root = root;
+      this.recursive = recursive;
+    }
+  }
+
+  /**
+   * The outcome of the validation of a unit.
+   */
+  private static class UnitResult {
+
+    final List<Diagnostic> diagnostics = new ArrayList<Diagnostic>();
+
+    final List<EObject> partTypes = new ArrayList<EObject>();
+  }
+
+  private final int threadCount;
+
+  /**
+   * Batch validators are not shared between worker threads. They are configured as the one of the Capella validator
+   * adapter.
+   */
+  private final ThreadLocal<IBatchValidator> validators = new ThreadLocal<IBatchValidator>() {
+    @Override
+    protected IBatchValidator initialValue() {
+      IBatchValidator validator = (IBatchValidator) ModelValidationService.getInstance()
+          .newValidator(EvaluationMode.BATCH);
+      validator.setIncludeLiveConstraints(true);
+      validator.setReportSuccesses(false);
+      validator.addConstraintFilter(new CapellaConstraintFilter());
+      return validator;
+    }
+  };
+
+  /**
+   * @param threadCount
+   *          the number of threads validating units
+   */
+  public ParallelValidation(int threadCount) {
+    this.threadCount = Math.max(1, threadCount);
+  }
+
+  public int getThreadCount() {
+    return threadCount;
+  }
+
+  /**
+   * Validate given elements and their contents.
+   *
+   * @param elements
+   * @param result
+   *          the diagnostic the diagnostics of all validated elements are added to, as created by the sequential
+   *          validation
+   * @return the given diagnostic
+   */
+  public Diagnostic validate(List<? extends EObject> elements, BasicDiagnostic result) {
+    TransactionalEditingDomain domain = elements.isEmpty() ? null : TransactionUtil.getEditingDomain(elements.get(0));
+    if (null == domain) {
+      doValidate(elements, result);
+    } else {
+      runExclusive(domain, () -> doValidate(elements, result));
+    }
+    return result;
+  }
+
+  protected void doValidate(List<? extends EObject> elements, BasicDiagnostic result) {
+    // Workers must only read the model: load all referenced resources beforehand.
+    Set<ResourceSet> resourceSets = Collections.newSetFromMap(new IdentityHashMap<ResourceSet, Boolean>());
+    for (EObject element : elements) {
+      Resource resource = element.eResource();
+      if ((null != resource) && (null != resource.getResourceSet()) && resourceSets.add(resource.getResourceSet())) {
+        EcoreUtil.resolveAll(resource.getResourceSet());
+      }
+    }
+
+    List<EObject> scope = new ArrayList<EObject>(elements);
+    List<ValidationUnit> units = new ArrayList<ValidationUnit>();
+    for (EObject element : elements) {
+      split(element, units);
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(threadCount);
+    try {
+      while (!units.isEmpty()) {
+        List<ForkJoinTask<UnitResult>> tasks = new ArrayList<ForkJoinTask<UnitResult>>(units.size());
+        for (final ValidationUnit unit : units) {
+          tasks.add(pool.submit(() -> validateUnit(unit)));
+        }
+
+        // Merge in the order of the units, then validate types of parts that were out of scope.
+        Set<EObject> partTypes = Collections.newSetFromMap(new IdentityHashMap<EObject, Boolean>());
+        List<EObject> newElements = new ArrayList<EObject>();
+        for (ForkJoinTask<UnitResult> task : tasks) {
+          UnitResult unitResult = task.join();
+          for (Diagnostic diagnostic : unitResult.diagnostics) {
+            result.add(diagnostic);
+          }
+          for (EObject partType : unitResult.partTypes) {
+            if (!EcoreUtil.isAncestor(scope, partType) && partTypes.add(partType)) {
+              newElements.add(partType);
+            }
+          }
+        }
+        scope.addAll(newElements);
+        units = new ArrayList<ValidationUnit>();
+        for (EObject element : newElements) {
+          split(element, units);
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Add to given units the ones validating given element and its contents.
+   */
+  private void split(EObject element, List<ValidationUnit> units) {
+    if (element instanceof Structure) {
+      units.add(new ValidationUnit(element, false));
+      for (EObject child : element.eContents()) {
+        split(child, units);
+      }
+    } else {
+      units.add(new ValidationUnit(element, true));
+    }
+  }
+
+  /**
+   * Run given runnable in a read-only exclusive transaction, or within the active read-only transaction if any.
+   */
+  private void runExclusive(TransactionalEditingDomain domain, Runnable runnable) {
+    try {
+      domain.runExclusive(runnable);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new OperationCanceledException();
+    }
+  }
+
+  /**
+   * Validate a unit, on a worker thread, under the read-only transaction held by the calling thread if any.
+   */
+  private UnitResult validateUnit(ValidationUnit unit) {
+    UnitResult result = new UnitResult();
+    BasicDiagnostic chain = new BasicDiagnostic();
+    Map<Object, Object> context = Diagnostician.INSTANCE.createDefaultContext();
+
+    // Basic checks, done for each element by the validator adapter in sequential validation.
+    Iterator<EObject> elements = unit.recursive ? EcoreUtil.getAllProperContents(unit.root, false)
+        : Collections.<EObject> emptyIterator();
+    checkElement(unit.root, chain, context, result);
+    while (elements.hasNext()) {
+      checkElement(elements.next(), chain, context, result);
+    }
+    result.diagnostics.addAll(chain.getChildren());
+
+    // Constraints
+    IBatchValidator validator = validators.get();
+    validator.setTraversalStrategy(unit.recursive ? new ITraversalStrategy.Recursive() : new ITraversalStrategy.Flat());
+    IStatus status = validator.validate(unit.root, new NullProgressMonitor());
+    appendDiagnostics(status, result.diagnostics);
+    return result;
+  }
+
+  private void checkElement(EObject element, BasicDiagnostic chain, Map<Object, Object> context, UnitResult result) {
+    EObjectValidator.INSTANCE.validate(element.eClass(), element, chain, context);
+    if (element instanceof Part) {
+      AbstractType type = ((Part) element).getAbstractType();
+      if ((null != type) && !type.eIsProxy() && !EcoreUtil.isAncestor(type, element)) {
+        result.partTypes.add(type);
+      }
+    }
+  }
+
+  /**
+   * Converts a status result from the EMF validation service to diagnostics, as the Capella validator adapter does.
+   */
+  private void appendDiagnostics(IStatus status, Collection<Diagnostic> diagnostics) {
+    if (status.isMultiStatus()) {
+      for (IStatus child : status.getChildren()) {
+        appendDiagnostics(child, diagnostics);
+      }
+    } else if (status instanceof IConstraintStatus) {
+      diagnostics.add(new ConstraintStatusDiagnostic((IConstraintStatus) status));
+    }
+  }
+}
@@ -19,6 +19,8 @@ import org.polarsys.capella.core.commandline.core.CommandLineArgumentHelper;
 public class ValidationArgumentHelper extends CommandLineArgumentHelper {
   private String validationContext;
   private String validationRuleSet;
+  private boolean parallelValidation;
+  private int validationThreads = Runtime.getRuntime().availableProcessors();
 
   /**
    * {@inheritDoc}
@@ -36,6 +38,16 @@ public class ValidationArgumentHelper extends CommandLineArgumentHelper {
 
       } else if (ValidationCommandLineConstants.VALIDATION_RULE_SET.equalsIgnoreCase(arg)) {
         validationRuleSet = args[++i];
+
+      } else if (ValidationCommandLineConstants.VALIDATION_PARALLEL.equalsIgnoreCase(arg)) {
+        parallelValidation = true;
+
+      } else if (ValidationCommandLineConstants.VALIDATION_THREADS.equalsIgnoreCase(arg)) {
+        try {
+          validationThreads = Math.max(1, Integer.parseInt(args[++i].trim()));
+        } catch (NumberFormatException exception) {
+          // Keep the default thread count
+        }
       }
     }
   }
@@ -53,4 +65,18 @@ public class ValidationArgumentHelper extends CommandLineArgumentHelper {
   public String getValidationRuleSet() {
     return validationRuleSet;
   }
+
+  /**
+   * @return whether model elements are validated concurrently
+   */
+  public boolean isParallelValidation() {
+    return parallelValidation;
+  }
+
+  /**
+   * @return the number of threads of a parallel validation, the number of available processors by default
+   */
+  public int getValidationThreads() {
+    return validationThreads;
+  }
 }
@@ -127,6 +127,11 @@ public class ValidationCommandLine extends AbstractWorkbenchCommandLine {
         capellaValidateCLineAction.setSelectedObjects(semanticRootResource.getContents());
       }
 
+      // validate elements concurrently
+      if (((ValidationArgumentHelper) argHelper).isParallelValidation()) {
+        capellaValidateCLineAction.setParallelism(((ValidationArgumentHelper) argHelper).getValidationThreads());
+      }
+
       // Run the validation
       capellaValidateCLineAction.run();
 
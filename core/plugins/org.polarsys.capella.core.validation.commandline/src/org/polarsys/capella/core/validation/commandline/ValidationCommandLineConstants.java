@@ -18,5 +18,7 @@ public class ValidationCommandLineConstants {
 
   public static final String VALIDATION_CONTEXT = "-validationcontext";//$NON-NLS-1$
   public static final String VALIDATION_RULE_SET = "-validationruleset";//$NON-NLS-1$
+  public static final String VALIDATION_PARALLEL = "-validationparallel";//$NON-NLS-1$
+  public static final String VALIDATION_THREADS = "-validationthreads";//$NON-NLS-1$
 
 }
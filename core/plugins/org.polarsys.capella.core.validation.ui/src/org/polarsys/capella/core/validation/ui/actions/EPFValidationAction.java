@@ -346,15 +346,17 @@ public class EPFValidationAction extends CapellaValidateAction {
         boolean cleanup = AbstractPreferencesInitializer.getBoolean(ICapellaValidationPreferences.P_CLEAN_PREVIOUS_VALIDATION_RESULTS, true);
         if (cleanup) {
           List<IMarker> markers = new ArrayList<IMarker>(LightMarkerRegistry.getInstance().getMarkers());
+          List<IMarker> toDelete = new ArrayList<IMarker>();
           for (IMarker marker : markers) {
             try {
               if (marker.getType().equals(ICapellaValidationConstants.CAPELLA_MARKER_ID)) {
-                marker.delete();
+                toDelete.add(marker);
               }
             } catch (CoreException e) {
               CapellaValidationUIActivator.getDefault().log(IStatus.ERROR, e.getMessage(), e);
             }
           }
+          LightMarkerRegistry.getInstance().deleteMarkers(toDelete);
         }
 
       }
@@ -27,6 +27,7 @@ import org.eclipse.emf.validation.model.EvaluationMode;
 import org.eclipse.emf.validation.model.IConstraintStatus;
 import org.eclipse.emf.validation.service.IBatchValidator;
 import org.eclipse.emf.validation.service.ModelValidationService;
+import org.polarsys.capella.core.validation.incremental.IncrementalValidation;
 
 /**
  * An adapter that plugs the EMF Model Validation Service API into the {@link org.eclipse.emf.ecore.EValidator} API.
@@ -90,7 +91,12 @@ public class EValidatorAdapter extends EObjectValidator {
       // externally). If there is no context map, then we can't
       // help it
       if (!hasProcessed(eObject_p, context_p)) {
-        status = getValidator().validate(eObject_p, new NullProgressMonitor());
+        IncrementalValidation incrementalValidation = IncrementalValidation.isEnabled() ? IncrementalValidation.getValidation(eObject_p) : null;
+        if (null != incrementalValidation) {
+          status = incrementalValidation.validate(eObject_p, getValidator(), new NullProgressMonitor());
+        } else {
+          status = getValidator().validate(eObject_p, new NullProgressMonitor());
+        }
         processed(eObject_p, context_p, status);
         appendDiagnostics(status, diagnostics_p);
       }
@@ -131,7 +137,6 @@ public class EValidatorAdapter extends EObjectValidator {
     boolean result = false;
     if (null != context_p) {
       EObject eObject = eObject_p;
-      // This is O(NlogN) but there's no helping it
       while ((null != eObject) && !result) {
         if (context_p.containsKey(eObject)) {
           result = true;
@@ -139,6 +144,13 @@ public class EValidatorAdapter extends EObjectValidator {
           eObject = eObject.eContainer();
         }
       }
+      if (result && (eObject != eObject_p)) {
+        // Elements are visited top-down: recording covered elements too, the lookup of their contents stops at once.
+        IStatus status = (IStatus) context_p.get(eObject);
+        for (EObject covered = eObject_p; covered != eObject; covered = covered.eContainer()) {
+          context_p.put(covered, status);
+        }
+      }
     }
     return result;
   }
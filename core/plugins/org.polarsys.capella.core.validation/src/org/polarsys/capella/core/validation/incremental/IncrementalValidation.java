@@ -0,0 +1,589 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.core.validation.incremental;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.transaction.NotificationFilter;
+import org.eclipse.emf.transaction.ResourceSetChangeEvent;
+import org.eclipse.emf.transaction.ResourceSetListenerImpl;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.emf.validation.IValidationContext;
+import org.eclipse.emf.validation.model.ConstraintStatus;
+import org.eclipse.emf.validation.model.IConstraintStatus;
+import org.eclipse.emf.validation.model.IModelConstraint;
+import org.eclipse.emf.validation.service.ConstraintRegistry;
+import org.eclipse.emf.validation.service.IBatchValidator;
+import org.eclipse.emf.validation.service.IConstraintDescriptor;
+import org.eclipse.emf.validation.service.ITraversalStrategy;
+import org.eclipse.sirius.business.api.session.Session;
+import org.eclipse.sirius.business.api.session.SessionListener;
+import org.eclipse.sirius.business.api.session.SessionManager;
+import org.eclipse.sirius.business.api.session.SessionStatus;
+import org.polarsys.capella.core.validation.CapellaValidationActivator;
+
+/**
+ * The incremental validation of a session.<br>
+ * The statuses of the last validation of each element are kept, and only elements without statuses are validated
+ * again. Statuses of an element are discarded when the element is modified, when an element it references or contains
+ * is modified, and when the set of enabled constraints changes.
+ * <p>
+ * Dependencies are only followed one hop: statuses of an element are kept when an element it reaches through another
+ * one is modified (e.g. the type of one of its properties), so a constraint navigating further than the elements it
+ * references or contains may report an outdated status. This is why incremental validation is disabled by default, see
+ * {@link #INCREMENTAL_PROPERTY}, and {@link #clear()} discards all statuses.
+ * </p>
+ * <p>
+ * Statuses are written in the state location of this plug-in each time the session is saved. When the session is
+ * opened again, they are reused if none of the session resources has changed since, so that validation markers are
+ * restored without validating the model again.
+ * </p>
+ */
+public class IncrementalValidation extends ResourceSetListenerImpl implements SessionListener {
+
+  /**
+   * System property used to enable incremental validation, only suitable for constraints reading the elements their
+   * target references or contains.
+   */
+  public static final String INCREMENTAL_PROPERTY = "org.polarsys.capella.core.validation.incremental"; //$NON-NLS-1$
+
+  private static final String STATUS_FOLDER = "incremental"; //$NON-NLS-1$
+
+  private static final String STATUS_FILE_EXTENSION = ".validation"; //$NON-NLS-1$
+
+  private static final int FORMAT_VERSION = 2;
+
+  private static final IConstraintStatus[] NO_STATUS = new IConstraintStatus[0];
+
+  private static final Map<Session, IncrementalValidation> VALIDATIONS = new HashMap<>();
+
+  /**
+   * A status as written in the state location.
+   */
+  private static class RecordedStatus {
+
+    String constraintId;
+
+    int severity;
+
+    int code;
+
+    String message;
+
+    String[] resultLocus;
+  }
+
+  /**
+   * The constraint of a status read from the state location.<br>
+   * It is only used to report the status, evaluating it again requires the actual constraint.
+   */
+  private static class RecordedConstraint implements IModelConstraint {
+
+    private final IConstraintDescriptor descriptor;
+
+    RecordedConstraint(IConstraintDescriptor descriptor) {
+      this.descriptor = descriptor;
+    }
+
+    @Override
+    public IStatus validate(IValidationContext ctx) {
+      return ctx.createSuccessStatus();
+    }
+
+    @Override
+    public IConstraintDescriptor getDescriptor() {
+      return descriptor;
+    }
+  }
+
+  private final Session session;
+
+  /**
+   * Statuses of the last validation of elements, an empty array for valid elements.
+   */
+  private final Map<EObject, IConstraintStatus[]> statuses = new IdentityHashMap<>();
+
+  /**
+   * Statuses read from the state location and not yet used, by element URI.
+   */
+  private final Map<String, RecordedStatus[]> recordedStatuses = new HashMap<>();
+
+  /**
+   * The disabled constraints when statuses were computed.
+   */
+  private int constraintsStamp;
+
+  private IncrementalValidation(Session session) {
+    super(NotificationFilter.NOT_TOUCH);
+    this.session = session;
+  }
+
+  public static boolean isEnabled() {
+    return Boolean.valueOf(System.getProperty(INCREMENTAL_PROPERTY, "false")); //$NON-NLS-1$
+  }
+
+  /**
+   * Get the incremental validation of the session of the given element.
+   *
+   * @param element
+   * @return <code>null</code> if the element does not belong to an open session
+   */
+  public static IncrementalValidation getValidation(EObject element) {
+    Session session = SessionManager.INSTANCE.getSession(element);
+    return (null == session) ? null : getValidation(session);
+  }
+
+  /**
+   * Get the incremental validation of the given session, loading the statuses of the last validation if possible.
+   *
+   * @param session
+   * @return <code>null</code> if the session is not open
+   */
+  public static synchronized IncrementalValidation getValidation(Session session) {
+    IncrementalValidation result = VALIDATIONS.get(session);
+    if ((null == result) && session.isOpen()) {
+      result = new IncrementalValidation(session);
+      result.initialize();
+      VALIDATIONS.put(session, result);
+    }
+    return result;
+  }
+
+  private void initialize() {
+    session.getTransactionalEditingDomain().addResourceSetListener(this);
+    session.addListener(this);
+    constraintsStamp = getConstraintsStamp();
+    if (session.getStatus() != SessionStatus.DIRTY) {
+      load();
+    }
+  }
+
+  private void dispose() {
+    synchronized (IncrementalValidation.class) {
+      VALIDATIONS.remove(session);
+    }
+    session.removeListener(this);
+    TransactionalEditingDomain domain = session.getTransactionalEditingDomain();
+    if (null != domain) {
+      domain.removeResourceSetListener(this);
+    }
+    clear();
+  }
+
+  /**
+   * Discard all statuses, the next validation checks all elements again.
+   */
+  public synchronized void clear() {
+    statuses.clear();
+    recordedStatuses.clear();
+  }
+
+  @Override
+  public void notify(int changeKind) {
+    switch (changeKind) {
+    case SessionListener.SYNC:
+      // The session has just been saved, statuses match the saved resources.
+      save();
+      break;
+    case SessionListener.CLOSING:
+      dispose();
+      break;
+    default:
+      break;
+    }
+  }
+
+  @Override
+  public boolean isPostcommitOnly() {
+    return true;
+  }
+
+  @Override
+  public synchronized void resourceSetChanged(ResourceSetChangeEvent event) {
+    for (Notification notification : event.getNotifications()) {
+      Object notifier = notification.getNotifier();
+      if (notifier instanceof Resource) {
+        int featureID = notification.getFeatureID(Resource.class);
+        if ((Resource.RESOURCE__IS_LOADED == featureID) && !notification.getNewBooleanValue()) {
+          // Elements of unloaded resources are proxies now
+          statuses.keySet().removeIf(EObject::eIsProxy);
+        } else if (Resource.RESOURCE__CONTENTS == featureID) {
+          handleContainmentChange(notification);
+        }
+      } else if (notifier instanceof EObject) {
+        EObject element = (EObject) notifier;
+        invalidate(element);
+        invalidate(element.eContainer());
+        invalidateReferencers(element);
+
+        Object feature = notification.getFeature();
+        if ((feature instanceof EReference) && ((EReference) feature).isContainment()) {
+          handleContainmentChange(notification);
+        } else if (feature instanceof EReference) {
+          // Referenced elements may check their inverse references
+          for (Object value : getValues(notification.getOldValue())) {
+            invalidate(value);
+          }
+          for (Object value : getValues(notification.getNewValue())) {
+            invalidate(value);
+          }
+        }
+      }
+    }
+  }
+
+  private void handleContainmentChange(Notification notification) {
+    for (Object removed : getValues(notification.getOldValue())) {
+      if (removed instanceof EObject) {
+        invalidateContents((EObject) removed);
+      }
+    }
+    for (Object added : getValues(notification.getNewValue())) {
+      if (added instanceof EObject) {
+        invalidateContents((EObject) added);
+      }
+    }
+  }
+
+  private Collection<?> getValues(Object value) {
+    if (value instanceof Collection<?>) {
+      return (Collection<?>) value;
+    }
+    return (null == value) ? Collections.emptyList() : Collections.singletonList(value);
+  }
+
+  private void invalidateContents(EObject element) {
+    invalidate(element);
+    for (Iterator<EObject> it = element.eAllContents(); it.hasNext();) {
+      invalidate(it.next());
+    }
+  }
+
+  /**
+   * Constraints of the elements referencing the given one may read it.
+   */
+  private void invalidateReferencers(EObject element) {
+    ECrossReferenceAdapter crossReferencer = session.getSemanticCrossReferencer();
+    if (null != crossReferencer) {
+      for (Setting setting : crossReferencer.getInverseReferences(element, false)) {
+        invalidate(setting.getEObject());
+      }
+    }
+  }
+
+  private void invalidate(Object element) {
+    if (element instanceof EObject) {
+      statuses.remove(element);
+      if (!recordedStatuses.isEmpty()) {
+        recordedStatuses.remove(EcoreUtil.getURI((EObject) element).toString());
+      }
+    }
+  }
+
+  /**
+   * Validate the given element and its contents, with the given validator.<br>
+   * Only elements modified since their last validation are evaluated again.
+   *
+   * @param root
+   * @param validator
+   *          the validator to evaluate elements with
+   * @param monitor
+   * @return the statuses of the given element and its contents
+   */
+  public synchronized IStatus validate(EObject root, IBatchValidator validator, IProgressMonitor monitor) {
+    int stamp = getConstraintsStamp();
+    if (stamp != constraintsStamp) {
+      clear();
+      constraintsStamp = stamp;
+    }
+
+    List<EObject> elements = new ArrayList<>();
+    elements.add(root);
+    for (Iterator<EObject> it = root.eAllContents(); it.hasNext();) {
+      elements.add(it.next());
+    }
+
+    List<EObject> toValidate = new ArrayList<>();
+    for (EObject element : elements) {
+      if (!statuses.containsKey(element) && !restore(element)) {
+        toValidate.add(element);
+      }
+    }
+
+    if (!toValidate.isEmpty()) {
+      evaluate(toValidate, validator, monitor);
+    }
+
+    List<IStatus> result = new ArrayList<>();
+    for (EObject element : elements) {
+      Collections.addAll(result, statuses.get(element));
+    }
+    return new MultiStatus(CapellaValidationActivator.getDefault().getPluginId(), 0,
+        result.toArray(new IStatus[result.size()]), "", null); //$NON-NLS-1$
+  }
+
+  /**
+   * Evaluate constraints on the given elements only, and keep their statuses.
+   */
+  private void evaluate(List<EObject> elements, IBatchValidator validator, IProgressMonitor monitor) {
+    ITraversalStrategy traversalStrategy = validator.getTraversalStrategy();
+    validator.setTraversalStrategy(new ITraversalStrategy.Flat());
+    IStatus status;
+    try {
+      status = validator.validate(elements, monitor);
+    } finally {
+      validator.setTraversalStrategy(traversalStrategy);
+    }
+
+    Map<EObject, List<IConstraintStatus>> byTarget = new IdentityHashMap<>();
+    collect(status, byTarget);
+    for (EObject element : elements) {
+      List<IConstraintStatus> elementStatuses = byTarget.get(element);
+      statuses.put(element, (null == elementStatuses) ? NO_STATUS
+          : elementStatuses.toArray(new IConstraintStatus[elementStatuses.size()]));
+    }
+  }
+
+  private void collect(IStatus status, Map<EObject, List<IConstraintStatus>> byTarget) {
+    if (status.isMultiStatus()) {
+      for (IStatus child : status.getChildren()) {
+        collect(child, byTarget);
+      }
+    } else if (status instanceof IConstraintStatus) {
+      IConstraintStatus constraintStatus = (IConstraintStatus) status;
+      byTarget.computeIfAbsent(constraintStatus.getTarget(), t -> new ArrayList<>()).add(constraintStatus);
+    }
+  }
+
+  /**
+   * Restore the statuses of the given element read from the state location.
+   *
+   * @return <code>false</code> if there was no statuses for the element or if they cannot be restored
+   */
+  private boolean restore(EObject element) {
+    if (recordedStatuses.isEmpty()) {
+      return false;
+    }
+    RecordedStatus[] recorded = recordedStatuses.remove(EcoreUtil.getURI(element).toString());
+    if (null == recorded) {
+      return false;
+    }
+    ResourceSet resourceSet = session.getTransactionalEditingDomain().getResourceSet();
+    IConstraintStatus[] restored = new IConstraintStatus[recorded.length];
+    for (int i = 0; i < recorded.length; i++) {
+      IConstraintDescriptor descriptor = ConstraintRegistry.getInstance().getDescriptor(recorded[i].constraintId);
+      if (null == descriptor) {
+        return false;
+      }
+      Set<EObject> resultLocus = new LinkedHashSet<>();
+      for (String location : recorded[i].resultLocus) {
+        EObject locus = resourceSet.getEObject(URI.createURI(location), false);
+        if (null == locus) {
+          return false;
+        }
+        resultLocus.add(locus);
+      }
+      restored[i] = new ConstraintStatus(new RecordedConstraint(descriptor), element, recorded[i].severity,
+          recorded[i].code, recorded[i].message, resultLocus);
+    }
+    statuses.put(element, restored);
+    return true;
+  }
+
+  /**
+   * @return a stamp of the disabled constraints
+   */
+  private int getConstraintsStamp() {
+    List<String> disabled = new ArrayList<>();
+    for (IConstraintDescriptor descriptor : ConstraintRegistry.getInstance().getAllDescriptors()) {
+      if (!descriptor.isEnabled()) {
+        disabled.add(descriptor.getId());
+      }
+    }
+    Collections.sort(disabled);
+    return disabled.hashCode();
+  }
+
+  /**
+   * @return the time stamps of the session resources stored in the workspace, by URI
+   */
+  private Map<String, Long> getResourceStamps() {
+    Map<String, Long> result = new LinkedHashMap<>();
+    for (Resource resource : session.getTransactionalEditingDomain().getResourceSet().getResources()) {
+      URI uri = resource.getURI();
+      if ((null != uri) && uri.isPlatformResource()) {
+        IFile file = ResourcesPlugin.getWorkspace().getRoot().getFile(new Path(uri.toPlatformString(true)));
+        result.put(uri.toString(), Long.valueOf(file.getLocalTimeStamp()));
+      }
+    }
+    return result;
+  }
+
+  private File getStatusFile() {
+    URI sessionURI = session.getSessionResource().getURI();
+    File folder = CapellaValidationActivator.getDefault().getStateLocation().append(STATUS_FOLDER).toFile();
+    return new File(folder, Integer.toHexString(sessionURI.toString().hashCode()) + STATUS_FILE_EXTENSION);
+  }
+
+  private synchronized void load() {
+    File file = getStatusFile();
+    if (!file.isFile()) {
+      return;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if ((FORMAT_VERSION != in.readInt()) || !session.getSessionResource().getURI().toString().equals(in.readUTF())
+          || (constraintsStamp != in.readInt())) {
+        return;
+      }
+      Map<String, Long> stamps = new LinkedHashMap<>();
+      int count = in.readInt();
+      for (int i = 0; i < count; i++) {
+        stamps.put(in.readUTF(), Long.valueOf(in.readLong()));
+      }
+      if (!stamps.equals(getResourceStamps())) {
+        return;
+      }
+      int elementCount = in.readInt();
+      for (int i = 0; i < elementCount; i++) {
+        String location = in.readUTF();
+        RecordedStatus[] recorded = new RecordedStatus[in.readInt()];
+        for (int j = 0; j < recorded.length; j++) {
+          recorded[j] = readStatus(in);
+        }
+        recordedStatuses.put(location, recorded);
+      }
+
+    } catch (IOException e) {
+      CapellaValidationActivator.getDefault().getLog()
+          .log(new Status(IStatus.WARNING, CapellaValidationActivator.getDefault().getPluginId(), e.getMessage(), e));
+      recordedStatuses.clear();
+    }
+  }
+
+  private RecordedStatus readStatus(DataInputStream in) throws IOException {
+    RecordedStatus status = new RecordedStatus();
+    status.constraintId = in.readUTF();
+    status.severity = in.readInt();
+    status.code = in.readInt();
+    status.message = in.readBoolean() ? in.readUTF() : null;
+    status.resultLocus = new String[in.readInt()];
+    for (int i = 0; i < status.resultLocus.length; i++) {
+      status.resultLocus[i] = in.readUTF();
+    }
+    return status;
+  }
+
+  private synchronized void save() {
+    File file = getStatusFile();
+    file.getParentFile().mkdirs();
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+      out.writeInt(FORMAT_VERSION);
+      out.writeUTF(session.getSessionResource().getURI().toString());
+      out.writeInt(constraintsStamp);
+      Map<String, Long> stamps = getResourceStamps();
+      out.writeInt(stamps.size());
+      for (Map.Entry<String, Long> stamp : stamps.entrySet()) {
+        out.writeUTF(stamp.getKey());
+        out.writeLong(stamp.getValue().longValue());
+      }
+
+      // Statuses of elements removed from the model are not written
+      Map<String, RecordedStatus[]> written = new LinkedHashMap<>(recordedStatuses);
+      for (Map.Entry<EObject, IConstraintStatus[]> entry : statuses.entrySet()) {
+        if (null != entry.getKey().eResource()) {
+          written.put(EcoreUtil.getURI(entry.getKey()).toString(), record(entry.getValue()));
+        }
+      }
+      out.writeInt(written.size());
+      for (Map.Entry<String, RecordedStatus[]> entry : written.entrySet()) {
+        out.writeUTF(entry.getKey());
+        out.writeInt(entry.getValue().length);
+        for (RecordedStatus status : entry.getValue()) {
+          writeStatus(status, out);
+        }
+      }
+
+    } catch (IOException e) {
+      CapellaValidationActivator.getDefault().getLog()
+          .log(new Status(IStatus.WARNING, CapellaValidationActivator.getDefault().getPluginId(), e.getMessage(), e));
+      file.delete();
+    }
+  }
+
+  private RecordedStatus[] record(IConstraintStatus[] elementStatuses) {
+    RecordedStatus[] result = new RecordedStatus[elementStatuses.length];
+    for (int i = 0; i < elementStatuses.length; i++) {
+      IConstraintStatus status = elementStatuses[i];
+      result[i] = new RecordedStatus();
+      result[i].constraintId = status.getConstraint().getDescriptor().getId();
+      result[i].severity = status.getSeverity();
+      result[i].code = status.getCode();
+      result[i].message = status.getMessage();
+      List<String> resultLocus = new ArrayList<>();
+      for (EObject locus : status.getResultLocus()) {
+        resultLocus.add(EcoreUtil.getURI(locus).toString());
+      }
+      result[i].resultLocus = resultLocus.toArray(new String[resultLocus.size()]);
+    }
+    return result;
+  }
+
+  private void writeStatus(RecordedStatus status, DataOutputStream out) throws IOException {
+    out.writeUTF(status.constraintId);
+    out.writeInt(status.severity);
+    out.writeInt(status.code);
+    // A status may have no message
+    out.writeBoolean(null != status.message);
+    if (null != status.message) {
+      out.writeUTF(status.message);
+    }
+    out.writeInt(status.resultLocus.length);
+    for (String locus : status.resultLocus) {
+      out.writeUTF(locus);
+    }
+  }
+}
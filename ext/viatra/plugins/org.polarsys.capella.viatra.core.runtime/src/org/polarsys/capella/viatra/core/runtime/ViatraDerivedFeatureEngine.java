@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.viatra.core.runtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.viatra.query.runtime.api.AdvancedViatraQueryEngine;
+import org.eclipse.viatra.query.runtime.api.IPatternMatch;
+import org.eclipse.viatra.query.runtime.api.IQuerySpecification;
+import org.eclipse.viatra.query.runtime.api.ViatraQueryMatcher;
+import org.eclipse.viatra.query.runtime.emf.EMFScope;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
+import org.polarsys.capella.common.tools.report.config.registry.ReportManagerRegistry;
+import org.polarsys.capella.common.tools.report.util.IReportManagerDefaultComponents;
+
+/**
+ * Evaluates derived features of the elements of a session, according to the {@link ViatraDerivedFeatureMode mode} of
+ * the project of each element, given by {@link ViatraDerivedFeatures#getMode(org.eclipse.emf.ecore.resource.Resource)}.
+ * <br>
+ * In Viatra mode, an unmanaged query engine is created on the resource set of the session at the first evaluation,
+ * and a matcher is created per feature at its first evaluation. The matchers are then maintained incrementally by the
+ * engine, and a derived feature is answered by the values of the <code>target</code> parameter of the matches of its
+ * surrogate query for the given <code>source</code>. Values of many-valued features are not ordered as the Java ones.
+ */
+public class ViatraDerivedFeatureEngine extends AdapterImpl {
+
+  private static final Logger logger = ReportManagerRegistry.getInstance()
+      .subscribe(IReportManagerDefaultComponents.MODEL);
+
+  private final ResourceSet resourceSet;
+
+  /**
+   * Modes of the elements evaluated so far.
+   */
+  private final Set<ViatraDerivedFeatureMode> modes = Collections
+      .synchronizedSet(EnumSet.noneOf(ViatraDerivedFeatureMode.class));
+
+  private AdvancedViatraQueryEngine engine;
+
+  private long engineInitializationHeap;
+
+  private final Map<EStructuralFeature, ViatraQueryMatcher<? extends IPatternMatch>> matchers = new HashMap<>();
+
+  private final Map<EStructuralFeature, ViatraDerivedFeatureStatistics> statistics = new ConcurrentHashMap<>();
+
+  protected ViatraDerivedFeatureEngine(ResourceSet resourceSet) {
+    this.resourceSet = resourceSet;
+  }
+
+  /**
+   * Get the engine of the given resource set, creating it if needed.
+   */
+  static ViatraDerivedFeatureEngine getEngine(ResourceSet resourceSet) {
+    ViatraDerivedFeatureEngine engine = getExistingEngine(resourceSet);
+    if (null == engine) {
+      synchronized (resourceSet) {
+        engine = getExistingEngine(resourceSet);
+        if (null == engine) {
+          engine = new ViatraDerivedFeatureEngine(resourceSet);
+          resourceSet.eAdapters().add(engine);
+        }
+      }
+    }
+    return engine;
+  }
+
+  /**
+   * @param resourceSet
+   * @return the engine of the given resource set, <code>null</code> if none has been created yet.
+   */
+  public static ViatraDerivedFeatureEngine getExistingEngine(ResourceSet resourceSet) {
+    return (ViatraDerivedFeatureEngine) EcoreUtil.getExistingAdapter(resourceSet, ViatraDerivedFeatureEngine.class);
+  }
+
+  @Override
+  public boolean isAdapterForType(Object type) {
+    return ViatraDerivedFeatureEngine.class == type;
+  }
+
+  /**
+   * @return the modes of the elements evaluated so far
+   */
+  public Set<ViatraDerivedFeatureMode> getModes() {
+    synchronized (modes) {
+      return new HashSet<>(modes);
+    }
+  }
+
+  /**
+   * @return whether a derived feature has been evaluated by a Viatra matcher
+   */
+  public boolean isUsed() {
+    return !statistics.isEmpty();
+  }
+
+  /**
+   * @return the value of the feature of the object, evaluated according to the given mode of its project
+   */
+  public Object getValue(EObject object, EStructuralFeature feature, IDerivedFeatureComputer computer,
+      ViatraDerivedFeatureMode mode) {
+    modes.add(mode);
+    switch (mode) {
+    case VIATRA:
+      return evaluate(object, feature);
+    case COMPARE:
+      return compare(object, feature, computer);
+    default:
+      return computer.getValue(object);
+    }
+  }
+
+  private Object compare(EObject object, EStructuralFeature feature, IDerivedFeatureComputer computer) {
+    ViatraDerivedFeatureStatistics featureStatistics = getStatistics(feature);
+    long start = System.nanoTime();
+    Object javaValue = computer.getValue(object);
+    featureStatistics.recordJava(System.nanoTime() - start);
+
+    Object viatraValue = evaluate(object, feature);
+    boolean same;
+    if (feature.isMany()) {
+      same = (javaValue instanceof Collection<?>)
+          && new HashSet<>((Collection<?>) javaValue).equals(new HashSet<>((Collection<?>) viatraValue));
+    } else {
+      same = Objects.equals(javaValue, viatraValue);
+    }
+    if (!same) {
+      featureStatistics.recordMismatch();
+      logger.warn("Viatra value of " + feature.getName() + " differs for " + EcoreUtil.getURI(object) //$NON-NLS-1$ //$NON-NLS-2$
+          + ": " + viatraValue + " instead of " + javaValue); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+    return javaValue;
+  }
+
+  private Object evaluate(EObject object, EStructuralFeature feature) {
+    ViatraQueryMatcher<? extends IPatternMatch> matcher = getMatcher(feature);
+    long start = System.nanoTime();
+    Set<Object> values = getTargets(matcher, object);
+    getStatistics(feature).recordViatra(System.nanoTime() - start);
+    if (feature.isMany()) {
+      return new ArrayList<>(values);
+    }
+    return values.isEmpty() ? null : values.iterator().next();
+  }
+
+  private static <M extends IPatternMatch> Set<Object> getTargets(ViatraQueryMatcher<M> matcher, EObject source) {
+    List<String> parameters = matcher.getParameterNames();
+    M partialMatch = matcher.newMatch(source, null);
+    return matcher.getAllValues(parameters.get(1), partialMatch);
+  }
+
+  private synchronized ViatraQueryMatcher<? extends IPatternMatch> getMatcher(EStructuralFeature feature) {
+    ViatraQueryMatcher<? extends IPatternMatch> matcher = matchers.get(feature);
+    if (null == matcher) {
+      if (null == engine) {
+        long heap = getUsedHeap();
+        engine = AdvancedViatraQueryEngine.createUnmanagedEngine(new EMFScope(resourceSet));
+        engineInitializationHeap = getUsedHeap() - heap;
+      }
+      IQuerySpecification<?> specification = ViatraDerivedFeatures.getQuerySpecification(feature);
+      long heap = getUsedHeap();
+      long start = System.nanoTime();
+      matcher = engine.getMatcher(specification);
+      getStatistics(feature).recordInitialization(System.nanoTime() - start, getUsedHeap() - heap);
+      matchers.put(feature, matcher);
+    }
+    return matcher;
+  }
+
+  private static long getUsedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  private ViatraDerivedFeatureStatistics getStatistics(EStructuralFeature feature) {
+    return statistics.computeIfAbsent(feature, ViatraDerivedFeatureStatistics::new);
+  }
+
+  /**
+   * @return the statistics of the features evaluated in this session
+   */
+  public Collection<ViatraDerivedFeatureStatistics> getStatistics() {
+    return new ArrayList<>(statistics.values());
+  }
+
+  /**
+   * @return the growth of the used heap while creating the engine and its matchers, in bytes. This is an estimate, as
+   *         other threads allocate meanwhile.
+   */
+  public synchronized long getEstimatedHeap() {
+    long heap = engineInitializationHeap;
+    for (ViatraDerivedFeatureStatistics featureStatistics : statistics.values()) {
+      heap += featureStatistics.getInitializationHeap();
+    }
+    return heap;
+  }
+
+  /**
+   * @return the number of matches kept by the matchers
+   */
+  public synchronized long getMatchCount() {
+    long count = 0;
+    for (ViatraQueryMatcher<? extends IPatternMatch> matcher : matchers.values()) {
+      count += matcher.countMatches();
+    }
+    return count;
+  }
+
+  /**
+   * @return a report of the statistics, one line per feature
+   */
+  public String getReport() {
+    StringBuilder report = new StringBuilder();
+    report.append("Derived features in " + getModes() + " modes, " + getMatchCount() + " matches, ~" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        + (getEstimatedHeap() / 1024) + " KB"); //$NON-NLS-1$
+    for (ViatraDerivedFeatureStatistics featureStatistics : getStatistics()) {
+      report.append(System.lineSeparator()).append(featureStatistics);
+    }
+    return report.toString();
+  }
+
+  /**
+   * Dispose the query engine and detach from the resource set.
+   */
+  public synchronized void dispose() {
+    if (null != engine) {
+      engine.dispose();
+      engine = null;
+    }
+    matchers.clear();
+    resourceSet.eAdapters().remove(this);
+  }
+}
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.viatra.core.runtime;
+
+/**
+ * How derived features are evaluated in a project.
+ */
+public enum ViatraDerivedFeatureMode {
+
+  /**
+   * By the Java helpers.
+   */
+  JAVA,
+
+  /**
+   * By the incremental matchers of the Viatra surrogate queries.
+   */
+  VIATRA,
+
+  /**
+   * By both, the values of the Java helpers being returned and the differences being logged.
+   */
+  COMPARE;
+
+  /**
+   * @param value
+   *          the name of a mode, case insensitive
+   * @param defaultMode
+   * @return the mode of given name, <code>defaultMode</code> if there is none
+   */
+  public static ViatraDerivedFeatureMode fromString(String value, ViatraDerivedFeatureMode defaultMode) {
+    if (null != value) {
+      for (ViatraDerivedFeatureMode mode : values()) {
+        if (mode.name().equalsIgnoreCase(value.trim())) {
+          return mode;
+        }
+      }
+    }
+    return defaultMode;
+  }
+}
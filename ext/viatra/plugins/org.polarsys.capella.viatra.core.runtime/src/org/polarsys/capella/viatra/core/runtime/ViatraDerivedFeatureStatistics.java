@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.viatra.core.runtime;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+/**
+ * Latency and memory statistics of the evaluation of a derived feature in a session.
+ */
+public class ViatraDerivedFeatureStatistics {
+
+  private final EStructuralFeature feature;
+
+  private final AtomicLong javaCount = new AtomicLong();
+
+  private final AtomicLong javaTime = new AtomicLong();
+
+  private final AtomicLong viatraCount = new AtomicLong();
+
+  private final AtomicLong viatraTime = new AtomicLong();
+
+  private final AtomicLong mismatchCount = new AtomicLong();
+
+  private volatile long initializationTime;
+
+  private volatile long initializationHeap;
+
+  public ViatraDerivedFeatureStatistics(EStructuralFeature feature) {
+    this.feature = feature;
+  }
+
+  public EStructuralFeature getFeature() {
+    return feature;
+  }
+
+  void recordJava(long nanos) {
+    javaCount.incrementAndGet();
+    javaTime.addAndGet(nanos);
+  }
+
+  void recordViatra(long nanos) {
+    viatraCount.incrementAndGet();
+    viatraTime.addAndGet(nanos);
+  }
+
+  void recordMismatch() {
+    mismatchCount.incrementAndGet();
+  }
+
+  void recordInitialization(long nanos, long heap) {
+    initializationTime = nanos;
+    initializationHeap = heap;
+  }
+
+  /**
+   * @return the number of evaluations by the Java helpers
+   */
+  public long getJavaCount() {
+    return javaCount.get();
+  }
+
+  /**
+   * @return the total time of the evaluations by the Java helpers, in nanoseconds
+   */
+  public long getJavaTime() {
+    return javaTime.get();
+  }
+
+  /**
+   * @return the number of evaluations by the Viatra matcher
+   */
+  public long getViatraCount() {
+    return viatraCount.get();
+  }
+
+  /**
+   * @return the total time of the evaluations by the Viatra matcher, in nanoseconds, initialization excluded
+   */
+  public long getViatraTime() {
+    return viatraTime.get();
+  }
+
+  /**
+   * @return the number of evaluations whose Viatra value differed from the Java one
+   */
+  public long getMismatchCount() {
+    return mismatchCount.get();
+  }
+
+  /**
+   * @return the time taken to create the Viatra matcher, in nanoseconds
+   */
+  public long getInitializationTime() {
+    return initializationTime;
+  }
+
+  /**
+   * @return the growth of the used heap while creating the Viatra matcher, in bytes. This is an estimate, as other
+   *         threads allocate meanwhile.
+   */
+  public long getInitializationHeap() {
+    return initializationHeap;
+  }
+
+  private static long average(long time, long count) {
+    return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(time / count);
+  }
+
+  @Override
+  public String toString() {
+    return feature.getEContainingClass().getName() + "." + feature.getName() //$NON-NLS-1$
+        + ": java " + getJavaCount() + " calls, " + average(getJavaTime(), getJavaCount()) + " us avg" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        + "; viatra " + getViatraCount() + " calls, " + average(getViatraTime(), getViatraCount()) + " us avg" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        + ", init " + TimeUnit.NANOSECONDS.toMillis(getInitializationTime()) + " ms" //$NON-NLS-1$ //$NON-NLS-2$
+        + ", ~" + (getInitializationHeap() / 1024) + " KB" //$NON-NLS-1$ //$NON-NLS-2$
+        + "; mismatches " + getMismatchCount(); //$NON-NLS-1$
+  }
+}
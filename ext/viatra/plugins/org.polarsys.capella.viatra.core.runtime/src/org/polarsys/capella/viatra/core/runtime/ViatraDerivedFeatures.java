@@ -0,0 +1,307 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.viatra.core.runtime;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ProjectScope;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.viatra.query.runtime.api.IQuerySpecification;
+import org.osgi.framework.Bundle;
+import org.polarsys.capella.common.model.helpers.DerivedFeatureDispatcher;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputer;
+import org.polarsys.capella.common.model.helpers.IDerivedFeatureComputerDecorator;
+import org.polarsys.capella.common.tools.report.config.registry.ReportManagerRegistry;
+import org.polarsys.capella.common.tools.report.util.IReportManagerDefaultComponents;
+
+/**
+ * Evaluation of derived features by the Viatra surrogate queries contributed to the
+ * <code>org.eclipse.viatra.query.runtime.surrogatequeryemf</code> extension point.<br>
+ * The {@link ViatraDerivedFeatureMode mode} is selected per project with the <code>derivedFeatures.mode</code>
+ * preference of this plug-in in the project scope, and defaults to the
+ * <code>org.polarsys.capella.viatra.derivedFeatures</code> system property, or to {@link ViatraDerivedFeatureMode#JAVA}.
+ * The surrogate computers are only installed when a mode other than {@link ViatraDerivedFeatureMode#JAVA} is
+ * configured at the creation of an editing domain, and uninstalled when no live editing domain needs them anymore. A
+ * {@link ViatraDerivedFeatureEngine} is then created per session, at the first evaluation of a derived feature of one
+ * of its elements in a project whose mode is not {@link ViatraDerivedFeatureMode#JAVA}.
+ * <p>
+ * The mode of the elements of a resource is read at the first evaluation of one of them, and kept while the resource
+ * is loaded: a changed preference applies to the sessions opened afterwards.
+ * </p>
+ * <p>
+ * The surrogate computers are installed with a {@link DerivedFeatureDispatcher} decorator, so they are not used when
+ * the dispatch table is disabled.
+ * </p>
+ */
+public class ViatraDerivedFeatures {
+
+  public static final String PLUGIN_ID = "org.polarsys.capella.viatra.core.runtime"; //$NON-NLS-1$
+
+  /**
+   * Project preference selecting the mode.
+   */
+  public static final String MODE_PREFERENCE = "derivedFeatures.mode"; //$NON-NLS-1$
+
+  /**
+   * System property selecting the mode of projects without preference.
+   */
+  public static final String MODE_PROPERTY = "org.polarsys.capella.viatra.derivedFeatures"; //$NON-NLS-1$
+
+  private static final String SURROGATE_EXTENSION_POINT = "org.eclipse.viatra.query.runtime.surrogatequeryemf"; //$NON-NLS-1$
+
+  private static final String SURROGATE_ELEMENT = "surrogate-query-emf"; //$NON-NLS-1$
+
+  private static final Logger logger = ReportManagerRegistry.getInstance()
+      .subscribe(IReportManagerDefaultComponents.MODEL);
+
+  static final IDerivedFeatureComputerDecorator DECORATOR = (eClass, feature, computer) -> {
+    if (hasQuerySpecification(feature)) {
+      return object -> getValue(object, feature, computer);
+    }
+    return computer;
+  };
+
+  /**
+   * Surrogate query declarations by feature, loaded on first use.
+   */
+  private static Map<EStructuralFeature, IConfigurationElement> surrogates;
+
+  /**
+   * Query specifications by feature, null values for queries that cannot be loaded.
+   */
+  private static final Map<EStructuralFeature, IQuerySpecification<?>> specifications = new HashMap<>();
+
+  private ViatraDerivedFeatures() {
+    // Static access only
+  }
+
+  /**
+   * Mode of the elements of a resource.
+   */
+  private static class ResourceMode extends AdapterImpl {
+
+    private final ViatraDerivedFeatureMode mode;
+
+    ResourceMode(ViatraDerivedFeatureMode mode) {
+      this.mode = mode;
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+      return ResourceMode.class == type;
+    }
+  }
+
+  /**
+   * @return the mode of projects without preference
+   */
+  public static ViatraDerivedFeatureMode getDefaultMode() {
+    return ViatraDerivedFeatureMode.fromString(System.getProperty(MODE_PROPERTY), ViatraDerivedFeatureMode.JAVA);
+  }
+
+  /**
+   * @param project
+   *          may be <code>null</code>
+   * @return the mode of the given project
+   */
+  public static ViatraDerivedFeatureMode getMode(IProject project) {
+    if ((null != project) && project.isAccessible()) {
+      String value = new ProjectScope(project).getNode(PLUGIN_ID).get(MODE_PREFERENCE, null);
+      return ViatraDerivedFeatureMode.fromString(value, getDefaultMode());
+    }
+    return getDefaultMode();
+  }
+
+  /**
+   * @param object
+   * @return the mode of the project containing the resource of the given object
+   */
+  public static ViatraDerivedFeatureMode getMode(EObject object) {
+    return getMode(getProject(object));
+  }
+
+  /**
+   * @param resource
+   * @return the mode of the project containing the given resource, read at the first call for this resource
+   */
+  public static ViatraDerivedFeatureMode getMode(Resource resource) {
+    ResourceMode resourceMode = (ResourceMode) EcoreUtil.getExistingAdapter(resource, ResourceMode.class);
+    if (null == resourceMode) {
+      synchronized (resource) {
+        resourceMode = (ResourceMode) EcoreUtil.getExistingAdapter(resource, ResourceMode.class);
+        if (null == resourceMode) {
+          resourceMode = new ResourceMode(getMode(getProject(resource)));
+          resource.eAdapters().add(resourceMode);
+        }
+      }
+    }
+    return resourceMode.mode;
+  }
+
+  /**
+   * @param object
+   * @return the project containing the resource of the given object, <code>null</code> if none
+   */
+  public static IProject getProject(EObject object) {
+    return getProject(object.eResource());
+  }
+
+  /**
+   * @param resource
+   *          may be <code>null</code>
+   * @return the project containing the given resource, <code>null</code> if none
+   */
+  public static IProject getProject(Resource resource) {
+    URI uri = null == resource ? null : resource.getURI();
+    if ((null != uri) && uri.isPlatformResource() && (uri.segmentCount() > 1)) {
+      return ResourcesPlugin.getWorkspace().getRoot().getProject(URI.decode(uri.segment(1)));
+    }
+    return null;
+  }
+
+  /**
+   * @return whether a mode other than {@link ViatraDerivedFeatureMode#JAVA} is configured, by default or for an open
+   *         project of the workspace
+   */
+  public static boolean isEnabled() {
+    if (ViatraDerivedFeatureMode.JAVA != getDefaultMode()) {
+      return true;
+    }
+    for (IProject project : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
+      if (project.isAccessible() && (ViatraDerivedFeatureMode.JAVA != getMode(project))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return the features having a surrogate query
+   */
+  public static synchronized Set<EStructuralFeature> getSurrogateFeatures() {
+    return Collections.unmodifiableSet(getSurrogates().keySet());
+  }
+
+  /**
+   * @param feature
+   * @return whether a query specification is available for the given feature
+   */
+  public static boolean hasQuerySpecification(EStructuralFeature feature) {
+    return null != getQuerySpecification(feature);
+  }
+
+  /**
+   * @param feature
+   * @return the query specification of the surrogate query of the given feature, <code>null</code> if there is none
+   */
+  public static synchronized IQuerySpecification<?> getQuerySpecification(EStructuralFeature feature) {
+    if (!specifications.containsKey(feature)) {
+      specifications.put(feature, loadQuerySpecification(getSurrogates().get(feature)));
+    }
+    return specifications.get(feature);
+  }
+
+  /**
+   * Load the generated query specification declared by the given element, through its singleton accessor.
+   */
+  private static IQuerySpecification<?> loadQuerySpecification(IConfigurationElement element) {
+    if (null == element) {
+      return null;
+    }
+    String queryFqn = element.getAttribute("query-fqn"); //$NON-NLS-1$
+    try {
+      Bundle bundle = Platform.getBundle(element.getContributor().getName());
+      Class<?> specificationClass = bundle.loadClass(queryFqn);
+      return (IQuerySpecification<?>) specificationClass.getMethod("instance").invoke(null); //$NON-NLS-1$
+    } catch (Exception | LinkageError exception) {
+      logger.warn("Cannot load the surrogate query " + queryFqn, exception); //$NON-NLS-1$
+      return null;
+    }
+  }
+
+  private static Map<EStructuralFeature, IConfigurationElement> getSurrogates() {
+    if (null == surrogates) {
+      surrogates = new HashMap<>();
+      for (IConfigurationElement element : Platform.getExtensionRegistry()
+          .getConfigurationElementsFor(SURROGATE_EXTENSION_POINT)) {
+        if (SURROGATE_ELEMENT.equals(element.getName())) {
+          EStructuralFeature feature = getFeature(element.getAttribute("package-nsUri"), //$NON-NLS-1$
+              element.getAttribute("class-name"), element.getAttribute("feature-name")); //$NON-NLS-1$ //$NON-NLS-2$
+          if (null != feature) {
+            surrogates.put(feature, element);
+          }
+        }
+      }
+    }
+    return surrogates;
+  }
+
+  private static EStructuralFeature getFeature(String nsUri, String className, String featureName) {
+    EPackage ePackage = EPackage.Registry.INSTANCE.getEPackage(nsUri);
+    if (null != ePackage) {
+      EClassifier eClassifier = ePackage.getEClassifier(className);
+      if (eClassifier instanceof EClass) {
+        return ((EClass) eClassifier).getEStructuralFeature(featureName);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Register the computers of the surrogate queries to the {@link DerivedFeatureDispatcher}.
+   */
+  public static void install() {
+    DerivedFeatureDispatcher.addDecorator(DECORATOR);
+  }
+
+  /**
+   * Unregister the computers of the surrogate queries from the {@link DerivedFeatureDispatcher}.
+   */
+  public static void uninstall() {
+    DerivedFeatureDispatcher.removeDecorator(DECORATOR);
+  }
+
+  /**
+   * @return the value of the feature of the object, evaluated according to the mode of its project
+   */
+  static Object getValue(EObject object, EStructuralFeature feature, IDerivedFeatureComputer computer) {
+    Resource resource = object.eResource();
+    ResourceSet resourceSet = null == resource ? null : resource.getResourceSet();
+    if (null == resourceSet) {
+      return computer.getValue(object);
+    }
+    ViatraDerivedFeatureMode mode = getMode(resource);
+    if (ViatraDerivedFeatureMode.JAVA == mode) {
+      // No engine for elements in Java mode
+      return computer.getValue(object);
+    }
+    return ViatraDerivedFeatureEngine.getEngine(resourceSet).getValue(object, feature, computer, mode);
+  }
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.viatra.core.runtime;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.edit.domain.EditingDomain;
+import org.polarsys.capella.common.ef.domain.IEditingDomainListener;
+import org.polarsys.capella.common.tools.report.config.registry.ReportManagerRegistry;
+import org.polarsys.capella.common.tools.report.util.IReportManagerDefaultComponents;
+
+/**
+ * Installs the evaluation of derived features by Viatra surrogate queries when a mode other than
+ * {@link ViatraDerivedFeatureMode#JAVA} is configured, and disposes the engine of a session with its editing domain.
+ * The evaluation is uninstalled when the last editing domain created with such a mode is disposed.
+ */
+public class ViatraEditingDomainListener implements IEditingDomainListener {
+
+  private static final Logger logger = ReportManagerRegistry.getInstance()
+      .subscribe(IReportManagerDefaultComponents.MODEL);
+
+  /**
+   * Live editing domains created while a mode other than {@link ViatraDerivedFeatureMode#JAVA} was configured.
+   */
+  private static final Set<EditingDomain> domains = new HashSet<>();
+
+  @Override
+  public void createdEditingDomain(EditingDomain editingDomain) {
+    // Derived features are left to the Java computers unless another mode is configured
+    if (ViatraDerivedFeatures.isEnabled()) {
+      synchronized (domains) {
+        domains.add(editingDomain);
+        ViatraDerivedFeatures.install();
+      }
+    }
+  }
+
+  @Override
+  public void disposedEditingDomain(EditingDomain editingDomain) {
+    ViatraDerivedFeatureEngine engine = ViatraDerivedFeatureEngine.getExistingEngine(editingDomain.getResourceSet());
+    if (null != engine) {
+      if (engine.isUsed()) {
+        logger.info(engine.getReport());
+      }
+      engine.dispose();
+    }
+    synchronized (domains) {
+      if (domains.remove(editingDomain) && domains.isEmpty()) {
+        ViatraDerivedFeatures.uninstall();
+      }
+    }
+  }
+}
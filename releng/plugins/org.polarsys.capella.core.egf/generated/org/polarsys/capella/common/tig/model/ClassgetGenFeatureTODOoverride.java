@@ -53,30 +53,10 @@ public class ClassgetGenFeatureTODOoverride
 	protected final String TEXT_26 = NL + "\ttry {" + NL + "\t\treturn (";
 	protected final String TEXT_27 = ") result;" + NL + "\t} catch (ClassCastException exception) {" + NL
 			+ "\t  exception.printStackTrace();" + NL + "\t  return null;" + NL + "\t}" + NL + "\t";
-	protected final String TEXT_28 = NL + "    Object result = null;" + NL
-			+ "    // Helper that can get value for current feature.";
-	protected final String TEXT_29 = NL + "    ";
-	protected final String TEXT_30 = " helper = null;" + NL
-			+ "    // If current object is adaptable, ask it to get its IHelper." + NL + "    if (this instanceof ";
-	protected final String TEXT_31 = ") {" + NL
-			+ "    \thelper = (IHelper) ((IAdaptable) this).getAdapter(IHelper.class);" + NL + "    }" + NL
-			+ "    if (null == helper) {" + NL + "      // No helper found yet." + NL
-			+ "      // Ask the platform to get the adapter 'IHelper.class' for current object.";
-	protected final String TEXT_32 = NL + "      ";
-	protected final String TEXT_33 = " adapterManager = ";
-	protected final String TEXT_34 = ".getAdapterManager();" + NL
-			+ "      helper = (IHelper) adapterManager.getAdapter(this, IHelper.class);" + NL + "    }" + NL
-			+ "    if (null == helper) {";
-	protected final String TEXT_35 = " package_l = eClass().getEPackage();" + NL
-			+ "      // Get the root package of the owner package." + NL
-			+ "      EPackage rootPackage = org.polarsys.capella.common.mdsofa.common.helper.EcoreHelper.getRootPackage(package_l);"
-			+ NL
-			+ "      throw new org.polarsys.capella.common.model.helpers.HelperNotFoundException(\"No helper retrieved for nsURI \" + rootPackage.getNsURI()); ";
-	protected final String TEXT_36 = NL + "    } " + NL + "    // A helper is found, let's use it. ";
-	protected final String TEXT_37 = " annotation = ";
-	protected final String TEXT_38 = ".getEAnnotation(org.polarsys.capella.common.model.helpers.IModelConstants.HELPER_ANNOTATION_SOURCE);"
-			+ NL + "    result = helper.getValue(this, ";
-	protected final String TEXT_39 = ", annotation);" + NL + "\t\t";
+	protected final String TEXT_28 = NL + "    // Dispatch to the helper computing the derived property.";
+	protected final String TEXT_29 = NL + "    Object result = ";
+	protected final String TEXT_30 = ".getValue(this, ";
+	protected final String TEXT_39 = ");" + NL + "\t\t";
 	protected final String TEXT_40 = NL + "\t\ttry {" + NL + "\t\t@SuppressWarnings(\"unchecked\")" + NL + "\t\t";
 	protected final String TEXT_41 = ">(this, ";
 	protected final String TEXT_42 = ", resultAsList.size(), resultAsList.toArray());" + NL
@@ -362,25 +342,8 @@ public class ClassgetGenFeatureTODOoverride
 					// Generate The helper framework code.
 					stringBuffer.append(TEXT_28);
 					stringBuffer.append(TEXT_29);
-					stringBuffer.append(genModel.getImportedName("org.polarsys.capella.common.model.helpers.IHelper"));
+					stringBuffer.append(genModel.getImportedName("org.polarsys.capella.common.model.helpers.DerivedFeatureDispatcher"));
 					stringBuffer.append(TEXT_30);
-					stringBuffer.append(genModel.getImportedName("org.eclipse.core.runtime.IAdaptable"));
-					stringBuffer.append(TEXT_31);
-					stringBuffer.append(TEXT_32);
-					stringBuffer.append(genModel.getImportedName("org.eclipse.core.runtime.IAdapterManager"));
-					stringBuffer.append(TEXT_33);
-					stringBuffer.append(genModel.getImportedName("org.eclipse.core.runtime.Platform"));
-					stringBuffer.append(TEXT_34);
-					stringBuffer.append(TEXT_32);
-					stringBuffer.append(genModel.getImportedName("org.eclipse.emf.ecore.EPackage"));
-					stringBuffer.append(TEXT_35);
-					stringBuffer.append(genModel.getNonNLS());
-					stringBuffer.append(TEXT_36);
-					stringBuffer.append(TEXT_29);
-					stringBuffer.append(genModel.getImportedName("org.eclipse.emf.ecore.EAnnotation"));
-					stringBuffer.append(TEXT_37);
-					stringBuffer.append(genFeature.getQualifiedFeatureAccessor());
-					stringBuffer.append(TEXT_38);
 					stringBuffer.append(genFeature.getQualifiedFeatureAccessor());
 					stringBuffer.append(TEXT_39);
 					if (genFeature.isListType()) {
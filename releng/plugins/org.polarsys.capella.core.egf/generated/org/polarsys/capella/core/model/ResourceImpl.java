@@ -63,39 +63,42 @@ public class ResourceImpl extends org.polarsys.kitalpha.emde.egf.model.ResourceC
 			+ "\t  protected void attachedHelper(";
 	protected final String TEXT_27 = " eObject) {" + NL + "\t    // Make sure specified object has its id generated."
 			+ NL + "\t    if (eObject instanceof ";
-	protected final String TEXT_28 = ") {" + NL + "\t      setID(eObject, ((ModelElement) eObject).getId());" + NL
-			+ "\t    } else if (null != eObject && null != eObject.eClass()) {" + NL + "\t      ";
-	protected final String TEXT_29 = " attribute = eObject.eClass().getEIDAttribute();" + NL
+	protected final String TEXT_28 = ") {" + NL + "\t      if (getIDToEObjectMap() instanceof ";
+	protected final String TEXT_29 = ") {" + NL + "\t        ((CompactIdMap) idToEObjectMap).index((ModelElement) eObject);"
+			+ NL + "\t      } else {" + NL + "\t        setID(eObject, ((ModelElement) eObject).getId());" + NL
+			+ "\t      }" + NL + "\t    } else if (null != eObject && null != eObject.eClass()) {" + NL + "\t      ";
+	protected final String TEXT_30 = " attribute = eObject.eClass().getEIDAttribute();" + NL
 			+ "\t      if (attribute != null) {" + NL + "\t        Object id = eObject.eGet(attribute);" + NL
 			+ "\t        if (id instanceof ";
-	protected final String TEXT_30 = ") {" + NL + "\t          setID(eObject, (";
-	protected final String TEXT_31 = ")id);" + NL + "\t        }" + NL + "\t      }" + NL + "\t    }" + NL
+	protected final String TEXT_31 = ") {" + NL + "\t          setID(eObject, (";
+	protected final String TEXT_32 = ")id);" + NL + "\t        }" + NL + "\t      }" + NL + "\t    }" + NL
 			+ "\t    super.attachedHelper(eObject);" + NL + "\t  }" + NL + "      //end-capella-code" + NL + "      "
 			+ NL + "\t/**" + NL + "\t * <!-- begin-user-doc -->" + NL + "\t * <!-- end-user-doc -->" + NL
 			+ "\t * @generated" + NL + "\t */";
-	protected final String TEXT_32 = NL + "\t@Override";
-	protected final String TEXT_33 = NL + "\tprotected ";
-	protected final String TEXT_34 = " createXMLSave() {";
-	protected final String TEXT_35 = NL + "\t\treturn new ";
-	protected final String TEXT_36 = "(createXMLHelper());";
-	protected final String TEXT_37 = NL + "\t}" + NL + "" + NL + "\t/**" + NL + "\t * <!-- begin-user-doc -->" + NL
+	protected final String TEXT_33 = NL + "\t@Override";
+	protected final String TEXT_34 = NL + "\tprotected ";
+	protected final String TEXT_35 = " createXMLSave() {";
+	protected final String TEXT_36 = NL + "\t\treturn new ";
+	protected final String TEXT_37 = "(createXMLHelper());";
+	protected final String TEXT_38 = NL + "\t}" + NL + "" + NL + "\t/**" + NL + "\t * <!-- begin-user-doc -->" + NL
 			+ "\t * <!-- end-user-doc -->" + NL + "\t * @generated" + NL + "\t */";
-	protected final String TEXT_38 = " createXMLHelper() {";
-	protected final String TEXT_39 = "(this);";
-	protected final String TEXT_40 = "\t" + NL + "\t}" + NL + "\t" + NL + "\t/**" + NL + "\t * <!-- begin-user-doc -->"
+	protected final String TEXT_39 = " createXMLHelper() {";
+	protected final String TEXT_40 = "(this);";
+	protected final String TEXT_41 = "\t" + NL + "\t}" + NL + "\t" + NL + "\t/**" + NL + "\t * <!-- begin-user-doc -->"
 			+ NL + "\t * <!-- end-user-doc -->" + NL + "\t * @generated" + NL + "\t */";
-	protected final String TEXT_41 = " createXMLLoad() {";
-	protected final String TEXT_42 = "((";
-	protected final String TEXT_43 = ") createXMLHelper());";
-	protected final String TEXT_44 = "\t" + NL + "\t}\t";
-	protected final String TEXT_45 = NL + NL + "\t/**" + NL + "\t * <!-- begin-user-doc -->" + NL
+	protected final String TEXT_42 = " createXMLLoad() {";
+	protected final String TEXT_43 = "((";
+	protected final String TEXT_44 = ") createXMLHelper());";
+	protected final String TEXT_45 = "\t" + NL + "\t}\t";
+	protected final String TEXT_46 = NL + NL + "\t/**" + NL + "\t * <!-- begin-user-doc -->" + NL
 			+ "\t * <!-- end-user-doc -->" + NL + "\t * @generated" + NL + "\t */";
-	protected final String TEXT_46 = NL + "\tprotected boolean useIDAttributes() {" + NL + "\t\treturn false;" + NL
+	protected final String TEXT_47 = NL + "\tprotected boolean useIDAttributes() {" + NL + "\t\treturn false;" + NL
 			+ "\t}";
-	protected final String TEXT_47 = NL + "\tprotected boolean useUUIDs() {" + NL + "\t\treturn true;" + NL + "\t}";
-	protected final String TEXT_48 = NL + "\tprotected void init() {" + NL + "\t\tsuper.init();" + NL;
-	protected final String TEXT_49 = NL + "\t\tsetTrackingModification(true);";
-	protected final String TEXT_50 = NL + "\t\t// Save Options" + NL
+	protected final String TEXT_48 = NL + "\tprotected boolean useUUIDs() {" + NL + "\t\treturn true;" + NL + "\t}";
+	protected final String TEXT_49 = NL + "\tprotected void init() {" + NL + "\t\tsuper.init();" + NL
+			+ "\t\tif (CompactId.isEnabled()) {" + NL + "\t\t\tidToEObjectMap = new CompactIdMap();" + NL + "\t\t}" + NL;
+	protected final String TEXT_50 = NL + "\t\tsetTrackingModification(true);";
+	protected final String TEXT_51 = NL + "\t\t// Save Options" + NL
 			+ "\t\tgetDefaultSaveOptions().put(XMLResource.OPTION_ENCODING, \"UTF-8\");  //$NON-NLS-1$" + NL
 			+ "\t\tgetDefaultSaveOptions().put(XMLResource.OPTION_CONFIGURATION_CACHE, Boolean.TRUE);" + NL
 			+ "\t\tgetDefaultSaveOptions().put(XMLResource.OPTION_USE_CACHED_LOOKUP_TABLE, lookupTable);    " + NL
@@ -117,45 +120,79 @@ public class ResourceImpl extends org.polarsys.kitalpha.emde.egf.model.ResourceC
 			+ "\t * <!-- end-user-doc -->" + NL + "\t * " + NL
 			+ "\t * @see org.eclipse.emf.ecore.xmi.impl.XMLResourceImpl#getEObjectByID(java.lang.String)" + NL
 			+ "\t * @generated" + NL + "\t */";
-	protected final String TEXT_51 = " getEObjectByID(String id) {" + NL + "\t\tif (idToEObjectMap == null)" + NL
+	protected final String TEXT_52 = " getEObjectByID(String id) {" + NL + "\t\tif (idToEObjectMap == null)" + NL
 			+ "\t\t\treturn super.getEObjectByID(id);" + NL + "\t\treturn getIDToEObjectMap().get(id);" + NL + "\t}"
 			+ NL + "" + NL + "\t/**" + NL + "\t * <!-- begin-user-doc -->" + NL + "\t * <!-- end-user-doc -->" + NL
 			+ "\t * " + NL + "\t * @see org.eclipse.emf.ecore.resource.impl.ResourceImpl#getIntrinsicIDToEObjectMap()"
 			+ NL + "\t * @generated" + NL + "\t */";
-	protected final String TEXT_52 = NL + "\t@SuppressWarnings(\"unchecked\")" + NL + "\tpublic ";
-	protected final String TEXT_53 = " getIntrinsicIDToEObjectMap() {" + NL + "\t\treturn getIDToEObjectMap();" + NL
+	protected final String TEXT_53 = NL + "\t@SuppressWarnings(\"unchecked\")" + NL + "\tpublic ";
+	protected final String TEXT_54 = " getIntrinsicIDToEObjectMap() {" + NL + "\t\treturn getIDToEObjectMap();" + NL
 			+ "\t}" + NL + "" + NL + "\t/**" + NL + "\t * <!-- begin-user-doc -->" + NL + "\t * <!-- end-user-doc -->"
 			+ NL + "\t * " + NL + "\t * @see org.eclipse.emf.ecore.xmi.impl.XMLResourceImpl#doUnload()" + NL
 			+ "\t * @generated" + NL + "\t */";
-	protected final String TEXT_54 = NL + "\tprotected void doUnload() {" + NL + "\t\tsuper.doUnload();" + NL
-			+ "\t\tthis.idToEObjectMap = null;" + NL + "\t}" + NL + "" + NL + "\t/**" + NL
+	protected final String TEXT_55 = NL + "\tprotected void doUnload() {" + NL + "\t\tsuper.doUnload();" + NL
+			+ "\t\tthis.idToEObjectMap = CompactId.isEnabled() ? new CompactIdMap() : null;" + NL + "\t}" + NL + "" + NL + "\t/**" + NL
 			+ "\t * <!-- begin-user-doc -->" + NL + "\t * <!-- end-user-doc -->" + NL + "\t * " + NL
 			+ "\t * @see org.eclipse.emf.ecore.resource.impl.ResourceImpl#setLoaded()" + NL + "\t * @generated" + NL
 			+ "\t */";
-	protected final String TEXT_55 = " setLoaded(boolean isLoaded) {" + NL + "\t\treturn super.setLoaded(isLoaded);"
-			+ NL + "\t}" + NL + "\t//end-capella-code";
-	protected final String TEXT_56 = NL + "\t/**" + NL
+	protected final String TEXT_56 = " setLoaded(boolean isLoaded) {" + NL + "\t\treturn super.setLoaded(isLoaded);"
+			+ NL + "\t}" + NL + "" + NL + "\t/**" + NL + "\t * <!-- begin-user-doc -->" + NL
+			+ "\t * Model elements are indexed by the compact form of their id when {@link CompactId#isEnabled() enabled}."
+			+ NL + "\t * <!-- end-user-doc -->" + NL + "\t * " + NL
+			+ "\t * @see org.eclipse.emf.ecore.xmi.impl.XMLResourceImpl#getIDToEObjectMap()" + NL + "\t * @generated"
+			+ NL + "\t */";
+	protected final String TEXT_57 = NL + "\tpublic ";
+	protected final String TEXT_58 = "<String, ";
+	protected final String TEXT_59 = "> getIDToEObjectMap() {" + NL + "\t\tif (idToEObjectMap == null && ";
+	protected final String TEXT_60 = ".isEnabled()) {" + NL + "\t\t\tidToEObjectMap = new ";
+	protected final String TEXT_61 = "();" + NL + "\t\t}" + NL + "\t\treturn super.getIDToEObjectMap();" + NL + "\t}"
+			+ NL + "" + NL + "\t/**" + NL + "\t * <!-- begin-user-doc -->" + NL + "\t * <!-- end-user-doc -->" + NL
+			+ "\t * " + NL
+			+ "\t * @see org.eclipse.emf.ecore.xmi.impl.XMLResourceImpl#setID(org.eclipse.emf.ecore.EObject, java.lang.String)"
+			+ NL + "\t * @generated" + NL + "\t */";
+	protected final String TEXT_62 = NL + "\tpublic void setID(";
+	protected final String TEXT_63 = " eObject, String id) {" + NL + "\t\tif (eObject instanceof ";
+	protected final String TEXT_64 = " && getIDToEObjectMap() instanceof CompactIdMap) {" + NL
+			+ "\t\t\t((CompactIdMap) idToEObjectMap).setID((ModelElement) eObject, id);" + NL + "\t\t} else {" + NL
+			+ "\t\t\tsuper.setID(eObject, id);" + NL + "\t\t}" + NL + "\t}" + NL + "" + NL + "\t/**" + NL
+			+ "\t * <!-- begin-user-doc -->" + NL + "\t * <!-- end-user-doc -->" + NL + "\t * " + NL
+			+ "\t * @see org.eclipse.emf.ecore.xmi.impl.XMLResourceImpl#getID(org.eclipse.emf.ecore.EObject)" + NL
+			+ "\t * @generated" + NL + "\t */";
+	protected final String TEXT_65 = NL + "\tpublic String getID(";
+	protected final String TEXT_66 = " eObject) {" + NL
+			+ "\t\tif (eObject instanceof ModelElement && idToEObjectMap instanceof CompactIdMap) {" + NL
+			+ "\t\t\treturn ((CompactIdMap) idToEObjectMap).getID((ModelElement) eObject);" + NL + "\t\t}" + NL
+			+ "\t\treturn super.getID(eObject);" + NL + "\t}" + NL + "" + NL + "\t/**" + NL
+			+ "\t * <!-- begin-user-doc -->" + NL + "\t * <!-- end-user-doc -->" + NL + "\t * " + NL
+			+ "\t * @see org.eclipse.emf.ecore.xmi.impl.XMLResourceImpl#detachedHelper(org.eclipse.emf.ecore.EObject)"
+			+ NL + "\t * @generated" + NL + "\t */";
+	protected final String TEXT_67 = NL + "\tprotected void detachedHelper(";
+	protected final String TEXT_68 = " eObject) {" + NL
+			+ "\t\tif (eObject instanceof ModelElement && idToEObjectMap instanceof CompactIdMap) {" + NL
+			+ "\t\t\t((CompactIdMap) idToEObjectMap).setID((ModelElement) eObject, null);" + NL + "\t\t}" + NL
+			+ "\t\tsuper.detachedHelper(eObject);" + NL + "\t}" + NL + "\t//end-capella-code";
+	protected final String TEXT_69 = NL + "\t/**" + NL
 			+ "\t * A load option that turns of the use of the generate data converters." + NL
 			+ "\t * <!-- begin-user-doc -->" + NL + "\t * <!-- end-user-doc -->" + NL + "\t * @generated" + NL + "\t */"
 			+ NL + "\tpublic static final String OPTION_USE_DATA_CONVERTER = \"USE_DATA_CONVERTER\";" + NL + "" + NL
 			+ "\t/**" + NL + "\t * <!-- begin-user-doc -->" + NL + "\t * <!-- end-user-doc -->" + NL + "\t * @generated"
 			+ NL + "\t */";
-	protected final String TEXT_57 = NL + "\tpublic void doLoad(InputStream inputStream, ";
-	protected final String TEXT_58 = " options) throws IOException" + NL + "\t{" + NL
+	protected final String TEXT_70 = NL + "\tpublic void doLoad(InputStream inputStream, ";
+	protected final String TEXT_71 = " options) throws IOException" + NL + "\t{" + NL
 			+ "\t\tif (options != null && Boolean.TRUE.equals(options.get(OPTION_USE_DATA_CONVERTER)))" + NL + "\t\t{"
 			+ NL + "\t\t  getContents().add" + NL + "\t\t\t (load" + NL + "\t\t\t\t (new InputSource(inputStream), "
 			+ NL + "\t\t\t\t  (";
-	protected final String TEXT_59 = ")options.get(XMLResource.OPTION_PARSER_FEATURES), " + NL + "\t\t\t\t  (";
-	protected final String TEXT_60 = ")options.get(XMLResource.OPTION_PARSER_PROPERTIES), " + NL
+	protected final String TEXT_72 = ")options.get(XMLResource.OPTION_PARSER_FEATURES), " + NL + "\t\t\t\t  (";
+	protected final String TEXT_73 = ")options.get(XMLResource.OPTION_PARSER_PROPERTIES), " + NL
 			+ "\t\t\t\t  Boolean.TRUE.equals(options.get(XMLResource.OPTION_USE_LEXICAL_HANDLER))).eContainer());" + NL
 			+ "\t\t}" + NL + "\t\telse" + NL + "\t\t{  " + NL + "\t\t\tsuper.doLoad(inputStream, options);" + NL
 			+ "\t\t}" + NL + "\t}" + NL + "" + NL + "\t/**" + NL + "\t * <!-- begin-user-doc -->" + NL
 			+ "\t * <!-- end-user-doc -->" + NL + "\t * @generated" + NL + "\t */";
-	protected final String TEXT_61 = NL + "\tpublic void doLoad(InputSource inputSource, ";
-	protected final String TEXT_62 = " options) throws IOException" + NL + "\t{" + NL
+	protected final String TEXT_74 = NL + "\tpublic void doLoad(InputSource inputSource, ";
+	protected final String TEXT_75 = " options) throws IOException" + NL + "\t{" + NL
 			+ "\t\tif (options != null && Boolean.TRUE.equals(options.get(OPTION_USE_DATA_CONVERTER)))" + NL + "\t\t{"
 			+ NL + "\t\t  getContents().add" + NL + "\t\t\t (load" + NL + "\t\t\t\t (inputSource," + NL + "\t\t\t\t  (";
-	protected final String TEXT_63 = ")options.get(XMLResource.OPTION_PARSER_PROPERTIES), " + NL
+	protected final String TEXT_76 = ")options.get(XMLResource.OPTION_PARSER_PROPERTIES), " + NL
 			+ "\t\t\t\t  Boolean.TRUE.equals(options.get(XMLResource.OPTION_USE_LEXICAL_HANDLER))).eContainer());" + NL
 			+ "\t\t}" + NL + "\t\telse" + NL + "\t\t{  " + NL + "\t\t\tsuper.doLoad(inputSource, options);" + NL
 			+ "\t\t}" + NL + "\t}" + NL + "" + NL + "\t/**" + NL + "\t * <!-- begin-user-doc -->" + NL
@@ -169,151 +206,151 @@ public class ResourceImpl extends org.polarsys.kitalpha.emde.egf.model.ResourceC
 			+ "\t * @return the root object; for the case of a document root, the child of that document root is return."
 			+ NL + "\t * @throws ParserConfigurationException" + NL + "\t * @throws SAXException" + NL
 			+ "\t * @generated" + NL + "\t */" + NL + "\tpublic static EObject load(InputSource inputSource, ";
-	protected final String TEXT_64 = " features, ";
-	protected final String TEXT_65 = " properties, boolean useLexicalHandler) throws IOException" + NL + "\t{" + NL
+	protected final String TEXT_77 = " features, ";
+	protected final String TEXT_78 = " properties, boolean useLexicalHandler) throws IOException" + NL + "\t{" + NL
 			+ "\t\t";
-	protected final String TEXT_66 = " requiredFeatures = new ";
-	protected final String TEXT_67 = "();" + NL
+	protected final String TEXT_79 = " requiredFeatures = new ";
+	protected final String TEXT_80 = "();" + NL
 			+ "\t\trequiredFeatures.put(\"http://xml.org/sax/features/namespaces\", Boolean.TRUE); " + NL
 			+ "\t\tif (features != null)" + NL + "\t\t{" + NL + "\t\t\trequiredFeatures.putAll(features);" + NL
 			+ "\t\t}" + NL + "\t\t" + NL + "\t\tif (properties == null)" + NL + "\t\t{" + NL
 			+ "\t\t\tproperties = Collections.";
-	protected final String TEXT_68 = "emptyMap()";
-	protected final String TEXT_69 = "EMPTY_MAP";
-	protected final String TEXT_70 = ";" + NL + "\t\t}" + NL + "\t\t" + NL + "\t\tSAXParser saxParser = null;" + NL
+	protected final String TEXT_81 = "emptyMap()";
+	protected final String TEXT_82 = "EMPTY_MAP";
+	protected final String TEXT_83 = ";" + NL + "\t\t}" + NL + "\t\t" + NL + "\t\tSAXParser saxParser = null;" + NL
 			+ "\t\ttry" + NL + "\t\t{" + NL
 			+ "\t\t\tsaxParser = parserPool.get(requiredFeatures, properties, useLexicalHandler);" + NL
 			+ "\t\t\tfinal FrameFactory.DocumentRootStackFrame documentRoot = FrameFactory.INSTANCE.pushDocumentRoot(null, null);"
 			+ NL + "\t\t\tXMLTypeResourceImpl.Handler handler = new XMLTypeResourceImpl.Handler(documentRoot);" + NL
 			+ "\t\t\tsaxParser.parse(inputSource, handler);";
-	protected final String TEXT_71 = NL
+	protected final String TEXT_84 = NL
 			+ "\t\t\treturn (EObject)((EObject)FrameFactory.INSTANCE.popDocumentRoot(documentRoot)).eContents().get(0);";
-	protected final String TEXT_72 = NL
+	protected final String TEXT_85 = NL
 			+ "\t\t\treturn FrameFactory.INSTANCE.popDocumentRoot(documentRoot).eContents().get(0);";
-	protected final String TEXT_73 = NL + "\t\t}" + NL + "\t\tcatch (Exception exception)" + NL + "\t\t{" + NL
+	protected final String TEXT_86 = NL + "\t\t}" + NL + "\t\tcatch (Exception exception)" + NL + "\t\t{" + NL
 			+ "\t\t\tthrow new IOWrappedException(exception);" + NL + "\t\t}" + NL + "\t\tfinally" + NL + "\t\t{" + NL
 			+ "\t\t\tparserPool.release(saxParser, requiredFeatures, properties, useLexicalHandler);" + NL + "\t\t}"
 			+ NL + "\t}" + NL;
-	protected final String TEXT_74 = NL + "\t/**" + NL + "\t * <!-- begin-user-doc -->" + NL
+	protected final String TEXT_87 = NL + "\t/**" + NL + "\t * <!-- begin-user-doc -->" + NL
 			+ "\t * <!-- end-user-doc -->" + NL + "\t * @generated" + NL + "\t */" + NL
 			+ "\tpublic final static class FrameFactory" + NL + "\t{" + NL + "\t\t/**" + NL
 			+ "\t\t * <!-- begin-user-doc -->" + NL + "\t\t * <!-- end-user-doc -->" + NL + "\t\t * @generated" + NL
 			+ "\t\t */" + NL + "\t\tpublic static final FrameFactory INSTANCE = new FrameFactory();" + NL + "\t";
-	protected final String TEXT_75 = NL + "\t\t/**" + NL + "\t\t * <!-- begin-user-doc -->" + NL
+	protected final String TEXT_88 = NL + "\t\t/**" + NL + "\t\t * <!-- begin-user-doc -->" + NL
 			+ "\t\t * <!-- end-user-doc -->" + NL + "\t\t * @generated" + NL + "\t\t */" + NL + "\t\tprotected ";
-	protected final String TEXT_76 = "StackFrame ";
-	protected final String TEXT_77 = " ";
-	protected final String TEXT_78 = NL + "\t\t/**" + NL + "\t\t * <!-- begin-user-doc -->" + NL
+	protected final String TEXT_89 = "StackFrame ";
+	protected final String TEXT_90 = " ";
+	protected final String TEXT_91 = NL + "\t\t/**" + NL + "\t\t * <!-- begin-user-doc -->" + NL
 			+ "\t\t * <!-- end-user-doc -->" + NL + "\t\t * @generated" + NL + "\t\t */" + NL + "\t\tpublic ";
-	protected final String TEXT_79 = "StackFrame push";
-	protected final String TEXT_80 = "(";
-	protected final String TEXT_81 = " previous, Attributes attributes)" + NL + "\t\t{" + NL + "\t\t\t ";
-	protected final String TEXT_82 = "StackFrame result";
-	protected final String TEXT_83 = " = ";
-	protected final String TEXT_84 = " == null ? new ";
-	protected final String TEXT_85 = "StackFrame() : ";
-	protected final String TEXT_86 = ";" + NL + "\t\t\t ";
-	protected final String TEXT_87 = " = null;" + NL + "\t\t\t result";
-	protected final String TEXT_88 = ".pushOnto(previous);" + NL + "\t\t\t result";
-	protected final String TEXT_89 = ".handleAttributes(attributes);" + NL + "\t\t\t return result";
-	protected final String TEXT_90 = ";" + NL + "\t\t}" + NL + "" + NL + "\t\t/**" + NL
+	protected final String TEXT_92 = "StackFrame push";
+	protected final String TEXT_93 = "(";
+	protected final String TEXT_94 = " previous, Attributes attributes)" + NL + "\t\t{" + NL + "\t\t\t ";
+	protected final String TEXT_95 = "StackFrame result";
+	protected final String TEXT_96 = " = ";
+	protected final String TEXT_97 = " == null ? new ";
+	protected final String TEXT_98 = "StackFrame() : ";
+	protected final String TEXT_99 = ";" + NL + "\t\t\t ";
+	protected final String TEXT_100 = " = null;" + NL + "\t\t\t result";
+	protected final String TEXT_101 = ".pushOnto(previous);" + NL + "\t\t\t result";
+	protected final String TEXT_102 = ".handleAttributes(attributes);" + NL + "\t\t\t return result";
+	protected final String TEXT_103 = ";" + NL + "\t\t}" + NL + "" + NL + "\t\t/**" + NL
 			+ "\t\t * <!-- begin-user-doc -->" + NL + "\t\t * <!-- end-user-doc -->" + NL + "\t\t * @generated" + NL
 			+ "\t\t */" + NL + "\t\tpublic ";
-	protected final String TEXT_91 = " pop";
-	protected final String TEXT_92 = ")" + NL + "\t\t{" + NL + "\t\t\t";
-	protected final String TEXT_93 = " result";
-	protected final String TEXT_94 = "Value = ";
-	protected final String TEXT_95 = ".pop";
-	protected final String TEXT_96 = "();" + NL + "\t\t\tthis.";
-	protected final String TEXT_97 = ";" + NL + "\t\t\treturn result";
-	protected final String TEXT_98 = "Value;" + NL + "\t\t}" + NL + "" + NL + "\t\t/**" + NL
+	protected final String TEXT_104 = " pop";
+	protected final String TEXT_105 = ")" + NL + "\t\t{" + NL + "\t\t\t";
+	protected final String TEXT_106 = " result";
+	protected final String TEXT_107 = "Value = ";
+	protected final String TEXT_108 = ".pop";
+	protected final String TEXT_109 = "();" + NL + "\t\t\tthis.";
+	protected final String TEXT_110 = ";" + NL + "\t\t\treturn result";
+	protected final String TEXT_111 = "Value;" + NL + "\t\t}" + NL + "" + NL + "\t\t/**" + NL
 			+ "\t\t * <!-- begin-user-doc -->" + NL + "\t\t * <!-- end-user-doc -->" + NL + "\t\t * @generated" + NL
 			+ "\t\t */" + NL + "\t\tpublic static class ";
-	protected final String TEXT_99 = "StackFrame extends ";
-	protected final String TEXT_100 = NL + "\t\t{" + NL + "\t\t\t/**" + NL + "\t\t\t * <!-- begin-user-doc -->" + NL
+	protected final String TEXT_112 = "StackFrame extends ";
+	protected final String TEXT_113 = NL + "\t\t{" + NL + "\t\t\t/**" + NL + "\t\t\t * <!-- begin-user-doc -->" + NL
 			+ "\t\t\t * <!-- end-user-doc -->" + NL + "\t\t\t * @generated" + NL + "\t\t\t */" + NL
 			+ "\t\t\tprotected ";
-	protected final String TEXT_101 = " the";
-	protected final String TEXT_102 = ";" + NL + "\t\t";
-	protected final String TEXT_103 = NL + "\t\t\t/**" + NL + "\t\t\t * <!-- begin-user-doc -->" + NL
+	protected final String TEXT_114 = " the";
+	protected final String TEXT_115 = ";" + NL + "\t\t";
+	protected final String TEXT_116 = NL + "\t\t\t/**" + NL + "\t\t\t * <!-- begin-user-doc -->" + NL
 			+ "\t\t\t * <!-- end-user-doc -->" + NL + "\t\t\t * @generated" + NL + "\t\t\t */" + NL
 			+ "\t\t\tprotected ";
-	protected final String TEXT_104 = ".FrameFactory.";
-	protected final String TEXT_105 = NL + "\t\t\t/**" + NL + "\t\t\t * <!-- begin-user-doc -->" + NL
+	protected final String TEXT_117 = ".FrameFactory.";
+	protected final String TEXT_118 = NL + "\t\t\t/**" + NL + "\t\t\t * <!-- begin-user-doc -->" + NL
 			+ "\t\t\t * <!-- end-user-doc -->" + NL + "\t\t\t * @generated" + NL + "\t\t\t */";
-	protected final String TEXT_106 = NL + "\t\t\t@Override";
-	protected final String TEXT_107 = NL + "\t\t\tpublic void handleAttributes(Attributes attributes)" + NL + "\t\t\t{";
-	protected final String TEXT_108 = NL + "\t\t\t\tString theValue = attributes.getValue(";
-	protected final String TEXT_109 = ", \"";
-	protected final String TEXT_110 = "\");";
-	protected final String TEXT_111 = NL + "\t\t\t\ttheValue = attributes.getValue(";
-	protected final String TEXT_112 = NL + "\t\t\t\tif (theValue != null)" + NL + "\t\t\t\t{";
-	protected final String TEXT_113 = NL + "\t\t\t\t\tthe";
-	protected final String TEXT_114 = ".set";
-	protected final String TEXT_115 = ".create";
-	protected final String TEXT_116 = "(theValue));";
-	protected final String TEXT_117 = ")";
-	protected final String TEXT_118 = ".createFromString(";
-	protected final String TEXT_119 = ", theValue));";
-	protected final String TEXT_120 = NL + "\t\t\t\t}";
-	protected final String TEXT_121 = NL + "\t\t\t\t// There are attributes to handle.";
-	protected final String TEXT_122 = NL + "\t\t\t}" + NL + "\t\t" + NL + "\t\t\t/**" + NL
+	protected final String TEXT_119 = NL + "\t\t\t@Override";
+	protected final String TEXT_120 = NL + "\t\t\tpublic void handleAttributes(Attributes attributes)" + NL + "\t\t\t{";
+	protected final String TEXT_121 = NL + "\t\t\t\tString theValue = attributes.getValue(";
+	protected final String TEXT_122 = ", \"";
+	protected final String TEXT_123 = "\");";
+	protected final String TEXT_124 = NL + "\t\t\t\ttheValue = attributes.getValue(";
+	protected final String TEXT_125 = NL + "\t\t\t\tif (theValue != null)" + NL + "\t\t\t\t{";
+	protected final String TEXT_126 = NL + "\t\t\t\t\tthe";
+	protected final String TEXT_127 = ".set";
+	protected final String TEXT_128 = ".create";
+	protected final String TEXT_129 = "(theValue));";
+	protected final String TEXT_130 = ")";
+	protected final String TEXT_131 = ".createFromString(";
+	protected final String TEXT_132 = ", theValue));";
+	protected final String TEXT_133 = NL + "\t\t\t\t}";
+	protected final String TEXT_134 = NL + "\t\t\t\t// There are attributes to handle.";
+	protected final String TEXT_135 = NL + "\t\t\t}" + NL + "\t\t" + NL + "\t\t\t/**" + NL
 			+ "\t\t\t * <!-- begin-user-doc -->" + NL + "\t\t\t * <!-- end-user-doc -->" + NL + "\t\t\t * @generated"
 			+ NL + "\t\t\t */";
-	protected final String TEXT_123 = NL + "\t\t\tpublic ";
-	protected final String TEXT_124 = " startElement(String namespace, String localName, String qName, Attributes attributes) throws SAXException"
+	protected final String TEXT_136 = NL + "\t\t\tpublic ";
+	protected final String TEXT_137 = " startElement(String namespace, String localName, String qName, Attributes attributes) throws SAXException"
 			+ NL + "\t\t\t{";
-	protected final String TEXT_125 = NL + "\t\t\t\t";
-	protected final String TEXT_126 = "else ";
-	protected final String TEXT_127 = "if (\"";
-	protected final String TEXT_128 = "\".equals(localName) && ";
-	protected final String TEXT_129 = ".equals(namespace))" + NL + "\t\t\t\t{" + NL + "\t\t\t\t\treturn ";
-	protected final String TEXT_130 = ".FrameFactory.INSTANCE.push";
-	protected final String TEXT_131 = "(this, attributes);" + NL + "\t\t\t\t}";
-	protected final String TEXT_132 = NL
+	protected final String TEXT_138 = NL + "\t\t\t\t";
+	protected final String TEXT_139 = "else ";
+	protected final String TEXT_140 = "if (\"";
+	protected final String TEXT_141 = "\".equals(localName) && ";
+	protected final String TEXT_142 = ".equals(namespace))" + NL + "\t\t\t\t{" + NL + "\t\t\t\t\treturn ";
+	protected final String TEXT_143 = ".FrameFactory.INSTANCE.push";
+	protected final String TEXT_144 = "(this, attributes);" + NL + "\t\t\t\t}";
+	protected final String TEXT_145 = NL
 			+ "\t\t\t\treturn super.startElement(namespace, localName, qName, attributes);";
-	protected final String TEXT_133 = NL + "\t\t\t\telse" + NL + "\t\t\t\t{" + NL
+	protected final String TEXT_146 = NL + "\t\t\t\telse" + NL + "\t\t\t\t{" + NL
 			+ "\t\t\t\t\treturn super.startElement(namespace, localName, qName, attributes);" + NL + "\t\t\t\t}";
-	protected final String TEXT_134 = NL + "\t\t\t}" + NL + "" + NL + "\t\t\t/**" + NL
+	protected final String TEXT_147 = NL + "\t\t\t}" + NL + "" + NL + "\t\t\t/**" + NL
 			+ "\t\t\t * <!-- begin-user-doc -->" + NL + "\t\t\t * <!-- end-user-doc -->" + NL + "\t\t\t * @generated"
 			+ NL + "\t\t\t */";
-	protected final String TEXT_135 = NL + "\t\t\tpublic void endElement(";
-	protected final String TEXT_136 = " child) throws SAXException" + NL + "\t\t\t{";
-	protected final String TEXT_137 = "if (child == ";
-	protected final String TEXT_138 = ")" + NL + "\t\t\t\t{";
-	protected final String TEXT_139 = ".";
-	protected final String TEXT_140 = "().add(";
-	protected final String TEXT_141 = ".FrameFactory.INSTANCE.pop";
-	protected final String TEXT_142 = "));";
-	protected final String TEXT_143 = NL + "\t\t\t\t\t";
-	protected final String TEXT_144 = " = null;" + NL + "\t\t\t\t}";
-	protected final String TEXT_145 = NL + "\t\t\t\tsuper.endElement(child);";
-	protected final String TEXT_146 = NL + "\t\t\t\telse" + NL + "\t\t\t\t{" + NL + "\t\t\t\t\tsuper.endElement(child);"
+	protected final String TEXT_148 = NL + "\t\t\tpublic void endElement(";
+	protected final String TEXT_149 = " child) throws SAXException" + NL + "\t\t\t{";
+	protected final String TEXT_150 = "if (child == ";
+	protected final String TEXT_151 = ")" + NL + "\t\t\t\t{";
+	protected final String TEXT_152 = ".";
+	protected final String TEXT_153 = "().add(";
+	protected final String TEXT_154 = ".FrameFactory.INSTANCE.pop";
+	protected final String TEXT_155 = "));";
+	protected final String TEXT_156 = NL + "\t\t\t\t\t";
+	protected final String TEXT_157 = " = null;" + NL + "\t\t\t\t}";
+	protected final String TEXT_158 = NL + "\t\t\t\tsuper.endElement(child);";
+	protected final String TEXT_159 = NL + "\t\t\t\telse" + NL + "\t\t\t\t{" + NL + "\t\t\t\t\tsuper.endElement(child);"
 			+ NL + "\t\t\t\t}";
-	protected final String TEXT_147 = NL + "\t\t\tpublic void create()" + NL + "\t\t\t{" + NL + "\t\t\t\tthe";
-	protected final String TEXT_148 = "();" + NL + "\t\t\t}" + NL + "\t\t" + NL + "\t\t\t/**" + NL
+	protected final String TEXT_160 = NL + "\t\t\tpublic void create()" + NL + "\t\t\t{" + NL + "\t\t\t\tthe";
+	protected final String TEXT_161 = "();" + NL + "\t\t\t}" + NL + "\t\t" + NL + "\t\t\t/**" + NL
 			+ "\t\t\t * <!-- begin-user-doc -->" + NL + "\t\t\t * <!-- end-user-doc -->" + NL + "\t\t\t * @generated"
 			+ NL + "\t\t\t */" + NL + "\t\t\tprotected ";
-	protected final String TEXT_149 = "()" + NL + "\t\t\t{" + NL + "\t\t\t\tpop();" + NL + "\t\t\t\t";
-	protected final String TEXT_150 = "Value = the";
-	protected final String TEXT_151 = ";" + NL + "\t\t\t\tthe";
-	protected final String TEXT_152 = " = null;" + NL + "\t\t\t\treturn result";
-	protected final String TEXT_153 = "Value;" + NL + "\t\t\t}" + NL + "\t\t" + NL + "\t\t}" + NL;
-	protected final String TEXT_154 = " push";
-	protected final String TEXT_155 = "() : ";
-	protected final String TEXT_156 = ")" + NL + "\t\t{";
-	protected final String TEXT_157 = NL + "\t\t\t";
-	protected final String TEXT_158 = ".popValue());";
-	protected final String TEXT_159 = "Value = ((";
-	protected final String TEXT_160 = ", ";
-	protected final String TEXT_161 = ".popValue())).";
-	protected final String TEXT_162 = "();";
-	protected final String TEXT_163 = "Value = (";
-	protected final String TEXT_164 = NL + "\t\t\tthis.";
-	protected final String TEXT_165 = "Value;" + NL + "\t\t}" + NL;
-	protected final String TEXT_166 = NL + "\t}" + NL;
-	protected final String TEXT_167 = NL + "} //";
-	protected final String TEXT_168 = NL;
+	protected final String TEXT_162 = "()" + NL + "\t\t\t{" + NL + "\t\t\t\tpop();" + NL + "\t\t\t\t";
+	protected final String TEXT_163 = "Value = the";
+	protected final String TEXT_164 = ";" + NL + "\t\t\t\tthe";
+	protected final String TEXT_165 = " = null;" + NL + "\t\t\t\treturn result";
+	protected final String TEXT_166 = "Value;" + NL + "\t\t\t}" + NL + "\t\t" + NL + "\t\t}" + NL;
+	protected final String TEXT_167 = " push";
+	protected final String TEXT_168 = "() : ";
+	protected final String TEXT_169 = ")" + NL + "\t\t{";
+	protected final String TEXT_170 = NL + "\t\t\t";
+	protected final String TEXT_171 = ".popValue());";
+	protected final String TEXT_172 = "Value = ((";
+	protected final String TEXT_173 = ", ";
+	protected final String TEXT_174 = ".popValue())).";
+	protected final String TEXT_175 = "();";
+	protected final String TEXT_176 = "Value = (";
+	protected final String TEXT_177 = NL + "\t\t\tthis.";
+	protected final String TEXT_178 = "Value;" + NL + "\t\t}" + NL;
+	protected final String TEXT_179 = NL + "\t}" + NL;
+	protected final String TEXT_180 = NL + "} //";
+	protected final String TEXT_181 = NL;
 
 	public ResourceImpl() {
 		//Here is the constructor
@@ -349,8 +386,8 @@ public class ResourceImpl extends org.polarsys.kitalpha.emde.egf.model.ResourceC
 			ctx.getReporter().executionFinished(OutputManager.computeExecutionOutput(ctx), ctx);
 		}
 
-		stringBuffer.append(TEXT_168);
-		stringBuffer.append(TEXT_168);
+		stringBuffer.append(TEXT_181);
+		stringBuffer.append(TEXT_181);
 		return stringBuffer.toString();
 	}
 
@@ -469,118 +506,155 @@ public class ResourceImpl extends org.polarsys.kitalpha.emde.egf.model.ResourceC
 				stringBuffer.append(
 						genModel.getImportedName("org.polarsys.capella.common.data.modellingcore.ModelElement"));
 				stringBuffer.append(TEXT_28);
-				stringBuffer.append(genModel.getImportedName("org.eclipse.emf.ecore.EAttribute"));
+				stringBuffer.append(
+						genModel.getImportedName("org.polarsys.capella.common.data.core.gen.xmi.impl.CompactIdMap"));
 				stringBuffer.append(TEXT_29);
-				stringBuffer.append(genModel.getImportedName("java.lang.String"));
+				stringBuffer.append(genModel.getImportedName("org.eclipse.emf.ecore.EAttribute"));
 				stringBuffer.append(TEXT_30);
 				stringBuffer.append(genModel.getImportedName("java.lang.String"));
 				stringBuffer.append(TEXT_31);
+				stringBuffer.append(genModel.getImportedName("java.lang.String"));
+				stringBuffer.append(TEXT_32);
 				if (genModel.useClassOverrideAnnotation()) {
-					stringBuffer.append(TEXT_32);
+					stringBuffer.append(TEXT_33);
 				}
-				stringBuffer.append(TEXT_33);
-				stringBuffer.append(genModel.getImportedName("org.eclipse.emf.ecore.xmi.XMLSave"));
 				stringBuffer.append(TEXT_34);
+				stringBuffer.append(genModel.getImportedName("org.eclipse.emf.ecore.xmi.XMLSave"));
+				stringBuffer.append(TEXT_35);
 				if (genPackage.getResource() == GenResourceKind.XML_LITERAL) {
-					stringBuffer.append(TEXT_35);
+					stringBuffer.append(TEXT_36);
 					stringBuffer.append(genModel
 							.getImportedName("org.polarsys.capella.common.data.core.gen.xmi.impl.CapellaXMLSaveImpl"));
-					stringBuffer.append(TEXT_36);
+					stringBuffer.append(TEXT_37);
 				} else {
-					stringBuffer.append(TEXT_35);
+					stringBuffer.append(TEXT_36);
 					stringBuffer.append(genModel
 							.getImportedName("org.polarsys.capella.common.data.core.gen.xmi.impl.CapellaXMLSaveImpl"));
-					stringBuffer.append(TEXT_36);
+					stringBuffer.append(TEXT_37);
 				}
-				stringBuffer.append(TEXT_37);
+				stringBuffer.append(TEXT_38);
 				if (genModel.useClassOverrideAnnotation()) {
-					stringBuffer.append(TEXT_32);
+					stringBuffer.append(TEXT_33);
 				}
-				stringBuffer.append(TEXT_33);
+				stringBuffer.append(TEXT_34);
 				stringBuffer.append(genModel.getImportedName("org.eclipse.emf.ecore.xmi.XMLHelper"));
-				stringBuffer.append(TEXT_38);
+				stringBuffer.append(TEXT_39);
 				if (genPackage.getResource() == GenResourceKind.XML_LITERAL) {
-					stringBuffer.append(TEXT_35);
+					stringBuffer.append(TEXT_36);
 					stringBuffer
 							.append(genModel.getImportedName("org.polarsys.kitalpha.emde.xmi.XMLExtensionHelperImpl"));
-					stringBuffer.append(TEXT_39);
+					stringBuffer.append(TEXT_40);
 				} else {
-					stringBuffer.append(TEXT_35);
+					stringBuffer.append(TEXT_36);
 					stringBuffer
 							.append(genModel.getImportedName("org.polarsys.kitalpha.emde.xmi.XMIExtensionHelperImpl"));
-					stringBuffer.append(TEXT_39);
+					stringBuffer.append(TEXT_40);
 				}
-				stringBuffer.append(TEXT_40);
+				stringBuffer.append(TEXT_41);
 				if (genModel.useClassOverrideAnnotation()) {
-					stringBuffer.append(TEXT_32);
+					stringBuffer.append(TEXT_33);
 				}
-				stringBuffer.append(TEXT_33);
+				stringBuffer.append(TEXT_34);
 				stringBuffer.append(genModel.getImportedName("org.eclipse.emf.ecore.xmi.XMLLoad"));
-				stringBuffer.append(TEXT_41);
+				stringBuffer.append(TEXT_42);
 				if (genPackage.getResource() == GenResourceKind.XML_LITERAL) {
-					stringBuffer.append(TEXT_35);
+					stringBuffer.append(TEXT_36);
 					stringBuffer
 							.append(genModel.getImportedName("org.polarsys.kitalpha.emde.xmi.XMLExtensionLoadImpl"));
-					stringBuffer.append(TEXT_42);
+					stringBuffer.append(TEXT_43);
 					stringBuffer
 							.append(genModel.getImportedName("org.polarsys.kitalpha.emde.xmi.XMLExtensionHelperImpl"));
-					stringBuffer.append(TEXT_43);
+					stringBuffer.append(TEXT_44);
 				} else {
-					stringBuffer.append(TEXT_35);
+					stringBuffer.append(TEXT_36);
 					stringBuffer
 							.append(genModel.getImportedName("org.polarsys.kitalpha.emde.xmi.XMIExtensionLoadImpl"));
-					stringBuffer.append(TEXT_42);
+					stringBuffer.append(TEXT_43);
 					stringBuffer
 							.append(genModel.getImportedName("org.polarsys.kitalpha.emde.xmi.XMIExtensionHelperImpl"));
-					stringBuffer.append(TEXT_43);
+					stringBuffer.append(TEXT_44);
 				}
-				stringBuffer.append(TEXT_44);
+				stringBuffer.append(TEXT_45);
 			}
 			if (ExtensionHelper.isUseIDAttributes(genPackage) == false) {
-				stringBuffer.append(TEXT_45);
+				stringBuffer.append(TEXT_46);
 				if (genModel.useClassOverrideAnnotation()) {
-					stringBuffer.append(TEXT_32);
+					stringBuffer.append(TEXT_33);
 				}
-				stringBuffer.append(TEXT_46);
+				stringBuffer.append(TEXT_47);
 			}
 			if (ExtensionHelper.isUseUUIDS(genPackage)) {
-				stringBuffer.append(TEXT_45);
+				stringBuffer.append(TEXT_46);
 				if (genModel.useClassOverrideAnnotation()) {
-					stringBuffer.append(TEXT_32);
+					stringBuffer.append(TEXT_33);
 				}
-				stringBuffer.append(TEXT_47);
+				stringBuffer.append(TEXT_48);
 			}
-			stringBuffer.append(TEXT_45);
+			stringBuffer.append(TEXT_46);
 			if (genModel.useClassOverrideAnnotation()) {
-				stringBuffer.append(TEXT_32);
+				stringBuffer.append(TEXT_33);
 			}
-			stringBuffer.append(TEXT_48);
+			stringBuffer.append(TEXT_49);
 			if (ExtensionHelper.isTrackResourceModification(genPackage)) {
-				stringBuffer.append(TEXT_49);
+				stringBuffer.append(TEXT_50);
 			}
-			stringBuffer.append(TEXT_50);
+			stringBuffer.append(TEXT_51);
 			if (genModel.useClassOverrideAnnotation()) {
-				stringBuffer.append(TEXT_32);
+				stringBuffer.append(TEXT_33);
 			}
-			stringBuffer.append(TEXT_33);
+			stringBuffer.append(TEXT_34);
 			stringBuffer.append(genModel.getImportedName("org.eclipse.emf.ecore.EObject"));
-			stringBuffer.append(TEXT_51);
+			stringBuffer.append(TEXT_52);
 			if (genModel.useClassOverrideAnnotation()) {
-				stringBuffer.append(TEXT_32);
+				stringBuffer.append(TEXT_33);
 			}
-			stringBuffer.append(TEXT_52);
-			stringBuffer.append(genModel.getImportedName("java.util.Map"));
 			stringBuffer.append(TEXT_53);
+			stringBuffer.append(genModel.getImportedName("java.util.Map"));
+			stringBuffer.append(TEXT_54);
 			if (genModel.useClassOverrideAnnotation()) {
-				stringBuffer.append(TEXT_32);
+				stringBuffer.append(TEXT_33);
 			}
-			stringBuffer.append(TEXT_54);
+			stringBuffer.append(TEXT_55);
 			if (genModel.useClassOverrideAnnotation()) {
-				stringBuffer.append(TEXT_32);
+				stringBuffer.append(TEXT_33);
 			}
-			stringBuffer.append(TEXT_33);
+			stringBuffer.append(TEXT_34);
 			stringBuffer.append(genModel.getImportedName("org.eclipse.emf.common.notify.Notification"));
-			stringBuffer.append(TEXT_55);
+			stringBuffer.append(TEXT_56);
+			if (genModel.useClassOverrideAnnotation()) {
+				stringBuffer.append(TEXT_33);
+			}
+			stringBuffer.append(TEXT_57);
+			stringBuffer.append(genModel.getImportedName("java.util.Map"));
+			stringBuffer.append(TEXT_58);
+			stringBuffer.append(genModel.getImportedName("org.eclipse.emf.ecore.EObject"));
+			stringBuffer.append(TEXT_59);
+			stringBuffer.append(genModel.getImportedName("org.polarsys.capella.common.lib.CompactId"));
+			stringBuffer.append(TEXT_60);
+			stringBuffer
+					.append(genModel.getImportedName("org.polarsys.capella.common.data.core.gen.xmi.impl.CompactIdMap"));
+			stringBuffer.append(TEXT_61);
+			if (genModel.useClassOverrideAnnotation()) {
+				stringBuffer.append(TEXT_33);
+			}
+			stringBuffer.append(TEXT_62);
+			stringBuffer.append(genModel.getImportedName("org.eclipse.emf.ecore.EObject"));
+			stringBuffer.append(TEXT_63);
+			stringBuffer.append(
+					genModel.getImportedName("org.polarsys.capella.common.data.modellingcore.ModelElement"));
+			stringBuffer.append(TEXT_64);
+			if (genModel.useClassOverrideAnnotation()) {
+				stringBuffer.append(TEXT_33);
+			}
+			stringBuffer.append(TEXT_65);
+			stringBuffer.append(genModel.getImportedName("org.eclipse.emf.ecore.EObject"));
+			stringBuffer.append(TEXT_66);
+			if (genModel.useClassOverrideAnnotation()) {
+				stringBuffer.append(TEXT_33);
+			}
+			stringBuffer.append(TEXT_67);
+			stringBuffer.append(genModel.getImportedName("org.eclipse.emf.ecore.EObject"));
+			stringBuffer.append(TEXT_68);
 		}
 		stringBuffer.append(TEXT_14);
 		if (genPackage.isDataTypeConverters() && (genPackage.hasDocumentRoot()
@@ -610,148 +684,148 @@ public class ResourceImpl extends org.polarsys.kitalpha.emde.egf.model.ResourceC
 			String _DataFrame = genModel.getImportedName("org.eclipse.emf.ecore.xml.type.util.XMLTypeResourceImpl")
 					+ ".DataFrame";
 			if (!isXMLTypePackage) {
-				stringBuffer.append(TEXT_56);
+				stringBuffer.append(TEXT_69);
 				if (genModel.useClassOverrideAnnotation()) {
-					stringBuffer.append(TEXT_32);
+					stringBuffer.append(TEXT_33);
 				}
-				stringBuffer.append(TEXT_57);
+				stringBuffer.append(TEXT_70);
 				stringBuffer.append(_Map);
-				stringBuffer.append(TEXT_58);
+				stringBuffer.append(TEXT_71);
 				stringBuffer.append(_MapStringBoolean);
-				stringBuffer.append(TEXT_59);
+				stringBuffer.append(TEXT_72);
 				stringBuffer.append(_MapStringWildcard);
-				stringBuffer.append(TEXT_60);
+				stringBuffer.append(TEXT_73);
 				if (genModel.useClassOverrideAnnotation()) {
-					stringBuffer.append(TEXT_32);
+					stringBuffer.append(TEXT_33);
 				}
-				stringBuffer.append(TEXT_61);
+				stringBuffer.append(TEXT_74);
 				stringBuffer.append(_Map);
-				stringBuffer.append(TEXT_62);
+				stringBuffer.append(TEXT_75);
 				stringBuffer.append(_MapStringBoolean);
-				stringBuffer.append(TEXT_59);
+				stringBuffer.append(TEXT_72);
 				stringBuffer.append(_MapStringWildcard);
-				stringBuffer.append(TEXT_63);
+				stringBuffer.append(TEXT_76);
 				stringBuffer.append(_MapStringBoolean);
-				stringBuffer.append(TEXT_64);
+				stringBuffer.append(TEXT_77);
 				stringBuffer.append(_MapStringWildcard);
-				stringBuffer.append(TEXT_65);
+				stringBuffer.append(TEXT_78);
 				stringBuffer.append(_MapStringBoolean);
-				stringBuffer.append(TEXT_66);
+				stringBuffer.append(TEXT_79);
 				stringBuffer.append(_MapStringBoolean.replaceAll("Map", "HashMap"));
-				stringBuffer.append(TEXT_67);
+				stringBuffer.append(TEXT_80);
 				if (genModel.useGenerics()) {
-					stringBuffer.append(TEXT_68);
+					stringBuffer.append(TEXT_81);
 				} else {
-					stringBuffer.append(TEXT_69);
+					stringBuffer.append(TEXT_82);
 				}
-				stringBuffer.append(TEXT_70);
+				stringBuffer.append(TEXT_83);
 				if (genModel.isSuppressEMFTypes()) {
-					stringBuffer.append(TEXT_71);
+					stringBuffer.append(TEXT_84);
 				} else {
-					stringBuffer.append(TEXT_72);
+					stringBuffer.append(TEXT_85);
 				}
-				stringBuffer.append(TEXT_73);
+				stringBuffer.append(TEXT_86);
 			}
-			stringBuffer.append(TEXT_74);
+			stringBuffer.append(TEXT_87);
 			for (GenClass genClass : genPackage.getGenClasses()) {
-				stringBuffer.append(TEXT_75);
+				stringBuffer.append(TEXT_88);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_76);
+				stringBuffer.append(TEXT_89);
 				stringBuffer.append(genClass.getSafeUncapName());
 				stringBuffer.append(TEXT_3);
 			}
 			for (GenDataType genDataType : genPackage.getAllGenDataTypes()) {
-				stringBuffer.append(TEXT_75);
+				stringBuffer.append(TEXT_88);
 				stringBuffer.append(_DataFrame);
-				stringBuffer.append(TEXT_77);
+				stringBuffer.append(TEXT_90);
 				stringBuffer.append(genDataType.getSafeUncapName());
 				stringBuffer.append(TEXT_3);
 			}
 			for (GenClass genClass : genPackage.getGenClasses()) {
 				List<EStructuralFeature> attributes = extendedMetaData.getAllAttributes(genClass.getEcoreClass());
 				List<EStructuralFeature> elements = extendedMetaData.getAllElements(genClass.getEcoreClass());
-				stringBuffer.append(TEXT_78);
+				stringBuffer.append(TEXT_91);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_79);
+				stringBuffer.append(TEXT_92);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_80);
+				stringBuffer.append(TEXT_93);
 				stringBuffer.append(_StackFrame);
-				stringBuffer.append(TEXT_81);
+				stringBuffer.append(TEXT_94);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_82);
+				stringBuffer.append(TEXT_95);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_83);
+				stringBuffer.append(TEXT_96);
 				stringBuffer.append(genClass.getSafeUncapName());
-				stringBuffer.append(TEXT_84);
+				stringBuffer.append(TEXT_97);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_85);
+				stringBuffer.append(TEXT_98);
 				stringBuffer.append(genClass.getSafeUncapName());
-				stringBuffer.append(TEXT_86);
+				stringBuffer.append(TEXT_99);
 				stringBuffer.append(genClass.getSafeUncapName());
-				stringBuffer.append(TEXT_87);
+				stringBuffer.append(TEXT_100);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_88);
+				stringBuffer.append(TEXT_101);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_89);
+				stringBuffer.append(TEXT_102);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_90);
+				stringBuffer.append(TEXT_103);
 				stringBuffer.append(genClass.getImportedInterfaceName());
-				stringBuffer.append(TEXT_91);
+				stringBuffer.append(TEXT_104);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_80);
+				stringBuffer.append(TEXT_93);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_76);
+				stringBuffer.append(TEXT_89);
 				stringBuffer.append(genClass.getSafeUncapName());
-				stringBuffer.append(TEXT_92);
+				stringBuffer.append(TEXT_105);
 				stringBuffer.append(genClass.getImportedInterfaceName());
-				stringBuffer.append(TEXT_93);
+				stringBuffer.append(TEXT_106);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_94);
+				stringBuffer.append(TEXT_107);
 				stringBuffer.append(genClass.getSafeUncapName());
-				stringBuffer.append(TEXT_95);
+				stringBuffer.append(TEXT_108);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_96);
+				stringBuffer.append(TEXT_109);
 				stringBuffer.append(genClass.getSafeUncapName());
-				stringBuffer.append(TEXT_83);
+				stringBuffer.append(TEXT_96);
 				stringBuffer.append(genClass.getSafeUncapName());
-				stringBuffer.append(TEXT_97);
+				stringBuffer.append(TEXT_110);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_98);
+				stringBuffer.append(TEXT_111);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_99);
+				stringBuffer.append(TEXT_112);
 				stringBuffer.append(_StackFrame);
-				stringBuffer.append(TEXT_100);
+				stringBuffer.append(TEXT_113);
 				stringBuffer.append(genClass.getImportedInterfaceName());
-				stringBuffer.append(TEXT_101);
+				stringBuffer.append(TEXT_114);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_102);
+				stringBuffer.append(TEXT_115);
 				for (GenFeature genFeature : genClass.getAllGenFeatures()) {
 					String name = extendedMetaData.getName(genFeature.getEcoreFeature());
 					if ((elements.contains(genFeature.getEcoreFeature())
 							|| attributes.contains(genFeature.getEcoreFeature())) && name.indexOf(":") == -1) {
 						if (genFeature.isReferenceType()) {
-							stringBuffer.append(TEXT_103);
+							stringBuffer.append(TEXT_116);
 							stringBuffer.append(
 									genFeature.getTypeGenClass().getGenPackage().getImportedResourceClassName());
-							stringBuffer.append(TEXT_104);
+							stringBuffer.append(TEXT_117);
 							stringBuffer.append(genFeature.getTypeGenClass().getName());
-							stringBuffer.append(TEXT_76);
+							stringBuffer.append(TEXT_89);
 							stringBuffer.append(genFeature.getSafeName());
 							stringBuffer.append(TEXT_3);
 						} else {
-							stringBuffer.append(TEXT_103);
+							stringBuffer.append(TEXT_116);
 							stringBuffer.append(_DataFrame);
-							stringBuffer.append(TEXT_77);
+							stringBuffer.append(TEXT_90);
 							stringBuffer.append(genFeature.getSafeName());
-							stringBuffer.append(TEXT_102);
+							stringBuffer.append(TEXT_115);
 						}
 					}
 				}
-				stringBuffer.append(TEXT_105);
+				stringBuffer.append(TEXT_118);
 				if (genModel.useClassOverrideAnnotation()) {
-					stringBuffer.append(TEXT_106);
+					stringBuffer.append(TEXT_119);
 				}
-				stringBuffer.append(TEXT_107);
+				stringBuffer.append(TEXT_120);
 				int count = 0;
 				for (GenFeature genFeature : genClass.getAllGenFeatures()) {
 					String name = extendedMetaData.getName(genFeature.getEcoreFeature());
@@ -764,58 +838,58 @@ public class ResourceImpl extends org.polarsys.kitalpha.emde.egf.model.ResourceC
 						if (!genFeature.isReferenceType()) {
 							GenClassifier genClassifier = genFeature.getTypeGenClassifier();
 							if (count++ == 0) {
-								stringBuffer.append(TEXT_108);
+								stringBuffer.append(TEXT_121);
 								stringBuffer.append(namespace);
-								stringBuffer.append(TEXT_109);
+								stringBuffer.append(TEXT_122);
 								stringBuffer.append(name);
-								stringBuffer.append(TEXT_110);
+								stringBuffer.append(TEXT_123);
 							} else {
-								stringBuffer.append(TEXT_111);
+								stringBuffer.append(TEXT_124);
 								stringBuffer.append(namespace);
-								stringBuffer.append(TEXT_109);
+								stringBuffer.append(TEXT_122);
 								stringBuffer.append(name);
-								stringBuffer.append(TEXT_110);
+								stringBuffer.append(TEXT_123);
 							}
-							stringBuffer.append(TEXT_112);
+							stringBuffer.append(TEXT_125);
 							if (genClassifier.getGenPackage().isDataTypeConverters()) {
-								stringBuffer.append(TEXT_113);
+								stringBuffer.append(TEXT_126);
 								stringBuffer.append(genClass.getName());
-								stringBuffer.append(TEXT_114);
+								stringBuffer.append(TEXT_127);
 								stringBuffer.append(genFeature.getAccessorName());
-								stringBuffer.append(TEXT_80);
+								stringBuffer.append(TEXT_93);
 								stringBuffer
 										.append(genClassifier.getGenPackage().getQualifiedFactoryInstanceAccessor());
-								stringBuffer.append(TEXT_115);
+								stringBuffer.append(TEXT_128);
 								stringBuffer.append(genClassifier.getName());
-								stringBuffer.append(TEXT_116);
+								stringBuffer.append(TEXT_129);
 							} else {
-								stringBuffer.append(TEXT_113);
+								stringBuffer.append(TEXT_126);
 								stringBuffer.append(genClass.getName());
-								stringBuffer.append(TEXT_114);
+								stringBuffer.append(TEXT_127);
 								stringBuffer.append(genFeature.getAccessorName());
-								stringBuffer.append(TEXT_42);
+								stringBuffer.append(TEXT_43);
 								stringBuffer.append(genFeature.getImportedType(null));
-								stringBuffer.append(TEXT_117);
+								stringBuffer.append(TEXT_130);
 								stringBuffer
 										.append(genClassifier.getGenPackage().getQualifiedEFactoryInstanceAccessor());
-								stringBuffer.append(TEXT_118);
+								stringBuffer.append(TEXT_131);
 								stringBuffer.append(genClassifier.getQualifiedClassifierAccessor());
-								stringBuffer.append(TEXT_119);
+								stringBuffer.append(TEXT_132);
 							}
-							stringBuffer.append(TEXT_120);
+							stringBuffer.append(TEXT_133);
 						}
 					}
 				}
 				if (count == 0) {
-					stringBuffer.append(TEXT_121);
+					stringBuffer.append(TEXT_134);
 				}
-				stringBuffer.append(TEXT_122);
+				stringBuffer.append(TEXT_135);
 				if (genModel.useClassOverrideAnnotation()) {
-					stringBuffer.append(TEXT_106);
+					stringBuffer.append(TEXT_119);
 				}
-				stringBuffer.append(TEXT_123);
+				stringBuffer.append(TEXT_136);
 				stringBuffer.append(_StackFrame);
-				stringBuffer.append(TEXT_124);
+				stringBuffer.append(TEXT_137);
 				count = 0;
 				for (GenFeature genFeature : genClass.getAllGenFeatures()) {
 					String name = extendedMetaData.getName(genFeature.getEcoreFeature());
@@ -824,199 +898,199 @@ public class ResourceImpl extends org.polarsys.kitalpha.emde.egf.model.ResourceC
 								.toStringLiteral(extendedMetaData.getNamespace(genFeature.getEcoreFeature()), genModel);
 						if ("null".equals(namespace))
 							namespace = "\"\"";
-						stringBuffer.append(TEXT_125);
+						stringBuffer.append(TEXT_138);
 						if (count++ != 0) {
-							stringBuffer.append(TEXT_126);
+							stringBuffer.append(TEXT_139);
 						}
-						stringBuffer.append(TEXT_127);
+						stringBuffer.append(TEXT_140);
 						stringBuffer.append(name);
-						stringBuffer.append(TEXT_128);
+						stringBuffer.append(TEXT_141);
 						stringBuffer.append(namespace);
-						stringBuffer.append(TEXT_129);
+						stringBuffer.append(TEXT_142);
 						stringBuffer.append(genFeature.getSafeName());
-						stringBuffer.append(TEXT_83);
+						stringBuffer.append(TEXT_96);
 						stringBuffer.append(
 								genFeature.getTypeGenClassifier().getGenPackage().getImportedResourceClassName());
-						stringBuffer.append(TEXT_130);
+						stringBuffer.append(TEXT_143);
 						stringBuffer.append(genFeature.getTypeGenClassifier().getName());
-						stringBuffer.append(TEXT_131);
+						stringBuffer.append(TEXT_144);
 					}
 				}
 				if (count == 0) {
-					stringBuffer.append(TEXT_132);
+					stringBuffer.append(TEXT_145);
 				} else {
-					stringBuffer.append(TEXT_133);
+					stringBuffer.append(TEXT_146);
 				}
-				stringBuffer.append(TEXT_134);
+				stringBuffer.append(TEXT_147);
 				if (genModel.useClassOverrideAnnotation()) {
-					stringBuffer.append(TEXT_106);
+					stringBuffer.append(TEXT_119);
 				}
-				stringBuffer.append(TEXT_135);
+				stringBuffer.append(TEXT_148);
 				stringBuffer.append(_StackFrame);
-				stringBuffer.append(TEXT_136);
+				stringBuffer.append(TEXT_149);
 				count = 0;
 				for (GenFeature genFeature : genClass.getAllGenFeatures()) {
 					String name = extendedMetaData.getName(genFeature.getEcoreFeature());
 					if (elements.contains(genFeature.getEcoreFeature()) && name.indexOf(":") == -1) {
-						stringBuffer.append(TEXT_125);
+						stringBuffer.append(TEXT_138);
 						if (count++ != 0) {
-							stringBuffer.append(TEXT_126);
+							stringBuffer.append(TEXT_139);
 						}
-						stringBuffer.append(TEXT_137);
+						stringBuffer.append(TEXT_150);
 						stringBuffer.append(genFeature.getSafeName());
-						stringBuffer.append(TEXT_138);
+						stringBuffer.append(TEXT_151);
 						if (genFeature.isListType()) {
-							stringBuffer.append(TEXT_113);
+							stringBuffer.append(TEXT_126);
 							stringBuffer.append(genClass.getName());
-							stringBuffer.append(TEXT_139);
+							stringBuffer.append(TEXT_152);
 							stringBuffer.append(genFeature.getGetAccessor());
-							stringBuffer.append(TEXT_140);
+							stringBuffer.append(TEXT_153);
 							stringBuffer.append(
 									genFeature.getTypeGenClassifier().getGenPackage().getImportedResourceClassName());
-							stringBuffer.append(TEXT_141);
+							stringBuffer.append(TEXT_154);
 							stringBuffer.append(genFeature.getTypeGenClassifier().getName());
-							stringBuffer.append(TEXT_80);
+							stringBuffer.append(TEXT_93);
 							stringBuffer.append(genFeature.getSafeName());
-							stringBuffer.append(TEXT_142);
+							stringBuffer.append(TEXT_155);
 						} else {
-							stringBuffer.append(TEXT_113);
+							stringBuffer.append(TEXT_126);
 							stringBuffer.append(genClass.getName());
-							stringBuffer.append(TEXT_114);
+							stringBuffer.append(TEXT_127);
 							stringBuffer.append(genFeature.getAccessorName());
-							stringBuffer.append(TEXT_80);
+							stringBuffer.append(TEXT_93);
 							stringBuffer.append(
 									genFeature.getTypeGenClassifier().getGenPackage().getImportedResourceClassName());
-							stringBuffer.append(TEXT_141);
+							stringBuffer.append(TEXT_154);
 							stringBuffer.append(genFeature.getTypeGenClassifier().getName());
-							stringBuffer.append(TEXT_80);
+							stringBuffer.append(TEXT_93);
 							stringBuffer.append(genFeature.getSafeName());
-							stringBuffer.append(TEXT_142);
+							stringBuffer.append(TEXT_155);
 						}
-						stringBuffer.append(TEXT_143);
+						stringBuffer.append(TEXT_156);
 						stringBuffer.append(genFeature.getSafeName());
-						stringBuffer.append(TEXT_144);
+						stringBuffer.append(TEXT_157);
 					}
 				}
 				if (count == 0) {
-					stringBuffer.append(TEXT_145);
+					stringBuffer.append(TEXT_158);
 				} else {
-					stringBuffer.append(TEXT_146);
+					stringBuffer.append(TEXT_159);
 				}
-				stringBuffer.append(TEXT_134);
+				stringBuffer.append(TEXT_147);
 				if (genModel.useClassOverrideAnnotation()) {
-					stringBuffer.append(TEXT_106);
+					stringBuffer.append(TEXT_119);
 				}
-				stringBuffer.append(TEXT_147);
+				stringBuffer.append(TEXT_160);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_83);
+				stringBuffer.append(TEXT_96);
 				stringBuffer.append(genPackage.getQualifiedFactoryInstanceAccessor());
-				stringBuffer.append(TEXT_115);
+				stringBuffer.append(TEXT_128);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_148);
+				stringBuffer.append(TEXT_161);
 				stringBuffer.append(genClass.getImportedInterfaceName());
-				stringBuffer.append(TEXT_91);
+				stringBuffer.append(TEXT_104);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_149);
+				stringBuffer.append(TEXT_162);
 				stringBuffer.append(genClass.getImportedInterfaceName());
-				stringBuffer.append(TEXT_93);
+				stringBuffer.append(TEXT_106);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_150);
+				stringBuffer.append(TEXT_163);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_151);
+				stringBuffer.append(TEXT_164);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_152);
+				stringBuffer.append(TEXT_165);
 				stringBuffer.append(genClass.getName());
-				stringBuffer.append(TEXT_153);
+				stringBuffer.append(TEXT_166);
 			}
 			for (GenDataType genDataType : genPackage.getAllGenDataTypes()) {
-				stringBuffer.append(TEXT_78);
+				stringBuffer.append(TEXT_91);
 				stringBuffer.append(_DataFrame);
-				stringBuffer.append(TEXT_154);
+				stringBuffer.append(TEXT_167);
 				stringBuffer.append(genDataType.getName());
-				stringBuffer.append(TEXT_80);
+				stringBuffer.append(TEXT_93);
 				stringBuffer.append(_StackFrame);
-				stringBuffer.append(TEXT_81);
+				stringBuffer.append(TEXT_94);
 				stringBuffer.append(_DataFrame);
-				stringBuffer.append(TEXT_93);
+				stringBuffer.append(TEXT_106);
 				stringBuffer.append(genDataType.getName());
-				stringBuffer.append(TEXT_83);
+				stringBuffer.append(TEXT_96);
 				stringBuffer.append(genDataType.getSafeUncapName());
-				stringBuffer.append(TEXT_84);
+				stringBuffer.append(TEXT_97);
 				stringBuffer.append(_DataFrame);
-				stringBuffer.append(TEXT_155);
+				stringBuffer.append(TEXT_168);
 				stringBuffer.append(genDataType.getSafeUncapName());
-				stringBuffer.append(TEXT_86);
+				stringBuffer.append(TEXT_99);
 				stringBuffer.append(genDataType.getSafeUncapName());
-				stringBuffer.append(TEXT_87);
+				stringBuffer.append(TEXT_100);
 				stringBuffer.append(genDataType.getName());
-				stringBuffer.append(TEXT_88);
+				stringBuffer.append(TEXT_101);
 				stringBuffer.append(genDataType.getName());
-				stringBuffer.append(TEXT_89);
+				stringBuffer.append(TEXT_102);
 				stringBuffer.append(genDataType.getName());
-				stringBuffer.append(TEXT_90);
+				stringBuffer.append(TEXT_103);
 				stringBuffer.append(genDataType.getImportedParameterizedInstanceClassName());
-				stringBuffer.append(TEXT_91);
+				stringBuffer.append(TEXT_104);
 				stringBuffer.append(genDataType.getName());
-				stringBuffer.append(TEXT_80);
+				stringBuffer.append(TEXT_93);
 				stringBuffer.append(_DataFrame);
-				stringBuffer.append(TEXT_77);
+				stringBuffer.append(TEXT_90);
 				stringBuffer.append(genDataType.getSafeUncapName());
-				stringBuffer.append(TEXT_156);
+				stringBuffer.append(TEXT_169);
 				if (genDataType.getGenPackage().isDataTypeConverters()) {
-					stringBuffer.append(TEXT_157);
+					stringBuffer.append(TEXT_170);
 					stringBuffer.append(genDataType.getImportedParameterizedInstanceClassName());
-					stringBuffer.append(TEXT_93);
+					stringBuffer.append(TEXT_106);
 					stringBuffer.append(genDataType.getName());
-					stringBuffer.append(TEXT_94);
+					stringBuffer.append(TEXT_107);
 					stringBuffer.append(genDataType.getGenPackage().getQualifiedFactoryInstanceAccessor());
-					stringBuffer.append(TEXT_115);
+					stringBuffer.append(TEXT_128);
 					stringBuffer.append(genDataType.getName());
-					stringBuffer.append(TEXT_80);
+					stringBuffer.append(TEXT_93);
 					stringBuffer.append(genDataType.getSafeUncapName());
-					stringBuffer.append(TEXT_158);
+					stringBuffer.append(TEXT_171);
 				} else if (genDataType.isPrimitiveType()
 						&& genModel.getComplianceLevel().getValue() < GenJDKLevel.JDK50) {
-					stringBuffer.append(TEXT_157);
+					stringBuffer.append(TEXT_170);
 					stringBuffer.append(genDataType.getImportedInstanceClassName());
-					stringBuffer.append(TEXT_93);
+					stringBuffer.append(TEXT_106);
 					stringBuffer.append(genDataType.getName());
-					stringBuffer.append(TEXT_159);
+					stringBuffer.append(TEXT_172);
 					stringBuffer.append(genDataType.getObjectInstanceClassName());
-					stringBuffer.append(TEXT_117);
+					stringBuffer.append(TEXT_130);
 					stringBuffer.append(genDataType.getGenPackage().getQualifiedEFactoryInstanceAccessor());
-					stringBuffer.append(TEXT_118);
+					stringBuffer.append(TEXT_131);
 					stringBuffer.append(genDataType.getQualifiedClassifierAccessor());
-					stringBuffer.append(TEXT_160);
+					stringBuffer.append(TEXT_173);
 					stringBuffer.append(genDataType.getSafeUncapName());
-					stringBuffer.append(TEXT_161);
+					stringBuffer.append(TEXT_174);
 					stringBuffer.append(genDataType.getPrimitiveValueFunction());
-					stringBuffer.append(TEXT_162);
+					stringBuffer.append(TEXT_175);
 				} else {
-					stringBuffer.append(TEXT_157);
+					stringBuffer.append(TEXT_170);
 					stringBuffer.append(genDataType.getImportedInstanceClassName());
-					stringBuffer.append(TEXT_93);
+					stringBuffer.append(TEXT_106);
 					stringBuffer.append(genDataType.getName());
-					stringBuffer.append(TEXT_163);
+					stringBuffer.append(TEXT_176);
 					stringBuffer.append(genDataType.getObjectInstanceClassName());
-					stringBuffer.append(TEXT_117);
+					stringBuffer.append(TEXT_130);
 					stringBuffer.append(genDataType.getGenPackage().getQualifiedEFactoryInstanceAccessor());
-					stringBuffer.append(TEXT_118);
+					stringBuffer.append(TEXT_131);
 					stringBuffer.append(genDataType.getQualifiedClassifierAccessor());
-					stringBuffer.append(TEXT_160);
+					stringBuffer.append(TEXT_173);
 					stringBuffer.append(genDataType.getSafeUncapName());
-					stringBuffer.append(TEXT_158);
+					stringBuffer.append(TEXT_171);
 				}
-				stringBuffer.append(TEXT_164);
+				stringBuffer.append(TEXT_177);
 				stringBuffer.append(genDataType.getSafeUncapName());
-				stringBuffer.append(TEXT_83);
+				stringBuffer.append(TEXT_96);
 				stringBuffer.append(genDataType.getSafeUncapName());
-				stringBuffer.append(TEXT_97);
+				stringBuffer.append(TEXT_110);
 				stringBuffer.append(genDataType.getName());
-				stringBuffer.append(TEXT_165);
+				stringBuffer.append(TEXT_178);
 			}
-			stringBuffer.append(TEXT_166);
+			stringBuffer.append(TEXT_179);
 		}
-		stringBuffer.append(TEXT_167);
+		stringBuffer.append(TEXT_180);
 		stringBuffer.append(genPackage.getResourceClassName());
 		genModel.emitSortedImports();
 		InternalPatternContext ictx = (InternalPatternContext) ctx;
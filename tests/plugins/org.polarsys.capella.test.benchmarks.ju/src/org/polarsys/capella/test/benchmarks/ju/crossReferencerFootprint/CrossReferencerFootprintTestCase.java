@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.benchmarks.ju.crossReferencerFootprint;
+
+import java.util.Collection;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.sirius.business.api.session.Session;
+import org.polarsys.capella.common.lib.Memory;
+import org.polarsys.capella.core.model.handler.crossreferencer.CapellaECrossReferenceAdapter;
+import org.polarsys.capella.test.benchmarks.ju.testcases.AbstractBenchmarkTestCase;
+import org.polarsys.capella.test.benchmarks.ju.utils.MemoryLogger;
+
+/**
+ * Compares the heap footprint of a cross referencer using the default inverse cross referencer with one using the
+ * compact inverse references store, on the semantic resources of the benchmark model.
+ */
+public class CrossReferencerFootprintTestCase extends AbstractBenchmarkTestCase {
+
+  @Override
+  public void test() {
+    Session session = getSession(getRequiredTestModels().get(0));
+    Collection<Resource> resources = session.getSemanticResources();
+
+    long defaultFootprint = measure(resources, false);
+    long compactFootprint = measure(resources, true);
+
+    System.out.println("Cross referencer footprint: " + defaultFootprint + "MB (default) / " + compactFootprint //$NON-NLS-1$ //$NON-NLS-2$
+        + "MB (compact)."); //$NON-NLS-1$
+
+    MemoryLogger.getInstance().log(this.getClass().getCanonicalName() + ".default", defaultFootprint); //$NON-NLS-1$
+    MemoryLogger.getInstance().log(this.getClass().getCanonicalName() + ".compact", compactFootprint); //$NON-NLS-1$
+  }
+
+  /**
+   * @return the used memory, in MB, retained by a cross referencer attached to given resources.
+   */
+  protected long measure(Collection<Resource> resources, boolean compact) {
+    long usedMemoryBefore = Memory.getUsedMemory();
+
+    CapellaECrossReferenceAdapter crossReferencer = new CapellaECrossReferenceAdapter(null, compact);
+    for (Resource resource : resources) {
+      resource.eAdapters().add(crossReferencer);
+    }
+    // Make sure inverse references are computed for all elements.
+    for (Resource resource : resources) {
+      for (EObject root : resource.getContents()) {
+        crossReferencer.getInverseReferences(root, false);
+        for (TreeIterator<EObject> iterator = root.eAllContents(); iterator.hasNext();) {
+          crossReferencer.getInverseReferences(iterator.next(), false);
+        }
+      }
+    }
+
+    long usedMemoryAfter = Memory.getUsedMemory();
+
+    if (compact) {
+      System.out.println("Compact store estimated footprint: " //$NON-NLS-1$
+          + crossReferencer.getCompactStore().getEstimatedFootprint() / 1024 + "KB."); //$NON-NLS-1$
+    }
+    for (Resource resource : resources) {
+      resource.eAdapters().remove(crossReferencer);
+    }
+    return (usedMemoryAfter - usedMemoryBefore) / (1024 * 1024);
+  }
+}
@@ -18,6 +18,7 @@ import java.util.List;
 
 import org.polarsys.capella.test.benchmarks.ju.closeSession.CloseSessionTestSuite;
 import org.polarsys.capella.test.benchmarks.ju.createBigLFBD.CreateBigLFBDTestSuite;
+import org.polarsys.capella.test.benchmarks.ju.crossReferencerFootprint.CrossReferencerFootprintTestSuite;
 import org.polarsys.capella.test.benchmarks.ju.insertAssociationOnBigCDB.InsertAssociationOnBigCDBTestSuite;
 import org.polarsys.capella.test.benchmarks.ju.insertPLOnBigPAB.InsertPLOnBigPABTestSuite;
 import org.polarsys.capella.test.benchmarks.ju.modelvalidation.ModelValidationTestSuite;
@@ -58,6 +59,7 @@ public class AllBenchmarksTestSuite extends BasicTestSuite {
     tests.add(new SaveSessionAfterModificationsTestSuite());
     tests.add(new ModelValidationTestSuite());
     tests.add(new RefreshAllDiagramsTestSuite());
+    tests.add(new CrossReferencerFootprintTestSuite());
     return tests;
   }
 }
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.commandline.ju.testcases;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.equinox.app.IApplicationContext;
+import org.polarsys.capella.core.commandline.core.CommandLineConstants;
+import org.polarsys.capella.core.compare.commandline.CompareCommandLine;
+import org.polarsys.capella.core.compare.commandline.CompareCommandLineConstants;
+import org.polarsys.capella.core.compare.commandline.Messages;
+import org.polarsys.capella.test.commandline.ju.utils.MockApplicationContext;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+import org.polarsys.capella.test.framework.api.ModelProviderHelper;
+
+/**
+ * Test simulating a Comparison launch from command line, between a model and a revision of it where an element is
+ * renamed.
+ */
+public class CommandLineCompareTest extends BasicTestCase {
+  @Override
+  public void test() throws Exception {
+    IPath workspaceLocation = ResourcesPlugin.getWorkspace().getRoot().getRawLocation();
+    String baselineName = "Test Command Line Validation";
+    String revisionName = "Test Command Line Comparison";
+    String modelName = "Test Command Line Validation";
+    File sourceFolder = getFolderInTestModelRepository(baselineName);
+    ModelProviderHelper.getInstance().importCapellaProject(baselineName, sourceFolder);
+
+    // The revision is a copy of the baseline where an operational activity is renamed
+    File revisionFolder = new File(Files.createTempDirectory("compare").toFile(), revisionName);
+    revisionFolder.mkdirs();
+    for (File file : sourceFolder.listFiles()) {
+      byte[] content = Files.readAllBytes(file.toPath());
+      if (file.getName().endsWith(".capella")) {
+        content = new String(content, StandardCharsets.UTF_8)
+            .replace("name=\"OperationalActivity 1\"", "name=\"OperationalActivity 1 renamed\"")
+            .getBytes(StandardCharsets.UTF_8);
+      }
+      Files.write(new File(revisionFolder, file.getName()).toPath(), content);
+    }
+    ModelProviderHelper.getInstance().importCapellaProject(revisionName, revisionFolder);
+
+    // Simulated comparison command line
+    String[] compareCommandLineArguments = {
+        CommandLineConstants.ID, "org.polarsys.capella.core.compare.commandline",
+        CommandLineConstants.INPUT, revisionName + "/" + modelName + ".aird",
+        CompareCommandLineConstants.COMPARE_BASELINE, baselineName + "/" + modelName + ".aird",
+        CompareCommandLineConstants.COMPARE_FORMAT, CompareCommandLineConstants.FORMAT_CSV,
+        CommandLineConstants.OUTPUTFOLDER, revisionName + "/CompareResult",
+        CommandLineConstants.FORCEOUTPUTFOLDERCREATION
+    };
+    IApplicationContext mockApplicationContext = new MockApplicationContext(compareCommandLineArguments);
+
+    // Simulate launching from command line
+    CompareCommandLine compareCommandLine = new CompareCommandLine();
+    compareCommandLine.parseContext(mockApplicationContext);
+
+    compareCommandLine.prepare(mockApplicationContext);
+    compareCommandLine.checkArgs(mockApplicationContext);
+    compareCommandLine.execute(mockApplicationContext);
+
+    // Check we have a report with the renaming only
+    IPath compareResultFile = workspaceLocation.append(revisionName).append("CompareResult").append(revisionName)
+        .append(modelName + ".aird").append(Messages.resultsFileName + "." + CompareCommandLineConstants.FORMAT_CSV);
+    String report = new String(Files.readAllBytes(Paths.get(compareResultFile.toOSString())), StandardCharsets.UTF_8);
+    String[] lines = report.split("\r\n");
+    assertEquals("change,kind,elementId,elementType,elementName,feature,value", lines[0]);
+    assertEquals(3, lines.length);
+    String activity = "c4b4cadf-5588-452e-b3d8-2664347577cf,OperationalActivity,";
+    assertTrue(report.contains("added,attribute," + activity + "OperationalActivity 1 renamed,name,OperationalActivity 1 renamed"));
+    assertTrue(report.contains("removed,attribute," + activity + "OperationalActivity 1,name,OperationalActivity 1"));
+  }
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.commandline.ju.testcases;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.sirius.business.api.session.Session;
+import org.polarsys.capella.core.data.capellamodeller.Project;
+import org.polarsys.capella.core.model.handler.provider.CapellaAdapterFactoryProvider;
+import org.polarsys.capella.core.model.handler.validation.CapellaDiagnostician;
+import org.polarsys.capella.core.validation.commandline.ParallelValidation;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+
+/**
+ * Check that the parallel validation gives the same diagnostics as the sequential validation, whatever the number of
+ * threads.
+ */
+public class ParallelValidationTest extends BasicTestCase {
+
+  private static final String MODEL = "Test Command Line Validation"; //$NON-NLS-1$
+
+  @Override
+  public List<String> getRequiredTestModels() {
+    return Arrays.asList(MODEL);
+  }
+
+  @Override
+  public void test() throws Exception {
+    Session session = getSession(MODEL);
+    TransactionalEditingDomain domain = session.getTransactionalEditingDomain();
+    Project project = getTestModel(MODEL).getProject(domain);
+    List<EObject> elements = Collections.singletonList(project);
+
+    // Sequential validation, as done by the validate action
+    CapellaDiagnostician diagnostician = new CapellaDiagnostician(
+        CapellaAdapterFactoryProvider.getInstance().getAdapterFactory(), new NullProgressMonitor());
+    diagnostician.setScope(elements);
+    BasicDiagnostic sequential = diagnostician.createDefaultDiagnostic(project);
+    domain.runExclusive(() -> diagnostician.validate(project, sequential, diagnostician.createDefaultContext()));
+    assertFalse(sequential.getChildren().isEmpty());
+
+    // Same diagnostics as the sequential validation, merged in the same order whatever the number of threads
+    List<String> expected = null;
+    for (int threadCount : new int[] { 1, 4, 4 }) {
+      Diagnostic parallel = new ParallelValidation(threadCount).validate(elements,
+          diagnostician.createDefaultDiagnostic(project));
+      assertEquals(sequential.getMessage(), parallel.getMessage());
+      assertEquals(sequential.getSeverity(), parallel.getSeverity());
+      List<String> descriptions = getDescriptions(parallel);
+      assertEquals(sort(getDescriptions(sequential)), sort(new ArrayList<>(descriptions)));
+      if (null == expected) {
+        expected = descriptions;
+      } else {
+        assertEquals(expected, descriptions);
+      }
+    }
+  }
+
+  private List<String> sort(List<String> descriptions) {
+    Collections.sort(descriptions);
+    return descriptions;
+  }
+
+  /**
+   * @return the descriptions of the children of the given diagnostic, in their order, each one including the
+   *         descriptions of its own children
+   */
+  private List<String> getDescriptions(Diagnostic diagnostic) {
+    List<String> descriptions = new ArrayList<>();
+    for (Diagnostic child : diagnostic.getChildren()) {
+      StringBuilder description = new StringBuilder();
+      description.append(child.getSeverity()).append(' ').append(child.getSource()).append(' ')
+          .append(child.getCode()).append(' ').append(child.getMessage());
+      // The result locus of a constraint status is not ordered
+      List<String> data = new ArrayList<>();
+      for (Object object : child.getData()) {
+        data.add(String.valueOf(object instanceof EObject ? EcoreUtil.getURI((EObject) object) : object));
+      }
+      Collections.sort(data);
+      description.append(' ').append(data).append(' ').append(getDescriptions(child));
+      descriptions.add(description.toString());
+    }
+    return descriptions;
+  }
+}
@@ -15,12 +15,14 @@ package org.polarsys.capella.test.commandline.ju.testsuites;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.polarsys.capella.test.commandline.ju.testcases.CommandLineCompareTest;
 import org.polarsys.capella.test.commandline.ju.testcases.CommandLineExportRepresentationsTest;
 import org.polarsys.capella.test.commandline.ju.testcases.CommandLineFolderMigrationTest;
 import org.polarsys.capella.test.commandline.ju.testcases.CommandLineRefreshAirdTest;
 import org.polarsys.capella.test.commandline.ju.testcases.CommandLineRemoveHiddenElementsTest;
 import org.polarsys.capella.test.commandline.ju.testcases.CommandLineValidationTest;
 import org.polarsys.capella.test.commandline.ju.testcases.CommandLineZipMigrationTest;
+import org.polarsys.capella.test.commandline.ju.testcases.ParallelValidationTest;
 import org.polarsys.capella.test.framework.api.BasicTestArtefact;
 import org.polarsys.capella.test.framework.api.BasicTestSuite;
 
@@ -32,11 +34,13 @@ public class CommandLineTestSuite extends BasicTestSuite {
   protected List<BasicTestArtefact> getTests() {
     List<BasicTestArtefact> tests = new ArrayList<>();
     tests.add(new CommandLineValidationTest());
+    tests.add(new ParallelValidationTest());
     tests.add(new CommandLineZipMigrationTest());
     tests.add(new CommandLineFolderMigrationTest());
     tests.add(new CommandLineRemoveHiddenElementsTest());
     tests.add(new CommandLineExportRepresentationsTest());
     tests.add(new CommandLineRefreshAirdTest());
+    tests.add(new CommandLineCompareTest());
     return tests;
   }
   
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.diagram.misc.ju.testcases;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.emf.common.notify.AdapterFactory;
+import org.eclipse.emf.ecore.EObject;
+import org.polarsys.capella.common.ui.toolkit.browser.content.provider.impl.AbstractContentProvider;
+import org.polarsys.capella.common.ui.toolkit.browser.content.provider.impl.CurrentElementCP;
+import org.polarsys.capella.common.ui.toolkit.browser.content.provider.impl.ReferencedElementCP;
+import org.polarsys.capella.common.ui.toolkit.browser.content.provider.impl.ReferencingElementCP;
+import org.polarsys.capella.common.ui.toolkit.browser.content.provider.wrapper.BrowserElementWrapper;
+import org.polarsys.capella.common.ui.toolkit.browser.content.provider.wrapper.CategoryWrapper;
+import org.polarsys.capella.common.ui.toolkit.browser.content.provider.wrapper.EObjectWrapper;
+import org.polarsys.capella.core.libraries.model.ICapellaModel;
+import org.polarsys.capella.core.libraries.utils.ScopeModelWrapper;
+import org.polarsys.capella.core.model.handler.provider.CapellaAdapterFactoryProvider;
+import org.polarsys.capella.core.ui.semantic.browser.model.SemanticBrowserModel;
+import org.polarsys.capella.shared.id.handler.IScope;
+import org.polarsys.capella.shared.id.handler.IdManager;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+
+/**
+ * Test that the semantic browser displays the same categories and category contents, whether categories are computed
+ * in background or synchronously.
+ */
+public class SemanticBrowserAsynchronousCategories extends BasicTestCase {
+
+  private String projectTestName = "StatusLine"; //$NON-NLS-1$
+
+  @Override
+  public List<String> getRequiredTestModels() {
+    return Arrays.asList(projectTestName);
+  }
+
+  @Override
+  public void test() throws Exception {
+    ICapellaModel model = getTestModel(projectTestName);
+    IScope scope = new ScopeModelWrapper(model);
+    AdapterFactory adapterFactory = CapellaAdapterFactoryProvider.getInstance().getAdapterFactory();
+    boolean displayed = false;
+
+    for (String id : Arrays.asList(UnsyncronizedSemanticBrowser.SA__DATAPKG, UnsyncronizedSemanticBrowser.SA__ROOTSF)) {
+      EObject element = IdManager.getInstance().getEObject(id, scope);
+      assertNotNull(element);
+
+      for (int i = 0; i < 3; i++) {
+        AbstractContentProvider synchronous = createContentProvider(i, adapterFactory);
+        AbstractContentProvider asynchronous = createContentProvider(i, adapterFactory);
+        synchronous.setAsynchronous(false);
+        asynchronous.setAsynchronous(true);
+        try {
+          Map<Object, Set<Object>> expected = getCategories(synchronous, element);
+          Map<Object, Set<Object>> actual = getCategories(asynchronous, element);
+          assertEquals(synchronous.getBrowserId(), expected, actual);
+          displayed |= !expected.isEmpty();
+        } finally {
+          synchronous.dispose();
+          asynchronous.dispose();
+        }
+      }
+    }
+    assertTrue(displayed);
+  }
+
+  private AbstractContentProvider createContentProvider(int index, AdapterFactory adapterFactory) {
+    switch (index) {
+    case 0:
+      return new CurrentElementCP(adapterFactory, new SemanticBrowserModel());
+    case 1:
+      return new ReferencedElementCP(adapterFactory, new SemanticBrowserModel());
+    default:
+      return new ReferencingElementCP(adapterFactory, new SemanticBrowserModel());
+    }
+  }
+
+  /**
+   * @return the children of the categories displayed under the given input element, by category
+   */
+  private Map<Object, Set<Object>> getCategories(AbstractContentProvider provider, EObject element)
+      throws InterruptedException {
+    provider.inputChanged(null, null, element);
+    provider.getElements(element);
+    if (provider.isAsynchronous()) {
+      // Categories are only displayed once computed in background
+      for (Object child : provider.getChildren(new EObjectWrapper(element))) {
+        assertFalse(child instanceof CategoryWrapper);
+      }
+    }
+
+    Map<Object, Set<Object>> result = new HashMap<>();
+    for (Object child : getDisplayedChildren(provider, new EObjectWrapper(element))) {
+      if (child instanceof CategoryWrapper) {
+        Set<Object> categoryChildren = new HashSet<>();
+        for (Object categoryChild : getDisplayedChildren(provider, child)) {
+          categoryChildren.add(((BrowserElementWrapper) categoryChild).getElement());
+        }
+        result.put(((CategoryWrapper) child).getElement(), categoryChildren);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return the children of the given wrapper, once the categories computed in background are displayed
+   */
+  private Object[] getDisplayedChildren(AbstractContentProvider provider, Object wrapper) throws InterruptedException {
+    Object[] children = provider.getChildren(wrapper);
+    if (provider.isAsynchronous()) {
+      Job.getJobManager().join(provider, null);
+      children = provider.getChildren(wrapper);
+    }
+    return children;
+  }
+}
@@ -36,6 +36,7 @@ import org.polarsys.capella.test.diagram.misc.ju.testcases.InsertRemoveComponent
 import org.polarsys.capella.test.diagram.misc.ju.testcases.InteractionSourceTarget;
 import org.polarsys.capella.test.diagram.misc.ju.testcases.InterfacePortSizeTestCase;
 import org.polarsys.capella.test.diagram.misc.ju.testcases.PABStyleChecksDiagramElements;
+import org.polarsys.capella.test.diagram.misc.ju.testcases.SemanticBrowserAsynchronousCategories;
 import org.polarsys.capella.test.diagram.misc.ju.testcases.StatusLineTestCase;
 import org.polarsys.capella.test.diagram.misc.ju.testcases.UnsyncronizedSemanticBrowser;
 import org.polarsys.capella.test.diagram.misc.ju.testcases.delete.DeleteFromModelContainerSemanticTarget;
@@ -85,6 +86,7 @@ public class DiagramMiscTestSuite extends BasicTestSuite {
     tests.add(new AllocationManagementTest());
     tests.add(new ColorNameConstantsTest());
     tests.add(new UnsyncronizedSemanticBrowser());
+    tests.add(new SemanticBrowserAsynchronousCategories());
     tests.add(new InteractionSourceTarget());
     tests.add(new DiagramTargetUpdateDuringRefreshTest());
     
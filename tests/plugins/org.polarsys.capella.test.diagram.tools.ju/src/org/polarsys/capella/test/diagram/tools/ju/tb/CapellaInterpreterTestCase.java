@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.diagram.tools.ju.tb;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.business.api.dialect.DialectManager;
+import org.eclipse.sirius.business.api.session.Session;
+import org.eclipse.sirius.common.tools.api.interpreter.EvaluationException;
+import org.polarsys.capella.common.ui.toolkit.browser.category.CategoryRegistry;
+import org.polarsys.capella.common.ui.toolkit.browser.category.ICategory;
+import org.polarsys.capella.core.data.capellamodeller.Project;
+import org.polarsys.capella.core.model.handler.helpers.CapellaAdapterHelper;
+import org.polarsys.capella.core.sirius.analysis.CapellaInterpreter;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+
+import com.google.common.base.CaseFormat;
+
+/**
+ * Check that compiled <code>capella:</code> expressions give the same results as the evaluation of the matching
+ * Semantic Browser categories of each target.
+ */
+public class CapellaInterpreterTestCase extends BasicTestCase {
+
+  private static final String MODEL = "TitleBlocksModel"; //$NON-NLS-1$
+
+  private static final String UNKNOWN_COMMAND = "unknownCommand"; //$NON-NLS-1$
+
+  @Override
+  public List<String> getRequiredTestModels() {
+    return Arrays.asList(MODEL);
+  }
+
+  @Override
+  public void test() throws Exception {
+    Session session = getSession(MODEL);
+    Project project = getTestModel(MODEL).getProject(session.getTransactionalEditingDomain());
+    CapellaInterpreter interpreter = new CapellaInterpreter();
+
+    List<EObject> targets = new ArrayList<>();
+    for (Iterator<EObject> it = project.eAllContents(); it.hasNext();) {
+      targets.add(it.next());
+    }
+    targets.addAll(DialectManager.INSTANCE.getAllRepresentationDescriptors(session));
+
+    int evaluated = 0;
+    for (EObject target : targets) {
+      EObject resolvedTarget = CapellaAdapterHelper.resolveDescriptorOrBusinessObject(target);
+      Set<ICategory> categories = CategoryRegistry.getInstance().gatherCategories(resolvedTarget);
+      Set<String> commands = new TreeSet<>();
+      for (ICategory category : categories) {
+        if (category.getName() != null) {
+          commands.add(getCommandName(category));
+        }
+      }
+      commands.add(UNKNOWN_COMMAND);
+
+      for (String command : commands) {
+        // Several categories may share a command name, any of them may be evaluated
+        List<Object> expected = new ArrayList<>();
+        for (ICategory category : categories) {
+          if (category.getName() != null && getCommandName(category).equals(command)) {
+            expected.add(category.compute(resolvedTarget));
+          }
+        }
+        try {
+          Object result = interpreter.evaluate(target, CapellaInterpreter.PREFIX + " " + command); //$NON-NLS-1$
+          assertTrue(target + " " + command, expected.contains(result)); //$NON-NLS-1$
+          evaluated++;
+        } catch (EvaluationException e) {
+          assertTrue(target + " " + command, expected.isEmpty()); //$NON-NLS-1$
+        }
+      }
+    }
+    assertTrue(evaluated > 0);
+    assertNull(interpreter.evaluate(project, "aql:self")); //$NON-NLS-1$
+  }
+
+  /**
+   * @return the command name of the category, as computed by the interpreter before expressions were compiled
+   */
+  private String getCommandName(ICategory category) {
+    return CaseFormat.UPPER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, category.getName().trim().replaceAll(" ", "_")); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+}
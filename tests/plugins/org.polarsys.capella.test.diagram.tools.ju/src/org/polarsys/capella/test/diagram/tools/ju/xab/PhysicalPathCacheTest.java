@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2021 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.diagram.tools.ju.xab;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.sirius.business.api.session.Session;
+import org.polarsys.capella.common.ef.ExecutionManager;
+import org.polarsys.capella.common.ef.ExecutionManagerRegistry;
+import org.polarsys.capella.common.ef.command.AbstractReadWriteCommand;
+import org.polarsys.capella.core.data.cs.PhysicalPath;
+import org.polarsys.capella.core.data.cs.PhysicalPathInvolvement;
+import org.polarsys.capella.core.data.cs.PhysicalPathReference;
+import org.polarsys.capella.core.model.helpers.PhysicalPathExt;
+import org.polarsys.capella.core.model.helpers.graph.PhysicalPathInternalLinksGraph;
+import org.polarsys.capella.core.model.helpers.graph.PhysicalPathInvolvementGraph;
+import org.polarsys.capella.core.sirius.analysis.cache.PhysicalPathCache;
+import org.polarsys.capella.test.diagram.common.ju.api.AbstractDiagramTestCase;
+
+/**
+ * Check that graphs of physical paths are kept across lookups, and that only the graphs of modified paths are dropped.
+ */
+public class PhysicalPathCacheTest extends AbstractDiagramTestCase {
+
+  @Override
+  public void test() throws Exception {
+    Session session = getSession(getRequiredTestModel());
+    ExecutionManager manager = ExecutionManagerRegistry.getInstance()
+        .getExecutionManager(session.getTransactionalEditingDomain());
+    PhysicalPathCache cache = PhysicalPathCache.getInstance();
+    cache.reset();
+
+    List<PhysicalPath> paths = getPhysicalPaths(session);
+    PhysicalPath path = null;
+    PhysicalPathInvolvement involvement = null;
+    for (PhysicalPath candidate : paths) {
+      for (PhysicalPathInvolvement candidateInvolvement : candidate.getOwnedPhysicalPathInvolvements()) {
+        if (!(candidateInvolvement instanceof PhysicalPathReference) && (candidateInvolvement.getInvolved() != null)) {
+          path = candidate;
+          involvement = candidateInvolvement;
+        }
+      }
+    }
+    assertNotNull(path);
+    PhysicalPath otherPath = getIndependentPath(paths, path);
+    assertNotNull(otherPath);
+
+    // Graphs are kept across lookups
+    PhysicalPathInvolvementGraph graph = cache.getInvolvementGraph(path);
+    assertSame(graph, cache.getInvolvementGraph(path));
+    PhysicalPathInternalLinksGraph internalLinksGraph = cache.getInternalLinksGraph(graph);
+    assertSame(internalLinksGraph, cache.getInternalLinksGraph(graph));
+    PhysicalPathInvolvementGraph otherGraph = cache.getInvolvementGraph(otherPath);
+
+    // A change of the path drops its graphs only
+    rename(manager, path);
+    PhysicalPathInvolvementGraph newGraph = cache.getInvolvementGraph(path);
+    assertNotSame(graph, newGraph);
+    assertNotSame(internalLinksGraph, cache.getInternalLinksGraph(newGraph));
+    assertSame(otherGraph, cache.getInvolvementGraph(otherPath));
+
+    // A dropped graph still gives its derived graph, which is not kept
+    assertNotSame(cache.getInternalLinksGraph(graph), cache.getInternalLinksGraph(graph));
+
+    // A change of an involved element drops the graph
+    rename(manager, involvement.getInvolved());
+    assertNotSame(newGraph, cache.getInvolvementGraph(path));
+
+    cache.reset();
+    assertNotSame(otherGraph, cache.getInvolvementGraph(otherPath));
+  }
+
+  private List<PhysicalPath> getPhysicalPaths(Session session) {
+    List<PhysicalPath> paths = new ArrayList<>();
+    for (Resource resource : session.getSemanticResources()) {
+      for (Iterator<EObject> it = resource.getAllContents(); it.hasNext();) {
+        EObject object = it.next();
+        if (object instanceof PhysicalPath) {
+          paths.add((PhysicalPath) object);
+        }
+      }
+    }
+    return paths;
+  }
+
+  /**
+   * @return a path whose graph does not depend on the given path
+   */
+  private PhysicalPath getIndependentPath(List<PhysicalPath> paths, PhysicalPath path) {
+    for (PhysicalPath candidate : paths) {
+      boolean independent = candidate != path;
+      for (PhysicalPathInvolvement involvement : PhysicalPathExt.getFlatInvolvements(candidate)) {
+        independent &= (involvement.eContainer() != path) && (involvement.getInvolved() != path);
+      }
+      for (PhysicalPathInvolvement involvement : candidate.getOwnedPhysicalPathInvolvements()) {
+        independent &= involvement.getInvolved() != path;
+      }
+      if (independent) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  private void rename(ExecutionManager manager, EObject element) {
+    manager.execute(new AbstractReadWriteCommand() {
+      @Override
+      public void run() {
+        element.eSet(element.eClass().getEStructuralFeature("name"), "renamed"); //$NON-NLS-1$ //$NON-NLS-2$
+      }
+    });
+  }
+
+  @Override
+  protected String getRequiredTestModel() {
+    return PhysicalPathDisplay.class.getSimpleName();
+  }
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.microbenchmarks.ju;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.polarsys.capella.core.model.helpers.queries.QueryIdentifierConstants;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+import org.polarsys.capella.test.microbenchmarks.ju.benchmarks.BusinessQueriesBenchmark;
+import org.polarsys.capella.test.microbenchmarks.ju.benchmarks.DerivedFeatureBenchmark;
+import org.polarsys.capella.test.microbenchmarks.ju.benchmarks.GetAllQueriesBenchmark;
+import org.polarsys.capella.test.microbenchmarks.ju.benchmarks.GetReferencersBenchmark;
+import org.polarsys.capella.test.microbenchmarks.ju.benchmarks.IdIndexBenchmark;
+import org.polarsys.capella.test.microbenchmarks.ju.benchmarks.ModelCacheBenchmark;
+import org.polarsys.capella.test.microbenchmarks.ju.benchmarks.TransitionSchedulerBenchmark;
+import org.polarsys.capella.test.microbenchmarks.ju.benchmarks.XmiLoadBenchmark;
+import org.polarsys.capella.test.microbenchmarks.ju.benchmarks.XmiSaveBenchmark;
+import org.polarsys.capella.test.microbenchmarks.ju.harness.MicroBenchmark;
+import org.polarsys.capella.test.microbenchmarks.ju.harness.MicroBenchmarkResult;
+import org.polarsys.capella.test.microbenchmarks.ju.harness.MicroBenchmarkRunner;
+import org.polarsys.capella.test.microbenchmarks.ju.model.SyntheticModel;
+import org.polarsys.capella.test.microbenchmarks.ju.model.SyntheticModelGenerator;
+
+/**
+ * Runs all micro-benchmarks on a generated model of a given size.
+ */
+public class MicroBenchmarksTestCase extends BasicTestCase {
+
+  private final int size;
+
+  private final List<MicroBenchmarkResult> results = new ArrayList<>();
+
+  public MicroBenchmarksTestCase(int size) {
+    this.size = size;
+  }
+
+  @Override
+  public String getName() {
+    return super.getName() + "_" + size; //$NON-NLS-1$
+  }
+
+  /**
+   * @return the results of the last run
+   */
+  public List<MicroBenchmarkResult> getResults() {
+    return Collections.unmodifiableList(results);
+  }
+
+  protected List<MicroBenchmark> getBenchmarks(SyntheticModel model) {
+    List<MicroBenchmark> benchmarks = new ArrayList<>();
+    benchmarks.add(new GetReferencersBenchmark(model));
+    benchmarks.add(new GetAllQueriesBenchmark(model, QueryIdentifierConstants.GET_ALL_COMPONENTS));
+    benchmarks.add(new BusinessQueriesBenchmark(model));
+    benchmarks.add(new ModelCacheBenchmark(model, false));
+    benchmarks.add(new ModelCacheBenchmark(model, true));
+    benchmarks.add(new DerivedFeatureBenchmark(model, false));
+    benchmarks.add(new DerivedFeatureBenchmark(model, true));
+    benchmarks.add(new TransitionSchedulerBenchmark(model));
+    benchmarks.add(new XmiSaveBenchmark(model));
+    benchmarks.add(new XmiLoadBenchmark(model, false));
+    benchmarks.add(new XmiLoadBenchmark(model, true));
+    benchmarks.add(new IdIndexBenchmark(model, false));
+    benchmarks.add(new IdIndexBenchmark(model, true));
+    return benchmarks;
+  }
+
+  @Override
+  public void test() throws Exception {
+    results.clear();
+    SyntheticModel model = new SyntheticModelGenerator(size).generate();
+    try {
+      assertTrue(model.getSize() >= size);
+      MicroBenchmarkRunner runner = new MicroBenchmarkRunner();
+      for (MicroBenchmark benchmark : getBenchmarks(model)) {
+        MicroBenchmarkResult result = runner.run(benchmark);
+        System.out.println(result);
+        results.add(result);
+      }
+    } finally {
+      model.dispose();
+    }
+  }
+}
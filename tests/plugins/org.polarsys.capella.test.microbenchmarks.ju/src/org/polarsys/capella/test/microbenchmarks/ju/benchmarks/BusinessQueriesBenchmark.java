@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.microbenchmarks.ju.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.polarsys.capella.core.business.queries.IBusinessQuery;
+import org.polarsys.capella.core.business.queries.capellacore.BusinessQueriesProvider;
+import org.polarsys.capella.core.data.la.LaPackage;
+import org.polarsys.capella.core.data.la.LogicalComponent;
+import org.polarsys.capella.test.microbenchmarks.ju.model.SyntheticModel;
+
+/**
+ * Measures the business queries contributed for logical components, as computed by the semantic browser and the
+ * property views: available and current elements of each query, on leaf components.
+ */
+public class BusinessQueriesBenchmark extends ModelBenchmark {
+
+  private final List<IBusinessQuery> queries = new ArrayList<>();
+
+  public BusinessQueriesBenchmark(SyntheticModel model) {
+    super("BusinessQueries.LogicalComponent", model); //$NON-NLS-1$
+  }
+
+  @Override
+  public void setUp() {
+    for (IBusinessQuery query : BusinessQueriesProvider.getInstance().getAllContributions()) {
+      if (LaPackage.Literals.LOGICAL_COMPONENT == query.getEClass()) {
+        queries.add(query);
+      }
+    }
+    setParam("queries", Integer.valueOf(queries.size())); //$NON-NLS-1$
+  }
+
+  @Override
+  public Object run() {
+    LogicalComponent component = next(model.getComponents());
+    int count = 0;
+    for (IBusinessQuery query : queries) {
+      List<EObject> available = query.getAvailableElements(component);
+      List<EObject> current = query.getCurrentElements(component, false);
+      count += available.size() + current.size();
+    }
+    return Integer.valueOf(count);
+  }
+
+  @Override
+  public void tearDown() {
+    queries.clear();
+  }
+}
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.microbenchmarks.ju.benchmarks;
+
+import org.polarsys.capella.common.model.helpers.DerivedFeatureDispatcher;
+import org.polarsys.capella.core.data.la.LogicalFunction;
+import org.polarsys.capella.test.microbenchmarks.ju.model.SyntheticModel;
+
+/**
+ * Measures the access to derived properties of all functions, with the {@link DerivedFeatureDispatcher} table enabled
+ * or disabled.
+ */
+public class DerivedFeatureBenchmark extends ModelBenchmark {
+
+  private final boolean enabled;
+
+  private boolean previous;
+
+  public DerivedFeatureBenchmark(SyntheticModel model, boolean enabled) {
+    super("DerivedFeatures.functions", model); //$NON-NLS-1$
+    this.enabled = enabled;
+    setParam("dispatch", Boolean.valueOf(enabled)); //$NON-NLS-1$
+  }
+
+  @Override
+  public void setUp() {
+    previous = DerivedFeatureDispatcher.isEnabled();
+    DerivedFeatureDispatcher.setEnabled(enabled);
+  }
+
+  @Override
+  public Object run() {
+    int count = 0;
+    for (LogicalFunction function : model.getFunctions()) {
+      count += function.getContainedGenericTraces().size();
+      count += function.getAllocationBlocks().size();
+      count += function.getIncoming().size();
+      count += function.getIncomingTraces().size();
+      count += function.getInvolvingCapabilities().size();
+    }
+    return Integer.valueOf(count);
+  }
+
+  @Override
+  public void tearDown() {
+    DerivedFeatureDispatcher.setEnabled(previous);
+  }
+}
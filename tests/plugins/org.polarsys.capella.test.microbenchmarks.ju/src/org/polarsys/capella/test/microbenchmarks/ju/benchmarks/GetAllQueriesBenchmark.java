@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.microbenchmarks.ju.benchmarks;
+
+import org.polarsys.capella.common.queries.interpretor.QueryInterpretor;
+import org.polarsys.capella.test.microbenchmarks.ju.model.SyntheticModel;
+
+/**
+ * Measures a GetAll query, registered in the {@link QueryInterpretor}, on the logical architecture.
+ */
+public class GetAllQueriesBenchmark extends ModelBenchmark {
+
+  private final String queryIdentifier;
+
+  /**
+   * @param model
+   * @param queryIdentifier
+   *          one of {@link org.polarsys.capella.core.model.helpers.queries.QueryIdentifierConstants}
+   */
+  public GetAllQueriesBenchmark(SyntheticModel model, String queryIdentifier) {
+    super("QueryInterpretor." + queryIdentifier, model); //$NON-NLS-1$
+    this.queryIdentifier = queryIdentifier;
+  }
+
+  @Override
+  public Object run() {
+    return QueryInterpretor.executeQuery(queryIdentifier, model.getLogicalArchitecture());
+  }
+}
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.microbenchmarks.ju.benchmarks;
+
+import org.polarsys.capella.common.helpers.EObjectExt;
+import org.polarsys.capella.test.microbenchmarks.ju.model.SyntheticModel;
+
+/**
+ * Measures {@link EObjectExt#getReferencers(org.eclipse.emf.ecore.EObject)} on leaf functions, referenced by their
+ * allocation.
+ */
+public class GetReferencersBenchmark extends ModelBenchmark {
+
+  public GetReferencersBenchmark(SyntheticModel model) {
+    super("EObjectExt.getReferencers", model); //$NON-NLS-1$
+  }
+
+  @Override
+  public Object run() {
+    return EObjectExt.getReferencers(next(model.getFunctions()));
+  }
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.microbenchmarks.ju.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.polarsys.capella.common.data.modellingcore.ModelElement;
+import org.polarsys.capella.common.lib.CompactId;
+import org.polarsys.capella.test.microbenchmarks.ju.model.SyntheticModel;
+
+/**
+ * Measures the lookup of all elements of the generated model by their ID, in a resource loaded with
+ * {@link CompactId compact IDs} enabled or disabled.<br>
+ * The heap retained by the loaded resource is reported as the <code>retainedBytes</code> parameter.
+ */
+public class IdIndexBenchmark extends ModelBenchmark {
+
+  private final boolean compactIds;
+
+  private boolean wasEnabled;
+
+  private Resource resource;
+
+  private List<String> ids;
+
+  public IdIndexBenchmark(SyntheticModel model, boolean compactIds) {
+    super("XMI.getEObjectByID", model); //$NON-NLS-1$
+    this.compactIds = compactIds;
+    setParam("compactIds", Boolean.valueOf(compactIds)); //$NON-NLS-1$
+  }
+
+  @Override
+  public void setUp() throws Exception {
+    wasEnabled = CompactId.isEnabled();
+    CompactId.setEnabled(compactIds);
+
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    model.getResource().save(stream, null);
+    byte[] content = stream.toByteArray();
+
+    long before = getUsedMemory();
+    resource = new ResourceSetImpl().createResource(model.getResource().getURI());
+    resource.load(new ByteArrayInputStream(content), null);
+    long after = getUsedMemory();
+    setParam("retainedBytes", Long.valueOf(after - before)); //$NON-NLS-1$
+    checkIdIndex(resource, compactIds);
+
+    ids = new ArrayList<>();
+    for (Iterator<EObject> it = model.getResource().getAllContents(); it.hasNext();) {
+      EObject object = it.next();
+      if (object instanceof ModelElement && ((ModelElement) object).getId() != null) {
+        ids.add(((ModelElement) object).getId());
+      }
+    }
+    setParam("ids", Integer.valueOf(ids.size())); //$NON-NLS-1$
+  }
+
+  private long getUsedMemory() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  @Override
+  public Object run() {
+    int found = 0;
+    for (String id : ids) {
+      if (resource.getEObject(id) != null) {
+        found++;
+      }
+    }
+    return Integer.valueOf(found);
+  }
+
+  @Override
+  public void tearDown() {
+    resource.unload();
+    resource = null;
+    ids = null;
+    CompactId.setEnabled(wasEnabled);
+  }
+}
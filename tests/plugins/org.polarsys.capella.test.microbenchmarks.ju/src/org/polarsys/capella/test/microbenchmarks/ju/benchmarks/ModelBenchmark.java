@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.microbenchmarks.ju.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.polarsys.capella.common.data.core.gen.xmi.impl.CompactIdMap;
+import org.polarsys..capella.test.microbenchmarks.ju.harness.MicroBenchmark;
+import org.polarsys.capella.test.microbenchmarks.ju.model.SyntheticModel;
+
+/**
+ * A micro-benchmark on a generated model.
+ */
+public abstract class ModelBenchmark extends MicroBenchmark {
+
+  protected final SyntheticModel model;
+
+  private int cursor;
+
+  protected ModelBenchmark(String name, SyntheticModel model) {
+    super(name);
+    this.model = model;
+    setParam("elements", Integer.valueOf(model.getSize())); //$NON-NLS-1$
+  }
+
+  /**
+   * @return the elements of the given list in turn, so that successive operations do not work on the same element
+   */
+  protected <T> T next(List<T> elements) {
+    cursor = (cursor + 1) % elements.size();
+    return elements.get(cursor);
+  }
+
+  /**
+   * Check that the given resource indexes its elements with a {@link CompactIdMap} if and only if compact IDs are
+   * expected, so that measures are not reported for the wrong index.
+   */
+  protected void checkIdIndex(Resource resource, boolean compactIds) {
+    Map<String, EObject> index = ((XMLResource) resource).getIDToEObjectMap();
+    if (compactIds != (index instanceof CompactIdMap)) {
+      throw new IllegalStateException("Unexpected ID index " + index.getClass().getName()); //$NON-NLS-1$
+    }
+    setParam("idIndex", index.getClass().getSimpleName()); //$NON-NLS-1$
+  }
+}
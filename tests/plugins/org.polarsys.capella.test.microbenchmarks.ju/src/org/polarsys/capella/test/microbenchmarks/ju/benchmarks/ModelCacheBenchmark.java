@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.microbenchmarks.ju.benchmarks;
+
+import org.polarsys.capella.core.data.fa.AbstractFunction;
+import org.polarsys.capella.core.data.helpers.cache.ModelCache;
+import org.polarsys.capella.core.data.helpers.fa.services.FunctionExt;
+import org.polarsys.capella.core.model.helpers.BlockArchitectureExt;
+import org.polarsys.capella.test.microbenchmarks.ju.model.SyntheticModel;
+
+/**
+ * Measures {@link FunctionExt#getAllLeafAbstractFunctions(AbstractFunction)} on the root function, which goes through
+ * the {@link ModelCache}, with the cache enabled (as during a diagram refresh) or disabled.
+ */
+public class ModelCacheBenchmark extends ModelBenchmark {
+
+  private final boolean enabled;
+
+  private AbstractFunction rootFunction;
+
+  public ModelCacheBenchmark(SyntheticModel model, boolean enabled) {
+    super("ModelCache.getAllLeafAbstractFunctions", model); //$NON-NLS-1$
+    this.enabled = enabled;
+    setParam("cache", Boolean.valueOf(enabled)); //$NON-NLS-1$
+  }
+
+  @Override
+  public void setUp() {
+    rootFunction = BlockArchitectureExt.getRootFunction(model.getLogicalArchitecture(), false);
+    if (enabled) {
+      ModelCache.enable();
+    }
+  }
+
+  @Override
+  public Object run() {
+    return FunctionExt.getAllLeafAbstractFunctions(rootFunction);
+  }
+
+  @Override
+  public void tearDown() {
+    if (enabled) {
+      ModelCache.disable();
+    }
+    rootFunction = null;
+  }
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.microbenchmarks.ju.benchmarks;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.polarsys.capella.core.transition.common.transposer.ExtendedScheduler;
+import org.polarsys.capella.test.microbenchmarks.ju.model.SyntheticModel;
+import org.polarsys.kitalpha.transposer.analyzer.graph.Graph;
+import org.polarsys.kitalpha.transposer.analyzer.graph.GraphFactory;
+import org.polarsys.kitalpha.transposer.analyzer.graph.Vertex;
+
+/**
+ * Measures the scheduling of a transition by the {@link ExtendedScheduler}, on a dependency graph of the elements of
+ * the logical architecture: each element depends on its container and on the elements it references, as with the
+ * premises of transition rules.
+ */
+public class TransitionSchedulerBenchmark extends ModelBenchmark {
+
+  private Graph graph;
+
+  public TransitionSchedulerBenchmark(SyntheticModel model) {
+    super("ExtendedScheduler.schedule", model); //$NON-NLS-1$
+  }
+
+  @Override
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  public void setUp() {
+    graph = GraphFactory.eINSTANCE.createGraph();
+    Map<EObject, Vertex> vertices = new IdentityHashMap<>();
+    EObject root = model.getLogicalArchitecture();
+    addVertex(root, vertices);
+    for (Iterator<EObject> iterator = root.eAllContents(); iterator.hasNext();) {
+      addVertex(iterator.next(), vertices);
+    }
+
+    for (Map.Entry<EObject, Vertex> entry : vertices.entrySet()) {
+      EObject element = entry.getKey();
+      Vertex vertex = entry.getValue();
+      Vertex container = vertices.get(element.eContainer());
+      if (null != container) {
+        graph.addAdjacent(vertex, container, "container", true); //$NON-NLS-1$
+      }
+      for (EReference reference : element.eClass().getEAllReferences()) {
+        if (reference.isContainment() || reference.isContainer() || reference.isDerived() || reference.isTransient()) {
+          continue;
+        }
+        Object value = element.eGet(reference, false);
+        Collection<?> targets = reference.isMany() ? (Collection<?>) value : Collections.singleton(value);
+        for (Object target : targets) {
+          Vertex targetVertex = vertices.get(target);
+          if ((null != targetVertex) && (targetVertex != vertex) && (null == vertex.getOutgoingEdgeTo(targetVertex))) {
+            graph.addAdjacent(vertex, targetVertex, reference.getName(), false);
+          }
+        }
+      }
+    }
+    setParam("vertices", Integer.valueOf(vertices.size())); //$NON-NLS-1$
+  }
+
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private void addVertex(EObject element, Map<EObject, Vertex> vertices) {
+    Vertex vertex = GraphFactory.eINSTANCE.createVertex();
+    vertex.setContent(element);
+    vertex.setName(element.eClass().getName());
+    vertex.setHotSpot(true);
+    vertices.put(element, vertex);
+    graph.addVertex(vertex);
+  }
+
+  @Override
+  public Object run() {
+    ExtendedScheduler scheduler = new ExtendedScheduler(graph);
+    scheduler.schedule(null, null);
+    Object result = scheduler.getScheduleResult();
+    scheduler.dispose();
+    return result;
+  }
+
+  @Override
+  public void tearDown() {
+    graph = null;
+  }
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.microbenchmarks.ju.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.polarsys.capella.common.lib.CompactId;
+import org.polarsys.capella.test.microbenchmarks.ju.model.SyntheticModel;
+
+/**
+ * Measures the deserialization of the generated model, from memory, in a new resource set using the registered Capella
+ * resource factory, with {@link CompactId compact IDs} enabled or disabled.
+ */
+public class XmiLoadBenchmark extends ModelBenchmark {
+
+  private final boolean compactIds;
+
+  private boolean wasEnabled;
+
+  private byte[] content;
+
+  public XmiLoadBenchmark(SyntheticModel model, boolean compactIds) {
+    super("XMI.load", model); //$NON-NLS-1$
+    this.compactIds = compactIds;
+    setParam("compactIds", Boolean.valueOf(compactIds)); //$NON-NLS-1$
+  }
+
+  @Override
+  public void setUp() throws Exception {
+    wasEnabled = CompactId.isEnabled();
+    CompactId.setEnabled(compactIds);
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    model.getResource().save(stream, null);
+    content = stream.toByteArray();
+    setParam("bytes", Integer.valueOf(content.length)); //$NON-NLS-1$
+
+    Resource resource = new ResourceSetImpl().createResource(model.getResource().getURI());
+    resource.load(new ByteArrayInputStream(content), null);
+    checkIdIndex(resource, compactIds);
+    resource.unload();
+  }
+
+  @Override
+  public Object run() throws Exception {
+    Resource resource = new ResourceSetImpl().createResource(model.getResource().getURI());
+    resource.load(new ByteArrayInputStream(content), null);
+    Object result = resource.getContents().get(0);
+    resource.unload();
+    return result;
+  }
+
+  @Override
+  public void tearDown() {
+    CompactId.setEnabled(wasEnabled);
+    content = null;
+  }
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.microbenchmarks.ju.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+
+import org.polarsys.capella.test.microbenchmarks.ju.model.SyntheticModel;
+
+/**
+ * Measures the serialization of the generated model, in memory so that disk accesses are not measured.
+ */
+public class XmiSaveBenchmark extends ModelBenchmark {
+
+  public XmiSaveBenchmark(SyntheticModel model) {
+    super("XMI.save", model); //$NON-NLS-1$
+  }
+
+  @Override
+  public Object run() throws Exception {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    model.getResource().save(stream, null);
+    return Integer.valueOf(stream.size());
+  }
+}
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.microbenchmarks.ju.harness;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes micro-benchmark results in the JSON format of JMH, so that they can be compared with the usual JMH tools.
+ * Allocation measures are reported as the secondary metrics of the JMH GC profiler.
+ */
+public class JsonResultWriter {
+
+  private static final String INDENT = "    "; //$NON-NLS-1$
+
+  /**
+   * Write given results to the given file, replacing its content.
+   *
+   * @param results
+   * @param file
+   */
+  public void write(List<MicroBenchmarkResult> results, File file) throws IOException {
+    File parent = file.getAbsoluteFile().getParentFile();
+    if ((null != parent) && !parent.exists()) {
+      parent.mkdirs();
+    }
+    try (Writer writer = new BufferedWriter(
+        new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+      write(results, writer);
+    }
+  }
+
+  public void write(List<MicroBenchmarkResult> results, Writer writer) throws IOException {
+    writer.write("[\n"); //$NON-NLS-1$
+    for (Iterator<MicroBenchmarkResult> iterator = results.iterator(); iterator.hasNext();) {
+      writeResult(iterator.next(), writer);
+      writer.write(iterator.hasNext() ? ",\n" : "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+    writer.write("]\n"); //$NON-NLS-1$
+  }
+
+  private void writeResult(MicroBenchmarkResult result, Writer writer) throws IOException {
+    String time = result.getIterationTime() + " ms"; //$NON-NLS-1$
+    writer.write(INDENT + "{\n"); //$NON-NLS-1$
+    writeField(writer, 2, "benchmark", string(result.getBenchmark()), true); //$NON-NLS-1$
+    writeField(writer, 2, "mode", string("avgt"), true); //$NON-NLS-1$ //$NON-NLS-2$
+    writeField(writer, 2, "threads", "1", true); //$NON-NLS-1$ //$NON-NLS-2$
+    writeField(writer, 2, "forks", "0", true); //$NON-NLS-1$ //$NON-NLS-2$
+    writeField(writer, 2, "jvm", string(System.getProperty("java.home")), true); //$NON-NLS-1$ //$NON-NLS-2$
+    writeField(writer, 2, "jdkVersion", string(System.getProperty("java.version")), true); //$NON-NLS-1$ //$NON-NLS-2$
+    writeField(writer, 2, "warmupIterations", String.valueOf(result.getWarmupIterations()), true); //$NON-NLS-1$
+    writeField(writer, 2, "warmupTime", string(time), true); //$NON-NLS-1$
+    writeField(writer, 2, "measurementIterations", String.valueOf(result.getMeasurementIterations()), true); //$NON-NLS-1$
+    writeField(writer, 2, "measurementTime", string(time), true); //$NON-NLS-1$
+    if (!result.getParams().isEmpty()) {
+      writeField(writer, 2, "params", params(result.getParams()), true); //$NON-NLS-1$
+    }
+
+    StringBuilder rawData = new StringBuilder("[ [ "); //$NON-NLS-1$
+    double[] times = result.getTimes();
+    for (int i = 0; i < times.length; i++) {
+      rawData.append((i == 0) ? "" : ", ").append(number(times[i])); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+    rawData.append(" ] ]"); //$NON-NLS-1$
+    writer.write(indent(2) + "\"primaryMetric\" : {\n"); //$NON-NLS-1$
+    writeField(writer, 3, "score", number(result.getScore()), true); //$NON-NLS-1$
+    writeField(writer, 3, "scoreError", number(result.getScoreError()), true); //$NON-NLS-1$
+    writeField(writer, 3, "scoreUnit", string("us/op"), true); //$NON-NLS-1$ //$NON-NLS-2$
+    writeField(writer, 3, "rawData", rawData.toString(), false); //$NON-NLS-1$
+    writer.write(indent(2) + "},\n"); //$NON-NLS-1$
+
+    writer.write(indent(2) + "\"secondaryMetrics\" : {\n"); //$NON-NLS-1$
+    writeMetric(writer, "\u00b7gc.alloc.rate", result.getAllocationRate(), "MB/sec", true); //$NON-NLS-1$ //$NON-NLS-2$
+    writeMetric(writer, "\u00b7gc.alloc.rate.norm", result.getAllocatedBytesPerOperation(), "B/op", true); //$NON-NLS-1$ //$NON-NLS-2$
+    writeMetric(writer, "\u00b7gc.count", result.getGcCount(), "counts", true); //$NON-NLS-1$ //$NON-NLS-2$
+    writeMetric(writer, "\u00b7gc.time", result.getGcTime(), "ms", false); //$NON-NLS-1$ //$NON-NLS-2$
+    writer.write(indent(2) + "}\n"); //$NON-NLS-1$
+    writer.write(INDENT + "}"); //$NON-NLS-1$
+  }
+
+  private void writeMetric(Writer writer, String name, double score, String unit, boolean more) throws IOException {
+    writer.write(indent(3) + string(name) + " : {\n"); //$NON-NLS-1$
+    writeField(writer, 4, "score", number(score), true); //$NON-NLS-1$
+    writeField(writer, 4, "scoreError", string("NaN"), true); //$NON-NLS-1$ //$NON-NLS-2$
+    writeField(writer, 4, "scoreUnit", string(unit), false); //$NON-NLS-1$
+    writer.write(indent(3) + (more ? "},\n" : "}\n")); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  private void writeField(Writer writer, int level, String name, String value, boolean more) throws IOException {
+    writer.write(indent(level) + string(name) + " : " + value + (more ? ",\n" : "\n")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+  }
+
+  private static String indent(int level) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < level; i++) {
+      builder.append(INDENT);
+    }
+    return builder.toString();
+  }
+
+  private static String params(Map<String, String> params) {
+    StringBuilder builder = new StringBuilder("{ "); //$NON-NLS-1$
+    for (Iterator<Map.Entry<String, String>> iterator = params.entrySet().iterator(); iterator.hasNext();) {
+      Map.Entry<String, String> param = iterator.next();
+      builder.append(string(param.getKey())).append(" : ").append(string(param.getValue())); //$NON-NLS-1$
+      builder.append(iterator.hasNext() ? ", " : " "); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+    return builder.append("}").toString(); //$NON-NLS-1$
+  }
+
+  /**
+   * Non finite values are not valid JSON numbers, they are written as strings as JMH does.
+   */
+  private static String number(double value) {
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      return string(String.valueOf(value));
+    }
+    return String.format(Locale.ROOT, "%.6f", Double.valueOf(value)); //$NON-NLS-1$
+  }
+
+  private static String string(String value) {
+    StringBuilder builder = new StringBuilder("\""); //$NON-NLS-1$
+    for (char c : String.valueOf(value).toCharArray()) {
+      switch (c) {
+      case '"':
+        builder.append("\\\""); //$NON-NLS-1$
+        break;
+      case '\\':
+        builder.append("\\\\"); //$NON-NLS-1$
+        break;
+      case '\n':
+        builder.append("\\n"); //$NON-NLS-1$
+        break;
+      case '\r':
+        builder.append("\\r"); //$NON-NLS-1$
+        break;
+      case '\t':
+        builder.append("\\t"); //$NON-NLS-1$
+        break;
+      default:
+        if (c < 0x20) {
+          builder.append(String.format("\\u%04x", Integer.valueOf(c))); //$NON-NLS-1$
+        } else {
+          builder.append(c);
+        }
+      }
+    }
+    return builder.append('"').toString();
+  }
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.microbenchmarks.ju.harness;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An operation measured by the {@link MicroBenchmarkRunner}.
+ */
+public abstract class MicroBenchmark {
+
+  private final String name;
+
+  private final Map<String, String> params = new LinkedHashMap<>();
+
+  protected MicroBenchmark(String name) {
+    this.name = name;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return the parameters of this benchmark, reported along with its results
+   */
+  public Map<String, String> getParams() {
+    return params;
+  }
+
+  public MicroBenchmark setParam(String key, Object value) {
+    params.put(key, String.valueOf(value));
+    return this;
+  }
+
+  /**
+   * Prepare the state used by the operation. Not measured.
+   */
+  public void setUp() throws Exception {
+    // Do nothing
+  }
+
+  /**
+   * Run the measured operation once.
+   *
+   * @return the result of the operation, consumed by the runner so that the operation is not optimized away
+   */
+  public abstract Object run() throws Exception;
+
+  /**
+   * Release the state used by the operation. Not measured.
+   */
+  public void tearDown() throws Exception {
+    // Do nothing
+  }
+}
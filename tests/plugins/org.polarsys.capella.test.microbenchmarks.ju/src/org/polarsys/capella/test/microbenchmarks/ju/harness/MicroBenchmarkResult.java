@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.microbenchmarks.ju.harness;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The measures of a micro-benchmark.
+ */
+public class MicroBenchmarkResult {
+
+  /**
+   * Quantile of the Student distribution used for the error of scores, as JMH does (99.9% confidence interval,
+   * approximated by the normal distribution).
+   */
+  private static final double CONFIDENCE_QUANTILE = 3.291;
+
+  /**
+   * The measures of an iteration.
+   */
+  public static class Iteration {
+
+    final long operations;
+
+    final long duration;
+
+    final long allocatedBytes;
+
+    final long gcCount;
+
+    final long gcTime;
+
+    /**
+     * @param operations
+     *          the number of operations
+     * @param duration
+     *          in nanoseconds
+     * @param allocatedBytes
+     *          -1 if unknown
+     * @param gcCount
+     * @param gcTime
+     *          in milliseconds
+     */
+    public Iteration(long operations, long duration, long allocatedBytes, long gcCount, long gcTime) {
+      this.operations = operations;
+      this.duration = duration;
+      this.allocatedBytes = allocatedBytes;
+      this.gcCount = gcCount;
+      this.gcTime = gcTime;
+    }
+
+    /**
+     * @return the average time of an operation, in microseconds
+     */
+    public double getTimePerOperation() {
+      return duration / 1000d / operations;
+    }
+
+    /**
+     * @return the allocated bytes per operation, -1 if unknown
+     */
+    public double getAllocatedBytesPerOperation() {
+      return (allocatedBytes < 0) ? -1 : (double) allocatedBytes / operations;
+    }
+
+    /**
+     * @return the allocation rate, in MB per second, -1 if unknown
+     */
+    public double getAllocationRate() {
+      return (allocatedBytes < 0) ? -1 : allocatedBytes / (1024d * 1024d) / (duration / 1e9);
+    }
+  }
+
+  private final String benchmark;
+
+  private final Map<String, String> params;
+
+  private final int warmupIterations;
+
+  private final int measurementIterations;
+
+  private final long iterationTime;
+
+  private final List<Iteration> iterations = new ArrayList<>();
+
+  public MicroBenchmarkResult(String benchmark, Map<String, String> params, int warmupIterations,
+      int measurementIterations, long iterationTime) {
+    this.benchmark = benchmark;
+    this.params = new LinkedHashMap<>(params);
+    this.warmupIterations = warmupIterations;
+    this.measurementIterations = measurementIterations;
+    this.iterationTime = iterationTime;
+  }
+
+  void addIteration(Iteration iteration) {
+    iterations.add(iteration);
+  }
+
+  public String getBenchmark() {
+    return benchmark;
+  }
+
+  public Map<String, String> getParams() {
+    return Collections.unmodifiableMap(params);
+  }
+
+  public int getWarmupIterations() {
+    return warmupIterations;
+  }
+
+  public int getMeasurementIterations() {
+    return measurementIterations;
+  }
+
+  public long getIterationTime() {
+    return iterationTime;
+  }
+
+  public List<Iteration> getIterations() {
+    return Collections.unmodifiableList(iterations);
+  }
+
+  /**
+   * @return the average time of an operation over all iterations, in microseconds
+   */
+  public double getScore() {
+    return mean(getTimes());
+  }
+
+  /**
+   * @return the half-width of the confidence interval of the score
+   */
+  public double getScoreError() {
+    double[] times = getTimes();
+    if (times.length < 2) {
+      return Double.NaN;
+    }
+    double mean = mean(times);
+    double sum = 0;
+    for (double time : times) {
+      sum += (time - mean) * (time - mean);
+    }
+    return CONFIDENCE_QUANTILE * Math.sqrt(sum / (times.length - 1)) / Math.sqrt(times.length);
+  }
+
+  /**
+   * @return the allocated bytes per operation over all iterations, -1 if unknown
+   */
+  public double getAllocatedBytesPerOperation() {
+    long bytes = 0;
+    long operations = 0;
+    for (Iteration iteration : iterations) {
+      if (iteration.allocatedBytes < 0) {
+        return -1;
+      }
+      bytes += iteration.allocatedBytes;
+      operations += iteration.operations;
+    }
+    return (operations == 0) ? -1 : (double) bytes / operations;
+  }
+
+  /**
+   * @return the allocation rate over all iterations, in MB per second, -1 if unknown
+   */
+  public double getAllocationRate() {
+    long bytes = 0;
+    long duration = 0;
+    for (Iteration iteration : iterations) {
+      if (iteration.allocatedBytes < 0) {
+        return -1;
+      }
+      bytes += iteration.allocatedBytes;
+      duration += iteration.duration;
+    }
+    return (duration == 0) ? -1 : bytes / (1024d * 1024d) / (duration / 1e9);
+  }
+
+  public long getGcCount() {
+    long count = 0;
+    for (Iteration iteration : iterations) {
+      count += iteration.gcCount;
+    }
+    return count;
+  }
+
+  /**
+   * @return in milliseconds
+   */
+  public long getGcTime() {
+    long time = 0;
+    for (Iteration iteration : iterations) {
+      time += iteration.gcTime;
+    }
+    return time;
+  }
+
+  double[] getTimes() {
+    double[] times = new double[iterations.size()];
+    for (int i = 0; i < times.length; i++) {
+      times[i] = iterations.get(i).getTimePerOperation();
+    }
+    return times;
+  }
+
+  private static double mean(double[] values) {
+    if (values.length == 0) {
+      return Double.NaN;
+    }
+    double sum = 0;
+    for (double value : values) {
+      sum += value;
+    }
+    return sum / values.length;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(benchmark);
+    if (!params.isEmpty()) {
+      builder.append(params);
+    }
+    builder.append(String.format(": %.3f +- %.3f us/op, %.1f B/op, %.1f MB/sec", //$NON-NLS-1$
+        Double.valueOf(getScore()), Double.valueOf(getScoreError()), Double.valueOf(getAllocatedBytesPerOperation()),
+        Double.valueOf(getAllocationRate())));
+    return builder.toString();
+  }
+}
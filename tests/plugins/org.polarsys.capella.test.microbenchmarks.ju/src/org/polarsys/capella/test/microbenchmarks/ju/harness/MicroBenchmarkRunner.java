@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.microbenchmarks.ju.harness;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+
+/**
+ * Measures the average time and the allocations of micro-benchmarks, in the running VM.
+ * <p>
+ * Each benchmark runs warmup iterations, which are not reported, then measurement iterations. During an iteration, the
+ * operation is run as many times as possible during the iteration time. Allocations are measured on the benchmark
+ * thread, as the JMH GC profiler does.
+ * </p>
+ */
+public class MicroBenchmarkRunner {
+
+  public static final String WARMUP_ITERATIONS_PROPERTY = "org.polarsys.capella.test.microbenchmarks.warmupIterations"; //$NON-NLS-1$
+
+  public static final String MEASUREMENT_ITERATIONS_PROPERTY = "org.polarsys.capella.test.microbenchmarks.measurementIterations"; //$NON-NLS-1$
+
+  public static final String ITERATION_TIME_PROPERTY = "org.polarsys.capella.test.microbenchmarks.iterationTime"; //$NON-NLS-1$
+
+  private final int warmupIterations;
+
+  private final int measurementIterations;
+
+  /**
+   * In milliseconds.
+   */
+  private final long iterationTime;
+
+  /**
+   * Results of operations are folded here, so that the JIT cannot drop the operations.
+   */
+  private volatile int sink;
+
+  private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+  /**
+   * com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long), if provided by the VM.
+   */
+  private final Method allocatedBytesMethod;
+
+  /**
+   * Create a runner configured by system properties (3 warmup iterations, 5 measurement iterations, 1000ms per
+   * iteration by default).
+   */
+  public MicroBenchmarkRunner() {
+    this(Integer.getInteger(WARMUP_ITERATIONS_PROPERTY, 3).intValue(),
+        Integer.getInteger(MEASUREMENT_ITERATIONS_PROPERTY, 5).intValue(),
+        Long.getLong(ITERATION_TIME_PROPERTY, 1000).longValue());
+  }
+
+  public MicroBenchmarkRunner(int warmupIterations, int measurementIterations, long iterationTime) {
+    this.warmupIterations = Math.max(0, warmupIterations);
+    this.measurementIterations = Math.max(1, measurementIterations);
+    this.iterationTime = Math.max(1, iterationTime);
+    this.allocatedBytesMethod = getAllocatedBytesMethod();
+  }
+
+  public int getWarmupIterations() {
+    return warmupIterations;
+  }
+
+  public int getMeasurementIterations() {
+    return measurementIterations;
+  }
+
+  public long getIterationTime() {
+    return iterationTime;
+  }
+
+  /**
+   * Run the given benchmark.
+   *
+   * @param benchmark
+   * @return its measures
+   */
+  public MicroBenchmarkResult run(MicroBenchmark benchmark) throws Exception {
+    benchmark.setUp();
+    try {
+      for (int i = 0; i < warmupIterations; i++) {
+        runIteration(benchmark);
+      }
+      MicroBenchmarkResult result = new MicroBenchmarkResult(benchmark.getName(), benchmark.getParams(),
+          warmupIterations, measurementIterations, iterationTime);
+      for (int i = 0; i < measurementIterations; i++) {
+        result.addIteration(runIteration(benchmark));
+      }
+      return result;
+    } finally {
+      benchmark.tearDown();
+    }
+  }
+
+  protected MicroBenchmarkResult.Iteration runIteration(MicroBenchmark benchmark) throws Exception {
+    long gcCount = getGcCount();
+    long gcTime = getGcTime();
+    long allocatedBytes = getAllocatedBytes();
+
+    long start = System.nanoTime();
+    long deadline = start + iterationTime * 1000000L;
+    long operations = 0;
+    long now;
+    do {
+      consume(benchmark.run());
+      operations++;
+      now = System.nanoTime();
+    } while (now < deadline);
+
+    long allocated = (allocatedBytes < 0) ? -1 : getAllocatedBytes() - allocatedBytes;
+    return new MicroBenchmarkResult.Iteration(operations, now - start, allocated, getGcCount() - gcCount,
+        getGcTime() - gcTime);
+  }
+
+  private void consume(Object result) {
+    sink += System.identityHashCode(result);
+  }
+
+  /**
+   * @return the number of bytes allocated by the current thread, -1 if the VM does not provide it
+   */
+  private long getAllocatedBytes() {
+    if (null != allocatedBytesMethod) {
+      try {
+        return ((Long) allocatedBytesMethod.invoke(threadBean, Long.valueOf(Thread.currentThread().getId())))
+            .longValue();
+      } catch (ReflectiveOperationException e) {
+        return -1;
+      }
+    }
+    return -1;
+  }
+
+  private Method getAllocatedBytesMethod() {
+    try {
+      Class<?> beanClass = Class.forName("com.sun.management.ThreadMXBean"); //$NON-NLS-1$
+      if (beanClass.isInstance(threadBean)) {
+        Method method = beanClass.getMethod("getThreadAllocatedBytes", long.class); //$NON-NLS-1$
+        method.invoke(threadBean, Long.valueOf(Thread.currentThread().getId()));
+        return method;
+      }
+    } catch (ReflectiveOperationException | LinkageError e) {
+      // Allocations are not measured.
+    }
+    return null;
+  }
+
+  private static long getGcCount() {
+    long count = 0;
+    for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+      count += Math.max(0, bean.getCollectionCount());
+    }
+    return count;
+  }
+
+  private static long getGcTime() {
+    long time = 0;
+    for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+      time += Math.max(0, bean.getCollectionTime());
+    }
+    return time;
+  }
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.microbenchmarks.ju.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.polarsys.capella.common.ef.ExecutionManager;
+import org.polarsys.capella.common.ef.ExecutionManagerRegistry;
+import org.polarsys.capella.core.data.la.LogicalArchitecture;
+import org.polarsys.capella.core.data.la.LogicalComponent;
+import org.polarsys.capella.core.data.la.LogicalFunction;
+import org.polarsys.capella.core.model.skeleton.CapellaModelSkeleton;
+
+/**
+ * A model built by the {@link SyntheticModelGenerator}, in its own editing domain.
+ */
+public class SyntheticModel {
+
+  private final ExecutionManager manager;
+
+  private final CapellaModelSkeleton skeleton;
+
+  final List<LogicalComponent> components = new ArrayList<>();
+
+  final List<LogicalFunction> functions = new ArrayList<>();
+
+  int size;
+
+  SyntheticModel(ExecutionManager manager, CapellaModelSkeleton skeleton) {
+    this.manager = manager;
+    this.skeleton = skeleton;
+  }
+
+  public ExecutionManager getExecutionManager() {
+    return manager;
+  }
+
+  public CapellaModelSkeleton getSkeleton() {
+    return skeleton;
+  }
+
+  public Resource getResource() {
+    return skeleton.getProject().eResource();
+  }
+
+  public LogicalArchitecture getLogicalArchitecture() {
+    return skeleton.getLogicalArchitecture();
+  }
+
+  /**
+   * @return the generated leaf components
+   */
+  public List<LogicalComponent> getComponents() {
+    return Collections.unmodifiableList(components);
+  }
+
+  /**
+   * @return the generated leaf functions
+   */
+  public List<LogicalFunction> getFunctions() {
+    return Collections.unmodifiableList(functions);
+  }
+
+  /**
+   * @return the number of generated elements
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Release the editing domain of the model.
+   */
+  public void dispose() {
+    ExecutionManagerRegistry.getInstance().removeManager(manager);
+    manager.getEditingDomain().dispose();
+    components.clear();
+    functions.clear();
+  }
+}
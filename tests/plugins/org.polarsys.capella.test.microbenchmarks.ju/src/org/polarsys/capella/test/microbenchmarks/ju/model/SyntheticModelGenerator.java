@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.microbenchmarks.ju.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.polarsys.capella.common.ef.ExecutionManager;
+import org.polarsys.capella.common.ef.ExecutionManagerRegistry;
+import org.polarsys.capella.common.ef.command.AbstractReadWriteCommand;
+import org.polarsys.capella.core.data.cs.CsFactory;
+import org.polarsys.capella.core.data.cs.Part;
+import org.polarsys.capella.core.data.fa.AbstractFunction;
+import org.polarsys.capella.core.data.fa.ComponentFunctionalAllocation;
+import org.polarsys.capella.core.data.fa.FaFactory;
+import org.polarsys.capella.core.data.fa.FunctionInputPort;
+import org.polarsys.capella.core.data.fa.FunctionOutputPort;
+import org.polarsys.capella.core.data.fa.FunctionalExchange;
+import org.polarsys.capella.core.data.la.LaFactory;
+import org.polarsys.capella.core.data.la.LogicalArchitecture;
+import org.polarsys.capella.core.data.la.LogicalComponent;
+import org.polarsys.capella.core.data.la.LogicalFunction;
+import org.polarsys.capella.core.model.helpers.BlockArchitectureExt;
+import org.polarsys.capella.core.model.skeleton.CapellaModelSkeleton;
+
+/**
+ * Generates Capella models of a given size, from thousands to millions of elements.
+ * <p>
+ * Elements are generated in the logical architecture, by groups: a group is a logical component with its part, and a
+ * logical function. Each group contains leaf components with their part, and leaf functions with an input and an output
+ * port. Leaf functions are allocated to leaf components, and successive functions of a group are linked by functional
+ * exchanges.
+ * </p>
+ */
+public class SyntheticModelGenerator {
+
+  /**
+   * Number of leaf components and functions in a group.
+   */
+  public static final int GROUP_SIZE = 100;
+
+  private final int size;
+
+  /**
+   * @param size
+   *          the number of elements to generate, in addition to the model skeleton
+   */
+  public SyntheticModelGenerator(int size) {
+    this.size = size;
+  }
+
+  /**
+   * Generate a model in a new editing domain.
+   *
+   * @return the model, to be disposed by the caller
+   */
+  public SyntheticModel generate() {
+    ExecutionManager manager = ExecutionManagerRegistry.getInstance().addNewManager();
+    CapellaModelSkeleton skeleton = new CapellaModelSkeleton.Builder(manager)
+        .setURI(URI.createURI("synthetic" + size + ".capella")) //$NON-NLS-1$ //$NON-NLS-2$
+        .setName("Synthetic " + size) //$NON-NLS-1$
+        .build();
+    final SyntheticModel model = new SyntheticModel(manager, skeleton);
+
+    manager.execute(new AbstractReadWriteCommand() {
+      @Override
+      public void run() {
+        generate(model);
+      }
+    });
+    return model;
+  }
+
+  /**
+   * Groups are built before being attached to the model, so that the transaction does not record each element.
+   */
+  protected void generate(SyntheticModel model) {
+    LogicalArchitecture architecture = model.getLogicalArchitecture();
+    LogicalComponent system = (LogicalComponent) BlockArchitectureExt.getOrCreateSystem(architecture);
+    AbstractFunction rootFunction = BlockArchitectureExt.getRootFunction(architecture);
+
+    List<LogicalComponent> groupComponents = new ArrayList<>();
+    List<Part> groupParts = new ArrayList<>();
+    List<LogicalFunction> groupFunctions = new ArrayList<>();
+
+    int group = 0;
+    while (model.size < size) {
+      LogicalComponent groupComponent = createComponent("LC " + group); //$NON-NLS-1$
+      groupComponents.add(groupComponent);
+      groupParts.add(createPart(groupComponent));
+      LogicalFunction groupFunction = createFunction("LF " + group); //$NON-NLS-1$
+      groupFunctions.add(groupFunction);
+      model.size += 3;
+
+      FunctionOutputPort previousOutput = null;
+      for (int i = 0; (i < GROUP_SIZE) && (model.size < size); i++) {
+        String suffix = group + "." + i; //$NON-NLS-1$
+
+        LogicalComponent component = createComponent("LC " + suffix); //$NON-NLS-1$
+        groupComponent.getOwnedLogicalComponents().add(component);
+        groupComponent.getOwnedFeatures().add(createPart(component));
+
+        LogicalFunction function = createFunction("LF " + suffix); //$NON-NLS-1$
+        groupFunction.getOwnedFunctions().add(function);
+        FunctionInputPort input = FaFactory.eINSTANCE.createFunctionInputPort("FIP " + suffix); //$NON-NLS-1$
+        function.getInputs().add(input);
+        FunctionOutputPort output = FaFactory.eINSTANCE.createFunctionOutputPort("FOP " + suffix); //$NON-NLS-1$
+        function.getOutputs().add(output);
+
+        ComponentFunctionalAllocation allocation = FaFactory.eINSTANCE.createComponentFunctionalAllocation();
+        allocation.setSourceElement(component);
+        allocation.setTargetElement(function);
+        component.getOwnedFunctionalAllocation().add(allocation);
+        model.size += 6;
+
+        if (null != previousOutput) {
+          FunctionalExchange exchange = FaFactory.eINSTANCE.createFunctionalExchange("FE " + suffix); //$NON-NLS-1$
+          exchange.setSource(previousOutput);
+          exchange.setTarget(input);
+          groupFunction.getOwnedFunctionalExchanges().add(exchange);
+          model.size++;
+        }
+        previousOutput = output;
+
+        model.components.add(component);
+        model.functions.add(function);
+      }
+      group++;
+    }
+
+    system.getOwnedLogicalComponents().addAll(groupComponents);
+    system.getOwnedFeatures().addAll(groupParts);
+    rootFunction.getOwnedFunctions().addAll(groupFunctions);
+  }
+
+  private LogicalComponent createComponent(String name) {
+    return LaFactory.eINSTANCE.createLogicalComponent(name);
+  }
+
+  private LogicalFunction createFunction(String name) {
+    return LaFactory.eINSTANCE.createLogicalFunction(name);
+  }
+
+  private Part createPart(LogicalComponent component) {
+    Part part = CsFactory.eINSTANCE.createPart(component.getName());
+    part.setAbstractType(component);
+    return part;
+  }
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.microbenchmarks.ju.suites;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+import org.polarsys.capella.test.framework.api.BasicTestArtefact;
+import org.polarsys.capella.test.framework.api.BasicTestSuite;
+import org.polarsys.capella.test.microbenchmarks.ju.MicroBenchmarksTestCase;
+import org.polarsys.capella.test.microbenchmarks.ju.harness.JsonResultWriter;
+import org.polarsys.capella.test.microbenchmarks.ju.harness.MicroBenchmarkResult;
+
+import junit.framework.Test;
+
+/**
+ * Headless micro-benchmarks of model queries, on generated models.
+ * <p>
+ * Model sizes are given as a comma separated list by the {@value #SIZES_PROPERTY} system property (10000 elements by
+ * default, up to millions of elements). Results of all benchmarks are written in the JMH JSON format to the file given
+ * by the {@value #OUTPUT_PROPERTY} system property (microbenchmarks.json in the working directory by default).
+ * </p>
+ */
+public class MicroBenchmarksTestSuite extends BasicTestSuite {
+
+  public static final String SIZES_PROPERTY = "org.polarsys.capella.test.microbenchmarks.sizes"; //$NON-NLS-1$
+
+  public static final String OUTPUT_PROPERTY = "org.polarsys.capella.test.microbenchmarks.output"; //$NON-NLS-1$
+
+  /**
+   * Returns the suite. This is required to unary launch this test.
+   */
+  public static Test suite() {
+    return new MicroBenchmarksTestSuite();
+  }
+
+  @Override
+  protected List<BasicTestArtefact> getTests() {
+    List<BasicTestArtefact> tests = new ArrayList<BasicTestArtefact>();
+    for (String size : System.getProperty(SIZES_PROPERTY, "10000").split(",")) { //$NON-NLS-1$ //$NON-NLS-2$
+      tests.add(new MicroBenchmarksTestCase(Integer.parseInt(size.trim())));
+    }
+    return tests;
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    List<MicroBenchmarkResult> results = new ArrayList<>();
+    for (Enumeration<Test> tests = tests(); tests.hasMoreElements();) {
+      Test test = tests.nextElement();
+      if (test instanceof MicroBenchmarksTestCase) {
+        results.addAll(((MicroBenchmarksTestCase) test).getResults());
+      }
+    }
+    File output = new File(System.getProperty(OUTPUT_PROPERTY, "microbenchmarks.json")); //$NON-NLS-1$
+    new JsonResultWriter().write(results, output);
+    System.out.println("Micro-benchmark results written to " + output.getAbsolutePath()); //$NON-NLS-1$
+
+    super.tearDown();
+  }
+}
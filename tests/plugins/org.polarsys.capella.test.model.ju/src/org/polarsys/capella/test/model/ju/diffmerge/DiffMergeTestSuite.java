@@ -43,6 +43,7 @@ public class DiffMergeTestSuite extends BasicTestSuite {
     tests.add(new TransferOfElementsBetweenCapellaProjectAndLibTestCase());
     tests.add(new DiffMergeBetweenVersionsOfSameModelCapellaFile());
     tests.add(new DiffmergeDomain());
+    tests.add(new MatchIDPhaseTestCase());
     return tests;
   }
 
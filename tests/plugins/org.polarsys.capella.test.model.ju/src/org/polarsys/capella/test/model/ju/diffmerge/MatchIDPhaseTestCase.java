@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.model.ju.diffmerge;
+
+import static org.eclipse.emf.diffmerge.impl.policies.ConfigurableMatchPolicy.MatchCriterionKind.NAME;
+import static org.eclipse.emf.diffmerge.impl.policies.ConfigurableMatchPolicy.MatchCriterionKind.SEMANTICS;
+import static org.eclipse.emf.diffmerge.impl.policies.ConfigurableMatchPolicy.MatchCriterionKind.STRUCTURE;
+import static org.polarsys.capella.common.mdsofa.common.constant.ICommonConstants.SLASH_CHARACTER;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.emf.diffmerge.generic.api.scopes.IEditableTreeDataScope;
+import org.eclipse.emf.diffmerge.generic.api.scopes.IPersistentDataScope;
+import org.eclipse.emf.diffmerge.ui.specification.IModelScopeDefinition;
+import org.eclipse.emf.ecore.EObject;
+import org.polarsys.capella.common.mdsofa.common.helper.FileHelper;
+import org.polarsys.capella.core.compare.CapellaComparisonMethod;
+import org.polarsys.capella.core.compare.CapellaComparisonMethodFactory;
+import org.polarsys.capella.core.compare.CapellaMatchPolicy;
+import org.polarsys.capella.core.compare.CapellaMatchPolicy.MatchIDStatistics;
+import org.polarsys.capella.core.compare.CapellaScopeFactory;
+import org.polarsys.capella.core.model.handler.command.CapellaResourceHelper;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+
+/**
+ * Checks that the match IDs memoized and precomputed in parallel during a match ID phase are the ones computed without
+ * phase.
+ */
+public class MatchIDPhaseTestCase extends BasicTestCase {
+
+  private static final String MODEL = "DiffMergeSourcePrj"; //$NON-NLS-1$
+
+  private CapellaComparisonMethod method;
+
+  @Override
+  public List<String> getRequiredTestModels() {
+    return Arrays.asList(MODEL);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void test() throws Exception {
+    IFile file = FileHelper
+        .getPlatformFile(MODEL + SLASH_CHARACTER + MODEL + "." + CapellaResourceHelper.AIRD_FILE_EXTENSION); //$NON-NLS-1$
+    IModelScopeDefinition scopeSpec = new CapellaScopeFactory().createScopeDefinition(file, null, true);
+    method = (CapellaComparisonMethod) new CapellaComparisonMethodFactory().createComparisonMethod(scopeSpec,
+        scopeSpec, null);
+    IEditableTreeDataScope<EObject> scope = (IEditableTreeDataScope<EObject>) scopeSpec
+        .createScope(method.getResourceSet(method.getLeftRole()));
+    ((IPersistentDataScope<?>) scope).load();
+
+    List<EObject> elements = new ArrayList<>();
+    for (EObject root : scope.getRoots()) {
+      elements.add(root);
+      for (Iterator<EObject> it = root.eAllContents(); it.hasNext();) {
+        elements.add(it.next());
+      }
+    }
+    CapellaMatchPolicy expectedPolicy = createPolicy();
+    List<String> expectedIDs = new ArrayList<>();
+    for (EObject element : elements) {
+      expectedIDs.add(expectedPolicy.getMatchID(element, scope));
+    }
+
+    String threads = System.getProperty(CapellaMatchPolicy.MATCH_ID_THREADS_PROPERTY);
+    System.setProperty(CapellaMatchPolicy.MATCH_ID_THREADS_PROPERTY, "4"); //$NON-NLS-1$
+    try {
+      CapellaMatchPolicy policy = createPolicy();
+      policy.beginMatchIDPhase(Collections.singleton(scope));
+      assertTrue(policy.isInMatchIDPhase(scope));
+      for (int i = 0; i < elements.size(); i++) {
+        assertEquals(expectedIDs.get(i), policy.getMatchID(elements.get(i), scope));
+      }
+      MatchIDStatistics statistics = policy.endMatchIDPhase();
+      assertFalse(policy.isInMatchIDPhase(scope));
+      assertEquals(4, statistics.getThreadCount());
+      assertEquals(0, statistics.getFailedUnitCount());
+      assertTrue(statistics.getPrecomputedCount() > 0);
+      assertTrue(statistics.getMemoHits() >= statistics.getPrecomputedCount());
+    } finally {
+      if (threads == null) {
+        System.clearProperty(CapellaMatchPolicy.MATCH_ID_THREADS_PROPERTY);
+      } else {
+        System.setProperty(CapellaMatchPolicy.MATCH_ID_THREADS_PROPERTY, threads);
+      }
+    }
+  }
+
+  /**
+   * A policy whose IDs don't rely on the intrinsic IDs of the elements, so that qualified names are computed.
+   */
+  private CapellaMatchPolicy createPolicy() {
+    CapellaMatchPolicy policy = new CapellaMatchPolicy();
+    policy.setAllUsedCriteria(Arrays.asList(STRUCTURE, SEMANTICS, NAME));
+    policy.setAllUsedFineGrainedCriteria(new HashSet<>(policy.getAvailableFineGrainedCriteria()));
+    policy.setUseCache(false);
+    return policy;
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    if (method != null) {
+      method.dispose();
+    }
+    super.tearDown();
+  }
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.model.ju.helpers;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.polarsys.capella.common.data.core.gen.xmi.impl.CompactIdMap;
+import org.polarsys.capella.common.data.modellingcore.impl.ModelElementImpl;
+import org.polarsys.capella.common.lib.CompactId;
+import org.polarsys.capella.common.lib.IdGenerator;
+import org.polarsys.capella.core.data.capellamodeller.CapellamodellerFactory;
+import org.polarsys.capella.core.data.capellamodeller.Project;
+import org.polarsys.capella.core.data.capellamodeller.SystemEngineering;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+
+/**
+ * Checks that {@link CompactId compact IDs} and the {@link CompactIdMap} of Capella resources behave as string IDs.
+ */
+public class CompactIdTestCase extends BasicTestCase {
+
+  @Override
+  public void test() throws Exception {
+    String uuid = IdGenerator.createId();
+    assertEquals(uuid, CompactId.parse(uuid).toString());
+    assertNull(CompactId.parse(uuid.toUpperCase()));
+    assertNull(CompactId.parse("_" + uuid.substring(1))); //$NON-NLS-1$
+    assertNull(CompactId.parse("id")); //$NON-NLS-1$
+
+    boolean wasEnabled = CompactId.isEnabled();
+    try {
+      Resource stringResource = createModel(false);
+      assertFalse(((XMLResource) stringResource).getIDToEObjectMap() instanceof CompactIdMap);
+      byte[] stringIds = save(stringResource);
+      Resource compactResource = createModel(true);
+      assertEquals(new String(stringIds, "UTF-8"), new String(save(compactResource), "UTF-8")); //$NON-NLS-1$ //$NON-NLS-2$
+      assertTrue(((XMLResource) compactResource).getIDToEObjectMap() instanceof CompactIdMap);
+
+      Project project = (Project) compactResource.getContents().get(0);
+      assertNotNull(((ModelElementImpl) project).getCompactId());
+      assertSame(project, compactResource.getEObject(project.getId()));
+      assertEquals(project.getId(), compactResource.getURIFragment(project));
+      for (SystemEngineering root : project.getOwnedModelRoots().toArray(new SystemEngineering[0])) {
+        assertSame(root, compactResource.getEObject(root.getId()));
+      }
+      SystemEngineering removed = (SystemEngineering) project.getOwnedModelRoots().remove(0);
+      assertNull(compactResource.getEObject(removed.getId()));
+      assertSame(project.getOwnedModelRoots().get(0), compactResource.getEObject("custom-id")); //$NON-NLS-1$
+
+      // The index is installed again when the resource is unloaded
+      compactResource.unload();
+      assertTrue(((XMLResource) compactResource).getIDToEObjectMap() instanceof CompactIdMap);
+      assertNull(compactResource.getEObject(project.getId()));
+
+      checkMap();
+    } finally {
+      CompactId.setEnabled(wasEnabled);
+    }
+  }
+
+  private Resource createModel(boolean compactIds) {
+    CompactId.setEnabled(compactIds);
+    Resource resource = new ResourceSetImpl().createResource(URI.createURI("memory:/compact.capella")); //$NON-NLS-1$
+    Project project = CapellamodellerFactory.eINSTANCE.createProject("project"); //$NON-NLS-1$
+    project.setId("01234567-89ab-cdef-0123-456789abcdef"); //$NON-NLS-1$
+    SystemEngineering custom = CapellamodellerFactory.eINSTANCE.createSystemEngineering("custom"); //$NON-NLS-1$
+    custom.setId("custom-id"); //$NON-NLS-1$
+    project.getOwnedModelRoots().add(CapellamodellerFactory.eINSTANCE.createSystemEngineering("first")); //$NON-NLS-1$
+    project.getOwnedModelRoots().get(0).setId("fedcba98-7654-3210-fedc-ba9876543210"); //$NON-NLS-1$
+    project.getOwnedModelRoots().add(custom);
+    resource.getContents().add(project);
+    return resource;
+  }
+
+  private byte[] save(Resource resource) throws Exception {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    resource.save(stream, null);
+    return stream.toByteArray();
+  }
+
+  /**
+   * Fill the map over several rehashes, then remove half of the entries.
+   */
+  private void checkMap() {
+    CompactIdMap map = new CompactIdMap();
+    List<SystemEngineering> elements = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      SystemEngineering element = CapellamodellerFactory.eINSTANCE.createSystemEngineering();
+      elements.add(element);
+      map.index(element);
+    }
+    map.put("other", elements.get(0)); //$NON-NLS-1$
+    assertEquals(5001, map.size());
+    assertEquals(5001, map.entrySet().size());
+
+    for (int i = 0; i < elements.size(); i += 2) {
+      map.setID(elements.get(i), null);
+    }
+    assertEquals(2501, map.size());
+    for (int i = 0; i < elements.size(); i++) {
+      SystemEngineering element = elements.get(i);
+      assertEquals(i % 2 == 0 ? null : element, map.get(element.getId()));
+      assertEquals(i % 2 == 0 ? null : element.getId(), map.getID(element));
+    }
+    assertSame(elements.get(0), map.remove("other")); //$NON-NLS-1$
+    map.clear();
+    assertTrue(map.isEmpty());
+  }
+}
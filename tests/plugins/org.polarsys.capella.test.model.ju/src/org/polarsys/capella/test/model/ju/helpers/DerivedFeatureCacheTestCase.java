@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.model.ju.helpers;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.polarsys.capella.common.ef.command.AbstractReadWriteCommand;
+import org.polarsys.capella.common.helpers.TransactionHelper;
+import org.polarsys.capella.common.platform.sirius.ted.SemanticEditingDomainFactory.SemanticEditingDomain;
+import org.polarsys.capella.core.data.fa.AbstractFunction;
+import org.polarsys.capella.core.data.fa.FaFactory;
+import org.polarsys.capella.core.data.fa.FunctionRealization;
+import org.polarsys.capella.core.data.helpers.cache.DerivedFeatureCache;
+import org.polarsys.capella.core.data.la.LaFactory;
+import org.polarsys.capella.core.data.la.LogicalFunction;
+import org.polarsys.capella.core.libraries.model.ICapellaModel;
+import org.polarsys.capella.core.libraries.utils.ScopeModelWrapper;
+import org.polarsys.capella.shared.id.handler.IScope;
+import org.polarsys.capella.shared.id.handler.IdManager;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+import org.polarsys.capella.test.framework.helpers.TestHelper;
+
+/**
+ * Checks that memoized derived properties follow the changes of the model, in and after write transactions.
+ */
+public class DerivedFeatureCacheTestCase extends BasicTestCase {
+
+  public static String MODEL_NAME = "miscmodel"; //$NON-NLS-1$
+
+  public static final String BOOLEAN_TYPE_1 = "09dc7956-5dee-44b8-b8b4-7ee623a3a343"; //$NON-NLS-1$
+
+  @Override
+  public List<String> getRequiredTestModels() {
+    return Arrays.asList(MODEL_NAME);
+  }
+
+  @Override
+  public void test() throws Exception {
+    ICapellaModel model = getTestModel(MODEL_NAME);
+    IScope scope = new ScopeModelWrapper(model);
+    EObject root = EcoreUtil.getRootContainer(IdManager.getInstance().getEObject(BOOLEAN_TYPE_1, scope));
+    final AbstractFunction function = getFunction(root);
+    assertNotNull(function);
+
+    SemanticEditingDomain domain = (SemanticEditingDomain) TransactionHelper.getEditingDomain(function);
+    boolean installed = null != DerivedFeatureCache.getCache(domain);
+    DerivedFeatureCache cache = DerivedFeatureCache.install(domain);
+    assertNotNull(cache);
+    boolean check = DerivedFeatureCache.isCheckEnabled();
+    DerivedFeatureCache.setCheckEnabled(false);
+    try {
+      cache.clear();
+      cache.resetCounters();
+      int subFunctions = function.getSubFunctions().size();
+      int realizations = function.getInFunctionRealizations().size();
+      assertEquals(subFunctions, function.getSubFunctions().size());
+      assertTrue(cache.getHitCount() > 0);
+
+      final LogicalFunction subFunction = LaFactory.eINSTANCE.createLogicalFunction();
+      final FunctionRealization realization = FaFactory.eINSTANCE.createFunctionRealization();
+      TestHelper.getExecutionManager(function).execute(new AbstractReadWriteCommand() {
+        @Override
+        public void run() {
+          function.getOwnedFunctions().add(subFunction);
+          assertEquals(subFunctions + 1, function.getSubFunctions().size());
+
+          realization.setSourceElement(subFunction);
+          realization.setTargetElement(function);
+          subFunction.getOwnedFunctionRealizations().add(realization);
+          assertTrue(function.getInFunctionRealizations().contains(realization));
+        }
+      });
+      assertTrue(function.getSubFunctions().contains(subFunction));
+      assertEquals(realizations + 1, function.getInFunctionRealizations().size());
+
+      // Removing the sub function removes the realization it contains, which still targets the function
+      TestHelper.getExecutionManager(function).execute(new AbstractReadWriteCommand() {
+        @Override
+        public void run() {
+          function.getOwnedFunctions().remove(subFunction);
+        }
+      });
+      assertFalse(function.getSubFunctions().contains(subFunction));
+      assertEquals(realizations, function.getInFunctionRealizations().size());
+      assertTrue(cache.getInvalidationCount() > 0);
+
+      // Cached values are the fresh ones
+      DerivedFeatureCache.setCheckEnabled(true);
+      function.getSubFunctions();
+      function.getInFunctionRealizations();
+      assertEquals(0, cache.getMismatchCount());
+
+    } finally {
+      DerivedFeatureCache.setCheckEnabled(check);
+      if (!installed) {
+        DerivedFeatureCache.uninstall(domain);
+      }
+    }
+  }
+
+  private AbstractFunction getFunction(EObject root) {
+    for (Iterator<EObject> it = root.eAllContents(); it.hasNext();) {
+      EObject object = it.next();
+      if (object instanceof LogicalFunction) {
+        return (AbstractFunction) object;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.model.ju.helpers;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.sirius.business.api.session.Session;
+import org.polarsys.capella.common.model.helpers.DerivedFeatureDispatcher;
+import org.polarsys.capella.common.model.helpers.IHelper;
+import org.polarsys.capella.common.model.helpers.IModelConstants;
+import org.polarsys.capella.core.data.capellamodeller.Project;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+
+/**
+ * Checks that derived properties dispatched through the table of computers have the same values as when the helper of
+ * the element is looked for at each access, for all generated derived properties of all elements of a model.
+ */
+public class DerivedFeatureDispatcherTestCase extends BasicTestCase {
+
+  public static String MODEL_NAME = "miscmodel"; //$NON-NLS-1$
+
+  @Override
+  public List<String> getRequiredTestModels() {
+    return Arrays.asList(MODEL_NAME);
+  }
+
+  @Override
+  public void test() throws Exception {
+    Session session = getSession(MODEL_NAME);
+    Project project = getTestModel(MODEL_NAME).getProject(session.getTransactionalEditingDomain());
+
+    boolean enabled = DerivedFeatureDispatcher.isEnabled();
+    int direct = 0;
+    int checked = 0;
+    try {
+      DerivedFeatureDispatcher.clear();
+      for (Iterator<EObject> it = project.eAllContents(); it.hasNext();) {
+        EObject element = it.next();
+        for (EStructuralFeature feature : element.eClass().getEAllStructuralFeatures()) {
+          if (null == feature.getEAnnotation(IModelConstants.HELPER_ANNOTATION_SOURCE)) {
+            continue;
+          }
+          String message = element.eClass().getName() + "." + feature.getName() + " of " + element; //$NON-NLS-1$ //$NON-NLS-2$
+
+          DerivedFeatureDispatcher.setEnabled(false);
+          Object expected = DerivedFeatureDispatcher.getValue(element, feature);
+
+          DerivedFeatureDispatcher.setEnabled(true);
+          assertEquals(message, expected, DerivedFeatureDispatcher.getValue(element, feature));
+          // Second access, through the computer kept in the table
+          assertEquals(message, expected, DerivedFeatureDispatcher.getValue(element, feature));
+          // Generated getter
+          assertEquals(message, expected, element.eGet(feature));
+
+          IHelper helper = Platform.getAdapterManager().getAdapter(element, IHelper.class);
+          if (null != helper.getComputer(element.eClass(), feature)) {
+            direct++;
+          }
+          checked++;
+        }
+      }
+    } finally {
+      DerivedFeatureDispatcher.setEnabled(enabled);
+      DerivedFeatureDispatcher.clear();
+    }
+    assertTrue(checked > 0);
+    assertTrue(direct > 0);
+  }
+}
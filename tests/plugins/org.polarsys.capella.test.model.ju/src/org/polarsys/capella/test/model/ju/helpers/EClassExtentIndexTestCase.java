@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.model.ju.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.polarsys.capella.common.ef.command.AbstractReadWriteCommand;
+import org.polarsys.capella.common.helpers.query.EClassExtentIndex;
+import org.polarsys.capella.common.helpers.query.GetAllQueries;
+import org.polarsys.capella.common.helpers.query.GetAllQueries.IndexMode;
+import org.polarsys.capella.common.helpers.query.MDEQueries;
+import org.polarsys.capella.core.data.capellacore.CapellacorePackage;
+import org.polarsys.capella.core.data.cs.CsPackage;
+import org.polarsys.capella.core.data.fa.FaPackage;
+import org.polarsys.capella.core.data.information.DataPkg;
+import org.polarsys.capella.core.data.information.datatype.BooleanType;
+import org.polarsys.capella.core.data.information.datatype.DatatypeFactory;
+import org.polarsys.capella.core.data.information.datatype.DatatypePackage;
+import org.polarsys.capella.core.libraries.model.ICapellaModel;
+import org.polarsys.capella.core.libraries.utils.ScopeModelWrapper;
+import org.polarsys.capella.shared.id.handler.IScope;
+import org.polarsys.capella.shared.id.handler.IdManager;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+import org.polarsys.capella.test.framework.helpers.TestHelper;
+
+/**
+ * Checks that the EClass extent index returns the same elements in the same order as the containment walk of
+ * {@link GetAllQueries}, and that it follows committed changes.
+ */
+public class EClassExtentIndexTestCase extends BasicTestCase {
+
+  public static String MODEL_NAME = "miscmodel"; //$NON-NLS-1$
+
+  public static final String STRUCTURE = "64c920b7-afe6-4d7f-b993-986ab11b1de1"; //$NON-NLS-1$
+  public static final String BOOLEAN_TYPE_1 = "09dc7956-5dee-44b8-b8b4-7ee623a3a343"; //$NON-NLS-1$
+
+  @Override
+  public List<String> getRequiredTestModels() {
+    return Arrays.asList(MODEL_NAME);
+  }
+
+  @Override
+  public void test() throws Exception {
+    ICapellaModel model = getTestModel(MODEL_NAME);
+    IScope scope = new ScopeModelWrapper(model);
+
+    EObject structure = IdManager.getInstance().getEObject(STRUCTURE, scope);
+    BooleanType booleanType = (BooleanType) IdManager.getInstance().getEObject(BOOLEAN_TYPE_1, scope);
+    EObject root = EcoreUtil.getRootContainer(booleanType);
+    EClassExtentIndex index = EClassExtentIndex.getIndex(root);
+    assertNotNull(index);
+    assertTrue(index.isAvailable());
+
+    for (EClass eClass : Arrays.asList(FaPackage.Literals.ABSTRACT_FUNCTION, CsPackage.Literals.PART,
+        DatatypePackage.Literals.BOOLEAN_TYPE, CapellacorePackage.Literals.CAPELLA_ELEMENT)) {
+      assertSameElements(root, eClass, index);
+      assertSameElements(structure, eClass, index);
+    }
+
+    final DataPkg dataPkg = (DataPkg) booleanType.eContainer();
+    final BooleanType newType = DatatypeFactory.eINSTANCE.createBooleanType();
+    TestHelper.getExecutionManager(dataPkg).execute(new AbstractReadWriteCommand() {
+      @Override
+      public void run() {
+        // Inserted before the existing types, so that its indexing order differs from the containment order
+        dataPkg.getOwnedDataTypes().add(0, newType);
+      }
+    });
+    assertTrue(index.getAll(root, DatatypePackage.Literals.BOOLEAN_TYPE).contains(newType));
+    assertSameElements(root, DatatypePackage.Literals.BOOLEAN_TYPE, index);
+
+    TestHelper.getExecutionManager(dataPkg).execute(new AbstractReadWriteCommand() {
+      @Override
+      public void run() {
+        dataPkg.getOwnedDataTypes().remove(newType);
+      }
+    });
+    assertFalse(index.getAll(root, DatatypePackage.Literals.BOOLEAN_TYPE).contains(newType));
+    assertSameElements(root, DatatypePackage.Literals.BOOLEAN_TYPE, index);
+  }
+
+  private void assertSameElements(EObject source, EClass eClass, EClassExtentIndex index) {
+    IndexMode mode = GetAllQueries.getIndexMode();
+    try {
+      GetAllQueries.setIndexMode(IndexMode.OFF);
+      Set<EObject> expected = MDEQueries.getInstance().getAllQueries().getAllFiltered(source, eClass,
+          Collections.<EClass> emptyList());
+      assertEquals(new ArrayList<>(expected), new ArrayList<>(index.getAll(source, eClass)));
+      assertEquals(
+          new ArrayList<>(MDEQueries.getInstance().getAllQueries().getAll(source, eClass.getInstanceClass())),
+          new ArrayList<>(index.getAll(source, eClass.getInstanceClass())));
+    } finally {
+      GetAllQueries.setIndexMode(mode);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.model.ju.helpers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.polarsys.capella.common.helpers.SimpleOrientedGraph;
+import org.polarsys.capella.common.utils.graph.IndexedGraph;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+
+/**
+ * Checks the algorithms of {@link IndexedGraph} and of {@link SimpleOrientedGraph} which relies on it.
+ */
+public class IndexedGraphTestCase extends BasicTestCase {
+
+  @Override
+  public void test() throws Exception {
+    // a -> b -> c, a -> d -> c, e <-> f
+    IndexedGraph<String> graph = new IndexedGraph.Builder<String>().addEdge("a", "b").addEdge("b", "c")
+        .addEdge("a", "d").addEdge("d", "c").addEdge("e", "f").addEdge("f", "e").build();
+
+    assertEquals(6, graph.size());
+    assertEquals(Arrays.asList("b", "d"), graph.getSuccessors("a"));
+    assertEquals(Arrays.asList("b", "d"), graph.getPredecessors("c"));
+    assertEquals(new HashSet<>(Arrays.asList("a", "c")), graph.getNeighbours("b"));
+    assertEquals(new HashSet<>(Arrays.asList("a")), graph.getSourceNodes());
+
+    assertEquals(Arrays.asList("a", "b", "d", "c"), graph.breadthFirst(Collections.singleton("a")));
+    assertEquals(Arrays.asList("a", "b", "c", "d"), graph.depthFirst(Collections.singleton("a")));
+
+    assertFalse(graph.isWeaklyConnected());
+    assertTrue(graph.containsCycle());
+    assertFalse(graph.containsCycle(Collections.singleton("a")));
+    assertNull(graph.topologicalSort());
+    assertFalse(graph.isArborescence("a"));
+    assertTrue(graph.isArborescence("b"));
+
+    List<List<String>> components = graph.getStronglyConnectedComponents();
+    assertEquals(5, components.size());
+    assertTrue(components.stream().anyMatch(c -> new HashSet<>(c).equals(new HashSet<>(Arrays.asList("e", "f")))));
+
+    // Acyclic part is sorted
+    IndexedGraph<String> dag = new IndexedGraph.Builder<String>().addEdge("a", "b").addEdge("b", "c")
+        .addEdge("a", "d").addEdge("d", "c").build();
+    assertEquals(Arrays.asList("a", "b", "d", "c"), dag.topologicalSort());
+    assertTrue(dag.isWeaklyConnected());
+
+    // SimpleOrientedGraph
+    SimpleOrientedGraph<String> simpleGraph = new SimpleOrientedGraph<>();
+    simpleGraph.addNode("a", "b");
+    simpleGraph.addNode("b", "c");
+    assertTrue(simpleGraph.isAConnectedGraph());
+    assertTrue(simpleGraph.isValid());
+    assertFalse(simpleGraph.containsACycle("a", new HashSet<String>()));
+    assertTrue(simpleGraph.containsACycle("b", new HashSet<>(Arrays.asList("c"))));
+
+    simpleGraph.addNode("c", "a");
+    assertFalse(simpleGraph.isValid());
+    assertTrue(simpleGraph.containsACycle("a", new HashSet<String>()));
+
+    simpleGraph.addNode("x", "y");
+    assertFalse(simpleGraph.isAConnectedGraph());
+  }
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.model.ju.helpers;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.business.api.session.Session;
+import org.polarsys.capella.common.data.modellingcore.ModellingcorePackage;
+import org.polarsys.capella.common.helpers.ReferencerQuery;
+import org.polarsys.capella.core.data.capellamodeller.Project;
+import org.polarsys.capella.core.data.fa.FaPackage;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+
+/**
+ * Checks that a query filtered on the type of referencing elements returns the referencers of the unfiltered query
+ * having this type, in the same order, for all elements of a model.
+ */
+public class ReferencerQueryTestCase extends BasicTestCase {
+
+  public static String MODEL_NAME = "miscmodel"; //$NON-NLS-1$
+
+  @Override
+  public List<String> getRequiredTestModels() {
+    return Arrays.asList(MODEL_NAME);
+  }
+
+  @Override
+  public void test() throws Exception {
+    Session session = getSession(MODEL_NAME);
+    Project project = getTestModel(MODEL_NAME).getProject(session.getTransactionalEditingDomain());
+
+    ReferencerQuery all = new ReferencerQuery(null);
+    List<EClass> types = Arrays.asList(ModellingcorePackage.Literals.ABSTRACT_TRACE,
+        FaPackage.Literals.ABSTRACT_FUNCTION);
+    List<ReferencerQuery> queries = types.stream().map(type -> new ReferencerQuery(type, null))
+        .collect(Collectors.toList());
+
+    int filtered = 0;
+    for (Iterator<EObject> it = project.eAllContents(); it.hasNext();) {
+      EObject element = it.next();
+      List<EObject> referencers = all.getReferencers(element);
+      assertEquals(new HashSet<>(referencers).size(), referencers.size());
+      assertEquals(referencers.size(), all.count(element));
+
+      for (int i = 0; i < types.size(); i++) {
+        EClass type = types.get(i);
+        ReferencerQuery query = queries.get(i);
+        List<EObject> expected = referencers.stream().filter(type::isInstance).collect(Collectors.toList());
+        assertEquals(expected, query.getReferencers(element));
+        assertEquals(expected.size(), query.count(element));
+        assertEquals(expected.isEmpty() ? null : expected.get(0), query.getFirstReferencer(element));
+        assertEquals(!expected.isEmpty(), query.hasReferencers(element));
+        if (expected.size() < referencers.size()) {
+          filtered++;
+        }
+      }
+    }
+    assertTrue(filtered > 0);
+  }
+}
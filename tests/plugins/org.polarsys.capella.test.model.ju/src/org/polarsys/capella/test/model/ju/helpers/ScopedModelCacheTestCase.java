@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.model.ju.helpers;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.transaction.Transaction;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.emf.transaction.impl.InternalTransactionalEditingDomain;
+import org.eclipse.sirius.business.api.session.Session;
+import org.polarsys.capella.common.ef.command.AbstractReadWriteCommand;
+import org.polarsys.capella.core.data.capellamodeller.Project;
+import org.polarsys.capella.core.data.fa.AbstractFunction;
+import org.polarsys.capella.core.data.fa.FaPackage;
+import org.polarsys.capella.core.data.helpers.cache.ScopedModelCache;
+import org.polarsys.capella.core.data.helpers.fa.services.FunctionExt;
+import org.polarsys.capella.core.data.la.LaFactory;
+import org.polarsys.capella.core.data.la.LogicalFunction;
+import org.polarsys.capella.core.data.la.LogicalFunctionPkg;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+import org.polarsys.capella.test.framework.helpers.TestHelper;
+
+/**
+ * Checks that entries of a scoped model cache are invalidated by changes of their parameter, of their declared
+ * features and of the elements recorded during their computation, and only by them.
+ */
+public class ScopedModelCacheTestCase extends BasicTestCase {
+
+  public static String MODEL_NAME = "miscmodel"; //$NON-NLS-1$
+
+  @Override
+  public List<String> getRequiredTestModels() {
+    return Arrays.asList(MODEL_NAME);
+  }
+
+  @Override
+  public void test() throws Exception {
+    Session session = getSession(MODEL_NAME);
+    TransactionalEditingDomain domain = session.getTransactionalEditingDomain();
+    Project project = getTestModel(MODEL_NAME).getProject(domain);
+    LogicalFunction function = getFunction(project);
+    assertNotNull(function);
+
+    // A function with a sub function, and a package containing another sub function
+    LogicalFunction subFunction = LaFactory.eINSTANCE.createLogicalFunction();
+    LogicalFunctionPkg pkg = LaFactory.eINSTANCE.createLogicalFunctionPkg();
+    LogicalFunction pkgFunction = LaFactory.eINSTANCE.createLogicalFunction();
+    execute(function, () -> {
+      function.getOwnedFunctions().add(subFunction);
+      function.getOwnedLogicalFunctionPkgs().add(pkg);
+      pkg.getOwnedLogicalFunctions().add(pkgFunction);
+    });
+
+    // Single instances of the functions, so that their entries are found again
+    Function<AbstractFunction, Collection<AbstractFunction>> subFunctions = //
+        FunctionExt::getFirstLevelAbstractFunctions;
+    Function<AbstractFunction, Collection<AbstractFunction>> opaqueSubFunctions = //
+        FunctionExt::getFirstLevelAbstractFunctions;
+    EStructuralFeature ownedFunctions = FaPackage.Literals.ABSTRACT_FUNCTION__OWNED_FUNCTIONS;
+    ScopedModelCache cache = ScopedModelCache.getCache(domain);
+    cache.clear();
+    cache.resetCounters();
+
+    Collection<AbstractFunction> result = cache.get(subFunctions, function, ownedFunctions);
+    assertTrue(result.contains(subFunction));
+    assertTrue(result.contains(pkgFunction));
+    assertEquals(result, cache.get(opaqueSubFunctions, function, (EStructuralFeature[]) null));
+    assertEquals(2, cache.getMissCount());
+    assertEquals(result, cache.get(subFunctions, function, ownedFunctions));
+    assertEquals(1, cache.getHitCount());
+
+    // A change of an element that was not read only invalidates the entry depending on the whole model
+    execute(function, () -> subFunction.setName("renamed")); //$NON-NLS-1$
+    assertEquals(result, cache.get(subFunctions, function, ownedFunctions));
+    assertEquals(2, cache.getHitCount());
+    assertEquals(result, cache.get(opaqueSubFunctions, function, (EStructuralFeature[]) null));
+    assertEquals(2, cache.getHitCount());
+
+    // A change of the package recorded during the computation invalidates the entry
+    LogicalFunction newPkgFunction = LaFactory.eINSTANCE.createLogicalFunction();
+    execute(function, () -> pkg.getOwnedLogicalFunctions().add(newPkgFunction));
+    assertTrue(cache.get(subFunctions, function, ownedFunctions).contains(newPkgFunction));
+    assertEquals(2, cache.getHitCount());
+
+    // A change of the parameter invalidates the entry
+    LogicalFunction newSubFunction = LaFactory.eINSTANCE.createLogicalFunction();
+    execute(function, () -> function.getOwnedFunctions().add(newSubFunction));
+    assertTrue(cache.get(subFunctions, function, ownedFunctions).contains(newSubFunction));
+    assertEquals(2, cache.getHitCount());
+    assertTrue(cache.getInvalidationCount() >= 3);
+
+    // An entry computed in a write transaction that is rolled back is discarded
+    cache.clear();
+    LogicalFunction rolledBackFunction = LaFactory.eINSTANCE.createLogicalFunction();
+    Transaction transaction = ((InternalTransactionalEditingDomain) domain).startTransaction(false, null);
+    try {
+      function.getOwnedFunctions().add(rolledBackFunction);
+      assertTrue(cache.get(subFunctions, function, ownedFunctions).contains(rolledBackFunction));
+      assertTrue(cache.get(subFunctions, function, ownedFunctions).contains(rolledBackFunction));
+    } finally {
+      transaction.rollback();
+    }
+    long invalidations = cache.getInvalidationCount();
+    assertFalse(cache.get(subFunctions, function, ownedFunctions).contains(rolledBackFunction));
+    assertEquals(invalidations + 1, cache.getInvalidationCount());
+  }
+
+  private LogicalFunction getFunction(EObject root) {
+    for (Iterator<EObject> it = root.eAllContents(); it.hasNext();) {
+      EObject object = it.next();
+      if (object instanceof LogicalFunction) {
+        return (LogicalFunction) object;
+      }
+    }
+    return null;
+  }
+
+  private void execute(EObject context, Runnable runnable) {
+    TestHelper.getExecutionManager(context).execute(new AbstractReadWriteCommand() {
+      @Override
+      public void run() {
+        runnable.run();
+      }
+    });
+  }
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.model.ju.helpers;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ProjectScope;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.domain.EditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.polarsys.capella.core.data.fa.FaPackage;
+import org.polarsys.capella.core.data.la.LaFactory;
+import org.polarsys.capella.core.data.la.LogicalFunction;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+import org.polarsys.capella.viatra.core.runtime.ViatraDerivedFeatureEngine;
+import org.polarsys.capella.viatra.core.runtime.ViatraDerivedFeatureMode;
+import org.polarsys.capella.viatra.core.runtime.ViatraDerivedFeatureStatistics;
+import org.polarsys.capella.viatra.core.runtime.ViatraDerivedFeatures;
+import org.polarsys.capella.viatra.core.runtime.ViatraEditingDomainListener;
+
+/**
+ * Checks that the Viatra surrogate computers are only installed when a mode other than Java is configured, and that
+ * the elements of a session are evaluated with the mode of their own project.
+ */
+public class ViatraDerivedFeaturesTestCase extends BasicTestCase {
+
+  private static final String JAVA_PROJECT = "ViatraDerivedFeaturesJava"; //$NON-NLS-1$
+
+  private static final String COMPARE_PROJECT = "ViatraDerivedFeaturesCompare"; //$NON-NLS-1$
+
+  @Override
+  public void test() throws Exception {
+    assertEquals(ViatraDerivedFeatureMode.COMPARE,
+        ViatraDerivedFeatureMode.fromString(" Compare ", ViatraDerivedFeatureMode.JAVA)); //$NON-NLS-1$
+    assertEquals(ViatraDerivedFeatureMode.JAVA,
+        ViatraDerivedFeatureMode.fromString("unknown", ViatraDerivedFeatureMode.JAVA)); //$NON-NLS-1$
+
+    String property = System.clearProperty(ViatraDerivedFeatures.MODE_PROPERTY);
+    ViatraDerivedFeatures.uninstall();
+    IProject javaProject = createProject(JAVA_PROJECT);
+    IProject compareProject = createProject(COMPARE_PROJECT);
+    try {
+      ResourceSet resourceSet = new ResourceSetImpl();
+      LogicalFunction javaFunction = createFunction(resourceSet, javaProject);
+      LogicalFunction compareFunction = createFunction(resourceSet, compareProject);
+      EditingDomain domain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack(),
+          resourceSet);
+      ViatraEditingDomainListener listener = new ViatraEditingDomainListener();
+
+      // Java mode everywhere: derived features are not evaluated through an engine
+      assertFalse(ViatraDerivedFeatures.isEnabled());
+      listener.createdEditingDomain(domain);
+      assertEquals(javaFunction.getOwnedFunctions(), javaFunction.getSubFunctions());
+      assertNull(ViatraDerivedFeatureEngine.getExistingEngine(resourceSet));
+
+      // Compare mode in one project: the first evaluated element does not set the mode of the other one
+      new ProjectScope(compareProject).getNode(ViatraDerivedFeatures.PLUGIN_ID)
+          .put(ViatraDerivedFeatures.MODE_PREFERENCE, "compare"); //$NON-NLS-1$
+      assertTrue(ViatraDerivedFeatures.isEnabled());
+      listener.createdEditingDomain(domain);
+      assertEquals(javaFunction.getOwnedFunctions(), javaFunction.getSubFunctions());
+      assertEquals(ViatraDerivedFeatureMode.JAVA, ViatraDerivedFeatures.getMode(javaFunction.eResource()));
+      // Elements in Java mode don't create an engine
+      assertNull(ViatraDerivedFeatureEngine.getExistingEngine(resourceSet));
+
+      assertEquals(compareFunction.getOwnedFunctions(), compareFunction.getSubFunctions());
+      assertEquals(ViatraDerivedFeatureMode.COMPARE, ViatraDerivedFeatures.getMode(compareFunction.eResource()));
+      ViatraDerivedFeatureEngine engine = ViatraDerivedFeatureEngine.getExistingEngine(resourceSet);
+      assertNotNull(engine);
+      assertTrue(engine.isUsed());
+      for (ViatraDerivedFeatureStatistics statistics : engine.getStatistics()) {
+        assertEquals(FaPackage.Literals.ABSTRACT_FUNCTION__SUB_FUNCTIONS, statistics.getFeature());
+        assertEquals(1, statistics.getViatraCount());
+        assertEquals(0, statistics.getMismatchCount());
+      }
+
+      listener.disposedEditingDomain(domain);
+      assertNull(ViatraDerivedFeatureEngine.getExistingEngine(resourceSet));
+
+      // The last domain that needed the surrogate computers is disposed: they are uninstalled
+      assertEquals(compareFunction.getOwnedFunctions(), compareFunction.getSubFunctions());
+      assertNull(ViatraDerivedFeatureEngine.getExistingEngine(resourceSet));
+
+    } finally {
+      ViatraDerivedFeatures.uninstall();
+      if (null != property) {
+        System.setProperty(ViatraDerivedFeatures.MODE_PROPERTY, property);
+      }
+      javaProject.delete(true, null);
+      compareProject.delete(true, null);
+    }
+  }
+
+  private IProject createProject(String name) throws CoreException {
+    IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(name);
+    if (!project.exists()) {
+      project.create(null);
+    }
+    project.open(null);
+    return project;
+  }
+
+  /**
+   * @return a function with a sub function, in a resource of the given project
+   */
+  private LogicalFunction createFunction(ResourceSet resourceSet, IProject project) {
+    Resource resource = new XMIResourceImpl(URI.createPlatformResourceURI(project.getName() + "/model.xmi", true)); //$NON-NLS-1$
+    resourceSet.getResources().add(resource);
+    LogicalFunction function = LaFactory.eINSTANCE.createLogicalFunction();
+    function.getOwnedFunctions().add(LaFactory.eINSTANCE.createLogicalFunction());
+    resource.getContents().add(function);
+    return function;
+  }
+}
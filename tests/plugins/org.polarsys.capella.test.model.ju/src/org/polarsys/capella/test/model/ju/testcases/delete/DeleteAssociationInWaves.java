@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.model.ju.testcases.delete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+import org.polarsys.capella.common.data.modellingcore.AbstractNamedElement;
+import org.polarsys.capella.common.ef.command.AbstractReadWriteCommand;
+import org.polarsys.capella.common.helpers.TransactionHelper;
+import org.polarsys.capella.core.data.capellacommon.CapellacommonFactory;
+import org.polarsys.capella.core.data.capellacommon.GenericTrace;
+import org.polarsys.capella.core.data.information.Association;
+import org.polarsys.capella.core.data.information.Class;
+import org.polarsys.capella.core.data.information.DataPkg;
+import org.polarsys.capella.core.data.information.InformationFactory;
+import org.polarsys.capella.core.data.information.Property;
+import org.polarsys.capella.core.model.handler.command.BasicCapellaDeleteCommand;
+import org.polarsys.capella.core.platform.sirius.ui.commands.CapellaDeleteCommand;
+import org.polarsys.capella.shared.id.handler.IdManager;
+
+/**
+ * Deletion of a class whose dependent elements are found in several waves: the association of a property typed by the
+ * class is found from the property, and a trace targeting the association is found from the association. Batch delete
+ * and nested commands must delete the same elements.
+ */
+public class DeleteAssociationInWaves extends DeleteTest {
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    mustExist(OA__DATA__CLASS_1);
+  }
+
+  @Override
+  public void test() {
+    boolean batchDelete = BasicCapellaDeleteCommand.isBatchDeleteEnabled();
+    try {
+      BasicCapellaDeleteCommand.setBatchDeleteEnabled(true);
+      List<String> batchDeleted = deleteAssociatedClass();
+      BasicCapellaDeleteCommand.setBatchDeleteEnabled(false);
+      List<String> nestedDeleted = deleteAssociatedClass();
+
+      assertEquals(Arrays.asList("A_B", "B", "a", "b", "trace"), batchDeleted); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+      assertEquals(nestedDeleted, batchDeleted);
+    } finally {
+      BasicCapellaDeleteCommand.setBatchDeleteEnabled(batchDelete);
+    }
+  }
+
+  /**
+   * Create classes A and B linked by an association, and a class C with a trace to the association, then delete B.
+   *
+   * @return the sorted names of the created elements that are deleted, <code>trace</code> standing for the trace
+   */
+  private List<String> deleteAssociatedClass() {
+    final DataPkg dataPkg = (DataPkg) IdManager.getInstance().getEObject(OA__DATA__CLASS_1, scope).eContainer();
+    final Class a = createClass("A"); //$NON-NLS-1$
+    final Class b = createClass("B"); //$NON-NLS-1$
+    final Class c = createClass("C"); //$NON-NLS-1$
+    final Association association = InformationFactory.eINSTANCE.createAssociation();
+    association.setName("A_B"); //$NON-NLS-1$
+    final Property propertyA = InformationFactory.eINSTANCE.createProperty();
+    propertyA.setName("a"); //$NON-NLS-1$
+    final Property propertyB = InformationFactory.eINSTANCE.createProperty();
+    propertyB.setName("b"); //$NON-NLS-1$
+    final GenericTrace trace = CapellacommonFactory.eINSTANCE.createGenericTrace();
+    Map<String, EObject> created = new LinkedHashMap<>();
+    for (Object element : Arrays.asList(a, b, c, association, propertyA, propertyB)) {
+      created.put(((AbstractNamedElement) element).getName(), (EObject) element);
+    }
+    created.put("trace", trace); //$NON-NLS-1$
+
+    TransactionHelper.getExecutionManager(dataPkg).execute(new AbstractReadWriteCommand() {
+      @Override
+      public void run() {
+        dataPkg.getOwnedClasses().addAll(Arrays.asList(a, b, c));
+        dataPkg.getOwnedAssociations().add(association);
+        association.getOwnedMembers().add(propertyA);
+        association.getOwnedMembers().add(propertyB);
+        propertyA.setAbstractType(a);
+        propertyB.setAbstractType(b);
+        c.getOwnedTraces().add(trace);
+        trace.setSourceElement(c);
+        trace.setTargetElement(association);
+      }
+    });
+
+    CapellaDeleteCommand command = new CapellaDeleteCommand(TransactionHelper.getExecutionManager(b),
+        Collections.singletonList(b), true, false, true);
+    assertTrue("cannot remove an element", command.canExecute()); //$NON-NLS-1$
+    command.execute();
+
+    List<String> deleted = new ArrayList<>();
+    for (Map.Entry<String, EObject> entry : created.entrySet()) {
+      if (null == entry.getValue().eResource()) {
+        deleted.add(entry.getKey());
+      }
+    }
+    Collections.sort(deleted);
+    return deleted;
+  }
+
+  private Class createClass(String name) {
+    Class result = InformationFactory.eINSTANCE.createClass();
+    result.setName(name);
+    return result;
+  }
+}
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.model.ju.testcases.delete;
+
+import org.polarsys.capella.core.model.handler.command.BasicCapellaDeleteCommand;
+
+/**
+ * Same deletion as {@link DeleteChainInvolvmentFunction}, with dependent elements deleted through nested commands
+ * instead of the batch delete command.
+ */
+public class DeleteChainInvolvmentFunctionNestedCommands extends DeleteChainInvolvmentFunction {
+
+  private boolean batchDelete;
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    batchDelete = BasicCapellaDeleteCommand.isBatchDeleteEnabled();
+    BasicCapellaDeleteCommand.setBatchDeleteEnabled(false);
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    BasicCapellaDeleteCommand.setBatchDeleteEnabled(batchDelete);
+    super.tearDown();
+  }
+}
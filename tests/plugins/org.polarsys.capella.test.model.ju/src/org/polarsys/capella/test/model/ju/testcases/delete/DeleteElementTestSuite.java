@@ -36,6 +36,8 @@ public class DeleteElementTestSuite extends BasicTestSuite {
   protected List<BasicTestArtefact> getTests() {
     List<BasicTestArtefact> tests = new ArrayList<BasicTestArtefact>();
     tests.add(new DeleteChainInvolvmentFunction());
+    tests.add(new DeleteChainInvolvmentFunctionNestedCommands());
+    tests.add(new DeleteAssociationInWaves());
     tests.add(new DeleteChainInvolvmentLink());
     tests.add(new DeleteChainReferenceSourceHierarchy());
     tests.add(new DeleteChainReferenceTargetHierarchy());
@@ -31,12 +31,20 @@ import org.polarsys.capella.test.model.ju.dnd.DnDTestSuite;
 import org.polarsys.capella.test.model.ju.helpers.CapellaAdapterHelperTestCase;
 import org.polarsys.capella.test.model.ju.helpers.CapellaResourceNamingHelperTestCase;
 import org.polarsys.capella.test.model.ju.helpers.ChildrenFeaturesItemProviderTest;
+import org.polarsys.capella.test.model.ju.helpers.CompactIdTestCase;
 import org.polarsys.capella.test.model.ju.helpers.ComponentExtTestCase;
 import org.polarsys.capella.test.model.ju.helpers.ComponentPkgExtTestCase;
 import org.polarsys.capella.test.model.ju.helpers.DataTypeRealizedInformationTest;
+import org.polarsys.capella.test.model.ju.helpers.DerivedFeatureCacheTestCase;
+import org.polarsys.capella.test.model.ju.helpers.DerivedFeatureDispatcherTestCase;
+import org.polarsys.capella.test.model.ju.helpers.EClassExtentIndexTestCase;
 import org.polarsys.capella.test.model.ju.helpers.GitConflictHelperTest;
+import org.polarsys.capella.test.model.ju.helpers.IndexedGraphTestCase;
 import org.polarsys.capella.test.model.ju.helpers.PartExtTestCase;
 import org.polarsys.capella.test.model.ju.helpers.PhysicalComponentExtTestCase;
+import org.polarsys.capella.test.model.ju.helpers.ReferencerQueryTestCase;
+import org.polarsys.capella.test.model.ju.helpers.ScopedModelCacheTestCase;
+import org.polarsys.capella.test.model.ju.helpers.ViatraDerivedFeaturesTestCase;
 import org.polarsys.capella.test.model.ju.menu.CapellaMenusTestCase;
 import org.polarsys.capella.test.model.ju.obfuscate.ObfuscateModelTestCase;
 import org.polarsys.capella.test.model.ju.propertyviews.PropertyViewsTest;
@@ -100,6 +108,14 @@ public class ModelTestSuite extends BasicTestSuite {
     tests.add(new ComponentPkgExtTestCase());
     tests.add(new PartExtTestCase());
     tests.add(new PhysicalComponentExtTestCase());
+    tests.add(new EClassExtentIndexTestCase());
+    tests.add(new IndexedGraphTestCase());
+    tests.add(new DerivedFeatureCacheTestCase());
+    tests.add(new DerivedFeatureDispatcherTestCase());
+    tests.add(new ViatraDerivedFeaturesTestCase());
+    tests.add(new ReferencerQueryTestCase());
+    tests.add(new ScopedModelCacheTestCase());
+    tests.add(new CompactIdTestCase());
 
     tests.add(new DiffMergeTestSuite());
     tests.add(new CompositionTestSuite());
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.navigator.ju;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.transaction.ResourceSetListener;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.sirius.business.api.dialect.DialectManager;
+import org.eclipse.sirius.business.api.session.Session;
+import org.eclipse.sirius.viewpoint.DRepresentationDescriptor;
+import org.polarsys.capella.common.data.modellingcore.ModelElement;
+import org.polarsys.capella.common.ef.command.AbstractReadWriteCommand;
+import org.polarsys.capella.core.data.capellamodeller.Project;
+import org.polarsys.capella.core.data.fa.AbstractFunction;
+import org.polarsys.capella.core.platform.sirius.ui.navigator.viewer.CapellaNavigatorContentProvider;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+import org.polarsys.capella.test.framework.helpers.TestHelper;
+
+/**
+ * Check that the Capella explorer answers whether an element has children as if its children were computed, and that
+ * cached answers follow the addition and removal of children and representations.
+ */
+public class NavigatorContentProviderChildren extends BasicTestCase {
+
+  private static final String MODEL = "emptyDiagram"; //$NON-NLS-1$
+
+  @Override
+  public List<String> getRequiredTestModels() {
+    return Arrays.asList(MODEL);
+  }
+
+  @Override
+  public void test() throws Exception {
+    Session session = getSession(MODEL);
+    TransactionalEditingDomain domain = session.getTransactionalEditingDomain();
+    Project project = getTestModel(MODEL).getProject(domain);
+    TestContentProvider provider = new TestContentProvider();
+
+    try {
+      // Same answer as the children, for all kinds of elements, with and without children
+      Set<EClass> withChildren = new HashSet<>();
+      Set<EClass> withoutChildren = new HashSet<>();
+      for (Iterator<EObject> it = project.eAllContents(); it.hasNext();) {
+        EObject element = it.next();
+        if (element instanceof ModelElement) {
+          provider.clearChildCounts();
+          boolean hasChildren = provider.hasChildren(element);
+          assertEquals(element.toString(), provider.getChildren(element).length > 0, hasChildren);
+          assertEquals(element.toString(), hasChildren, provider.hasChildren(element));
+          (hasChildren ? withChildren : withoutChildren).add(element.eClass());
+        }
+      }
+      assertFalse(withChildren.isEmpty());
+      assertFalse(withoutChildren.isEmpty());
+
+      DRepresentationDescriptor descriptor = null;
+      for (DRepresentationDescriptor candidate : DialectManager.INSTANCE.getAllRepresentationDescriptors(session)) {
+        if (candidate.getTarget() instanceof AbstractFunction) {
+          descriptor = candidate;
+        }
+      }
+      assertNotNull(descriptor);
+      AbstractFunction function = (AbstractFunction) descriptor.getTarget();
+      AbstractFunction leaf = (AbstractFunction) EcoreUtil.create(function.eClass());
+      AbstractFunction child = (AbstractFunction) EcoreUtil.create(function.eClass());
+      execute(function, () -> function.getOwnedFunctions().add(leaf));
+      assertFalse(provider.hasChildren(leaf));
+
+      // Added and removed children
+      execute(function, () -> leaf.getOwnedFunctions().add(child));
+      assertTrue(provider.hasChildren(leaf));
+      assertEquals(1, provider.getChildren(leaf).length);
+      execute(function, () -> leaf.getOwnedFunctions().remove(child));
+      assertFalse(provider.hasChildren(leaf));
+      assertEquals(0, provider.getChildren(leaf).length);
+
+      // Added and removed representations, notified on the descriptor and not on the function
+      DRepresentationDescriptor representation = descriptor;
+      execute(function, () -> representation.setTarget(leaf));
+      assertTrue(provider.hasChildren(leaf));
+      execute(function, () -> representation.setTarget(function));
+      assertFalse(provider.hasChildren(leaf));
+      assertTrue(provider.hasChildren(function));
+      execute(function, () -> function.getOwnedFunctions().remove(leaf));
+
+    } finally {
+      domain.removeResourceSetListener(provider.getListener());
+      provider.dispose();
+    }
+  }
+
+  private void execute(EObject context, Runnable runnable) {
+    TestHelper.getExecutionManager(context).execute(new AbstractReadWriteCommand() {
+      @Override
+      public void run() {
+        runnable.run();
+      }
+    });
+  }
+
+  /**
+   * Gives access to the resource set listener registered by the content provider, to remove it once the test is done.
+   */
+  private static class TestContentProvider extends CapellaNavigatorContentProvider {
+
+    @Override
+    protected ResourceSetListener getListener() {
+      return super.getListener();
+    }
+  }
+}
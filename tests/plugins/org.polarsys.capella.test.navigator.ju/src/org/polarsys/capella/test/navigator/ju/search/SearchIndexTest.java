@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.navigator.ju.search;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.ecore.EAttribute;
+import org.polarsys.capella.core.ui.search.CapellaSearchQuery;
+import org.polarsys.capella.core.ui.search.CapellaSearchSettings;
+import org.polarsys.capella.core.ui.search.index.SessionSearchIndex;
+import org.polarsys.capella.core.ui.search.searchfor.SearchForItemCache;
+import org.polarsys.capella.core.ui.search.searchfor.item.SearchForItem;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+import org.polarsys.capella.test.navigator.ju.model.NavigableElements;
+
+/**
+ * Check that searches answered from the search index find the same elements as searches browsing the model.
+ */
+public class SearchIndexTest extends BasicTestCase {
+
+  private static final String[][] PATTERNS = { //
+      { "Logical", "false" }, //$NON-NLS-1$ //$NON-NLS-2$
+      { "log*func?ion", "false" }, //$NON-NLS-1$ //$NON-NLS-2$
+      { "Interface\\s?1", "true" }, //$NON-NLS-1$ //$NON-NLS-2$
+      { "\\w{2,10}tion", "true" }, //$NON-NLS-1$ //$NON-NLS-2$
+      { "[Ll]ogical (Function|System)", "true" }, //$NON-NLS-1$ //$NON-NLS-2$
+      { "^Sys.em$", "true" }, //$NON-NLS-1$ //$NON-NLS-2$
+      { "unknown text", "false" } }; //$NON-NLS-1$ //$NON-NLS-2$
+
+  @Override
+  public void test() throws Exception {
+    String project = getRequiredTestModels().get(0);
+    getSession(project);
+    String enabled = System.getProperty(SessionSearchIndex.INDEX_PROPERTY);
+    try {
+      for (String[] pattern : PATTERNS) {
+        boolean isRegEx = Boolean.parseBoolean(pattern[1]);
+        System.setProperty(SessionSearchIndex.INDEX_PROPERTY, Boolean.FALSE.toString());
+        CapellaSearchQuery scan = search(project, pattern[0], isRegEx);
+        System.setProperty(SessionSearchIndex.INDEX_PROPERTY, Boolean.TRUE.toString());
+        CapellaSearchQuery index = search(project, pattern[0], isRegEx);
+
+        assertEquals(pattern[0], new HashSet<>(Arrays.asList(scan.getSearchResult().getElements())),
+            new HashSet<>(Arrays.asList(index.getSearchResult().getElements())));
+        assertEquals(pattern[0], scan.getSearchResult().getMatchCount(), index.getSearchResult().getMatchCount());
+      }
+    } finally {
+      if (enabled == null) {
+        System.clearProperty(SessionSearchIndex.INDEX_PROPERTY);
+      } else {
+        System.setProperty(SessionSearchIndex.INDEX_PROPERTY, enabled);
+      }
+    }
+  }
+
+  private CapellaSearchQuery search(String project, String textPattern, boolean isRegEx) {
+    CapellaSearchSettings settings = new CapellaSearchSettings();
+    settings.setTextPattern(textPattern);
+    settings.setRegExSearch(isRegEx);
+    settings.addObjectToSearch(getEclipseProjectForTestModel(project));
+    Set<Object> classItems = new HashSet<>(SearchForItemCache.getInstance().getClassItems());
+    classItems.addAll(SearchForItemCache.getInstance().getDiagramItems());
+    settings.setSearchClassItems(classItems);
+    settings.setSearchAttributeItems(getIndexedAttributeItems());
+
+    CapellaSearchQuery query = new CapellaSearchQuery(settings);
+    IStatus status = query.run(new NullProgressMonitor());
+    assertTrue(status.getMessage(), status.isOK());
+    return query;
+  }
+
+  /**
+   * Searches on derived attributes always browse the model
+   */
+  private Set<Object> getIndexedAttributeItems() {
+    Set<Object> result = new HashSet<>();
+    for (SearchForItem item : SearchForItemCache.getInstance().getAttributeItems()) {
+      boolean indexed = true;
+      for (Object attribute : (Collection<?>) item.getObject()) {
+        indexed &= (attribute instanceof EAttribute) && SessionSearchIndex.isIndexed((EAttribute) attribute);
+      }
+      if (indexed) {
+        result.add(item);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public List<String> getRequiredTestModels() {
+    return Arrays.asList(NavigableElements.class.getSimpleName());
+  }
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.navigator.ju.search;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.polarsys.capella.core.ui.search.index.SearchPatternLiterals;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+
+/**
+ * Check the literals extracted from search patterns, which any matching text must contain.
+ */
+public class SearchPatternLiteralsTest extends BasicTestCase {
+
+  @Override
+  public void test() throws Exception {
+    // Wildcards
+    assertLiterals(false, "abc", "abc"); //$NON-NLS-1$ //$NON-NLS-2$
+    assertLiterals(false, "a*b?c", "a", "b", "c"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+    assertLiterals(false, "a\\*b\\?c", "a*b?c"); //$NON-NLS-1$ //$NON-NLS-2$
+
+    // Quantifiers drop the quantified character, bounds are not literals
+    assertLiterals(true, "^abc$", "abc"); //$NON-NLS-1$ //$NON-NLS-2$
+    assertLiterals(true, "ab?c", "a", "c"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    assertLiterals(true, "ab*c", "a", "c"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    assertLiterals(true, "ab+c", "ab", "c"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    assertLiterals(true, "ab{2}c", "a", "c"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    assertLiterals(true, "ab{0,1}?c", "a", "c"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    assertLiterals(true, "\\w{2,10}tion", "tion"); //$NON-NLS-1$ //$NON-NLS-2$
+    assertLiterals(true, "[a-z]{3,}tion", "tion"); //$NON-NLS-1$ //$NON-NLS-2$
+
+    // Classes
+    assertLiterals(true, "a[bc]d", "a", "d"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    assertLiterals(true, "a[]x]b", "a", "b"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    assertLiterals(true, "a[^\\]x]b", "a", "b"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+    // Groups and alternatives
+    assertLiterals(true, "(abc)d", "d"); //$NON-NLS-1$ //$NON-NLS-2$
+    assertLiterals(true, "(?i)abc", "abc"); //$NON-NLS-1$ //$NON-NLS-2$
+    assertLiterals(true, "x(a|b)y"); //$NON-NLS-1$
+    assertLiterals(true, "(?x)a b"); //$NON-NLS-1$
+
+    // Escapes
+    assertLiterals(true, "a\\.b", "a.b"); //$NON-NLS-1$ //$NON-NLS-2$
+    assertLiterals(true, "a\\db", "a", "b"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    assertLiterals(true, "a\\.?b", "a", "b"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    assertLiterals(true, "\\Qa.b\\E"); //$NON-NLS-1$
+
+    assertEquals(Collections.emptyList(), SearchPatternLiterals.getLiterals("", true)); //$NON-NLS-1$
+    assertEquals(Collections.emptyList(), SearchPatternLiterals.getLiterals(null, false));
+  }
+
+  private void assertLiterals(boolean isRegEx, String textPattern, String... literals) {
+    assertEquals(textPattern, Arrays.asList(literals), SearchPatternLiterals.getLiterals(textPattern, isRegEx));
+  }
+}
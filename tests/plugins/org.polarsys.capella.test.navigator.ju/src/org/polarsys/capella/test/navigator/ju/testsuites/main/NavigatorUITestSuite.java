@@ -21,12 +21,15 @@ import org.polarsys.capella.test.navigator.ju.CancelCapellaWizardTest;
 import org.polarsys.capella.test.navigator.ju.DragDropTest;
 import org.polarsys.capella.test.navigator.ju.FinishCapellaWizardTest;
 import org.polarsys.capella.test.navigator.ju.NavigableElementsTest;
+import org.polarsys.capella.test.navigator.ju.NavigatorContentProviderChildren;
 import org.polarsys.capella.test.navigator.ju.NavigatorFilterClasses;
 import org.polarsys.capella.test.navigator.ju.NavigatorFilterInvalidRepresentation;
 import org.polarsys.capella.test.navigator.ju.NavigatorLabelProviderColors;
 import org.polarsys.capella.test.navigator.ju.NavigatorStatusLineRepresentation;
 import org.polarsys.capella.test.navigator.ju.PartIcon;
 import org.polarsys.capella.test.navigator.ju.dnd.DnDTestSuite;
+import org.polarsys.capella.test.navigator.ju.search.SearchIndexTest;
+import org.polarsys.capella.test.navigator.ju.search.SearchPatternLiteralsTest;
 
 import junit.framework.Test;
 
@@ -48,10 +51,13 @@ public class NavigatorUITestSuite extends BasicTestSuite {
     tests.add(new NavigatorLabelProviderColors());
     tests.add(new NavigatorFilterInvalidRepresentation());
     tests.add(new NavigatorStatusLineRepresentation());
+    tests.add(new NavigatorContentProviderChildren());
     tests.add(new PartIcon());
     tests.add(new DragDropTest());
     tests.add(new NavigableElementsTest());
     tests.add(new DnDTestSuite());
+    tests.add(new SearchPatternLiteralsTest());
+    tests.add(new SearchIndexTest());
 
     return tests;
   }
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.platform.ju.testcases;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.polarsys.capella.common.platform.sirius.ted.DataNotifier;
+import org.polarsys.capella.common.platform.sirius.ted.DataNotifier.IBatchAdapter;
+import org.polarsys.capella.core.data.capellacore.CapellaElement;
+import org.polarsys.capella.core.data.cs.Component;
+import org.polarsys.capella.core.data.fa.AbstractFunction;
+import org.polarsys.capella.core.data.la.LaFactory;
+import org.polarsys.capella.core.data.la.LogicalFunction;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+
+/**
+ * This test ensures that DataNotifier routes notifications to adapters registered by class, once per adapter, that
+ * registrations made after a first routing are taken into account, and that batch adapters are notified at the end of
+ * a batch.
+ */
+public class DataNotifierClassDispatch extends BasicTestCase {
+
+  @Override
+  public void test() throws Exception {
+    DataNotifier notifier = new DataNotifier(null);
+    CountingAdapter functionAdapter = new CountingAdapter();
+    CountingAdapter componentAdapter = new CountingAdapter();
+    notifier.addAdapter(AbstractFunction.class, functionAdapter);
+    notifier.addAdapter(LogicalFunction.class, functionAdapter);
+    notifier.addAdapter(Component.class, componentAdapter);
+
+    LogicalFunction function = LaFactory.eINSTANCE.createLogicalFunction();
+    function.eAdapters().add(notifier);
+
+    function.setName("f1"); //$NON-NLS-1$
+    assertEquals("An adapter registered for several classes shall be notified once", 1, functionAdapter.count);
+    assertEquals("An adapter registered for another class shall not be notified", 0, componentAdapter.count);
+
+    // Registration after a first routing
+    CountingAdapter elementAdapter = new CountingAdapter();
+    notifier.addAdapter(CapellaElement.class, elementAdapter);
+    function.setName("f2"); //$NON-NLS-1$
+    assertEquals(2, functionAdapter.count);
+    assertEquals("An adapter registered after a first routing shall be notified", 1, elementAdapter.count);
+
+    // Removal after a routing
+    notifier.remove(elementAdapter);
+    function.setName("f3"); //$NON-NLS-1$
+    assertEquals(3, functionAdapter.count);
+    assertEquals("A removed adapter shall not be notified", 1, elementAdapter.count);
+
+    // Batch
+    BatchAdapter batchAdapter = new BatchAdapter();
+    notifier.addAdapter(LogicalFunction.class, batchAdapter);
+    notifier.startBatch();
+    function.setName("f4"); //$NON-NLS-1$
+    function.setName("f5"); //$NON-NLS-1$
+    assertEquals("Other adapters shall be notified during a batch", 5, functionAdapter.count);
+    assertTrue("A batch adapter shall not be notified during a batch", batchAdapter.batches.isEmpty());
+    notifier.endBatch();
+    assertEquals("A batch adapter shall be notified once at the end of a batch", 1, batchAdapter.batches.size());
+    assertEquals(2, batchAdapter.batches.get(0).size());
+    assertEquals(0, batchAdapter.count);
+
+    // Out of a batch
+    function.setName("f6"); //$NON-NLS-1$
+    assertEquals("A batch adapter shall be notified immediately out of a batch", 1, batchAdapter.count);
+  }
+
+  private static class CountingAdapter extends AdapterImpl {
+    int count;
+
+    @Override
+    public void notifyChanged(Notification msg) {
+      count++;
+    }
+  }
+
+  private static class BatchAdapter extends CountingAdapter implements IBatchAdapter {
+    final List<List<Notification>> batches = new ArrayList<>();
+
+    @Override
+    public void notifyChanged(List<Notification> notifications) {
+      batches.add(notifications);
+    }
+  }
+}
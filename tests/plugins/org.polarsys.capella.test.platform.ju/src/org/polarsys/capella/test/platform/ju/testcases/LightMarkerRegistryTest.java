@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.platform.ju.testcases;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IMarkerDelta;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.polarsys.capella.common.tools.report.appenders.reportlogview.IMarkerSourceListener;
+import org.polarsys.capella.common.tools.report.appenders.reportlogview.LightMarkerRegistry;
+import org.polarsys.capella.common.tools.report.appenders.reportlogview.MarkerView;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+
+/**
+ * This test ensures that markers created and deleted together are notified at once, and that markers can be retrieved
+ * by resource and by target element.
+ */
+public class LightMarkerRegistryTest extends BasicTestCase {
+
+  private static final int MARKERS = 100;
+
+  private class BatchListener implements IMarkerSourceListener {
+    List<Integer> added = new ArrayList<Integer>();
+    List<Integer> deleted = new ArrayList<Integer>();
+
+    @Override
+    public void markerAdded(IMarker marker) {
+      added.add(1);
+    }
+
+    @Override
+    public void markerDeleted(IMarker marker) {
+      deleted.add(1);
+    }
+
+    @Override
+    public void markersAdded(Collection<IMarker> markers) {
+      added.add(markers.size());
+    }
+
+    @Override
+    public void markersDeleted(Collection<IMarker> markers) {
+      deleted.add(markers.size());
+    }
+
+    @Override
+    public void markerChanged(IMarkerDelta marker) {
+      // Nothing here
+    }
+  }
+
+  @Override
+  public void test() throws Exception {
+    LightMarkerRegistry registry = LightMarkerRegistry.getInstance();
+    IResource resource = ResourcesPlugin.getWorkspace().getRoot();
+    BatchListener listener = new BatchListener();
+
+    // Elements are not contained in a resource, so markers are purgeable once their package is removed
+    EPackage pkg = EcoreFactory.eINSTANCE.createEPackage();
+    List<Diagnostic> diagnostics = new ArrayList<Diagnostic>();
+    for (int i = 0; i < MARKERS; i++) {
+      EClass target = EcoreFactory.eINSTANCE.createEClass();
+      pkg.getEClassifiers().add(target);
+      diagnostics.add(new BasicDiagnostic(Diagnostic.WARNING, getClass().getName(), i, "marker " + i,
+          new Object[] { target }));
+    }
+
+    registry.addListener(listener);
+    try {
+      List<IMarker> markers = registry.createMarkers(resource, diagnostics, MarkerView.MARKER_ID, null);
+      assertEquals(MARKERS, markers.size());
+      assertEquals(Collections.singletonList(MARKERS), listener.added);
+
+      // Markers are indexed by target and resource
+      EClass firstTarget = (EClass) pkg.getEClassifiers().get(0);
+      assertEquals(Collections.singletonList(markers.get(0)), new ArrayList<IMarker>(registry.getMarkers(firstTarget)));
+      assertTrue(registry.getMarkers(resource).containsAll(markers));
+
+      // A batch notifies once about all deleted markers
+      registry.runBatch(() -> {
+        for (IMarker marker : markers.subList(0, 10)) {
+          registry.deleteMarkers(Collections.singletonList(marker));
+        }
+      });
+      assertEquals(Collections.singletonList(10), listener.deleted);
+      assertFalse(markers.get(0).exists());
+      assertTrue(registry.getMarkers(firstTarget).isEmpty());
+
+      // Markers of the contents of the removed package are purged at once
+      registry.purgeMarkers(Collections.singletonList(pkg));
+      assertEquals(2, listener.deleted.size());
+      assertEquals(Integer.valueOf(MARKERS - 10), listener.deleted.get(1));
+      for (IMarker marker : markers) {
+        assertFalse(marker.exists());
+      }
+
+    } finally {
+      registry.removeListener(listener);
+    }
+  }
+
+}
@@ -27,6 +27,7 @@ import org.polarsys.capella.test.platform.ju.testcases.CapellaSiriusCustomisatio
 import org.polarsys.capella.test.platform.ju.testcases.CapellaVersionConsistencyTest;
 import org.polarsys.capella.test.platform.ju.testcases.CustomDAnalysisSelection;
 import org.polarsys.capella.test.platform.ju.testcases.DataNotifierBeforeTransactionRecorder;
+import org.polarsys.capella.test.platform.ju.testcases.DataNotifierClassDispatch;
 import org.polarsys.capella.test.platform.ju.testcases.DerivedFeaturesImplementation;
 import org.polarsys.capella.test.platform.ju.testcases.DiffmergeExternalReferences;
 import org.polarsys.capella.test.platform.ju.testcases.ExportCSVPreferencesTest;
@@ -34,6 +35,7 @@ import org.polarsys.capella.test.platform.ju.testcases.InvalidPreferencesInitial
 import org.polarsys.capella.test.platform.ju.testcases.InvalidRepresentationDescriptorAdapterFactory;
 import org.polarsys.capella.test.platform.ju.testcases.JobLogTest;
 import org.polarsys.capella.test.platform.ju.testcases.LicenceTest;
+import org.polarsys.capella.test.platform.ju.testcases.LightMarkerRegistryTest;
 import org.polarsys.capella.test.platform.ju.testcases.ProjectSelectionDialogTest;
 import org.polarsys.capella.test.platform.ju.testcases.PropertiesWizardIconTest;
 import org.polarsys.capella.test.platform.ju.testcases.ViatraSurrogateAllDerivedFeaturesImplemented;
@@ -73,9 +75,11 @@ public class PlatformTestSuite extends BasicTestSuite {
     tests.add(new InvalidPreferencesInitializer());
     tests.add(new ProjectSelectionDialogTest());
     tests.add(new DataNotifierBeforeTransactionRecorder());
+    tests.add(new DataNotifierClassDispatch());
     tests.add(new AboutInfoTest());
     tests.add(new LicenceTest());
     tests.add(new JobLogTest());
+    tests.add(new LightMarkerRegistryTest());
     tests.add(new CapellaLoggerConfigTestCase());
     tests.add(new CustomDAnalysisSelection());
 
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.recrpl.ju.testcases;
+
+import org.eclipse.emf.ecore.EObject;
+import org.polarsys.capella.common.re.CatalogElement;
+import org.polarsys.capella.common.re.CatalogElementLink;
+import org.polarsys.capella.common.re.ReFactory;
+import org.polarsys.capella.common.re.handlers.replicable.CatalogElementLinkIndex;
+import org.polarsys.capella.common.re.handlers.replicable.ReplicableElementHandlerHelper;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+
+/**
+ * Check that the index of CatalogElementLinks returns the same links as a scan of getAllElementsLinks, while links are
+ * added, retargeted or traced to an origin, whoever modifies them.
+ */
+public class CatalogElementLinkIndexTest extends BasicTestCase {
+
+  @Override
+  public void test() throws Exception {
+    EObject a = ReFactory.eINSTANCE.createCompliancyDefinition();
+    EObject b = ReFactory.eINSTANCE.createCompliancyDefinition();
+    EObject c = ReFactory.eINSTANCE.createCompliancyDefinition();
+
+    CatalogElement rec = ReFactory.eINSTANCE.createCatalogElement();
+    CatalogElement subRec = ReFactory.eINSTANCE.createCatalogElement();
+    rec.getOwnedElements().add(subRec);
+    addLink(rec, subRec);
+    CatalogElementLink linkA = addLink(rec, a);
+    CatalogElementLink linkB = addLink(subRec, b);
+
+    CatalogElementLinkIndex index = new CatalogElementLinkIndex();
+    assertEquals(linkA, index.getLink(rec, a));
+    assertEquals(linkB, index.getLink(rec, b));
+    assertNull(index.getLink(subRec, a));
+    assertTrue(index.getPosition(rec, linkA) < index.getPosition(rec, linkB));
+
+    // Link appended
+    CatalogElementLink linkC = addLink(rec, c);
+    assertEquals(linkC, index.getLink(rec, c));
+    assertTrue(index.contains(rec, linkC));
+
+    // Link retargeted, the first link towards c is now linkA
+    linkA.setTarget(c);
+    assertNull(index.getLink(rec, a));
+    assertEquals(linkA, index.getLink(rec, c));
+    assertEquals(scan(rec, c), index.getLink(rec, c));
+
+    // Link added to a used catalog element
+    CatalogElementLink otherLinkA = addLink(subRec, a);
+    assertEquals(otherLinkA, index.getLink(rec, a));
+
+    // Link removed
+    rec.getOwnedLinks().remove(linkA);
+    assertEquals(linkC, index.getLink(rec, c));
+
+    // Links of a replica, whose origin is set after the replica has been indexed (as by MakeTraceabilityActivity)
+    CatalogElement rpl = ReFactory.eINSTANCE.createCatalogElement();
+    CatalogElementLink replicaLinkB = addLink(rpl, b);
+    CatalogElementLink replicaLinkC = addLink(rpl, c);
+    assertNull(index.getLinkByOrigin(rpl, linkC));
+    replicaLinkC.setOrigin(linkC);
+    assertEquals(replicaLinkC, index.getLinkByOrigin(rpl, linkC));
+    assertNull(index.getLinkByOrigin(rpl, linkB));
+    replicaLinkB.setOrigin(linkB);
+    assertEquals(replicaLinkB, index.getLinkByOrigin(rpl, linkB));
+    replicaLinkB.setOrigin(null);
+    assertNull(index.getLinkByOrigin(rpl, linkB));
+
+    // A link without target is not returned
+    replicaLinkC.setTarget(null);
+    assertNull(index.getLinkByOrigin(rpl, linkC));
+    assertFalse(index.contains(rpl, replicaLinkC));
+
+    // The index does not observe the model anymore once cleared
+    index.clear();
+    assertTrue(rec.eAdapters().isEmpty());
+    assertTrue(replicaLinkB.eAdapters().isEmpty());
+  }
+
+  /**
+   * @return the first link of getAllElementsLinks(element) targeting the given value
+   */
+  private CatalogElementLink scan(CatalogElement element, EObject target) {
+    for (CatalogElementLink link : ReplicableElementHandlerHelper.getInstance(null).getAllElementsLinks(element)) {
+      if (target.equals(link.getTarget())) {
+        return link;
+      }
+    }
+    return null;
+  }
+
+  private CatalogElementLink addLink(CatalogElement element, EObject target) {
+    CatalogElementLink link = ReFactory.eINSTANCE.createCatalogElementLink();
+    link.setSource(element);
+    link.setTarget(target);
+    element.getOwnedLinks().add(link);
+    return link;
+  }
+}
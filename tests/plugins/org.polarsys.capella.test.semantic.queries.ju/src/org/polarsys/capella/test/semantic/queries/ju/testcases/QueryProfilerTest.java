@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.semantic.queries.ju.testcases;
+
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.polarsys.capella.common.libraries.IModel;
+import org.polarsys.capella.common.queries.interpretor.QueryInterpretor;
+import org.polarsys.capella.common.queries.interpretor.QueryProfiler;
+import org.polarsys.capella.common.queries.interpretor.QueryStatistics;
+import org.polarsys.capella.common.queries.queryContext.QueryContext;
+import org.polarsys.capella.core.model.helpers.queries.QueryIdentifierConstants;
+import org.polarsys.capella.test.framework.helpers.EObjectHelper;
+import org.polarsys.capella.test.semantic.queries.ju.model.SemanticQueries;
+
+import junit.framework.Test;
+
+/**
+ * Check that the QueryProfiler reports calls and cache hits of queries executed by the QueryInterpretor.
+ */
+public class QueryProfilerTest extends SemanticQueries {
+
+  @Override
+  protected String getQueryCategoryIdentifier() {
+    return null;
+  }
+
+  @Override
+  public void test() throws Exception {
+    IModel model = getTestModel(getRequiredTestModels().iterator().next());
+    EObject architecture = EObjectHelper.getObject(model, SA);
+    String query = QueryIdentifierConstants.GET_ALL_COMPONENTS;
+
+    boolean enabled = QueryProfiler.isEnabled();
+    QueryProfiler.setEnabled(true);
+    QueryProfiler.reset();
+    try {
+      QueryContext context = new QueryContext();
+      List<Object> result = QueryInterpretor.executeQuery(query, architecture, context);
+      List<Object> cachedResult = QueryInterpretor.executeQuery(query, architecture, context);
+      assertEquals(result, cachedResult);
+
+      QueryStatistics statistics = QueryProfiler.getStatistics(query);
+      assertNotNull(statistics);
+      assertEquals(2, statistics.getCallCount());
+      assertEquals(1, statistics.getCacheMissCount());
+      assertEquals(1, statistics.getCacheHitCount());
+      assertTrue(QueryProfiler.getStatistics().contains(statistics));
+
+      QueryProfiler.setEnabled(false);
+      QueryInterpretor.executeQuery(query, architecture);
+      assertEquals(2, statistics.getCallCount());
+
+    } finally {
+      QueryProfiler.reset();
+      QueryProfiler.setEnabled(enabled);
+    }
+  }
+
+  public static Test suite() {
+    return new QueryProfilerTest();
+  }
+}
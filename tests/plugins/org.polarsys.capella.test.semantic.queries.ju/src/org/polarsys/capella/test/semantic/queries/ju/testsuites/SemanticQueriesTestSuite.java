@@ -38,6 +38,7 @@ public class SemanticQueriesTestSuite extends BasicTestSuite {
     tests.add(new PropertyValueGroup_applying_valued_element());
     tests.add(new EntryExitPoint_ParentRegionTest());
     tests.add(new State_OwnedEntryExitPointsTest());
+    tests.add(new QueryProfilerTest());
     tests.add(new Capability_InvolvedComponents());
     tests.add(new CapabilityRealization_InvolvedFunctionalChains());
     tests.add(new CapabilityRealization_InvolvedFunctions());
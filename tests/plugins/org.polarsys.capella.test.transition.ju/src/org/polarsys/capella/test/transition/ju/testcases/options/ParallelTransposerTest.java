@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.transition.ju.testcases.options;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.polarsys.capella.common.data.modellingcore.ModellingcorePackage;
+import org.polarsys.capella.common.helpers.TransactionHelper;
+import org.polarsys.capella.core.transition.common.commands.DefaultCommand;
+import org.polarsys.capella.core.transition.common.constants.IOptionsConstants;
+import org.polarsys.capella.core.transition.system.topdown.commands.TransitionCommandHelper;
+import org.polarsys.capella.test.transition.ju.TopDownTransitionTestCase;
+import org.polarsys.capella.test.transition.ju.model.functionalchain.FunctionalChainTestCase;
+import org.polarsys.kitalpha.cadence.core.api.parameter.GenericParameter;
+
+/**
+ * Check that a transition gives the same model with the {@link IOptionsConstants#TRANSPOSER_PARALLEL} option enabled
+ * or disabled.
+ */
+public class ParallelTransposerTest extends TopDownTransitionTestCase {
+
+  @Override
+  public List<String> getRequiredTestModels() {
+    return Arrays.asList("FunctionalChain"); //$NON-NLS-1$
+  }
+
+  @Override
+  public void test() throws Exception {
+    // Transitions are executed as top level commands so that they can be undone
+    getModelResource();
+    performTest();
+  }
+
+  @Override
+  public void performTest() throws Exception {
+    EObject rootFunction = getObject(FunctionalChainTestCase.ROOT_SYSTEM_FUNCTION);
+    List<String> initial = getContents();
+
+    List<String> sequential = performFunctionalTransition(rootFunction, false);
+    assertFalse(initial.equals(sequential));
+    assertEquals(initial, getContents());
+
+    List<String> parallel = performFunctionalTransition(rootFunction, true);
+    assertEquals(initial, getContents());
+
+    assertEquals(sequential, parallel);
+  }
+
+  /**
+   * @return the contents of the model after the functional transition of the given element, the transition being then
+   *         undone
+   */
+  protected List<String> performFunctionalTransition(EObject element, boolean parallel) {
+    DefaultCommand command = (DefaultCommand) TransitionCommandHelper.getInstance()
+        .getFunctionalTransitionCommand(Arrays.asList(element), new NullProgressMonitor());
+    command.addSharedParameter(new GenericParameter<Boolean>(IOptionsConstants.TRANSPOSER_PARALLEL,
+        Boolean.valueOf(parallel), "Parallel rule matching")); //$NON-NLS-1$
+    executeCommand(command);
+    List<String> contents = getContents();
+    TransactionHelper.getEditingDomain(getProject()).getCommandStack().undo();
+    return contents;
+  }
+
+  /**
+   * @return a description of all elements of the model, their attributes and references, without identifiers
+   */
+  protected List<String> getContents() {
+    List<String> contents = new ArrayList<String>();
+    for (Iterator<EObject> it = getModelResource().getAllContents(); it.hasNext();) {
+      EObject object = it.next();
+      String path = getPath(object);
+      contents.add(path + " : " + object.eClass().getName()); //$NON-NLS-1$
+      for (EAttribute attribute : object.eClass().getEAllAttributes()) {
+        if (!attribute.isDerived() && !attribute.isTransient()
+            && (attribute != ModellingcorePackage.Literals.MODEL_ELEMENT__ID)
+            && (attribute != ModellingcorePackage.Literals.MODEL_ELEMENT__SID) && object.eIsSet(attribute)) {
+          contents.add(path + "." + attribute.getName() + " = " + object.eGet(attribute)); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+      }
+      for (EReference reference : object.eClass().getEAllReferences()) {
+        if (!reference.isDerived() && !reference.isTransient() && !reference.isContainment()
+            && !reference.isContainer() && object.eIsSet(reference)) {
+          List<Object> values = reference.isMany() ? (List<Object>) object.eGet(reference)
+              : Arrays.asList(object.eGet(reference));
+          for (Object value : values) {
+            contents.add(path + "." + reference.getName() + " -> " + getPath((EObject) value)); //$NON-NLS-1$ //$NON-NLS-2$
+          }
+        }
+      }
+    }
+    return contents;
+  }
+
+  /**
+   * @return the path of the given element, from containment features and positions
+   */
+  protected String getPath(EObject object) {
+    EObject container = object.eContainer();
+    if (container == null) {
+      return String.valueOf(object.eResource() == null ? null : object.eResource().getURI().lastSegment());
+    }
+    EReference feature = object.eContainmentFeature();
+    if (feature.isMany()) {
+      int index = ((EList<?>) container.eGet(feature)).indexOf(object);
+      return getPath(container) + "/" + feature.getName() + "[" + index + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+    return getPath(container) + "/" + feature.getName(); //$NON-NLS-1$
+  }
+}
@@ -31,6 +31,7 @@ import org.polarsys.capella.test.transition.ju.testcases.RootPropertyValueTestCa
 import org.polarsys.capella.test.transition.ju.testcases.SkeletonElementsNames;
 import org.polarsys.capella.test.transition.ju.testcases.options.IncrementalModeTest;
 import org.polarsys.capella.test.transition.ju.testcases.options.MergeCategoryManagerTest;
+import org.polarsys.capella.test.transition.ju.testcases.options.ParallelTransposerTest;
 import org.polarsys.capella.test.transition.ju.testcases.sa.FunctionalTransitionInLib;
 
 import junit.framework.Test;
@@ -50,6 +51,7 @@ public class TransitionTestSuite extends BasicTestSuite {
 
     tests.add(new MergeCategoryManagerTest());
     tests.add(new IncrementalModeTest());
+    tests.add(new ParallelTransposerTest());
     tests.add(new ReconciliationCommunicationLinks());
     tests.add(new ReconciliationInterfaceUsesImplements());
     tests.add(new SkeletonElementsNames());
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2020 THALES GLOBAL SERVICES.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Thales - initial API and implementation
+ *******************************************************************************/
+package org.polarsys.capella.test.validation.rules.ju.testcases.misc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.validation.model.EvaluationMode;
+import org.eclipse.emf.validation.model.IConstraintStatus;
+import org.eclipse.emf.validation.service.IBatchValidator;
+import org.eclipse.emf.validation.service.ModelValidationService;
+import org.eclipse.sirius.business.api.session.Session;
+import org.eclipse.sirius.business.api.session.SessionListener;
+import org.polarsys.capella.common.ef.command.AbstractReadWriteCommand;
+import org.polarsys.capella.common.helpers.TransactionHelper;
+import org.polarsys.capella.core.data.capellamodeller.Project;
+import org.polarsys.capella.core.data.information.Class;
+import org.polarsys.capella.core.data.information.DataPkg;
+import org.polarsys.capella.core.data.information.InformationFactory;
+import org.polarsys.capella.core.data.information.Property;
+import org.polarsys.capella.core.model.helpers.BlockArchitectureExt;
+import org.polarsys.capella.core.model.helpers.SystemEngineeringExt;
+import org.polarsys.capella.core.validation.incremental.IncrementalValidation;
+import org.polarsys.capella.test.framework.api.BasicTestCase;
+
+/**
+ * Check which elements are evaluated again by the incremental validation after a modification, and that statuses
+ * written when the session is saved are restored without evaluating constraints.
+ */
+public class IncrementalValidationTest extends BasicTestCase {
+
+  private static final String MODEL = "NoStackOverflowModel"; //$NON-NLS-1$
+
+  /** Elements evaluated by the validator since last reset */
+  private final Set<EObject> evaluated = new HashSet<>();
+
+  @Override
+  public List<String> getRequiredTestModels() {
+    return Arrays.asList(MODEL);
+  }
+
+  @Override
+  public void test() throws Exception {
+    ModelValidationService.getInstance().loadXmlConstraintDeclarations();
+    Session session = getSession(MODEL);
+    Project project = getTestModel(MODEL).getProject(session.getTransactionalEditingDomain());
+    IBatchValidator validator = (IBatchValidator) ModelValidationService.getInstance()
+        .newValidator(EvaluationMode.BATCH);
+    validator.addConstraintFilter((constraint, target) -> {
+      evaluated.add(target);
+      return true;
+    });
+
+    // A class A with a property typed by a class B
+    DataPkg dataPkg = BlockArchitectureExt
+        .getDataPkg(SystemEngineeringExt.getSystemAnalysis(SystemEngineeringExt.getSystemEngineering(project)), false);
+    Class a = InformationFactory.eINSTANCE.createClass();
+    Class b = InformationFactory.eINSTANCE.createClass();
+    Property property = InformationFactory.eINSTANCE.createProperty();
+    execute(project, () -> {
+      dataPkg.getOwnedClasses().add(a);
+      dataPkg.getOwnedClasses().add(b);
+      a.getOwnedFeatures().add(property);
+      property.setAbstractType(b);
+    });
+
+    IncrementalValidation validation = IncrementalValidation.getValidation(session);
+    validation.clear();
+    List<String> statuses = validate(validation, project, validator);
+    assertTrue(evaluated.contains(a));
+
+    // Nothing is evaluated again without modification
+    assertEquals(statuses, validate(validation, project, validator));
+    assertTrue(evaluated.isEmpty());
+
+    // One hop: the modified element, its container and the elements referencing it are evaluated again
+    execute(project, () -> b.setName("B")); //$NON-NLS-1$
+    validate(validation, project, validator);
+    assertTrue(evaluated.contains(b));
+    assertTrue(evaluated.contains(dataPkg));
+    assertTrue(evaluated.contains(property));
+    assertFalse(evaluated.contains(project));
+
+    // Two hops: the owner of the property is not evaluated again until statuses are cleared
+    assertFalse(evaluated.contains(a));
+    validation.clear();
+    statuses = validate(validation, project, validator);
+    assertTrue(evaluated.contains(a));
+
+    // Statuses written on save are restored by a new incremental validation of the session
+    session.save(new NullProgressMonitor());
+    validation.notify(SessionListener.CLOSING);
+    IncrementalValidation restored = IncrementalValidation.getValidation(session);
+    assertNotSame(validation, restored);
+    assertEquals(statuses, validate(restored, project, validator));
+    assertTrue(evaluated.isEmpty());
+  }
+
+  /**
+   * @return the description of the statuses of the given element and its contents
+   */
+  private List<String> validate(IncrementalValidation validation, EObject root, IBatchValidator validator) {
+    evaluated.clear();
+    IStatus status = validation.validate(root, validator, new NullProgressMonitor());
+    List<String> result = new ArrayList<>();
+    for (IStatus child : status.getChildren()) {
+      IConstraintStatus constraintStatus = (IConstraintStatus) child;
+      result.add(constraintStatus.getConstraint().getDescriptor().getId() + " " + constraintStatus.getSeverity() + " " //$NON-NLS-1$ //$NON-NLS-2$
+          + EcoreUtil.getURI(constraintStatus.getTarget()) + " " + constraintStatus.getMessage()); //$NON-NLS-1$
+    }
+    return result;
+  }
+
+  private void execute(EObject context, Runnable runnable) {
+    TransactionHelper.getExecutionManager(context).execute(new AbstractReadWriteCommand() {
+      @Override
+      public void run() {
+        runnable.run();
+      }
+    });
+  }
+}